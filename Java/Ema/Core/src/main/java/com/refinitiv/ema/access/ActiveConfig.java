@@ -19,6 +19,7 @@ import com.refinitiv.eta.valueadd.domainrep.rdm.dictionary.DictionaryRequest;
 import com.refinitiv.eta.valueadd.domainrep.rdm.directory.DirectoryRefresh;
 import com.refinitiv.eta.valueadd.domainrep.rdm.directory.DirectoryRequest;
 import com.refinitiv.eta.valueadd.domainrep.rdm.login.LoginRequest;
+import com.refinitiv.eta.valueadd.metrics.MetricsRegistry;
 import com.refinitiv.eta.valueadd.reactor.ReactorWarmStandbyMode;
 
 abstract class ActiveConfig extends BaseConfig
@@ -102,6 +103,9 @@ abstract class ActiveConfig extends BaseConfig
 	final static boolean DEFAULT_SESSION_ENHANCED_ITEM_RECOVERY = true;
 	final static long DEFAULT_UPDATE_TYPE_FILTER = 0;
 	final static long DEFAULT_NEGATIVE_UPDATE_TYPE_FILTER = 0;
+	final static int DEFAULT_ITEM_CONFLATION_INTERVAL = 0;
+	final static int DEFAULT_ITEM_CONFLATION_COUNT = 0;
+	final static int DEFAULT_ENABLE_VIEW_FILTERING = 0;
 
 	final static int SOCKET_CONN_HOST_CONFIG_BY_FUNCTION_CALL   = 0x01;  /*!< Indicates that host set though EMA interface function calls for RSSL_SOCKET connection type */
 	final static int SOCKET_SERVER_PORT_CONFIG_BY_FUNCTION_CALL = 0x02;  /*!< Indicates that server listen port set though EMA interface function call from server client*/
@@ -153,6 +157,10 @@ abstract class ActiveConfig extends BaseConfig
 	boolean					sessionEnhancedItemRecovery;
 	long 					updateTypeFilter;
 	long 					negativeUpdateTypeFilter;
+	int						itemConflationInterval;
+	int						itemConflationCount;
+	int						enableViewFiltering;
+	MetricsRegistry			metricsRegistry;
 
 	ActiveConfig(String defaultServiceName)
 	{
@@ -190,6 +198,9 @@ abstract class ActiveConfig extends BaseConfig
 		 sessionEnhancedItemRecovery = DEFAULT_SESSION_ENHANCED_ITEM_RECOVERY;
 		 updateTypeFilter = DEFAULT_UPDATE_TYPE_FILTER;
 		 negativeUpdateTypeFilter = DEFAULT_NEGATIVE_UPDATE_TYPE_FILTER;
+		 itemConflationInterval = DEFAULT_ITEM_CONFLATION_INTERVAL;
+		 itemConflationCount = DEFAULT_ITEM_CONFLATION_COUNT;
+		 enableViewFiltering = DEFAULT_ENABLE_VIEW_FILTERING;
 	}
 
 	void clear()
@@ -233,6 +244,10 @@ abstract class ActiveConfig extends BaseConfig
 
 		updateTypeFilter = DEFAULT_UPDATE_TYPE_FILTER;
 		negativeUpdateTypeFilter = DEFAULT_NEGATIVE_UPDATE_TYPE_FILTER;
+		itemConflationInterval = DEFAULT_ITEM_CONFLATION_INTERVAL;
+		itemConflationCount = DEFAULT_ITEM_CONFLATION_COUNT;
+		enableViewFiltering = DEFAULT_ENABLE_VIEW_FILTERING;
+		metricsRegistry = null;
 	}
 	
 	StringBuilder configTrace()
@@ -276,7 +291,10 @@ abstract class ActiveConfig extends BaseConfig
 		.append("\n\t socketProtocolPoolLimit: ").append(globalConfig.socketProtocolPoolLimit)
 		.append("\n\t sessionEnhancedItemRecovery: ").append(sessionEnhancedItemRecovery)
 		.append("\n\t updateTypeFilter: ").append(updateTypeFilter)
-		.append("\n\t negativeUpdateTypeFilter: ").append(negativeUpdateTypeFilter);
+		.append("\n\t negativeUpdateTypeFilter: ").append(negativeUpdateTypeFilter)
+		.append("\n\t itemConflationInterval: ").append(itemConflationInterval)
+		.append("\n\t itemConflationCount: ").append(itemConflationCount)
+		.append("\n\t enableViewFiltering: ").append(enableViewFiltering);
 
 		return traceStr;
 	}
@@ -1735,6 +1735,7 @@ class ChannelCallbackClient<T> implements ReactorChannelEventCallback
 		watchlistOptions.postAckTimeout(_baseImpl.activeConfig().postAckTimeout);
 		watchlistOptions.requestTimeout(_baseImpl.activeConfig().requestTimeout);
 		watchlistOptions.maxOutstandingPosts(_baseImpl.activeConfig().maxOutstandingPosts);
+		watchlistOptions.enableViewFiltering(_baseImpl.activeConfig().enableViewFiltering > 0);
 		
 		_rsslReactorRole = consumerRole;
 		
@@ -0,0 +1,107 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+/* Lock-striped table of items keyed by int, such as a stream id, for tables updated by application
+ * threads while the API thread dispatches. Keys are spread over STRIPE_COUNT
+ * IntItemHashMap stripes, each guarded by its own monitor, so a lookup only locks
+ * the stripe of its key and threads working on different stripes do not contend.
+ * Values cannot be null. */
+class ConcurrentIntItemHashMap<T> implements IntItemMap<T>
+{
+	static final int STRIPE_COUNT = 16;
+
+	private final IntItemHashMap<T>[] _stripes;
+
+	ConcurrentIntItemHashMap()
+	{
+		this(IntItemHashMap.DEFAULT_CAPACITY * STRIPE_COUNT);
+	}
+
+	/* Creates a table that holds expectedSize entries without growing. */
+	@SuppressWarnings("unchecked")
+	ConcurrentIntItemHashMap(int expectedSize)
+	{
+		_stripes = new IntItemHashMap[STRIPE_COUNT];
+		for (int i = 0; i < STRIPE_COUNT; ++i)
+			_stripes[i] = new IntItemHashMap<T>(expectedSize / STRIPE_COUNT + 1);
+	}
+
+	@Override
+	public T get(int key)
+	{
+		IntItemHashMap<T> stripe = stripe(key);
+		synchronized (stripe)
+		{
+			return stripe.get(key);
+		}
+	}
+
+	@Override
+	public boolean containsKey(int key)
+	{
+		IntItemHashMap<T> stripe = stripe(key);
+		synchronized (stripe)
+		{
+			return stripe.containsKey(key);
+		}
+	}
+
+	@Override
+	public T put(int key, T value)
+	{
+		IntItemHashMap<T> stripe = stripe(key);
+		synchronized (stripe)
+		{
+			return stripe.put(key, value);
+		}
+	}
+
+	@Override
+	public T remove(int key)
+	{
+		IntItemHashMap<T> stripe = stripe(key);
+		synchronized (stripe)
+		{
+			return stripe.remove(key);
+		}
+	}
+
+	@Override
+	public int size()
+	{
+		int size = 0;
+		for (IntItemHashMap<T> stripe : _stripes)
+		{
+			synchronized (stripe)
+			{
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public void clear()
+	{
+		for (IntItemHashMap<T> stripe : _stripes)
+		{
+			synchronized (stripe)
+			{
+				stripe.clear();
+			}
+		}
+	}
+
+	// the low bits pick the stripe, the stripe spreads the remaining bits over its own table
+	private IntItemHashMap<T> stripe(int key)
+	{
+		return _stripes[key & (STRIPE_COUNT - 1)];
+	}
+}
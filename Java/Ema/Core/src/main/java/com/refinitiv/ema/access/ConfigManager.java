@@ -139,6 +139,9 @@ class ConfigManager
 	
 	public static final int UpdateTypeFilter = 64;
 	public static final int NegativeUpdateTypeFilter = 65;
+	public static final int ItemConflationInterval = 66;
+	public static final int ItemConflationCount = 67;
+	public static final int EnableViewFiltering = 68;
 
 	// Channel: Global
 	public static final int ChannelGroup = 100;
@@ -418,6 +421,9 @@ class ConfigManager
 		ConsumerTagDict.add("SessionEnhancedItemRecovery", ConsumerSessionEnhancedItemRecovery);
 		ConsumerTagDict.add("UpdateTypeFilter", UpdateTypeFilter);
 		ConsumerTagDict.add("NegativeUpdateTypeFilter", NegativeUpdateTypeFilter);
+		ConsumerTagDict.add("ItemConflationInterval", ItemConflationInterval);
+		ConsumerTagDict.add("ItemConflationCount", ItemConflationCount);
+		ConsumerTagDict.add("EnableViewFiltering", EnableViewFiltering);
 
 		ChannelTagDict.add( "ChannelGroup",ChannelGroup );
 		ChannelTagDict.add( "ChannelList",ChannelList );
@@ -938,6 +944,9 @@ class ConfigManager
 		"SessionEnhancedItemRecovery",
 		"UpdateTypeFilter",
 		"NegativeUpdateTypeFilter",
+		"ItemConflationInterval",
+		"ItemConflationCount",
+		"EnableViewFiltering",
 		"EnablePreferredHostOptions",
 		"PHDetectionTimeInterval",
 		"PHFallBackWithInWSBGroup",
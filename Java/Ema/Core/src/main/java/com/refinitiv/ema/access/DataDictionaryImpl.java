@@ -462,6 +462,65 @@ class DataDictionaryImpl implements DataDictionary
 		}
 	}
 
+	@Override
+	public void loadDictionarySnapshot(String filename) {
+		
+		try {
+			dictionaryLock.lock();
+			if ( ownRsslDataDictionary )
+			{
+				if ( rsslDataDictionary.loadDictionarySnapshot(filename, rsslError) < 0 )
+				{
+					String errText = errorString().append("Unable to load dictionary snapshot from file named ")
+							.append(filename).append(OmmLoggerClient.CR)
+							.append("Current working directory ")
+							.append(System.getProperty("user.dir"))
+							.append(OmmLoggerClient.CR)
+							.append("Reason='")
+							.append(rsslError.text())
+							.append("'").toString();
+					throw ommIUExcept().message(errText, rsslError.errorId());
+				}
+				else
+				{
+					loadedFieldDictionary = true;
+					loadedEnumTypeDef = true;
+				}
+			}
+			else
+			{
+				throw ommIUExcept().message(queryingOnlyText, OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+			}
+		} finally {
+			dictionaryLock.unlock();
+		}
+	}
+
+	@Override
+	public void saveDictionarySnapshot(String filename) {
+		
+		try {
+			dictionaryLock.lock();
+
+			if( !loadedFieldDictionary )
+			{
+				throw ommIUExcept().message("The field dictionary information was not loaded", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+			}
+
+			if ( rsslDataDictionary.saveDictionarySnapshot(filename, rsslError) < 0 )
+			{
+				String errText = errorString().append("Unable to save dictionary snapshot to file named ")
+						.append(filename).append(OmmLoggerClient.CR)
+						.append("Reason='")
+						.append(rsslError.text())
+						.append("'").toString();
+				throw ommIUExcept().message(errText, rsslError.errorId());
+			}
+		} finally {
+			dictionaryLock.unlock();
+		}
+	}
+
 	@Override
 	public void encodeFieldDictionary(Series series, long verbosity) {
 		try {
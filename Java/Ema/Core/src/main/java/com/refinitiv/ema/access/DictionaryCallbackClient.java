@@ -8,10 +8,13 @@
 
 package com.refinitiv.ema.access;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.refinitiv.ema.access.DirectoryServiceStore.ServiceIdInteger;
@@ -203,8 +206,56 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		return ReactorCallbackReturnCodes.SUCCESS;
 }
 	
+	/* Whether each field dictionary file (by canonical path) is a snapshot, so text dictionaries are only probed once.
+	 * Consumers naming the same snapshot file share its mapping, each through its own DataDictionary. */
+	private static final ConcurrentHashMap<String, Boolean> _snapshotFiles = new ConcurrentHashMap<>();
+
+	/* Returns a dictionary loaded from the field dictionary file when it is a snapshot, or null to load the text files */
+	private DataDictionary loadDictionarySnapshot(String filename)
+	{
+		if (filename == null)
+			return null;
+
+		String key;
+		try
+		{
+			key = new File(filename).getCanonicalPath();
+		}
+		catch (IOException e)
+		{
+			return null;
+		}
+
+		if (Boolean.FALSE.equals(_snapshotFiles.get(key)))
+			return null;
+
+		DataDictionary snapshot = CodecFactory.createDataDictionary();
+		boolean loaded = snapshot.loadDictionarySnapshot(key, _rsslError) == CodecReturnCodes.SUCCESS;
+		_snapshotFiles.put(key, loaded);
+		return loaded ? snapshot : null;
+	}
+
 	void loadDictionaryFromFile()
 	{
+		rsslError();
+		DataDictionary snapshot = loadDictionarySnapshot(_ommBaseImpl.activeConfig().dictionaryConfig.rdmfieldDictionaryFileName);
+		if (snapshot != null)
+		{
+			_rsslLocalDictionary = snapshot;
+
+			if (_baseImpl.loggerClient().isTraceEnabled())
+			{
+				StringBuilder temp = _baseImpl.strBuilder();
+				temp.append("Successfully loaded shared dictionary snapshot: ")
+					.append(OmmLoggerClient.CR)
+					.append("RDMFieldDictionary file named ")
+					.append(_ommBaseImpl.activeConfig().dictionaryConfig.rdmfieldDictionaryFileName);
+				_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(CLIENT_NAME, temp.toString(),
+																			Severity.TRACE).toString());
+			}
+			return;
+		}
+
 		if (_rsslLocalDictionary == null)
 			_rsslLocalDictionary = CodecFactory.createDataDictionary();
 		else
@@ -428,6 +479,7 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		ReactorChannel rsslChannel = directory.channelInfo().rsslReactorChannel();
 		
 		rsslSubmitOptions.serviceName(directory.serviceName());
+		rsslSubmitOptions.requestMsgOptions().clear();
 		rsslSubmitOptions.requestMsgOptions().userSpecObj(dictionary);
 
 		int streamId = 3;
@@ -512,6 +564,7 @@ class DictionaryCallbackClient<T> extends CallbackClient<T> implements RDMDictio
 		ReactorChannel rsslChannel = directory.channelInfo().rsslReactorChannel();
 		
 		rsslSubmitOptions.serviceName(directory.serviceName());
+		rsslSubmitOptions.requestMsgOptions().clear();
 		rsslSubmitOptions.requestMsgOptions().userSpecObj(dictionary);
 
         rsslErrorInfo.clear();
@@ -1467,7 +1520,6 @@ class DictionaryItem<T> extends SingleItem<T> implements TimeoutClient
 			if(!_removed) 
 			{
 				_baseImpl.itemCallbackClient().removeFromMap(this, true);
-				this.itemIdObj().returnToPool();
 				this.returnToPool();
 				_removed = true;
 			}
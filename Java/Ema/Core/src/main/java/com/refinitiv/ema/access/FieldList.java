@@ -140,4 +140,27 @@ public interface FieldList extends ComplexType, Collection<FieldEntry>
 	 * @return iterator for a reference of a single decoded FieldEntry.
 	 */
 	public Iterator<FieldEntry> iteratorByRef();
+
+	/**
+	 * Same as iteratorByRef(), but only the FieldEntries whose field id is in fieldIds are returned.<br>
+	 * The other entries are skipped after reading their entry header, so neither a dictionary
+	 * lookup nor a decode of their load is done. The field ids are copied when this method is called.
+	 * 
+	 * @param fieldIds field ids of the entries to return; null returns every entry
+	 * @return iterator for a reference of a single decoded FieldEntry.
+	 */
+	public Iterator<FieldEntry> iteratorByRef(int[] fieldIds);
+
+	/**
+	 * Returns the first FieldEntry with the given field id, decoding only that entry's load.<br>
+	 * The returned FieldEntry is a reference that is valid until the next find() call on this FieldList.
+	 * 
+	 * @param fieldId field id of the entry to find
+	 * 
+	 * @throws OmmInvalidUsageException
+	 *             if this FieldList was not decoded from a message
+	 * 
+	 * @return reference to the found FieldEntry; null if this FieldList has no entry with that field id
+	 */
+	public FieldEntry find(int fieldId);
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ class FieldListImpl extends CollectionDataImpl implements FieldList
 	private com.refinitiv.eta.codec.FieldList _fieldList = com.refinitiv.eta.codec.CodecFactory.createFieldList();
 	private LinkedList<FieldEntry> _fieldListCollection = new LinkedList<FieldEntry>(); 
 	private FieldListIterImpl _fieldListIterImpl = null;
+	private FieldListIterImpl _findIterImpl = null;
 	DataDictionaryImpl _dataDictionaryImpl;
 	
 	FieldListImpl() 
@@ -114,6 +115,32 @@ class FieldListImpl extends CollectionDataImpl implements FieldList
 			_fieldListIterImpl.clear();
 		return _fieldListIterImpl;
 	}
+	
+	@Override
+	public Iterator<FieldEntry> iteratorByRef(int[] fieldIds)
+	{
+		FieldListIterImpl iterImpl = (FieldListIterImpl)iteratorByRef();
+		iterImpl.fieldIdFilter(fieldIds);
+		return iterImpl;
+	}
+	
+	@Override
+	public FieldEntry find(int fieldId)
+	{
+		if (_objManager == null)
+			throw ommIUExcept().message("Attempt to find() on a FieldList that was not decoded.", OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
+		
+		if (_errorCode != ErrorCode.NO_ERROR || _rsslBuffer == null || _rsslBuffer.length() == 0)
+			return null;
+		
+		if (_findIterImpl == null)
+			_findIterImpl = new FieldListIterImpl(this);
+		else
+			_findIterImpl.clear();
+		
+		_findIterImpl.fieldIdFilter(fieldId);
+		return _findIterImpl.decodeNext() ? _findIterImpl.next() : null;
+	}
 
 	@Override
 	// TODO when we change this, this will be expensive
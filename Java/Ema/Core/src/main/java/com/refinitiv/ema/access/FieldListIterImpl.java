@@ -8,6 +8,7 @@
 
 package com.refinitiv.ema.access;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 import com.refinitiv.ema.access.DataType.DataTypes;
@@ -19,6 +20,8 @@ class FieldListIterImpl implements Iterator<FieldEntry>
 	protected com.refinitiv.eta.codec.DecodeIterator 	_rsslDecodeIter;	// Pulled from EmaObjectManager
 	FieldEntryImpl 										_fieldEntry = null;	// Pulled from EmaObjectManager
 	FieldListImpl _fieldListImpl;			// Uses the FieldListImpl of the parent that created this object
+	private int[] _filterFieldIds;			// Sorted field ids to decode, the rest are skipped after reading their header
+	private int _filterCount = -1;			// Number of field ids in _filterFieldIds, -1 when every field is decoded
 
 	public FieldListIterImpl(FieldListImpl fieldListImpl)
 	{
@@ -41,8 +44,41 @@ class FieldListIterImpl implements Iterator<FieldEntry>
 		if (_rsslDecodeIter != null)
 		{
 			_fieldListImpl._objManager._etaDecodeIteratorPool.add(_rsslDecodeIter);
-			_rsslFieldList = null;
+			_rsslDecodeIter = null;
 		}
+		_filterCount = -1;
+	}
+	
+	// Restricts decoding to the given field ids, null decodes every field
+	void fieldIdFilter(int[] fieldIds)
+	{
+		if (fieldIds == null)
+		{
+			_filterCount = -1;
+			return;
+		}
+		
+		if (_filterFieldIds == null || _filterFieldIds.length < fieldIds.length)
+			_filterFieldIds = new int[fieldIds.length];
+		System.arraycopy(fieldIds, 0, _filterFieldIds, 0, fieldIds.length);
+		Arrays.sort(_filterFieldIds, 0, fieldIds.length);
+		_filterCount = fieldIds.length;
+	}
+	
+	// Restricts decoding to a single field id
+	void fieldIdFilter(int fieldId)
+	{
+		if (_filterFieldIds == null)
+			_filterFieldIds = new int[1];
+		_filterFieldIds[0] = fieldId;
+		_filterCount = 1;
+	}
+	
+	private boolean skipField(int fieldId)
+	{
+		if (_filterCount == 1)
+			return _filterFieldIds[0] != fieldId;
+		return Arrays.binarySearch(_filterFieldIds, 0, _filterCount, fieldId) < 0;
 	}
 	
 	@Override
@@ -70,8 +106,13 @@ class FieldListIterImpl implements Iterator<FieldEntry>
 			retCode = _rsslFieldList.decode(_rsslDecodeIter, _fieldListImpl._rsslLocalFLSetDefDb);
 		}
 		
-		if ((retCode  = _fieldEntry._rsslFieldEntry.decode(_rsslDecodeIter)) != com.refinitiv.eta.codec.CodecReturnCodes.END_OF_CONTAINER)
+		while ((retCode  = _fieldEntry._rsslFieldEntry.decode(_rsslDecodeIter)) != com.refinitiv.eta.codec.CodecReturnCodes.END_OF_CONTAINER)
 		{
+			// Only the entry header has been read at this point, so filtered out fields cost no load decoding
+			if (_filterCount >= 0 && retCode == com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS
+					&& skipField(_fieldEntry._rsslFieldEntry.fieldId()))
+				continue;
+			
 			switch(retCode)
 			{
 			case com.refinitiv.eta.codec.CodecReturnCodes.SUCCESS :
@@ -113,10 +154,8 @@ class FieldListIterImpl implements Iterator<FieldEntry>
 			_fieldEntry.entryValue(_fieldListImpl, rsslDictionaryEntry, load);
 			return true;
 		}
-		else
-		{
-			return false;
-		}
+		
+		return false;
 	}
 
 	@Override
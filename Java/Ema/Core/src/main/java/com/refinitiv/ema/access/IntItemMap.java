@@ -0,0 +1,33 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+/* Table of items keyed by an int, such as a stream id. Lookups do not box the key.
+ * Values cannot be null.
+ *
+ * IntItemHashMap is used by a single thread, or under a lock;
+ * ConcurrentIntItemHashMap is used when items are registered by application threads
+ * while the API thread dispatches. */
+interface IntItemMap<T>
+{
+	/* Returns the value of the key, or null if the key is not in the table. */
+	T get(int key);
+
+	boolean containsKey(int key);
+
+	/* Sets the value of the key and returns the previous value, or null if the key was not in the table. */
+	T put(int key, T value);
+
+	/* Removes the key and returns its value, or null if the key was not in the table. */
+	T remove(int key);
+
+	int size();
+
+	void clear();
+}
@@ -9,12 +9,9 @@
 package com.refinitiv.ema.access;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.refinitiv.ema.access.DirectoryServiceStore.ServiceIdInteger;
@@ -49,6 +46,7 @@ import com.refinitiv.eta.rdm.DomainTypes;
 import com.refinitiv.eta.rdm.InstrumentNameTypes;
 import com.refinitiv.eta.transport.TransportBuffer;
 import com.refinitiv.eta.valueadd.common.VaNode;
+import com.refinitiv.eta.valueadd.metrics.Timer;
 import com.refinitiv.eta.valueadd.domainrep.rdm.login.LoginMsg;
 import com.refinitiv.eta.valueadd.domainrep.rdm.login.LoginMsgFactory;
 import com.refinitiv.eta.valueadd.domainrep.rdm.login.LoginMsgType;
@@ -1140,10 +1138,8 @@ TunnelStreamStatusEventCallback
 	private static final int  PROVIDER_STARTING_STREAM_ID = 0;
 	private static final int CONSUMER_MAX_STREAM_ID_MINUSONE = Integer.MAX_VALUE -1;
 	
-	private Map<LongObject, Item<T>>	_itemMap;
-	private Map<IntObject, Item<T>> _streamIdMap;
-	private LongObject _longObjHolder;
-	private IntObject _intObjHolder;
+	private LongItemMap<Item<T>>	_itemMap;
+	private IntItemMap<Item<T>> _streamIdMap;
 	protected LoginMsg _rsslRDMLoginMsg;
 	private int	_nextStreamId;
 	boolean	_nextStreamIdWrapAround;
@@ -1157,7 +1153,7 @@ TunnelStreamStatusEventCallback
 		_consumerSession = baseImpl.consumerSession();
 		
 		if(_consumerSession != null)
-		{	/* Gets HashMap from the watchlist when the consumer session is enabled. */
+		{	/* Gets the item maps from the watchlist when the consumer session is enabled. */
 			_itemMap = _consumerSession.watchlist().itemHandleMap();
 			_streamIdMap = _consumerSession.watchlist().streamIdMap();
 			_consumerSession.watchlist().callbackClient(this);
@@ -1166,21 +1162,18 @@ TunnelStreamStatusEventCallback
 		{
 			if(baseImpl.activeConfig().userDispatch == OmmConsumerConfig.OperationModel.API_DISPATCH)
 			{
-				_itemMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-				_streamIdMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+				_itemMap = new ConcurrentLongItemHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+				_streamIdMap = new ConcurrentIntItemHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
 			}
 			else
 			{
-				_itemMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-				_streamIdMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+				_itemMap = new LongItemHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+				_streamIdMap = new IntItemHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
 			}
 		}
 
 		_updateMsg = new UpdateMsgImpl(_baseImpl.objManager());
 		
-		_longObjHolder = new LongObject();
-		_intObjHolder = new IntObject();
-		
 		if ( baseImpl.implType() == OmmCommonImpl.ImplementationType.CONSUMER )
 		{
 			_nextStreamId = CONSUMER_STARTING_STREAM_ID;
@@ -1199,20 +1192,17 @@ TunnelStreamStatusEventCallback
 
 		if(baseImpl.activeConfig().userDispatch == OmmConsumerConfig.OperationModel.API_DISPATCH)
 		{
-			_itemMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-			_streamIdMap = new ConcurrentHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_itemMap = new ConcurrentLongItemHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_streamIdMap = new ConcurrentIntItemHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
 		}
 		else
 		{
-			_itemMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
-			_streamIdMap = new HashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_itemMap = new LongItemHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
+			_streamIdMap = new IntItemHashMap<>( baseImpl.activeConfig().itemCountHint == 0 ? 1024 : baseImpl.activeConfig().itemCountHint);
 		}
 
 		_updateMsg = new UpdateMsgImpl(_baseImpl.objManager());
 		
-		_longObjHolder = new LongObject();
-		_intObjHolder = new IntObject();
-		
 		_nextStreamId = PROVIDER_STARTING_STREAM_ID;
 		_nextStreamIdWrapAround = false;
 	}
@@ -1648,7 +1638,7 @@ TunnelStreamStatusEventCallback
         {
         	if ( _baseImpl.implType() != OmmCommonImpl.ImplementationType.CONSUMER )
         	{
-        		_eventImpl._item = _streamIdMap.get(_intObjHolder.value(msg.streamId()));
+        		_eventImpl._item = _streamIdMap.get(msg.streamId());
         		
         		if ( _eventImpl._item == null )
         		{
@@ -1804,7 +1794,7 @@ TunnelStreamStatusEventCallback
 		Msg msg = event.msg();
 		ClientSession clientSession = (ClientSession)event.reactorChannel().userSpecObj();
         
-		_eventImpl._item = _streamIdMap.get(_intObjHolder.value(msg.streamId()));
+		_eventImpl._item = _streamIdMap.get(msg.streamId());
 		_eventImpl._clientHandle = clientSession.clientHandle();
 		_eventImpl._ommProvider = ((OmmServerBaseImpl)_baseImpl).provider();
 		
@@ -2492,7 +2482,7 @@ TunnelStreamStatusEventCallback
 		}
 		else 
 		{
-			Item<T> parent = _itemMap.get(_longObjHolder.value(parentHandle));
+			Item<T> parent = _itemMap.get(parentHandle);
 			if (parent == null)
 			{
 				StringBuilder temp = _baseImpl.strBuilder();
@@ -2573,7 +2563,7 @@ TunnelStreamStatusEventCallback
 	
 	void reissue(com.refinitiv.ema.access.ReqMsg reqMsg, long handle)
 	{
-		Item<T> item = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> item = _itemMap.get(handle);
 		if (item == null || item._closedStatusClient != null)
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2594,14 +2584,14 @@ TunnelStreamStatusEventCallback
 
 	void unregister(long handle)
 	{
-		Item<T> item = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> item = _itemMap.get(handle);
 		if (item != null)
 			item.close();
 	}
 	
 	void submit(com.refinitiv.ema.access.RefreshMsg refreshMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2622,7 +2612,7 @@ TunnelStreamStatusEventCallback
 	
 	void submit(com.refinitiv.ema.access.UpdateMsg updateMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2643,7 +2633,7 @@ TunnelStreamStatusEventCallback
 	
 	void submit(com.refinitiv.ema.access.StatusMsg statusMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2664,7 +2654,7 @@ TunnelStreamStatusEventCallback
 
 	void submit(com.refinitiv.ema.access.PostMsg postMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2685,7 +2675,7 @@ TunnelStreamStatusEventCallback
 
 	void submit(com.refinitiv.ema.access.GenericMsg genericMsg, long handle)
 	{
-		Item<T> found = _itemMap.get(_longObjHolder.value(handle));
+		Item<T> found = _itemMap.get(handle);
 		if ( found == null )
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
@@ -2706,16 +2696,14 @@ TunnelStreamStatusEventCallback
 
 	long addToMap(long itemId, Item<T> item)
 	{
-		LongObject itemIdObj = _baseImpl.objManager().createLongObject().value(itemId);
-		IntObject streamIdObj = _baseImpl.objManager().createIntObject().value(item._streamId);
-		item.itemId(itemIdObj, streamIdObj);
-		_itemMap.put(itemIdObj, item);
-		_streamIdMap.put(streamIdObj, item);
+		item.itemId(itemId, item._streamId);
+		_itemMap.put(itemId, item);
+		_streamIdMap.put(item._streamId, item);
 		
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
-			temp.append("Added Item ").append(itemId).append(" of StreamId ").append(streamIdObj.value()).append(" to item map" ).append( OmmLoggerClient.CR )
+			temp.append("Added Item ").append(itemId).append(" of StreamId ").append(item._streamId).append(" to item map" ).append( OmmLoggerClient.CR )
 			.append( "Instance name " ).append( _baseImpl .instanceName() );
 			
 			_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(ItemCallbackClient.CLIENT_NAME, temp.toString(), Severity.TRACE));
@@ -2726,9 +2714,8 @@ TunnelStreamStatusEventCallback
 	
 	long addToItemMap(long itemId, Item<T> item)
 	{
-		LongObject itemIdObj = _baseImpl.objManager().createLongObject().value(itemId);
-		item.itemId(itemIdObj, null);
-		_itemMap.put(itemIdObj, item);
+		item.itemId(itemId);
+		_itemMap.put(itemId, item);
 		
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
@@ -2744,7 +2731,7 @@ TunnelStreamStatusEventCallback
 	
 	Item<T> getItem(long handle)
 	{
-		return _itemMap.get(_longObjHolder.value(handle));
+		return _itemMap.get(handle);
 	}
 	
 	void removeFromMap(Item<T> item, boolean returnToPool)
@@ -2752,8 +2739,8 @@ TunnelStreamStatusEventCallback
 		if (_baseImpl.loggerClient().isTraceEnabled())
 		{
 			StringBuilder temp = _baseImpl.strBuilder();
-			if (item.streamIdObj() != null)
-				temp.append("Removed Item ").append(item._itemId).append(" of StreamId ").append(item.streamIdObj().value()).append(" from item map" ).append( OmmLoggerClient.CR )
+			if (item.inStreamIdMap())
+				temp.append("Removed Item ").append(item._itemId).append(" of StreamId ").append(item.mapStreamId()).append(" from item map" ).append( OmmLoggerClient.CR )
 			.append( "Instance name " ).append( _baseImpl .instanceName() );
 			else
 				temp.append("Removed Item ").append(item._itemId).append(" from item map" ).append( OmmLoggerClient.CR )
@@ -2762,14 +2749,14 @@ TunnelStreamStatusEventCallback
 			_baseImpl.loggerClient().trace(_baseImpl.formatLogMessage(ItemCallbackClient.CLIENT_NAME, temp.toString(), Severity.TRACE));
 		}
 
-		if(item.itemIdObj() != null)
+		if(item.inItemMap())
 		{
-			_itemMap.remove(item.itemIdObj());
+			_itemMap.remove(item._itemId);
 		}
 
-		if(item.streamIdObj() != null)
+		if(item.inStreamIdMap())
 		{
-			_streamIdMap.remove(item.streamIdObj());
+			_streamIdMap.remove(item.mapStreamId());
 		}
 
 		if(returnToPool)
@@ -2780,7 +2767,7 @@ TunnelStreamStatusEventCallback
 
 	boolean isStreamIdInUse(int nextStreamId)
 	{
-		return (_streamIdMap.containsKey(_intObjHolder.value(nextStreamId)));
+		return _streamIdMap.containsKey(nextStreamId);
 	}
 	
 	int nextStreamId(int numOfItem)
@@ -2847,8 +2834,23 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 {
 	private static final String CLIENT_NAME = "ItemCallbackClientConsumer";
 	
+	private final Timer _callbackTime; // set when the application specified a metrics registry
+	
 	ItemCallbackClientConsumer(OmmBaseImpl<OmmConsumerClient> baseImpl) {
 		super(baseImpl);
+		_callbackTime = baseImpl._callbackTime;
+	}
+
+	// returns the start time of a callback when callback latency is measured
+	private long callbackStartTime()
+	{
+		return _callbackTime != null ? System.nanoTime() : 0;
+	}
+
+	private void callbackDone(long startTime)
+	{
+		if (_callbackTime != null)
+			_callbackTime.record(System.nanoTime() - startTime);
 	}
 	
 	@Override
@@ -2862,7 +2864,9 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		long startTime = callbackStartTime();
 		_eventImpl._item.client().onAllMsg(msg, _eventImpl);
+		callbackDone(startTime);
 	}
 	
 	@Override
@@ -2876,7 +2880,9 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		long startTime = callbackStartTime();
 		_eventImpl._item.client().onRefreshMsg(_refreshMsg, _eventImpl);
+		callbackDone(startTime);
 	}
 	
 	@Override
@@ -2890,7 +2896,9 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		long startTime = callbackStartTime();
 		_eventImpl._item.client().onUpdateMsg(_updateMsg, _eventImpl);
+		callbackDone(startTime);
 	}
 	
 	@Override
@@ -2904,7 +2912,9 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		long startTime = callbackStartTime();
 		_eventImpl._item.client().onStatusMsg(_statusMsg, _eventImpl);
+		callbackDone(startTime);
 	}
 	
 	@Override
@@ -2918,7 +2928,9 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		long startTime = callbackStartTime();
 		_eventImpl._item.client().onGenericMsg(_genericMsg, _eventImpl);
+		callbackDone(startTime);
 	} 
 	
 	@Override
@@ -2932,7 +2944,9 @@ class ItemCallbackClientConsumer extends ItemCallbackClient<OmmConsumerClient>
 				_baseImpl.loggerClient().error(_baseImpl.formatLogMessage(CLIENT_NAME, tempErr.toString(), Severity.WARNING));
 			return;
 		}
+		long startTime = callbackStartTime();
 		_eventImpl._item.client().onAckMsg(_ackMsg, _eventImpl);
+		callbackDone(startTime);
 	}
 }
 
@@ -3001,8 +3015,9 @@ abstract class Item<T> extends VaNode
 	T						_client;
 	long 					_itemId;
 	boolean					_assignedItemId;
-	LongObject _itemIdObj;
-	IntObject _streamIdObj;
+	boolean					_inItemMap;		// added to the item map with _itemId
+	boolean					_inStreamIdMap;	// added to the stream id map with _mapStreamId
+	int						_mapStreamId;
 	ClosedStatusClient<T>	_closedStatusClient;
 
 	Item() {}
@@ -3031,17 +3046,27 @@ abstract class Item<T> extends VaNode
 		return _parent;
 	}
 	
-	void itemId(LongObject itemIdObj, IntObject streamIdObj)
+	/* Records the item id the item is added to the item map with. */
+	void itemId(long itemId)
+	{
+		_itemId = itemId;
+		_inItemMap = true;
+		_inStreamIdMap = false;
+	}
+	
+	/* Records the item id and stream id the item is added to the item maps with. */
+	void itemId(long itemId, int streamId)
 	{
-		_itemId = itemIdObj.value();
-		_itemIdObj = itemIdObj;
-		_streamIdObj = streamIdObj;
+		_itemId = itemId;
+		_inItemMap = true;
+		_mapStreamId = streamId;
+		_inStreamIdMap = true;
 	}
 	
 	void backToPool()
 	{
-		if (_itemIdObj != null) _itemIdObj.returnToPool();
-		if (_streamIdObj != null) _streamIdObj.returnToPool();
+		_inItemMap = false;
+		_inStreamIdMap = false;
 	
 		_closure = null;
 		_parent = null;
@@ -3057,14 +3082,19 @@ abstract class Item<T> extends VaNode
 		return _itemId;
 	}
 	
-	LongObject itemIdObj()
+	boolean inItemMap()
+	{
+		return _inItemMap;
+	}
+	
+	boolean inStreamIdMap()
 	{
-		return _itemIdObj;
+		return _inStreamIdMap;
 	}
 	
-	IntObject streamIdObj()
+	int mapStreamId()
 	{
-		return _streamIdObj;
+		return _mapStreamId;
 	}
 	
 	void reset(T client, Object closure, Item<T> parent)
@@ -3126,6 +3156,8 @@ class SingleItem<T> extends Item<T>
 	protected boolean _retrytosameChannel = false;
 	protected OpenSuspectClient<T> _openSuspectClient;
 	String _itemName = "";
+	int _conflationInterval;
+	int _conflationCount;
 	
 	/* The following is used to handle the closed status message from provider. */
 	HashSet<Directory<T>> _itemClosedDirHash; /* This keep a list of Directory objects which sends item closed status for this item */
@@ -3187,6 +3219,9 @@ class SingleItem<T> extends Item<T>
 		_lastStatusText = "";
 		
 		_openSuspectClient = null;
+		
+		_conflationInterval = 0;
+		_conflationCount = 0;
 	}
 	
 	int state()
@@ -3226,6 +3261,17 @@ class SingleItem<T> extends Item<T>
 		RequestMsg rsslRequestMsg = ((ReqMsgImpl)reqMsg).rsslMsg();
 		SessionDirectory<T> sessionDirectory = null;
 
+		if (reqMsg.conflationInterval() > 0)
+		{
+			_conflationInterval = reqMsg.conflationInterval();
+			_conflationCount = reqMsg.conflationCount();
+		}
+		else
+		{
+			_conflationInterval = _baseImpl.activeConfig().itemConflationInterval;
+			_conflationCount = _baseImpl.activeConfig().itemConflationCount;
+		}
+
 		if (reqMsg.hasServiceName())
 		{	
 			if(consumerSession != null)
@@ -3738,6 +3784,10 @@ class SingleItem<T> extends Item<T>
 			rsslRequestMsg.applyMsgKeyInUpdates();
 		
 		rsslSubmitOptions.requestMsgOptions().userSpecObj(this);
+		rsslSubmitOptions.requestMsgOptions().conflationInterval(_conflationInterval);
+		rsslSubmitOptions.requestMsgOptions().conflationCount(_conflationCount);
+		rsslSubmitOptions.requestMsgOptions().conflationDictionary(_conflationInterval > 0 && _directory != null
+				&& _directory.channelInfo() != null ? _directory.channelInfo().rsslDictionary() : null);
 		
 		int domainType =  rsslRequestMsg.domainType();
 		
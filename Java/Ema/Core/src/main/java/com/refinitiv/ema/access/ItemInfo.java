@@ -26,6 +26,7 @@ class ItemInfo extends VaNode
     private MsgKey _msgKey;
     private boolean _sentRefresh;
     private java.util.Map<Long, Integer> _postIdsCount;
+    private Buffer _pendingFanout;
     
     class ItemInfoFlags
     {
@@ -85,6 +86,17 @@ class ItemInfo extends VaNode
     	return _sentRefresh;
     }
 
+    /* The fanout message the Reactor has not finished writing to this stream, submitted again to finish it */
+    Buffer pendingFanout()
+    {
+    	return _pendingFanout;
+    }
+
+    void pendingFanout(Buffer pendingFanout)
+    {
+    	_pendingFanout = pendingFanout;
+    }
+
     void streamId(int streamId)
     {
         _streamId.value(streamId);
@@ -263,6 +275,7 @@ class ItemInfo extends VaNode
         _streamId.clear();
         _domainType = 0;
         _msgKey.clear();
+        _pendingFanout = null;
         if(_postIdsCount != null) {
             _postIdsCount.clear();
         }
@@ -275,6 +288,7 @@ class ItemInfo extends VaNode
         }
         
         _clientSession = null;
+        _pendingFanout = null;
         
         super.returnToPool();
     }
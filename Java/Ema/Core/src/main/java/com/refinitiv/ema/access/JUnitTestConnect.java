@@ -79,6 +79,9 @@ public class JUnitTestConnect
 	public static final int SendJsonConvError = ConfigManager.SendJsonConvError;
 	public static final int UpdateTypeFilter = ConfigManager.UpdateTypeFilter;
 	public static final int NegativeUpdateTypeFilter = ConfigManager.NegativeUpdateTypeFilter;
+	public static final int ItemConflationInterval = ConfigManager.ItemConflationInterval;
+	public static final int ItemConflationCount = ConfigManager.ItemConflationCount;
+	public static final int EnableViewFiltering = ConfigManager.EnableViewFiltering;
 
 	public static final int RestProxyHostName = ConfigManager.RestProxyHostName;
 	public static final int RestProxyPort = ConfigManager.RestProxyPort;
@@ -1133,6 +1136,12 @@ public class JUnitTestConnect
 				return (int)activeConfig.updateTypeFilter;
 			else if (configParam == NegativeUpdateTypeFilter)
 				return (int)activeConfig.negativeUpdateTypeFilter;
+			else if (configParam == ItemConflationInterval)
+				return activeConfig.itemConflationInterval;
+			else if (configParam == ItemConflationCount)
+				return activeConfig.itemConflationCount;
+			else if (configParam == EnableViewFiltering)
+				return activeConfig.enableViewFiltering;
 			else if (configParam == ConsumerDetectionTimeInterval)
 				return activeConfig.detectionTimeInterval;
 			else if (configParam == ConsumerCSChannelName)
@@ -0,0 +1,173 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.Arrays;
+
+/* Open addressing table of items keyed by long, such as an item handle. Keys are kept in a long array
+ * with linear probing, so lookups do not box the key and entries do not allocate nodes,
+ * which keeps the table at two array slots per item. Values cannot be null. */
+class LongItemHashMap<T> implements LongItemMap<T>
+{
+	static final int DEFAULT_CAPACITY = 16;
+
+	private long[] _keys;
+	private Object[] _values;
+	private int _mask;
+	private int _size;
+	private int _resizeThreshold;
+
+	LongItemHashMap()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/* Creates a table that holds expectedSize entries without growing. */
+	LongItemHashMap(int expectedSize)
+	{
+		int capacity = DEFAULT_CAPACITY;
+		while (capacity < Integer.MAX_VALUE / 4 && capacity / 2 < expectedSize)
+			capacity <<= 1;
+		allocate(capacity);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(long key)
+	{
+		int slot = find(key);
+		return slot >= 0 ? (T)_values[slot] : null;
+	}
+
+	@Override
+	public boolean containsKey(long key)
+	{
+		return find(key) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T put(long key, T value)
+	{
+		assert (value != null);
+
+		int slot = slot(key);
+		Object current;
+		while ((current = _values[slot]) != null)
+		{
+			if (_keys[slot] == key)
+			{
+				_values[slot] = value;
+				return (T)current;
+			}
+			slot = (slot + 1) & _mask;
+		}
+
+		_keys[slot] = key;
+		_values[slot] = value;
+		if (++_size > _resizeThreshold)
+			grow();
+
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T remove(long key)
+	{
+		int slot = find(key);
+		if (slot < 0)
+			return null;
+
+		T value = (T)_values[slot];
+		--_size;
+
+		// move back the following entries of the probe sequence, so lookups never need to skip deleted slots
+		int hole = slot;
+		int next = (slot + 1) & _mask;
+		while (_values[next] != null)
+		{
+			int home = slot(_keys[next]);
+			if (((next - home) & _mask) >= ((next - hole) & _mask))
+			{
+				_keys[hole] = _keys[next];
+				_values[hole] = _values[next];
+				hole = next;
+			}
+			next = (next + 1) & _mask;
+		}
+		_values[hole] = null;
+
+		return value;
+	}
+
+	@Override
+	public int size()
+	{
+		return _size;
+	}
+
+	/* Removes all entries, keeping the capacity of the table. */
+	@Override
+	public void clear()
+	{
+		if (_size > 0)
+		{
+			Arrays.fill(_values, null);
+			_size = 0;
+		}
+	}
+
+	private int find(long key)
+	{
+		int slot = slot(key);
+		while (_values[slot] != null)
+		{
+			if (_keys[slot] == key)
+				return slot;
+			slot = (slot + 1) & _mask;
+		}
+
+		return -1;
+	}
+
+	// item handles are sequential, so the key is spread over the table before masking
+	private int slot(long key)
+	{
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int)(hash ^ (hash >>> 32)) & _mask;
+	}
+
+	private void allocate(int capacity)
+	{
+		_keys = new long[capacity];
+		_values = new Object[capacity];
+		_mask = capacity - 1;
+		_resizeThreshold = capacity / 2;
+	}
+
+	private void grow()
+	{
+		long[] keys = _keys;
+		Object[] values = _values;
+		allocate(values.length << 1);
+
+		for (int i = 0; i < values.length; ++i)
+		{
+			if (values[i] == null)
+				continue;
+
+			int slot = slot(keys[i]);
+			while (_values[slot] != null)
+				slot = (slot + 1) & _mask;
+			_keys[slot] = keys[i];
+			_values[slot] = values[i];
+		}
+	}
+}
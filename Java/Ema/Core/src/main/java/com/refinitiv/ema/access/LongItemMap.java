@@ -0,0 +1,33 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+/* Table of items keyed by a long, such as an item handle. Lookups do not box the key.
+ * Values cannot be null.
+ *
+ * LongItemHashMap is used by a single thread, or under a lock;
+ * ConcurrentLongItemHashMap is used when items are registered by application threads
+ * while the API thread dispatches. */
+interface LongItemMap<T>
+{
+	/* Returns the value of the key, or null if the key is not in the table. */
+	T get(long key);
+
+	boolean containsKey(long key);
+
+	/* Sets the value of the key and returns the previous value, or null if the key was not in the table. */
+	T put(long key, T value);
+
+	/* Removes the key and returns its value, or null if the key was not in the table. */
+	T remove(long key);
+
+	int size();
+
+	void clear();
+}
@@ -18,7 +18,6 @@ import java.nio.channels.Selector;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import com.refinitiv.eta.codec.*;
+import com.refinitiv.eta.valueadd.metrics.Timer;
 import com.refinitiv.eta.valueadd.reactor.*;
 
 import org.slf4j.Logger;
@@ -150,6 +150,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 	private static int INSTANCE_ID = 0;
 	private final static int MIN_TIME_FOR_SELECT = 1000000;
 	private final static int MIN_TIME_FOR_SELECT_IN_MILLISEC = 1;
+	final static String CALLBACK_TIME_METRIC = "ema.callbackTime";
 	
 	protected volatile int _state = OmmImplState.NOT_INITIALIZED;
 	private boolean _logError = true;
@@ -175,6 +176,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 	private ReentrantLock _dispatchLock = new java.util.concurrent.locks.ReentrantLock();	
 	protected Reactor _rsslReactor;
 	private ReactorOptions _rsslReactorOpts = ReactorFactory.createReactorOptions();
+	Timer _callbackTime; // set when the application specified a metrics registry
 	protected ReactorErrorInfo _rsslErrorInfo = ReactorFactory.createReactorErrorInfo();
 	private ReactorDispatchOptions _rsslDispatchOptions = ReactorFactory.createReactorDispatchOptions();
 	private EncodeIterator _rsslEncIter = CodecFactory.createEncodeIterator();
@@ -184,7 +186,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 	private ExecutorService _executor;
 	private volatile boolean _threadRunning = false;
 	protected boolean _eventTimeout;
-	protected ConcurrentLinkedQueue<TimeoutEvent> _timeoutEventQueue = new ConcurrentLinkedQueue<TimeoutEvent>();
+	protected TimeoutEventScheduler _timeoutEventScheduler = new TimeoutEventScheduler();
 	protected EmaObjectManager _objManager = new EmaObjectManager();
 	private Pipe _pipe;
 	private AtomicLong _pipeWriteCount = new AtomicLong();
@@ -311,6 +313,12 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 			_rsslReactorOpts.restRequestTimeout(_activeConfig.restRequestTimeout);
 			_rsslReactorOpts.tokenReissueRatio(_activeConfig.tokenReissueRatio);
 
+			if (_activeConfig.metricsRegistry != null)
+			{
+				_rsslReactorOpts.metricsRegistry(_activeConfig.metricsRegistry);
+				_callbackTime = _activeConfig.metricsRegistry.timer(CALLBACK_TIME_METRIC);
+			}
+
 			/* Configuration parameters for handling rest proxy and authentication */
 			Buffer restProxyHostName = CodecFactory.createBuffer();
 			restProxyHostName.data(_activeConfig.restProxyHostName);
@@ -766,9 +774,9 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 			return _consumerSession.ommImplState();
 	}
 
-	ConcurrentLinkedQueue<TimeoutEvent> timerEventQueue()
+	TimeoutEventScheduler timeoutEventScheduler()
 	{
-		return _timeoutEventQueue;
+		return _timeoutEventScheduler;
 	}
 	
 	TimeoutEvent addTimeoutEvent(long timeoutInMicroSec, TimeoutClient client)
@@ -781,7 +789,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 		} else
 			timeoutEvent.timeoutInNanoSec(timeoutInMicroSec * 1000, client);
 
-		_timeoutEventQueue.add(timeoutEvent);
+		_timeoutEventScheduler.add(timeoutEvent);
 		
 		try 
 		{
@@ -995,6 +1003,21 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 				_activeConfig.negativeUpdateTypeFilter(ce.intLongValue());
 			}
 
+			if ((ce = attributes.getPrimitiveValue(ConfigManager.ItemConflationInterval)) != null)
+			{
+				_activeConfig.itemConflationInterval = ce.intValue();
+			}
+
+			if ((ce = attributes.getPrimitiveValue(ConfigManager.ItemConflationCount)) != null)
+			{
+				_activeConfig.itemConflationCount = ce.intValue();
+			}
+
+			if ((ce = attributes.getPrimitiveValue(ConfigManager.EnableViewFiltering)) != null)
+			{
+				_activeConfig.enableViewFiltering = ce.intValue();
+			}
+
 			if ((ce = attributes.getPrimitiveValue(ConfigManager.JsonExpandedEnumFields)) != null) {
 				_activeConfig.jsonExpandedEnumFields = ce.intLongValue() > 0;
 			}
@@ -2031,7 +2054,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 		long endTime = 0;
 		
 		timeOut = timeOut*1000;
-		long userTimeout = TimeoutEvent.userTimeOutExist(_timeoutEventQueue);
+		long userTimeout = _timeoutEventScheduler.nextTimeout();
 		boolean userTimeoutExist = false;
 		if (userTimeout >= 0)
 		{
@@ -2058,7 +2081,7 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 					if ( timeOut <=0 )
 					{
 						if (userTimeoutExist)
-							TimeoutEvent.execute(_timeoutEventQueue);
+							_timeoutEventScheduler.execute();
 					}
 				}
 
@@ -2116,13 +2139,13 @@ abstract class OmmBaseImpl<T> implements OmmCommonImpl, Runnable, TimeoutClient,
 					
 					if (_eventReceived) return true;
 
-					TimeoutEvent.execute(_timeoutEventQueue);
+					_timeoutEventScheduler.execute();
 
 					if (_eventReceived) return true;
 				} //selectCount > 0
 				else if (selectCount == 0)
 				{
-					TimeoutEvent.execute(_timeoutEventQueue);
+					_timeoutEventScheduler.execute();
 						
 					if ( _eventReceived ) return true;
 				}
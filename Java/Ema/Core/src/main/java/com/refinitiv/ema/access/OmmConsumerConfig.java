@@ -9,6 +9,7 @@
 package com.refinitiv.ema.access;
 
 import com.refinitiv.ema.rdm.DataDictionary;
+import com.refinitiv.eta.valueadd.metrics.MetricsRegistry;
 
 /**
  * OmmConsumerConfig is used to modify configuration and behaviour of OmmConsumer.
@@ -418,6 +419,22 @@ public interface OmmConsumerConfig
 	 * @throws OmmInvalidUsageException if dataDictionary object instance does not contain entire dictionary information.
 	 */
 	public OmmConsumerConfig dataDictionary(DataDictionary dataDictionary, boolean shouldCopyIntoAPI);
+
+	/**
+	 * Specifies the registry of the metrics updated by the OmmConsumer.
+	 * The registry is passed to the underlying Reactor, which reports its dispatch time,
+	 * worker queue depth, buffer usage and pending watchlist requests there, and the
+	 * OmmConsumer adds the "ema.callbackTime" timer of the calls to OmmConsumerClient.
+	 * Metrics are only updated when a registry is specified.
+	 *
+	 * @param metricsRegistry specifies the registry, e.g. one created by
+	 *        {@link com.refinitiv.eta.valueadd.metrics.MetricsFactory#createMetricsRegistry()},
+	 *        or null to not update metrics.
+	 * @return reference to this object
+	 *
+	 * @see com.refinitiv.eta.valueadd.metrics.MetricsJmxExporter
+	 */
+	public OmmConsumerConfig metricsRegistry(MetricsRegistry metricsRegistry);
 	
     /** Specifies the address or host name of the proxy server for Rest requests: service discovery and auth token service.
      * 
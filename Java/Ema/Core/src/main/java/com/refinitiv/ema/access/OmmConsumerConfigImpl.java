@@ -15,11 +15,13 @@ import java.util.HashMap;
 import com.refinitiv.ema.access.OmmLoggerClient.Severity;
 import com.refinitiv.ema.access.ProgrammaticConfigure.InstanceEntryFlag;
 import com.refinitiv.ema.rdm.DataDictionary;
+import com.refinitiv.eta.valueadd.metrics.MetricsRegistry;
 
 class OmmConsumerConfigImpl extends EmaConfigImpl implements OmmConsumerConfig
 {
 	private int 				_operationModel;
 	private DataDictionary 		dataDictionary;
+	private MetricsRegistry		_metricsRegistry;
 	private Map<String, ServiceListImpl> 	_serviceListMap;
 	
 	OmmConsumerConfigImpl()
@@ -44,6 +46,7 @@ class OmmConsumerConfigImpl extends EmaConfigImpl implements OmmConsumerConfig
 		clearInt();
 		_operationModel = OperationModel.API_DISPATCH;
 		dataDictionary = null;
+		_metricsRegistry = null;
 		return this;
 	}
 
@@ -548,6 +551,18 @@ class OmmConsumerConfigImpl extends EmaConfigImpl implements OmmConsumerConfig
 	{
 		return dataDictionary;
 	}
+
+	@Override
+	public OmmConsumerConfig metricsRegistry(MetricsRegistry metricsRegistry)
+	{
+		_metricsRegistry = metricsRegistry;
+		return this;
+	}
+
+	MetricsRegistry metricsRegistry()
+	{
+		return _metricsRegistry;
+	}
 	
 	@Override
 	public OmmConsumerConfig restProxyHostName(String restProxyHostName)
@@ -386,6 +386,7 @@ class OmmConsumerImpl extends OmmBaseImpl<OmmConsumerClient> implements OmmConsu
 		}
 
 		_activeConfig.dictionaryConfig.dictionaryName = ((OmmConsumerConfigImpl)config).dictionaryName(_activeConfig.configuredName);
+		_activeConfig.metricsRegistry = ((OmmConsumerConfigImpl)config).metricsRegistry();
 		
 		ConfigAttributes attributes = config.xmlConfig().getConsumerAttributes(_activeConfig.configuredName);
 
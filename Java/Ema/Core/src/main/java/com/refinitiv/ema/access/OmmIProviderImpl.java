@@ -8,6 +8,8 @@
 
 package com.refinitiv.ema.access;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -20,7 +22,10 @@ import com.refinitiv.ema.access.ServiceIdConverter.ServiceIdConversionError;
 import com.refinitiv.ema.rdm.EmaRdm;
 import com.refinitiv.eta.codec.AckMsgFlags;
 import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
 import com.refinitiv.eta.codec.DataStates;
+import com.refinitiv.eta.codec.EncodeIterator;
 import com.refinitiv.eta.codec.Msg;
 import com.refinitiv.eta.codec.MsgClasses;
 import com.refinitiv.eta.codec.State;
@@ -58,6 +63,12 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 	private ServiceIdConverter	_serviceIdConverter;
 	private static final long MIN_LONG_VALUE = 1;
     private static final long MAX_LONG_VALUE = Long.MAX_VALUE;
+	private static final int FANOUT_BUFFER_SIZE = 1024;
+	
+	private List<ItemInfo>	_fanoutItemInfoList = new ArrayList<>();
+	private ByteBuffer		_fanoutByteBuffer;
+	private Buffer			_fanoutBuffer;
+	private EncodeIterator	_fanoutEncodeIter;
     
 	private static long _longId = Integer.MAX_VALUE;
 	
@@ -696,6 +707,190 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		userLock().unlock();
 	}
 
+	@Override
+	public void submit(UpdateMsg updateMsg, long[] handles)
+	{
+		userLock().lock();
+		
+		UpdateMsgImpl updateMsgImpl = (UpdateMsgImpl)updateMsg;
+		
+		if ( updateMsgImpl.domainType() == EmaRdm.MMT_LOGIN || updateMsgImpl.domainType() == EmaRdm.MMT_DIRECTORY
+				|| updateMsgImpl.domainType() == EmaRdm.MMT_DICTIONARY )
+		{
+			userLock().unlock();
+			StringBuilder temp = strBuilder();
+			temp.append("Attempt to fanout UpdateMsg with domain type ")
+			.append(Utilities.rdmDomainAsString(updateMsgImpl.domainType())).append(" to item handles.");
+			handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+			return;
+		}
+		
+		/* Checks all handles first, so the message is sent to either all or none of the streams */
+		_fanoutItemInfoList.clear();
+		for (int index = 0; index < handles.length; ++index)
+		{
+			ItemInfo itemInfo = getItemInfo(handles[index]);
+			
+			if ( itemInfo == null )
+			{
+				_fanoutItemInfoList.clear();
+				userLock().unlock();
+				StringBuilder temp = strBuilder();
+				temp.append("Attempt to submit UpdateMsg with non existent Handle = ")
+				.append(handles[index]).append(".");
+				handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+				return;
+			}
+			
+			_fanoutItemInfoList.add(itemInfo);
+		}
+		
+		if (loggerClient().isTraceEnabled())
+		{
+			StringBuilder text = strBuilder();
+			text.append("Received UpdateMsg with domain type ")
+			.append(Utilities.rdmDomainAsString(updateMsgImpl.domainType()))
+			.append(" to fanout to ").append(handles.length).append(" item handles.");
+			
+			loggerClient().trace(formatLogMessage(instanceName(),text.toString(), Severity.TRACE));
+		}
+		
+		ServiceIdConversionError encodingError = 
+				_serviceIdConverter.encodeServiceId(updateMsgImpl, UpdateMsgFlags.HAS_MSG_KEY);
+		if(encodingError != ServiceIdConversionError.NONE){
+			_fanoutItemInfoList.clear();
+			handleServiceIdConversionError(encodingError, updateMsgImpl);
+			return;
+		}
+		
+		/* Encodes the message once per RWF version of the channels; each channel gets a copy
+		 * with the stream id of its item. Streams left over from a pass use another version. */
+		int remaining = _fanoutItemInfoList.size();
+		while (remaining > 0)
+		{
+			int next = 0;
+			ReactorChannel encodedChannel = null;
+			
+			for (int index = 0; index < remaining; ++index)
+			{
+				ItemInfo itemInfo = _fanoutItemInfoList.get(index);
+				ReactorChannel channel = itemInfo.clientSession().channel();
+				
+				if (encodedChannel == null)
+				{
+					int ret = encodeFanoutMsg(updateMsgImpl, channel.majorVersion(), channel.minorVersion());
+					if ( ret != CodecReturnCodes.SUCCESS )
+					{
+						_fanoutItemInfoList.clear();
+						userLock().unlock();
+						StringBuilder temp = strBuilder();
+						temp.append("Failed to encode UpdateMsg to fanout. Reason: ")
+						.append(CodecReturnCodes.toString(ret)).append(".");
+						handleInvalidUsage(temp.toString(), ret);
+						return;
+					}
+					encodedChannel = channel;
+				}
+				else if (channel.majorVersion() != encodedChannel.majorVersion() || channel.minorVersion() != encodedChannel.minorVersion())
+				{
+					_fanoutItemInfoList.set(next++, itemInfo);
+					continue;
+				}
+				
+				if (!submitFanoutMsg(updateMsgImpl, itemInfo))
+					return;
+			}
+			
+			remaining = next;
+		}
+		
+		_fanoutItemInfoList.clear();
+		userLock().unlock();
+	}
+	
+	/* Sends the encoded fanout message on the stream of the item. Returns false, with the user lock
+	 * released, if the submit failed. */
+	private boolean submitFanoutMsg(UpdateMsgImpl updateMsgImpl, ItemInfo itemInfo)
+	{
+		if (_activeConfig.refreshFirstRequired && !itemInfo.isSentRefresh())
+		{
+			if (loggerClient().isWarnEnabled())
+			{
+				strBuilder().append("Skip sending update message for handle ")
+				.append(itemInfo.handle().value()).append(", client handle ")
+				.append(itemInfo.clientSession().clientHandle().value()).append(" as refresh message is required first.");
+		
+				loggerClient().warn(formatLogMessage(instanceName() , _strBuilder.toString(), Severity.WARNING));
+			}
+			
+			return true;
+		}
+		
+		ReactorChannel channel = itemInfo.clientSession().channel();
+		int streamId = (int)itemInfo.streamId().value();
+		_rsslErrorInfo.clear();
+		int ret;
+		
+		/* A fanout message partly written to the stream is finished first, so the stream keeps its order.
+		 * If it still cannot be finished, the failure is reported rather than retried under the user lock. */
+		if (itemInfo.pendingFanout() != null)
+		{
+			ret = channel.submit(itemInfo.pendingFanout(), streamId, _rsslSubmitOptions, _rsslErrorInfo);
+			if (ret != ReactorReturnCodes.WRITE_CALL_AGAIN)
+				itemInfo.pendingFanout(null);
+			if (ReactorReturnCodes.SUCCESS > ret)
+			{
+				_fanoutItemInfoList.clear();
+				handleSubmitFailure(updateMsgImpl, itemInfo.clientSession(), ret);
+				return false;
+			}
+		}
+		
+		ret = channel.submit(_fanoutBuffer, streamId, _rsslSubmitOptions, _rsslErrorInfo);
+		if (ret == ReactorReturnCodes.WRITE_CALL_AGAIN)
+		{
+			/* The Reactor keeps the rest of the message until the same buffer is submitted on the stream again.
+			 * The item keeps that buffer, and the fanout goes on with a new one over the same encoded data. */
+			itemInfo.pendingFanout(_fanoutBuffer);
+			Buffer fanoutBuffer = CodecFactory.createBuffer();
+			fanoutBuffer.data(_fanoutByteBuffer, 0, _fanoutBuffer.length());
+			_fanoutBuffer = fanoutBuffer;
+			return true;
+		}
+		if (ReactorReturnCodes.SUCCESS > ret)
+		{
+			_fanoutItemInfoList.clear();
+			handleSubmitFailure(updateMsgImpl, itemInfo.clientSession(), ret);
+			return false;
+		}
+		
+		return true;
+	}
+	
+	int encodeFanoutMsg(MsgImpl msgImpl, int majorVersion, int minorVersion)
+	{
+		if ( _fanoutBuffer == null )
+		{
+			_fanoutByteBuffer = ByteBuffer.allocate(FANOUT_BUFFER_SIZE);
+			_fanoutBuffer = CodecFactory.createBuffer();
+			_fanoutEncodeIter = CodecFactory.createEncodeIterator();
+		}
+		
+		int ret;
+		while (true)
+		{
+			_fanoutByteBuffer.clear();
+			_fanoutBuffer.data(_fanoutByteBuffer);
+			_fanoutEncodeIter.clear();
+			_fanoutEncodeIter.setBufferAndRWFVersion(_fanoutBuffer, majorVersion, minorVersion);
+			
+			if ( (ret = msgImpl._rsslMsg.encode(_fanoutEncodeIter)) != CodecReturnCodes.BUFFER_TOO_SMALL )
+				return ret;
+			
+			_fanoutByteBuffer = ByteBuffer.allocate(_fanoutByteBuffer.capacity() * 2);
+		}
+	}
+
 	@Override
 	public void submit(StatusMsg statusMsg, long handle)
 	{
@@ -1090,10 +1285,19 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 		int ret;
 		if (ReactorReturnCodes.SUCCESS > (ret = clientSession.channel().submit(msgImpl._rsslMsg, _rsslSubmitOptions, _rsslErrorInfo)))
 	    {			
-			if (loggerClient().isErrorEnabled())
+			handleSubmitFailure(msgImpl, clientSession, ret);
+			return false;
+	    }
+		
+		return true;
+	}
+	
+	void handleSubmitFailure(MsgImpl msgImpl, ClientSession clientSession, int ret)
+	{
+		if (loggerClient().isErrorEnabled())
         	{
-				com.refinitiv.eta.transport.Error error = _rsslErrorInfo.error();
-				
+			com.refinitiv.eta.transport.Error error = _rsslErrorInfo.error();
+			
 	        	strBuilder().append("Internal error: rsslChannel.submit() failed in OmmProviderImpl.submit(")
 	        		.append(DataType.asString(msgImpl.dataType())).append(")").append(OmmLoggerClient.CR)
 	        		.append("Client handle ").append(clientSession.clientHandle().value()).append(OmmLoggerClient.CR)
@@ -1104,19 +1308,15 @@ class OmmIProviderImpl extends OmmServerBaseImpl implements OmmProvider, Directo
 	        	
 	        	loggerClient().error(formatLogMessage(instanceName() , _strBuilder.toString(), Severity.ERROR));
         	}
-			
-			userLock().unlock();
-			strBuilder().append("Failed to submit ")
-				.append(DataType.asString(msgImpl.dataType())).append(". Reason: ")
-				.append(ReactorReturnCodes.toString(ret))
-				.append(". Error text: ")
-				.append(_rsslErrorInfo.error().text());
-			
-			handleInvalidUsage(_strBuilder.toString(), ret);
-			return false;
-	    }
 		
-		return true;
+		userLock().unlock();
+		strBuilder().append("Failed to submit ")
+			.append(DataType.asString(msgImpl.dataType())).append(". Reason: ")
+			.append(ReactorReturnCodes.toString(ret))
+			.append(". Error text: ")
+			.append(_rsslErrorInfo.error().text());
+		
+		handleInvalidUsage(_strBuilder.toString(), ret);
 	}
 	
 	void handleItemGroup(ItemInfo itemInfo, Buffer groupId, State state)
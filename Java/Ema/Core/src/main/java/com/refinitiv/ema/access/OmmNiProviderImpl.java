@@ -1955,6 +1955,14 @@ class OmmNiProviderImpl extends OmmBaseImpl<OmmProviderClient> implements OmmPro
 		handleInvalidUsage(temp.toString(), OmmInvalidUsageException.ErrorCode.INVALID_OPERATION);
 	}
 
+	@Override
+	public void submit(UpdateMsg updateMsg, long[] handles) {
+		throw ommIUExcept().message(
+				"NIProvider applications do not support fanout of UpdateMsg to item handles",
+				OmmInvalidUsageException.ErrorCode.INVALID_OPERATION
+		);
+	}
+
 	@Override
 	public void closeChannel(long clientHandle) {
 		throw ommIUExcept().message(
@@ -314,6 +314,21 @@ public interface OmmProvider
 	 */
 	public void submit(UpdateMsg updateMsg, long handle);
 	
+	/**
+	 * Sends a UpdateMsg on many open item streams, such as the streams of all the clients that requested an item.
+	 * The UpdateMsg is encoded once and copied to the channel of each client with the stream id of each handle,
+	 * rather than encoded again for each handle. Streams that require a RefreshMsg first are skipped.
+	 * Only relevant to IProvider applications.
+	 * <p>This method is ObjectLevelSafe.</p>
+	 * 
+	 * @throws OmmInvalidUsageException if failed to submit updateMsg, if any of the handles does not refer
+	 * to an open stream or if is called by an NiProvider application
+	 * 
+	 * @param updateMsg specifies UpdateMsg to be sent on the open item streams
+	 * @param handles identify item streams on which to send the UpdateMsg
+	 */
+	public void submit(UpdateMsg updateMsg, long[] handles);
+	
 	/**
 	 * Sends a StatusMsg.
 	 * <p>This method is ObjectLevelSafe.</p>
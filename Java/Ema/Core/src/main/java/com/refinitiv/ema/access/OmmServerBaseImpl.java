@@ -19,7 +19,6 @@ import java.nio.channels.Selector;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -73,7 +72,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	private OmmJsonConverterExceptionImpl ommJCExcept;
 	protected LongObject _longValue = new LongObject();
 	
-	private HashMap<LongObject, ItemInfo>	_itemInfoMap;
+	private LongItemMap<ItemInfo>	_itemInfoMap;
 	
 	private ReentrantLock _userLock = new java.util.concurrent.locks.ReentrantLock();
 	private ReentrantLock _dispatchLock = new java.util.concurrent.locks.ReentrantLock();	
@@ -114,7 +113,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	private boolean _logError = true;	
 	
 	protected boolean _eventTimeout;
-	protected ConcurrentLinkedQueue<TimeoutEvent> _timeoutEventQueue = new ConcurrentLinkedQueue<TimeoutEvent>();
+	protected TimeoutEventScheduler _timeoutEventScheduler = new TimeoutEventScheduler();
 	protected EmaObjectManager _objManager = new EmaObjectManager();
 	
 	protected ReactorSubmitOptions _rsslSubmitOptions = ReactorFactory.createReactorSubmitOptions();
@@ -159,7 +158,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 	OmmServerBaseImpl(OmmProviderClient ommProviderClient, Object closure)
 	{
-		_itemInfoMap = new HashMap<>();
+		_itemInfoMap = new LongItemHashMap<>();
 		_ommProviderClient = ommProviderClient;
 		_closure = closure;
 		_ommProviderEvent = new OmmEventImpl<OmmProviderEvent>();
@@ -168,7 +167,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 	OmmServerBaseImpl(OmmProviderClient ommProviderClient, OmmProviderErrorClient providerErrorClient, Object closure)
 	{
-		_itemInfoMap = new HashMap<>();
+		_itemInfoMap = new LongItemHashMap<>();
 		_ommProviderClient = ommProviderClient;
 		_ommProviderErrorClient = providerErrorClient;
 		_closure = closure;
@@ -1133,7 +1132,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 		} else
 			timeoutEvent.timeoutInNanoSec(timeoutInMicroSec * 1000, client);
 
-		_timeoutEventQueue.add(timeoutEvent);
+		_timeoutEventScheduler.add(timeoutEvent);
 		
 		try 
 		{
@@ -1209,7 +1208,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 		boolean noWait = timeOut == OmmProvider.DispatchTimeout.NO_WAIT;
 		timeOut = timeOut * 1000;
-		long userTimeout = TimeoutEvent.userTimeOutExist(_timeoutEventQueue);
+		long userTimeout = _timeoutEventScheduler.nextTimeout();
 		boolean userTimeoutExist = false;
 		if (userTimeout >= 0)
 		{
@@ -1234,7 +1233,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 					if ( timeOut <=0 )
 					{
 						if (userTimeoutExist)
-							TimeoutEvent.execute(_timeoutEventQueue);
+							_timeoutEventScheduler.execute();
 					}
 				}
 				
@@ -1372,13 +1371,13 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 
 					if ( _eventReceived ) return true;
 					
-					TimeoutEvent.execute(_timeoutEventQueue);
+					_timeoutEventScheduler.execute();
 					
 					if ( _eventReceived ) return true;
 				} //selectCount > 0
 				else if (selectCount == 0)
 				{
-					TimeoutEvent.execute(_timeoutEventQueue);
+					_timeoutEventScheduler.execute();
 						
 					if ( _eventReceived ) return true;
 				}
@@ -1463,7 +1462,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	{
 		_userLock.lock();
 		
-		_itemInfoMap.put(itemInfo.handle(), itemInfo);
+		_itemInfoMap.put(itemInfo.handle().value(), itemInfo);
 		itemInfo.clientSession().addItemInfo(itemInfo);
 		
 		if ( loggerClient().isTraceEnabled( ))
@@ -1481,7 +1480,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	{
 		_userLock.lock();
 		
-		_itemInfoMap.remove(itemInfo.handle());
+		_itemInfoMap.remove(itemInfo.handle().value());
 		itemInfo.clientSession().removeItemInfo(itemInfo);
 		
 		if ( eraseItemGroup && itemInfo.hasItemGroup() )
@@ -1506,9 +1505,7 @@ abstract class OmmServerBaseImpl implements OmmCommonImpl, Runnable, TimeoutClie
 	{
 		_userLock.lock();
 		
-		_longValue.value(handle);
-		
-		ItemInfo itemInfo = _itemInfoMap.get(_longValue);
+		ItemInfo itemInfo = _itemInfoMap.get(handle);
 		
 		_userLock.unlock();
 		
@@ -1109,6 +1109,18 @@ class ProgrammaticConfigure
 												((ActiveConfig)activeConfig).negativeUpdateTypeFilter = eentry.uintValue();
 											}
 										}
+										else if (eentry.name().equals("ItemConflationInterval"))
+										{
+											((ActiveConfig)activeConfig).itemConflationInterval = convertToInt(eentry.uintValue());
+										}
+										else if (eentry.name().equals("ItemConflationCount"))
+										{
+											((ActiveConfig)activeConfig).itemConflationCount = convertToInt(eentry.uintValue());
+										}
+										else if (eentry.name().equals("EnableViewFiltering"))
+										{
+											((ActiveConfig)activeConfig).enableViewFiltering = convertToInt(eentry.uintValue());
+										}
 										break;
 									case DataTypes.ASCII:
 										if (eentry.name().equals("XmlTraceFileName"))
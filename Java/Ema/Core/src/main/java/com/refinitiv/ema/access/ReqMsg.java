@@ -203,6 +203,22 @@ public interface ReqMsg extends Msg
 	 */
 	public boolean conflatedInUpdates();
 
+	/**
+	 * Returns the interval, in milliseconds, over which updates of this item are conflated
+	 * by EMA before being delivered to the application.
+	 * 
+	 * @return conflation interval in milliseconds; 0 if updates are not conflated by EMA
+	 */
+	public int conflationInterval();
+
+	/**
+	 * Returns the number of updates after which a conflated update is delivered before
+	 * its conflation interval has elapsed.
+	 * 
+	 * @return conflation count; 0 if conflated updates are only delivered on the interval
+	 */
+	public int conflationCount();
+
 	/**
 	 * Returns Pause.
 	 * 
@@ -426,6 +442,37 @@ public interface ReqMsg extends Msg
 	 */
 	public ReqMsg conflatedInUpdates(boolean conflatedInUpdates);
 
+	/**
+	 * Specifies the interval, in milliseconds, over which field list updates of this item are
+	 * conflated by EMA before being delivered to the application.<br>
+	 * The fields of the updates received during the interval are merged into a single update
+	 * holding their latest values. Refresh and status messages of the item are delivered
+	 * after any pending conflated update. Updates with a partial RMTES update or a field missing
+	 * from the dictionary are delivered as received, and an update of another update type or
+	 * repeating a rippling field is merged after the pending update is delivered.
+	 * Setting 0 delivers every update as received.<br>
+	 * Applies when the item is opened; the ItemConflationInterval configuration parameter
+	 * is used when it is not specified.
+	 * 
+	 * @throws OmmInvalidUsageException if conflationInterval is negative
+	 * 
+	 * @param conflationInterval specifies the conflation interval in milliseconds
+	 * @return reference to this object
+	 */
+	public ReqMsg conflationInterval(int conflationInterval);
+
+	/**
+	 * Specifies the number of updates after which a conflated update is delivered before
+	 * its conflation interval has elapsed. Setting 0 delivers conflated updates on the interval only.<br>
+	 * Used only together with {@link #conflationInterval(int)}.
+	 * 
+	 * @throws OmmInvalidUsageException if conflationCount is negative
+	 * 
+	 * @param conflationCount specifies the conflation count
+	 * @return reference to this object
+	 */
+	public ReqMsg conflationCount(int conflationCount);
+
 	/**
 	 * Specifies PrivateStream.
 	 * 
@@ -41,6 +41,8 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 	private com.refinitiv.eta.codec.Buffer _rsslItemBuffer;
     private List<String> _batchItemList;
     private String _serviceListName;
+    private int _conflationInterval;
+    private int _conflationCount;
     
 	
     ReqMsgImpl()
@@ -61,6 +63,9 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 		MsgImpl otherMsgImpl = (MsgImpl)other;
 		boolean copiedMsgBuffer = otherMsgImpl.copy(this, CLONE_CONSTRUCTOR_NAME);
 		
+		_conflationInterval = other.conflationInterval();
+		_conflationCount = other.conflationCount();
+		
 		if(copiedMsgBuffer)
 		{
 			if(!otherMsgImpl._isUpdatedAfterCopying)
@@ -153,6 +158,8 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 		msgClear();
 		initialEncoding();
 		_serviceListName = null;
+		_conflationInterval = 0;
+		_conflationCount = 0;
 		return this;
 	}
 
@@ -531,6 +538,18 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 		return ((com.refinitiv.eta.codec.RequestMsg)_rsslMsg).checkConfInfoInUpdates();
 	}
 
+	@Override
+	public int conflationInterval()
+	{
+		return _conflationInterval;
+	}
+
+	@Override
+	public int conflationCount()
+	{
+		return _conflationCount;
+	}
+
 	@Override
 	public boolean pause()
 	{
@@ -818,6 +837,26 @@ class ReqMsgImpl extends MsgImpl implements ReqMsg
 		return this;
 	}
 
+	@Override
+	public ReqMsg conflationInterval(int conflationInterval)
+	{
+		if (conflationInterval < 0)
+			throw ommIUExcept().message("Passed in conflationInterval is negative.", OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+
+		_conflationInterval = conflationInterval;
+		return this;
+	}
+
+	@Override
+	public ReqMsg conflationCount(int conflationCount)
+	{
+		if (conflationCount < 0)
+			throw ommIUExcept().message("Passed in conflationCount is negative.", OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT);
+
+		_conflationCount = conflationCount;
+		return this;
+	}
+
 	@Override
 	public ReqMsg privateStream(boolean privateStream)
 	{
@@ -44,7 +44,6 @@ class SessionDirectory<T>
 	private ConsumerSession<T> _consumerSession;
 	private WatchlistResult _watchlistResult;
 	private WatchlistResult tempWatchlistResult;
-	private LongObject tmpLongObject = new LongObject();
 	Qos _matchedQos = CodecFactory.createQos();
 	
 	SessionDirectory(ConsumerSession<T> consumerSession, String serviceName)
@@ -401,10 +400,9 @@ class SessionDirectory<T>
 		
 		while(singleItem != null)
 		{
-			tmpLongObject.value(singleItem.itemId());
 			
 			/* Handles this item when it hasn't been removed from the item map */
-			if(_consumerSession.watchlist().itemHandleMap().containsKey(tmpLongObject))
+			if(_consumerSession.watchlist().itemHandleMap().containsKey(singleItem.itemId()))
 			{
 				directory = directory(singleItem._requestMsg);
 				
@@ -623,10 +621,9 @@ class SessionDirectory<T>
 		
 		while(singleItem != null && singleItem._requestMsg != null)
 		{
-			tmpLongObject.value(singleItem.itemId());
 			
 			/* Handles this item when it hasn't been removed from the item map */
-			if(_consumerSession.watchlist().itemHandleMap().containsKey(tmpLongObject))
+			if(_consumerSession.watchlist().itemHandleMap().containsKey(singleItem.itemId()))
 			{
 				_consumerSession.watchlist().sendItemStatus(singleItem, singleItem._requestMsg, OmmState.StreamState.CLOSED,
 					OmmState.DataState.SUSPECT, OmmState.StatusCode.NONE, "Consumer session is closed.");
@@ -8,8 +8,6 @@
 
 package com.refinitiv.ema.access;
 
-import java.util.Iterator;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.refinitiv.eta.valueadd.common.VaNode;
@@ -59,64 +57,4 @@ class TimeoutEvent extends VaNode
 	{
 		return _client;
 	}
-	
-	static <T> long userTimeOutExist(ConcurrentLinkedQueue<TimeoutEvent> timeoutEventQueue)
-	{
-		if (timeoutEventQueue.size() == 0)
-			return -1;
-		
-		TimeoutEvent event;
-		Iterator<TimeoutEvent> iter = timeoutEventQueue.iterator();
-		 while (iter.hasNext())
-		 {
-        	event = iter.next();
-        	if (event.cancelled())
-        	{
-        		iter.remove();
-        		event.returnToPool();
-        		continue;
-        	}
-           
-        	long currentTime = System.nanoTime();
-        	if ((currentTime - event.timeoutInNanoSerc()) >= 0)
-				return 0;
-            else  
-            	return (event.timeoutInNanoSerc() - currentTime);
-        }
-        
-        return -1;
-	}
-	
-	static <T> void execute(ConcurrentLinkedQueue<TimeoutEvent> timeoutEventQueue)
-	{
-		if ( timeoutEventQueue.size() == 0)
-			return; 
-		
-		TimeoutEvent event;
-		Iterator<TimeoutEvent> iter = timeoutEventQueue.iterator();
-		while (iter.hasNext())
-        {
-			event = iter.next();
-	    	if (System.nanoTime() >= event.timeoutInNanoSerc())
-	    	{
-	    		iter.remove();
-	    		 
-	        	if (!event.cancelled() && event.client() != null) {
-					event.client().userLock().lock();
-					try
-					{
-						event.client().handleTimeoutEvent();
-					}
-					finally
-					{
-						event.client().userLock().unlock();
-					}
-				}
-
-	    		event.returnToPool();
-	    	}
-	    	else
-	    		 return;
-        }
-	}
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/* Holds the pending TimeoutEvents of an OmmBaseImpl or OmmServerBaseImpl in a binary min-heap
+ * ordered by expiration time. Adding an event is O(log n), cancelling it is O(1) (the event is
+ * flagged and discarded when it reaches the top of the heap), and the next expiration is read
+ * from the root, so the dispatch loop never walks the outstanding request timeouts.
+ *
+ * Events may be added and cancelled from any thread; callbacks are invoked by the dispatching
+ * thread outside of the scheduler lock so they can schedule new events.
+ */
+class TimeoutEventScheduler
+{
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final ReentrantLock _lock = new ReentrantLock();
+	private TimeoutEvent[] _heap = new TimeoutEvent[INITIAL_CAPACITY];
+	private int _size;
+
+	void add(TimeoutEvent event)
+	{
+		_lock.lock();
+		try
+		{
+			if (_size == _heap.length)
+			{
+				TimeoutEvent[] heap = new TimeoutEvent[_heap.length * 2];
+				System.arraycopy(_heap, 0, heap, 0, _size);
+				_heap = heap;
+			}
+
+			siftUp(_size++, event);
+		}
+		finally
+		{
+			_lock.unlock();
+		}
+	}
+
+	/* Returns -1 if no event is scheduled, 0 if the earliest event has expired,
+	 * or the number of nanoseconds until the earliest event expires.
+	 * Cancelled events found at the top of the heap are returned to their pool. */
+	long nextTimeout()
+	{
+		_lock.lock();
+		try
+		{
+			while (_size > 0 && _heap[0].cancelled())
+				poll().returnToPool();
+
+			if (_size == 0)
+				return -1;
+
+			long remaining = _heap[0].timeoutInNanoSerc() - System.nanoTime();
+			return remaining > 0 ? remaining : 0;
+		}
+		finally
+		{
+			_lock.unlock();
+		}
+	}
+
+	/* Invokes the clients of all expired events in expiration order and returns the events to their pool. */
+	void execute()
+	{
+		long currentTime = System.nanoTime();
+		TimeoutEvent event;
+
+		while ((event = pollExpired(currentTime)) != null)
+		{
+			if (!event.cancelled() && event.client() != null)
+			{
+				event.client().userLock().lock();
+				try
+				{
+					event.client().handleTimeoutEvent();
+				}
+				finally
+				{
+					event.client().userLock().unlock();
+				}
+			}
+
+			event.returnToPool();
+		}
+	}
+
+	/* Number of scheduled events, including cancelled events that have not been discarded yet. */
+	int size()
+	{
+		return _size;
+	}
+
+	private TimeoutEvent pollExpired(long currentTime)
+	{
+		_lock.lock();
+		try
+		{
+			if (_size == 0 || currentTime - _heap[0].timeoutInNanoSerc() < 0)
+				return null;
+
+			return poll();
+		}
+		finally
+		{
+			_lock.unlock();
+		}
+	}
+
+	/* Must be called with the lock held and a non-empty heap. */
+	private TimeoutEvent poll()
+	{
+		TimeoutEvent root = _heap[0];
+		TimeoutEvent last = _heap[--_size];
+		_heap[_size] = null;
+		if (_size > 0)
+			siftDown(0, last);
+
+		return root;
+	}
+
+	private void siftUp(int index, TimeoutEvent event)
+	{
+		while (index > 0)
+		{
+			int parentIndex = (index - 1) >>> 1;
+			TimeoutEvent parent = _heap[parentIndex];
+			if (event.timeoutInNanoSerc() - parent.timeoutInNanoSerc() >= 0)
+				break;
+
+			_heap[index] = parent;
+			index = parentIndex;
+		}
+
+		_heap[index] = event;
+	}
+
+	private void siftDown(int index, TimeoutEvent event)
+	{
+		int half = _size >>> 1;
+		while (index < half)
+		{
+			int childIndex = (index << 1) + 1;
+			TimeoutEvent child = _heap[childIndex];
+			int rightIndex = childIndex + 1;
+			if (rightIndex < _size && _heap[rightIndex].timeoutInNanoSerc() - child.timeoutInNanoSerc() < 0)
+			{
+				childIndex = rightIndex;
+				child = _heap[childIndex];
+			}
+
+			if (event.timeoutInNanoSerc() - child.timeoutInNanoSerc() <= 0)
+				break;
+
+			_heap[index] = child;
+			index = childIndex;
+		}
+
+		_heap[index] = event;
+	}
+}
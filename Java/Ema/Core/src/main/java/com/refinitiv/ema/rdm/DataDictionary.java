@@ -165,6 +165,34 @@ public interface DataDictionary
      * 
      */
     public void loadEnumTypeDictionary(String filename);
+
+    /**
+     * Loads a dictionary snapshot written by {@link #saveDictionarySnapshot(String)}.
+     * The snapshot file is memory-mapped and its entries are created on first use,
+     * which is much faster than parsing the field and enumerated types dictionary files.
+     * The {@link DataDictionary} must be cleared before loading a snapshot.
+     * 
+     * @param filename specifies a dictionary snapshot file
+     * 
+     * @throws OmmInvalidUsageException if fails to load from the specified
+     * file name from <code>filename</code>.
+     * 
+     */
+    public void loadDictionarySnapshot(String filename);
+
+    /**
+     * Writes the loaded field and enumerated type dictionaries to a binary
+     * snapshot file, which can be loaded by {@link #loadDictionarySnapshot(String)}
+     * or named as the RdmFieldDictionaryFileName of a consumer. Consumers that name
+     * the same snapshot file share one mapping of its entries and enumerated types.
+     * 
+     * @param filename specifies the dictionary snapshot file to write
+     * 
+     * @throws OmmInvalidUsageException if the dictionary is not loaded or fails to
+     * write to the specified file name from <code>filename</code>.
+     * 
+     */
+    public void saveDictionarySnapshot(String filename);
     
     /**
      * Encode the field dictionary information into a data payload
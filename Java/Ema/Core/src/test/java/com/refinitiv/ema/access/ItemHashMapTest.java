@@ -0,0 +1,163 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ItemHashMapTest
+{
+	@Test
+	public void longMapPutGetRemove()
+	{
+		LongItemMap<String> map = new LongItemHashMap<>();
+
+		assertNull(map.put(1L, "one"));
+		assertNull(map.put(Long.MAX_VALUE, "max"));
+		assertNull(map.put(-5L, "minus five"));
+		assertEquals("one", map.put(1L, "uno"));
+
+		assertEquals(3, map.size());
+		assertEquals("uno", map.get(1L));
+		assertEquals("max", map.get(Long.MAX_VALUE));
+		assertTrue(map.containsKey(-5L));
+		assertFalse(map.containsKey(2L));
+		assertNull(map.get(2L));
+
+		assertEquals("uno", map.remove(1L));
+		assertNull(map.remove(1L));
+		assertEquals(2, map.size());
+
+		map.clear();
+		assertEquals(0, map.size());
+		assertNull(map.get(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void intMapPutGetRemove()
+	{
+		IntItemMap<String> map = new IntItemHashMap<>();
+
+		assertNull(map.put(5, "five"));
+		assertNull(map.put(-3, "minus three"));
+		assertNull(map.put(0, "zero"));
+		assertEquals("five", map.put(5, "cinq"));
+
+		assertEquals(3, map.size());
+		assertEquals("cinq", map.get(5));
+		assertTrue(map.containsKey(-3));
+		assertTrue(map.containsKey(0));
+		assertFalse(map.containsKey(6));
+
+		assertEquals("minus three", map.remove(-3));
+		assertNull(map.get(-3));
+		assertEquals(2, map.size());
+
+		map.clear();
+		assertEquals(0, map.size());
+		assertFalse(map.containsKey(0));
+	}
+
+	/* Grows the tables and removes entries out of order, comparing each step with a HashMap. */
+	@Test
+	public void randomOperationsMatchHashMap()
+	{
+		Random random = new Random(42);
+		LongItemMap<Long> longMap = new LongItemHashMap<>();
+		IntItemMap<Integer> intMap = new IntItemHashMap<>();
+		Map<Long, Long> expectedLong = new HashMap<>();
+		Map<Integer, Integer> expectedInt = new HashMap<>();
+
+		for (int i = 0; i < 200000; ++i)
+		{
+			// a small key range keeps the tables dense, so removals shift long probe sequences
+			long longKey = random.nextInt(5000);
+			int intKey = random.nextInt(5000) - 2500;
+			if (random.nextInt(3) == 0)
+			{
+				assertEquals(expectedLong.remove(longKey), longMap.remove(longKey));
+				assertEquals(expectedInt.remove(intKey), intMap.remove(intKey));
+			}
+			else
+			{
+				assertEquals(expectedLong.put(longKey, longKey), longMap.put(longKey, longKey));
+				assertEquals(expectedInt.put(intKey, intKey), intMap.put(intKey, intKey));
+			}
+		}
+
+		assertEquals(expectedLong.size(), longMap.size());
+		assertEquals(expectedInt.size(), intMap.size());
+		for (long key = 0; key < 5000; ++key)
+			assertEquals(expectedLong.get(key), longMap.get(key));
+		for (int key = -2500; key < 2500; ++key)
+			assertEquals(expectedInt.get(key), intMap.get(key));
+	}
+
+	@Test
+	public void concurrentMapsFromManyThreads() throws InterruptedException
+	{
+		final int threadCount = 8;
+		final int keysPerThread = 20000;
+		final LongItemMap<Object> longMap = new ConcurrentLongItemHashMap<>();
+		final IntItemMap<Object> intMap = new ConcurrentIntItemHashMap<>();
+		final Object item = new Object();
+
+		List<Thread> threads = new ArrayList<>();
+		for (int t = 0; t < threadCount; ++t)
+		{
+			final int first = t * keysPerThread;
+			threads.add(new Thread(() ->
+			{
+				for (int key = first; key < first + keysPerThread; ++key)
+				{
+					longMap.put(key, item);
+					intMap.put(key, item);
+				}
+				// remove every other key again
+				for (int key = first; key < first + keysPerThread; key += 2)
+				{
+					longMap.remove(key);
+					intMap.remove(key);
+				}
+			}));
+		}
+
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+
+		assertEquals(threadCount * keysPerThread / 2, longMap.size());
+		assertEquals(threadCount * keysPerThread / 2, intMap.size());
+		for (int key = 0; key < threadCount * keysPerThread; ++key)
+		{
+			assertEquals(key % 2 == 1, longMap.containsKey(key));
+			if (key % 2 == 1)
+				assertSame(item, intMap.get(key));
+			else
+				assertNull(intMap.get(key));
+		}
+
+		longMap.clear();
+		intMap.clear();
+		assertEquals(0, longMap.size());
+		assertEquals(0, intMap.size());
+	}
+}
@@ -0,0 +1,159 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Test;
+
+import com.refinitiv.eta.valueadd.common.VaPool;
+
+public class TimeoutEventSchedulerTest
+{
+    static class RecordingClient implements TimeoutClient
+    {
+        final ReentrantLock _lock = new ReentrantLock();
+        final List<Integer> _fired;
+        final int _id;
+
+        RecordingClient(List<Integer> fired, int id)
+        {
+            _fired = fired;
+            _id = id;
+        }
+
+        @Override
+        public void handleTimeoutEvent()
+        {
+            _fired.add(_id);
+        }
+
+        @Override
+        public ReentrantLock userLock()
+        {
+            return _lock;
+        }
+    }
+
+    private final VaPool _pool = new VaPool(false);
+
+    private TimeoutEvent event(long timeoutInNanoSec, TimeoutClient client)
+    {
+        TimeoutEvent event = new TimeoutEvent(timeoutInNanoSec, client);
+        _pool.updatePool(event);
+        return event;
+    }
+
+    @Test
+    public void emptySchedulerTest()
+    {
+        TimeoutEventScheduler scheduler = new TimeoutEventScheduler();
+        assertEquals(-1, scheduler.nextTimeout());
+        scheduler.execute();
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void expiresInDeadlineOrderTest()
+    {
+        TimeoutEventScheduler scheduler = new TimeoutEventScheduler();
+        List<Integer> fired = new ArrayList<>();
+
+        // a long timeout added first must not hold back the shorter ones added after it
+        scheduler.add(event(60_000_000_000L, new RecordingClient(fired, 0)));
+        scheduler.add(event(-3_000_000L, new RecordingClient(fired, 3)));
+        scheduler.add(event(-1_000_000L, new RecordingClient(fired, 1)));
+        scheduler.add(event(-2_000_000L, new RecordingClient(fired, 2)));
+
+        assertEquals(0, scheduler.nextTimeout());
+        scheduler.execute();
+
+        assertEquals(3, fired.size());
+        assertEquals(3, (int)fired.get(0));
+        assertEquals(2, (int)fired.get(1));
+        assertEquals(1, (int)fired.get(2));
+        assertEquals(1, scheduler.size());
+        assertTrue(scheduler.nextTimeout() > 0);
+    }
+
+    @Test
+    public void cancelledEventsDoNotFireTest()
+    {
+        TimeoutEventScheduler scheduler = new TimeoutEventScheduler();
+        List<Integer> fired = new ArrayList<>();
+
+        TimeoutEvent cancelled = event(-1_000_000L, new RecordingClient(fired, 1));
+        scheduler.add(cancelled);
+        scheduler.add(event(60_000_000_000L, new RecordingClient(fired, 2)));
+        cancelled.cancel();
+
+        // the cancelled head is discarded, so the next timeout is the pending one
+        assertTrue(scheduler.nextTimeout() > 0);
+        assertEquals(1, scheduler.size());
+
+        scheduler.execute();
+        assertEquals(0, fired.size());
+    }
+
+    static class DeadlineClient implements TimeoutClient
+    {
+        final ReentrantLock _lock = new ReentrantLock();
+        final List<Long> _deadlines;
+        TimeoutEvent _event;
+
+        DeadlineClient(List<Long> deadlines)
+        {
+            _deadlines = deadlines;
+        }
+
+        @Override
+        public void handleTimeoutEvent()
+        {
+            _deadlines.add(_event.timeoutInNanoSerc());
+        }
+
+        @Override
+        public ReentrantLock userLock()
+        {
+            return _lock;
+        }
+    }
+
+    @Test
+    public void manyTimersTest()
+    {
+        final int numTimers = 100_000;
+        TimeoutEventScheduler scheduler = new TimeoutEventScheduler();
+        List<Long> deadlines = new ArrayList<>(numTimers);
+
+        for (int i = 0; i < numTimers; i++)
+        {
+            // interleave deadlines so insertion order differs from expiration order
+            int id = (i * 7919) % numTimers;
+            DeadlineClient client = new DeadlineClient(deadlines);
+            client._event = event(-(numTimers - id) * 1_000_000L, client);
+            scheduler.add(client._event);
+            if (id % 10 == 0)
+                client._event.cancel();
+        }
+        assertEquals(numTimers, scheduler.size());
+
+        scheduler.execute();
+
+        assertEquals(0, scheduler.size());
+        assertEquals(numTimers - numTimers / 10, deadlines.size());
+        for (int i = 1; i < deadlines.size(); i++)
+            assertTrue(deadlines.get(i) - deadlines.get(i - 1) >= 0);
+    }
+}
@@ -971,6 +971,57 @@ public class DataDictionaryJunitTest extends TestCase {
 		TestUtilities.checkResult(toStringValue.lastIndexOf("value=1 display=\"AUT  \" meaning=\"Authorised\"") != -1, "Calling DataDictionary.toString() to check the last enum value");
 	}
 	
+	@Test
+	public void testDataDictionary_DictionarySnapshot()
+	{
+		TestUtilities.printTestHead("testDataDictionary_DictionarySnapshot()", "Test to save a dictionary snapshot and load it back to another DataDictionary.");
+
+		DataDictionary dataDictionary = EmaFactory.createDataDictionary();
+
+		try
+		{
+			java.io.File snapshotFile = java.io.File.createTempFile("RDMTestDictionary", ".snapshot");
+			snapshotFile.deleteOnExit();
+
+			globalDataDictionary.saveDictionarySnapshot(snapshotFile.getPath());
+
+			dataDictionary.loadDictionarySnapshot(snapshotFile.getPath());
+
+			TestUtilities.checkResult(dataDictionary.isFieldDictionaryLoaded() && dataDictionary.isEnumTypeDefLoaded(), "DataDictionary.loadDictionarySnapshot() loads both dictionaries");
+
+			TestUtilities.checkResult(globalDataDictionary.toString().equals(dataDictionary.toString()), "DataDictionary loaded from a snapshot is the same as the one loaded from the files");
+
+			TestUtilities.checkResult(dataDictionary.entry("PROD_PERM").fid() == 1, "DataDictionary.entry(String) from a snapshot");
+		}
+		catch (java.io.IOException | OmmException excp)
+		{
+			TestUtilities.checkResult(false, "DataDictionary snapshot save and load failed - exception not expected: " + excp.getMessage());
+		}
+
+		try
+		{
+			dataDictionary.loadFieldDictionary(fieldDictionaryFileName);
+			TestUtilities.checkResult(false, "DataDictionary.loadFieldDictionary() into a loaded snapshot - exception expected");
+		}
+		catch (OmmException excp)
+		{
+			TestUtilities.checkResult(excp.getMessage().indexOf("Unable to load field dictionary from file named " + fieldDictionaryFileName) != -1,
+					"DataDictionary.loadFieldDictionary() into a loaded snapshot - exception expected");
+		}
+
+		try
+		{
+			dataDictionary.clear();
+			dataDictionary.loadDictionarySnapshot(fieldDictionaryFileName);
+			TestUtilities.checkResult(false, "DataDictionary.loadDictionarySnapshot() from a text dictionary - exception expected");
+		}
+		catch (OmmException excp)
+		{
+			TestUtilities.checkResult(excp.getMessage().indexOf("Unable to load dictionary snapshot from file named " + fieldDictionaryFileName) != -1,
+					"DataDictionary.loadDictionarySnapshot() from a text dictionary - exception expected");
+		}
+	}
+
 	@Test
 	public void testDataDictionary_ExtractDictionaryType()
 	{
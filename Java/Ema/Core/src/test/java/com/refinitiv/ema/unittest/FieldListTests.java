@@ -1652,6 +1652,66 @@ public class FieldListTests extends TestCase
 
 	}
 	
+	public void testFieldList_EncodeEMA_DecodeEMA_FindAndFilter()
+	{
+		TestUtilities.printTestHead("testFieldList_EncodeEMA_DecodeEMA_FindAndFilter", "Encode FieldList with EMA and Decode selected fields with find() and a filtered iteratorByRef()");
+
+		// load dictionary
+		com.refinitiv.eta.codec.DataDictionary dictionary = com.refinitiv.eta.codec.CodecFactory
+				.createDataDictionary();
+		TestUtilities.eta_encodeDictionaryMsg(dictionary);
+		
+		FieldList flEnc= EmaFactory.createFieldList();
+
+		try { 
+			flEnc.add(EmaFactory.createFieldEntry().uintValue( 1, 64));
+			flEnc.add(EmaFactory.createFieldEntry().real( 6, 11, OmmReal.MagnitudeType.EXPONENT_NEG_2));
+			flEnc.add(EmaFactory.createFieldEntry().intValue( -2, 32));
+			flEnc.add(EmaFactory.createFieldEntry().date( 16, 1999, 11, 7));
+			flEnc.add(EmaFactory.createFieldEntry().time( 18, 02, 03, 04, 005));
+
+			FieldList flDec = JUnitTestConnect.createFieldList();
+			JUnitTestConnect.setRsslData(flDec, flEnc, Codec.majorVersion(), Codec.minorVersion(), dictionary, null);
+
+			FieldEntry fe = flDec.find(6);
+			TestUtilities.checkResult("find(6) returns an entry", fe != null);
+			TestUtilities.checkResult("find(6) FieldEntry.fieldId()", fe.fieldId() == 6 );
+			TestUtilities.checkResult("find(6) FieldEntry.real().mantissa()", fe.real().mantissa() == 11 );
+
+			fe = flDec.find(16);
+			TestUtilities.checkResult("find(16) FieldEntry.fieldId()", fe != null && fe.fieldId() == 16 );
+			TestUtilities.checkResult("find(16) FieldEntry.date().year()", fe.date().year() == 1999 );
+
+			TestUtilities.checkResult("find(22) returns null for a missing field", flDec.find(22) == null);
+
+			fe = flDec.find(1);
+			TestUtilities.checkResult("find(1) after a miss FieldEntry.uintValue()", fe != null && fe.uintValue() == 64 );
+
+			Iterator<FieldEntry> iter = flDec.iteratorByRef(new int[] { 18, -2, 22 });
+			TestUtilities.checkResult("filtered iteratorByRef - first entry", iter.hasNext());
+			fe = iter.next();
+			TestUtilities.checkResult("filtered iteratorByRef - first FieldEntry.intValue()", fe.fieldId() == -2 && fe.intValue() == 32 );
+			TestUtilities.checkResult("filtered iteratorByRef - second entry", iter.hasNext());
+			fe = iter.next();
+			TestUtilities.checkResult("filtered iteratorByRef - second FieldEntry.time().hour()", fe.fieldId() == 18 && fe.time().hour() == 02 );
+			TestUtilities.checkResult("filtered iteratorByRef - third hasNext()", !iter.hasNext());
+
+			int count = 0;
+			iter = flDec.iteratorByRef();
+			while (iter.hasNext())
+			{
+				iter.next();
+				++count;
+			}
+			TestUtilities.checkResult("iteratorByRef after filtering returns every entry", count == 5);
+
+			TestUtilities.checkResult("FieldList find and filter - exception not expected", true);
+		} catch ( OmmException excp  ) {
+			TestUtilities.checkResult( "FieldList find and filter - exception not expected" , false);
+			System.out.println(excp);
+		}
+	}
+	
 	public void testFieldList_EncodeEMA_DecodeEMA_ContainsMap_EncodeDecodeAll()
 	{
 		TestUtilities.printTestHead("testFieldList_EncodeEMA_DecodeEMA_DecodeAll", "Encode FieldList with EMA and Decode FieldList with EMA");
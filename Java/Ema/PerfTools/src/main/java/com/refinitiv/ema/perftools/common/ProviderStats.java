@@ -12,6 +12,7 @@ import com.refinitiv.ema.perftools.emajniprovperf.NIProviderPerfConfig;
 import com.refinitiv.ema.perftools.emajniprovperf.NIProviderThread;
 import com.refinitiv.ema.perftools.emajprovperf.IProviderPerfConfig;
 import com.refinitiv.ema.perftools.emajprovperf.IProviderThread;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 
 import java.io.PrintWriter;
 import java.util.Calendar;
@@ -34,6 +35,7 @@ public class ProviderStats {
     private volatile boolean _exitApp;
     private CountDownLatch _loopExited = new CountDownLatch(1);
     private CountDownLatch _stopped = new CountDownLatch(1);
+    private long histogramIntervalStartTime = System.currentTimeMillis(); // Start of the displayed interval, in msec.
 
     public ProviderStats() {
         this.totalStats = new ProviderThreadStats();
@@ -153,6 +155,7 @@ public class ProviderStats {
         long refreshCount, itemRefreshCount, updateCount, updatePackedMsgCount, requestCount, closeCount, postCount, statusCount, genMsgSentCount, genMsgRecvCount, latencyGenMsgSentCount, latencyGenMsgRecvCount, outOfBuffersCount, msgSentCount, bufferSentCount;
         double processCpuLoad = ResourceUsageStats.currentProcessCpuLoad();
         double memoryUsage = ResourceUsageStats.currentMemoryUsage();
+        long histogramIntervalEndTime = System.currentTimeMillis();
         if (timePassedSec != 0) {
             cpuUsageStatistics.update(processCpuLoad);
             memUsageStatistics.update(memoryUsage);
@@ -270,6 +273,11 @@ public class ProviderStats {
 
                 if (stats.intervalGenMsgLatencyStats().count() > 0) {
                     stats.intervalGenMsgLatencyStats().print("  GenMsgLat(usec)", "Msgs", false);
+                    if (providerThread instanceof IProviderThread && ((IProviderThread) providerThread).histogramLog() != null) {
+                        LatencyHistogramLog histogramLog = ((IProviderThread) providerThread).histogramLog();
+                        histogramLog.write("Gen", histogramIntervalStartTime, histogramIntervalEndTime, stats.intervalGenMsgLatencyStats().histogram());
+                        histogramLog.flush();
+                    }
                     stats.intervalGenMsgLatencyStats().clear();
                 }
 
@@ -284,6 +292,10 @@ public class ProviderStats {
                 }
             }
         }
+
+        if (displayStats) {
+            histogramIntervalStartTime = histogramIntervalEndTime;
+        }
     }
 
     /**
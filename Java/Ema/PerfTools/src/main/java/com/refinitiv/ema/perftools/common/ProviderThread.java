@@ -25,7 +25,7 @@ public abstract class ProviderThread extends Thread {
     public static final int TIM_TRK_3_FID = 3904; // Field TIM_TRK_3 is used to send generic msg latency.
     protected static final int LATENCY_RANDOM_ARRAY_SET_COUNT = 20;
     private static final int TIME_MULTIPLIER = 1000;
-    private static final int TIM_TRK_1_FID = 3902; // Field TIM_TRK_1 is used to send update latency.
+    protected static final int TIM_TRK_1_FID = 3902; // Field TIM_TRK_1 is used to send update latency.
     private static final int TIM_TRK_2_FID = 3903; // Field TIM_TRK_2 is used to send post latency.
     protected final ProviderThreadStats providerThreadStats; //common
     protected final BaseProviderPerfConfig baseConfig; //
@@ -38,7 +38,7 @@ public class ProviderThreadStats {
         genMsgSentCount = new CountStat();
         genMsgRecvCount = new CountStat();
         latencyGenMsgSentCount = new CountStat();
-        intervalGenMsgLatencyStats = new ValueStatistics();
+        intervalGenMsgLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
         genMsgLatencyStats = new ValueStatistics();
         intervalGenMsgLatencyStats.clear();
         genMsgLatencyStats.clear();
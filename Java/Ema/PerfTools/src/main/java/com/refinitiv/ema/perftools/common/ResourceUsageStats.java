@@ -10,6 +10,7 @@ package com.refinitiv.ema.perftools.common;
 
 import java.lang.management.ManagementFactory;
 import com.sun.management.OperatingSystemMXBean;
+import com.sun.management.ThreadMXBean;
 
 /**
  *  Resource Statistics (CPU and Memory Usage).
@@ -20,6 +21,7 @@ public class ResourceUsageStats
     // note: Java 7 (Oracle JDK) introduced the following method for obtaining the current proceses's CPU usage.
     // See http://sellmic.com/blog/2011/07/21/hidden-java-7-features-cpu-load-monitoring/ for details
     private static OperatingSystemMXBean osBean = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+    private static ThreadMXBean threadBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
     
     /**
      *  CPU load of the process.
@@ -45,4 +47,16 @@ public class ResourceUsageStats
     	
     	return (memorySize >= 0 ? memorySize : 0);
     }
+    
+    /**
+     *  Heap allocated so far by the calling thread.
+     *
+     * @return the allocated bytes, or 0 if the JVM does not track thread allocation
+     */
+    public static long currentThreadAllocatedBytes()
+    {
+    	long allocatedBytes = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    	
+    	return (allocatedBytes >= 0 ? allocatedBytes : 0);
+    }
 }
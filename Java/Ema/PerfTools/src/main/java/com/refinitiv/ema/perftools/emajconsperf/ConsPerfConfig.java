@@ -38,6 +38,37 @@ public class ConsPerfConfig
 		}
 	}
 	
+	/*
+	 * Defines how the response payload FieldList is decoded
+	 */
+	public static class PayloadDecodeMode
+	{
+		public static final int COLLECTION = 0;	/* FieldList collection iterator(). */
+		
+		public static final int BY_REF = 1;		/* FieldList iteratorByRef(). */
+		
+		public static final int FILTER = 2;		/* FieldList iteratorByRef() restricted to the latency fields. */
+		
+		public static final int FIND = 3;		/* FieldList find() of each latency field. */
+		
+		public static String convertToString(int decodeMode)
+		{
+			switch(decodeMode)
+			{
+			case COLLECTION:
+				return "collection";
+			case BY_REF:
+				return "byRef";
+			case FILTER:
+				return "filter";
+			case FIND:
+				return "find";
+			default:
+				return "unspecified";
+			}
+		}
+	}
+	
 	private String _configString;
 	private static final int DEFAULT_THREAD_COUNT = 1;
 	private int _maxThreads;
@@ -54,6 +85,7 @@ public class ConsPerfConfig
 
 	private boolean	_logLatencyToFile;		/* Whether to log update latency information to a file. */
 	private String _latencyLogFilename;		/* Name of the latency log file. */
+	private String _histogramLogFilename;	/* Base name of the latency histogram log file. */
 	private String _summaryFilename;		/* Name of the summary log file. */
 	private String _statsFilename;			/* Name of the statistics log file. */
 	private int	_writeStatsInterval;		/* Controls how often statistics are written. */
@@ -79,6 +111,8 @@ public class ConsPerfConfig
 	private boolean _primeJVM;				/* At startup, prime the JVM to optimize code by requesting a snapshot of all items before opening the streaming items. */
 	private boolean _useUserDispatch;          /* Use the EMA  USER_DISPATCH model instead of the EMA API_DISPATCH  model. */
 	private boolean _downcastDecoding;		/* Turn on the EMA data load downcast feature during decoding response payload. */
+	private int _payloadDecodeMode;			/* How the response payload is decoded. See PayloadDecodeMode. */
+	private boolean _decodeStats;			/* Measure time and heap allocation of decoding each response payload. */
 	private int _webSocketSubProtocol;      /* Sub-protocol for the websocket connection. */
 	private String _consumerName;			/* Name of the Consumer component in EmaConfig.xml. See -consumerName. */
 	
@@ -98,6 +132,7 @@ public class ConsPerfConfig
         CommandLine.addOption("itemFile", "350k.xml", "Name of the file to get item names from");
         CommandLine.addOption("msgFile", "MsgData.xml", "Name of the file that specifies the data content in messages");
         CommandLine.addOption("latencyFile", "", "Base name of file for logging latency");
+        CommandLine.addOption("histogramFile", "", "Base name of file for logging interval latency histograms");
         CommandLine.addOption("summaryFile", "ConsSummary.out", "Name of file for logging summary info");
         CommandLine.addOption("statsFile", "ConsStats", "Base name of file for logging periodic statistics");
         CommandLine.addOption("writeStatsInterval", 5, "Controls how often stats are written to the file");
@@ -116,6 +151,8 @@ public class ConsPerfConfig
         CommandLine.addOption("primeJVM", false, "At startup, prime the JVM to optimize code by requesting a snapshot of all items before opening the streaming items");
         CommandLine.addOption("useUserDispatch", false, "Use the EMA USER_DISPATCH model instead of the EMA API_DISPATCH model for sending and receiving");
         CommandLine.addOption("downcastDecoding", false, "Turn on the EMA data load downcast feature during decoding response payload");
+        CommandLine.addOption("decodeMode", "byRef", "How to decode the response payload: \"collection\" (iterator()), \"byRef\" (iteratorByRef()), \"filter\" (iteratorByRef() of the latency fields only) or \"find\" (find() of the latency fields only)");
+        CommandLine.addOption("decodeStats", false, "Measure the average time and heap allocation of decoding a response payload");
         CommandLine.addOption("keyfile", "", "Keystore file location and name");
         CommandLine.addOption("keypasswd", "", "Keystore password");
         CommandLine.addOption("consumerName", "", "Name of the Consumer component in config file EmaConfig.xml that will be usd to configure connection.");
@@ -154,6 +191,7 @@ public class ConsPerfConfig
     	_itemFilename = CommandLine.value("itemFile");
     	_logLatencyToFile = false;
     	_latencyLogFilename = CommandLine.value("latencyFile");
+    	_histogramLogFilename = CommandLine.value("histogramFile");
     	_summaryFilename = CommandLine.value("summaryFile");
     	_statsFilename = CommandLine.value("statsFile");
     	_username = CommandLine.value("uname");
@@ -164,6 +202,7 @@ public class ConsPerfConfig
     	_primeJVM = CommandLine.booleanValue("primeJVM");
     	_useUserDispatch = CommandLine.booleanValue("useUserDispatch");
         _downcastDecoding = CommandLine.booleanValue("downcastDecoding");
+        _decodeStats = CommandLine.booleanValue("decodeStats");
         _keyfile = CommandLine.value("keyfile");
         _keypasswd = CommandLine.value("keypasswd");
 		_securityProvider = CommandLine.value("securityProvider");
@@ -195,6 +234,27 @@ public class ConsPerfConfig
         	}
         }
         
+        String decodeModeStr = CommandLine.value("decodeMode");
+        switch(decodeModeStr)
+        {
+        case "collection":
+        	_payloadDecodeMode = PayloadDecodeMode.COLLECTION;
+        	break;
+        case "byRef":
+        	_payloadDecodeMode = PayloadDecodeMode.BY_REF;
+        	break;
+        case "filter":
+        	_payloadDecodeMode = PayloadDecodeMode.FILTER;
+        	break;
+        case "find":
+        	_payloadDecodeMode = PayloadDecodeMode.FIND;
+        	break;
+        default:
+        	System.err.println("Config Error: Invalid decode mode " + decodeModeStr);
+        	System.out.println(CommandLine.optionHelpString());
+        	System.exit(-1);
+        }
+        
         _consumerName = CommandLine.value("consumerName");
 
         // Set TLS versions based on arguments, or TLS 1.2 and 1.3 by default
@@ -388,9 +448,12 @@ public class ConsPerfConfig
 				"            Summary File: " + _summaryFilename + "\n" +
 				"              Stats File: " + _statsFilename + "\n" +
 				"        Latency Log File: " + (_latencyLogFilename.length() > 0 ? _latencyLogFilename : "(none)") + "\n" +
+				"      Histogram Log File: " + (_histogramLogFilename.length() > 0 ? _histogramLogFilename : "(none)") + "\n" +
 				"               Tick Rate: " + _ticksPerSec + "\n" +
 				"               Prime JVM: " + (_primeJVM ? "Yes" : "No") + "\n" +
 				"        DowncastDecoding: " + (_downcastDecoding ? "True" : "False") + "\n" +
+				"             Decode Mode: " + PayloadDecodeMode.convertToString(_payloadDecodeMode) + "\n" +
+				"            Decode Stats: " + (_decodeStats ? "Yes" : "No") + "\n" +
 				"    OperationModel Usage: " + useOperationModelUsageString + "\n" +
 				"      Websocket protocol: " + WebSocketSubProtocol.convertToString(_webSocketSubProtocol) + "\n" +
 				"       Security Protocol: " + _securityProtocol + "\n" +
@@ -480,6 +543,26 @@ public class ConsPerfConfig
 	{
 		return _latencyLogFilename;
 	}
+
+	/**
+	 *  Whether to log interval latency histograms to a file.
+	 *
+	 * @return true, if successful
+	 */
+	public boolean logHistogramsToFile()
+	{
+		return _histogramLogFilename.length() > 0;
+	}
+
+	/**
+	 *  Base name of the latency histogram log file.
+	 *
+	 * @return the string
+	 */
+	public String histogramLogFilename()
+	{
+		return _histogramLogFilename;
+	}
 	
 	/**
 	 *  Name of the summary log file.
@@ -691,6 +774,26 @@ public class ConsPerfConfig
         return _downcastDecoding;
     }
     
+    /**
+     *  How the response payload is decoded.
+     *
+     * @return the decode mode, see {@link PayloadDecodeMode}
+     */
+    public int payloadDecodeMode()
+    {
+        return _payloadDecodeMode;
+    }
+    
+    /**
+     *  Measure time and heap allocation of decoding each response payload.
+     *
+     * @return true, if successful
+     */
+    public boolean decodeStats()
+    {
+        return _decodeStats;
+    }
+    
     /** 
      * keyfile
      * @return keyfile
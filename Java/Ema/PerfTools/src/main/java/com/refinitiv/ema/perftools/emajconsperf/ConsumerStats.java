@@ -31,6 +31,9 @@ public class ConsumerStats
     private CountStat		_genMsgRecvCount;           /* Number of generic msgs received. */
     private CountStat		_latencyGenMsgSentCount;	/* Number of latency generic mesgs sent. */
     private CountStat		_genMsgOutOfBuffersCount;	/* Number of generic msgs not sent due to lack of buffers. */
+    private CountStat		_decodeCount;				/* Number of payloads measured while decoding. */
+    private CountStat		_decodeTime;				/* Time spent decoding measured payloads (nanoseconds). */
+    private CountStat		_decodeAllocatedBytes;		/* Heap allocated while decoding measured payloads. */
 	private ValueStatistics	_intervalLatencyStats;		/* Latency statistics (recorded by stats thread). */
 	private ValueStatistics	_intervalPostLatencyStats;	/* Post latency statistics (recorded by stats thread). */
 	private ValueStatistics	_intervalGenMsgLatencyStats;	/* Generic msg latency statistics (recorded by stats thread). */
@@ -56,9 +59,12 @@ public class ConsumerStats
         _genMsgRecvCount = new CountStat();
         _latencyGenMsgSentCount = new CountStat();
         _genMsgOutOfBuffersCount = new CountStat();
-		_intervalLatencyStats = new ValueStatistics();
-		_intervalPostLatencyStats = new ValueStatistics();
-		_intervalGenMsgLatencyStats = new ValueStatistics();
+        _decodeCount = new CountStat();
+        _decodeTime = new CountStat();
+        _decodeAllocatedBytes = new CountStat();
+		_intervalLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
+		_intervalPostLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
+		_intervalGenMsgLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
 		_startupLatencyStats = new ValueStatistics();
 		_steadyStateLatencyStats = new ValueStatistics();
 		_overallLatencyStats = new ValueStatistics();
@@ -325,6 +331,36 @@ public class ConsumerStats
 	{
 		_genMsgOutOfBuffersCount = genMsgOutOfBuffersCount;
 	}
+
+	/**
+	 *  Number of payloads measured while decoding.
+	 *
+	 * @return the count stat
+	 */
+	public CountStat decodeCount()
+	{
+		return _decodeCount;
+	}
+
+	/**
+	 *  Time spent decoding measured payloads, in nanoseconds.
+	 *
+	 * @return the count stat
+	 */
+	public CountStat decodeTime()
+	{
+		return _decodeTime;
+	}
+
+	/**
+	 *  Heap allocated while decoding measured payloads, in bytes.
+	 *
+	 * @return the count stat
+	 */
+	public CountStat decodeAllocatedBytes()
+	{
+		return _decodeAllocatedBytes;
+	}
 	
 	/**
 	 *  Number of generic msgs sent.
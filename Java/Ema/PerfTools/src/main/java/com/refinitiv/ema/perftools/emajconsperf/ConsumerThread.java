@@ -16,6 +16,7 @@ import com.refinitiv.ema.access.*;
 import com.refinitiv.ema.access.OmmConsumerConfig.OperationModel;
 import com.refinitiv.ema.perftools.common.*;
 import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 
 /** Provides the logic that consumer connections use in emajConsPerf for
   * connecting to a provider, requesting items, and processing the received
@@ -118,6 +119,21 @@ public class ConsumerThread implements Runnable, OmmConsumerClient
 			_consThreadInfo.latencyLogFileWriter().println("Message type, Send Time, Receive Time, Latency (usec)\n");
 		}
 
+		// create latency histogram log for this thread
+		if (_consPerfConfig.logHistogramsToFile())
+		{
+			File histogramFile = new File(_consPerfConfig.histogramLogFilename() + _consThreadInfo.threadId() + ".hlog");
+			try
+			{
+				_consThreadInfo.histogramLog(new LatencyHistogramLog(new PrintWriter(histogramFile), "nsec"));
+			}
+			catch (FileNotFoundException e)
+			{
+				System.out.printf("Error: Failed to open latency histogram log file '%s'.\n", histogramFile.getName());
+				System.exit(-1);
+			}
+		}
+
 		// create stats file writer for this thread 
 		_consThreadInfo.statsFile(new File(_consPerfConfig.statsFilename() + _consThreadInfo.threadId() + ".csv"));
 		try
@@ -672,13 +688,28 @@ public class ConsumerThread implements Runnable, OmmConsumerClient
     	return;    	
     }
 
+	/* Decodes the response payload, measuring the decode time and allocation when decodeStats is set. */
+	private boolean decodePayload(Msg msg)
+	{
+		if (!_consPerfConfig.decodeStats())
+			return _marketPriceDecoder.decodeResponse(msg, msg.payload().fieldList(), _consThreadInfo, _consPerfConfig.downcastDecoding(), _consPerfConfig.payloadDecodeMode());
+		
+		long allocatedBytes = ResourceUsageStats.currentThreadAllocatedBytes();
+		long startTime = System.nanoTime();
+		boolean ret = _marketPriceDecoder.decodeResponse(msg, msg.payload().fieldList(), _consThreadInfo, _consPerfConfig.downcastDecoding(), _consPerfConfig.payloadDecodeMode());
+		_consThreadInfo._stats.decodeTime().add(System.nanoTime() - startTime);
+		_consThreadInfo._stats.decodeAllocatedBytes().add(ResourceUsageStats.currentThreadAllocatedBytes() - allocatedBytes);
+		_consThreadInfo._stats.decodeCount().increment();
+		return ret;
+	}
+
 	@Override
 	public void onRefreshMsg(com.refinitiv.ema.access.RefreshMsg refreshMsg, OmmConsumerEvent consumerEvent)
 	{
     		_consThreadInfo._stats.refreshCount().increment();
     		
     		//If we are still retrieving images, check if this item still needs one.
-			if(!_marketPriceDecoder.decodeResponse(refreshMsg, refreshMsg.payload().fieldList(), _consThreadInfo, _consPerfConfig.downcastDecoding()))
+			if(!decodePayload(refreshMsg))
 			{
 				shutdownConsumer("Decoding failure");
         		return;
@@ -760,7 +791,7 @@ public class ConsumerThread implements Runnable, OmmConsumerClient
 		}
 		if (_consThreadInfo._stats.firstUpdateTime() == 0)
 			_consThreadInfo._stats.firstUpdateTime(System.nanoTime());
-		if(!_marketPriceDecoder.decodeResponse(updateMsg, updateMsg.payload().fieldList(), _consThreadInfo, _consPerfConfig.downcastDecoding()))
+		if(!decodePayload(updateMsg))
 		{
 			shutdownConsumer("Decoding failure");
     		return;
@@ -787,7 +818,7 @@ public class ConsumerThread implements Runnable, OmmConsumerClient
 
 	@Override
 	public void onGenericMsg(GenericMsg genericMsg, OmmConsumerEvent consumerEvent) {
-		if(!_marketPriceDecoder.decodeResponse(genericMsg, genericMsg.payload().fieldList(), _consThreadInfo, _consPerfConfig.downcastDecoding()))
+		if(!decodePayload(genericMsg))
 		{
 			shutdownConsumer("Decoding failure");
 			return;
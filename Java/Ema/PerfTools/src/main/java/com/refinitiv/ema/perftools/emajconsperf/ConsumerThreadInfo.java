@@ -13,6 +13,7 @@ import java.io.PrintWriter;
 
 import com.refinitiv.ema.perftools.common.TimeRecord;
 import com.refinitiv.ema.perftools.common.TimeRecordQueue;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 
 /** Contains information about a consumer thread and its connection. */
 public class ConsumerThreadInfo
@@ -31,6 +32,7 @@ public class ConsumerThreadInfo
 	private PrintWriter	_statsFileWriter;			/* File writer for logging stats for this connection. */
 	private File	_latencyLogFile;			/* File for logging latency for this connection. */
 	private PrintWriter	_latencyLogFileWriter;		/* File writer for logging latency for this connection. */
+	private LatencyHistogramLog	_histogramLog;		/* Log of interval latency histograms for this connection. */
 	private volatile boolean	_shutdown;					/* Signals thread to shutdown. */
 	private volatile boolean	_shutdownAck;				/* Acknowledges thread is shutdown. */
 	
@@ -223,6 +225,26 @@ public class ConsumerThreadInfo
 		_latencyLogFileWriter = value;
 	}
 
+	/**
+	 *  Log of interval latency histograms for this connection.
+	 *
+	 * @return the histogram log, or null if histograms are not logged
+	 */
+	public LatencyHistogramLog histogramLog()
+	{
+		return _histogramLog;
+	}
+
+	/**
+	 *  Log of interval latency histograms for this connection.
+	 *
+	 * @param value the value
+	 */
+	public void histogramLog(LatencyHistogramLog value)
+	{
+		_histogramLog = value;
+	}
+
 	/**
 	 *  Submit a time record.
 	 *
@@ -303,5 +325,7 @@ public class ConsumerThreadInfo
 			statsFileWriter().close();
 		if (latencyLogFileWriter() != null)
 			latencyLogFileWriter().close();
+		if (histogramLog() != null)
+			histogramLog().close();
 	}
 }
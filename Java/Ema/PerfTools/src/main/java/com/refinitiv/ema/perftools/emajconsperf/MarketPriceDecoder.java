@@ -33,6 +33,7 @@ import com.refinitiv.ema.access.OmmTime;
 import com.refinitiv.ema.access.OmmUInt;
 import com.refinitiv.ema.access.OmmUtf8;
 import com.refinitiv.ema.perftools.common.PostUserInfo;
+import com.refinitiv.ema.perftools.emajconsperf.ConsPerfConfig.PayloadDecodeMode;
 import com.refinitiv.ema.access.RefreshMsg;
 import com.refinitiv.ema.access.UpdateMsg;
 
@@ -44,6 +45,7 @@ public class MarketPriceDecoder
 	private static final int TIM_TRK_1_FID = 3902; /* Field TIM_TRK_1 is used to send update latency. */
 	private static final int TIM_TRK_2_FID = 3903; /* Field TIM_TRK_2 is used to send post latency. */
     private static final int TIM_TRK_3_FID = 3904; /* Field TIM_TRK_3 is used to send post latency. */
+    private static final int[] LATENCY_FIDS = { TIM_TRK_1_FID, TIM_TRK_2_FID, TIM_TRK_3_FID }; /* Fields decoded by the filter decode mode. */
 
     private FieldEntry _fEntry; /* field entry */
     private OmmUInt _fidUIntValue; /* storage for UInt */
@@ -97,6 +99,21 @@ public class MarketPriceDecoder
      * @return true, if successful
      */
 	public boolean decodeResponse(Msg msg, FieldList fieldList, ConsumerThreadInfo _consThreadInfo, boolean downcastDecoding)
+	{
+		return decodeResponse(msg, fieldList, _consThreadInfo, downcastDecoding, PayloadDecodeMode.BY_REF);
+	}
+
+    /**
+     *  Decode the update.
+     *
+     * @param msg the EMA msg
+     * @param fieldList the field list
+     * @param _consThreadInfo the cons thread info
+     * @param downcastDecoding the downcast decoding
+     * @param decodeMode how the field list is decoded, see {@link PayloadDecodeMode}
+     * @return true, if successful
+     */
+	public boolean decodeResponse(Msg msg, FieldList fieldList, ConsumerThreadInfo _consThreadInfo, boolean downcastDecoding, int decodeMode)
 	{
 		long timeTracker = 0;
 		long postTimeTracker = 0;
@@ -106,10 +123,22 @@ public class MarketPriceDecoder
 		{
     		
 			/* decode field list */
-	        Iterator<FieldEntry> iter = fieldList.iteratorByRef();
-	        
-	        if (downcastDecoding)
+	        if (decodeMode == PayloadDecodeMode.FIND)
+	        {
+	        	/* decode only the latency fields, leaving the rest of the payload undecoded */
+				if (msg.dataType() == DataTypes.UPDATE_MSG)
+				{
+					timeTracker = latencyFieldValue(fieldList, TIM_TRK_1_FID);
+					postTimeTracker = latencyFieldValue(fieldList, TIM_TRK_2_FID);
+				}
+				else if(msg.dataType() == DataTypes.GENERIC_MSG)
+				{
+				    genMsgTimeTracker = latencyFieldValue(fieldList, TIM_TRK_3_FID);
+				}
+	        }
+	        else if (downcastDecoding)
 	        {
+	        	Iterator<FieldEntry> iter = fieldIterator(fieldList, decodeMode);
 				while (iter.hasNext())
 				{
 					_fEntry =  iter.next();
@@ -184,6 +213,7 @@ public class MarketPriceDecoder
 			}
 	        else
 	        {
+	        	Iterator<FieldEntry> iter = fieldIterator(fieldList, decodeMode);
 	        	while (iter.hasNext())
 				{
 					_fEntry =  iter.next();
@@ -273,6 +303,30 @@ public class MarketPriceDecoder
 		return true;
 	}
 
+	/* Iterator over the field list entries for the given decode mode. */
+	private Iterator<FieldEntry> fieldIterator(FieldList fieldList, int decodeMode)
+	{
+		switch (decodeMode)
+		{
+			case PayloadDecodeMode.COLLECTION:
+				return fieldList.iterator();
+			case PayloadDecodeMode.FILTER:
+				return fieldList.iteratorByRef(LATENCY_FIDS);
+			default:
+				return fieldList.iteratorByRef();
+		}
+	}
+
+	/* Value of a latency field, or 0 if the field list does not have it. */
+	private long latencyFieldValue(FieldList fieldList, int fieldId)
+	{
+		_fEntry = fieldList.find(fieldId);
+		if (_fEntry == null || _fEntry.code() != Data.DataCode.NO_CODE || _fEntry.loadType() != DataTypes.UINT)
+			return 0;
+		
+		return _fEntry.uintValue();
+	}
+
 	/* Checks for PostUserInfo. */
 	private boolean checkPostUserInfo(Msg msg)
 	{
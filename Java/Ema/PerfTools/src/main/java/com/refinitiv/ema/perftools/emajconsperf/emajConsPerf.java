@@ -101,6 +101,7 @@ public class emajConsPerf implements ShutdownCallback
 	// run-time tracking  
 	private long _currentTime, _endTime;
 	private int _currentRuntimeSec = 0, _intervalSeconds = 0;
+	private long _histogramIntervalStartTime = System.currentTimeMillis(); // start of the displayed interval, in msec
 
 	// Logs summary information, such as application inputs and final statistics. 
 	private File _summaryFile = null;
@@ -457,6 +458,16 @@ public class emajConsPerf implements ShutdownCallback
 		else
 			fileWriter.printf("  No GenMsg latency information was received.\n");
 
+		if (_totalStats.decodeCount().getTotal() > 0)
+		{
+			fileWriter.printf("  Payloads decoded (%s): %d\n", ConsPerfConfig.PayloadDecodeMode.convertToString(_consPerfConfig.payloadDecodeMode()),
+					_totalStats.decodeCount().getTotal());
+			fileWriter.printf("  Payload decode avg (usec): %.3f\n",
+					_totalStats.decodeTime().getTotal() / 1000.0 / _totalStats.decodeCount().getTotal());
+			fileWriter.printf("  Payload decode allocation avg (bytes): %.1f\n",
+					(double)_totalStats.decodeAllocatedBytes().getTotal() / _totalStats.decodeCount().getTotal());
+		}
+
 		if (_cpuUsageStats.count() > 0)
 		{
 			fileWriter.printf("  CPU/Memory Samples: %d\n", _cpuUsageStats.count());
@@ -711,6 +722,13 @@ public class emajConsPerf implements ShutdownCallback
 		}
 	}
 
+	/* Writes the histogram of interval latency statistics to the histogram log of a consumer thread, if any. */
+	private void logIntervalHistogram(ConsumerThreadInfo consumerThread, String tag, ValueStatistics intervalStats, long intervalEndTime)
+	{
+		if (consumerThread.histogramLog() != null)
+			consumerThread.histogramLog().write(tag, _histogramIntervalStartTime, intervalEndTime, intervalStats.histogram());
+	}
+
 	/* Collect statistics. */
 	private void collectStats(boolean writeStats, boolean displayStats, int currentRuntimeSec) 
 	{
@@ -722,6 +740,7 @@ public class emajConsPerf implements ShutdownCallback
 
 		double processCpuLoad = ResourceUsageStats.currentProcessCpuLoad();
 		double memoryUsage = ResourceUsageStats.currentMemoryUsage();
+		long histogramIntervalEndTime = System.currentTimeMillis();
 		
 		_cpuUsageStats.update(processCpuLoad);
 		_memUsageStats.update(memoryUsage);
@@ -781,6 +800,9 @@ public class emajConsPerf implements ShutdownCallback
                 _totalStats.genMsgRecvCount().add(genMsgRecvCount);
                 _totalStats.latencyGenMsgSentCount().add(latencyGenMsgSentCount);
                 _totalStats.genMsgOutOfBuffersCount().add(genMsgOutOfBuffersCount);
+                _totalStats.decodeCount().add(_consumerThreadsInfo[i].stats().decodeCount().getChange());
+                _totalStats.decodeTime().add(_consumerThreadsInfo[i].stats().decodeTime().getChange());
+                _totalStats.decodeAllocatedBytes().add(_consumerThreadsInfo[i].stats().decodeAllocatedBytes().getChange());
 			}
 
 			if (writeStats)
@@ -831,6 +853,7 @@ public class emajConsPerf implements ShutdownCallback
 				if (_consumerThreadsInfo[i].stats().intervalLatencyStats().count() > 0)
 				{
 					_consumerThreadsInfo[i].stats().intervalLatencyStats().print("  Latency(usec)", "Msgs", false);
+					logIntervalHistogram(_consumerThreadsInfo[i], "Upd", _consumerThreadsInfo[i].stats().intervalLatencyStats(), histogramIntervalEndTime);
 					_consumerThreadsInfo[i].stats().intervalLatencyStats().clear();
 				}
 
@@ -841,6 +864,7 @@ public class emajConsPerf implements ShutdownCallback
 				if (_consumerThreadsInfo[i].stats().intervalPostLatencyStats().count() > 0)
 				{
 					_consumerThreadsInfo[i].stats().intervalPostLatencyStats().print("  PostLat(usec)", "Msgs", false);
+					logIntervalHistogram(_consumerThreadsInfo[i], "Pst", _consumerThreadsInfo[i].stats().intervalPostLatencyStats(), histogramIntervalEndTime);
 					_consumerThreadsInfo[i].stats().intervalPostLatencyStats().clear();
 				}
 
@@ -853,6 +877,7 @@ public class emajConsPerf implements ShutdownCallback
 				if (_consumerThreadsInfo[i].stats().intervalGenMsgLatencyStats().count() > 0)
 				{
 					_consumerThreadsInfo[i].stats().intervalGenMsgLatencyStats().print("  GenMsgLat(usec)", "Msgs", false);
+					logIntervalHistogram(_consumerThreadsInfo[i], "Gen", _consumerThreadsInfo[i].stats().intervalGenMsgLatencyStats(), histogramIntervalEndTime);
 					_consumerThreadsInfo[i].stats().intervalGenMsgLatencyStats().clear();
 				}
 				
@@ -860,6 +885,9 @@ public class emajConsPerf implements ShutdownCallback
 					System.out.printf("  - Received %d status messages.\n", statusCount);
 			}
 
+			if (displayStats && _consumerThreadsInfo[i].histogramLog() != null)
+				_consumerThreadsInfo[i].histogramLog().flush();
+
 			/* Get Image Retrieval time for this client. */
 			if (getClientImageRetrievalTime(_consumerThreadsInfo[i], displayStats) == false)
 			{
@@ -895,6 +923,9 @@ public class emajConsPerf implements ShutdownCallback
 				_totalStats.steadyStateLatencyTime(_totalStats.imageRetrievalEndTime() + _consPerfConfig.delaySteadyStateCalc() * 1000000L);
 			}
 		}
+
+		if (displayStats)
+			_histogramIntervalStartTime = histogramIntervalEndTime;
 	}
 
 	/* Collect update statistics. */
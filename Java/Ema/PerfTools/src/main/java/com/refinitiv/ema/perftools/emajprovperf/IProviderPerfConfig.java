@@ -25,6 +25,8 @@ public class IProviderPerfConfig extends BaseProviderPerfConfig {
 
     private String latencyFilename;          // Latency file
     private boolean logLatencyToFile;
+    private String histogramFilename;        // Latency histogram file
+    private boolean useFanout;               // Send each update to all clients of the item with one fanout submit
 
     {
         CommandLine.addOption("latencyUpdateRate", 10, "Latency update rate per second (can specify \"all\" to send latency in every update");
@@ -32,6 +34,8 @@ public class IProviderPerfConfig extends BaseProviderPerfConfig {
         CommandLine.addOption("genericMsgLatencyRate", 0, "Latency Generic Msg rate per second (can specify \"all\" to send latency in every generic msg");
 
         CommandLine.addOption("latencyFile", "IProvLatency.out", "name of file for logging latency info.");
+        CommandLine.addOption("histogramFile", "", "Base name of file for logging interval latency histograms");
+        CommandLine.addOption("fanout", false, "Encode each update once and send it to all clients that requested the item");
     }
 
     @Override
@@ -41,6 +45,8 @@ public class IProviderPerfConfig extends BaseProviderPerfConfig {
         statsFilename = CommandLine.value("statsFile");
         latencyFilename = CommandLine.value("latencyFile");
         logLatencyToFile = latencyFilename != null && !latencyFilename.isEmpty();
+        histogramFilename = CommandLine.value("histogramFile");
+        useFanout = CommandLine.booleanValue("fanout");
         genMsgsPerSec = CommandLine.intValue("genericMsgRate");
 
         final String latencyGenMsgRate = CommandLine.value("genericMsgLatencyRate");
@@ -75,10 +81,12 @@ public class IProviderPerfConfig extends BaseProviderPerfConfig {
                 "                 Threads: " + threadCount + "\n" +
                 "            Summary File: " + summaryFilename + "\n" +
                 "        Latency Log File: " + ((latencyFilename == null || latencyFilename.isEmpty()) ? "(none)" : latencyFilename + "\n") +
+                "      Histogram Log File: " + ((histogramFilename == null || histogramFilename.isEmpty()) ? "(none)" : histogramFilename) + "\n" +
                 "    Write Stats Interval: " + writeStatsInterval + "\n" +
                 "           Display Stats: " + (displayStats ? "Yes" : "No") + "\n" +
                 "               Tick Rate: " + ticksPerSec + "\n" +
                 "             Update Rate: " + updatesPerSec + "\n" +
+                "                  Fanout: " + (useFanout ? "Yes" : "No") + "\n" +
                 "     Latency Update Rate: " + latencyUpdateRate + "\n" +
                 "        Generic Msg Rate: " + genMsgsPerSec + "\n" +
                 "Latency Generic Msg Rate: " + latencyGenMsgRate + "\n" +
@@ -120,6 +128,33 @@ public class IProviderPerfConfig extends BaseProviderPerfConfig {
         return latencyFilename;
     }
 
+    /**
+     * Whether to log interval latency histograms to a file.
+     *
+     * @return true, if successful
+     */
+    public boolean logHistogramsToFile() {
+        return histogramFilename != null && !histogramFilename.isEmpty();
+    }
+
+    /**
+     * Base name of the latency histogram log file.
+     *
+     * @return the string
+     */
+    public String histogramFilename() {
+        return histogramFilename;
+    }
+
+    /**
+     * Whether each update is encoded once and sent to all clients that requested the item.
+     *
+     * @return true, if updates are fanned out
+     */
+    public boolean useFanout() {
+        return useFanout;
+    }
+
     /**
      * updates per second.
      *
@@ -13,6 +13,7 @@ import com.refinitiv.ema.perftools.common.ItemInfo;
 import com.refinitiv.ema.perftools.common.ItemWatchList;
 import com.refinitiv.ema.perftools.common.*;
 import com.refinitiv.ema.rdm.EmaRdm;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 
 import java.util.Map;
 import java.util.*;
@@ -20,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 import static com.refinitiv.ema.perftools.common.LogFileHelper.initFile;
 import static com.refinitiv.ema.perftools.common.LogFileHelper.writeFile;
@@ -37,9 +39,14 @@ public class IProviderThread extends ProviderThread {
     private final Set<ItemInfo> closedItems;
     private final Set<Long> closedClients;
 
+    private final Map<String, FanoutItem> fanoutItems;   // streams of each item, when updates are fanned out
+    private final List<FanoutItem> fanoutItemList;
+    private int fanoutIndex;
+
     private final GenericMsg genericMsg;
 
     private LogFileInfo latencyFile;
+    private LatencyHistogramLog histogramLog;
     private ProviderPerfClient client;
     private boolean connected;
 
@@ -51,6 +58,8 @@ public class IProviderThread extends ProviderThread {
         this.generics = new ItemWatchList(MSG_STORE_CAPACITY);
         this.closedItems = new HashSet<>(MSG_STORE_CAPACITY);
         this.closedClients = new HashSet<>(100);
+        this.fanoutItems = new HashMap<>();
+        this.fanoutItemList = new ArrayList<>();
         this.genericMsg = EmaFactory.createGenericMsg();
         this.clientLock = new ReentrantLock();
         this.connectionCondition = clientLock.newCondition();
@@ -77,6 +86,11 @@ public class IProviderThread extends ProviderThread {
             this.latencyFile = initFile(config.latencyFilename() + providerIndex + ".csv");
             writeFile(latencyFile, "Message type, Send time, Receive time, Latency (usec)\n");
         }
+
+        // Open latency histogram log if configured.
+        if (config.logHistogramsToFile()) {
+            this.histogramLog = new LatencyHistogramLog(initFile(config.histogramFilename() + providerIndex + ".hlog").writer(), "nsec");
+        }
     }
 
     @Override
@@ -119,7 +133,11 @@ public class IProviderThread extends ProviderThread {
 
     @Override
     protected void executeMsgBurst(long nextTime) throws OmmInvalidUsageException {
-        if (!this.updates.isEmpty()) {
+        if (config.useFanout()) {
+            if (!this.fanoutItemList.isEmpty()) {
+                sendFanoutUpdateMessages();
+            }
+        } else if (!this.updates.isEmpty()) {
             sendUpdateMessages();
         }
         if (!this.generics.isEmpty()) {
@@ -143,11 +161,107 @@ public class IProviderThread extends ProviderThread {
     @Override
     protected void handleRefresh(ItemInfo itemInfo) {
         if ((itemInfo.itemFlags() & ItemFlags.IS_STREAMING_REQ) != 0) {
-            updates.add(itemInfo);
+            if (config.useFanout()) {
+                addFanoutStream(itemInfo);
+            } else {
+                updates.add(itemInfo);
+            }
             generics.add(itemInfo);
         }
     }
 
+    private void addFanoutStream(ItemInfo itemInfo) {
+        FanoutItem fanoutItem = fanoutItems.get(itemInfo.attributes().name());
+        if (fanoutItem == null) {
+            fanoutItem = new FanoutItem();
+            fanoutItems.put(itemInfo.attributes().name(), fanoutItem);
+            fanoutItemList.add(fanoutItem);
+        }
+        fanoutItem.streams.add(itemInfo);
+        fanoutItem.handles = null;
+    }
+
+    private void removeFanoutStreams(Predicate<ItemInfo> closed) {
+        for (FanoutItem fanoutItem : fanoutItemList) {
+            if (fanoutItem.streams.removeIf(closed)) {
+                fanoutItem.handles = null;
+            }
+        }
+    }
+
+    /**
+     * Sends updates as sendUpdateMessages() does, but sends each update to all streams
+     * of its item with one submit, so it is encoded once rather than once per client.
+     * Each update counts once for every stream it is sent on, so the update rate
+     * is the same in both modes.
+     */
+    private void sendFanoutUpdateMessages() {
+        int updatesLeft = config.updatesPerTick();
+        int updatesPerTickReminder = config.updatesPerTickRemainder();
+        if (updatesPerTickReminder > currentTicks) {
+            ++updatesLeft;
+        }
+        int latencyUpdateNumber = config.latencyUpdateRate() > 0 ? updateLatencyRandomArray.next() : -1;
+        boolean setLatency = false;
+        FanoutItem fanoutItem = null;
+        try {
+            int emptyItems = 0;
+            while (updatesLeft > 0 && emptyItems < fanoutItemList.size()) {
+                if (fanoutIndex >= fanoutItemList.size()) {
+                    fanoutIndex = 0;
+                }
+                fanoutItem = fanoutItemList.get(fanoutIndex++);
+                if (fanoutItem.streams.isEmpty()) {
+                    ++emptyItems;
+                    continue;
+                }
+                emptyItems = 0;
+
+                final ItemInfo itemInfo = fanoutItem.streams.get(0);
+                final int streamCount = fanoutItem.streams.size();
+                updateMsg.clear();
+                this.prepareUpdateMsg(itemInfo);
+
+                switch (itemInfo.attributes().domainType()) {
+                    case EmaRdm.MMT_MARKET_PRICE:
+                        ItemData itemData = (ItemData) itemInfo.itemData();
+                        int index = itemData.getNextIndex();
+                        if (itemData.getNextIndex() == xmlMsgData.marketPriceUpdateMsgCount()) {
+                            index = 0;
+                        }
+                        setLatency = config.latencyUpdateRate() == BaseProviderPerfConfig.ALWAYS_SEND_LATENCY_UPDATE
+                                || (latencyUpdateNumber >= updatesLeft - streamCount && latencyUpdateNumber < updatesLeft);
+                        updateMsg.payload(createMarketPricePayload(xmlMsgData.marketPriceUpdateMsgs()[index], TIM_TRK_1_FID, setLatency));
+                        itemData.setNextIndex(++index);
+                        break;
+                    default:
+                        return;
+                }
+
+                this.provider.submit(updateMsg, fanoutItem.handles());
+                this.providerThreadStats.updateCount().add(streamCount);
+                this.providerThreadStats.updatePackedMsgCount().add(streamCount);
+                updatesLeft -= streamCount;
+            }
+
+            if (++currentTicks > this.config.ticksPerSec()) {
+                currentTicks = 0;
+            }
+        } catch (OmmInvalidUsageException e) {
+            if (e.errorCode() == OmmInvalidUsageException.ErrorCode.NO_BUFFERS) {
+                this.providerThreadStats.outOfBuffersCount().add(updatesLeft);
+                return;
+            }
+            if (e.errorCode() == OmmInvalidUsageException.ErrorCode.INVALID_ARGUMENT && fanoutItem != null) {
+                // a stream of the item was closed, it is sent to the other streams next time
+                fanoutItem.streams.removeIf(itemInfo -> !isActiveStream(itemInfo));
+                fanoutItem.handles = null;
+                return;
+            }
+            throw e;
+        }
+    }
+
     @Override
     protected boolean sendMsg(Msg msg, ItemInfo itemInfo) {
         try {
@@ -256,6 +370,7 @@ public class IProviderThread extends ProviderThread {
         try {
             clientLock.lock();
             this.itemHandles.entrySet().removeIf(e -> closedItems.contains(e.getValue()));
+            removeFanoutStreams(closedItems::contains);
             this.refreshes.removeIf(closedItems::contains);
             this.generics.removeItems(this.closedItems);
             this.updates.removeItems(this.closedItems);
@@ -272,6 +387,7 @@ public class IProviderThread extends ProviderThread {
             refreshes.removeIf((e) -> closedClients.contains(e.clientHandle()));
             updates.removeItemsForClients(closedClients);
             generics.removeItemsForClients(closedClients);
+            removeFanoutStreams(itemInfo -> closedClients.contains(itemInfo.clientHandle()));
             Iterator<Map.Entry<Long, ItemInfo>> entries = itemHandles.entrySet().iterator();
             while (entries.hasNext()) {
                 Map.Entry<Long, ItemInfo> infoEntry = entries.next();
@@ -306,11 +422,36 @@ public class IProviderThread extends ProviderThread {
         return latencyFile;
     }
 
+    public LatencyHistogramLog histogramLog() {
+        return histogramLog;
+    }
+
+    /**
+     * Open streams of an item, to which updates of the item are fanned out.
+     */
+    private static class FanoutItem {
+        final List<ItemInfo> streams = new ArrayList<>();
+        long[] handles;     // handles of the streams, built again when the streams change
+
+        long[] handles() {
+            if (handles == null) {
+                handles = new long[streams.size()];
+                for (int i = 0; i < handles.length; i++) {
+                    handles[i] = streams.get(i).itemHandle();
+                }
+            }
+            return handles;
+        }
+    }
+
     @Override
     public void clear() {
         super.clear();
         if (latencyFile.supportedWriting()) {
             latencyFile.writer().close();
         }
+        if (histogramLog != null) {
+            histogramLog.close();
+        }
     }
 }
@@ -34,6 +34,7 @@ public class Provider
   
     private ValueStatistics          _cpuUsageStats;                     // Sampled CPU statistics. 
     private ValueStatistics          _memUsageStats;                     // Sampled memory usage statistics.
+    private long                     _histogramIntervalStartTime = System.currentTimeMillis(); // Start of the displayed interval, in msec.
     
     private CountStat                _refreshCount;                      // Counts refreshes sent (for all provider threads).
     private CountStat                _updateCount;                       // Counts updates sent (for all provider threads).
@@ -194,6 +195,7 @@ public class Provider
         long refreshCount, updateCount, requestCount, closeCount, postCount, genMsgSentCount, genMsgRecvCount, latencyGenMsgSentCount, latencyGenMsgRecvCount, outOfBuffersCount, msgSentCount, bufferSentCount;
         double processCpuLoad = ResourceUsageStats.currentProcessCpuLoad();
         double memoryUsage = ResourceUsageStats.currentMemoryUsage();
+        long histogramIntervalEndTime = System.currentTimeMillis();
         if(timePassedSec != 0)
         {
             _cpuUsageStats.update(processCpuLoad);
@@ -315,6 +317,11 @@ public class Provider
                         if (stats.intervalGenMsgLatencyStats().count() > 0)
                         {
                             stats.intervalGenMsgLatencyStats().print("  GenMsgLat(usec)", "Msgs", false);
+                            if (providerThread.getProvThreadInfo().histogramLog() != null)
+                            {
+                                providerThread.getProvThreadInfo().histogramLog().write("Gen", _histogramIntervalStartTime, histogramIntervalEndTime, stats.intervalGenMsgLatencyStats().histogram());
+                                providerThread.getProvThreadInfo().histogramLog().flush();
+                            }
                             stats.intervalGenMsgLatencyStats().clear();
                         }
                         
@@ -351,6 +358,9 @@ public class Provider
                 }
             }
         }
+
+        if(displayStats)
+            _histogramIntervalStartTime = histogramIntervalEndTime;
     }
     
     /**
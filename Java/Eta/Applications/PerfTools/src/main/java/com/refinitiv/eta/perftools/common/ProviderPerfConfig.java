@@ -57,10 +57,12 @@ public class ProviderPerfConfig
     private static String              _statsFilename;               // Stats file
     private static String              _latencyFilename;             // Latency file
     private static boolean             _logLatencyToFile;            // Whether to log update latency information to a file
+    private static String              _histogramFilename;           // Latency histogram file
     private static int                 _writeStatsInterval;          // Controls how often statistics are written 
     private static boolean             _displayStats;                // Controls whether stats appear on the screen
     private static boolean             _directWrite;                 // direct write enabled
     private static boolean             _useReactor;                  // Use the VA Reactor instead of the ETA Channel for sending and receiving.
+    private static boolean             _useReactorShardGroup;        // Dispatch the VA Reactor of each provider thread on a ReactorShardGroup shard thread.
     private static int                 _tunnelStreamOutputBuffers;   // Tunnel Stream Guaranteed Output Buffers.
     private static boolean             _tunnelStreamBufsUsed;        // Control whether to print tunnel Stream buffers usage.
     private static String              _protocolList;                // List of supported WS sub-protocols in order of preference(',' | white space delineated)
@@ -98,12 +100,14 @@ public class ProviderPerfConfig
 
         CommandLine.addOption("msgFile", "MsgData.xml", "Name of the file that specifies the data content in messages");
         CommandLine.addOption("latencyFile", "ProvLatency.out", "Name of file for logging latency info");
+        CommandLine.addOption("histogramFile", "", "Base name of file for logging interval latency histograms");
         CommandLine.addOption("summaryFile", "ProvSummary.out", "Name of file for logging summary info");
         CommandLine.addOption("statsFile", "ProvStats", "Base name of file for logging periodic statistics");
         CommandLine.addOption("writeStatsInterval", 5, "Controls how often stats are written to the file");
         CommandLine.addOption("runTime", 360, "Runtime of the application, in seconds");
         CommandLine.addOption("threads", 1, "Number of provider threads to create");
         CommandLine.addOption("reactor", false, "Use the VA Reactor instead of the ETA Channel for sending and receiving");
+        CommandLine.addOption("reactorShards", false, "Use the VA Reactor, dispatched by a ReactorShardGroup shard thread for each provider thread");
         CommandLine.addOption("tunnelStreamOutputBufs", 5000, "Number of output buffers(configures guaranteedOutputBuffers in Tunnel Stream)");
         CommandLine.addOption("tunnelStreamBuffersUsed", false, "Print stats of buffers used by tunnel stream");
         CommandLine.addOption("pl", "", "List of supported WS sub-protocols in order of preference(',' | white space delineated)");
@@ -141,6 +145,7 @@ public class ProviderPerfConfig
 
     	_logLatencyToFile = false;
         _latencyFilename = CommandLine.value("latencyFile");
+        _histogramFilename = CommandLine.value("histogramFile");
         _summaryFilename = CommandLine.value("summaryFile");
         _statsFilename = CommandLine.value("statsFile");
         _displayStats = !CommandLine.booleanValue("noDisplayStats");
@@ -164,7 +169,8 @@ public class ProviderPerfConfig
         String latencyUpdateRate = CommandLine.value("latencyUpdateRate");
         String latencyGenMsgRate = CommandLine.value("genericMsgLatencyRate");
         _directWrite = CommandLine.booleanValue("directWrite");
-        _useReactor = CommandLine.booleanValue("reactor");
+        _useReactorShardGroup = CommandLine.booleanValue("reactorShards");
+        _useReactor = CommandLine.booleanValue("reactor") || _useReactorShardGroup;
         try
         {
             _runTime = CommandLine.intValue("runTime");
@@ -303,6 +309,7 @@ public class ProviderPerfConfig
             "          Use Direct Writes: " + (_directWrite ? "Yes" : "No") + "\n" +
             "            High Water Mark: " + _highWaterMark + ((_highWaterMark > 0) ? " bytes" : "(use default)") + "\n" +
             "               Latency File: " + _latencyFilename + "\n" +
+            "             Histogram File: " + (_histogramFilename.length() > 0 ? _histogramFilename : "(none)") + "\n" +
             "               Summary File: " + _summaryFilename + "\n" +
             "       Write Stats Interval: " + _writeStatsInterval + "\n" +
             "                 Stats File: " + _statsFilename + "\n" +
@@ -320,7 +327,8 @@ public class ProviderPerfConfig
             "              Protocol list: " + (_protocolList.isEmpty() ? "Not specified" : _protocolList) + "\n" +
             "TunnelStream Output Buffers: " + _tunnelStreamOutputBuffers + "\n" +
             "Print TunnelStream Bufs Used: " + (_tunnelStreamBufsUsed ? "Yes" : "No") + "\n" +
-            "                Use Reactor: " + (_useReactor ? "Yes" : "No") + "\n";
+            "                Use Reactor: " + (_useReactor ? "Yes" : "No") + "\n" +
+            "         Use Reactor Shards: " + (_useReactorShardGroup ? "Yes" : "No") + "\n";
     }
 
     /**
@@ -435,6 +443,26 @@ public class ProviderPerfConfig
     {
         return _latencyFilename;
     }
+
+	/**
+	 *  Whether to log interval latency histograms to a file.
+	 *
+	 * @return true, if successful
+	 */
+	public static boolean logHistogramsToFile()
+	{
+		return _histogramFilename != null && _histogramFilename.length() > 0;
+	}
+
+    /**
+     *  Base name of the latency histogram log file.
+     *
+     * @return the string
+     */
+    public static String histogramFilename()
+    {
+        return _histogramFilename;
+    }
     
     /**
      *  Name of the summary log file.
@@ -955,6 +983,17 @@ public class ProviderPerfConfig
     {
         return _useReactor;
     }
+
+    /**
+     *  Dispatch the VA Reactor of each provider thread on a ReactorShardGroup shard thread,
+     *  which also sends the message bursts timed by the provider thread.
+     *
+     * @return true, if successful
+     */
+    public static boolean useReactorShardGroup()
+    {
+        return _useReactorShardGroup;
+    }
     
     /**
 	 *  Control to print TunnelStream Usage Buffers.
@@ -19,6 +19,7 @@ import com.refinitiv.eta.codec.Codec;
 import com.refinitiv.eta.codec.CodecFactory;
 import com.refinitiv.eta.codec.CodecReturnCodes;
 import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 import com.refinitiv.eta.transport.Channel;
 import com.refinitiv.eta.transport.ChannelState;
 import com.refinitiv.eta.transport.Error;
@@ -194,6 +195,21 @@ public class ProviderThread extends Thread
             _provThreadInfo.latencyLogFileWriter().println("Message type, Send time, Receive time, Latency (usec)");
             _provThreadInfo.latencyLogFileWriter().flush();
     	}
+
+        // Open latency histogram log if configured.
+        if (ProviderPerfConfig.logHistogramsToFile())
+        {
+            File histogramFile = new File(ProviderPerfConfig.histogramFilename() + (_providerIndex+1) + ".hlog");
+            try
+            {
+                _provThreadInfo.histogramLog(new LatencyHistogramLog(new PrintWriter(histogramFile), "nsec"));
+            }
+            catch (FileNotFoundException e)
+            {
+            	System.err.println("Error initializing application:  Failed to open latency histogram file '" + histogramFile.getName() + "'");
+                System.exit(-1);
+            }
+        }
    }
  
     /**
@@ -372,7 +388,7 @@ public class ProviderThread extends Thread
             			// Ensure there is enough space to copy data
             			if (session.remaingPackedBufferLength() >= msgBuffer.length())
             			{
-            				session.writingBuffer().data().put(msgBuffer.data().array(), msgBuffer.dataStartPosition(), msgBuffer.data().position() - msgBuffer.dataStartPosition());
+            				putEncodedData(session.writingBuffer(), msgBuffer);
             				channel.releaseBuffer(msgBuffer, error);
             			}
             			else
@@ -686,7 +702,7 @@ public class ProviderThread extends Thread
 	        		/* Ensure there is enough space to copy data */
 	         	   if(session.remaingPackedBufferLength() >= msgBuffer.length())
 	         	   {
-	         		  session.writingBuffer().data().put(msgBuffer.data().array(), msgBuffer.dataStartPosition(), msgBuffer.data().position() - msgBuffer.dataStartPosition());
+	         		  putEncodedData(session.writingBuffer(), msgBuffer);
 	         		  channel.releaseBuffer(msgBuffer, error);
 	 	   			}
 	 	   			else
@@ -1077,4 +1093,14 @@ public class ProviderThread extends Thread
     {
     	return _jsonConverterSession;
     }
+
+    /* Appends the data encoded in a buffer to the buffer being written. The encoded buffer may be direct,
+     * so its data is copied through a view rather than its backing array. */
+    private static void putEncodedData(TransportBuffer writingBuffer, TransportBuffer encodedBuffer)
+    {
+    	ByteBuffer encodedData = encodedBuffer.data().duplicate();
+    	encodedData.limit(encodedData.position());
+    	encodedData.position(encodedBuffer.dataStartPosition());
+    	writingBuffer.data().put(encodedData);
+    }
 }
@@ -13,6 +13,7 @@ import java.io.PrintWriter;
 
 import com.refinitiv.eta.codec.CodecReturnCodes;
 import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 import com.refinitiv.eta.transport.Channel;
 
 /** Information associated with a ProviderThread. */
@@ -33,6 +34,7 @@ public class ProviderThreadInfo
 	private PrintWriter			_statsFileWriter;			/* File writer for logging stats for this connection. */
 	private File				_latencyLogFile;			/* File for logging latency for this connection. */
 	private PrintWriter			_latencyLogFileWriter;		/* File writer for logging latency for this connection. */
+	private LatencyHistogramLog	_histogramLog;				/* Log of interval latency histograms for this connection. */
 	private volatile boolean	_shutdown;					/* Signals thread to shutdown. */
 	private volatile boolean	_shutdownAck;				/* Acknowledges thread is shutdown. */
 	
@@ -243,6 +245,26 @@ public class ProviderThreadInfo
 		_latencyLogFileWriter = value;
 	}
 
+	/**
+	 *  Log of interval latency histograms for this connection.
+	 *
+	 * @return the histogram log, or null if histograms are not logged
+	 */
+	public LatencyHistogramLog histogramLog()
+	{
+		return _histogramLog;
+	}
+
+	/**
+	 *  Log of interval latency histograms for this connection.
+	 *
+	 * @param value the value
+	 */
+	public void histogramLog(LatencyHistogramLog value)
+	{
+		_histogramLog = value;
+	}
+
 	/**
 	 *  Submit a time record.
 	 *
@@ -321,5 +343,7 @@ public class ProviderThreadInfo
 			statsFileWriter().close();
 		if (latencyLogFileWriter() != null)
 			latencyLogFileWriter().close();
+		if (histogramLog() != null)
+			histogramLog().close();
 	}
 }
@@ -31,7 +31,7 @@ public class ProviderThreadStats
         _genMsgSentCount = new CountStat();
         _genMsgRecvCount = new CountStat();
         _latencyGenMsgSentCount = new CountStat();
-        _intervalGenMsgLatencyStats = new ValueStatistics();
+        _intervalGenMsgLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
         _genMsgLatencyStats = new ValueStatistics();
         _intervalGenMsgLatencyStats.clear();
         _genMsgLatencyStats.clear();
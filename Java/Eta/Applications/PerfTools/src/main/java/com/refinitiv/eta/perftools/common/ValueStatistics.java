@@ -8,12 +8,21 @@
 
 package com.refinitiv.eta.perftools.common;
 
+import com.refinitiv.eta.shared.latency.LatencyHistogram;
+
 /**
  * Class for calculating running statistics for a given value(such as
- * latency).
+ * latency). Optionally keeps a histogram of the values, for reporting
+ * their percentiles.
  */
 public class ValueStatistics
 {
+	/** Values are recorded in the histogram in thousandths of their unit, e.g. nanoseconds for latencies in usec. */
+	public static final int HISTOGRAM_UNITS_PER_VALUE = 1000;
+
+	/** Highest latency in usec tracked by the histogram of {@link #createLatencyHistogram()}, one hour. */
+	public static final long HISTOGRAM_HIGHEST_LATENCY = 3600L * 1000000L;
+
 	private long	_count;       // Total number of samples. 
 	private double	_average;     // Current mean of samples.
 	private double	_variance;    // Current variance of samples.
@@ -22,6 +31,8 @@ public class ValueStatistics
 
 	double	_sum;                 // Used in calculating variance.
 	double	_sumOfSquares;        // Used in calculating variance.
+
+	private LatencyHistogram _histogram; // Histogram of samples, if percentiles are reported.
 	
 	/**
 	 * Instantiates a new value statistics.
@@ -31,6 +42,28 @@ public class ValueStatistics
 		_maxValue = -Double.MAX_VALUE;
 		_minValue = Double.MAX_VALUE;
 	}
+
+	/**
+	 * Instantiates a new value statistics that also records the values in a
+	 * histogram, so that their percentiles are reported.
+	 *
+	 * @param histogram the histogram the values are recorded in, in thousandths of their unit
+	 */
+	public ValueStatistics(LatencyHistogram histogram)
+	{
+		this();
+		_histogram = histogram;
+	}
+
+	/**
+	 *  Creates a histogram for latencies in usec, up to an hour, with 2 significant digits.
+	 *
+	 * @return the latency histogram
+	 */
+	public static LatencyHistogram createLatencyHistogram()
+	{
+		return new LatencyHistogram(HISTOGRAM_HIGHEST_LATENCY * HISTOGRAM_UNITS_PER_VALUE, 2);
+	}
 	
 	/** Clears ValueStatistics. */
 	public void clear()
@@ -42,6 +75,8 @@ public class ValueStatistics
 		_minValue = Double.MAX_VALUE;
 		_sum = 0;
 		_sumOfSquares = 0;
+		if (_histogram != null)
+			_histogram.reset();
 	}
 	
 	/**
@@ -67,6 +102,9 @@ public class ValueStatistics
 		_sumOfSquares += newValue * newValue;
 		_variance = _count > 1 ? 
 			(_sumOfSquares - _sum * _sum / _count) / (_count - 1) : 0;
+
+		if (_histogram != null)
+			_histogram.recordValue(Math.round(newValue * HISTOGRAM_UNITS_PER_VALUE));
 	}
 	
 	/**
@@ -90,6 +128,45 @@ public class ValueStatistics
 				_minValue,
 				countUnitName,
 				_count);
+
+		if (_histogram != null && _count > 0)
+		{
+			String percentileStr = displayThousandths ?
+					   "%s: P50:%8.3f P99:%8.3f P99.9:%8.3f P99.99:%8.3f Max:%8.3f\n"
+					:  "%s: P50:%6.1f P99:%6.1f P99.9:%6.1f P99.99:%6.1f Max:%6.1f\n";
+
+			System.out.printf(percentileStr,
+					valueStatsName,
+					percentile(50.0),
+					percentile(99.0),
+					percentile(99.9),
+					percentile(99.99),
+					(double)_histogram.maxValue() / HISTOGRAM_UNITS_PER_VALUE);
+		}
+	}
+
+	/**
+	 *  Value at a percentile of the samples, if a histogram is kept.
+	 *
+	 * @param percentile the percentile, from 0 to 100
+	 * @return the value at the percentile, or 0 if there is no histogram or sample
+	 */
+	public double percentile(double percentile)
+	{
+		if (_histogram == null)
+			return 0;
+
+		return (double)_histogram.valueAtPercentile(percentile) / HISTOGRAM_UNITS_PER_VALUE;
+	}
+
+	/**
+	 *  Histogram of the samples.
+	 *
+	 * @return the histogram, or null if percentiles are not reported
+	 */
+	public LatencyHistogram histogram()
+	{
+		return _histogram;
 	}
 
 	/**
@@ -114,6 +114,7 @@ public class ConsPerf implements ShutdownCallback
 	// run-time tracking  
 	private long _currentTime, _endTime;
 	private int _currentRuntimeSec = 0, _intervalSeconds = 0;
+	private long _histogramIntervalStartTime = System.currentTimeMillis(); // start of the displayed interval, in msec
 
 	// Logs summary information, such as application inputs and final statistics. 
 	private File _summaryFile = null;
@@ -718,6 +719,13 @@ public class ConsPerf implements ShutdownCallback
 		}
 	}
 
+	/* Writes the histogram of interval latency statistics to the histogram log of a consumer thread, if any. */
+	private void logIntervalHistogram(ConsumerThreadInfo consumerThread, String tag, ValueStatistics intervalStats, long intervalEndTime)
+	{
+		if (consumerThread.histogramLog() != null)
+			consumerThread.histogramLog().write(tag, _histogramIntervalStartTime, intervalEndTime, intervalStats.histogram());
+	}
+
 	/* Collect statistics. */
 	private void collectStats(boolean writeStats, boolean displayStats, int currentRuntimeSec, long timePassedSec) 
 	{
@@ -725,6 +733,7 @@ public class ConsPerf implements ShutdownCallback
 		
 		double processCpuLoad = ResourceUsageStats.currentProcessCpuLoad();
 		double memoryUsage = ResourceUsageStats.currentMemoryUsage();
+		long histogramIntervalEndTime = System.currentTimeMillis();
 		
 		_cpuUsageStats.update(processCpuLoad);
 		_memUsageStats.update(memoryUsage);
@@ -834,6 +843,7 @@ public class ConsPerf implements ShutdownCallback
 				if (_consumerThreadsInfo[i].stats().intervalLatencyStats().count() > 0)
 				{
 					_consumerThreadsInfo[i].stats().intervalLatencyStats().print("  Latency(usec)", "Msgs", false);
+					logIntervalHistogram(_consumerThreadsInfo[i], "Upd", _consumerThreadsInfo[i].stats().intervalLatencyStats(), histogramIntervalEndTime);
 					_consumerThreadsInfo[i].stats().intervalLatencyStats().clear();
 				}
 
@@ -844,6 +854,7 @@ public class ConsPerf implements ShutdownCallback
 				if (_consumerThreadsInfo[i].stats().intervalPostLatencyStats().count() > 0)
 				{
 					_consumerThreadsInfo[i].stats().intervalPostLatencyStats().print("  PostLat(usec)", "Msgs", false);
+					logIntervalHistogram(_consumerThreadsInfo[i], "Pst", _consumerThreadsInfo[i].stats().intervalPostLatencyStats(), histogramIntervalEndTime);
 					_consumerThreadsInfo[i].stats().intervalPostLatencyStats().clear();
 				}
 
@@ -856,6 +867,7 @@ public class ConsPerf implements ShutdownCallback
 				if (_consumerThreadsInfo[i].stats().intervalGenMsgLatencyStats().count() > 0)
 				{
 					_consumerThreadsInfo[i].stats().intervalGenMsgLatencyStats().print("  GenMsgLat(usec)", "Msgs", false);
+					logIntervalHistogram(_consumerThreadsInfo[i], "Gen", _consumerThreadsInfo[i].stats().intervalGenMsgLatencyStats(), histogramIntervalEndTime);
 					_consumerThreadsInfo[i].stats().intervalGenMsgLatencyStats().clear();
 				}
 				
@@ -869,6 +881,9 @@ public class ConsPerf implements ShutdownCallback
 					System.out.printf("  - Received %d status messages.\n", statusCount);
 			}
 
+			if (displayStats && _consumerThreadsInfo[i].histogramLog() != null)
+				_consumerThreadsInfo[i].histogramLog().flush();
+
 			/* Get Image Retrieval time for this client. */
 			if (getClientImageRetrievalTime(_consumerThreadsInfo[i], displayStats) == false)
 			{
@@ -904,6 +919,9 @@ public class ConsPerf implements ShutdownCallback
 				_totalStats.steadyStateLatencyTime(_totalStats.imageRetrievalEndTime() + _consPerfConfig.delaySteadyStateCalc() * 1000000L);
 			}
 		}
+
+		if (displayStats)
+			_histogramIntervalStartTime = histogramIntervalEndTime;
 	}
 
 	/* Collect update statistics. */
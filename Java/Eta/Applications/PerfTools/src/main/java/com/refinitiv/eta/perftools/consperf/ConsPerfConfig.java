@@ -33,6 +33,7 @@ public class ConsPerfConfig
 
 	private boolean	_logLatencyToFile;		/* Whether to log update latency information to a file. */
 	private String _latencyLogFilename;		/* Name of the latency log file. */
+	private String _histogramLogFilename;	/* Base name of the latency histogram log file. */
 	private String _summaryFilename;		/* Name of the summary log file. */
 	private String _statsFilename;			/* Name of the statistics log file. */
 	private int	_writeStatsInterval;		/* Controls how often statistics are written. */
@@ -101,6 +102,7 @@ public class ConsPerfConfig
         CommandLine.addOption("itemFile", "350k.xml", "Name of the file to get item names from");
         CommandLine.addOption("msgFile", "MsgData.xml", "Name of the file that specifies the data content in messages");
         CommandLine.addOption("latencyFile", "", "Base name of file for logging latency");
+        CommandLine.addOption("histogramFile", "", "Base name of file for logging interval latency histograms");
         CommandLine.addOption("summaryFile", "ConsSummary.out", "Name of file for logging summary info");
         CommandLine.addOption("statsFile", "ConsStats", "Base name of file for logging periodic statistics");
         CommandLine.addOption("writeStatsInterval", 5, "Controls how often stats are written to the file");
@@ -179,6 +181,7 @@ public class ConsPerfConfig
     	_itemFilename = CommandLine.value("itemFile");
     	_logLatencyToFile = false;
     	_latencyLogFilename = CommandLine.value("latencyFile");
+    	_histogramLogFilename = CommandLine.value("histogramFile");
     	_summaryFilename = CommandLine.value("summaryFile");
     	_statsFilename = CommandLine.value("statsFile");
     	_hostName = CommandLine.value("h");
@@ -522,6 +525,7 @@ public class ConsPerfConfig
             "               Summary File: " + _summaryFilename + "\n" +
             "                 Stats File: " + _statsFilename + "\n" +
             "           Latency Log File: " + (_latencyLogFilename.length() > 0 ? _latencyLogFilename : "(none)") + "\n" +
+            "         Histogram Log File: " + (_histogramLogFilename.length() > 0 ? _histogramLogFilename : "(none)") + "\n" +
             "     Latency Show JSON Conv: " + (_calcRWFJSONConversionLatency ? "Yes" : "No") + "\n" +
             "         Use JSON Converter: " + (_convertJSON ? "Yes" : "No") + "\n" +
             "                  Tick Rate: " + _ticksPerSec + "\n" +
@@ -617,6 +621,26 @@ public class ConsPerfConfig
 	{
 		return _latencyLogFilename;
 	}
+
+	/**
+	 *  Whether to log interval latency histograms to a file.
+	 *
+	 * @return true, if successful
+	 */
+	public boolean logHistogramsToFile()
+	{
+		return _histogramLogFilename.length() > 0;
+	}
+
+	/**
+	 *  Base name of the latency histogram log file.
+	 *
+	 * @return the string
+	 */
+	public String histogramLogFilename()
+	{
+		return _histogramLogFilename;
+	}
 	
 	/**
 	 *  Name of the summary log file.
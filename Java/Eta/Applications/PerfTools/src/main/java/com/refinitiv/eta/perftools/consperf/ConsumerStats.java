@@ -57,9 +57,9 @@ public class ConsumerStats
         _genMsgRecvCount = new CountStat();
         _latencyGenMsgSentCount = new CountStat();
         _genMsgOutOfBuffersCount = new CountStat();
-		_intervalLatencyStats = new ValueStatistics();
-		_intervalPostLatencyStats = new ValueStatistics();
-		_intervalGenMsgLatencyStats = new ValueStatistics();
+		_intervalLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
+		_intervalPostLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
+		_intervalGenMsgLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
 		_startupLatencyStats = new ValueStatistics();
 		_steadyStateLatencyStats = new ValueStatistics();
 		_overallLatencyStats = new ValueStatistics();
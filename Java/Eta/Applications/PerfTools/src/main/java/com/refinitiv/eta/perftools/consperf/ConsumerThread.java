@@ -49,6 +49,7 @@ import com.refinitiv.eta.codec.StatusMsg;
 import com.refinitiv.eta.codec.StreamStates;
 import com.refinitiv.eta.shared.ConsumerLoginState;
 import com.refinitiv.eta.shared.PingHandler;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 import com.refinitiv.eta.perftools.common.DictionaryHandler;
 import com.refinitiv.eta.perftools.common.DirectoryHandler;
 import com.refinitiv.eta.perftools.common.DirectoryHandlerJson;
@@ -80,6 +81,7 @@ import com.refinitiv.eta.transport.InProgInfo;
 import com.refinitiv.eta.transport.InitArgs;
 import com.refinitiv.eta.transport.IoctlCodes;
 import com.refinitiv.eta.transport.ReadArgs;
+import com.refinitiv.eta.transport.ReadCallback;
 import com.refinitiv.eta.transport.Transport;
 import com.refinitiv.eta.transport.TransportBuffer;
 import com.refinitiv.eta.transport.TransportFactory;
@@ -156,6 +158,14 @@ public class ConsumerThread implements Runnable, ResponseCallback, ConsumerCallb
     private DirectoryHandlerJson _srcDirHandlerJson; /* source directory handler JSON */ 
     private DictionaryHandler _dictionaryHandler; /* dictionary handler */
     private PingHandler _pingHandler; /* ping handler */
+    private ReadCallback _readCallback = (channel, msgBuf) -> /* processes each message of a batched read */
+    {
+        processResponse(msgBuf);
+
+        //set flag for server message received
+        _pingHandler.receivedMsg();
+        return TransportReturnCodes.SUCCESS;
+    };
     private MarketPriceDecoder _marketPriceDecoder; /* market price decoder */
     private MarketPriceDecoderJson _marketPriceDecoderJson; /* market price decoder JSON */
     private InProgInfo _inProg; /* connection in progress information */
@@ -317,6 +327,21 @@ public class ConsumerThread implements Runnable, ResponseCallback, ConsumerCallb
 			_consThreadInfo.latencyLogFileWriter().println("Message type, Send Time, Receive Time, Latency (usec)\n");
 		}
 
+		// create latency histogram log for this thread
+		if (_consPerfConfig.logHistogramsToFile())
+		{
+			File histogramFile = new File(_consPerfConfig.histogramLogFilename() + _consThreadInfo.threadId() + ".hlog");
+			try
+			{
+				_consThreadInfo.histogramLog(new LatencyHistogramLog(new PrintWriter(histogramFile), "nsec"));
+			}
+			catch (FileNotFoundException e)
+			{
+				System.out.printf("Error: Failed to open latency histogram log file '%s'.\n", histogramFile.getName());
+				System.exit(-1);
+			}
+		}
+
 		// create stats file writer for this thread 
 		_consThreadInfo.statsFile(new File(_consPerfConfig.statsFilename() + _consThreadInfo.threadId() + ".csv"));
 		try
@@ -1265,25 +1290,14 @@ public class ConsumerThread implements Runnable, ResponseCallback, ConsumerCallb
     
     private void read()
     {
-    	TransportBuffer msgBuf;
-    	do /* read until no more to read */
+    	do /* read until no more to read, draining all buffered messages with each call */
     	{
-    		msgBuf = _channel.read(_readArgs, _error);
-    		if (msgBuf != null)
+    		_channel.read(_readArgs, Integer.MAX_VALUE, _readCallback, _error);
+    		if (_readArgs.readRetVal() == TransportReturnCodes.READ_PING)
     		{
-    			processResponse(msgBuf);
-
     			//set flag for server message received
     			_pingHandler.receivedMsg();
     		}
-    		else
-    		{
-    			if (_readArgs.readRetVal() == TransportReturnCodes.READ_PING)
-    			{
-    				//set flag for server message received
-    				_pingHandler.receivedMsg();
-    			}
-    		}
     	}
     	while (_readArgs.readRetVal() > TransportReturnCodes.SUCCESS);
     }
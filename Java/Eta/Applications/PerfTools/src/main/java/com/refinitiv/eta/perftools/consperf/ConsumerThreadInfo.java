@@ -15,6 +15,7 @@ import com.refinitiv.eta.codec.CodecReturnCodes;
 import com.refinitiv.eta.codec.DataDictionary;
 import com.refinitiv.eta.perftools.common.TimeRecord;
 import com.refinitiv.eta.perftools.common.TimeRecordQueue;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 import com.refinitiv.eta.transport.Channel;
 
 /** Contains information about a consumer thread and its connection. */
@@ -37,6 +38,7 @@ public class ConsumerThreadInfo
 	private PrintWriter			_statsFileWriter;			/* File writer for logging stats for this connection. */
 	private File				_latencyLogFile;			/* File for logging latency for this connection. */
 	private PrintWriter			_latencyLogFileWriter;		/* File writer for logging latency for this connection. */
+	private LatencyHistogramLog	_histogramLog;				/* Log of interval latency histograms for this connection. */
 	private volatile boolean	_shutdown;					/* Signals thread to shutdown. */
 	private volatile boolean	_shutdownAck;				/* Acknowledges thread is shutdown. */
 	private boolean				_conversionTimeHandled;		/* Show that current thread is proceeding rwf-to-json conversion */
@@ -270,6 +272,26 @@ public class ConsumerThreadInfo
 		_latencyLogFileWriter = value;
 	}
 
+	/**
+	 *  Log of interval latency histograms for this connection.
+	 *
+	 * @return the histogram log, or null if histograms are not logged
+	 */
+	public LatencyHistogramLog histogramLog()
+	{
+		return _histogramLog;
+	}
+
+	/**
+	 *  Log of interval latency histograms for this connection.
+	 *
+	 * @param value the value
+	 */
+	public void histogramLog(LatencyHistogramLog value)
+	{
+		_histogramLog = value;
+	}
+
 	/**
 	 *  Submit a time record.
 	 *
@@ -358,5 +380,7 @@ public class ConsumerThreadInfo
 			statsFileWriter().close();
 		if (latencyLogFileWriter() != null)
 			latencyLogFileWriter().close();
+		if (histogramLog() != null)
+			histogramLog().close();
 	}
 }
@@ -72,6 +72,7 @@ import com.refinitiv.eta.valueadd.reactor.ReactorReturnCodes;
 import com.refinitiv.eta.valueadd.reactor.ReactorServiceNameToId;
 import com.refinitiv.eta.valueadd.reactor.ReactorServiceNameToIdCallback;
 import com.refinitiv.eta.valueadd.reactor.ReactorServiceNameToIdEvent;
+import com.refinitiv.eta.valueadd.reactor.ReactorShardGroup;
 import com.refinitiv.eta.valueadd.reactor.TunnelStreamListenerCallback;
 import com.refinitiv.eta.valueadd.reactor.TunnelStreamRequestEvent;
 
@@ -112,6 +113,11 @@ public class IProviderThread extends ProviderThread implements ProviderCallback,
     private ReactorChannelInfo _reactorChannnelInfo; // Use the VA Reactor instead of the ETA Channel for sending and receiving
     private Selector _selector; // Use the VA Reactor instead of the ETA Channel for sending and receiving
     private boolean _reactorInitialized; // Use the VA Reactor instead of the ETA Channel for sending and receiving
+    private ReactorShardGroup _shardGroup; // Dispatches the VA Reactor on a shard thread
+    private ReactorErrorInfo _shardErrorInfo; // Error information of the tasks given to the shard thread
+    private volatile boolean _burstPending; // The shard thread has not sent the last burst yet
+    private volatile long _burstStopTime; // Stop time of the last burst given to the shard thread
+    private Runnable _sendBurstTask = () -> { sendMsgBurst(_burstStopTime); _burstPending = false; };
 
     {
         _decodeIter = CodecFactory.createDecodeIterator();
@@ -437,7 +443,20 @@ public class IProviderThread extends ProviderThread implements ProviderCallback,
         }
         
         // create reactor
-        if (ProviderPerfConfig.useReactor()) // use ETA VA Reactor
+        if (ProviderPerfConfig.useReactorShardGroup()) // use ETA VA Reactor dispatched by a shard thread
+        {
+            _reactorOptions.clear();
+            if ((_shardGroup = ReactorFactory.createReactorShardGroup(1, _reactorOptions, _errorInfo)) == null)
+            {
+                System.out.printf("ReactorShardGroup creation failed: %s\n", _errorInfo.error().text());
+                System.exit(ReactorReturnCodes.FAILURE);
+            }
+
+            // the shard registers the channels with its own selector
+            _reactor = _shardGroup.reactor(0);
+            _shardErrorInfo = ReactorFactory.createReactorErrorInfo();
+        }
+        else if (ProviderPerfConfig.useReactor()) // use ETA VA Reactor
         {
             _reactorOptions.clear();
             if ((_reactor = ReactorFactory.createReactor(_reactorOptions, _errorInfo)) == null)
@@ -526,6 +545,42 @@ public class IProviderThread extends ProviderThread implements ProviderCallback,
 	        	_channelHandler.readChannels(nextTickTime, _error);
 	        	_channelHandler.checkPings();
             }
+            else if (_shardGroup != null) // use ETA VA Reactor dispatched by a shard thread
+            {
+                if (nextTickTime <= currentTime())
+                {
+                    // wait for the previous burst, a late burst is corrected by the next ones
+                    if (_burstPending)
+                    {
+                        Thread.yield();
+                        continue;
+                    }
+
+                    // the bursts are sent by the shard thread, which also calls the callbacks
+                    nextTickTime = nextTickTime(nextTickTime);
+                    _burstStopTime = nextTickTime;
+                    _burstPending = true;
+                    if (_shardGroup.execute(0, _sendBurstTask, _shardErrorInfo) != ReactorReturnCodes.SUCCESS)
+                    {
+                        break;
+                    }
+                    continue;
+                }
+
+                // wait for the next tick, the shard thread reads the channels
+                long sleepTime = selectTime(nextTickTime) / _divisor;
+                if (sleepTime > 0)
+                {
+                    try
+                    {
+                        Thread.sleep(sleepTime);
+                    }
+                    catch (InterruptedException e)
+                    {
+                        break;
+                    }
+                }
+            }
             else // use ETA VA Reactor
             {
                 if (nextTickTime <= currentTime())
@@ -592,6 +647,11 @@ public class IProviderThread extends ProviderThread implements ProviderCallback,
             }
         }
 
+        if (_shardGroup != null)
+        {
+            _shardGroup.shutdown(_shardErrorInfo);
+        }
+
         shutdownAck(true);
     }
 
@@ -739,17 +799,20 @@ public class IProviderThread extends ProviderThread implements ProviderCallback,
                     }
                 }
         
-                // register selector with channel event's reactorChannel
-                try
+                // register selector with channel event's reactorChannel, unless the shard selects it
+                if (_shardGroup == null)
                 {
-                    reactorChannel.selectableChannel().register(_selector,
-                                                                  SelectionKey.OP_READ,
-                                                                  reactorChannel);
-                }
-                catch (ClosedChannelException e)
-                {
-                    System.out.println("selector register failed: " + e.getLocalizedMessage());
-                    return ReactorCallbackReturnCodes.SUCCESS;
+                    try
+                    {
+                        reactorChannel.selectableChannel().register(_selector,
+                                                                      SelectionKey.OP_READ,
+                                                                      reactorChannel);
+                    }
+                    catch (ClosedChannelException e)
+                    {
+                        System.out.println("selector register failed: " + e.getLocalizedMessage());
+                        return ReactorCallbackReturnCodes.SUCCESS;
+                    }
                 }
         
                 /* retrieve and print out channel information */
@@ -105,6 +105,7 @@ public class TransportPerf implements ShutdownCallback
     private ValueStatistics _cpuUsageStats, _memUsageStats;
     
     private ValueStatistics _totalLatencyStats, _intervalLatencyStats;
+    private long _histogramIntervalStartTime = System.currentTimeMillis(); // start of the interval, in msec
     
     private long _totalMsgSentCount = 0;
     private long _totalBytesSent = 0;
@@ -129,7 +130,7 @@ public class TransportPerf implements ShutdownCallback
         _cpuUsageStats = new ValueStatistics();
         _memUsageStats = new ValueStatistics();
         _totalLatencyStats = new ValueStatistics();
-        _intervalLatencyStats = new ValueStatistics();
+        _intervalLatencyStats = new ValueStatistics(ValueStatistics.createLatencyHistogram());
         _acceptOptions = TransportFactory.createAcceptOptions();
         _stdOutWriter = new PrintWriter(System.out);
         _dateTime = CodecFactory.createDateTime();
@@ -330,6 +331,7 @@ public class TransportPerf implements ShutdownCallback
             intervalOutOfBuffersCount = 0;
         double currentProcessCpuLoad = ResourceUsageStats.currentProcessCpuLoad();
         double currentMemoryUsage = ResourceUsageStats.currentMemoryUsage();
+        long histogramIntervalEndTime = System.currentTimeMillis();
 
         if (timePassedSec > 0)
         {
@@ -371,6 +373,12 @@ public class TransportPerf implements ShutdownCallback
                 _sessionHandlerList[i].transportThread().latencyLogFile().flush();
             }
 
+            if (_sessionHandlerList[i].transportThread().histogramLog() != null)
+            {
+                _sessionHandlerList[i].transportThread().histogramLog().write("Lat", _histogramIntervalStartTime, histogramIntervalEndTime, _intervalLatencyStats.histogram());
+                _sessionHandlerList[i].transportThread().histogramLog().flush();
+            }
+
             intervalMsgSentCount = _sessionHandlerList[i].transportThread().msgsSent().getChange();
             intervalBytesSent = _sessionHandlerList[i].transportThread().bytesSent().getChange();
             intervalMsgReceivedCount = _sessionHandlerList[i].transportThread().msgsReceived().getChange();
@@ -465,6 +473,8 @@ public class TransportPerf implements ShutdownCallback
                 System.out.printf("  CPU: %6.2f%% Mem: %8.2fMB\n", currentProcessCpuLoad, currentMemoryUsage);
             }
         }
+
+        _histogramIntervalStartTime = histogramIntervalEndTime;
     }
 
     private void handleRuntime(int currentRunTime)
@@ -677,6 +687,7 @@ public class TransportPerf implements ShutdownCallback
         sopts.minorVersion(0);
         sopts.protocolType(TransportThread.TEST_PROTOCOL_TYPE);
         sopts.tcpOpts().tcpNoDelay(TransportPerfConfig.tcpNoDelay());
+        sopts.shmemOpts().javaRing(TransportPerfConfig.javaShmem());
         sopts.connectionType(TransportPerfConfig.connectionType());
         sopts.maxFragmentSize(TransportPerfConfig.maxFragmentSize());
         sopts.compressionType(TransportPerfConfig.compressionType());
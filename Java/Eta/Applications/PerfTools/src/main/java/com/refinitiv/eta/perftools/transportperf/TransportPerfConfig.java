@@ -40,9 +40,12 @@ public class TransportPerfConfig
     private static String       _portNo;                    // Port number
     private static String       _interfaceName;             // Network interface to bind to
     private static boolean      _tcpNoDelay;                // TCP_NODELAY option for socket
+    private static boolean      _javaShmem;                 // use the Java shared memory ring for shmem connections
     private static int          _guaranteedOutputBuffers;   // Guaranteed Output Buffers
     private static int          _maxFragmentSize;           // Max fragment size
     private static int          _highWaterMark;             // High water mark
+    private static boolean      _zeroCopyFragments;         // Write fragments without copying them to output buffers
+    private static boolean      _adaptiveCompression;       // Skip compression for message sizes that do not compress well
     private static int          _sendBufSize;               // System send buffer size
     private static int          _recvBufSize;               // System receive buffer size
     
@@ -112,11 +115,14 @@ public class TransportPerfConfig
         CommandLine.addOption("recvBufSize", 0, "System Receive Buffer Size(configures sysRecvBufSize in BindOptions/ConnectOptions)");
         CommandLine.addOption("compressionType", "none", "Type of compression to use(\"none\", \"zlib\", \"lz4\")");
         CommandLine.addOption("compressionLevel", 5, "Level of compression");
+        CommandLine.addOption("adaptiveCompression", false, "Sends messages of sizes that do not compress well uncompressed");
         CommandLine.addOption("highWaterMark", 0, "Sets the point that causes ETA to automatically flush");
+        CommandLine.addOption("zeroCopyFragments", false, "Writes messages larger than maxFragmentSize without copying them to output buffers");
         CommandLine.addOption("if", "", "Name of network interface to use");
         CommandLine.addOption("h", "localhost", "Name of host for socket-based connections");
         CommandLine.addOption("p", "14002", "Port number for socket-based connections");
         CommandLine.addOption("tcpDelay", false, "Turns off tcp_nodelay in BindOptions, enabling Nagle's");
+        CommandLine.addOption("javaShmem", false, "Use the Java shared memory ring instead of the native one for shmem connections (both ends must set it)");
         CommandLine.addOption("sa", "", "Send address for segmented multicast connections");
         CommandLine.addOption("ra", "", "Receive address for segmented multicast connections");
         CommandLine.addOption("sp", "", "Send port for segmented multicast connections");
@@ -150,6 +156,7 @@ public class TransportPerfConfig
         CommandLine.addOption("latencyMsgRate", 10, "Latency Message rate (can specify \"all\" to send it as every msg)");
         CommandLine.addOption("directWrite", false, "Sets direct socket write flag when using Channel.write()");
         CommandLine.addOption("latencyFile", "", "Base name of file for logging latency");        
+        CommandLine.addOption("histogramFile", "", "Base name of file for logging interval latency histograms");
         CommandLine.addOption("statsFile", "TransportStats", "Base name of file for logging periodic statistics");
         TransportThreadConfig.checkPings(true);
     }
@@ -250,11 +257,14 @@ public class TransportPerfConfig
             _sendBufSize = CommandLine.intValue("sendBufSize");
             _recvBufSize = CommandLine.intValue("recvBufSize");         
             _highWaterMark = CommandLine.intValue("highWaterMark");
+            _zeroCopyFragments = CommandLine.booleanValue("zeroCopyFragments");
+            _adaptiveCompression = CommandLine.booleanValue("adaptiveCompression");
             TransportThreadConfig.latencyLogFilename(CommandLine.value("latencyFile"));
             if (TransportThreadConfig.latencyLogFilename().length() > 0)
             {
                 TransportThreadConfig.logLatencyToFile(true);
             }
+            TransportThreadConfig.histogramLogFilename(CommandLine.value("histogramFile"));
             _compressionTypeString = CommandLine.value("compressionType");
             if (_compressionTypeString.equals("none"))
             {
@@ -295,6 +305,7 @@ public class TransportPerfConfig
             _protocolList = CommandLine.value("pl");
             
             _tcpNoDelay = !CommandLine.booleanValue("tcpDelay");
+            _javaShmem = CommandLine.booleanValue("javaShmem");
                 
             TransportThreadConfig.msgsPerSec(CommandLine.intValue("msgRate"));
             if("all".equals(CommandLine.value("latencyMsgRate")))
@@ -503,15 +514,19 @@ public class TransportPerfConfig
                 "       Send Buffer Size: " + _sendBufSize + ((_sendBufSize > 0) ? " bytes" : "(use default)") + "\n" +
                 "       Recv Buffer Size: " + _recvBufSize + ((_recvBufSize > 0) ? " bytes" : "(use default)") + "\n" +
                 "        High Water Mark: " + _highWaterMark + ((_highWaterMark > 0) ? " bytes" : "(use default)") + "\n" +
+                "    Zero Copy Fragments: " + (_zeroCopyFragments ? "Yes" : "No") + "\n" +
                 "       Compression Type: " + CompressionTypes.toString(_compressionType) + "(" + _compressionType + ")" + "\n" +
                 "      Compression Level: " + _compressionLevel + "\n" +
+                "   Adaptive Compression: " + (_adaptiveCompression ? "Yes" : "No") + "\n" +
                 "         Interface Name: " + (_interfaceName.length() > 0 ? _interfaceName : "(use default)") + "\n" +
                 "         tcpControlPort: " + (_tcpControlPort.length() > 0 ? _tcpControlPort : "(use_default)") + "\n" +
                 "          portRoamRange: " + _portRoamRange + "\n" +
                 "            Tcp_NoDelay: " + (_tcpNoDelay ? "Yes" : "No") + "\n" +
+                "   Java Shared Mem Ring: " + (_javaShmem ? "Yes" : "No") + "\n" +
                 "              Tick Rate: " + TransportThreadConfig.ticksPerSec() + "\n" +
                 "      Use Direct Writes: " + ((TransportThreadConfig.writeFlags() & WriteFlags.DIRECT_SOCKET_WRITE) > 0  ? "Yes" : "No") + "\n" +
                 "       Latency Log File: " + (TransportThreadConfig.latencyLogFilename().length() > 0 ? TransportThreadConfig.latencyLogFilename() : "(none)") + "\n" +
+                "     Histogram Log File: " + (TransportThreadConfig.histogramLogFilename().length() > 0 ? TransportThreadConfig.histogramLogFilename() : "(none)") + "\n" +
                 "           Summary File: " + _summaryFilename + "\n" +
                 "             Stats File: " + TransportThreadConfig.statsFilename() + "\n" +
                 "   Write Stats Interval: " + _writeStatsInterval + "\n" +
@@ -679,6 +694,26 @@ public class TransportPerfConfig
         return _highWaterMark;
     }
 
+    /**
+     *  Write messages larger than the max fragment size without copying them to output buffers.
+     *
+     * @return true, if successful
+     */
+    public static boolean zeroCopyFragments()
+    {
+        return _zeroCopyFragments;
+    }
+
+    /**
+     *  Send messages of the sizes that do not compress well uncompressed.
+     *
+     * @return true, if successful
+     */
+    public static boolean adaptiveCompression()
+    {
+        return _adaptiveCompression;
+    }
+
     /**
      *  Enable/Disable Nagle's algorithm.
      *
@@ -688,6 +723,16 @@ public class TransportPerfConfig
     {
         return _tcpNoDelay;
     }
+
+    /**
+     *  Use the Java shared memory ring instead of the native one for shmem connections.
+     *
+     * @return true, if the Java ring is used
+     */
+    public static boolean javaShmem()
+    {
+        return _javaShmem;
+    }
     
     /**
      *  Converts configuration parameters to a string.
@@ -24,6 +24,7 @@ import com.refinitiv.eta.perftools.common.ShutdownCallback;
 import com.refinitiv.eta.perftools.common.TimeRecord;
 import com.refinitiv.eta.perftools.common.TimeRecordQueue;
 import com.refinitiv.eta.perftools.common.ValueStatistics;
+import com.refinitiv.eta.shared.latency.LatencyHistogramLog;
 import com.refinitiv.eta.transport.Channel;
 import com.refinitiv.eta.transport.ChannelInfo;
 import com.refinitiv.eta.transport.ChannelState;
@@ -55,6 +56,7 @@ public class TransportThread extends Thread
     private ValueStatistics         _latencyStats;      /* Latency statistics (recorded by stats thread). */
     private PrintWriter             _statsFile;         /* Statistics file for recording. */
     private PrintWriter             _latencyLogFile;    /* File for logging latency for this thread. */
+    private LatencyHistogramLog     _histogramLog;      /* Log of interval latency histograms for this thread. */
     private SessionHandler          _sessionHandler;    /* Session handler for this thread. */
     private LatencyRandomArray      _latencyRandomArray; /* Random latency array */
     private LatencyRandomArrayOptions _randomArrayOpts; /* Random array options */
@@ -155,6 +157,21 @@ public class TransportThread extends Thread
             _latencyLogFile.println("Send Time, Receive Time, Latency(nsec)");
         }
 
+        /* create latency histogram log for this thread */
+        if (TransportThreadConfig.histogramLogFilename().length() > 0)
+        {
+            File histogramFile = new File(TransportThreadConfig.histogramLogFilename() + (_threadIndex + 1) + ".hlog");
+            try
+            {
+                _histogramLog = new LatencyHistogramLog(new PrintWriter(histogramFile), "nsec");
+            }
+            catch (FileNotFoundException e)
+            {
+                System.out.printf("Error: Failed to open latency histogram log file '%s'.\n", histogramFile.getName());
+                System.exit(-1);
+            }
+        }
+
         _currentTicks = 0;
         _nsecPerTick = 1000000000L/TransportThreadConfig.ticksPerSec();
         _channelHandler.init(this);
@@ -187,6 +204,10 @@ public class TransportThread extends Thread
         {
             _latencyLogFile.close();
         }
+        if (_histogramLog != null)
+        {
+            _histogramLog.close();
+        }
     }
 
     /**
@@ -265,6 +286,24 @@ public class TransportThread extends Thread
             }
         }
 
+        if (TransportPerfConfig.zeroCopyFragments())
+        {
+            if (channelInfo.channel.ioctl(IoctlCodes.ZERO_COPY_FRAGMENT_WRITE, 1, error) != TransportReturnCodes.SUCCESS)
+            {
+                System.err.printf("Channel.Ioctl() of ZERO_COPY_FRAGMENT_WRITE failed <%s>\n", error.text());
+                return TransportReturnCodes.FAILURE;
+            }
+        }
+
+        if (TransportPerfConfig.adaptiveCompression())
+        {
+            if (channelInfo.channel.ioctl(IoctlCodes.ADAPTIVE_COMPRESSION, 1, error) != TransportReturnCodes.SUCCESS)
+            {
+                System.err.printf("Channel.Ioctl() of ADAPTIVE_COMPRESSION failed <%s>\n", error.text());
+                return TransportReturnCodes.FAILURE;
+            }
+        }
+
         /* Record first connection time. */
         if (_connectTime == 0)
             _connectTime = System.nanoTime();
@@ -540,6 +579,7 @@ public class TransportThread extends Thread
         _copts.protocolType(TEST_PROTOCOL_TYPE);
         _copts.connectionType(TransportPerfConfig.connectionType());
         _copts.tcpOpts().tcpNoDelay(TransportPerfConfig.tcpNoDelay());
+        _copts.shmemOpts().javaRing(TransportPerfConfig.javaShmem());
         _copts.compressionType(TransportPerfConfig.compressionType());
         _copts.seqMCastOpts().maxMsgSize(TransportPerfConfig.maxFragmentSize());
 		_copts.multicastOpts().tcpControlPort(TransportPerfConfig.tcpControlPort());
@@ -702,6 +742,11 @@ public class TransportThread extends Thread
         return _latencyLogFile;
     }
 
+    LatencyHistogramLog histogramLog()
+    {
+        return _histogramLog;
+    }
+
     CountStat outOfBuffersCount()
     {
         return _outOfBuffersCount;
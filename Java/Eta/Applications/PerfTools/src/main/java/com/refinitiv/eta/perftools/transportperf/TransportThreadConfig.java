@@ -27,6 +27,7 @@ class TransportThreadConfig
 	private static String	_statsFilename;			/* Name of the statistics log file */
 	private static boolean	_logLatencyToFile;		/* Whether to log latency information to a file */
 	private static String	_latencyLogFilename;	/* Name of the latency log file */
+	private static String	_histogramLogFilename = "";	/* Base name of the latency histogram log file */
 	
     private TransportThreadConfig()
     {
@@ -176,4 +177,16 @@ class TransportThreadConfig
 	{
 		_latencyLogFilename = latencyLogFilename;
 	}
+
+	/** Base name of the latency histogram log file, empty if histograms are not logged. */
+	static String histogramLogFilename()
+	{
+		return _histogramLogFilename;
+	}
+
+	/** Base name of the latency histogram log file, empty if histograms are not logged. */
+	static void histogramLogFilename(String histogramLogFilename)
+	{
+		_histogramLogFilename = histogramLogFilename;
+	}
 }
@@ -0,0 +1,269 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.shared.latency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory, log-bucketed histogram of latency values, for reporting tail
+ * percentiles.
+ * <p>
+ * Values from 0 to the highest trackable value are counted in buckets whose
+ * width doubles with each power of two, each split into enough sub-buckets to
+ * keep the requested number of significant decimal digits. The counts are
+ * allocated when the histogram is created, and recording a value neither
+ * allocates nor locks, so any thread, including a dispatch thread, can record
+ * while another thread reads or drains the histogram. Values above the highest
+ * trackable value are counted in the highest bucket, though the maximum value
+ * is kept exactly.
+ * <p>
+ * Histograms with the same highest trackable value and significant digits can
+ * be merged with {@link #add(LatencyHistogram)}.
+ */
+public class LatencyHistogram
+{
+    private final long _highestTrackableValue;
+    private final int _significantDigits;
+
+    private final int _subBucketHalfCountMagnitude;
+    private final int _subBucketHalfCount;
+    private final long _subBucketMask;
+    private final int _leadingZeroCountBase;
+
+    private final AtomicLongArray _counts;
+    private final AtomicLong _maxValue = new AtomicLong();
+
+    /**
+     * Instantiates a new latency histogram.
+     *
+     * @param highestTrackableValue the highest value tracked with full precision, at least 2
+     * @param significantDigits the number of significant decimal digits kept, from 1 to 5
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantDigits)
+    {
+        if (highestTrackableValue < 2)
+            throw new IllegalArgumentException("highestTrackableValue must be at least 2");
+        if (significantDigits < 1 || significantDigits > 5)
+            throw new IllegalArgumentException("significantDigits must be from 1 to 5");
+
+        _highestTrackableValue = highestTrackableValue;
+        _significantDigits = significantDigits;
+
+        // enough sub-buckets for single unit resolution up to 2 * 10^significantDigits
+        long largestValueWithSingleUnitResolution = 2 * (long)Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largestValueWithSingleUnitResolution - 1);
+        _subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        _subBucketHalfCount = 1 << _subBucketHalfCountMagnitude;
+        _subBucketMask = (1L << subBucketCountMagnitude) - 1;
+        _leadingZeroCountBase = 63 - _subBucketHalfCountMagnitude;
+
+        _counts = new AtomicLongArray(countsIndex(highestTrackableValue) + 1);
+    }
+
+    /**
+     * Highest value tracked with full precision.
+     *
+     * @return the highest trackable value
+     */
+    public long highestTrackableValue()
+    {
+        return _highestTrackableValue;
+    }
+
+    /**
+     * Number of significant decimal digits kept.
+     *
+     * @return the significant digits
+     */
+    public int significantDigits()
+    {
+        return _significantDigits;
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value the value
+     */
+    public void recordValue(long value)
+    {
+        recordValue(value, 1);
+    }
+
+    /**
+     * Records a value a number of times. Negative values are recorded as 0.
+     *
+     * @param value the value
+     * @param count the number of times the value was seen
+     */
+    public void recordValue(long value, long count)
+    {
+        if (value < 0)
+            value = 0;
+
+        updateMaxValue(value);
+        _counts.addAndGet(countsIndex(Math.min(value, _highestTrackableValue)), count);
+    }
+
+    /**
+     * Adds the counts of another histogram to this one.
+     *
+     * @param other the histogram to add, with the same highest trackable value and significant digits
+     */
+    public void add(LatencyHistogram other)
+    {
+        checkCompatible(other);
+        for (int i = 0; i < _counts.length(); ++i)
+        {
+            long count = other._counts.get(i);
+            if (count != 0)
+                _counts.addAndGet(i, count);
+        }
+        updateMaxValue(other._maxValue.get());
+    }
+
+    /**
+     * Moves the counts of this histogram to another one and resets this one.
+     * Values recorded while the counts are moved are kept either by this
+     * histogram or by the target, so none are lost.
+     *
+     * @param target the histogram that receives the counts, with the same highest trackable value and significant digits
+     */
+    public void drainTo(LatencyHistogram target)
+    {
+        checkCompatible(target);
+        target.updateMaxValue(_maxValue.getAndSet(0));
+        for (int i = 0; i < _counts.length(); ++i)
+        {
+            if (_counts.get(i) != 0)
+                target._counts.addAndGet(i, _counts.getAndSet(i, 0));
+        }
+    }
+
+    /** Clears all counts. Values recorded by other threads meanwhile may be lost; use {@link #drainTo(LatencyHistogram)} while they record. */
+    public void reset()
+    {
+        for (int i = 0; i < _counts.length(); ++i)
+            _counts.set(i, 0);
+        _maxValue.set(0);
+    }
+
+    /**
+     * Total number of recorded values.
+     *
+     * @return the total count
+     */
+    public long totalCount()
+    {
+        long totalCount = 0;
+        for (int i = 0; i < _counts.length(); ++i)
+            totalCount += _counts.get(i);
+        return totalCount;
+    }
+
+    /**
+     * Highest recorded value.
+     *
+     * @return the max value, or 0 if no value was recorded
+     */
+    public long maxValue()
+    {
+        return _maxValue.get();
+    }
+
+    /**
+     * Value that the given percentage of the recorded values are less than or
+     * equal to, within the precision of the histogram.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the value at the percentile, or 0 if no value was recorded
+     */
+    public long valueAtPercentile(double percentile)
+    {
+        long totalCount = totalCount();
+        if (totalCount == 0)
+            return 0;
+
+        long countAtPercentile = Math.max(1, (long)Math.ceil(Math.min(percentile, 100.0) / 100.0 * totalCount));
+        long count = 0;
+        for (int i = 0; i < _counts.length(); ++i)
+        {
+            count += _counts.get(i);
+            if (count >= countAtPercentile)
+                return Math.min(highestEquivalentValue(i), _maxValue.get());
+        }
+        return _maxValue.get();
+    }
+
+    /**
+     * Number of buckets. Buckets are numbered from 0 and hold increasing values.
+     *
+     * @return the bucket count
+     */
+    public int bucketCount()
+    {
+        return _counts.length();
+    }
+
+    /**
+     * Number of values recorded in a bucket.
+     *
+     * @param bucket the bucket number
+     * @return the count
+     */
+    public long countAt(int bucket)
+    {
+        return _counts.get(bucket);
+    }
+
+    /**
+     * Lowest value counted in a bucket. Recording it adds to the same bucket.
+     *
+     * @param bucket the bucket number
+     * @return the lowest value of the bucket
+     */
+    public long bucketValue(int bucket)
+    {
+        int bucketIndex = (bucket >> _subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (bucket & (_subBucketHalfCount - 1)) + _subBucketHalfCount;
+        if (bucketIndex < 0)
+        {
+            subBucketIndex -= _subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return (long)subBucketIndex << bucketIndex;
+    }
+
+    private long highestEquivalentValue(int bucket)
+    {
+        int bucketIndex = Math.max((bucket >> _subBucketHalfCountMagnitude) - 1, 0);
+        return bucketValue(bucket) + (1L << bucketIndex) - 1;
+    }
+
+    private int countsIndex(long value)
+    {
+        int bucketIndex = _leadingZeroCountBase - Long.numberOfLeadingZeros(value | _subBucketMask);
+        int subBucketIndex = (int)(value >>> bucketIndex);
+        return ((bucketIndex + 1) << _subBucketHalfCountMagnitude) + (subBucketIndex - _subBucketHalfCount);
+    }
+
+    private void updateMaxValue(long value)
+    {
+        long maxValue;
+        while (value > (maxValue = _maxValue.get()) && !_maxValue.compareAndSet(maxValue, value))
+            ;
+    }
+
+    private void checkCompatible(LatencyHistogram other)
+    {
+        if (other._highestTrackableValue != _highestTrackableValue || other._significantDigits != _significantDigits)
+            throw new IllegalArgumentException("histograms have different highest trackable values or significant digits");
+    }
+}
@@ -0,0 +1,126 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.shared.latency;
+
+import java.io.PrintWriter;
+
+/**
+ * Text log of interval latency histograms, one line per histogram:
+ * <pre>
+ * tag,start time,end time,count,max,value:count value:count ...
+ * </pre>
+ * Times are in milliseconds since the epoch. Each value:count pair gives the
+ * lowest value of a non-empty bucket and its count. Lines starting with '#'
+ * are comments. As the buckets are kept, the intervals of any number of logs,
+ * such as the logs of each thread of a test, can be merged back into a
+ * histogram with {@link #read(String, String, LatencyHistogram)}.
+ */
+public class LatencyHistogramLog
+{
+    private final PrintWriter _writer;
+
+    /**
+     * Instantiates a new latency histogram log and writes its header.
+     *
+     * @param writer the writer of the log
+     * @param valueUnit the unit of the recorded values, such as "usec"
+     */
+    public LatencyHistogramLog(PrintWriter writer, String valueUnit)
+    {
+        _writer = writer;
+        _writer.println("# Latency histogram log, values in " + valueUnit);
+        _writer.println("# Tag, Start time (msec), End time (msec), Count, Max, Value:Count pairs");
+    }
+
+    /**
+     * Writes an interval histogram.
+     *
+     * @param tag the tag identifying the kind of latency, such as "Upd", without commas
+     * @param startTime the start time of the interval, in milliseconds since the epoch
+     * @param endTime the end time of the interval, in milliseconds since the epoch
+     * @param histogram the histogram of the interval
+     */
+    public void write(String tag, long startTime, long endTime, LatencyHistogram histogram)
+    {
+        _writer.print(tag);
+        _writer.print(',');
+        _writer.print(startTime);
+        _writer.print(',');
+        _writer.print(endTime);
+        _writer.print(',');
+        _writer.print(histogram.totalCount());
+        _writer.print(',');
+        _writer.print(histogram.maxValue());
+        _writer.print(',');
+
+        boolean first = true;
+        for (int i = 0; i < histogram.bucketCount(); ++i)
+        {
+            long count = histogram.countAt(i);
+            if (count == 0)
+                continue;
+
+            if (!first)
+                _writer.print(' ');
+            _writer.print(histogram.bucketValue(i));
+            _writer.print(':');
+            _writer.print(count);
+            first = false;
+        }
+        _writer.println();
+    }
+
+    /** Flushes the log. */
+    public void flush()
+    {
+        _writer.flush();
+    }
+
+    /** Closes the log. */
+    public void close()
+    {
+        _writer.close();
+    }
+
+    /**
+     * Adds the histogram of a log line to a histogram, if the line has the given tag.
+     *
+     * @param line the log line
+     * @param tag the tag of the intervals to add, or null for all of them
+     * @param histogram the histogram the counts are added to
+     * @return true if the line was added, false if it is a comment, has another tag or is malformed
+     */
+    public static boolean read(String line, String tag, LatencyHistogram histogram)
+    {
+        if (line.isEmpty() || line.charAt(0) == '#')
+            return false;
+
+        String[] fields = line.split(",", 6);
+        if (fields.length != 6 || (tag != null && !tag.equals(fields[0])))
+            return false;
+
+        try
+        {
+            histogram.recordValue(Long.parseLong(fields[4]), 0);
+            if (fields[5].isEmpty())
+                return true;
+
+            for (String pair : fields[5].split(" "))
+            {
+                int separator = pair.indexOf(':');
+                histogram.recordValue(Long.parseLong(pair.substring(0, separator)), Long.parseLong(pair.substring(separator + 1)));
+            }
+        }
+        catch (NumberFormatException | StringIndexOutOfBoundsException e)
+        {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,168 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups and open/close churn on the EMA item handle table with handleCount registered items.
+ * Each churn operation removes the oldest handle, registers a new one and looks up a registered
+ * handle as a callback would. The long-keyed tables are compared with the HashMap and
+ * ConcurrentHashMap of LongObject keys they replaced, which looked items up with a reused key object.
+ * <p>
+ * Running the class as an application prints the heap retained per handle by each table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemHandleMapBenchmark
+{
+    @Param({ "1000", "1000000" })
+    public int handleCount;
+
+    private static final Object ITEM = new Object();
+
+    private LongItemHashMap<Object> _longTable;
+    private ConcurrentLongItemHashMap<Object> _concurrentLongTable;
+    private HashMap<LongObject, Object> _boxedTable;
+    private ConcurrentHashMap<LongObject, Object> _concurrentBoxedTable;
+    private final LongObject _tempLongObject = new LongObject();
+
+    private long _longOldest;
+    private long _boxedOldest;
+    private long _lookup;
+
+    @Setup
+    public void setup()
+    {
+        _longTable = new LongItemHashMap<Object>(handleCount + 10);
+        _concurrentLongTable = new ConcurrentLongItemHashMap<Object>(handleCount + 10);
+        _boxedTable = new HashMap<LongObject, Object>(handleCount + 10);
+        _concurrentBoxedTable = new ConcurrentHashMap<LongObject, Object>(handleCount + 10);
+        for (long handle = 0; handle < handleCount; ++handle)
+        {
+            _longTable.put(handle, ITEM);
+            _concurrentLongTable.put(handle, ITEM);
+            _boxedTable.put(new LongObject().value(handle), ITEM);
+            _concurrentBoxedTable.put(new LongObject().value(handle), ITEM);
+        }
+        _longOldest = 0;
+        _boxedOldest = 0;
+        _lookup = 0;
+    }
+
+    private long nextLookup()
+    {
+        _lookup = (_lookup + 7919) % handleCount;
+        return _lookup;
+    }
+
+    @Benchmark
+    public Object longTableLookup()
+    {
+        return _longTable.get(nextLookup());
+    }
+
+    @Benchmark
+    public Object boxedTableLookup()
+    {
+        return _boxedTable.get(_tempLongObject.value(nextLookup()));
+    }
+
+    @Benchmark
+    public Object concurrentLongTableLookup()
+    {
+        return _concurrentLongTable.get(nextLookup());
+    }
+
+    @Benchmark
+    public Object concurrentBoxedTableLookup()
+    {
+        return _concurrentBoxedTable.get(_tempLongObject.value(nextLookup()));
+    }
+
+    @Benchmark
+    public Object longTableChurn()
+    {
+        long oldest = _longOldest++;
+        _longTable.remove(oldest);
+        _longTable.put(oldest + handleCount, ITEM);
+        return _longTable.get(oldest + 1 + (oldest * 31L) % (handleCount - 1));
+    }
+
+    @Benchmark
+    public Object boxedTableChurn()
+    {
+        long oldest = _boxedOldest++;
+        _boxedTable.remove(_tempLongObject.value(oldest));
+        _boxedTable.put(new LongObject().value(oldest + handleCount), ITEM);
+        return _boxedTable.get(_tempLongObject.value(oldest + 1 + (oldest * 31L) % (handleCount - 1)));
+    }
+
+    /**
+     * Prints the heap retained per handle by each table holding a million handles.
+     *
+     * @param args unused
+     */
+    public static void main(String[] args)
+    {
+        final int count = 1000000;
+
+        long before = usedHeap();
+        LongItemHashMap<Object> longTable = new LongItemHashMap<Object>();
+        for (long handle = 0; handle < count; ++handle)
+            longTable.put(handle, ITEM);
+        printFootprint("LongItemHashMap", usedHeap() - before, longTable.size());
+        longTable = null;
+
+        before = usedHeap();
+        ConcurrentLongItemHashMap<Object> concurrentLongTable = new ConcurrentLongItemHashMap<Object>();
+        for (long handle = 0; handle < count; ++handle)
+            concurrentLongTable.put(handle, ITEM);
+        printFootprint("ConcurrentLongItemHashMap", usedHeap() - before, concurrentLongTable.size());
+        concurrentLongTable = null;
+
+        before = usedHeap();
+        HashMap<LongObject, Object> boxedTable = new HashMap<LongObject, Object>();
+        for (long handle = 0; handle < count; ++handle)
+            boxedTable.put(new LongObject().value(handle), ITEM);
+        printFootprint("HashMap<LongObject>", usedHeap() - before, boxedTable.size());
+        boxedTable = null;
+
+        before = usedHeap();
+        ConcurrentHashMap<LongObject, Object> concurrentBoxedTable = new ConcurrentHashMap<LongObject, Object>();
+        for (long handle = 0; handle < count; ++handle)
+            concurrentBoxedTable.put(new LongObject().value(handle), ITEM);
+        printFootprint("ConcurrentHashMap<LongObject>", usedHeap() - before, concurrentBoxedTable.size());
+    }
+
+    private static void printFootprint(String table, long bytes, int size)
+    {
+        System.out.printf("%-30s %10d bytes for %d handles, %6.1f bytes per handle%n", table, bytes, size, (double)bytes / size);
+    }
+
+    private static long usedHeap()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,107 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.ema.access;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Dispatch loop operations on the EMA timeout scheduler with timerCount pending request timeouts,
+ * all expiring an hour after they were scheduled.
+ * <p>
+ * The expire benchmark schedules an event that is already due and dispatches it, as a timer
+ * posted for the next dispatch pass would be. The cancel benchmark cancels the earliest request
+ * timeout, as a refresh arriving for the item would, and schedules a new one behind the others;
+ * the cancelled event is discarded when the dispatch loop next reads the earliest deadline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimeoutEventSchedulerBenchmark
+{
+    @Param({ "1000", "100000" })
+    public int timerCount;
+
+    private static final long REQUEST_TIMEOUT = TimeUnit.HOURS.toNanos(1);
+
+    private TimeoutEventScheduler _scheduler;
+    private TimeoutEvent[] _events;
+    private TimeoutEvent _dueEvent;
+    private int _oldest;
+    private long _expiredCount;
+
+    private final TimeoutClient _client = new TimeoutClient()
+    {
+        private final ReentrantLock _userLock = new ReentrantLock();
+
+        @Override
+        public void handleTimeoutEvent()
+        {
+            ++_expiredCount;
+        }
+
+        @Override
+        public ReentrantLock userLock()
+        {
+            return _userLock;
+        }
+    };
+
+    @Setup
+    public void setup()
+    {
+        _scheduler = new TimeoutEventScheduler();
+        _events = new TimeoutEvent[timerCount];
+        for (int i = 0; i < timerCount; ++i)
+        {
+            _events[i] = new TimeoutEvent(REQUEST_TIMEOUT, _client);
+            _scheduler.add(_events[i]);
+        }
+        _dueEvent = new TimeoutEvent(0, _client);
+        _oldest = 0;
+        _expiredCount = 0;
+    }
+
+    @Benchmark
+    public long nextTimeout()
+    {
+        return _scheduler.nextTimeout();
+    }
+
+    @Benchmark
+    public long expire()
+    {
+        _dueEvent.timeoutInNanoSec(0, _client);
+        _scheduler.add(_dueEvent);
+        _scheduler.execute();
+        return _expiredCount;
+    }
+
+    @Benchmark
+    public long cancel()
+    {
+        TimeoutEvent event = _events[_oldest];
+        event.cancel();
+        long timeout = _scheduler.nextTimeout();
+
+        event.timeoutInNanoSec(REQUEST_TIMEOUT, _client);
+        _scheduler.add(event);
+        _oldest = (_oldest + 1) % timerCount;
+        return timeout;
+    }
+}
@@ -0,0 +1,96 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.TransportFactory;
+
+/**
+ * Compares the application startup cost of loading RDMFieldDictionary and enumtype.def
+ * from text with loading a binary dictionary snapshot of them, alone and followed by
+ * looking up the MarketPrice fields. The dictionary files are taken from the
+ * rdmFieldDictionary and enumTypeDef system properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DictionaryLoadBenchmark
+{
+    private final Error _error = TransportFactory.createError();
+
+    private String _fieldDictionaryFile;
+    private String _enumTypeDefFile;
+    private File _snapshotFile;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        _fieldDictionaryFile = System.getProperty("rdmFieldDictionary", "../../etc/RDMFieldDictionary");
+        _enumTypeDefFile = System.getProperty("enumTypeDef", "../../etc/enumtype.def");
+        _snapshotFile = File.createTempFile("RDMFieldDictionary", ".snapshot");
+
+        DataDictionary dictionary = loadText();
+        check(dictionary.saveDictionarySnapshot(_snapshotFile.getPath(), _error));
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _snapshotFile.delete();
+    }
+
+    private void check(int ret)
+    {
+        if (ret < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("dictionary load failed: " + _error.text());
+    }
+
+    @Benchmark
+    public DataDictionary loadText()
+    {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        check(dictionary.loadFieldDictionary(_fieldDictionaryFile, _error));
+        check(dictionary.loadEnumTypeDictionary(_enumTypeDefFile, _error));
+        return dictionary;
+    }
+
+    @Benchmark
+    public DataDictionary loadSnapshot()
+    {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        check(dictionary.loadDictionarySnapshot(_snapshotFile.getPath(), _error));
+        return dictionary;
+    }
+
+    @Benchmark
+    public int loadSnapshotAndLookup()
+    {
+        DataDictionary dictionary = loadSnapshot();
+        int sum = 0;
+        for (int fid : Payloads.MARKET_PRICE_FIDS)
+            sum += dictionary.entry(fid).rwfType();
+        return sum;
+    }
+}
@@ -0,0 +1,94 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+
+/**
+ * Encodes and decodes a MarketPrice field list of 18 fields (REAL, DATE, TIME, ENUM and
+ * ASCII_STRING), with standard data only and with its REAL fields in a set definition.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FieldListBenchmark
+{
+    private final Payloads _payloads = new Payloads(0);
+    private final EncodeIterator _encIter = CodecFactory.createEncodeIterator();
+    private final DecodeIterator _decIter = CodecFactory.createDecodeIterator();
+    private final Buffer _encodeBuffer = Payloads.newBuffer();
+
+    private Buffer _standard;
+    private Buffer _setDefined;
+    private int _seed;
+
+    @Setup
+    public void setup()
+    {
+        Buffer buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        check(_payloads.encodeMarketPrice(_encIter, 0, false));
+        _standard = Payloads.encoded(buffer);
+
+        buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        check(_payloads.encodeMarketPrice(_encIter, 0, true));
+        _setDefined = Payloads.encoded(buffer);
+    }
+
+    static void check(int ret)
+    {
+        if (ret < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("encoding failed: " + CodecReturnCodes.toString(ret));
+    }
+
+    @Benchmark
+    public int encodeMarketPrice()
+    {
+        Payloads.startEncode(_encIter, _encodeBuffer);
+        _payloads.encodeMarketPrice(_encIter, ++_seed, false);
+        return _encodeBuffer.data().position();
+    }
+
+    @Benchmark
+    public long decodeMarketPrice()
+    {
+        Payloads.startDecode(_decIter, _standard);
+        return _payloads.decodeFieldList(_decIter, false);
+    }
+
+    @Benchmark
+    public int encodeMarketPriceSetDefined()
+    {
+        Payloads.startEncode(_encIter, _encodeBuffer);
+        _payloads.encodeMarketPrice(_encIter, ++_seed, true);
+        return _encodeBuffer.data().position();
+    }
+
+    @Benchmark
+    public long decodeMarketPriceSetDefined()
+    {
+        Payloads.startDecode(_decIter, _setDefined);
+        return _payloads.decodeFieldList(_decIter, true);
+    }
+}
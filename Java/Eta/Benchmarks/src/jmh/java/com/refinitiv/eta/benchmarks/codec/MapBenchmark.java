@@ -0,0 +1,107 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+
+/**
+ * Encodes and decodes MarketByOrder and MarketByPrice maps of field lists, and walks
+ * the map entries with the DecodeIterator without decoding their field lists.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapBenchmark
+{
+    @Param({ "10", "100" })
+    public int entryCount;
+
+    private Payloads _payloads;
+    private final EncodeIterator _encIter = CodecFactory.createEncodeIterator();
+    private final DecodeIterator _decIter = CodecFactory.createDecodeIterator();
+    private final Buffer _encodeBuffer = Payloads.newBuffer();
+
+    private Buffer _marketByOrder;
+    private Buffer _marketByPrice;
+    private int _seed;
+
+    @Setup
+    public void setup()
+    {
+        _payloads = new Payloads(entryCount);
+
+        Buffer buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        FieldListBenchmark.check(_payloads.encodeMarketByOrder(_encIter, 0));
+        _marketByOrder = Payloads.encoded(buffer);
+
+        buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        FieldListBenchmark.check(_payloads.encodeMarketByPrice(_encIter, 0));
+        _marketByPrice = Payloads.encoded(buffer);
+    }
+
+    @Benchmark
+    public int encodeMarketByOrder()
+    {
+        Payloads.startEncode(_encIter, _encodeBuffer);
+        _payloads.encodeMarketByOrder(_encIter, ++_seed);
+        return _encodeBuffer.data().position();
+    }
+
+    @Benchmark
+    public long decodeMarketByOrder()
+    {
+        Payloads.startDecode(_decIter, _marketByOrder);
+        return _payloads.decodeMap(_decIter);
+    }
+
+    @Benchmark
+    public long traverseMarketByOrder()
+    {
+        Payloads.startDecode(_decIter, _marketByOrder);
+        return _payloads.traverseMap(_decIter);
+    }
+
+    @Benchmark
+    public int encodeMarketByPrice()
+    {
+        Payloads.startEncode(_encIter, _encodeBuffer);
+        _payloads.encodeMarketByPrice(_encIter, ++_seed);
+        return _encodeBuffer.data().position();
+    }
+
+    @Benchmark
+    public long decodeMarketByPrice()
+    {
+        Payloads.startDecode(_decIter, _marketByPrice);
+        return _payloads.decodeMap(_decIter);
+    }
+
+    @Benchmark
+    public long traverseMarketByPrice()
+    {
+        Payloads.startDecode(_decIter, _marketByPrice);
+        return _payloads.traverseMap(_decIter);
+    }
+}
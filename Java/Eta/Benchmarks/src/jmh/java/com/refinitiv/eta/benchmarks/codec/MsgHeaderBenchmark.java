@@ -0,0 +1,148 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.DataStates;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.QosRates;
+import com.refinitiv.eta.codec.QosTimeliness;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.StreamStates;
+import com.refinitiv.eta.codec.UpdateMsg;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.rdm.UpdateEventTypes;
+
+/**
+ * Encodes and decodes the headers of MarketPrice refresh and update messages, with a
+ * pre-encoded field list as their data body. Decoding stops at the data body.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MsgHeaderBenchmark
+{
+    private final EncodeIterator _encIter = CodecFactory.createEncodeIterator();
+    private final DecodeIterator _decIter = CodecFactory.createDecodeIterator();
+    private final Buffer _encodeBuffer = Payloads.newBuffer();
+    private final Msg _refreshMsg = CodecFactory.createMsg();
+    private final Msg _updateMsg = CodecFactory.createMsg();
+    private final Msg _decodeMsg = CodecFactory.createMsg();
+    private final Buffer _itemName = CodecFactory.createBuffer();
+    private final Buffer _stateText = CodecFactory.createBuffer();
+
+    private Buffer _encodedRefresh;
+    private Buffer _encodedUpdate;
+    private long _seqNum;
+
+    @Setup
+    public void setup()
+    {
+        Payloads payloads = new Payloads(0);
+        Buffer buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        FieldListBenchmark.check(payloads.encodeMarketPrice(_encIter, 0, false));
+        Buffer body = Payloads.encoded(buffer);
+
+        _itemName.data("TRI.N");
+        _stateText.data("Item Refresh Completed");
+
+        RefreshMsg refreshMsg = (RefreshMsg)_refreshMsg;
+        refreshMsg.clear();
+        refreshMsg.msgClass(MsgClasses.REFRESH);
+        refreshMsg.streamId(5);
+        refreshMsg.domainType(DomainTypes.MARKET_PRICE);
+        refreshMsg.containerType(DataTypes.FIELD_LIST);
+        refreshMsg.applyRefreshComplete();
+        refreshMsg.applyClearCache();
+        refreshMsg.applySolicited();
+        refreshMsg.applyHasQos();
+        refreshMsg.qos().timeliness(QosTimeliness.REALTIME);
+        refreshMsg.qos().rate(QosRates.TICK_BY_TICK);
+        refreshMsg.state().streamState(StreamStates.OPEN);
+        refreshMsg.state().dataState(DataStates.OK);
+        refreshMsg.state().text(_stateText);
+        refreshMsg.applyHasMsgKey();
+        refreshMsg.msgKey().applyHasServiceId();
+        refreshMsg.msgKey().serviceId(1);
+        refreshMsg.msgKey().applyHasName();
+        refreshMsg.msgKey().name(_itemName);
+        refreshMsg.encodedDataBody(body);
+
+        UpdateMsg updateMsg = (UpdateMsg)_updateMsg;
+        updateMsg.clear();
+        updateMsg.msgClass(MsgClasses.UPDATE);
+        updateMsg.streamId(5);
+        updateMsg.domainType(DomainTypes.MARKET_PRICE);
+        updateMsg.containerType(DataTypes.FIELD_LIST);
+        updateMsg.updateType(UpdateEventTypes.QUOTE);
+        updateMsg.applyHasSeqNum();
+        updateMsg.encodedDataBody(body);
+
+        buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        FieldListBenchmark.check(_refreshMsg.encode(_encIter));
+        _encodedRefresh = Payloads.encoded(buffer);
+
+        buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        FieldListBenchmark.check(_updateMsg.encode(_encIter));
+        _encodedUpdate = Payloads.encoded(buffer);
+    }
+
+    @Benchmark
+    public int encodeRefreshMsg()
+    {
+        Payloads.startEncode(_encIter, _encodeBuffer);
+        _refreshMsg.encode(_encIter);
+        return _encodeBuffer.data().position();
+    }
+
+    @Benchmark
+    public int decodeRefreshMsg()
+    {
+        Payloads.startDecode(_decIter, _encodedRefresh);
+        _decodeMsg.clear();
+        _decodeMsg.decode(_decIter);
+        return _decodeMsg.streamId() + _decodeMsg.msgKey().serviceId();
+    }
+
+    @Benchmark
+    public int encodeUpdateMsg()
+    {
+        ((UpdateMsg)_updateMsg).seqNum(++_seqNum);
+        Payloads.startEncode(_encIter, _encodeBuffer);
+        _updateMsg.encode(_encIter);
+        return _encodeBuffer.data().position();
+    }
+
+    @Benchmark
+    public int decodeUpdateMsg()
+    {
+        Payloads.startDecode(_decIter, _encodedUpdate);
+        _decodeMsg.clear();
+        _decodeMsg.decode(_decIter);
+        return _decodeMsg.streamId() + _decodeMsg.encodedDataBody().length();
+    }
+}
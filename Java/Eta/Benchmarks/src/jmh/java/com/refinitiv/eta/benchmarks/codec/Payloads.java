@@ -0,0 +1,428 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.Date;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Enum;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.LocalFieldSetDefDb;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.Time;
+import com.refinitiv.eta.codec.UInt;
+
+/**
+ * Encoders and decoders of the typical MarketPrice, MarketByOrder and MarketByPrice
+ * payloads used by the codec benchmarks. The field ids are those of the RDM field
+ * dictionary; the data types are known up front, as a consumer with a loaded dictionary
+ * would know them, so the payloads decode without a dictionary.
+ * <p>
+ * An instance holds its own codec objects and is not thread safe.
+ */
+public class Payloads
+{
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    /* MarketPrice fields: BID, ASK, BIDSIZE, ASKSIZE, TRDPRC_1, HIGH_1, LOW_1, OPEN_PRC,
+     * HST_CLOSE, NETCHNG_1, ACVOL_1, PCTCHNG, TRADE_DATE, TRDTIM_1, QUOTIM, CURRENCY,
+     * RDN_EXCHID, DSPLY_NAME */
+    static final int[] MARKET_PRICE_FIDS = { 22, 25, 30, 31, 6, 12, 13, 19, 21, 11, 32, 56, 16, 18, 1025, 15, 4, 3 };
+    static final int[] MARKET_PRICE_TYPES = { DataTypes.REAL, DataTypes.REAL, DataTypes.REAL, DataTypes.REAL,
+                                              DataTypes.REAL, DataTypes.REAL, DataTypes.REAL, DataTypes.REAL,
+                                              DataTypes.REAL, DataTypes.REAL, DataTypes.REAL, DataTypes.REAL,
+                                              DataTypes.DATE, DataTypes.TIME, DataTypes.TIME, DataTypes.ENUM,
+                                              DataTypes.ENUM, DataTypes.ASCII_STRING };
+    /* The REAL fields of MarketPrice, which the set-defined field list carries in its set. */
+    static final int MARKET_PRICE_REAL_COUNT = 12;
+
+    /* MarketByOrder entry fields: ORDER_PRC, ORDER_SIDE, ORDER_SIZE, QUOTIM_MS */
+    static final int[] MARKET_BY_ORDER_FIDS = { 3427, 3428, 3429, 3855 };
+    static final int[] MARKET_BY_ORDER_TYPES = { DataTypes.REAL, DataTypes.ENUM, DataTypes.REAL, DataTypes.UINT };
+
+    /* MarketByPrice entry fields: ORDER_PRC, ORDER_SIDE, ACC_SIZE, NO_ORD, LV_TIM_MS */
+    static final int[] MARKET_BY_PRICE_FIDS = { 3427, 3428, 4356, 3430, 6527 };
+    static final int[] MARKET_BY_PRICE_TYPES = { DataTypes.REAL, DataTypes.ENUM, DataTypes.REAL, DataTypes.UINT, DataTypes.UINT };
+
+    private static final int MAX_FID = 8192;
+    private static final int[] _fidTypes = new int[MAX_FID];
+
+    static
+    {
+        setTypes(MARKET_PRICE_FIDS, MARKET_PRICE_TYPES);
+        setTypes(MARKET_BY_ORDER_FIDS, MARKET_BY_ORDER_TYPES);
+        setTypes(MARKET_BY_PRICE_FIDS, MARKET_BY_PRICE_TYPES);
+    }
+
+    private static void setTypes(int[] fids, int[] types)
+    {
+        for (int i = 0; i < fids.length; ++i)
+            _fidTypes[fids[i]] = types[i];
+    }
+
+    final FieldList _fieldList = CodecFactory.createFieldList();
+    final FieldEntry _fieldEntry = CodecFactory.createFieldEntry();
+    final Map _map = CodecFactory.createMap();
+    final MapEntry _mapEntry = CodecFactory.createMapEntry();
+    final Real _real = CodecFactory.createReal();
+    final UInt _uint = CodecFactory.createUInt();
+    final Enum _enum = CodecFactory.createEnum();
+    final Date _date = CodecFactory.createDate();
+    final Time _time = CodecFactory.createTime();
+    final Buffer _buffer = CodecFactory.createBuffer();
+    final Buffer _key = CodecFactory.createBuffer();
+    final LocalFieldSetDefDb _setDb = CodecFactory.createLocalFieldSetDefDb();
+
+    private final Buffer _displayName = CodecFactory.createBuffer();
+    private final Buffer[] _orderIds;
+    private final Buffer[] _priceKeys;
+
+    /**
+     * Creates the payload codecs.
+     *
+     * @param mapEntryCount the number of entries of the MarketByOrder and MarketByPrice maps
+     */
+    public Payloads(int mapEntryCount)
+    {
+        _displayName.data("THOMSON REUTERS");
+
+        _orderIds = new Buffer[mapEntryCount];
+        _priceKeys = new Buffer[mapEntryCount];
+        for (int i = 0; i < mapEntryCount; ++i)
+        {
+            _orderIds[i] = CodecFactory.createBuffer();
+            _orderIds[i].data("ORD" + (1000000 + i));
+            _priceKeys[i] = CodecFactory.createBuffer();
+            _priceKeys[i].data((100 + i / 4) + "." + (i % 4) * 25 + (i % 2 == 0 ? "B" : "A"));
+        }
+
+        _setDb.clear();
+        _setDb.definitions()[0].setId(0);
+        _setDb.definitions()[0].count(MARKET_PRICE_REAL_COUNT);
+        _setDb.definitions()[0].entries(_setDb.entries()[0]);
+        for (int i = 0; i < MARKET_PRICE_REAL_COUNT; ++i)
+        {
+            _setDb.definitions()[0].entries()[i].fieldId(MARKET_PRICE_FIDS[i]);
+            _setDb.definitions()[0].entries()[i].dataType(DataTypes.REAL);
+        }
+    }
+
+    /**
+     * Returns a Buffer over a new heap buffer of {@link #BUFFER_SIZE} bytes.
+     *
+     * @return the buffer
+     */
+    public static Buffer newBuffer()
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(BUFFER_SIZE));
+        return buffer;
+    }
+
+    /**
+     * Clears the buffer and sets it on the iterator.
+     *
+     * @param encIter the iterator
+     * @param buffer the buffer to encode into
+     */
+    public static void startEncode(EncodeIterator encIter, Buffer buffer)
+    {
+        buffer.data().clear();
+        buffer.data(buffer.data(), 0, BUFFER_SIZE);
+        encIter.clear();
+        encIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+    }
+
+    /**
+     * Sets an encoded buffer on the iterator.
+     *
+     * @param decIter the iterator
+     * @param buffer the encoded buffer
+     */
+    public static void startDecode(DecodeIterator decIter, Buffer buffer)
+    {
+        decIter.clear();
+        decIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+    }
+
+    /**
+     * Returns the content encoded into a buffer by {@link #startEncode(EncodeIterator, Buffer)}
+     * as a new buffer. The encoders leave the position of the ByteBuffer at the end of the content.
+     *
+     * @param buffer the buffer
+     * @return a buffer holding the encoded length only
+     */
+    public static Buffer encoded(Buffer buffer)
+    {
+        Buffer encoded = CodecFactory.createBuffer();
+        encoded.data(buffer.data(), 0, buffer.data().position());
+        return encoded;
+    }
+
+    /**
+     * Encodes a MarketPrice field list.
+     *
+     * @param encIter the iterator
+     * @param seed varies the values of the fields
+     * @param setDefined whether the REAL fields are encoded as set-defined data
+     * @return {@link CodecReturnCodes}
+     */
+    public int encodeMarketPrice(EncodeIterator encIter, int seed, boolean setDefined)
+    {
+        int ret;
+        _fieldList.clear();
+        if (setDefined)
+        {
+            _fieldList.applyHasSetData();
+            _fieldList.applyHasSetId();
+            _fieldList.setId(0);
+        }
+        _fieldList.applyHasStandardData();
+
+        if ((ret = _fieldList.encodeInit(encIter, setDefined ? _setDb : null, 0)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        for (int i = 0; i < MARKET_PRICE_FIDS.length; ++i)
+        {
+            _fieldEntry.clear();
+            _fieldEntry.fieldId(MARKET_PRICE_FIDS[i]);
+            _fieldEntry.dataType(MARKET_PRICE_TYPES[i]);
+
+            switch (MARKET_PRICE_TYPES[i])
+            {
+                case DataTypes.REAL:
+                    _real.value(10000L + seed + i * 7, RealHints.EXPONENT_2);
+                    ret = _fieldEntry.encode(encIter, _real);
+                    break;
+                case DataTypes.DATE:
+                    _date.year(2026);
+                    _date.month(10);
+                    _date.day(1 + seed % 28);
+                    ret = _fieldEntry.encode(encIter, _date);
+                    break;
+                case DataTypes.TIME:
+                    _time.hour(seed % 24);
+                    _time.minute(seed % 60);
+                    _time.second(i);
+                    _time.millisecond(seed % 1000);
+                    ret = _fieldEntry.encode(encIter, _time);
+                    break;
+                case DataTypes.ENUM:
+                    _enum.value(840);
+                    ret = _fieldEntry.encode(encIter, _enum);
+                    break;
+                default:
+                    ret = _fieldEntry.encode(encIter, _displayName);
+                    break;
+            }
+
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return _fieldList.encodeComplete(encIter, true);
+    }
+
+    /**
+     * Encodes a MarketByOrder map of order entries keyed by order id.
+     *
+     * @param encIter the iterator
+     * @param seed varies the values of the fields
+     * @return {@link CodecReturnCodes}
+     */
+    public int encodeMarketByOrder(EncodeIterator encIter, int seed)
+    {
+        return encodeMap(encIter, seed, _orderIds, MARKET_BY_ORDER_FIDS, MARKET_BY_ORDER_TYPES);
+    }
+
+    /**
+     * Encodes a MarketByPrice map of price level entries keyed by price.
+     *
+     * @param encIter the iterator
+     * @param seed varies the values of the fields
+     * @return {@link CodecReturnCodes}
+     */
+    public int encodeMarketByPrice(EncodeIterator encIter, int seed)
+    {
+        return encodeMap(encIter, seed, _priceKeys, MARKET_BY_PRICE_FIDS, MARKET_BY_PRICE_TYPES);
+    }
+
+    private int encodeMap(EncodeIterator encIter, int seed, Buffer[] keys, int[] fids, int[] types)
+    {
+        int ret;
+        _map.clear();
+        _map.keyPrimitiveType(DataTypes.BUFFER);
+        _map.containerType(DataTypes.FIELD_LIST);
+        if ((ret = _map.encodeInit(encIter, 0, 0)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        for (int entry = 0; entry < keys.length; ++entry)
+        {
+            _mapEntry.clear();
+            _mapEntry.action(MapEntryActions.ADD);
+            if ((ret = _mapEntry.encodeInit(encIter, keys[entry], 0)) < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            _fieldList.clear();
+            _fieldList.applyHasStandardData();
+            if ((ret = _fieldList.encodeInit(encIter, null, 0)) < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            for (int i = 0; i < fids.length; ++i)
+            {
+                _fieldEntry.clear();
+                _fieldEntry.fieldId(fids[i]);
+                _fieldEntry.dataType(types[i]);
+
+                switch (types[i])
+                {
+                    case DataTypes.REAL:
+                        _real.value(10000L + seed + entry * 25, RealHints.EXPONENT_2);
+                        ret = _fieldEntry.encode(encIter, _real);
+                        break;
+                    case DataTypes.ENUM:
+                        _enum.value(1 + entry % 2);
+                        ret = _fieldEntry.encode(encIter, _enum);
+                        break;
+                    default:
+                        _uint.value(36000000L + seed + entry);
+                        ret = _fieldEntry.encode(encIter, _uint);
+                        break;
+                }
+
+                if (ret < CodecReturnCodes.SUCCESS)
+                    return ret;
+            }
+
+            if ((ret = _fieldList.encodeComplete(encIter, true)) < CodecReturnCodes.SUCCESS
+                    || (ret = _mapEntry.encodeComplete(encIter, true)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return _map.encodeComplete(encIter, true);
+    }
+
+    /**
+     * Decodes a field list and every field value of the benchmark payloads.
+     *
+     * @param decIter the iterator, positioned on the field list
+     * @param setDefined whether the field list may carry set-defined data
+     * @return a checksum of the decoded values, or a negative {@link CodecReturnCodes}
+     */
+    public long decodeFieldList(DecodeIterator decIter, boolean setDefined)
+    {
+        int ret;
+        long checksum = 0;
+        if ((ret = _fieldList.decode(decIter, setDefined ? _setDb : null)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        while ((ret = _fieldEntry.decode(decIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            int fid = _fieldEntry.fieldId();
+            switch (fid < MAX_FID ? _fidTypes[fid] : DataTypes.UNKNOWN)
+            {
+                case DataTypes.REAL:
+                    ret = _real.decode(decIter);
+                    checksum += _real.toLong();
+                    break;
+                case DataTypes.UINT:
+                    ret = _uint.decode(decIter);
+                    checksum += _uint.toLong();
+                    break;
+                case DataTypes.ENUM:
+                    ret = _enum.decode(decIter);
+                    checksum += _enum.toInt();
+                    break;
+                case DataTypes.DATE:
+                    ret = _date.decode(decIter);
+                    checksum += _date.day();
+                    break;
+                case DataTypes.TIME:
+                    ret = _time.decode(decIter);
+                    checksum += _time.millisecond();
+                    break;
+                default:
+                    ret = _buffer.decode(decIter);
+                    checksum += _buffer.length();
+                    break;
+            }
+
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return checksum;
+    }
+
+    /**
+     * Decodes a map of field lists, with every field value.
+     *
+     * @param decIter the iterator, positioned on the map
+     * @return a checksum of the decoded values, or a negative {@link CodecReturnCodes}
+     */
+    public long decodeMap(DecodeIterator decIter)
+    {
+        int ret;
+        long checksum = 0;
+        if ((ret = _map.decode(decIter)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        while ((ret = _mapEntry.decode(decIter, _key)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            long entryChecksum = decodeFieldList(decIter, false);
+            if (entryChecksum < 0)
+                return entryChecksum;
+            checksum += entryChecksum + _key.length();
+        }
+
+        return checksum;
+    }
+
+    /**
+     * Walks the entries of a map with the DecodeIterator, reading the keys only.
+     * The field lists of the entries are skipped.
+     *
+     * @param decIter the iterator, positioned on the map
+     * @return the total length of the keys, or a negative {@link CodecReturnCodes}
+     */
+    public long traverseMap(DecodeIterator decIter)
+    {
+        int ret;
+        long checksum = 0;
+        if ((ret = _map.decode(decIter)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        while ((ret = _mapEntry.decode(decIter, _key)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+            checksum += _key.length() + _mapEntry.encodedData().length();
+        }
+
+        return checksum;
+    }
+}
@@ -0,0 +1,111 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.codec;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.DateTime;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+
+/**
+ * Encodes, decodes and converts the Real and DateTime primitives on their own.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimitiveBenchmark
+{
+    private final EncodeIterator _encIter = CodecFactory.createEncodeIterator();
+    private final DecodeIterator _decIter = CodecFactory.createDecodeIterator();
+    private final Buffer _encodeBuffer = Payloads.newBuffer();
+    private final Real _real = CodecFactory.createReal();
+    private final DateTime _dateTime = CodecFactory.createDateTime();
+
+    private Buffer _encodedReal;
+    private Buffer _encodedDateTime;
+    private long _seed;
+
+    @Setup
+    public void setup()
+    {
+        _real.value(1234567L, RealHints.EXPONENT_4);
+        Buffer buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        FieldListBenchmark.check(_real.encode(_encIter));
+        _encodedReal = Payloads.encoded(buffer);
+
+        _dateTime.year(2026);
+        _dateTime.month(10);
+        _dateTime.day(17);
+        _dateTime.hour(14);
+        _dateTime.minute(30);
+        _dateTime.second(15);
+        _dateTime.millisecond(250);
+        _dateTime.microsecond(125);
+        _dateTime.nanosecond(500);
+        buffer = Payloads.newBuffer();
+        Payloads.startEncode(_encIter, buffer);
+        FieldListBenchmark.check(_dateTime.encode(_encIter));
+        _encodedDateTime = Payloads.encoded(buffer);
+    }
+
+    @Benchmark
+    public int encodeReal()
+    {
+        _real.value(1234567L + (++_seed & 0xFFFF), RealHints.EXPONENT_4);
+        Payloads.startEncode(_encIter, _encodeBuffer);
+        _real.encode(_encIter);
+        return _encodeBuffer.data().position();
+    }
+
+    @Benchmark
+    public long decodeReal()
+    {
+        Payloads.startDecode(_decIter, _encodedReal);
+        _real.decode(_decIter);
+        return _real.toLong();
+    }
+
+    @Benchmark
+    public double convertReal()
+    {
+        _real.value(123.4567 + (++_seed & 0xFF), RealHints.EXPONENT_4);
+        return _real.toDouble();
+    }
+
+    @Benchmark
+    public int encodeDateTime()
+    {
+        _dateTime.millisecond((int)(++_seed % 1000));
+        Payloads.startEncode(_encIter, _encodeBuffer);
+        _dateTime.encode(_encIter);
+        return _encodeBuffer.data().position();
+    }
+
+    @Benchmark
+    public int decodeDateTime()
+    {
+        Payloads.startDecode(_decIter, _encodedDateTime);
+        _dateTime.decode(_decIter);
+        return _dateTime.millisecond() + _dateTime.nanosecond();
+    }
+}
@@ -0,0 +1,146 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DictionaryEntry;
+import com.refinitiv.eta.json.converter.ConverterFactory;
+import com.refinitiv.eta.json.converter.DecodeJsonMsgOptions;
+import com.refinitiv.eta.json.converter.JsonConverter;
+import com.refinitiv.eta.json.converter.JsonConverterError;
+import com.refinitiv.eta.json.converter.JsonConverterProperties;
+import com.refinitiv.eta.json.converter.JsonMsg;
+import com.refinitiv.eta.json.converter.JsonProtocol;
+import com.refinitiv.eta.json.converter.ParseJsonOptions;
+import com.refinitiv.eta.transport.TransportBuffer;
+import com.refinitiv.eta.transport.TransportFactory;
+
+/**
+ * Converts a JSON2 MarketPrice update to RWF, with the field list built from a
+ * JsonNode tree and with the streaming field list decode. The update carries the
+ * given number of fields, the first ones named and the rest REAL fields keyed by fid.
+ * It is read from a heap buffer, and from a direct transport buffer as received
+ * by a WebSocket channel, which the streaming decode copies once.
+ * <p>
+ * The field dictionary is loaded from the rdmFieldDictionary system property,
+ * by default from the etc directory of the Java tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonToRwfBenchmark
+{
+    private static final String UPDATE_HEADER = "{\"ID\":5,\"Type\":\"Update\",\"Domain\":\"MarketPrice\",\"UpdateType\":\"Quote\","
+            + "\"Key\":{\"Name\":\"TRI.N\"},";
+    private static final int NAMED_FIELD_COUNT = 16;
+    private static final String NAMED_FIELDS = "\"Fields\":{\"BID\":22.5,\"ASK\":23,\"BIDSIZE\":1000,\"ASKSIZE\":1500,\"TRDPRC_1\":22.75,"
+            + "\"HIGH_1\":23.5,\"LOW_1\":22.1,\"OPEN_PRC\":22.3,\"HST_CLOSE\":22.2,\"NETCHNG_1\":0.55,"
+            + "\"ACVOL_1\":1234567,\"TRADE_DATE\":\"2026-10-17\",\"TRDTIM_1\":\"14:30:15\","
+            + "\"DSPLY_NAME\":\"THOMSON REUTERS\",\"CURRENCY\":\"USD\",\"PCTCHNG\":2.48";
+
+    @Param({ "false", "true" })
+    public boolean streaming;
+
+    @Param({ "16", "256" })
+    public int fieldCount;
+
+    private JsonConverter _converter;
+    private final JsonConverterError _convError = ConverterFactory.createJsonConverterError();
+    private final ParseJsonOptions _parseOptions = ConverterFactory.createParseJsonOptions();
+    private final DecodeJsonMsgOptions _decodeOptions = ConverterFactory.createDecodeJsonMsgOptions();
+    private final JsonMsg _jsonMsg = ConverterFactory.createJsonMsg();
+    private final Buffer _jsonBuffer = CodecFactory.createBuffer();
+    private ByteBuffer _jsonData;
+    private ByteBuffer _directData;
+    private TransportBuffer _transportBuffer;
+
+    @Setup
+    public void setup()
+    {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        String dictionaryFile = System.getProperty("rdmFieldDictionary", "../../etc/RDMFieldDictionary");
+        if (dictionary.loadFieldDictionary(dictionaryFile, error) < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("cannot load " + dictionaryFile + ": " + error.text());
+
+        _converter = ConverterFactory.createJsonConverterBuilder()
+                .setProperty(JsonConverterProperties.JSON_CPC_PROTOCOL_VERSION, JsonProtocol.JSON_JPT_JSON2)
+                .setProperty(JsonConverterProperties.JSON_CPC_STREAMING_DECODE, streaming)
+                .setDictionary(dictionary)
+                .build(_convError);
+        if (_converter == null)
+            throw new IllegalStateException("cannot create the converter: " + _convError.getText());
+
+        _parseOptions.setProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        _decodeOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        byte[] msg = updateMsg(dictionary).getBytes(StandardCharsets.UTF_8);
+        _jsonData = ByteBuffer.wrap(msg);
+        _directData = ByteBuffer.allocateDirect(msg.length);
+        _directData.put(msg).flip();
+        _transportBuffer = new TransportBuffer()
+        {
+            public ByteBuffer data() { return _directData; }
+            public int length() { return _directData.limit(); }
+            public int copy(ByteBuffer destBuffer) { destBuffer.put(_directData.duplicate()); return CodecReturnCodes.SUCCESS; }
+            public int capacity() { return _directData.capacity(); }
+            public int dataStartPosition() { return 0; }
+        };
+    }
+
+    private String updateMsg(DataDictionary dictionary)
+    {
+        StringBuilder msg = new StringBuilder(UPDATE_HEADER).append(NAMED_FIELDS);
+        int count = NAMED_FIELD_COUNT;
+        for (int fid = 1000; count < fieldCount && fid <= dictionary.maxFid(); fid++)
+        {
+            DictionaryEntry entry = dictionary.entry(fid);
+            if (entry != null && entry.rwfType() == DataTypes.REAL)
+            {
+                msg.append(",\"").append(fid).append("\":").append(fid % 100).append(".25");
+                count++;
+            }
+        }
+        return msg.append("}}").toString();
+    }
+
+    @Benchmark
+    public int convertUpdate()
+    {
+        _jsonData.clear();
+        _jsonBuffer.data(_jsonData);
+        _converter.parseJsonBuffer(_jsonBuffer, _parseOptions, _convError);
+        _converter.decodeJsonMsg(_jsonMsg, _decodeOptions, _convError);
+        return _jsonMsg.rwfMsg().encodedMsgBuffer().length();
+    }
+
+    @Benchmark
+    public int convertDirectUpdate()
+    {
+        _converter.parseJsonBuffer(_transportBuffer, _parseOptions, _convError);
+        _converter.decodeJsonMsg(_jsonMsg, _decodeOptions, _convError);
+        return _jsonMsg.rwfMsg().encodedMsgBuffer().length();
+    }
+}
@@ -0,0 +1,150 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.json.converter.ConverterFactory;
+import com.refinitiv.eta.json.converter.DecodeJsonMsgOptions;
+import com.refinitiv.eta.json.converter.GetJsonMsgOptions;
+import com.refinitiv.eta.json.converter.JsonConverter;
+import com.refinitiv.eta.json.converter.JsonConverterError;
+import com.refinitiv.eta.json.converter.JsonConverterProperties;
+import com.refinitiv.eta.json.converter.JsonMsg;
+import com.refinitiv.eta.json.converter.JsonProtocol;
+import com.refinitiv.eta.json.converter.ParseJsonOptions;
+import com.refinitiv.eta.json.converter.RWFToJsonOptions;
+import com.refinitiv.eta.transport.TransportFactory;
+
+/**
+ * Converts an RWF MarketPrice update, with Real, Date, Time, Enum and string fields,
+ * to JSON2. Run with -prof gc to check that the primitives are written without
+ * creating Strings.
+ * <p>
+ * convertRealUpdate converts an update of decimal Reals only, so that the time spent
+ * writing Reals is not hidden by the rest of the message.
+ * <p>
+ * The field dictionary is loaded from the rdmFieldDictionary system property,
+ * by default from the etc directory of the Java tree.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RwfToJsonBenchmark
+{
+    private static final String UPDATE_MSG = "{\"ID\":5,\"Type\":\"Update\",\"Domain\":\"MarketPrice\",\"UpdateType\":\"Quote\","
+            + "\"Key\":{\"Name\":\"TRI.N\"},"
+            + "\"Fields\":{\"BID\":22.5,\"ASK\":23,\"BIDSIZE\":1000,\"ASKSIZE\":1500,\"TRDPRC_1\":22.75,"
+            + "\"HIGH_1\":23.5,\"LOW_1\":22.1,\"OPEN_PRC\":22.3,\"HST_CLOSE\":22.2,\"NETCHNG_1\":0.55,"
+            + "\"ACVOL_1\":1234567,\"TRADE_DATE\":\"2026-10-17\",\"TRDTIM_1\":\"14:30:15.250\","
+            + "\"DSPLY_NAME\":\"THOMSON REUTERS\",\"CURRENCY\":\"USD\",\"PCTCHNG\":2.48}}";
+
+    private static final String REAL_UPDATE_MSG = "{\"ID\":5,\"Type\":\"Update\",\"Domain\":\"MarketPrice\",\"UpdateType\":\"Quote\","
+            + "\"Key\":{\"Name\":\"TRI.N\"},"
+            + "\"Fields\":{\"BID\":22.5,\"ASK\":23.01,\"TRDPRC_1\":22.75,\"HIGH_1\":23.5,\"LOW_1\":22.1,"
+            + "\"OPEN_PRC\":22.3,\"HST_CLOSE\":22.2,\"NETCHNG_1\":-0.55,\"PCTCHNG\":2.48,\"YIELD\":0.0125}}";
+
+    private JsonConverter _converter;
+    private final JsonConverterError _convError = ConverterFactory.createJsonConverterError();
+    private final RWFToJsonOptions _rwfToJsonOptions = ConverterFactory.createRWFToJsonOptions();
+    private final GetJsonMsgOptions _getJsonMsgOptions = ConverterFactory.createGetJsonMsgOptions();
+    private final DecodeIterator _decodeIter = CodecFactory.createDecodeIterator();
+    private final Msg _msg = CodecFactory.createMsg();
+    private final Buffer _rwfBuffer = CodecFactory.createBuffer();
+    private final Buffer _jsonBuffer = CodecFactory.createBuffer();
+    // the JSON is copied into this buffer, which is larger than the messages, so getJsonBuffer() does not allocate
+    private final ByteBuffer _jsonData = ByteBuffer.allocate(4096);
+    private ByteBuffer _rwfData;
+    private ByteBuffer _realRwfData;
+
+    @Setup
+    public void setup()
+    {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        String dictionaryFile = System.getProperty("rdmFieldDictionary", "../../etc/RDMFieldDictionary");
+        if (dictionary.loadFieldDictionary(dictionaryFile, error) < CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("cannot load " + dictionaryFile + ": " + error.text());
+
+        _converter = ConverterFactory.createJsonConverterBuilder()
+                .setProperty(JsonConverterProperties.JSON_CPC_PROTOCOL_VERSION, JsonProtocol.JSON_JPT_JSON2)
+                .setDictionary(dictionary)
+                .build(_convError);
+        if (_converter == null)
+            throw new IllegalStateException("cannot create the converter: " + _convError.getText());
+
+        _rwfData = rwfUpdate(UPDATE_MSG);
+        _realRwfData = rwfUpdate(REAL_UPDATE_MSG);
+
+        _rwfToJsonOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        _getJsonMsgOptions.jsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+    }
+
+    // the RWF update is made from the JSON one, and copied as the converter reuses its buffer
+    private ByteBuffer rwfUpdate(String update)
+    {
+        ParseJsonOptions parseOptions = ConverterFactory.createParseJsonOptions();
+        parseOptions.setProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        DecodeJsonMsgOptions decodeOptions = ConverterFactory.createDecodeJsonMsgOptions();
+        decodeOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        JsonMsg jsonMsg = ConverterFactory.createJsonMsg();
+        Buffer jsonBuffer = CodecFactory.createBuffer();
+        jsonBuffer.data(ByteBuffer.wrap(update.getBytes(StandardCharsets.UTF_8)));
+        if (_converter.parseJsonBuffer(jsonBuffer, parseOptions, _convError) != CodecReturnCodes.SUCCESS
+                || _converter.decodeJsonMsg(jsonMsg, decodeOptions, _convError) != CodecReturnCodes.SUCCESS)
+            throw new IllegalStateException("cannot convert the update to RWF: " + _convError.getText());
+
+        Buffer rwf = jsonMsg.rwfMsg().encodedMsgBuffer();
+        ByteBuffer rwfData = ByteBuffer.allocate(rwf.length());
+        rwf.copy(rwfData);
+        return rwfData;
+    }
+
+    @Benchmark
+    public int convertUpdate()
+    {
+        return convert(_rwfData);
+    }
+
+    @Benchmark
+    public int convertRealUpdate()
+    {
+        return convert(_realRwfData);
+    }
+
+    private int convert(ByteBuffer rwfData)
+    {
+        _rwfBuffer.data(rwfData, 0, rwfData.capacity());
+        _decodeIter.clear();
+        _decodeIter.setBufferAndRWFVersion(_rwfBuffer, Codec.majorVersion(), Codec.minorVersion());
+        _msg.decode(_decodeIter);
+        _converter.convertRWFToJson(_msg, _rwfToJsonOptions, _convError);
+        _jsonData.clear();
+        _jsonBuffer.data(_jsonData);
+        _converter.getJsonBuffer(_jsonBuffer, _getJsonMsgOptions, _convError);
+        return _jsonData.position();
+    }
+}
@@ -0,0 +1,345 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.transport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.transport.AcceptOptions;
+import com.refinitiv.eta.transport.BindOptions;
+import com.refinitiv.eta.transport.Channel;
+import com.refinitiv.eta.transport.ChannelState;
+import com.refinitiv.eta.transport.ConnectOptions;
+import com.refinitiv.eta.transport.ConnectionTypes;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.InProgInfo;
+import com.refinitiv.eta.transport.InitArgs;
+import com.refinitiv.eta.transport.ReadArgs;
+import com.refinitiv.eta.transport.Server;
+import com.refinitiv.eta.transport.Transport;
+import com.refinitiv.eta.transport.TransportBuffer;
+import com.refinitiv.eta.transport.TransportFactory;
+import com.refinitiv.eta.transport.TransportReturnCodes;
+import com.refinitiv.eta.transport.WriteArgs;
+
+/**
+ * Measures ENCRYPTED connections over loopback with the JDK (SunJSSE) and Conscrypt engines:
+ * the rate of client connections, each one a TLS handshake followed by the ETA channel
+ * initialization, with and without session resumption, and the throughput of messages sent
+ * on an established connection. The server side of the handshakes runs on its own thread,
+ * as an engine completes its handshake while the peer answers it. The keystore, which must
+ * hold a certificate for localhost, is taken from the tlsBenchmarkKeystore and
+ * tlsBenchmarkKeystorePasswd system properties and the listening port from tlsBenchmarkPort.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EncryptedSocketBenchmark
+{
+    static final String KEYSTORE = System.getProperty("tlsBenchmarkKeystore",
+            "../Core/src/test/resources/com/refinitiv/eta/transport/CryptoHelperJunit/localhost.jks");
+    static final String KEYSTORE_PASSWD = System.getProperty("tlsBenchmarkKeystorePasswd", "changeit");
+    static final String PORT = System.getProperty("tlsBenchmarkPort", "14011");
+
+    @State(Scope.Thread)
+    public static class Handshake
+    {
+        @Param({ "SunJSSE", "Conscrypt" })
+        public String securityProvider;
+
+        @Param({ "true", "false" })
+        public boolean sessionResumption;
+
+        final Error _error = TransportFactory.createError();
+        final InProgInfo _inProg = TransportFactory.createInProgInfo();
+        ConnectOptions _connectOptions;
+        Server _server;
+        ServerLoop _serverLoop;
+        Thread _serverThread;
+
+        @Setup
+        public void setup() throws IOException
+        {
+            initialize(_error);
+            _server = bind(securityProvider, _error);
+            _connectOptions = connectOptions(securityProvider, sessionResumption);
+            _serverLoop = new ServerLoop(_server);
+            _serverThread = new Thread(_serverLoop, "EncryptedSocketBenchmark server");
+            _serverThread.start();
+        }
+
+        @TearDown
+        public void tearDown() throws InterruptedException
+        {
+            _serverLoop._running = false;
+            _serverThread.join();
+            _server.close(_error);
+            Transport.uninitialize();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Connection
+    {
+        @Param({ "SunJSSE", "Conscrypt" })
+        public String securityProvider;
+
+        @Param({ "100", "1024", "16384", "65000" })
+        public int msgSize;
+
+        final Error _error = TransportFactory.createError();
+        final WriteArgs _writeArgs = TransportFactory.createWriteArgs();
+        final ReadArgs _readArgs = TransportFactory.createReadArgs();
+        Server _server;
+        Channel _clientChannel;
+        Channel _serverChannel;
+        byte[] _payload;
+
+        @Setup
+        public void setup() throws Exception
+        {
+            initialize(_error);
+            _server = bind(securityProvider, _error);
+
+            // the client initializes on another thread while this one accepts and initializes the server channel
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try
+            {
+                Future<Channel> client = executor.submit(() ->
+                {
+                    Error error = TransportFactory.createError();
+                    Channel channel = Transport.connect(connectOptions(securityProvider, true), error);
+                    if (channel == null)
+                        throw new IllegalStateException("connect failed: " + error.text());
+                    initChannel(channel, TransportFactory.createInProgInfo(), error);
+                    return channel;
+                });
+
+                InProgInfo inProg = TransportFactory.createInProgInfo();
+                try (Selector selector = Selector.open())
+                {
+                    AcceptOptions acceptOptions = TransportFactory.createAcceptOptions();
+                    _server.selectableChannel().register(selector, SelectionKey.OP_ACCEPT);
+                    while (_serverChannel == null)
+                    {
+                        if (selector.select(100) > 0
+                                && (_serverChannel = _server.accept(acceptOptions, _error)) == null)
+                            throw new IllegalStateException("accept failed: " + _error.text());
+                    }
+                }
+                initChannel(_serverChannel, inProg, _error);
+                _clientChannel = client.get(30, TimeUnit.SECONDS);
+            }
+            finally
+            {
+                executor.shutdown();
+            }
+
+            _payload = new byte[msgSize];
+            for (int i = 0; i < msgSize; ++i)
+                _payload[i] = (byte)('a' + i % 26);
+        }
+
+        @TearDown
+        public void tearDown()
+        {
+            if (_clientChannel != null)
+                _clientChannel.close(_error);
+            if (_serverChannel != null)
+                _serverChannel.close(_error);
+            if (_server != null)
+                _server.close(_error);
+            Transport.uninitialize();
+        }
+    }
+
+    /* Accepts the connections of the handshake benchmark, initializes their channels and closes them
+     * when the client closes its side. */
+    static final class ServerLoop implements Runnable
+    {
+        final Server _server;
+        final Error _error = TransportFactory.createError();
+        final AcceptOptions _acceptOptions = TransportFactory.createAcceptOptions();
+        final InProgInfo _inProg = TransportFactory.createInProgInfo();
+        final ReadArgs _readArgs = TransportFactory.createReadArgs();
+        final List<Channel> _channels = new ArrayList<>();
+        volatile boolean _running = true;
+
+        ServerLoop(Server server)
+        {
+            _server = server;
+        }
+
+        @Override
+        public void run()
+        {
+            try (Selector selector = Selector.open())
+            {
+                _server.selectableChannel().register(selector, SelectionKey.OP_ACCEPT);
+                while (_running)
+                {
+                    if (selector.select(1) > 0)
+                    {
+                        selector.selectedKeys().clear();
+                        Channel channel = _server.accept(_acceptOptions, _error);
+                        if (channel != null)
+                            _channels.add(channel);
+                    }
+
+                    for (Iterator<Channel> iter = _channels.iterator(); iter.hasNext();)
+                    {
+                        Channel channel = iter.next();
+                        int ret = TransportReturnCodes.SUCCESS;
+                        if (channel.state() == ChannelState.INITIALIZING)
+                            ret = channel.init(_inProg, _error);
+                        else if (channel.state() == ChannelState.ACTIVE)
+                        {
+                            channel.read(_readArgs, _error);
+                            ret = _readArgs.readRetVal();
+                        }
+
+                        if (ret == TransportReturnCodes.FAILURE || channel.state() == ChannelState.CLOSED)
+                        {
+                            channel.close(_error);
+                            iter.remove();
+                        }
+                    }
+                }
+            }
+            catch (IOException e)
+            {
+                throw new IllegalStateException(e);
+            }
+            finally
+            {
+                for (Channel channel : _channels)
+                    channel.close(_error);
+                _channels.clear();
+            }
+        }
+    }
+
+    static void initialize(Error error)
+    {
+        // the server side of the handshakes runs on its own thread
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(true);
+        check(Transport.initialize(initArgs, error));
+    }
+
+    static Server bind(String securityProvider, Error error)
+    {
+        BindOptions bindOptions = TransportFactory.createBindOptions();
+        bindOptions.connectionType(ConnectionTypes.ENCRYPTED);
+        bindOptions.serviceName(PORT);
+        bindOptions.maxFragmentSize(0xFFFF);
+        bindOptions.encryptionOptions().keystoreFile(KEYSTORE);
+        bindOptions.encryptionOptions().keystorePasswd(KEYSTORE_PASSWD);
+        bindOptions.encryptionOptions().securityProvider(securityProvider);
+        bindOptions.majorVersion(Codec.majorVersion());
+        bindOptions.minorVersion(Codec.minorVersion());
+        bindOptions.protocolType(Codec.protocolType());
+        Server server = Transport.bind(bindOptions, error);
+        if (server == null)
+            throw new IllegalStateException("bind failed: " + error.text());
+        return server;
+    }
+
+    static ConnectOptions connectOptions(String securityProvider, boolean sessionResumption)
+    {
+        ConnectOptions connectOptions = TransportFactory.createConnectOptions();
+        connectOptions.connectionType(ConnectionTypes.ENCRYPTED);
+        connectOptions.encryptionOptions().connectionType(ConnectionTypes.SOCKET);
+        connectOptions.encryptionOptions().KeystoreFile(KEYSTORE);
+        connectOptions.encryptionOptions().KeystorePasswd(KEYSTORE_PASSWD);
+        connectOptions.encryptionOptions().SecurityProvider(securityProvider);
+        connectOptions.encryptionOptions().SessionResumption(sessionResumption);
+        connectOptions.unifiedNetworkInfo().address("localhost");
+        connectOptions.unifiedNetworkInfo().serviceName(PORT);
+        connectOptions.majorVersion(Codec.majorVersion());
+        connectOptions.minorVersion(Codec.minorVersion());
+        connectOptions.protocolType(Codec.protocolType());
+        return connectOptions;
+    }
+
+    static void initChannel(Channel channel, InProgInfo inProg, Error error)
+    {
+        while (channel.state() == ChannelState.INITIALIZING)
+        {
+            if (channel.init(inProg, error) < TransportReturnCodes.SUCCESS)
+                throw new IllegalStateException("channel init failed: " + error.text());
+        }
+        if (channel.state() != ChannelState.ACTIVE)
+            throw new IllegalStateException("channel did not become active: " + error.text());
+    }
+
+    private static void check(int ret)
+    {
+        if (ret < TransportReturnCodes.SUCCESS)
+            throw new IllegalStateException("transport call failed: " + TransportReturnCodes.toString(ret));
+    }
+
+    /* Connects a client channel, initializes it through the TLS handshake and closes it. */
+    @Benchmark
+    public int connect(Handshake state)
+    {
+        Channel channel = Transport.connect(state._connectOptions, state._error);
+        if (channel == null)
+            throw new IllegalStateException("connect failed: " + state._error.text());
+        initChannel(channel, state._inProg, state._error);
+        return channel.close(state._error);
+    }
+
+    /* Sends one message from the client channel to the server channel and reads it. */
+    @Benchmark
+    public int sendAndReceive(Connection state)
+    {
+        TransportBuffer buffer = state._clientChannel.getBuffer(state.msgSize, false, state._error);
+        if (buffer == null)
+            throw new IllegalStateException("getBuffer failed: " + state._error.text());
+        buffer.data().put(state._payload);
+
+        state._writeArgs.clear();
+        int ret = state._clientChannel.write(buffer, state._writeArgs, state._error);
+        while (ret > TransportReturnCodes.SUCCESS || ret == TransportReturnCodes.WRITE_FLUSH_FAILED)
+            ret = state._clientChannel.flush(state._error);
+        check(ret);
+
+        TransportBuffer msg;
+        do
+        {
+            msg = state._serverChannel.read(state._readArgs, state._error);
+            if (state._readArgs.readRetVal() == TransportReturnCodes.FAILURE)
+                throw new IllegalStateException("read failed: " + state._error.text());
+        }
+        while (msg == null);
+
+        ByteBuffer data = msg.data();
+        return msg.length() + data.get(msg.dataStartPosition());
+    }
+}
@@ -0,0 +1,178 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.transport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.transport.AcceptOptions;
+import com.refinitiv.eta.transport.BindOptions;
+import com.refinitiv.eta.transport.Channel;
+import com.refinitiv.eta.transport.ChannelState;
+import com.refinitiv.eta.transport.ConnectOptions;
+import com.refinitiv.eta.transport.ConnectionTypes;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.InProgInfo;
+import com.refinitiv.eta.transport.InitArgs;
+import com.refinitiv.eta.transport.ReadArgs;
+import com.refinitiv.eta.transport.Server;
+import com.refinitiv.eta.transport.Transport;
+import com.refinitiv.eta.transport.TransportBuffer;
+import com.refinitiv.eta.transport.TransportFactory;
+import com.refinitiv.eta.transport.TransportReturnCodes;
+import com.refinitiv.eta.transport.WriteArgs;
+
+/**
+ * Sends one WebSocket frame from a client channel to a server channel over loopback and
+ * reads it on the server, for the tr_json2 and rssl.rwf sub-protocols. Client to server
+ * frames are masked, so the score covers framing, masking and unmasking of the payload.
+ * The listening port is taken from the wsBenchmarkPort system property.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WebSocketBenchmark
+{
+    @Param({ "tr_json2", "rssl.rwf" })
+    public String protocol;
+
+    @Param({ "100", "1024", "16384", "65000" })
+    public int frameSize;
+
+    private final Error _error = TransportFactory.createError();
+    private final WriteArgs _writeArgs = TransportFactory.createWriteArgs();
+    private final ReadArgs _readArgs = TransportFactory.createReadArgs();
+
+    private Server _server;
+    private Channel _clientChannel;
+    private Channel _serverChannel;
+    private byte[] _payload;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(false);
+        check(Transport.initialize(initArgs, _error));
+
+        String port = System.getProperty("wsBenchmarkPort", "14010");
+
+        BindOptions bindOptions = TransportFactory.createBindOptions();
+        bindOptions.serviceName(port);
+        bindOptions.maxFragmentSize(0xFFFF);
+        bindOptions.wSocketOpts().protocols(protocol);
+        bindOptions.wSocketOpts().maxMsgSize(0x20000);
+        bindOptions.majorVersion(Codec.majorVersion());
+        bindOptions.minorVersion(Codec.minorVersion());
+        bindOptions.protocolType(Codec.protocolType());
+        if ((_server = Transport.bind(bindOptions, _error)) == null)
+            throw new IllegalStateException("bind failed: " + _error.text());
+
+        ConnectOptions connectOptions = TransportFactory.createConnectOptions();
+        connectOptions.connectionType(ConnectionTypes.WEBSOCKET);
+        connectOptions.unifiedNetworkInfo().address("localhost");
+        connectOptions.unifiedNetworkInfo().serviceName(port);
+        connectOptions.wSocketOpts().protocols(protocol);
+        connectOptions.wSocketOpts().maxMsgSize(0x20000);
+        connectOptions.majorVersion(Codec.majorVersion());
+        connectOptions.minorVersion(Codec.minorVersion());
+        connectOptions.protocolType(Codec.protocolType());
+        if ((_clientChannel = Transport.connect(connectOptions, _error)) == null)
+            throw new IllegalStateException("connect failed: " + _error.text());
+
+        AcceptOptions acceptOptions = TransportFactory.createAcceptOptions();
+        InProgInfo inProg = TransportFactory.createInProgInfo();
+        try (Selector selector = Selector.open())
+        {
+            _server.selectableChannel().register(selector, SelectionKey.OP_ACCEPT);
+            while (_serverChannel == null)
+            {
+                if (selector.select(100) > 0
+                        && (_serverChannel = _server.accept(acceptOptions, _error)) == null)
+                    throw new IllegalStateException("accept failed: " + _error.text());
+                initChannel(_clientChannel, inProg);
+            }
+        }
+
+        while (_clientChannel.state() != ChannelState.ACTIVE || _serverChannel.state() != ChannelState.ACTIVE)
+        {
+            initChannel(_clientChannel, inProg);
+            initChannel(_serverChannel, inProg);
+        }
+
+        _payload = new byte[frameSize];
+        for (int i = 0; i < frameSize; ++i)
+            _payload[i] = (byte)('a' + i % 26);
+    }
+
+    private void initChannel(Channel channel, InProgInfo inProg)
+    {
+        if (channel.state() == ChannelState.INITIALIZING && channel.init(inProg, _error) < TransportReturnCodes.SUCCESS)
+            throw new IllegalStateException("channel init failed: " + _error.text());
+    }
+
+    private static void check(int ret)
+    {
+        if (ret < TransportReturnCodes.SUCCESS)
+            throw new IllegalStateException("transport call failed: " + TransportReturnCodes.toString(ret));
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        if (_clientChannel != null)
+            _clientChannel.close(_error);
+        if (_serverChannel != null)
+            _serverChannel.close(_error);
+        if (_server != null)
+            _server.close(_error);
+        Transport.uninitialize();
+    }
+
+    @Benchmark
+    public int sendAndReceive()
+    {
+        TransportBuffer buffer = _clientChannel.getBuffer(frameSize, false, _error);
+        if (buffer == null)
+            throw new IllegalStateException("getBuffer failed: " + _error.text());
+        buffer.data().put(_payload);
+
+        _writeArgs.clear();
+        int ret = _clientChannel.write(buffer, _writeArgs, _error);
+        while (ret > TransportReturnCodes.SUCCESS || ret == TransportReturnCodes.WRITE_FLUSH_FAILED)
+            ret = _clientChannel.flush(_error);
+        check(ret);
+
+        TransportBuffer msg;
+        do
+        {
+            msg = _serverChannel.read(_readArgs, _error);
+            if (_readArgs.readRetVal() == TransportReturnCodes.FAILURE)
+                throw new IllegalStateException("read failed: " + _error.text());
+        }
+        while (msg == null);
+
+        ByteBuffer data = msg.data();
+        return msg.length() + data.get(msg.dataStartPosition());
+    }
+}
@@ -0,0 +1,94 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.benchmarks.valueadd;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.refinitiv.eta.valueadd.common.SelectableBiDirectionalQueue;
+import com.refinitiv.eta.valueadd.common.VaNode;
+
+/**
+ * Hands events between two threads through the SelectableBiDirectionalQueue that connects
+ * the Reactor and its Worker. The benchmark thread writes a burst of events, an echo thread
+ * reads them from the remote end and writes them back, and the benchmark thread reads
+ * them all again, so the score is the round trip time of a burst.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventQueueBenchmark
+{
+    @Param({ "1", "64" })
+    public int burst;
+
+    private SelectableBiDirectionalQueue _queue;
+    private VaNode[] _nodes;
+    private Thread _echoThread;
+    private volatile boolean _running;
+
+    @Setup
+    public void setup()
+    {
+        _queue = new SelectableBiDirectionalQueue();
+        _nodes = new VaNode[burst];
+        for (int i = 0; i < burst; ++i)
+            _nodes[i] = new VaNode();
+
+        final SelectableBiDirectionalQueue remote = _queue.remote();
+        _running = true;
+        _echoThread = new Thread(new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                while (_running)
+                {
+                    VaNode node = remote.read();
+                    if (node != null)
+                        remote.write(node);
+                }
+            }
+        }, "EventQueueBenchmark-echo");
+        _echoThread.setDaemon(true);
+        _echoThread.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException
+    {
+        _running = false;
+        _echoThread.join();
+        _queue.shutdown();
+    }
+
+    @Benchmark
+    public int roundTrip()
+    {
+        for (int i = 0; i < burst; ++i)
+            _queue.write(_nodes[i]);
+
+        int received = 0;
+        while (received < burst)
+        {
+            if (_queue.read() != null)
+                ++received;
+        }
+        return received;
+    }
+}
@@ -0,0 +1,123 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.TransportFactory;
+
+/**
+ * Persists batches of batchSize QueueData messages of msgLength bytes through a
+ * queue substream's persistence file: each message is saved, transmitted and
+ * released as acknowledged. With commitWindow 0, the file syncs each change as
+ * before; otherwise each batch is synced once, as when its messages are submitted
+ * within the commit window. Divide the time by batchSize for the time per message.
+ * <p>
+ * The file is created in the directory given by the persistenceDir system
+ * property, by default the working directory, which should be on the file system
+ * to measure rather than on a memory file system such as tmpfs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TunnelStreamPersistenceBenchmark
+{
+    @Param({ "0", "5" })
+    public int commitWindow;
+
+    @Param({ "1", "16", "128" })
+    public int batchSize;
+
+    @Param({ "256" })
+    public int msgLength;
+
+    private File _dir;
+    private TunnelSubstream _substream;
+    private TunnelStreamBuffer[] _buffers;
+    private final Error _error = TransportFactory.createError();
+
+    @Setup
+    public void setup() throws IOException
+    {
+        _dir = Files.createTempDirectory(new File(System.getProperty("persistenceDir", ".")).toPath(), "tunnelStreamPersistence").toFile();
+
+        TunnelStream tunnelStream = new TunnelStream(new ReactorChannel());
+        tunnelStream.classOfService().guarantee().persistenceCommitWindow(commitWindow);
+        tunnelStream.forceFileReset(true);
+
+        Buffer queueName = CodecFactory.createBuffer();
+        queueName.data("QUEUE1");
+        _substream = new TunnelSubstream(queueName, 5, DomainTypes.SYSTEM, 1, _dir.getPath(), tunnelStream, _error);
+        if (_error.errorId() != ReactorReturnCodes.SUCCESS)
+            throw new IllegalStateException("cannot open the persistence file: " + _error.text());
+
+        _buffers = new TunnelStreamBuffer[batchSize];
+        for (int i = 0; i < batchSize; ++i)
+        {
+            _buffers[i] = new TunnelStreamBuffer();
+            _buffers[i].clear(msgLength);
+            _buffers[i].data(ByteBuffer.allocate(msgLength), 0, msgLength);
+            _buffers[i].data().position(msgLength);
+            _buffers[i].setCurrentPositionAsEndOfEncoding();
+            _buffers[i].timeoutIsCode(true);
+            _buffers[i].timeoutNsec(0);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        _substream.close(_error);
+        File[] files = _dir.listFiles();
+        if (files != null)
+        {
+            for (File file : files)
+                file.delete();
+        }
+        _dir.delete();
+    }
+
+    @Benchmark
+    public int persistBatch()
+    {
+        for (TunnelStreamBuffer buffer : _buffers)
+            _substream.saveMsg(buffer, _error);
+
+        /* The commit window ends. */
+        _substream.commit(_error);
+
+        int seqNum = _substream.lastOutSeqNum();
+        for (TunnelStreamBuffer buffer : _buffers)
+        {
+            _substream._persistFile.setBufferAsTransmitted(buffer.persistenceBuffer());
+            _substream.lastOutSeqNum(++seqNum);
+        }
+
+        _substream._persistFile.releasePersistenceBuffers(seqNum);
+        return seqNum;
+    }
+}
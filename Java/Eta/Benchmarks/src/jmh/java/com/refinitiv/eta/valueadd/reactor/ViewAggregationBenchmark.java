@@ -0,0 +1,126 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.rdm.ViewTypes;
+
+/**
+ * View churn on a hot item with viewCount open views, each of fieldsPerView fields out of 300.
+ * Each operation closes the oldest view, opens a new one, merges and commits it into the
+ * aggregate view and encodes the aggregate view as a reissue would.
+ * Run with -prof gc to check that the churn does not allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ViewAggregationBenchmark
+{
+    @Param({ "10", "1000", "5000" })
+    public int viewCount;
+
+    @Param({ "20" })
+    public int fieldsPerView;
+
+    private static final int FIELD_COUNT = 300;
+    private static final int VIEW_SETS = 64;
+
+    private WlViewHandler _viewHandler;
+    private WlView _aggView;
+    private WlStream _stream;
+    private WlRequest[] _requests;
+    private int _oldest;
+
+    // views of random field sets, reused round robin
+    private int[][] _viewFieldIds;
+    private int _nextViewFieldIds;
+
+    private final ReactorErrorInfo _errorInfo = ReactorFactory.createReactorErrorInfo();
+    private final Buffer _encodeBuffer = CodecFactory.createBuffer();
+    private final ByteBuffer _encodeByteBuffer = ByteBuffer.allocate(4096);
+    private final EncodeIterator _encodeIter = CodecFactory.createEncodeIterator();
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(1234);
+        _viewFieldIds = new int[VIEW_SETS][fieldsPerView];
+        for (int[] fieldIds : _viewFieldIds)
+        {
+            for (int i = 0; i < fieldIds.length; ++i)
+                fieldIds[i] = 1 + random.nextInt(FIELD_COUNT);
+        }
+
+        _viewHandler = new WlViewHandler(null);
+        _stream = ReactorFactory.createWlStream();
+        _requests = new WlRequest[viewCount];
+        for (int i = 0; i < viewCount; ++i)
+        {
+            _requests[i] = ReactorFactory.createWlRequest();
+            _requests[i].requestMsg().applyHasView();
+            _requests[i].view(nextView());
+            if (_aggView == null)
+            {
+                _aggView = _viewHandler.aggregateViewCreate(_requests[i].view(), _errorInfo);
+                _stream.aggregateView(_aggView);
+            }
+            else
+                _viewHandler.aggregateViewAdd(_aggView, _requests[i].view(), _errorInfo);
+            _stream._requestsWithViewCount++;
+        }
+        _viewHandler.aggregateViewMerge(_aggView);
+        _viewHandler.aggregateViewCommit(_aggView);
+        _oldest = 0;
+    }
+
+    @Benchmark
+    public int viewChurn()
+    {
+        WlRequest wlRequest = _requests[_oldest];
+        _oldest = (_oldest + 1) % viewCount;
+
+        _viewHandler.removeRequestView(_stream, wlRequest, _errorInfo);
+        _viewHandler.destroyView(wlRequest.view());
+
+        wlRequest.view(nextView());
+        _viewHandler.aggregateViewAdd(_aggView, wlRequest.view(), _errorInfo);
+        _stream._requestsWithViewCount++;
+        _viewHandler.aggregateViewMerge(_aggView);
+        _viewHandler.aggregateViewCommit(_aggView);
+
+        _encodeByteBuffer.clear();
+        _encodeBuffer.data(_encodeByteBuffer);
+        _encodeIter.clear();
+        _encodeIter.setBufferAndRWFVersion(_encodeBuffer, Codec.majorVersion(), Codec.minorVersion());
+        return _viewHandler.encodeViewRequest(_encodeIter, _aggView);
+    }
+
+    private WlView nextView()
+    {
+        int[] fieldIds = _viewFieldIds[_nextViewFieldIds];
+        _nextViewFieldIds = (_nextViewFieldIds + 1) % VIEW_SETS;
+        return _viewHandler.viewCreate(fieldIds, fieldIds.length, ViewTypes.FIELD_ID_LIST, _errorInfo);
+    }
+}
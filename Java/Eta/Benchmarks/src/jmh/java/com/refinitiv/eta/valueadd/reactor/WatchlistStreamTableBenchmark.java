@@ -0,0 +1,85 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Open, refresh and close churn on the watchlist stream table with streamCount open streams.
+ * Each operation closes the oldest stream, opens a new one and looks up an open stream as
+ * a refresh would. The int-keyed table is compared with the HashMap of WlInteger keys it replaced,
+ * which looked streams up with a reused key object.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WatchlistStreamTableBenchmark
+{
+    @Param({ "1000", "1000000" })
+    public int streamCount;
+
+    private static final Object STREAM = new Object();
+
+    private WlIntHashMap<Object> _intTable;
+    private HashMap<WlInteger, Object> _boxedTable;
+    private final WlInteger _tempWlInteger = new WlInteger();
+
+    private int _intOldest;
+    private int _boxedOldest;
+
+    @Setup
+    public void setup()
+    {
+        _intTable = new WlIntHashMap<Object>(streamCount + 10);
+        _boxedTable = new HashMap<WlInteger, Object>(streamCount + 10);
+        for (int i = 0; i < streamCount; ++i)
+        {
+            _intTable.put(i, STREAM);
+            WlInteger key = new WlInteger();
+            key.value(i);
+            _boxedTable.put(key, STREAM);
+        }
+        _intOldest = 0;
+        _boxedOldest = 0;
+    }
+
+    @Benchmark
+    public Object intTableChurn()
+    {
+        int oldest = _intOldest++;
+        _intTable.remove(oldest);
+        _intTable.put(oldest + streamCount, STREAM);
+        return _intTable.get(oldest + 1 + (int)((oldest * 31L) % (streamCount - 1)));
+    }
+
+    @Benchmark
+    public Object boxedTableChurn()
+    {
+        int oldest = _boxedOldest++;
+        _tempWlInteger.value(oldest);
+        _boxedTable.remove(_tempWlInteger);
+
+        WlInteger key = new WlInteger();
+        key.value(oldest + streamCount);
+        _boxedTable.put(key, STREAM);
+
+        _tempWlInteger.value(oldest + 1 + (int)((oldest * 31L) % (streamCount - 1)));
+        return _boxedTable.get(_tempWlInteger);
+    }
+}
@@ -296,7 +296,6 @@ class BasicPrimitiveConverter {
 
     static void writeReal(Real real, byte[] buffer, int start, boolean asString) {
         long value = real.toLong();
-        boolean maxNegativeLong = false;
 
         if (real.isBlank()) {
             BufferHelper.copyToByteArray(ConstCharArrays.nullBytes, start, buffer);
@@ -322,22 +321,17 @@ class BasicPrimitiveConverter {
 
         if (value == 0) {
             buffer[start++] = '0';
+        } else if (real.hint() < RealHints.EXPONENT0) {
+            /* Decimal places are written by the Real, exactly from its mantissa, in the same format */
+            start = real.toString(buffer, start);
         } else {
 
-            if (value < 0 && (real.hint() < RealHints.EXPONENT0 || real.hint() > RealHints.FRACTION_1)) {
+            if (value < 0 && real.hint() > RealHints.FRACTION_1) {
                 value *= -1;
                 
-                if(real.toLong() == Long.MIN_VALUE) {
-                	maxNegativeLong = true;
-                	if(real.hint() < RealHints.FRACTION_1) {
-                		value = Long.MAX_VALUE;
-                		buffer[start++] = '-';
-                	}
-                } else {
+                if(real.toLong() != Long.MIN_VALUE) {
                 	buffer[start++] = '-';
                 }
-                	
-                	
             }
 
             if (real.hint() - RealHints.FRACTION_1 >= 0) {
@@ -366,38 +360,8 @@ class BasicPrimitiveConverter {
             } else {
                 int exponent = real.hint() - RealHints.EXPONENT0;
                 int longLength = getLongLengthCompare(value);
-                if (exponent >= 0) {
-                    writeLong(value, longLength, start, buffer);
-                    BufferHelper.fillZeroes(exponent, buffer, start + longLength);
-                } else {
-                    if (exponent == 0)
-                        writeLong(value, longLength, start, buffer);
-                       else if (longLength + exponent > 0) {
-                        int end = start + longLength;
-                        long nv = value;
-                        while (exponent++ < 0) {
-                            nv = value / 10;
-                            if(maxNegativeLong == false)
-                            {
-                            	buffer[end--] = (byte)(ConstCharArrays.digits[(int)(value - nv * 10)] & 0xFF);
-                            } else {
-                            	buffer[end--] = (byte)(ConstCharArrays.digits[(int)(value - nv * 10 + 1)] & 0xFF);
-                            	maxNegativeLong = false;
-                            }
-                            	
-                            value = nv;
-                        }
-                        buffer[end] = '.';
-                        writeLong(nv, end-start, start, buffer);
-                    }
-                    else {
-                        buffer[start++] = '0';
-                        buffer[start++] = '.';
-                        int x = Math.abs(longLength + exponent);
-                        BufferHelper.fillZeroes(x, buffer, start);
-                        writeLong(value, longLength, start + x, buffer);
-                    }
-                }
+                writeLong(value, longLength, start, buffer);
+                BufferHelper.fillZeroes(exponent, buffer, start + longLength);
             }
         }
 
@@ -856,37 +820,11 @@ class BasicPrimitiveConverter {
 
     private static void writeNonemptyTime(Time time, JsonBuffer buffer) {
 
-        writeNum(time.hour(), 2, buffer);
-        if (time.minute() != 255) {
-            buffer.data[buffer.position++] = ':';
-            writeNum(time.minute(), 2, buffer);
-
-            if (time.second() != 255) {
-                buffer.data[buffer.position++] = ':';
-                writeNum(time.second(), 2, buffer);
-
-                if (time.millisecond() != 65535) {
-                    buffer.data[buffer.position++] = '.';
-                    writeNum(time.millisecond(), 3, buffer);
-
-                    if (time.microsecond() != 2074) {
-                        writeNum(time.microsecond(), 3, buffer);
-
-                        if (time.nanosecond() != 2047) {
-                            writeNum(time.nanosecond(), 3, buffer);
-                        }
-                    }
-                    while (buffer.data[buffer.position - 1] == '0') {
-                        buffer.data[buffer.position - 1] = 0;
-                        buffer.position--;
-                    }
-                    if (buffer.data[buffer.position - 1] == '.') {
-                        buffer.data[buffer.position - 1] = 0;
-                        buffer.position--;
-                    }
-                }
-            }
-        }
+        /* Written by the Time in its ISO8601 format, which stops at the first blank portion and trims trailing zeros */
+        int format = time.format();
+        time.format(DateTimeStringFormatTypes.STR_DATETIME_ISO8601);
+        buffer.position = time.toString(buffer.data, buffer.position);
+        time.format(format);
     }
 
     static boolean writeDate(Date date, JsonBuffer buffer, JsonConverterError error) {
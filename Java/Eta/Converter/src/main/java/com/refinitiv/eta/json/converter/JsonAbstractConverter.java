@@ -49,6 +49,7 @@ public abstract class JsonAbstractConverter implements JsonConverter {
     abstract boolean allowEnumDisplayStrings();
     abstract boolean useDefaultDynamicQoS();
     abstract boolean expandEnumFields();
+    abstract boolean streamingDecode();
     abstract int getDefaultServiceId();
     abstract boolean hasDefaultServiceId();
     abstract void setHasDefaultServiceId(boolean value);
@@ -40,12 +40,16 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
     private boolean allowEnumDisplayStrings;
     private boolean useDefaultQoS;
     private boolean expandEnumFields;
+    private boolean streamingDecode;
     private int defaultServiceId;
     private boolean hasDefaultServiceId;
     private DataDictionary dictionary;
     private ThreadLocal<DictionaryEntry> dictionaryEntry = ThreadLocal.withInitial(() -> null);
     private ThreadLocal<JsonBuffer> jsonOutputBuffer = ThreadLocal.withInitial(() -> new JsonBuffer());
     private ThreadLocal<ByteBufferInputStream> inputStream = ThreadLocal.withInitial(() -> new ByteBufferInputStream());
+    ThreadLocal<byte[]> streamingInput = ThreadLocal.withInitial(() -> new byte[0]);
+    // larger inputs get an array of their own, so one large message does not stay allocated for the thread
+    static final int MAX_STREAMING_INPUT_SIZE = 64 * 1024;
     private Map<EnumTypeTable, EnumTableDefinition> enumTableDefinitionMap = new HashMap<>(256);
 
     private static final Map<String, Integer> STRING_TO_RWF_MSG_CLASS = new HashMap<>();;
@@ -723,6 +727,14 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
         expandEnumFields = enabled;
     }
 
+    @Override
+    boolean streamingDecode() {
+        return streamingDecode;
+    }
+    void streamingDecode(boolean enabled) {
+        streamingDecode = enabled;
+    }
+
     @Override
     int getDefaultServiceId() {
         return defaultServiceId;
@@ -749,7 +761,10 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
                     .orElseGet(JsonConverterState::new);
             jsonConverterState.clear();
             currentState.set(jsonConverterState);
-            jsonConverterState.setCurrentRoot(mapper.get().readTree(data));
+            if (streamingDecode)
+                jsonConverterState.setCurrentRoot(JsonStreamingTreeReader.readTree(mapper.get(), data, 0, data.length));
+            else
+                jsonConverterState.setCurrentRoot(mapper.get().readTree(data));
             jsonConverterState.getCurrentBufferData().data(ByteBuffer.wrap(data));
         } catch (IOException e) {
             currentState.get().setFailedMessage(data);
@@ -766,11 +781,30 @@ class JsonConverterBaseImpl extends JsonAbstractConverter {
             jsonConverterState.clear();
             currentState.set(jsonConverterState);
             ByteBuffer data = buffer.data();
-            ByteBufferInputStream stream = inputStream.get();
-            stream.setByteBuffer(data, buffer.dataStartPosition(), data.limit());
             ObjectMapper objectMapper = mapper.get();
             objectMapper.enable(JsonReadFeature.ALLOW_LEADING_ZEROS_FOR_NUMBERS.mappedFeature());
-            jsonConverterState.setCurrentRoot(objectMapper.readTree(stream));
+            if (streamingDecode) {
+                int length = data.limit() - buffer.dataStartPosition();
+                if (data.hasArray()) {
+                    jsonConverterState.setCurrentRoot(JsonStreamingTreeReader.readTree(objectMapper, data.array(),
+                            data.arrayOffset() + buffer.dataStartPosition(), length));
+                } else {
+                    // direct buffers are copied once, the deferred field lists keep referring to this array
+                    byte[] input = streamingInput.get();
+                    if (input.length < length) {
+                        input = new byte[length];
+                        if (length <= MAX_STREAMING_INPUT_SIZE)
+                            streamingInput.set(input);
+                    }
+                    for (int i = 0; i < length; i++)
+                        input[i] = data.get(i + buffer.dataStartPosition());
+                    jsonConverterState.setCurrentRoot(JsonStreamingTreeReader.readTree(objectMapper, input, 0, length));
+                }
+            } else {
+                ByteBufferInputStream stream = inputStream.get();
+                stream.setByteBuffer(data, buffer.dataStartPosition(), data.limit());
+                jsonConverterState.setCurrentRoot(objectMapper.readTree(stream));
+            }
             jsonConverterState.getCurrentBufferData().data(data);
         } catch (IOException e) {
             byte[] data = new byte[buffer.length()];
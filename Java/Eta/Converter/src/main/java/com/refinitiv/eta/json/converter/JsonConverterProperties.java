@@ -51,6 +51,12 @@ public class JsonConverterProperties {
 
     public final static int JSON_CPC_PROTOCOL_VERSION = 10;
 
+    /**
+     * (Simplified JSON) When converting from JSON to RWF, read the entries of field lists directly from the
+     * JSON token stream instead of building a tree node for each field (value: RsslBool).
+     */
+    public final static int JSON_CPC_STREAMING_DECODE = 11;
+
     private JsonConverterProperties() {
         throw new IllegalAccessError();
     }
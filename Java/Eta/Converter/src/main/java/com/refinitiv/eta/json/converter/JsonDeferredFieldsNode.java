@@ -0,0 +1,175 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.json.converter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Object node standing for the "Fields" object of a message parsed in streaming mode.
+ * It only records where the object is in the source buffer; {@link JsonFieldListConverter}
+ * encodes the field entries straight from a {@link JsonParser} over that range.
+ * Any other access through the {@link JsonNode} API materializes the children first,
+ * so the node behaves exactly like the one {@link ObjectMapper#readTree} would have built.
+ */
+// Only for deepCopy(): ObjectNode narrows the generic JsonNode.deepCopy() to ObjectNode, so overriding it
+// is an unchecked conversion to the type variable of JsonNode. javac reports it against the class, where a
+// method level suppression has no effect. The class has no other unchecked operation.
+@SuppressWarnings("unchecked")
+class JsonDeferredFieldsNode extends ObjectNode {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ObjectMapper mapper;
+    private final transient byte[] data;
+    private final int offset;
+    private final int length;
+    private boolean materialized;
+
+    JsonDeferredFieldsNode(ObjectMapper mapper, byte[] data, int offset, int length) {
+        super(mapper.getNodeFactory());
+        this.mapper = mapper;
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @return true if the children have not been built, i.e. the fields must be read with {@link #createParser()}.
+     */
+    boolean isDeferred() {
+        return !materialized;
+    }
+
+    /**
+     * Creates a parser positioned before the START_OBJECT token of this node.
+     */
+    JsonParser createParser() throws IOException {
+        return mapper.getFactory().createParser(data, offset, length);
+    }
+
+    private void materialize() {
+        if (materialized)
+            return;
+        materialized = true;
+        try {
+            JsonNode node = mapper.readTree(data, offset, length);
+            if (node != null && node.isObject())
+                super.setAll((ObjectNode) node);
+        } catch (IOException e) {
+            // the range was already validated by the streaming reader
+        }
+    }
+
+    @Override
+    public int size() {
+        materialize();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider serializers) {
+        materialize();
+        return super.isEmpty(serializers);
+    }
+
+    @Override
+    public JsonNode get(String propertyName) {
+        materialize();
+        return super.get(propertyName);
+    }
+
+    @Override
+    public JsonNode path(String propertyName) {
+        materialize();
+        return super.path(propertyName);
+    }
+
+    @Override
+    public Iterator<String> fieldNames() {
+        materialize();
+        return super.fieldNames();
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, JsonNode>> fields() {
+        materialize();
+        return super.fields();
+    }
+
+    @Override
+    public Set<Map.Entry<String, JsonNode>> properties() {
+        materialize();
+        return super.properties();
+    }
+
+    @Override
+    public Iterator<JsonNode> elements() {
+        materialize();
+        return super.elements();
+    }
+
+    @Override
+    public JsonNode findValue(String propertyName) {
+        materialize();
+        return super.findValue(propertyName);
+    }
+
+    @Override
+    public List<JsonNode> findValues(String propertyName, List<JsonNode> foundSoFar) {
+        materialize();
+        return super.findValues(propertyName, foundSoFar);
+    }
+
+    // ObjectNode narrows the generic JsonNode.deepCopy() to ObjectNode, and an override can only keep that
+    // narrowed type, which javac reports as an unchecked conversion to the type variable of JsonNode
+    @SuppressWarnings("unchecked")
+    @Override
+    public ObjectNode deepCopy() {
+        materialize();
+        return super.deepCopy();
+    }
+
+    @Override
+    public void serialize(JsonGenerator g, SerializerProvider provider) throws IOException {
+        materialize();
+        super.serialize(g, provider);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator g, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        materialize();
+        super.serializeWithType(g, provider, typeSer);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        materialize();
+        if (o instanceof JsonDeferredFieldsNode)
+            ((JsonDeferredFieldsNode) o).materialize();
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        materialize();
+        return super.hashCode();
+    }
+}
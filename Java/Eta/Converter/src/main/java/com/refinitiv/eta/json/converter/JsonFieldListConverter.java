@@ -8,10 +8,15 @@
 
 package com.refinitiv.eta.json.converter;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.refinitiv.eta.codec.*;
 import com.refinitiv.eta.json.util.JsonFactory;
 
+import java.io.IOException;
+import java.util.HashSet;
 import java.util.Iterator;
 
 class JsonFieldListConverter extends AbstractContainerTypeConverter {
@@ -115,65 +120,52 @@ class JsonFieldListConverter extends AbstractContainerTypeConverter {
                 return;
             }
 
-            for (Iterator<String> it = node.fieldNames(); it.hasNext(); ) {
-                fieldEntry.clear();
-                String key = it.next();
-                DictionaryEntry def;
-                JsonNode currentNode = node.path(key);
-
-                boolean isNumber = true;
-                for (int i = 0; i < key.length(); i++) {
-                    switch (key.charAt(i)) {
-                        case '0': case '1': case '2':
-                        case '3': case '4': case '5':
-                        case '6': case '7': case '8':
-                            break;
-                        case '-':
-                            if (i != 0)
-                                isNumber = false;
-                            break;
-                        default:
-                            isNumber = false;
+            boolean streamed = false;
+            if (node instanceof JsonDeferredFieldsNode && ((JsonDeferredFieldsNode) node).isDeferred()) {
+                // streaming decode: entries are encoded in the order they appear in the message
+                HashSet<String> keys = new HashSet<>();
+                boolean duplicateKey = false;
+                try (JsonParser parser = ((JsonDeferredFieldsNode) node).createParser()) {
+                    parser.nextToken();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String key = parser.currentName();
+                        if (!keys.add(key)) {
+                            duplicateKey = true;
                             break;
+                        }
+                        JsonToken token = parser.nextToken();
+                        JsonNode currentNode = token.isScalarValue()
+                                ? JsonStreamingTreeReader.scalarNode(JsonNodeFactory.instance, parser, token)
+                                : parser.readValueAsTree();
+                        fieldEntry.clear();
+                        if (!encodeFieldEntry(key, currentNode, fieldEntry, iter, error))
+                            return;
                     }
-
-                    if (!isNumber)
-                        break;
-                }
-
-                if (isNumber) { //int value of key
-                    int num = Integer.valueOf(key);
-                    fieldEntry.fieldId(num);
-                    def = converter.getDictionary().entry(num);
-                } else {
-                    def = converter.getDictionary().entry(key);
-                    if (def != null) {
-                        fieldEntry.fieldId(def.fid());
-                    }
-                }
-                if (def == null && converter.catchUnexpectedFids()) {
-                    error.setError(JsonConverterErrorCodes.JSON_ERROR_UNEXPECTED_FID, "encountered unexpected fid = " + key + " while decoding FieldEntry");
+                } catch (IOException e) {
+                    error.setError(JsonConverterErrorCodes.JSON_ERROR_PARSE_ERROR, e.getMessage(), stringKey);
                     return;
                 }
 
-                converter.dictionaryEntry(null);
-
-                if (def != null) {
-                    fieldEntry.dataType(def.rwfType());
-                    converter.dictionaryEntry(def); //this dictionaryEntry is later used
-                    ret = fieldEntry.encodeInit(iter, 0);
+                // the tree keeps the last value of a repeated key in the place of the first one,
+                // so the entries encoded so far are rolled back and encoded again from the tree
+                if (duplicateKey) {
+                    fieldList.encodeComplete(iter, false);
+                    ret = fieldList.encodeInit(iter, null, 0);
                     if (ret < CodecReturnCodes.SUCCESS) {
-                        error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldEntry, code: " + ret, key);
+                        error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldList, code: " + ret, stringKey);
                         return;
                     }
-                    converter.decodeChunk(fieldEntry.dataType(), currentNode, key, iter, error);
-                    if (error.isFailed())
-                        return;
-                    ret = fieldEntry.encodeComplete(iter, true);
-                    if (ret < CodecReturnCodes.SUCCESS) {
-                        error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldEntry, code: " + ret, key);
+                } else {
+                    streamed = true;
+                }
+            }
+
+            if (!streamed) {
+                for (Iterator<String> it = node.fieldNames(); it.hasNext(); ) {
+                    fieldEntry.clear();
+                    String key = it.next();
+                    if (!encodeFieldEntry(key, node.path(key), fieldEntry, iter, error))
                         return;
-                    }
                 }
             }
 
@@ -189,4 +181,67 @@ class JsonFieldListConverter extends AbstractContainerTypeConverter {
         }
 
     }
+
+    private boolean encodeFieldEntry(String key, JsonNode currentNode, FieldEntry fieldEntry, EncodeIterator iter, JsonConverterError error) {
+
+        int ret;
+        DictionaryEntry def;
+
+        boolean isNumber = true;
+        for (int i = 0; i < key.length(); i++) {
+            switch (key.charAt(i)) {
+                case '0': case '1': case '2':
+                case '3': case '4': case '5':
+                case '6': case '7': case '8':
+                    break;
+                case '-':
+                    if (i != 0)
+                        isNumber = false;
+                    break;
+                default:
+                    isNumber = false;
+                    break;
+            }
+
+            if (!isNumber)
+                break;
+        }
+
+        if (isNumber) { //int value of key
+            int num = Integer.valueOf(key);
+            fieldEntry.fieldId(num);
+            def = converter.getDictionary().entry(num);
+        } else {
+            def = converter.getDictionary().entry(key);
+            if (def != null) {
+                fieldEntry.fieldId(def.fid());
+            }
+        }
+        if (def == null && converter.catchUnexpectedFids()) {
+            error.setError(JsonConverterErrorCodes.JSON_ERROR_UNEXPECTED_FID, "encountered unexpected fid = " + key + " while decoding FieldEntry");
+            return false;
+        }
+
+        converter.dictionaryEntry(null);
+
+        if (def != null) {
+            fieldEntry.dataType(def.rwfType());
+            converter.dictionaryEntry(def); //this dictionaryEntry is later used
+            ret = fieldEntry.encodeInit(iter, 0);
+            if (ret < CodecReturnCodes.SUCCESS) {
+                error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldEntry, code: " + ret, key);
+                return false;
+            }
+            converter.decodeChunk(fieldEntry.dataType(), currentNode, key, iter, error);
+            if (error.isFailed())
+                return false;
+            ret = fieldEntry.encodeComplete(iter, true);
+            if (ret < CodecReturnCodes.SUCCESS) {
+                error.setError(JsonConverterErrorCodes.JSON_ERROR_RSSL_ENCODE_ERROR, "Failed encoding FieldEntry, code: " + ret, key);
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
@@ -39,13 +39,24 @@ class JsonJsonConverter extends AbstractContainerTypeConverter {
         Buffer buf = (Buffer) container;
         if (buf.length() == 0)
             return BufferHelper.writeArray(ConstCharArrays.nullBytes, outBuffer, false, error);
+        byte[] bytes;
+        int start;
+        if (buf.data().hasArray()) {
+            bytes = buf.data().array();
+            start = buf.position();
+        } else {
+            // the payload may be encoded in a direct transport buffer
+            bytes = new byte[buf.length()];
+            buf.copy(bytes);
+            start = 0;
+        }
         try {
-            converter.getMapper().readTree(buf.data().array(), buf.position(), buf.length());
+            converter.getMapper().readTree(bytes, start, buf.length());
         } catch (Exception e) {
             return false;
         }
 
-        return BufferHelper.copyToByteArray(buf.data().array(), buf.position(), buf.length(), outBuffer, error);
+        return BufferHelper.copyToByteArray(bytes, start, buf.length(), outBuffer, error);
     }
 
     @Override
@@ -0,0 +1,126 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.json.converter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+
+/**
+ * Builds the message tree from the JSON token stream, leaving the field list objects
+ * ("Fields" and "FieldList" keys) as {@link JsonDeferredFieldsNode} ranges of the source buffer.
+ * Field lists carry the bulk of the entries of market data messages, so they are encoded
+ * from the token stream by {@link JsonFieldListConverter} without creating a node per field.
+ * The rest of the tree is identical to the one returned by {@link ObjectMapper#readTree(byte[])}.
+ */
+class JsonStreamingTreeReader {
+
+    private JsonStreamingTreeReader() {
+        throw new IllegalAccessError();
+    }
+
+    static JsonNode readTree(ObjectMapper mapper, byte[] data, int offset, int length) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(data, offset, length)) {
+            JsonToken token = parser.nextToken();
+            if (token == null)
+                return MissingNode.getInstance();
+            return readValue(mapper, parser, token, data, offset);
+        }
+    }
+
+    /**
+     * Creates the node of a scalar token the same way the default tree deserializer does.
+     */
+    static JsonNode scalarNode(JsonNodeFactory factory, JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return factory.textNode(parser.getText());
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return factory.numberNode(parser.getIntValue());
+                    case LONG:
+                        return factory.numberNode(parser.getLongValue());
+                    default:
+                        return factory.numberNode(parser.getBigIntegerValue());
+                }
+            case VALUE_NUMBER_FLOAT:
+                switch (parser.getNumberType()) {
+                    case BIG_DECIMAL:
+                        return factory.numberNode(parser.getDecimalValue());
+                    case FLOAT:
+                        return factory.numberNode(parser.getFloatValue());
+                    default:
+                        return factory.numberNode(parser.getDoubleValue());
+                }
+            case VALUE_TRUE:
+                return factory.booleanNode(true);
+            case VALUE_FALSE:
+                return factory.booleanNode(false);
+            case VALUE_NULL:
+                return factory.nullNode();
+            case VALUE_EMBEDDED_OBJECT:
+                return factory.pojoNode(parser.getEmbeddedObject());
+            default:
+                throw new IOException("Unexpected token " + token + " at " + parser.currentTokenLocation());
+        }
+    }
+
+    private static JsonNode readValue(ObjectMapper mapper, JsonParser parser, JsonToken token, byte[] data, int offset) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                return readObject(mapper, parser, data, offset);
+            case START_ARRAY:
+                return readArray(mapper, parser, data, offset);
+            default:
+                return scalarNode(mapper.getNodeFactory(), parser, token);
+        }
+    }
+
+    private static ObjectNode readObject(ObjectMapper mapper, JsonParser parser, byte[] data, int offset) throws IOException {
+        ObjectNode node = mapper.getNodeFactory().objectNode();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            token = parser.nextToken();
+            JsonNode value;
+            if (token == JsonToken.START_OBJECT
+                    && (ConstCharArrays.JSON_FIELDS.equals(name) || ConstCharArrays.JSON_FIELDLIST.equals(name))) {
+                int start = offset + (int) parser.currentTokenLocation().getByteOffset();
+                parser.skipChildren();
+                int end = offset + (int) parser.currentTokenLocation().getByteOffset() + 1;
+                value = new JsonDeferredFieldsNode(mapper, data, start, end - start);
+            } else {
+                value = readValue(mapper, parser, token, data, offset);
+            }
+            node.replace(name, value);
+        }
+        if (token != JsonToken.END_OBJECT)
+            throw new IOException("Unexpected end of input while reading object at " + parser.currentLocation());
+        return node;
+    }
+
+    private static ArrayNode readArray(ObjectMapper mapper, JsonParser parser, byte[] data, int offset) throws IOException {
+        ArrayNode node = mapper.getNodeFactory().arrayNode();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null)
+                throw new IOException("Unexpected end of input while reading array at " + parser.currentLocation());
+            node.add(readValue(mapper, parser, token, data, offset));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,188 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.json.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.refinitiv.eta.codec.*;
+import com.refinitiv.eta.transport.TransportBuffer;
+import com.refinitiv.eta.transport.TransportFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class StreamingDecodeTest {
+
+    private static final String UPDATE_MSG = "{\"ID\":5,\"Type\":\"Update\",\"Domain\":\"MarketPrice\",\"UpdateType\":\"Quote\","
+            + "\"Key\":{\"Name\":\"TRI.N\"},"
+            + "\"Fields\":{\"BID\":22.5,\"ASK\":23,\"DSPLY_NAME\":\"TRI INC\",\"22\":21.75,\"TRDPRC_1\":null,"
+            + "\"BIDSIZE\":1000000,\"VOL_X_PRC1\":12345678901234}}";
+
+    JsonConverterError convError;
+    JsonAbstractConverter converter;
+    ObjectMapper mapper = new ObjectMapper();
+
+    @Before
+    public void init() {
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        final String dictionaryFileName1 = "../../etc/RDMFieldDictionary";
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        dictionary.clear();
+        dictionary.loadFieldDictionary(dictionaryFileName1, error);
+
+        convError = ConverterFactory.createJsonConverterError();
+
+        converter = (JsonAbstractConverter) ConverterFactory.createJsonConverterBuilder()
+                .setProperty(JsonConverterProperties.JSON_CPC_PROTOCOL_VERSION, JsonProtocol.JSON_JPT_JSON2)
+                .setProperty(JsonConverterProperties.JSON_CPC_STREAMING_DECODE, true)
+                .setDictionary(dictionary)
+                .build(convError);
+        assertNotNull(converter);
+    }
+
+    @Test
+    public void treeMatchesReadTreeTest() throws IOException {
+        byte[] data = ("[" + UPDATE_MSG + "," + UPDATE_MSG + "]").getBytes(StandardCharsets.UTF_8);
+
+        JsonNode streamed = JsonStreamingTreeReader.readTree(mapper, data, 0, data.length);
+        JsonNode expected = mapper.readTree(data);
+
+        assertTrue(streamed.get(0).get(ConstCharArrays.JSON_FIELDS) instanceof JsonDeferredFieldsNode);
+        // compared from the streamed side, the deferred node materializes before its children are compared
+        assertEquals(streamed, expected);
+        assertEquals(expected.toString(), streamed.toString());
+        assertEquals(22.5, streamed.get(1).path(ConstCharArrays.JSON_FIELDS).path("BID").doubleValue(), 0);
+    }
+
+    @Test
+    public void emptyInputTest() throws IOException {
+        assertTrue(JsonStreamingTreeReader.readTree(mapper, new byte[0], 0, 0).isMissingNode());
+    }
+
+    @Test
+    public void truncatedInputTest() {
+        byte[] data = UPDATE_MSG.substring(0, UPDATE_MSG.length() - 3).getBytes(StandardCharsets.UTF_8);
+        try {
+            JsonStreamingTreeReader.readTree(mapper, data, 0, data.length);
+            fail("expected IOException");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void fieldListEncodingMatchesTreeTest() throws IOException {
+        byte[] data = UPDATE_MSG.getBytes(StandardCharsets.UTF_8);
+
+        JsonNode tree = mapper.readTree(data).path(ConstCharArrays.JSON_FIELDS);
+        JsonNode deferred = JsonStreamingTreeReader.readTree(mapper, data, 0, data.length).path(ConstCharArrays.JSON_FIELDS);
+        assertTrue(((JsonDeferredFieldsNode) deferred).isDeferred());
+
+        byte[] expected = encodeFieldList(tree);
+        byte[] streamed = encodeFieldList(deferred);
+
+        // the field list was encoded from the token stream without building its children
+        assertTrue(((JsonDeferredFieldsNode) deferred).isDeferred());
+        assertArrayEquals(expected, streamed);
+    }
+
+    @Test
+    public void duplicateKeyTest() throws IOException {
+        byte[] data = ("{\"ID\":5,\"Type\":\"Update\",\"Fields\":{\"BID\":22.5,\"ASK\":23,\"BID\":24,\"BIDSIZE\":10,\"ASK\":25}}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        JsonNode tree = mapper.readTree(data).path(ConstCharArrays.JSON_FIELDS);
+        JsonNode deferred = JsonStreamingTreeReader.readTree(mapper, data, 0, data.length).path(ConstCharArrays.JSON_FIELDS);
+
+        // as in the tree, each key is encoded once, with its last value in the place of its first one
+        byte[] expected = encodeFieldList(tree);
+        assertEquals(3, tree.size());
+        assertArrayEquals(expected, encodeFieldList(deferred));
+    }
+
+    @Test
+    public void largeDirectInputTest() {
+        StringBuilder name = new StringBuilder();
+        while (name.length() <= JsonConverterBaseImpl.MAX_STREAMING_INPUT_SIZE)
+            name.append("TRI INC ");
+        ParseJsonOptions parseJsonOptions = ConverterFactory.createParseJsonOptions();
+        parseJsonOptions.setProtocolType(JsonProtocol.JSON_JPT_JSON2);
+
+        String largeMsg = UPDATE_MSG.replace("\"TRI INC\"", "\"" + name + "\"");
+        assertEquals(CodecReturnCodes.SUCCESS, converter.parseJsonBuffer(directBuffer(largeMsg), parseJsonOptions, convError));
+        assertEquals(CodecReturnCodes.SUCCESS, converter.parseJsonBuffer(directBuffer(UPDATE_MSG), parseJsonOptions, convError));
+
+        // the array kept for the thread only grows up to the limit
+        byte[] input = ((JsonConverterBaseImpl) converter).streamingInput.get();
+        assertTrue(input.length >= UPDATE_MSG.length());
+        assertTrue(input.length <= JsonConverterBaseImpl.MAX_STREAMING_INPUT_SIZE);
+    }
+
+    @Test
+    public void parseTransportBufferTest() {
+        byte[] data = UPDATE_MSG.getBytes(StandardCharsets.UTF_8);
+        ParseJsonOptions parseJsonOptions = ConverterFactory.createParseJsonOptions();
+        parseJsonOptions.setProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        DecodeJsonMsgOptions decodeJsonMsgOptions = ConverterFactory.createDecodeJsonMsgOptions();
+        decodeJsonMsgOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+        JsonMsg jsonMsg = ConverterFactory.createJsonMsg();
+
+        Buffer jsonBuffer = CodecFactory.createBuffer();
+        jsonBuffer.data(ByteBuffer.wrap(data));
+        assertEquals(CodecReturnCodes.SUCCESS, converter.parseJsonBuffer(jsonBuffer, parseJsonOptions, convError));
+        assertEquals(CodecReturnCodes.SUCCESS, converter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions, convError));
+        assertTrue(convError.isSuccessful());
+
+        DecodeIterator decIter = CodecFactory.createDecodeIterator();
+        Msg resultMsg = CodecFactory.createMsg();
+        decIter.setBufferAndRWFVersion(jsonMsg.rwfMsg().encodedMsgBuffer(), Codec.majorVersion(), Codec.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, resultMsg.decode(decIter));
+        assertEquals(MsgClasses.UPDATE, resultMsg.msgClass());
+        assertEquals(DataTypes.FIELD_LIST, resultMsg.containerType());
+
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(decIter, null));
+        int count = 0;
+        while (fieldEntry.decode(decIter) != CodecReturnCodes.END_OF_CONTAINER)
+            count++;
+        assertEquals(7, count);
+    }
+
+    private TransportBuffer directBuffer(String msg) {
+        byte[] bytes = msg.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer data = ByteBuffer.allocateDirect(bytes.length);
+        data.put(bytes);
+        data.flip();
+        return new TransportBuffer() {
+            public ByteBuffer data() { return data; }
+            public int length() { return data.limit(); }
+            public int copy(ByteBuffer destBuffer) { destBuffer.put(data.duplicate()); return CodecReturnCodes.SUCCESS; }
+            public int capacity() { return data.capacity(); }
+            public int dataStartPosition() { return 0; }
+        };
+    }
+
+    private byte[] encodeFieldList(JsonNode node) {
+        EncodeIterator encIter = CodecFactory.createEncodeIterator();
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(ByteBuffer.allocate(1000));
+        encIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        converter.getContainerHandler(DataTypes.FIELD_LIST).encodeRWF(node, ConstCharArrays.JSON_FIELDS, encIter, convError);
+        assertTrue(convError.isSuccessful());
+
+        return buffer.data().array();
+    }
+}
@@ -331,6 +331,31 @@ class BufferImpl implements Buffer
         return retStr;
     }
 
+    /* Writes the data as toString() returns it. Bytes are written as they are, except into an Appendable
+     * when they are not all ASCII, where they are decoded as toString() decodes them. */
+    void writeText(PrimitiveTextWriter writer)
+    {
+        if (_data != null)
+        {
+            if (writer.isAppendable())
+            {
+                for (int i = 0; i < _length; i++)
+                {
+                    if (_data.get(i + _position) < 0)
+                    {
+                        writer.put(toString());
+                        return;
+                    }
+                }
+            }
+
+            for (int i = 0; i < _length; i++)
+                writer.putByte(_data.get(i + _position));
+        }
+        else
+            writer.put(String.valueOf(_dataString));
+    }
+
     @Override
     public int data(String str)
     {
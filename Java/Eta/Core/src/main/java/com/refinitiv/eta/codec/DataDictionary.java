@@ -75,6 +75,34 @@ public interface DataDictionary
      */
     public int loadEnumTypeDictionary(String filename, Error error);
 
+    /**
+     * Loads a dictionary snapshot written by {@link #saveDictionarySnapshot(String, Error)}.
+     * The snapshot file is memory-mapped, and dictionary entries and enumerated type
+     * tables are only created the first time they are looked up, so loading does not
+     * depend on the size of the dictionary.
+     * <p>
+     * The {@link DataDictionary} must be cleared before the snapshot is loaded, and
+     * other dictionaries cannot be added to it until it is cleared again.
+     * Dictionaries loading the same snapshot file share its mapping and the entries
+     * created from it, so a dictionary can be loaded per thread at little cost.
+     *
+     * @param filename the snapshot filename
+     * @param error the error
+     * @return {@link CodecReturnCodes#SUCCESS} on success, {@link CodecReturnCodes#FAILURE} otherwise
+     */
+    public int loadDictionarySnapshot(String filename, Error error);
+
+    /**
+     * Writes the field and enumerated type information contained in the data
+     * dictionary to a compact binary snapshot file, which can be loaded by
+     * {@link #loadDictionarySnapshot(String, Error)}.
+     *
+     * @param filename the snapshot filename
+     * @param error the error
+     * @return {@link CodecReturnCodes#SUCCESS} on success, {@link CodecReturnCodes#FAILURE} otherwise
+     */
+    public int saveDictionarySnapshot(String filename, Error error);
+
     /**
      * Extract dictionary type from the encoded payload of a ETA message where
      * the domain type is DICTIONARY.
@@ -41,6 +41,9 @@ class DataDictionaryImpl implements DataDictionary
     EnumTypeTable[]             _enumTables;
     int                         _enumTableCount;
 
+    /* Set when the dictionary is loaded from a snapshot, which then supplies the entries and enum tables */
+    DictionarySnapshot          _snapshot;
+
     /* Tags */
     int                         _infoDictionaryId;
 
@@ -211,6 +214,13 @@ class DataDictionaryImpl implements DataDictionary
     {
         _isInitialized = false;
 
+        if (_snapshot != null)
+        {
+            _snapshot = null;
+            _entriesArray = null;
+            _enumTables = null;
+        }
+
         if ( dictionaryString != null )
             dictionaryString.setLength(0);
         fieldNametoIdMapLock.lock();
@@ -226,6 +236,9 @@ class DataDictionaryImpl implements DataDictionary
     @Override
     public DictionaryEntry entry(int fieldId)
     {
+        if (_snapshot != null)
+            return _snapshot.entry(fieldId);
+
         if (_entriesArray == null)
             return null;
 
@@ -269,6 +282,9 @@ class DataDictionaryImpl implements DataDictionary
                 return CodecReturnCodes.FAILURE;
             }
 
+            if (isSnapshotLoaded(error))
+                return CodecReturnCodes.FAILURE;
+
             if (!_isInitialized && initDictionary(error) != CodecReturnCodes.SUCCESS)
                 return CodecReturnCodes.FAILURE;
 
@@ -501,6 +517,9 @@ class DataDictionaryImpl implements DataDictionary
                 return CodecReturnCodes.FAILURE;
             }
 
+            if (isSnapshotLoaded(error))
+                return CodecReturnCodes.FAILURE;
+
             if (!_isInitialized && initDictionary(error) != CodecReturnCodes.SUCCESS)
                 return CodecReturnCodes.FAILURE;
 
@@ -689,6 +708,126 @@ class DataDictionaryImpl implements DataDictionary
         }
     }
 
+    @Override
+    public int loadDictionarySnapshot(String filename, Error error)
+    {
+        if (filename == null)
+        {
+            setError(error, "NULL Filename pointer.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        if (_isInitialized)
+        {
+            setError(error, "Dictionary must be cleared before loading a snapshot.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        if (!new File(filename).exists())
+        {
+            setError(error, "Can't open file: " + filename);
+            return CodecReturnCodes.FAILURE;
+        }
+
+        DictionarySnapshot snapshot;
+        try
+        {
+            snapshot = DictionarySnapshot.shared(filename);
+        }
+        catch (Exception e)
+        {
+            setError(error, "Failed to load dictionary snapshot " + filename + ": " + e.getMessage());
+            return CodecReturnCodes.FAILURE;
+        }
+
+        _minFid = snapshot.minFid();
+        _maxFid = snapshot.maxFid();
+        _numberOfEntries = snapshot.numberOfEntries();
+        _infoDictionaryId = snapshot.infoDictionaryId();
+        _enumTableCount = snapshot.enumTableCount();
+
+        Buffer[] infoTags = DictionarySnapshot.infoTags(this);
+        for (int i = 0; i < infoTags.length; i++)
+        {
+            infoTags[i].clear();
+            if (snapshot.infoTag(i) != null)
+                ((BufferImpl)infoTags[i]).data_internal(snapshot.infoTag(i));
+        }
+
+        /* Entries and enum tables are created on first use, see materializeSnapshot() */
+        _entriesArray = null;
+        _enumTables = null;
+        _snapshot = snapshot;
+        _isInitialized = true;
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int saveDictionarySnapshot(String filename, Error error)
+    {
+        if (filename == null)
+        {
+            setError(error, "NULL Filename pointer.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        if (!_isInitialized)
+        {
+            setError(error, "Dictionary not initialized");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        materializeSnapshot();
+
+        try
+        {
+            DictionarySnapshot.write(this, _entriesArray, MIN_FID, _enumTables, _enumTableCount, filename);
+        }
+        catch (Exception e)
+        {
+            setError(error, "Failed to save dictionary snapshot " + filename + ": " + e.getMessage());
+            return CodecReturnCodes.FAILURE;
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    /* A snapshot is read-only, so it cannot be added to by the file loading and decoding methods. */
+    private boolean isSnapshotLoaded(Error error)
+    {
+        if (_snapshot == null)
+            return false;
+
+        setError(error, "Dictionary is loaded from a snapshot and must be cleared before loading other dictionaries.");
+        return true;
+    }
+
+    /* Creates every entry and enum table of a snapshot, for the methods that walk the whole dictionary. */
+    private void materializeSnapshot()
+    {
+        DictionarySnapshot snapshot = _snapshot;
+        if (snapshot == null)
+            return;
+
+        synchronized (snapshot)
+        {
+            if (_entriesArray != null)
+                return;
+
+            EnumTypeTable[] enumTables = new EnumTypeTableImpl[_enumTableCount];
+            for (int i = 0; i < _enumTableCount; i++)
+                enumTables[i] = snapshot.enumTable(i);
+
+            DictionaryEntryImpl[] entriesArray = new DictionaryEntryImpl[MAX_FID - MIN_FID + 1];
+            for (int fid = MIN_FID; fid <= MAX_FID; fid++)
+                entriesArray[fid - MIN_FID] = snapshot.entry(fid);
+
+            _enumTables = enumTables;
+            _entriesArray = entriesArray;
+        }
+    }
+
     int initDictionary(Error error)
     {
         assert !_isInitialized : "Dictionary already initialized";
@@ -1320,6 +1459,8 @@ class DataDictionaryImpl implements DataDictionary
             return CodecReturnCodes.FAILURE;
         }
 
+        materializeSnapshot();
+
         series.clear();
         setDb.clear();
         if (verbosity >= Dictionary.VerbosityValues.NORMAL)
@@ -1421,6 +1562,9 @@ class DataDictionaryImpl implements DataDictionary
         int fid = 0;
         DictionaryEntryImpl newDictEntry;
 
+        if (isSnapshotLoaded(error))
+            return CodecReturnCodes.FAILURE;
+
         if (!_isInitialized && initDictionary(error) != CodecReturnCodes.SUCCESS)
             return CodecReturnCodes.FAILURE;
 
@@ -1607,6 +1751,8 @@ class DataDictionaryImpl implements DataDictionary
             return CodecReturnCodes.FAILURE;
         }
 
+        materializeSnapshot();
+
         series.clear();
         seriesEntry.clear();
         elemList.clear();
@@ -1882,6 +2028,8 @@ class DataDictionaryImpl implements DataDictionary
             return CodecReturnCodes.FAILURE;
         }
 
+        materializeSnapshot();
+
         series.clear();
         seriesEntry.clear();
         elemList.clear();
@@ -2353,6 +2501,9 @@ class DataDictionaryImpl implements DataDictionary
         int fidsCount = 0;
         int maxValue = 0;
 
+        if (isSnapshotLoaded(error))
+            return CodecReturnCodes.FAILURE;
+
         if (!_isInitialized && initDictionary(error) != CodecReturnCodes.SUCCESS)
             return CodecReturnCodes.FAILURE;
 
@@ -3384,6 +3535,7 @@ class DataDictionaryImpl implements DataDictionary
     @Override
     public EnumTypeTable[] enumTables()
     {
+        materializeSnapshot();
         return _enumTables;
     }
 
@@ -3465,6 +3617,8 @@ class DataDictionaryImpl implements DataDictionary
         if (!_isInitialized)
             return null;
 
+        materializeSnapshot();
+
         if ( dictionaryString == null )
             dictionaryString = new StringBuilder(INIT_TO_STRING_SIZE);
 
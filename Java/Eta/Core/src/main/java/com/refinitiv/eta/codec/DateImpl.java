@@ -8,6 +8,7 @@
 
 package com.refinitiv.eta.codec;
 
+import java.nio.ByteBuffer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -37,83 +38,102 @@ class DateImpl implements Date
     private static final Pattern DATE_PATTERN_8 = Pattern.compile("--(\\d{2})-(\\d{2})"); //ISO8601 '--MM-DD'"
     private static final Pattern DATE_PATTERN_9 = Pattern.compile("--(\\d{4})"); //ISO8601 '--MMDD'"
     
+    // for toString() methods, created on first use
+    private PrimitiveTextWriter _textWriter;
+
     // Converts RsslDate to string in ISO8601 'YYYY-MM-DD' format (e.g. 2003-06-01).
     public String toStringIso8601()
     {
-    	StringBuilder retStr = new StringBuilder();
+        StringBuilder retStr = new StringBuilder(10);
+        writeIso8601(textWriter().start(retStr));
+        textWriter().finish();
+        return retStr.toString();
+    }
+    
+    // Converts RsslDate to string in RSSL "DD MON YYYY" format (e.g. 01 JUN 2003).
+    public String toStringRssl()
+    {
+        StringBuilder retStr = new StringBuilder(12);
+        writeRssl(textWriter().start(retStr), false);
+        textWriter().finish();
+        return retStr.toString();
+    }
+
+    // Writes the date in ISO8601 'YYYY-MM-DD' format, leaving out trailing separators of blank portions.
+    void writeIso8601(PrimitiveTextWriter writer)
+    {
         if (_year != 0)
         {
-        	retStr.append(String.format("%04d-", _year));
+            writer.putNumber(_year, 4, '0');
+            if (_month != 0 || _day > 0)
+                writer.put('-');
         }
         else
         {
-        	retStr.append( "--");
+            writer.put("--");
         }
+
         if (_month != 0)
-        {
-        	retStr.append(String.format("%02d", _month));
-        }
-        else
-        {
-    		if(_day > 0)
-    			retStr.append( " -");
-        }
+            writer.putNumber(_month, 2, '0');
+        else if (_day > 0)
+            writer.put(" -");
 
-      	if(_day > 0)
+        if (_day > 0)
         {
-      		retStr.append(String.format("-%02d", _day)); 
+            writer.put('-');
+            writer.putNumber(_day, 2, '0');
         }
-    	else
-    	{
-    		retStr.append( " ");
-    	}
-        // Trim trailing zeros
-     	String tempVal = retStr.toString();
-    	int i = tempVal.length();
-    	for (;  i >=0; --i)
-    	{
-    		if(Character.isDigit(tempVal.charAt(i -1)) )
-    			break;
-    	}
-    	if(i < tempVal.length())
-    		return retStr.toString().substring(0, i);
-    	return retStr.toString();
     }
-    
-    // Converts RsslDate to string in RSSL "DD MON YYYY" format (e.g. 01 JUN 2003).
-    public String toStringRssl()
+
+    // Writes the date in RSSL "DD MON YYYY" format, where blank portions are spaces as marketfeed uses.
+    // When trim is set, the spaces at either end are left out, as String.trim() would remove them.
+    void writeRssl(PrimitiveTextWriter writer, boolean trim)
     {
-    	StringBuilder retStr = new StringBuilder();
-        /* normal date */
-        /* put this into the same format as marketfeed uses where if any portion is blank, it is represented as spaces */
         if (_day != 0)
         {
-        	retStr.append(String.format("%02d ", _day));
-        }
-        else
-        {
-        	retStr.append("");
+            writer.putNumber(_day, 2, '0');
+            if (!trim || _month != 0 || _year != 0)
+                writer.put(' ');
         }
 
         if (_month != 0)
         {
-            retStr.append(String.format("%s ",MONTHS_EN[_month - 1]));
+            writer.put(MONTHS_EN[_month - 1]);
+            if (!trim || _year != 0)
+                writer.put(' ');
         }
-        else
+        else if (!trim || (_day != 0 && _year != 0))
         {
-            retStr.append("    ");
+            writer.put("    ");
         }
 
         if (_year != 0)
-        {
-        	retStr.append(String.format("%4d", _year));
-        }
+            writer.putNumber(_year, (trim && _day == 0 && _month == 0) ? 0 : 4, ' ');
+        else if (!trim)
+            writer.put("    ");
+    }
+
+    /* Writes the string returned by toString(). */
+    void writeText(PrimitiveTextWriter writer)
+    {
+        if (isBlank())
+            return;
+
+        if (!isValid())
+            writer.put("Invalid date");
+        else if (_format == DateTimeStringFormatTypes.STR_DATETIME_RSSL)
+            writeRssl(writer, false);
+        else if (_format == DateTimeStringFormatTypes.STR_DATETIME_ISO8601)
+            writeIso8601(writer);
         else
-        {
-            retStr.append("    ");
-        }
+            writer.put("Invalid date format");
+    }
 
-        return retStr.toString();   
+    private PrimitiveTextWriter textWriter()
+    {
+        if (_textWriter == null)
+            _textWriter = new PrimitiveTextWriter();
+        return _textWriter;
     }
 
     @Override
@@ -242,33 +262,31 @@ class DateImpl implements Date
     @Override
     public String toString()
     {
-        if (!isBlank())
-        {
-            if (isValid())
-            {                
-                if(_format == DateTimeStringFormatTypes.STR_DATETIME_RSSL)
-                {
-                	return toStringRssl();
-                }
-                if(_format == DateTimeStringFormatTypes.STR_DATETIME_ISO8601)
-                {
-                	return toStringIso8601();
-                }
-                else
-                {
-                	return "Invalid date format";
-                }
-            }
-            else
-            {
-                return "Invalid date";
-            }
-        }
-		else
-		{
-		    return "";
-		}        
-      }
+        StringBuilder text = new StringBuilder(12);
+        toString(text);
+        return text.toString();
+    }
+
+    @Override
+    public int toString(byte[] dest, int offset)
+    {
+        writeText(textWriter().start(dest, offset));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(ByteBuffer dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(Appendable dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
 
     @Override
     public int value(String value)
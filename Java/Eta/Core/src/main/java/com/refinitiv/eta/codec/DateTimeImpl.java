@@ -9,6 +9,7 @@
 package com.refinitiv.eta.codec;
 
 import static com.refinitiv.eta.codec.DateImpl.MONTHS_EN;
+import java.nio.ByteBuffer;
 import java.util.Calendar;
 import java.util.TimeZone;
 import java.util.regex.Matcher;
@@ -22,6 +23,9 @@ class DateTimeImpl implements DateTime
     
     private Calendar _calendar;
     private Matcher matcher;
+
+    // for toString() methods, created on first use
+    private PrimitiveTextWriter _textWriter;
     
     // for value(String) method
     private String trimmedVal;
@@ -2125,62 +2129,89 @@ class DateTimeImpl implements DateTime
  
     @Override
     public String toString()
+    {
+        StringBuilder text = new StringBuilder(40);
+        toString(text);
+        return text.toString();
+    }
+
+    @Override
+    public int toString(byte[] dest, int offset)
+    {
+        writeText(textWriter().start(dest, offset));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(ByteBuffer dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(Appendable dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    /* Writes the string returned by toString(). */
+    private void writeText(PrimitiveTextWriter writer)
     {
         if (isBlank())
-            return "";
-        StringBuilder oBuffer = new StringBuilder();
+            return;
 
-        if (_date.isBlank())
-            oBuffer.append("");
-        else if (!_date.isValid())
-        {
-            oBuffer.append("Invalid dateTime");
-        }
-        else
+        if (!_date.isBlank())
         {
+            if (!_date.isValid())
+            {
+                writer.put("Invalid dateTime");
+            }
             /* normal date */
             /* put this into the same format as marketfeed uses where if any portion is blank, it is represented as spaces */
-            if(_format == DateTimeStringFormatTypes.STR_DATETIME_RSSL)
+            else if (_format == DateTimeStringFormatTypes.STR_DATETIME_RSSL)
             {
-            	_date.format(DateTimeStringFormatTypes.STR_DATETIME_RSSL);
-            	oBuffer.append(String.format("%s",_date.toString().trim()));
+                _date.format(DateTimeStringFormatTypes.STR_DATETIME_RSSL);
+                ((DateImpl)_date).writeRssl(writer, true);
             }
-            else if(_format == DateTimeStringFormatTypes.STR_DATETIME_ISO8601)
+            else if (_format == DateTimeStringFormatTypes.STR_DATETIME_ISO8601)
             {
-            	_date.format(DateTimeStringFormatTypes.STR_DATETIME_ISO8601);
-            	oBuffer.append(String.format("%s",_date.toString().trim()));
-
+                _date.format(DateTimeStringFormatTypes.STR_DATETIME_ISO8601);
+                ((DateImpl)_date).writeIso8601(writer);
             }
             else
             {
-            	oBuffer.append("Invalid DateTime format value ");
-            	oBuffer.append(_format);
-            	return oBuffer.toString();
-            }  
+                writer.put("Invalid DateTime format value ");
+                writer.putNumber(_format, 0, '0');
+                return;
+            }
         }
- 
+
         if (!_time.isBlank())
         {
-	        if(_format == DateTimeStringFormatTypes.STR_DATETIME_RSSL)
-	        {
-	        	_time.format(DateTimeStringFormatTypes.STR_DATETIME_RSSL);
-	            if (!_date.isBlank())
-	                oBuffer.append(String.format("%s%s", " ", _time.toString()));
-	            else
-	                oBuffer.append(String.format("%s", _time.toString()));
-	        }
-	        else if(_format == DateTimeStringFormatTypes.STR_DATETIME_ISO8601)
-	        {
-	        	_time.format(DateTimeStringFormatTypes.STR_DATETIME_ISO8601);
-	            if (!_date.isBlank())
-	                oBuffer.append(String.format("%s%s", "T", _time.toString()));
-	            else
-	                oBuffer.append(String.format("%s", _time.toString()));	
-	        }
+            if (_format == DateTimeStringFormatTypes.STR_DATETIME_RSSL)
+            {
+                _time.format(DateTimeStringFormatTypes.STR_DATETIME_RSSL);
+                if (!_date.isBlank())
+                    writer.put(' ');
+                ((TimeImpl)_time).writeText(writer);
+            }
+            else if (_format == DateTimeStringFormatTypes.STR_DATETIME_ISO8601)
+            {
+                _time.format(DateTimeStringFormatTypes.STR_DATETIME_ISO8601);
+                if (!_date.isBlank())
+                    writer.put('T');
+                ((TimeImpl)_time).writeText(writer);
+            }
         }
-        
-        return oBuffer.toString();
+    }
 
+    private PrimitiveTextWriter textWriter()
+    {
+        if (_textWriter == null)
+            _textWriter = new PrimitiveTextWriter();
+        return _textWriter;
     }
 
     @Override
@@ -167,7 +167,7 @@ class DecodersToXML
                 if (ret == CodecReturnCodes.BLANK_DATA) {
                     xmlString.append(" data=\"\"");
                 } else if (ret >= CodecReturnCodes.SUCCESS) {
-                    xmlString.append(xmlDumpQos(qos));
+                    xmlDumpQos(xmlString, qos);
                 }
                 break;
             case DataTypes.STATE:
@@ -176,7 +176,7 @@ class DecodersToXML
                 if (ret == CodecReturnCodes.BLANK_DATA) {
                     xmlString.append(" data=\"\"");
                 } else if (ret >= CodecReturnCodes.SUCCESS) {
-                    xmlString.append(xmlDumpState(state));
+                    xmlDumpState(xmlString, state);
                 }
                 break;
             case DataTypes.BUFFER:
@@ -211,7 +211,7 @@ class DecodersToXML
                 else if (ret >= CodecReturnCodes.SUCCESS)
                 {
                     xmlString.append(" data=\"");
-                    xmlString.append(xmlDumpDate(dtDate.date()));
+                    xmlDumpDate(xmlString, dtDate.date());
                     xmlString.append("\"");
                 }
                 break;
@@ -225,7 +225,7 @@ class DecodersToXML
                 else if (ret >= CodecReturnCodes.SUCCESS)
                 {
                     xmlString.append(" data=\"");
-                    xmlString.append(xmlDumpTime(dtTime.time()));
+                    xmlDumpTime(xmlString, dtTime.time());
                     xmlString.append("\"");
                 }
                 break;
@@ -239,7 +239,7 @@ class DecodersToXML
                 else if (ret >= CodecReturnCodes.SUCCESS)
                 {
                     xmlString.append(" data=\"");
-                    xmlString.append(xmlDumpDateTime(dtDatetime));
+                    xmlDumpDateTime(xmlString, dtDatetime);
                     xmlString.append("\"");
                 }
                 break;
@@ -253,7 +253,7 @@ class DecodersToXML
                 else if (ret >= CodecReturnCodes.SUCCESS)
                 {
                     xmlString.append(" data=\"");
-                    xmlString.append(xmlDumpReal(oReal64));
+                    xmlDumpReal(xmlString, oReal64);
                     xmlString.append("\"");
                 }
                 break;
@@ -1365,39 +1365,42 @@ class DecodersToXML
         return xmlString.toString();
     }
 
-    private static String xmlDumpReal(Real oReal64)
+    private static void xmlDumpReal(StringBuilder xmlString, Real oReal64)
     {
-        return oReal64.toString();
+        oReal64.toString(xmlString);
     }
 
-    private static String xmlDumpTime(Time time)
+    private static void xmlDumpTime(StringBuilder xmlString, Time time)
     {
-        return time.toString();
+        time.toString(xmlString);
     }
 
-    private static String xmlDumpDate(Date date)
+    private static void xmlDumpDate(StringBuilder xmlString, Date date)
     {
-        return date.toString();
+        date.toString(xmlString);
     }
 
-    private static String xmlDumpDateTime(DateTime datetime)
+    private static void xmlDumpDateTime(StringBuilder xmlString, DateTime datetime)
     {
-        return datetime.toString();
+        datetime.toString(xmlString);
     }
 
-    private static String xmlDumpState(State state)
+    private static void xmlDumpState(StringBuilder xmlString, State state)
     {
-        return (" " + state.toString());
+        xmlString.append(' ');
+        state.toString(xmlString);
     }
 
-    private static String xmlDumpQos(Qos qos)
+    private static void xmlDumpQos(StringBuilder xmlString, Qos qos)
     {
-        return (" " + qos.toString());
+        xmlString.append(' ');
+        qos.toString(xmlString);
     }
 
-    private static String xmlDumpWorstQos(Qos qos)
+    private static void xmlDumpWorstQos(StringBuilder xmlString, Qos qos)
     {
-        return (" " + qos.toString());
+        xmlString.append(' ');
+        qos.toString(xmlString);
     }
 
     private static String xmlDumpUInt(UInt u64)
@@ -1775,10 +1778,10 @@ class DecodersToXML
 
                 if (refreshMsg.checkHasQos())
                 {
-                    xmlString.append(xmlDumpQos(refreshMsg.qos()));
+                    xmlDumpQos(xmlString, refreshMsg.qos());
                 }
 
-                xmlString.append(xmlDumpState(refreshMsg.state()));
+                xmlDumpState(xmlString, refreshMsg.state());
 
                 if (refreshMsg.checkHasPostUserInfo())
                 {
@@ -2009,11 +2012,11 @@ class DecodersToXML
 
                 if (requestMsg.checkHasQos())
                 {
-                    xmlString.append(xmlDumpQos(requestMsg.qos()));
+                    xmlDumpQos(xmlString, requestMsg.qos());
                 }
                 if (requestMsg.checkHasWorstQos())
                 {
-                    xmlString.append(xmlDumpWorstQos(requestMsg.worstQos()));
+                    xmlDumpWorstQos(xmlString, requestMsg.worstQos());
                 }
 
                 if (requestMsg.checkHasPriority())
@@ -2117,7 +2120,7 @@ class DecodersToXML
 
                 if (statusMsg.checkHasState())
                 {
-                    xmlString.append(xmlDumpState(statusMsg.state()));
+                    xmlDumpState(xmlString, statusMsg.state());
                 }
 
                 if (statusMsg.checkHasPostUserInfo())
@@ -0,0 +1,398 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/* Binary snapshot of a loaded field and enumerated type dictionary, read back through a read-only
+ * memory mapping of the file.
+ *
+ * Layout, all big endian:
+ *   header  magic, version, minFid, maxFid, numberOfEntries, infoDictionaryId, enumTableCount,
+ *           lowest and highest fid with an entry, then the info tags as strings
+ *   index   an offset per fid from the lowest to the highest (0 when there is no entry),
+ *           then an offset per enum table
+ *   entries fid, rippleToField, fieldType, length, enumLength, rwfType, rwfLength,
+ *           enum table index (-1 when none), acronym, ddeAcronym
+ *   tables  maxValue, fidReferenceCount, fid references, enum type count,
+ *           then value, display and meaning of each enum type
+ * Strings are a short length (-1 for a missing string) followed by UTF-8 bytes.
+ *
+ * Entries and enum tables are only created the first time they are looked up. The mapping is only
+ * read with absolute gets, and created objects are published through atomic arrays, so a snapshot
+ * can be read by several threads at once. Dictionaries loading the same file share one snapshot, see
+ * shared(String), while each keeps its own encoding and decoding state. */
+class DictionarySnapshot
+{
+    static final int MAGIC = 0x52444453; /* "RDDS" */
+    static final int VERSION = 1;
+
+    private static final int INFO_TAG_COUNT = 10;
+    private static final int HEADER_INT_COUNT = 9;
+
+    private final ByteBuffer _map;
+    private final int _minFid;
+    private final int _maxFid;
+    private final int _numberOfEntries;
+    private final int _infoDictionaryId;
+    private final int _enumTableCount;
+    private final int _lowFid;
+    private final int _highFid;
+    private final String[] _infoTags = new String[INFO_TAG_COUNT];
+    private final int _fidIndexPos;
+    private final int _tableIndexPos;
+    private final AtomicReferenceArray<DictionaryEntryImpl> _entries;
+    private final AtomicReferenceArray<EnumTypeTableImpl> _enumTables;
+
+    /* size and modification time of the file when it was mapped */
+    private long _fileLength;
+    private long _fileModified;
+
+    /* snapshots by canonical file path */
+    private static final ConcurrentHashMap<String, DictionarySnapshot> _sharedSnapshots = new ConcurrentHashMap<>();
+
+    private DictionarySnapshot(ByteBuffer map) throws IOException
+    {
+        _map = map;
+
+        if (map.limit() < HEADER_INT_COUNT * 4 || map.getInt(0) != MAGIC)
+            throw new IOException("Not a dictionary snapshot.");
+        if (map.getInt(4) != VERSION)
+            throw new IOException("Unsupported dictionary snapshot version " + map.getInt(4) + ".");
+
+        _minFid = map.getInt(8);
+        _maxFid = map.getInt(12);
+        _numberOfEntries = map.getInt(16);
+        _infoDictionaryId = map.getInt(20);
+        _enumTableCount = map.getInt(24);
+        _lowFid = map.getInt(28);
+        _highFid = map.getInt(32);
+
+        int pos = HEADER_INT_COUNT * 4;
+        for (int i = 0; i < INFO_TAG_COUNT; i++)
+        {
+            _infoTags[i] = string(pos);
+            pos = skipString(pos);
+        }
+
+        int fidRange = _highFid >= _lowFid ? _highFid - _lowFid + 1 : 0;
+        if (_enumTableCount < 0 || pos + (fidRange + _enumTableCount) * 4 > map.limit())
+            throw new IOException("Dictionary snapshot is truncated.");
+
+        _fidIndexPos = pos;
+        _tableIndexPos = pos + fidRange * 4;
+        _entries = new AtomicReferenceArray<>(fidRange);
+        _enumTables = new AtomicReferenceArray<>(_enumTableCount);
+    }
+
+    /* Maps the snapshot file. The mapping stays valid after the file channel is closed.
+     * The magic number is read first so that other files are never mapped. */
+    static DictionarySnapshot map(String filename) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ))
+        {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            while (magic.hasRemaining() && channel.read(magic, magic.position()) > 0);
+            if (magic.hasRemaining() || magic.getInt(0) != MAGIC)
+                throw new IOException("Not a dictionary snapshot.");
+
+            return new DictionarySnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+            throw new IOException("Dictionary snapshot is truncated.");
+        }
+    }
+
+    /* Returns the snapshot of the file, mapping it only if it is not mapped yet or has changed since. */
+    static DictionarySnapshot shared(String filename) throws IOException
+    {
+        File file = new File(filename).getCanonicalFile();
+        String path = file.getPath();
+
+        DictionarySnapshot snapshot = _sharedSnapshots.get(path);
+        if (snapshot != null && snapshot._fileLength == file.length() && snapshot._fileModified == file.lastModified())
+            return snapshot;
+
+        long length = file.length();
+        long modified = file.lastModified();
+        snapshot = map(path);
+        snapshot._fileLength = length;
+        snapshot._fileModified = modified;
+        _sharedSnapshots.put(path, snapshot);
+        return snapshot;
+    }
+
+    int minFid()
+    {
+        return _minFid;
+    }
+
+    int maxFid()
+    {
+        return _maxFid;
+    }
+
+    int numberOfEntries()
+    {
+        return _numberOfEntries;
+    }
+
+    int infoDictionaryId()
+    {
+        return _infoDictionaryId;
+    }
+
+    int enumTableCount()
+    {
+        return _enumTableCount;
+    }
+
+    /* Info tags in the order of infoTags(DataDictionary) */
+    String infoTag(int index)
+    {
+        return _infoTags[index];
+    }
+
+    DictionaryEntryImpl entry(int fid)
+    {
+        if (fid < _lowFid || fid > _highFid)
+            return null;
+
+        int index = fid - _lowFid;
+        DictionaryEntryImpl entry = _entries.get(index);
+        if (entry != null)
+            return entry;
+
+        int pos = _map.getInt(_fidIndexPos + index * 4);
+        if (pos == 0)
+            return null;
+
+        entry = new DictionaryEntryImpl();
+        entry._fid = _map.getInt(pos);
+        entry._rippleToField = _map.getInt(pos + 4);
+        entry._fieldType = _map.getInt(pos + 8);
+        entry._length = _map.getInt(pos + 12);
+        entry._enumLength = _map.getInt(pos + 16);
+        entry._rwfType = _map.getInt(pos + 20);
+        entry._rwfLength = _map.getInt(pos + 24);
+        int tableIndex = _map.getInt(pos + 28);
+        if (tableIndex >= 0)
+            entry._enumTypeTable = enumTable(tableIndex);
+        pos += 32;
+        setString(entry._acronym, string(pos));
+        setString(entry._ddeAcronym, string(skipString(pos)));
+
+        return _entries.compareAndSet(index, null, entry) ? entry : _entries.get(index);
+    }
+
+    EnumTypeTableImpl enumTable(int index)
+    {
+        EnumTypeTableImpl table = _enumTables.get(index);
+        if (table != null)
+            return table;
+
+        int pos = _map.getInt(_tableIndexPos + index * 4);
+        int maxValue = _map.getInt(pos);
+        int fidReferenceCount = _map.getInt(pos + 4);
+        pos += 8;
+
+        int[] fidReferences = new int[fidReferenceCount];
+        for (int i = 0; i < fidReferenceCount; i++, pos += 2)
+            fidReferences[i] = _map.getShort(pos);
+
+        int enumTypeCount = _map.getInt(pos);
+        pos += 4;
+        EnumType[] enumTypes = new EnumType[maxValue + 1];
+        for (int i = 0; i < enumTypeCount; i++)
+        {
+            EnumTypeImpl enumType = new EnumTypeImpl();
+            enumType.value(_map.getShort(pos) & 0xFFFF);
+            pos += 2;
+            setString(enumType._display, string(pos));
+            pos = skipString(pos);
+            setString(enumType._meaning, string(pos));
+            pos = skipString(pos);
+            enumTypes[enumType.value()] = enumType;
+        }
+
+        table = new EnumTypeTableImpl();
+        table.maxValue(maxValue);
+        table.enumTypes(enumTypes);
+        table.fidReferenceCount(fidReferenceCount);
+        table.fidReferences(fidReferences);
+
+        return _enumTables.compareAndSet(index, null, table) ? table : _enumTables.get(index);
+    }
+
+    private String string(int pos)
+    {
+        int length = _map.getShort(pos);
+        if (length < 0)
+            return null;
+
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++)
+            bytes[i] = _map.get(pos + 2 + i);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int skipString(int pos)
+    {
+        return pos + 2 + Math.max(_map.getShort(pos), 0);
+    }
+
+    private static void setString(Buffer buffer, String value)
+    {
+        if (value != null)
+            ((BufferImpl)buffer).data_internal(value);
+    }
+
+    static Buffer[] infoTags(DataDictionary dictionary)
+    {
+        return new Buffer[] { dictionary.infoFieldFilename(), dictionary.infoFieldDesc(), dictionary.infoFieldVersion(),
+                              dictionary.infoFieldBuild(), dictionary.infoFieldDate(), dictionary.infoEnumFilename(),
+                              dictionary.infoEnumDesc(), dictionary.infoEnumDate(), dictionary.infoEnumRTVersion(),
+                              dictionary.infoEnumDTVersion() };
+    }
+
+    /* Writes the fully materialized contents of the dictionary to the file. */
+    static void write(DataDictionaryImpl dictionary, DictionaryEntryImpl[] entriesArray, int minFidOffset,
+                      EnumTypeTable[] enumTables, int enumTableCount, String filename) throws IOException
+    {
+        int lowFid = Integer.MAX_VALUE, highFid = Integer.MIN_VALUE;
+        for (int i = 0; i < entriesArray.length; i++)
+        {
+            if (entriesArray[i] != null)
+            {
+                lowFid = Math.min(lowFid, i + minFidOffset);
+                highFid = Math.max(highFid, i + minFidOffset);
+            }
+        }
+        int fidRange = highFid >= lowFid ? highFid - lowFid + 1 : 0;
+        if (fidRange == 0)
+        {
+            lowFid = 0;
+            highFid = -1;
+        }
+
+        IdentityHashMap<EnumTypeTable, Integer> tableIndexes = new IdentityHashMap<>(enumTableCount * 2);
+        for (int i = 0; i < enumTableCount; i++)
+            tableIndexes.put(enumTables[i], i);
+
+        /* Entries and tables first, so their offsets are known when the index is written */
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+        int[] fidOffsets = new int[fidRange];
+        Arrays.fill(fidOffsets, -1);
+        for (int fid = lowFid; fid <= highFid; fid++)
+        {
+            DictionaryEntryImpl entry = entriesArray[fid - minFidOffset];
+            if (entry == null)
+                continue;
+
+            fidOffsets[fid - lowFid] = body.size();
+            body.writeInt(entry._fid);
+            body.writeInt(entry._rippleToField);
+            body.writeInt(entry._fieldType);
+            body.writeInt(entry._length);
+            body.writeInt(entry._enumLength);
+            body.writeInt(entry._rwfType);
+            body.writeInt(entry._rwfLength);
+            Integer tableIndex = entry._enumTypeTable != null ? tableIndexes.get(entry._enumTypeTable) : null;
+            body.writeInt(tableIndex != null ? tableIndex : -1);
+            writeString(body, entry._acronym);
+            writeString(body, entry._ddeAcronym);
+        }
+
+        int[] tableOffsets = new int[enumTableCount];
+        for (int i = 0; i < enumTableCount; i++)
+        {
+            EnumTypeTable table = enumTables[i];
+            tableOffsets[i] = body.size();
+            body.writeInt(table.maxValue());
+            body.writeInt(table.fidReferenceCount());
+            for (int j = 0; j < table.fidReferenceCount(); j++)
+                body.writeShort(table.fidReferences()[j]);
+
+            int enumTypeCount = 0;
+            for (EnumType enumType : table.enumTypes())
+            {
+                if (enumType != null)
+                    enumTypeCount++;
+            }
+            body.writeInt(enumTypeCount);
+            for (EnumType enumType : table.enumTypes())
+            {
+                if (enumType == null)
+                    continue;
+                body.writeShort(enumType.value());
+                writeString(body, enumType.display());
+                writeString(body, enumType.meaning());
+            }
+        }
+        body.flush();
+
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream(1024);
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.writeInt(dictionary.minFid());
+        header.writeInt(dictionary.maxFid());
+        header.writeInt(dictionary.numberOfEntries());
+        header.writeInt(dictionary.infoDictionaryId());
+        header.writeInt(enumTableCount);
+        header.writeInt(lowFid);
+        header.writeInt(highFid);
+        for (Buffer tag : infoTags(dictionary))
+            writeString(header, tag);
+
+        int bodyPos = header.size() + (fidRange + enumTableCount) * 4;
+        for (int offset : fidOffsets)
+            header.writeInt(offset < 0 ? 0 : bodyPos + offset);
+        for (int offset : tableOffsets)
+            header.writeInt(bodyPos + offset);
+        header.flush();
+
+        try (FileOutputStream out = new FileOutputStream(filename))
+        {
+            headerBytes.writeTo(out);
+            bodyBytes.writeTo(out);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, Buffer buffer) throws IOException
+    {
+        String value = buffer.toString();
+        if (value == null)
+        {
+            out.writeShort(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE)
+            throw new IOException("Dictionary string is too long for a snapshot: " + value.substring(0, 32) + "...");
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,221 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/* Writes the text of a primitive as ASCII characters into a byte array, a ByteBuffer or an Appendable,
+ * for the toString methods that do not create Strings. Each primitive keeps its own writer, so writing
+ * its text does not allocate after the first time.
+ *
+ * A write is started on a destination, written with the put methods and finished with finish().
+ * Once the text does not fit in the destination, or the Appendable fails, the rest of the text is
+ * dropped and finish() reports the error. */
+final class PrimitiveTextWriter
+{
+    private static final int BYTE_ARRAY = 0;
+    private static final int BYTE_BUFFER = 1;
+    private static final int APPENDABLE = 2;
+
+    private int _destType;
+    private byte[] _array;
+    private int _offset;
+    private ByteBuffer _byteBuffer;
+    private int _startPosition;
+    private Appendable _appendable;
+    private int _error;
+
+    // decimal digits of the last loaded number, most significant first, ending at the end of the array
+    private final byte[] _digits = new byte[20];
+    private int _digitCount;
+
+    PrimitiveTextWriter start(byte[] dest, int offset)
+    {
+        _destType = BYTE_ARRAY;
+        _array = dest;
+        _offset = offset;
+        if (dest == null || offset < 0)
+            _error = CodecReturnCodes.INVALID_ARGUMENT;
+        else
+            _error = (offset <= dest.length) ? CodecReturnCodes.SUCCESS : CodecReturnCodes.BUFFER_TOO_SMALL;
+        return this;
+    }
+
+    PrimitiveTextWriter start(ByteBuffer dest)
+    {
+        _destType = BYTE_BUFFER;
+        _byteBuffer = dest;
+        if (dest == null)
+            _error = CodecReturnCodes.INVALID_ARGUMENT;
+        else
+        {
+            _startPosition = dest.position();
+            _error = CodecReturnCodes.SUCCESS;
+        }
+        return this;
+    }
+
+    PrimitiveTextWriter start(Appendable dest)
+    {
+        _destType = APPENDABLE;
+        _appendable = dest;
+        _error = (dest != null) ? CodecReturnCodes.SUCCESS : CodecReturnCodes.INVALID_ARGUMENT;
+        return this;
+    }
+
+    /* Finishes the write and releases the destination. For a byte array, returns the offset after the text
+     * or a negative error code. Otherwise returns SUCCESS or an error code; the position of a ByteBuffer
+     * is restored on an error. */
+    int finish()
+    {
+        int ret = _error;
+        switch (_destType)
+        {
+            case BYTE_ARRAY:
+                if (ret == CodecReturnCodes.SUCCESS)
+                    ret = _offset;
+                _array = null;
+                break;
+            case BYTE_BUFFER:
+                if (ret != CodecReturnCodes.SUCCESS && _byteBuffer != null)
+                    _byteBuffer.position(_startPosition);
+                _byteBuffer = null;
+                break;
+            default:
+                _appendable = null;
+                break;
+        }
+        return ret;
+    }
+
+    /* Fails the write with the error, which finish() returns, and drops the rest of the text. */
+    void fail(int error)
+    {
+        if (_error == CodecReturnCodes.SUCCESS)
+            _error = error;
+    }
+
+    boolean isAppendable()
+    {
+        return _destType == APPENDABLE;
+    }
+
+    void put(char ch)
+    {
+        if (_error != CodecReturnCodes.SUCCESS)
+            return;
+
+        switch (_destType)
+        {
+            case BYTE_ARRAY:
+                if (_offset < _array.length)
+                    _array[_offset++] = (byte)ch;
+                else
+                    _error = CodecReturnCodes.BUFFER_TOO_SMALL;
+                break;
+            case BYTE_BUFFER:
+                if (_byteBuffer.hasRemaining())
+                    _byteBuffer.put((byte)ch);
+                else
+                    _error = CodecReturnCodes.BUFFER_TOO_SMALL;
+                break;
+            default:
+                try
+                {
+                    _appendable.append(ch);
+                }
+                catch (IOException e)
+                {
+                    _error = CodecReturnCodes.FAILURE;
+                }
+                break;
+        }
+    }
+
+    /* Writes a byte of text that is already encoded, as is into byte destinations. */
+    void putByte(byte b)
+    {
+        put((char)(b & 0xFF));
+    }
+
+    void put(String str)
+    {
+        for (int i = 0; i < str.length(); ++i)
+            put(str.charAt(i));
+    }
+
+    void putZeros(int count)
+    {
+        for (int i = 0; i < count; ++i)
+            put('0');
+    }
+
+    /* Writes the number, with a leading '-' if it is negative, padded on the left with the pad character
+     * to at least minDigits digits. */
+    void putNumber(long value, int minDigits, char pad)
+    {
+        int count = loadDigits(value);
+        if (value < 0)
+            put('-');
+        for (int i = count; i < minDigits; ++i)
+            put(pad);
+        putDigits(0, count);
+    }
+
+    /* Writes the digits of a fraction of the given number of decimal places, such as 50 for two places
+     * as "5", without trailing zeros. Writes nothing if the fraction is zero. */
+    void putFraction(long numerator, int places)
+    {
+        if (numerator == 0)
+            return;
+
+        int count = loadDigits(numerator);
+        putZeros(places - count);
+        putDigits(0, significantDigits());
+    }
+
+    /* Loads the decimal digits of the magnitude of the value, so they can be written with putDigits(),
+     * and returns their count. Long.MIN_VALUE is loaded as 9223372036854775808. */
+    int loadDigits(long value)
+    {
+        // digits are taken from the negative magnitude, which also holds Long.MIN_VALUE
+        if (value > 0)
+            value = -value;
+
+        int index = _digits.length;
+        do
+        {
+            long quotient = value / 10;
+            _digits[--index] = (byte)('0' + (int)(quotient * 10 - value));
+            value = quotient;
+        }
+        while (value != 0);
+
+        _digitCount = _digits.length - index;
+        return _digitCount;
+    }
+
+    /* Returns the number of loaded digits without their trailing zeros, which is at least one. */
+    int significantDigits()
+    {
+        int count = _digitCount;
+        while (count > 1 && _digits[_digits.length - _digitCount + count - 1] == '0')
+            --count;
+        return count;
+    }
+
+    /* Writes the loaded digits from index start up to index end, where index 0 is the most significant digit. */
+    void putDigits(int start, int end)
+    {
+        int first = _digits.length - _digitCount;
+        for (int i = start; i < end; ++i)
+            put((char)_digits[first + i]);
+    }
+}
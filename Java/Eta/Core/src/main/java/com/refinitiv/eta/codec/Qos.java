@@ -8,6 +8,8 @@
 
 package com.refinitiv.eta.codec;
 
+import java.nio.ByteBuffer;
+
 /**
  * <p>
  * ETA Quality of Service class contains information rate and/or timeliness
@@ -112,6 +114,44 @@ public interface Qos
      */
     public String toString();
 
+    /**
+     * Writes the string returned by {@link #toString()} into a byte array as ASCII characters,
+     * without creating a String.
+     * 
+     * @param dest the byte array to write to
+     * @param offset the index in dest of the first character
+     * 
+     * @return the index in dest after the last character written,
+     *         {@link CodecReturnCodes#BUFFER_TOO_SMALL} if the string does not fit in dest, or
+     *         {@link CodecReturnCodes#INVALID_ARGUMENT} if dest is null or offset is negative
+     */
+    public int toString(byte[] dest, int offset);
+
+    /**
+     * Writes the string returned by {@link #toString()} into a ByteBuffer as ASCII characters,
+     * without creating a String. The string is written from the position of dest, which is moved past it.
+     * 
+     * @param dest the ByteBuffer to write to
+     * 
+     * @return {@link CodecReturnCodes#SUCCESS} on success,
+     *         {@link CodecReturnCodes#BUFFER_TOO_SMALL} if the string does not fit in the remaining
+     *         bytes of dest, in which case the position of dest is unchanged, or
+     *         {@link CodecReturnCodes#INVALID_ARGUMENT} if dest is null
+     */
+    public int toString(ByteBuffer dest);
+
+    /**
+     * Appends the string returned by {@link #toString()} to an Appendable, such as a StringBuilder,
+     * without creating a String.
+     * 
+     * @param dest the Appendable to append to
+     * 
+     * @return {@link CodecReturnCodes#SUCCESS} on success,
+     *         {@link CodecReturnCodes#FAILURE} if dest throws an IOException, or
+     *         {@link CodecReturnCodes#INVALID_ARGUMENT} if dest is null
+     */
+    public int toString(Appendable dest);
+
     /**
      * Checks if the two Qos values are equal.
      * 
@@ -8,6 +8,8 @@
 
 package com.refinitiv.eta.codec;
 
+import java.nio.ByteBuffer;
+
 import com.refinitiv.eta.codec.DecodeIterator;
 import com.refinitiv.eta.codec.EncodeIterator;
 import com.refinitiv.eta.codec.Qos;
@@ -24,6 +26,9 @@ class QosImpl implements Qos
     boolean _isBlank;
     final int SEED = 23;
     final int PRIME = 31;
+
+    // for toString() methods, created on first use
+    private PrimitiveTextWriter _textWriter;
 	
     @Override
     public void clear()
@@ -84,10 +89,52 @@ class QosImpl implements Qos
     @Override
     public String toString()
     {
-        return "Qos: " + QosTimeliness.toString(_timeliness) + "/"
-    + QosRates.toString(_rate) + "/"
-                + ((isDynamic()) ? "Dynamic" : "Static")
-                + " - timeInfo: " + timeInfo() + " - rateInfo: " + rateInfo();
+        StringBuilder text = new StringBuilder(80);
+        toString(text);
+        return text.toString();
+    }
+
+    @Override
+    public int toString(byte[] dest, int offset)
+    {
+        writeText(textWriter().start(dest, offset));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(ByteBuffer dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(Appendable dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    /* Writes the string returned by toString(). */
+    private void writeText(PrimitiveTextWriter writer)
+    {
+        writer.put("Qos: ");
+        writer.put(QosTimeliness.toString(_timeliness));
+        writer.put('/');
+        writer.put(QosRates.toString(_rate));
+        writer.put('/');
+        writer.put(isDynamic() ? "Dynamic" : "Static");
+        writer.put(" - timeInfo: ");
+        writer.putNumber(timeInfo(), 0, '0');
+        writer.put(" - rateInfo: ");
+        writer.putNumber(rateInfo(), 0, '0');
+    }
+
+    private PrimitiveTextWriter textWriter()
+    {
+        if (_textWriter == null)
+            _textWriter = new PrimitiveTextWriter();
+        return _textWriter;
     }
 
     @Override
@@ -9,6 +9,7 @@
 package com.refinitiv.eta.codec;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 
 /**
  * This type allows the user to represent fractional or decimal values, with
@@ -122,6 +123,50 @@ public interface Real
      */
     public String toString();
 
+    /**
+     * Writes the string returned by {@link #toString()} into a byte array as ASCII characters,
+     * without creating a String. The value is written exactly from its mantissa and hint, so unlike
+     * {@link #toString()}, which goes through a double, all the digits of large values are kept.
+     * 
+     * @param dest the byte array to write to
+     * @param offset the index in dest of the first character
+     * 
+     * @return the index in dest after the last character written,
+     *         {@link CodecReturnCodes#BUFFER_TOO_SMALL} if the string does not fit in dest,
+     *         {@link CodecReturnCodes#INVALID_DATA} if the hint is reserved, or
+     *         {@link CodecReturnCodes#INVALID_ARGUMENT} if dest is null or offset is negative
+     */
+    public int toString(byte[] dest, int offset);
+
+    /**
+     * Writes the string returned by {@link #toString()} into a ByteBuffer as ASCII characters,
+     * without creating a String. The string is written from the position of dest, which is moved past it.
+     * The value is written exactly from its mantissa and hint, as {@link #toString(byte[], int)} writes it.
+     * 
+     * @param dest the ByteBuffer to write to
+     * 
+     * @return {@link CodecReturnCodes#SUCCESS} on success,
+     *         {@link CodecReturnCodes#BUFFER_TOO_SMALL} if the string does not fit in the remaining
+     *         bytes of dest, in which case the position of dest is unchanged,
+     *         {@link CodecReturnCodes#INVALID_DATA} if the hint is reserved, or
+     *         {@link CodecReturnCodes#INVALID_ARGUMENT} if dest is null
+     */
+    public int toString(ByteBuffer dest);
+
+    /**
+     * Appends the string returned by {@link #toString()} to an Appendable, such as a StringBuilder,
+     * without creating a String. The value is written exactly from its mantissa and hint, as
+     * {@link #toString(byte[], int)} writes it.
+     * 
+     * @param dest the Appendable to append to
+     * 
+     * @return {@link CodecReturnCodes#SUCCESS} on success,
+     *         {@link CodecReturnCodes#FAILURE} if dest throws an IOException,
+     *         {@link CodecReturnCodes#INVALID_DATA} if the hint is reserved, or
+     *         {@link CodecReturnCodes#INVALID_ARGUMENT} if dest is null
+     */
+    public int toString(Appendable dest);
+
     /**
      * Convert double to a {@link Real}. Hint must be in the range of
      * {@link RealHints#EXPONENT_14} - {@link RealHints#MAX_DIVISOR}.
@@ -10,6 +10,7 @@ package com.refinitiv.eta.codec;
 
 import java.lang.Double;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 
 class RealImpl implements Real
 {
@@ -21,6 +22,8 @@ class RealImpl implements Real
                                                  "0.0E-6", "0.0E-5", "0.0E-4", "0.000", "0.00", "0.0", "0", "0", "0", "0", "0", "0",
                                                  "0", "0", "0", "0", "0", "0", "0", "0", "0", "0", "0" };
     
+    static final long powersOf5[] = { 1, 5, 25, 125, 625, 3125, 15625, 78125, 390625 };
+
     static final String decimalStringFormat[] = {"%.14f","%.13f","%.12f", "%.11f", "%.10f", "%.9f", "%.8f", "%.7f", "%.6f", "%.5f", "%.4f", "%.3f", "%.2f", "%.1f"};
 
     boolean     _isBlank;
@@ -46,6 +49,9 @@ class RealImpl implements Real
     Int expdiff = CodecFactory.createInt();
     UInt numerator = CodecFactory.createUInt();
 
+    // for toString() methods, created on first use
+    private PrimitiveTextWriter _textWriter;
+
     @Override
     public void clear()
     {
@@ -331,6 +337,147 @@ class RealImpl implements Real
         }
     }
 
+    @Override
+    public int toString(byte[] dest, int offset)
+    {
+        writeText(textWriter().start(dest, offset));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(ByteBuffer dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(Appendable dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    private PrimitiveTextWriter textWriter()
+    {
+        if (_textWriter == null)
+            _textWriter = new PrimitiveTextWriter();
+        return _textWriter;
+    }
+
+    /* Writes the string returned by toString(), or fails with INVALID_DATA for a reserved hint, but with the number written exactly from the value and hint
+     * rather than from toDouble(): with 1 to 14 decimal places for negative exponent hints, as the format
+     * %.<n>f writes them, and otherwise in the notation of Double.toString(). The text only differs from
+     * toString() for values with more significant digits than a double holds. */
+    private void writeText(PrimitiveTextWriter writer)
+    {
+        if (_stringVal != null)
+        {
+            writer.put(_stringVal);
+            return;
+        }
+
+        switch (_hint)
+        {
+            case RealHints.INFINITY:
+                writer.put(infinity);
+                return;
+            case RealHints.NEG_INFINITY:
+                writer.put(negInfinity);
+                return;
+            case RealHints.NOT_A_NUMBER:
+                writer.put(notANumber);
+                return;
+            default:
+                break;
+        }
+
+        if (_hint > RealHints.MAX_DIVISOR)
+        {
+            writer.fail(CodecReturnCodes.INVALID_DATA);
+            return;
+        }
+
+        if (_value == 0)
+        {
+            writer.put(zeroDisplayStrings[_hint]);
+            return;
+        }
+
+        if (_value < 0)
+            writer.put('-');
+
+        if (_hint <= RealHints.EXPONENT_1)
+        {
+            int places = RealHints.EXPONENT0 - _hint;
+            int count = writer.loadDigits(_value);
+            if (count > places)
+                writer.putDigits(0, count - places);
+            else
+                writer.put('0');
+            writer.put('.');
+            writer.putZeros(places - count);
+            writer.putDigits(Math.max(count - places, 0), count);
+        }
+        else if (_hint <= RealHints.MAX_EXP)
+        {
+            int zeros = _hint - RealHints.EXPONENT0;
+            int count = writer.loadDigits(_value);
+            if (count + zeros <= 7)
+            {
+                writer.putDigits(0, count);
+                writer.putZeros(zeros);
+                writer.put(".0");
+            }
+            else
+                writeScientific(writer, writer.significantDigits(), count + zeros - 1);
+        }
+        else
+        {
+            // the magnitude as unsigned, so that of Long.MIN_VALUE is 2^63
+            long magnitude = (_value < 0) ? -_value : _value;
+            int shift = _hint - RealHints.FRACTION_1;
+            long whole = magnitude >>> shift;
+            // the remainder over 2^shift is the same number of decimal places over 10^shift
+            long fraction = (magnitude & ((1L << shift) - 1)) * powersOf5[shift];
+
+            int count = writer.loadDigits(whole);
+            if (count <= 7)
+            {
+                writer.putDigits(0, count);
+                writer.put('.');
+                if (fraction != 0)
+                    writer.putFraction(fraction, shift);
+                else
+                    writer.put('0');
+            }
+            else if (fraction != 0)
+            {
+                writer.putDigits(0, 1);
+                writer.put('.');
+                writer.putDigits(1, count);
+                writer.putFraction(fraction, shift);
+                writer.put('E');
+                writer.putNumber(count - 1, 0, '0');
+            }
+            else
+                writeScientific(writer, writer.significantDigits(), count - 1);
+        }
+    }
+
+    /* Writes the loaded digits as d.ddd followed by the exponent, without trailing zeros after the first digit. */
+    private static void writeScientific(PrimitiveTextWriter writer, int significant, int exponent)
+    {
+        writer.putDigits(0, 1);
+        writer.put('.');
+        if (significant > 1)
+            writer.putDigits(1, significant);
+        else
+            writer.put('0');
+        writer.put('E');
+        writer.putNumber(exponent, 0, '0');
+    }
+
     @Override
     public int value(String value)
     {
@@ -8,6 +8,8 @@
 
 package com.refinitiv.eta.codec;
 
+import java.nio.ByteBuffer;
+
 class StateImpl implements State
 {
     private int _streamState;
@@ -16,6 +18,9 @@ class StateImpl implements State
     private final Buffer _text = CodecFactory.createBuffer();
     boolean _isBlank;
 
+    // for toString() methods, created on first use
+    private PrimitiveTextWriter _textWriter;
+
     @Override
     public void clear()
     {
@@ -77,13 +82,51 @@ class StateImpl implements State
     @Override
     public String toString()
     {
-        StringBuilder strBuf = new StringBuilder("State: " + StreamStates.info(_streamState) + "/" +
-                                                 DataStates.info(_dataState) + "/" +
-                                                 StateCodes.info(_code) + " - text: ");
+        StringBuilder strBuf = new StringBuilder(80);
+        toString(strBuf);
+        return strBuf.toString();
+    }
 
-        strBuf.append("\"" + _text.toString() + "\"");
+    @Override
+    public int toString(byte[] dest, int offset)
+    {
+        writeText(textWriter().start(dest, offset));
+        return textWriter().finish();
+    }
 
-        return strBuf.toString();
+    @Override
+    public int toString(ByteBuffer dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(Appendable dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    /* Writes the string returned by toString(). */
+    private void writeText(PrimitiveTextWriter writer)
+    {
+        writer.put("State: ");
+        writer.put(StreamStates.info(_streamState));
+        writer.put('/');
+        writer.put(DataStates.info(_dataState));
+        writer.put('/');
+        writer.put(StateCodes.info(_code));
+        writer.put(" - text: \"");
+        ((BufferImpl)_text).writeText(writer);
+        writer.put('"');
+    }
+
+    private PrimitiveTextWriter textWriter()
+    {
+        if (_textWriter == null)
+            _textWriter = new PrimitiveTextWriter();
+        return _textWriter;
     }
 
     @Override
@@ -8,6 +8,7 @@
 
 package com.refinitiv.eta.codec;
 
+import java.nio.ByteBuffer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,6 +27,9 @@ class TimeImpl implements Time
     int _microsecond;
     int _nanosecond;
     int _format = DateTimeStringFormatTypes.STR_DATETIME_RSSL;
+
+    // for toString() methods, created on first use
+    private PrimitiveTextWriter _textWriter;
 	
     // for value(String) method
     private String trimmedVal;
@@ -172,164 +176,141 @@ class TimeImpl implements Time
     // Converts Time to string in ISO8601 'HH:MM:SS.nnnnnnnnn' format & trims trailing 0s (e.g. '12:15:35.5006619' --Trimmed trail zeros after nano).
     public String toStringIso8601()
     {
-        StringBuilder retStr = new StringBuilder();
+        StringBuilder retStr = new StringBuilder(18);
+        writeIso8601(textWriter().start(retStr));
+        textWriter().finish();
+        return retStr.toString();
+    }
+    
+    // Converts Time to string in "hour:minute:second:milli" format (e.g. 15:24:54:627).
+    public String toStringRssl()
+    {
+        StringBuilder retStr = new StringBuilder(24);
+        writeRssl(textWriter().start(retStr));
+        textWriter().finish();
+        return retStr.toString();
+    }
 
-        if (_hour > 9)
-        {
-            retStr.append(_hour);
-        }
-        else
-        {
-            retStr.append("0" + _hour);
-        }
+    // Writes the time in ISO8601 'HH:MM:SS.nnnnnnnnn' format, up to the first blank portion.
+    // The fraction of the second is written without trailing zeros, and left out if it is zero.
+    void writeIso8601(PrimitiveTextWriter writer)
+    {
+        writer.putNumber(_hour, 2, '0');
 
         if (_minute == BLANK_MINUTE)
-            return retStr.toString();
-        retStr.append(String.format(":%02d", _minute));
- 
-        if (_second == BLANK_SECOND)
-            return retStr.toString();
-        retStr.append(String.format(":%02d", _second));
+            return;
+        writer.put(':');
+        writer.putNumber(_minute, 2, '0');
 
+        if (_second == BLANK_SECOND)
+            return;
+        writer.put(':');
+        writer.putNumber(_second, 2, '0');
 
         if (_millisecond == BLANK_MILLI)
-            return retStr.toString();
-        retStr.append(String.format(".%03d", _millisecond));
-  
+            return;
+        long fraction = _millisecond;
+        int places = 3;
         if (_microsecond != BLANK_MICRO_NANO)
         {
-            retStr.append(String.format("%03d", _microsecond));
-	
-	        if (_nanosecond != BLANK_MICRO_NANO)
-	        {
-	        	retStr.append(String.format("%03d", _nanosecond));
-	        }    	
-        }
-        
-        // Trim trailing zeros
-     	String tempVal = retStr.toString();
-    	int i = tempVal.length();
-    	for (;  i >=1; --i)
-    	{
-    		if(Character.isDigit(tempVal.charAt(i -1)) &&  tempVal.charAt(i -1) != '0')
-    			break;
-    		else if(tempVal.charAt(i -1) == '.')
-    		{
-    			i--;
-    			break;
-    		}
-    	}
-    	if(i < tempVal.length())
-    		return retStr.toString().substring(0, i);
-    	return retStr.toString();
-    }
-    
-    // Converts Time to string in "hour:minute:second:milli" format (e.g. 15:24:54:627).
-    public String toStringRssl()
-    {
-        StringBuilder retStr = new StringBuilder();
+            fraction = fraction * 1000 + _microsecond;
+            places += 3;
 
-        if (_hour > 9)
-        {
-            retStr.append(_hour);
+            if (_nanosecond != BLANK_MICRO_NANO)
+            {
+                fraction = fraction * 1000 + _nanosecond;
+                places += 3;
+            }
         }
-        else
+
+        if (fraction != 0)
         {
-            retStr.append("0" + _hour);
+            writer.put('.');
+            writer.putFraction(fraction, places);
         }
+    }
+
+    // Writes the time in "hour:minute:second:milli:micro:nano" format, up to the first blank portion.
+    void writeRssl(PrimitiveTextWriter writer)
+    {
+        writer.putNumber(_hour, 2, '0');
 
         if (_minute == BLANK_MINUTE)
-            return retStr.toString();
-        if (_minute > 9)
-        {
-            retStr.append(":" + _minute);
-        }
-        else
-        {
-            retStr.append(":" + "0" + _minute);
-        }
+            return;
+        writer.put(':');
+        writer.putNumber(_minute, 2, '0');
 
         if (_second == BLANK_SECOND)
-            return retStr.toString();
-        if (_second > 9)
-        {
-            retStr.append(":" + _second);
-        }
-        else
-        {
-            retStr.append(":" + "0" + _second);
-        }
+            return;
+        writer.put(':');
+        writer.putNumber(_second, 2, '0');
 
         if (_millisecond == BLANK_MILLI)
-            return retStr.toString();
-        if (_millisecond > 99)
-        {
-            retStr.append(":" + _millisecond);
-        }
-        else if (_millisecond > 9)
-        {
-            retStr.append(":" + "0" + _millisecond);
-        }
-        else
-        {
-            retStr.append(":" + "00" + _millisecond);
-        }
+            return;
+        writer.put(':');
+        writer.putNumber(_millisecond, 3, '0');
 
         if (_microsecond == BLANK_MICRO_NANO)
-            return retStr.toString();
-        if (_microsecond > 99)
-        {
-            retStr.append(":" + _microsecond);
-        }
-        else if (_microsecond > 9)
-        {
-            retStr.append(":" + "0" + _microsecond);
-        }
-        else
-        {
-            retStr.append(":" + "00" + _microsecond);
-        }
+            return;
+        writer.put(':');
+        writer.putNumber(_microsecond, 3, '0');
 
         if (_nanosecond == BLANK_MICRO_NANO)
-            return retStr.toString();
-        if (_nanosecond > 99)
-        {
-            retStr.append(":" + _nanosecond);
-        }
-        else if (_nanosecond > 9)
-        {
-            retStr.append(":" + "0" + _nanosecond);
-        }
+            return;
+        writer.put(':');
+        writer.putNumber(_nanosecond, 3, '0');
+    }
+
+    /* Writes the string returned by toString(). */
+    void writeText(PrimitiveTextWriter writer)
+    {
+        if (isBlank())
+            return;
+
+        if (!isValid())
+            writer.put("Invalid time");
+        else if (_format == DateTimeStringFormatTypes.STR_DATETIME_RSSL)
+            writeRssl(writer);
+        else if (_format == DateTimeStringFormatTypes.STR_DATETIME_ISO8601)
+            writeIso8601(writer);
         else
-        {
-            retStr.append(":" + "00" + _nanosecond);
-        }
+            writer.put("Invalid Format");
+    }
+
+    private PrimitiveTextWriter textWriter()
+    {
+        if (_textWriter == null)
+            _textWriter = new PrimitiveTextWriter();
+        return _textWriter;
+    }
 
-        return retStr.toString();
-   }
-    
     @Override
     public String toString()
     {
-        if (!isBlank())
-        {
-            if (isValid())
-            {
-            	if(_format == DateTimeStringFormatTypes.STR_DATETIME_RSSL)
-            		return toStringRssl();
-            	else if(_format == DateTimeStringFormatTypes.STR_DATETIME_ISO8601)
-            		return toStringIso8601();
-            	else
-            		return "Invalid Format";
-            }
-            else
-                return "Invalid time";
-        }
-        else
-        {
-            return "";
-        }
-        
+        StringBuilder text = new StringBuilder(24);
+        toString(text);
+        return text.toString();
+    }
+
+    @Override
+    public int toString(byte[] dest, int offset)
+    {
+        writeText(textWriter().start(dest, offset));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(ByteBuffer dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
+    }
+
+    @Override
+    public int toString(Appendable dest)
+    {
+        writeText(textWriter().start(dest));
+        return textWriter().finish();
     }
 	
     // Converts the ISO8601 time string fractional seconds represented after comma/decimal into milli, micro and nano seconds.
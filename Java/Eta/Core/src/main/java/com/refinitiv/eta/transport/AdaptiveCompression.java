@@ -0,0 +1,116 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+/* Decides, per message size, whether compressing the messages of a channel pays off.
+ *
+ * Messages are grouped in size buckets of powers of two. For each bucket the ratio
+ * and time of compression are sampled over SAMPLE_COUNT compressed messages. When
+ * compression saved less than MIN_SAVED_RATIO of the bytes, or cost more than
+ * MAX_NSEC_PER_SAVED_BYTE of compression time per saved byte, messages of the bucket
+ * are sent uncompressed. One skipped message in PROBE_INTERVAL is still compressed,
+ * so the bucket is sampled again and compression resumes once the data pays off.
+ *
+ * Skipped messages are sent as normal uncompressed RIPC data messages, as messages
+ * below the compression threshold are, so the peer needs no support for this.
+ * Used under the channel write lock.
+ */
+class AdaptiveCompression
+{
+    static final int SIZE_BUCKETS = 16;                 // bucket 0 holds lengths up to 63, the last one 2^20 and up
+    static final int SAMPLE_COUNT = 16;                 // compressed messages sampled per decision
+    static final int PROBE_INTERVAL = 256;              // skipped messages per compressed probe
+    static final double MIN_SAVED_RATIO = 0.1;          // least fraction of bytes that compression must save
+    static final long MAX_NSEC_PER_SAVED_BYTE = 100;    // most compression time per saved byte
+
+    private static final int MIN_BUCKET_SHIFT = 6;
+
+    // samples of the current decision window, per bucket
+    private final long[] _sampledBytesIn = new long[SIZE_BUCKETS];
+    private final long[] _sampledBytesOut = new long[SIZE_BUCKETS];
+    private final long[] _sampledTime = new long[SIZE_BUCKETS];
+    private final int[] _sampleCount = new int[SIZE_BUCKETS];
+    private final int[] _skippedSinceProbe = new int[SIZE_BUCKETS];
+    private int _skippedSizeMask; // bit set for the buckets that are not compressed
+
+    private long _compressedMsgCount;
+    private long _compressedBytesIn;
+    private long _compressedBytesOut;
+    private long _compressionTime;
+    private long _skippedMsgCount;
+    private long _skippedBytes;
+
+    /* Returns the size bucket of a message length. */
+    static int sizeBucket(int msgLength)
+    {
+        int bucket = (32 - Integer.numberOfLeadingZeros(msgLength)) - MIN_BUCKET_SHIFT;
+        return bucket < 0 ? 0 : (bucket >= SIZE_BUCKETS ? SIZE_BUCKETS - 1 : bucket);
+    }
+
+    /* Returns whether a message of msgLength bytes, that is above the compression
+     * threshold, should be compressed. Counts the message as skipped otherwise. */
+    boolean shouldCompress(int msgLength)
+    {
+        int bucket = sizeBucket(msgLength);
+        if ((_skippedSizeMask & (1 << bucket)) == 0)
+            return true;
+
+        if (++_skippedSinceProbe[bucket] >= PROBE_INTERVAL)
+        {
+            _skippedSinceProbe[bucket] = 0;
+            return true;
+        }
+
+        ++_skippedMsgCount;
+        _skippedBytes += msgLength;
+        return false;
+    }
+
+    /* Records the result of compressing a message of msgLength bytes into
+     * compressedLength bytes in compressionTime nanoseconds. */
+    void record(int msgLength, int compressedLength, long compressionTime)
+    {
+        ++_compressedMsgCount;
+        _compressedBytesIn += msgLength;
+        _compressedBytesOut += compressedLength;
+        _compressionTime += compressionTime;
+
+        int bucket = sizeBucket(msgLength);
+        _sampledBytesIn[bucket] += msgLength;
+        _sampledBytesOut[bucket] += compressedLength;
+        _sampledTime[bucket] += compressionTime;
+        if (++_sampleCount[bucket] < SAMPLE_COUNT)
+            return;
+
+        long savedBytes = _sampledBytesIn[bucket] - _sampledBytesOut[bucket];
+        if (savedBytes < _sampledBytesIn[bucket] * MIN_SAVED_RATIO
+                || _sampledTime[bucket] > savedBytes * MAX_NSEC_PER_SAVED_BYTE)
+            _skippedSizeMask |= (1 << bucket);
+        else
+            _skippedSizeMask &= ~(1 << bucket);
+
+        _sampledBytesIn[bucket] = 0;
+        _sampledBytesOut[bucket] = 0;
+        _sampledTime[bucket] = 0;
+        _sampleCount[bucket] = 0;
+        _skippedSinceProbe[bucket] = 0;
+    }
+
+    /* Copies the statistics into stats. */
+    void stats(CompressionStatsImpl stats)
+    {
+        stats.compressedMsgCount(_compressedMsgCount);
+        stats.compressedBytesIn(_compressedBytesIn);
+        stats.compressedBytesOut(_compressedBytesOut);
+        stats.compressionTime(_compressionTime);
+        stats.skippedMsgCount(_skippedMsgCount);
+        stats.skippedBytes(_skippedBytes);
+        stats.skippedSizeMask(_skippedSizeMask);
+    }
+}
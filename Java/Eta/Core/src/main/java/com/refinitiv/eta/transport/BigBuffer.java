@@ -18,12 +18,23 @@ class BigBuffer extends HTTPTransportBufferImpl
     short _fragmentId;
     boolean _isWritePaused = false;
 
+    /* Payload slices viewing the data that are not written yet.
+     * Returning the buffer to its pool is deferred until they are released. */
+    int _pendingSlices = 0;
+    boolean _isReturnPending = false;
+
     BigBuffer(Pool pool, int size)
     {
         super(pool, size);
         _isWriteBuffer = true;
     }
 
+    BigBuffer(Pool pool, ByteBuffer data)
+    {
+        super(pool, data);
+        _isWriteBuffer = true;
+    }
+
     @Override
     boolean isBigBuffer()
     {
@@ -57,6 +68,12 @@ class BigBuffer extends HTTPTransportBufferImpl
             if (_firstBuffer != null)
                 _firstBuffer.returnToPool();
             _firstBuffer = null;
+            if (_pendingSlices > 0)
+            {
+                _isReturnPending = true;
+                return;
+            }
+            _isReturnPending = false;
             _isWritePaused = false;
             _data.position(0);
             _data.limit(_data.capacity());
@@ -64,6 +81,12 @@ class BigBuffer extends HTTPTransportBufferImpl
         }
     }
 
+    void releaseSlice()
+    {
+        if (--_pendingSlices == 0 && _isReturnPending)
+            returnToPool();
+    }
+
     void id()
     {
         _fragmentId = (short)++_ID;
@@ -582,6 +582,16 @@ public interface BindOptions
      */
     public WSocketOpts wSocketOpts();
 
+    /**
+     * Shared memory transport specific options (used by {@link ConnectionTypes#UNIDIR_SHMEM}).
+     * Only {@link ShmemOpts#javaRing(boolean)} applies to servers.
+     *
+     * @return the shmem opts
+     *
+     * @see ShmemOpts
+     */
+    public ShmemOpts shmemOpts();
+
     /**
      * The size (in kilobytes) of the system's receive buffer used for this
      * connection, where applicable. Setting of 0 indicates to use default
@@ -50,6 +50,7 @@ class BindOptionsImpl implements BindOptions
     private String _groupAddress;
     private ServerEncryptionOptionsImpl _encryptionOptions = new ServerEncryptionOptionsImpl();
     private WSocketOptsImpl _wsocketOpts = new WSocketOptsImpl();
+    private ShmemOptsImpl _shmemOpts = new ShmemOptsImpl();
 
     BindOptionsImpl()
     {
@@ -101,6 +102,7 @@ class BindOptionsImpl implements BindOptions
         copyTo._groupAddress = _groupAddress;
         _encryptionOptions.copy(copyTo._encryptionOptions);
         _wsocketOpts.copy(copyTo._wsocketOpts);
+        _shmemOpts.copy(copyTo._shmemOpts);
     }
 
     @Override
@@ -137,6 +139,8 @@ class BindOptionsImpl implements BindOptions
         _wsocketOpts.protocols("");
         _wsocketOpts.maxMsgSize(61440);
         _encryptionOptions.clear();
+        _shmemOpts.maxReaderLag(0);
+        _shmemOpts.javaRing(false);
     }
 
     @Override
@@ -174,7 +178,8 @@ class BindOptionsImpl implements BindOptions
                "\tgroupAddress: " + _groupAddress + "\n" +
                "\ttcpOpts: " + _tcpOpts + "\n" +
                "\tencryptionOpts" + _encryptionOptions.toString() + "\n" +
-               "\tWSocketOpts:" + _wsocketOpts;
+               "\tWSocketOpts:" + _wsocketOpts + "\n" +
+               "\tshmemOpts: " + _shmemOpts;
     }
 
     @Override
@@ -559,6 +564,12 @@ class BindOptionsImpl implements BindOptions
         return _tcpOpts;
     }
 
+    @Override
+    public ShmemOpts shmemOpts()
+    {
+        return _shmemOpts;
+    }
+
     @Override
     public void sysRecvBufSize(int sysRecvBufSize)
     {
@@ -0,0 +1,94 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.nio.ByteBuffer;
+
+/* Carves fixed-size direct buffers out of a few large direct regions, so that growing a
+ * buffer pool does not allocate (and register a cleaner for) one direct ByteBuffer per buffer.
+ *
+ * Regions double in size, from MIN_SLICES_PER_REGION slices up to MAX_REGION_SIZE bytes,
+ * so a channel that needs few buffers reserves little memory. Buffers larger than
+ * MAX_REGION_SIZE get a region each. The carved buffers are never
+ * given back to the slab, they are recycled by the pool that owns them, and the regions are
+ * released with the slab. A pool whose _slab is set reports its buffers leaving and returning
+ * through acquire() and release(), so usedBytes() only counts the buffers in use.
+ *
+ * Not thread safe; the owner of the slab locks. */
+final class BufferSlab
+{
+    static final int MIN_SLICES_PER_REGION = 2;
+    static final int MAX_REGION_SIZE = 256 * 1024;
+
+    private final int _sliceSize;
+    private final int _maxSlicesPerRegion;
+    private ByteBuffer _region;
+    private int _regionSlices = 0;
+    private int _nextSlice = 0;
+
+    private long _reservedBytes = 0;
+    private long _usedBytes = 0;
+
+    BufferSlab(int sliceSize)
+    {
+        _sliceSize = sliceSize;
+        _maxSlicesPerRegion = Math.max(1, MAX_REGION_SIZE / sliceSize);
+    }
+
+    /* Returns a new direct buffer of sliceSize bytes, with position 0 and limit sliceSize. */
+    ByteBuffer slice()
+    {
+        if (_nextSlice == _regionSlices)
+        {
+            _regionSlices = Math.min((_regionSlices == 0) ? MIN_SLICES_PER_REGION : _regionSlices * 2, _maxSlicesPerRegion);
+            _region = ByteBuffer.allocateDirect(_regionSlices * _sliceSize);
+            _reservedBytes += _region.capacity();
+            _nextSlice = 0;
+        }
+
+        int position = _nextSlice * _sliceSize;
+        _region.limit(position + _sliceSize);
+        _region.position(position);
+        ByteBuffer slice = _region.slice();
+        _region.clear();
+
+        ++_nextSlice;
+        _usedBytes += _sliceSize;
+        return slice;
+    }
+
+    /* Counts a carved buffer taken back into use from its pool. */
+    void acquire()
+    {
+        _usedBytes += _sliceSize;
+    }
+
+    /* Counts a carved buffer returned to its pool. */
+    void release()
+    {
+        _usedBytes -= _sliceSize;
+    }
+
+    int sliceSize()
+    {
+        return _sliceSize;
+    }
+
+    /* Bytes of direct memory allocated by this slab. */
+    long reservedBytes()
+    {
+        return _reservedBytes;
+    }
+
+    /* Bytes of the reserved memory carved into buffers that are in use, i.e. not released to their pool. */
+    long usedBytes()
+    {
+        return _usedBytes;
+    }
+}
@@ -36,6 +36,14 @@ final class ByteBufferPair extends EtaNode
 
         _readOnly = _buffer.asReadOnlyBuffer();
     }
+
+    /* Initializes a ByteBufferPair over a buffer carved from a BufferSlab */
+    ByteBufferPair(Pool pool, ByteBuffer buffer)
+    {
+        _pool = pool;
+        _buffer = buffer;
+        _readOnly = _buffer.asReadOnlyBuffer();
+    }
     
     /* Returns the (mutable) ByteBuffer in the pair */
     ByteBuffer buffer()
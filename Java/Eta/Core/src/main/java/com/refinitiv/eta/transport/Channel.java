@@ -178,6 +178,65 @@ public interface Channel
      */
     public TransportBuffer read(ReadArgs readArgs, Error error);
 
+    /**
+     * Reads all complete messages currently available on a given channel, up to
+     * maxMessages, and passes each of them to the callback.<br>
+     * 
+     * Typical use:<br>
+     * This method is called instead of {@link #read(ReadArgs, Error)} to drain
+     * the channel with a single call. Each message, including messages unpacked
+     * from a packed buffer, is passed to
+     * {@link ReadCallback#readCallback(Channel, TransportBuffer)}; the buffer is
+     * only good until the callback returns. Reading stops when no complete
+     * message is available, when maxMessages have been delivered, when the
+     * callback returns a value other than {@link TransportReturnCodes#SUCCESS},
+     * or when the channel is no longer active. Socket based channels hold the
+     * channel read lock for the whole call.<br>
+     * {@link ReadArgs#readRetVal()} is assigned as by the last
+     * {@link #read(ReadArgs, Error)} call of the batch, e.g. a positive value if
+     * there is more data to read, {@link TransportReturnCodes#READ_PING} or a
+     * failure code, while {@link ReadArgs#bytesRead()} and
+     * {@link ReadArgs#uncompressedBytesRead()} are the totals of the batch.
+     * 
+     * @param readArgs read arguments
+     * @param maxMessages the maximum number of messages to deliver
+     * @param callback callback to which each message is passed
+     * @param error Error, to be populated in event of an error
+     * 
+     * @return the number of messages passed to the callback
+     * 
+     * @see ReadArgs
+     * @see ReadCallback
+     */
+    default public int read(ReadArgs readArgs, int maxMessages, ReadCallback callback, Error error)
+    {
+        assert (callback != null) : "callback cannot be null";
+
+        int msgCount = 0;
+        int bytesRead = 0;
+        int uncompressedBytesRead = 0;
+
+        while (msgCount < maxMessages)
+        {
+            TransportBuffer msgBuf = read(readArgs, error);
+            bytesRead += readArgs.bytesRead();
+            uncompressedBytesRead += readArgs.uncompressedBytesRead();
+
+            if (msgBuf == null)
+                break;
+
+            ++msgCount;
+            if (callback.readCallback(this, msgBuf) != TransportReturnCodes.SUCCESS
+                    || readArgs.readRetVal() <= TransportReturnCodes.SUCCESS || state() != ChannelState.ACTIVE)
+                break;
+        }
+
+        ((ReadArgsImpl)readArgs).bytesRead(bytesRead);
+        ((ReadArgsImpl)readArgs).uncompressedBytesRead(uncompressedBytesRead);
+
+        return msgCount;
+    }
+
     /**
      * Retrieves a {@link TransportBuffer} for use.<br>
      * 
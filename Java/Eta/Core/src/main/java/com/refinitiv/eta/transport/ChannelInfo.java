@@ -177,4 +177,32 @@ public interface ChannelInfo
      * @return the securityProtocol
      */
     public String securityProtocol();  
+
+    /**
+     * The bytes of direct memory reserved for the internal buffers of the channel,
+     * such as its guaranteed output buffers and the buffers of fragmented messages.
+     * The memory is reserved in a few large regions, from which the buffers are carved
+     * as the channel needs them. Buffers of a server's shared pool are reported by
+     * the server.
+     * 
+     * @return the reservedBufferBytes
+     */
+    public long reservedBufferBytes();
+
+    /**
+     * The bytes of the reserved direct memory carved into internal buffers of the channel
+     * that are currently in use. It decreases as the channel recycles its buffers.
+     * 
+     * @return the usedBufferBytes
+     * @see #reservedBufferBytes()
+     */
+    public long usedBufferBytes();
+
+    /**
+     * When adaptive compression is enabled with {@link IoctlCodes#ADAPTIVE_COMPRESSION},
+     * this will be populated with the compression savings and the message sizes sent uncompressed.
+     * 
+     * @return the compressionStats
+     */
+    public CompressionStats compressionStats();
 }
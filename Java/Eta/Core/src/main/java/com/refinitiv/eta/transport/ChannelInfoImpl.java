@@ -27,7 +27,10 @@ class ChannelInfoImpl implements ChannelInfo
     String _clientIP;
     String _clientHostname;
     MCastStats _multicastStats = new MCastStatsImpl();
+    CompressionStats _compressionStats = new CompressionStatsImpl();
     String _securityProtocol;
+    long _reservedBufferBytes;
+    long _usedBufferBytes;
 	
     /* Hold list of received Component Info during RIPC handshake */
     List<ComponentInfo> _receivedComponentInfoList;
@@ -76,7 +79,10 @@ class ChannelInfoImpl implements ChannelInfo
                "\tclientHostname: " + _clientHostname + "\n" +
                "\tmulticastStats: " + _multicastStats.toString() + "\n" + 
                "\tComponentInfo: " + sb.toString() + "\n" +
-               "\tsecurityProtocol: " + _securityProtocol;
+               "\tsecurityProtocol: " + _securityProtocol + "\n" +
+               "\treservedBufferBytes: " + _reservedBufferBytes + "\n" +
+               "\tusedBufferBytes: " + _usedBufferBytes + "\n" +
+               "\tcompressionStats: " + _compressionStats.toString();
     }
 
     public void maxFragmentSize(int maxFragmentSize)
@@ -227,6 +233,9 @@ class ChannelInfoImpl implements ChannelInfo
         _clientIP = null;
         _clientHostname = null;
         _securityProtocol = null;
+        _reservedBufferBytes = 0;
+        _usedBufferBytes = 0;
+        ((CompressionStatsImpl)_compressionStats).clear();
     }
 
     @Override
@@ -292,4 +301,32 @@ class ChannelInfoImpl implements ChannelInfo
     {
     	return _securityProtocol;
     }
+
+    void reservedBufferBytes(long reservedBufferBytes)
+    {
+        _reservedBufferBytes = reservedBufferBytes;
+    }
+
+    @Override
+    public long reservedBufferBytes()
+    {
+        return _reservedBufferBytes;
+    }
+
+    void usedBufferBytes(long usedBufferBytes)
+    {
+        _usedBufferBytes = usedBufferBytes;
+    }
+
+    @Override
+    public long usedBufferBytes()
+    {
+        return _usedBufferBytes;
+    }
+
+    @Override
+    public CompressionStats compressionStats()
+    {
+        return _compressionStats;
+    }
 }
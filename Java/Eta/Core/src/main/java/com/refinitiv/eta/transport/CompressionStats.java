@@ -0,0 +1,74 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+/**
+ * Adaptive compression statistics returned by {@link Channel#info(ChannelInfo, Error)} call.
+ * Populated only while adaptive compression is enabled with
+ * {@link IoctlCodes#ADAPTIVE_COMPRESSION}, and only for messages that are not
+ * fragmented.
+ * 
+ * @see ChannelInfo
+ */
+public interface CompressionStats
+{
+    /**
+     * This is the number of messages compressed by this channel.
+     * 
+     * @return the compressedMsgCount
+     */
+    public long compressedMsgCount();
+
+    /**
+     * This is the number of bytes of the messages compressed by this channel, before compression.
+     * 
+     * @return the compressedBytesIn
+     */
+    public long compressedBytesIn();
+
+    /**
+     * This is the number of bytes of the messages compressed by this channel, after compression.
+     * 
+     * @return the compressedBytesOut
+     */
+    public long compressedBytesOut();
+
+    /**
+     * This is the time, in nanoseconds, spent compressing messages.
+     * 
+     * @return the compressionTime
+     */
+    public long compressionTime();
+
+    /**
+     * This is the number of messages above the compression threshold that this
+     * channel sent uncompressed because compressing messages of their size did not pay off.
+     * 
+     * @return the skippedMsgCount
+     */
+    public long skippedMsgCount();
+
+    /**
+     * This is the number of bytes of the messages sent uncompressed because
+     * compressing messages of their size did not pay off.
+     * 
+     * @return the skippedBytes
+     */
+    public long skippedBytes();
+
+    /**
+     * Whether messages of the given length are currently sent uncompressed
+     * because compressing messages of their size did not pay off. Messages are
+     * grouped by size in powers of two.
+     * 
+     * @param msgLength the message length, in bytes
+     * @return true if messages of this length are currently not compressed
+     */
+    public boolean skipsLength(int msgLength);
+}
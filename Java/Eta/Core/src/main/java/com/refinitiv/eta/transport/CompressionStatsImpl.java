@@ -0,0 +1,126 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+class CompressionStatsImpl implements CompressionStats
+{
+    private long _compressedMsgCount;
+    private long _compressedBytesIn;
+    private long _compressedBytesOut;
+    private long _compressionTime;
+    private long _skippedMsgCount;
+    private long _skippedBytes;
+    private int _skippedSizeMask;
+
+    CompressionStatsImpl()
+    {
+    }
+
+    void clear()
+    {
+        _compressedMsgCount = 0;
+        _compressedBytesIn = 0;
+        _compressedBytesOut = 0;
+        _compressionTime = 0;
+        _skippedMsgCount = 0;
+        _skippedBytes = 0;
+        _skippedSizeMask = 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "CompressionStats" + "\n" +
+               "\t\tcompressedMsgCount: " + _compressedMsgCount + "\n" +
+               "\t\tcompressedBytesIn: " + _compressedBytesIn + "\n" +
+               "\t\tcompressedBytesOut: " + _compressedBytesOut + "\n" +
+               "\t\tcompressionTime: " + _compressionTime + "\n" +
+               "\t\tskippedMsgCount: " + _skippedMsgCount + "\n" +
+               "\t\tskippedBytes: " + _skippedBytes + "\n" +
+               "\t\tskippedSizeMask: 0x" + Integer.toHexString(_skippedSizeMask);
+    }
+
+    void compressedMsgCount(long compressedMsgCount)
+    {
+        _compressedMsgCount = compressedMsgCount;
+    }
+
+    @Override
+    public long compressedMsgCount()
+    {
+        return _compressedMsgCount;
+    }
+
+    void compressedBytesIn(long compressedBytesIn)
+    {
+        _compressedBytesIn = compressedBytesIn;
+    }
+
+    @Override
+    public long compressedBytesIn()
+    {
+        return _compressedBytesIn;
+    }
+
+    void compressedBytesOut(long compressedBytesOut)
+    {
+        _compressedBytesOut = compressedBytesOut;
+    }
+
+    @Override
+    public long compressedBytesOut()
+    {
+        return _compressedBytesOut;
+    }
+
+    void compressionTime(long compressionTime)
+    {
+        _compressionTime = compressionTime;
+    }
+
+    @Override
+    public long compressionTime()
+    {
+        return _compressionTime;
+    }
+
+    void skippedMsgCount(long skippedMsgCount)
+    {
+        _skippedMsgCount = skippedMsgCount;
+    }
+
+    @Override
+    public long skippedMsgCount()
+    {
+        return _skippedMsgCount;
+    }
+
+    void skippedBytes(long skippedBytes)
+    {
+        _skippedBytes = skippedBytes;
+    }
+
+    @Override
+    public long skippedBytes()
+    {
+        return _skippedBytes;
+    }
+
+    /* Bit i is set if messages of size bucket i of AdaptiveCompression are not compressed. */
+    void skippedSizeMask(int skippedSizeMask)
+    {
+        _skippedSizeMask = skippedSizeMask;
+    }
+
+    @Override
+    public boolean skipsLength(int msgLength)
+    {
+        return (_skippedSizeMask & (1 << AdaptiveCompression.sizeBucket(msgLength))) != 0;
+    }
+}
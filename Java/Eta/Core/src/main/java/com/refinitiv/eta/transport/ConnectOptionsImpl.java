@@ -71,6 +71,7 @@ class ConnectOptionsImpl implements ConnectOptions
         _mcastOpts.tcpControlPort();
         _mcastOpts.portRoamRange(0);
         _shmemOpts.maxReaderLag(0);
+        _shmemOpts.javaRing(false);
         _networkType = 0;
         _unified.clear();
         _segmented.clear();
@@ -77,6 +77,7 @@ public class EncryptedSocketHelper extends SocketHelper
         options.SecurityProvider(serverOptions.securityProvider());
         options.SecurityProtocol(serverOptions.securityProtocol());
         options.SecurityProtocolVersions(serverOptions.securityProtocolVersions());
+        options.SessionResumption(serverOptions.sessionResumption());
         return options;
     }
     
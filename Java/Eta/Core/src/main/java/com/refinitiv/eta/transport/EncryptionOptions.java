@@ -112,6 +112,7 @@ public interface EncryptionOptions
     /**
      * Java Cryptography Package provider.
      * Sun JDK default = SunJSSE
+     * Set to "Conscrypt" to use the Conscrypt engine bundled with ETA instead of the JDK engine.
      *
      * @param SecurityProvider the security provider
      */
@@ -163,6 +164,23 @@ public interface EncryptionOptions
      */
     public String TrustManagerAlgorithm();
 
+    /**
+     * Enables resumption of TLS sessions for client connections. When enabled, client connections
+     * made with the same keystore, protocol, provider and algorithms share one SSL context, so a
+     * reconnection to the same host and port resumes the cached session with an abbreviated
+     * handshake instead of a full one. Default is true.
+     *
+     * @param SessionResumption true to resume cached sessions, false to do a full handshake on every connection
+     */
+    public void SessionResumption(boolean SessionResumption);
+
+    /**
+     * Enables resumption of TLS sessions for client connections. Default is true.
+     *
+     * @return the SessionResumption
+     */
+    public boolean SessionResumption();
+
     /**
      * Java Default Key Management algorithm.
      * Defaults to the property ssl.KeyManagerFactory.algorithm
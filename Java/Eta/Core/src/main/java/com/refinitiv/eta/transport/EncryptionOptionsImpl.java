@@ -20,6 +20,7 @@ public class EncryptionOptionsImpl implements EncryptionOptions {
     private String _SecurityProvider;
     private String _KeyManagerAlgorithm;
     private String _TrustManagerAlgorithm;
+    private boolean _SessionResumption;
     
     // default values
 
@@ -42,6 +43,7 @@ public class EncryptionOptionsImpl implements EncryptionOptions {
         _SecurityProvider = _defaultSecurityProvider;
         _KeyManagerAlgorithm = _defaultKeyManagerAlgorithm;
         _TrustManagerAlgorithm = _defaultTrustManagerAlgorithm;
+        _SessionResumption = true;
     }
 
     void clear()
@@ -55,6 +57,7 @@ public class EncryptionOptionsImpl implements EncryptionOptions {
         _SecurityProvider = _defaultSecurityProvider;
         _KeyManagerAlgorithm = _defaultKeyManagerAlgorithm;
         _TrustManagerAlgorithm = _defaultTrustManagerAlgorithm;
+        _SessionResumption = true;
     }
     
     /* Make a deep copy of this object to the specified object.
@@ -104,6 +107,8 @@ public class EncryptionOptionsImpl implements EncryptionOptions {
         	destEncOpts._TrustManagerAlgorithm = new String(_TrustManagerAlgorithm);
         else
         	destEncOpts._TrustManagerAlgorithm = null;
+
+        destEncOpts._SessionResumption = _SessionResumption;
     }
 
     @Override
@@ -118,7 +123,8 @@ public class EncryptionOptionsImpl implements EncryptionOptions {
                "\t\t\tSecurityProtocolVersions: " + Arrays.toString(_SecurityProtocolVersions) + "\n" + 
                "\t\t\tSecurityProvider: " + _SecurityProvider + "\n" + 
                "\t\t\tKeyManagerAlgorithm: " + _KeyManagerAlgorithm + "\n" + 
-               "\t\t\tTrustManagerAlgorithm: " + _TrustManagerAlgorithm + "\n";
+               "\t\t\tTrustManagerAlgorithm: " + _TrustManagerAlgorithm + "\n" + 
+               "\t\t\tSessionResumption: " + _SessionResumption + "\n";
     }
     
     @Override
@@ -227,6 +233,18 @@ public class EncryptionOptionsImpl implements EncryptionOptions {
         return _TrustManagerAlgorithm;
     }
 
+    @Override
+    public void SessionResumption(boolean SessionResumption)
+    {
+        _SessionResumption = SessionResumption;
+    }
+
+    @Override
+    public boolean SessionResumption()
+    {
+        return _SessionResumption;
+    }
+
     @Override
     public String DefaultKeyManagerAlgorithm() {
         return _defaultKeyManagerAlgorithm;
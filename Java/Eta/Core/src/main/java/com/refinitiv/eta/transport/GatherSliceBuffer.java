@@ -0,0 +1,104 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.nio.ByteBuffer;
+
+/* Part of a fragment of a big buffer written in place by the gathering write.
+ * A fragment is queued as a header slice, holding the RIPC fragment header in a small direct buffer,
+ * and the header slice is followed in the gathering write array by its payload slice,
+ * which is a view of the fragment data in the big buffer. */
+class GatherSliceBuffer extends TransportBufferImpl
+{
+    // first fragment header length with a two byte fragment id
+    static final int MAX_HEADER_LENGTH = 10;
+
+    /* Header slice: the payload slice written after the header. */
+    GatherSliceBuffer _payload;
+
+    /* Payload slice: the big buffer viewed. */
+    BigBuffer _bigBuffer;
+
+    private ByteBuffer _headerData;
+    private ByteBuffer _view;
+    private ByteBuffer _viewSource;
+
+    GatherSliceBuffer(Pool pool)
+    {
+        super(pool);
+    }
+
+    @Override
+    boolean isGatherSlice()
+    {
+        return true;
+    }
+
+    /* Makes this slice the header of a fragment.
+     *
+     * firstFragment is true for the first fragment of the big buffer
+     * totalLength is the length of the big buffer data, written in the first fragment header
+     * payload is the payload slice of this fragment
+     */
+    void header(BigBuffer bigBuffer, boolean firstFragment, int totalLength, GatherSliceBuffer payload)
+    {
+        if (_headerData == null)
+            _headerData = ByteBuffer.allocateDirect(MAX_HEADER_LENGTH);
+        _data = _headerData;
+        _data.clear();
+
+        int headerLength = firstFragment ? _firstFragmentHeaderLength : _nextFragmentHeaderLength;
+        populateRipcHeader(bigBuffer, firstFragment, Ripc.Flags.HAS_OPTIONAL_FLAGS | RsslSocketChannel.IPC_DATA,
+                           firstFragment ? FRAGMENT_HEADER_RIPC_FLAGS : FRAGMENT_RIPC_FLAGS,
+                           headerLength + payload._length, totalLength);
+        _data.flip();
+
+        _startPosition = 0;
+        _length = headerLength;
+        _payload = payload;
+    }
+
+    /* Makes this slice the payload of a fragment, viewing length bytes of the big buffer data from offset. */
+    void payload(BigBuffer bigBuffer, int offset, int length)
+    {
+        // the view is kept while the slice is used with the same big buffer
+        if (_viewSource != bigBuffer._data)
+        {
+            _view = bigBuffer._data.duplicate();
+            _viewSource = bigBuffer._data;
+        }
+        _data = _view;
+        _data.clear();
+        _data.position(offset);
+        _data.limit(offset + length);
+
+        _startPosition = offset;
+        _length = length;
+        _bigBuffer = bigBuffer;
+        ++bigBuffer._pendingSlices;
+    }
+
+    @Override
+    void returnToPool()
+    {
+        if (!_inPool)
+        {
+            // a header released before it was written releases its payload
+            if (_payload != null)
+                _payload.returnToPool();
+            _payload = null;
+
+            if (_bigBuffer != null)
+                _bigBuffer.releaseSlice();
+            _bigBuffer = null;
+
+            _pool.add(this);
+        }
+    }
+}
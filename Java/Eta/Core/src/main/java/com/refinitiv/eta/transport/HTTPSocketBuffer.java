@@ -8,6 +8,8 @@
 
 package com.refinitiv.eta.transport;
 
+import java.nio.ByteBuffer;
+
 public class HTTPSocketBuffer extends SocketBuffer
 {
     class SlicesPool extends Pool
@@ -67,6 +69,11 @@ public class HTTPSocketBuffer extends SocketBuffer
         super(pool, size);
     }
 
+    HTTPSocketBuffer(Pool pool, ByteBuffer data)
+    {
+        super(pool, data);
+    }
+
     HTTPTransportBufferImpl getBufferSlice(int size, boolean packedBuffer)
     {
         // locked by calling method
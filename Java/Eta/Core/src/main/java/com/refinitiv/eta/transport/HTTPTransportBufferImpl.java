@@ -30,6 +30,11 @@ class HTTPTransportBufferImpl extends TransportBufferImpl
         super(pool, size);
     }
 
+    HTTPTransportBufferImpl(Pool pool, ByteBuffer data)
+    {
+        super(pool, data);
+    }
+
     HTTPTransportBufferImpl(Pool pool)
     {
         super(pool);
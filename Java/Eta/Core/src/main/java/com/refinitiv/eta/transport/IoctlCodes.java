@@ -115,6 +115,28 @@ public class IoctlCodes
      * Value is not required.
      */
     public static final int SERVER_PEAK_BUF_RESET = 10;
+
+    /**
+     * Allows a {@link Channel} to write the fragments of messages larger than the
+     * maximum fragment size without copying them to output buffers. The socket write
+     * then gathers the fragment headers and the message data in place. Applies to
+     * uncompressed fragments of RIPC socket connections; HTTP tunneled
+     * connections keep copying. Value is an int, 1 to enable and
+     * 0 to disable. Default is 0.
+     */
+    public static final int ZERO_COPY_FRAGMENT_WRITE = 14;
+
+    /**
+     * Allows a {@link Channel} to skip the compression of messages whose size
+     * does not compress well. The compression ratio and time are sampled for
+     * each message size, and messages of the sizes where compression does not
+     * pay off are sent uncompressed, as messages below the
+     * {@link #COMPRESSION_THRESHOLD} are, so the peer needs no support for it.
+     * The decisions and savings are reported by {@link ChannelInfo#compressionStats()}.
+     * Applies to messages of RIPC connections that are not fragmented. Value is an int,
+     * 1 to enable and 0 to disable. Default is 0.
+     */
+    public static final int ADAPTIVE_COMPRESSION = 15;
     
     /*
      * This is for internal client use only. Not exposed on public interface and javadoc.
@@ -14,6 +14,8 @@ class Pool
     Object _poolOwner;
     boolean _isSharedPoolBuffer;
     boolean _isProtocolBuffer;
+    // slab the buffers of this pool are carved from, which counts them out of and back into the pool
+    BufferSlab _slab;
 
     Pool(Object o)
     {
@@ -24,7 +26,11 @@ class Pool
     {
         EtaNode node = _queue.poll();
         if (node != null)
+        {
             node._inPool = false;
+            if (_slab != null)
+                _slab.acquire();
+        }
         return node;
     }
 
@@ -32,6 +38,8 @@ class Pool
     {
         node._inPool = true;
         _queue.add(node);
+        if (_slab != null)
+            _slab.release();
     }
 
     int size()
@@ -85,6 +93,7 @@ class Pool
     void clear()
     {
         // This method is used during uninitialize.
+        _slab = null;
         EtaNode node = null;
         while ((node = poll()) != null)
         {
@@ -0,0 +1,32 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+/**
+ * Callback used by {@link Channel#read(ReadArgs, int, ReadCallback, Error)} to
+ * deliver each message read from a channel.
+ *
+ * @see Channel
+ */
+public interface ReadCallback
+{
+    /**
+     * Invoked for each complete message read from the channel, including
+     * messages unpacked from a packed buffer.<br>
+     * The buffer is only good until this method returns; it must not be
+     * released or kept by the application.
+     *
+     * @param channel the channel the message was read from
+     * @param msgBuf buffer that contains the message
+     *
+     * @return {@link TransportReturnCodes#SUCCESS} to continue reading, or
+     *         any other value to stop reading and return from the batched read
+     */
+    public int readCallback(Channel channel, TransportBuffer msgBuf);
+}
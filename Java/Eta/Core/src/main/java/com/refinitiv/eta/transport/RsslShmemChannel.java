@@ -0,0 +1,650 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/* Unidirectional shared memory channel implemented on top of ShmemRingBuffer.
+ *
+ * A server side channel writes to the ring of its server: getBuffer/write publish messages
+ * into it, for all the clients of the server to read. A client side channel is a reader of
+ * that ring: read copies the messages out of it. Readers do not write and writers do not read.
+ * When a client has not read the oldest message of the ring, getBuffer returns NO_BUFFERS and
+ * write returns WRITE_CALL_AGAIN, unless the client lags by more than its maxReaderLag, in
+ * which case it is disconnected instead.
+ *
+ * The TCP connection between the client and the server port carries the handshake, which
+ * tells the client which ring and reader entry to attach to, and the wakeups: a reader that
+ * runs out of messages flags it in the ring, and the writer then sends a byte on the connection
+ * once it has published the next message. The selectable channel of a reader is that connection,
+ * so an application selecting on it is woken when messages arrive or the writer goes away.
+ */
+class RsslShmemChannel extends EtaNode implements Channel
+{
+    ShmemProtocol _transport;
+    RsslShmemServer _server;
+    ShmemRingBuffer _ring;
+    int _readerIndex;
+    boolean _isWriter;
+    int _state = ChannelState.INACTIVE;
+    long _maxReaderLag;
+    int _majorVersion;
+    int _minorVersion;
+    int _protocolType;
+    Object _userSpecObject;
+    String _hostname;
+    String _serviceName;
+    int _port;
+
+    /* connection to (client) or from (server) the server port */
+    SocketChannel _scktChannel;
+
+    /* handshake on a client, wakeups received by a reader: the handshake is the reader index (int),
+     * the owner value of its entry (long) and the ring file name (short length, ASCII bytes) */
+    final ByteBuffer _scktBuffer = ByteBuffer.allocate(MAX_HANDSHAKE_LENGTH);
+    static final int HANDSHAKE_HEADER_LENGTH = 14;
+    static final int MAX_HANDSHAKE_LENGTH = 64;
+    boolean _peerClosed;
+
+    final TransportBufferImpl _readBuffer = new TransportBufferImpl();
+    final Pool _writeBufferPool = new Pool(this);
+    BufferSlab _writeBufferSlab;
+    int _buffersInUse;
+    int _peakBuffersInUse;
+    final ChannelInfoImpl _channelInfo = new ChannelInfoImpl();
+
+    RsslShmemChannel(ShmemProtocol transport, Pool pool)
+    {
+        _transport = transport;
+        pool(pool);
+    }
+
+    /* Connects a reader to the server. The channel is initializing until init()
+     * receives the handshake and attaches to the ring of the server. */
+    int connect(ConnectOptions opts, Error error)
+    {
+        _isWriter = false;
+        _maxReaderLag = opts.shmemOpts().maxReaderLag();
+        _userSpecObject = opts.userSpecObject();
+        _hostname = opts.unifiedNetworkInfo().address();
+        _serviceName = opts.unifiedNetworkInfo().serviceName();
+        _port = ((UnifiedNetworkInfoImpl)opts.unifiedNetworkInfo()).port();
+        _scktBuffer.clear();
+        _scktBuffer.limit(HANDSHAKE_HEADER_LENGTH);
+        _peerClosed = false;
+
+        try
+        {
+            _scktChannel = SocketChannel.open();
+            _scktChannel.connect(new InetSocketAddress("localhost", _port));
+            _scktChannel.configureBlocking(false);
+        }
+        catch (IOException e)
+        {
+            releaseResources();
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("Unable to connect to shared memory service " + _serviceName + ": " + e.getMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+
+        _state = ChannelState.INITIALIZING;
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    /* Initializes a writer of the ring of server, for the client connected on scktChannel,
+     * which reads the ring as readerIndex. */
+    void accept(RsslShmemServer server, ShmemRingBuffer ring, int readerIndex, SocketChannel scktChannel, AcceptOptions opts)
+    {
+        _isWriter = true;
+        _server = server;
+        _ring = ring;
+        _readerIndex = readerIndex;
+        _scktChannel = scktChannel;
+        _peerClosed = false;
+        _userSpecObject = opts.userSpecObject();
+        _majorVersion = _ring.majorVersion();
+        _minorVersion = _ring.minorVersion();
+        _protocolType = _ring.protocolType();
+        _port = server._portNumber;
+        initChannelInfo(server._bindOpts.guaranteedOutputBuffers());
+        _state = ChannelState.ACTIVE;
+    }
+
+    private void initChannelInfo(int guaranteedOutputBuffers)
+    {
+        _channelInfo.clear();
+        _channelInfo.maxFragmentSize(_ring.maxBufferSize());
+        _channelInfo.maxOutputBuffers(_ring.numBuffers());
+        _channelInfo.guaranteedOutputBuffers(guaranteedOutputBuffers);
+        _channelInfo.numInputBuffers(_ring.numBuffers());
+    }
+
+    @Override
+    public int info(ChannelInfo info, Error error)
+    {
+        assert (info != null) : "info cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        if (_state != ChannelState.ACTIVE)
+            return channelInactive(error);
+
+        ((ChannelInfoImpl)info).maxFragmentSize(_channelInfo.maxFragmentSize());
+        ((ChannelInfoImpl)info).maxOutputBuffers(_channelInfo.maxOutputBuffers());
+        ((ChannelInfoImpl)info).guaranteedOutputBuffers(_channelInfo.guaranteedOutputBuffers());
+        ((ChannelInfoImpl)info).numInputBuffers(_channelInfo.numInputBuffers());
+        ((ChannelInfoImpl)info).pingTimeout(0);
+        ((ChannelInfoImpl)info).clientToServerPings(false);
+        ((ChannelInfoImpl)info).serverToClientPings(false);
+        ((ChannelInfoImpl)info).reservedBufferBytes(_writeBufferSlab != null ? _writeBufferSlab.reservedBytes() : 0);
+        ((ChannelInfoImpl)info).usedBufferBytes(_writeBufferSlab != null ? _writeBufferSlab.usedBytes() : 0);
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int ioctl(int code, Object value, Error error)
+    {
+        return ioctlNotSupported(code, error);
+    }
+
+    @Override
+    public int ioctl(int code, int value, Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return channelInactive(error);
+
+        switch (code)
+        {
+            case IoctlCodes.MAX_NUM_BUFFERS:
+            case IoctlCodes.NUM_GUARANTEED_BUFFERS:
+                // shared memory output is bounded by the ring, not by a buffer pool
+                return TransportReturnCodes.SUCCESS;
+            default:
+                return ioctlNotSupported(code, error);
+        }
+    }
+
+    private int ioctlNotSupported(int code, Error error)
+    {
+        error.channel(this);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("Code " + code + " is not supported by shared memory channels");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int bufferUsage(Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return channelInactive(error);
+
+        return _buffersInUse;
+    }
+
+    @Override
+    public int init(InProgInfo inProg, Error error)
+    {
+        if (_state == ChannelState.ACTIVE)
+            return TransportReturnCodes.SUCCESS;
+        if (_state != ChannelState.INITIALIZING)
+            return channelInactive(error);
+
+        // only the handshake is read, the wakeups that follow it are left for read()
+        try
+        {
+            if (_scktChannel.read(_scktBuffer) < 0)
+                throw new IOException("the server closed the connection");
+            if (_scktBuffer.limit() == HANDSHAKE_HEADER_LENGTH && !_scktBuffer.hasRemaining())
+            {
+                int nameLength = _scktBuffer.getShort(12);
+                if (nameLength <= 0 || nameLength > MAX_HANDSHAKE_LENGTH - HANDSHAKE_HEADER_LENGTH)
+                    throw new IOException("invalid handshake");
+                _scktBuffer.limit(HANDSHAKE_HEADER_LENGTH + nameLength);
+                if (_scktChannel.read(_scktBuffer) < 0)
+                    throw new IOException("the server closed the connection");
+            }
+            if (_scktBuffer.hasRemaining())
+                return TransportReturnCodes.CHAN_INIT_IN_PROGRESS;
+
+            // the client only opens ring files of the ring directory
+            byte[] name = new byte[_scktBuffer.limit() - HANDSHAKE_HEADER_LENGTH];
+            for (int i = 0; i < name.length; i++)
+                name[i] = _scktBuffer.get(HANDSHAKE_HEADER_LENGTH + i);
+            String fileName = new String(name, StandardCharsets.US_ASCII);
+            if (!ShmemProtocol.isRingFileName(fileName))
+                throw new IOException("invalid ring file name " + fileName);
+
+            _readerIndex = _scktBuffer.getInt(0);
+            _ring = ShmemRingBuffer.open(ShmemProtocol.ringDirectory().resolve(fileName), _readerIndex, _scktBuffer.getLong(4), _maxReaderLag);
+        }
+        catch (IOException e)
+        {
+            _state = ChannelState.CLOSED;
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("Unable to attach to shared memory service " + _serviceName + ": " + e.getMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+
+        _majorVersion = _ring.majorVersion();
+        _minorVersion = _ring.minorVersion();
+        _protocolType = _ring.protocolType();
+        initChannelInfo(0);
+        _state = ChannelState.ACTIVE;
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int close(Error error)
+    {
+        if (_state == ChannelState.INACTIVE)
+            return channelInactive(error);
+
+        releaseResources();
+        _state = ChannelState.INACTIVE;
+        if (_server != null)
+            _server.channelClosed(this);
+        _server = null;
+        returnToPool();
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    private void releaseResources()
+    {
+        // a writer frees the entry of its reader first, so the reader sees it closed when it is woken
+        if (_isWriter && _ring != null)
+        {
+            _ring.removeReader(_readerIndex);
+            _ring.release();
+        }
+        _ring = null;
+
+        try
+        {
+            if (_scktChannel != null)
+                _scktChannel.close();
+        }
+        catch (IOException e)
+        {
+            // nothing else can be done while closing
+        }
+        _scktChannel = null;
+        _writeBufferPool.clear();
+        _writeBufferSlab = null;
+        _buffersInUse = 0;
+    }
+
+    @Override
+    public TransportBuffer read(ReadArgs readArgs, Error error)
+    {
+        assert (readArgs != null) : "readArgs cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        if (_state != ChannelState.ACTIVE)
+        {
+            ((ReadArgsImpl)readArgs).readRetVal(channelInactive(error));
+            return null;
+        }
+
+        if (_isWriter)
+        {
+            // a writer only reads its connection, to notice the reader going away
+            drainConnection();
+            if (_peerClosed || _ring.readerEvicted(_readerIndex))
+            {
+                _state = ChannelState.CLOSED;
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text(_peerClosed ? "Shared memory reader has disconnected" : "Shared memory reader lagged by more than its maxReaderLag");
+                ((ReadArgsImpl)readArgs).readRetVal(TransportReturnCodes.FAILURE);
+            }
+            else
+                ((ReadArgsImpl)readArgs).readRetVal(TransportReturnCodes.READ_WOULD_BLOCK);
+            return null;
+        }
+
+        int length = _ring.read();
+        if (length == ShmemRingBuffer.READ_NO_DATA)
+        {
+            // consume the wakeups already received, then ask the writer for the next one
+            drainConnection();
+            if (_ring.waitForWriter() || _peerClosed)
+            {
+                length = _ring.read();
+                if (length == ShmemRingBuffer.READ_NO_DATA && _peerClosed)
+                    length = ShmemRingBuffer.READ_WRITER_CLOSED;
+            }
+        }
+
+        if (length >= 0)
+        {
+            _readBuffer.data(_ring.readView());
+            _readBuffer._length = length;
+            long pending = _ring.pending();
+            ((ReadArgsImpl)readArgs).readRetVal(pending > 0 ? (int)Math.min(pending, Integer.MAX_VALUE) : TransportReturnCodes.SUCCESS);
+            ((ReadArgsImpl)readArgs).bytesRead(length);
+            ((ReadArgsImpl)readArgs).uncompressedBytesRead(length);
+            return _readBuffer;
+        }
+
+        switch (length)
+        {
+            case ShmemRingBuffer.READ_NO_DATA:
+                ((ReadArgsImpl)readArgs).readRetVal(TransportReturnCodes.READ_WOULD_BLOCK);
+                break;
+            case ShmemRingBuffer.READ_OVERRUN:
+                _state = ChannelState.CLOSED;
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Shared memory reader lagged the writer by more than "
+                        + (_maxReaderLag > 0 ? _maxReaderLag : _ring.numBuffers()) + " messages");
+                ((ReadArgsImpl)readArgs).readRetVal(TransportReturnCodes.FAILURE);
+                break;
+            default:
+                _state = ChannelState.CLOSED;
+                error.channel(this);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("Shared memory writer has closed");
+                ((ReadArgsImpl)readArgs).readRetVal(TransportReturnCodes.FAILURE);
+                break;
+        }
+        return null;
+    }
+
+    @Override
+    public TransportBuffer getBuffer(int size, boolean packedBuffer, Error error)
+    {
+        assert (error != null) : "error cannot be null";
+
+        if (_state != ChannelState.ACTIVE)
+        {
+            channelInactive(error);
+            return null;
+        }
+
+        if (!_isWriter || packedBuffer || size > _ring.maxBufferSize())
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            if (!_isWriter)
+                error.text("Shared memory client channels cannot write");
+            else if (packedBuffer)
+                error.text("Packed buffers are not supported by shared memory channels");
+            else
+                error.text("Requested size " + size + " exceeds the shared memory buffer size " + _ring.maxBufferSize());
+            return null;
+        }
+
+        // the ring is full until the slowest reader reads the oldest message
+        if (!_ring.hasRoom())
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.NO_BUFFERS);
+            error.sysError(0);
+            error.text("Shared memory ring is full, a reader has not read its oldest message yet");
+            return null;
+        }
+
+        TransportBufferImpl buffer = (TransportBufferImpl)_writeBufferPool.poll();
+        if (buffer == null)
+        {
+            if (_writeBufferSlab == null)
+            {
+                _writeBufferSlab = new BufferSlab(_ring.maxBufferSize());
+                _writeBufferPool._slab = _writeBufferSlab;
+            }
+            buffer = new TransportBufferImpl(_writeBufferPool, _writeBufferSlab.slice());
+            buffer.headerLength(0);
+            buffer._isWriteBuffer = true;
+        }
+        buffer._startPosition = 0;
+        buffer._data.clear();
+        buffer._data.limit(size);
+        buffer._isOwnedByApp = true;
+
+        if (++_buffersInUse > _peakBuffersInUse)
+            _peakBuffersInUse = _buffersInUse;
+        return buffer;
+    }
+
+    @Override
+    public int releaseBuffer(TransportBuffer bufferInt, Error error)
+    {
+        assert (bufferInt != null) : "buffer cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        TransportBufferImpl buffer = (TransportBufferImpl)bufferInt;
+        if (!buffer._isOwnedByApp)
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("Application does not own this buffer.");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        buffer._isOwnedByApp = false;
+        buffer.returnToPool();
+        _buffersInUse--;
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int packBuffer(TransportBuffer buffer, Error error)
+    {
+        error.channel(this);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("Packed buffers are not supported by shared memory channels");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int write(TransportBuffer bufferInt, WriteArgs writeArgs, Error error)
+    {
+        assert (bufferInt != null) : "buffer cannot be null";
+        assert (writeArgs != null) : "writeArgs cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        if (_state != ChannelState.ACTIVE)
+            return channelInactive(error);
+
+        TransportBufferImpl buffer = (TransportBufferImpl)bufferInt;
+        if (!buffer._isOwnedByApp)
+        {
+            error.channel(this);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("Application does not own this buffer.");
+            return TransportReturnCodes.FAILURE;
+        }
+
+        // the application keeps the buffer and writes it again once the readers have caught up
+        int length = buffer.encodedLength();
+        if (!_ring.write(buffer._data, buffer._startPosition, length))
+            return TransportReturnCodes.WRITE_CALL_AGAIN;
+
+        ((WriteArgsImpl)writeArgs).bytesWritten(length);
+        ((WriteArgsImpl)writeArgs).uncompressedBytesWritten(length);
+        releaseBuffer(buffer, error);
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int flush(Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return channelInactive(error);
+
+        // messages are visible to readers as soon as they are written
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int ping(Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return channelInactive(error);
+
+        // shared memory connections are unidirectional and do not ping
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    /* Reads and discards the bytes received on the connection, noting when the peer has closed it. */
+    private void drainConnection()
+    {
+        try
+        {
+            int bytesRead;
+            do
+            {
+                _scktBuffer.clear();
+                bytesRead = _scktChannel.read(_scktBuffer);
+            }
+            while (bytesRead > 0);
+
+            if (bytesRead < 0)
+                _peerClosed = true;
+        }
+        catch (IOException e)
+        {
+            _peerClosed = true;
+        }
+    }
+
+    private int channelInactive(Error error)
+    {
+        error.channel(this);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("channel not in active state ");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int majorVersion()
+    {
+        return _majorVersion;
+    }
+
+    @Override
+    public int minorVersion()
+    {
+        return _minorVersion;
+    }
+
+    @Override
+    public int protocolType()
+    {
+        return _protocolType;
+    }
+
+    @Override
+    public int state()
+    {
+        return _state;
+    }
+
+    @Deprecated
+    @Override
+    public SocketChannel scktChannel()
+    {
+        return _scktChannel;
+    }
+
+    @Deprecated
+    @Override
+    public SocketChannel oldScktChannel()
+    {
+        return _scktChannel;
+    }
+
+    @Override
+    public SelectableChannel selectableChannel()
+    {
+        return _scktChannel;
+    }
+
+    @Override
+    public SelectableChannel oldSelectableChannel()
+    {
+        return selectableChannel();
+    }
+
+    @Override
+    public int pingTimeout()
+    {
+        return 0;
+    }
+
+    @Override
+    public Object userSpecObject()
+    {
+        return _userSpecObject;
+    }
+
+    @Override
+    public boolean blocking()
+    {
+        return false;
+    }
+
+    @Override
+    public int reconnectClient(Error error)
+    {
+        error.channel(this);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("reconnectClient is not supported by shared memory channels");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int connectionType()
+    {
+        return ConnectionTypes.UNIDIR_SHMEM;
+    }
+
+    @Override
+    public String hostname()
+    {
+        return _hostname;
+    }
+
+    @Override
+    public int port()
+    {
+        return _port;
+    }
+
+    Path ringFile()
+    {
+        return _ring != null ? _ring.file() : null;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Channel" + "\n" + "\tconnectionType: UNIDIR_SHMEM" + "\n" + "\twriter: " + _isWriter + "\n" + "\tstate: " + _state + "\n"
+               + "\tring: " + ringFile();
+    }
+}
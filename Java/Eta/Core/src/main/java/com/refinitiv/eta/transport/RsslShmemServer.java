@@ -0,0 +1,284 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+/* Unidirectional shared memory server.
+ *
+ * Binding creates the ring that the server writes to and a loopback server socket on the
+ * service port, which clients connect to. Each accepted client gets a reader entry in the ring,
+ * sent to the client in the handshake along with the name of the ring file, and yields a channel
+ * writing to the ring: a message written to any of the accepted channels is read by all clients.
+ * The ring stays until the server and all of its accepted channels are closed.
+ */
+class RsslShmemServer extends EtaNode implements Server
+{
+    ShmemProtocol _transport;
+    BindOptionsImpl _bindOpts = new BindOptionsImpl();
+    ServerSocketChannel _srvrScktChannel;
+    int _state = ChannelState.INACTIVE;
+    int _portNumber;
+    Object _userSpecObject;
+    int _numChannels;
+    ShmemRingBuffer _ring;
+    final ByteBuffer _handshake = ByteBuffer.allocate(RsslShmemChannel.MAX_HANDSHAKE_LENGTH);
+
+    /* number of clients a server can have at once */
+    static final int MAX_CLIENTS = 64;
+
+    RsslShmemServer(ShmemProtocol transport, Pool pool)
+    {
+        _transport = transport;
+        pool(pool);
+    }
+
+    int bind(BindOptions opts, Error error)
+    {
+        ((BindOptionsImpl)opts).copyTo(_bindOpts);
+        _portNumber = _bindOpts.port();
+        _userSpecObject = opts.userSpecObject();
+
+        try
+        {
+            _srvrScktChannel = ServerSocketChannel.open();
+            _srvrScktChannel.socket().setReuseAddress(true);
+            _srvrScktChannel.socket().bind(new InetSocketAddress("localhost", _portNumber));
+            _srvrScktChannel.configureBlocking(opts.serverBlocking());
+
+            int numBuffers = Math.max(_bindOpts.maxOutputBuffers(), _bindOpts.guaranteedOutputBuffers());
+            _ring = ShmemRingBuffer.create(ShmemProtocol.ringDirectory().resolve(ShmemProtocol.newRingFileName()), numBuffers,
+                                           _bindOpts.maxFragmentSize(), MAX_CLIENTS, _bindOpts.majorVersion(),
+                                           _bindOpts.minorVersion(), _bindOpts.protocolType());
+        }
+        catch (IOException e)
+        {
+            releaseResources();
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("Unable to create shared memory service " + opts.serviceName() + ": " + e.getMessage());
+            return TransportReturnCodes.FAILURE;
+        }
+
+        _state = ChannelState.ACTIVE;
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    void channelClosed(RsslShmemChannel channel)
+    {
+        _numChannels--;
+    }
+
+    @Override
+    public int info(ServerInfo info, Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return serverInactive(error);
+
+        ((ServerInfoImpl)info).currentBufferUsage(0);
+        ((ServerInfoImpl)info).peakBufferUsage(0);
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int ioctl(int code, Object value, Error error)
+    {
+        return ioctl(code, 0, error);
+    }
+
+    @Override
+    public int ioctl(int code, int value, Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return serverInactive(error);
+
+        error.channel(null);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("Code " + code + " is not supported by shared memory servers");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Override
+    public int bufferUsage(Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return serverInactive(error);
+
+        return 0;
+    }
+
+    @Override
+    public int close(Error error)
+    {
+        if (_state != ChannelState.ACTIVE)
+            return serverInactive(error);
+
+        releaseResources();
+        _state = ChannelState.INACTIVE;
+        returnToPool();
+        return TransportReturnCodes.SUCCESS;
+    }
+
+    private void releaseResources()
+    {
+        // accepted channels keep writing to the ring until they are closed
+        if (_ring != null)
+            _ring.release();
+        _ring = null;
+
+        try
+        {
+            if (_srvrScktChannel != null)
+                _srvrScktChannel.close();
+        }
+        catch (IOException e)
+        {
+            // nothing else can be done while closing
+        }
+        _srvrScktChannel = null;
+    }
+
+    @Override
+    public Channel accept(AcceptOptions opts, Error error)
+    {
+        assert (opts != null) : "opts cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        if (_state != ChannelState.ACTIVE)
+        {
+            serverInactive(error);
+            return null;
+        }
+
+        SocketChannel scktChannel = null;
+        int readerIndex = -1;
+        try
+        {
+            scktChannel = _srvrScktChannel.accept();
+            if (scktChannel == null)
+            {
+                error.channel(null);
+                error.errorId(TransportReturnCodes.FAILURE);
+                error.sysError(0);
+                error.text("No shared memory client is waiting to be accepted");
+                return null;
+            }
+
+            scktChannel.configureBlocking(false);
+
+            // the handshake is sent before any wakeup can be sent on the connection
+            synchronized (_ring)
+            {
+                readerIndex = _ring.addReader(scktChannel);
+                if (readerIndex < 0)
+                    throw new IOException("the server already has " + MAX_CLIENTS + " clients");
+
+                byte[] fileName = _ring.file().getFileName().toString().getBytes(StandardCharsets.US_ASCII);
+                _handshake.clear();
+                _handshake.putInt(readerIndex);
+                _handshake.putLong(_ring.readerOwner(readerIndex));
+                _handshake.putShort((short)fileName.length);
+                _handshake.put(fileName);
+                _handshake.flip();
+                // the handshake is much smaller than the socket buffer of a new connection
+                for (int i = 0; _handshake.hasRemaining() && i < 100; i++)
+                    scktChannel.write(_handshake);
+                if (_handshake.hasRemaining())
+                    throw new IOException("the client does not read the handshake");
+            }
+        }
+        catch (IOException e)
+        {
+            if (readerIndex >= 0)
+                _ring.removeReader(readerIndex);
+            try
+            {
+                if (scktChannel != null)
+                    scktChannel.close();
+            }
+            catch (IOException e2)
+            {
+                // nothing else can be done while closing
+            }
+            error.channel(null);
+            error.errorId(TransportReturnCodes.FAILURE);
+            error.sysError(0);
+            error.text("Shared memory accept failed: " + e.getMessage());
+            return null;
+        }
+
+        RsslShmemChannel channel = _transport.getChannel();
+        _ring.retain();
+        channel.accept(this, _ring, readerIndex, scktChannel, opts);
+        _transport.channelActive(channel);
+        _numChannels++;
+        return channel;
+    }
+
+    private int serverInactive(Error error)
+    {
+        error.channel(null);
+        error.errorId(TransportReturnCodes.FAILURE);
+        error.sysError(0);
+        error.text("server not in active state ");
+        return TransportReturnCodes.FAILURE;
+    }
+
+    @Deprecated
+    @Override
+    public ServerSocketChannel srvrScktChannel()
+    {
+        return _srvrScktChannel;
+    }
+
+    @Override
+    public SelectableChannel selectableChannel()
+    {
+        return _srvrScktChannel;
+    }
+
+    @Override
+    public int portNumber()
+    {
+        return _portNumber;
+    }
+
+    @Override
+    public Object userSpecObject()
+    {
+        return _userSpecObject;
+    }
+
+    @Override
+    public int state()
+    {
+        return _state;
+    }
+
+    @Override
+    public int connectionType()
+    {
+        return ConnectionTypes.UNIDIR_SHMEM;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Server" + "\n" + "\tconnectionType: UNIDIR_SHMEM" + "\n" + "\tportNumber: " + _portNumber + "\n" + "\tstate: " + _state + "\n"
+               + "\tchannels: " + _numChannels;
+    }
+}
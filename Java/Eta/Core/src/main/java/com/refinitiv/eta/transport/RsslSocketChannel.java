@@ -58,6 +58,8 @@ class RsslSocketChannel extends EtaNode implements Channel
     class BigBuffersPool
     {
         Pool[] _pools = new Pool[32];
+        // direct memory of the buffers of each pool
+        BufferSlab[] _slabs = new BufferSlab[32];
         int _maxSize = 0;
         int _maxPool = 0;
         int _fragmentSize;
@@ -89,14 +91,7 @@ class RsslSocketChannel extends EtaNode implements Channel
                 // create pool and a buffer of this size
                 Pool pool = new Pool(_poolOwner);
                 _pools[poolIndex] = pool;
-                if (isWriteBuffer)
-                {
-                    return new BigBuffer(pool, poolSize);
-                }
-                else
-                {
-                    return new ByteBufferPair(pool, poolSize, true);
-                }
+                return newBuffer(poolIndex, poolSize, isWriteBuffer);
             }
 
             // The size is smaller then max, so traverse through pools to find available buffer
@@ -117,14 +112,46 @@ class RsslSocketChannel extends EtaNode implements Channel
                 Pool pool = new Pool(_poolOwner);
                 _pools[poolIndex] = pool;
             }
+            return newBuffer(poolIndex, poolSize, isWriteBuffer);
+        }
+
+        private EtaNode newBuffer(int poolIndex, int poolSize, boolean isWriteBuffer)
+        {
+            if (_slabs[poolIndex] == null)
+                _slabs[poolIndex] = new BufferSlab(poolSize);
+
+            ByteBuffer data = _slabs[poolIndex].slice();
+            _pools[poolIndex]._slab = _slabs[poolIndex];
             if (isWriteBuffer)
             {
-                return new BigBuffer(_pools[poolIndex], poolSize);
+                return new BigBuffer(_pools[poolIndex], data);
             }
             else
             {
-                return new ByteBufferPair(_pools[poolIndex], poolSize, true);
+                return new ByteBufferPair(_pools[poolIndex], data);
+            }
+        }
+
+        long reservedBytes()
+        {
+            long bytes = 0;
+            for (int i = 0; i <= _maxPool; i++)
+            {
+                if (_slabs[i] != null)
+                    bytes += _slabs[i].reservedBytes();
+            }
+            return bytes;
+        }
+
+        long usedBytes()
+        {
+            long bytes = 0;
+            for (int i = 0; i <= _maxPool; i++)
+            {
+                if (_slabs[i] != null)
+                    bytes += _slabs[i].usedBytes();
             }
+            return bytes;
         }
     }
 
@@ -148,6 +175,9 @@ class RsslSocketChannel extends EtaNode implements Channel
     final Pool _availableHTTPBuffers = new Pool(this); // pool of HTTPSocketBuffers
     SocketBuffer _currentBuffer = null;
     BigBuffersPool _bigBuffersPool;
+    final Pool _gatherSlicePool = new Pool(this); // pool of GatherSliceBuffers
+    boolean _zeroCopyFragmentWrite = false;       // set with IoctlCodes.ZERO_COPY_FRAGMENT_WRITE
+    AdaptiveCompression _adaptiveCompression;     // set with IoctlCodes.ADAPTIVE_COMPRESSION
 
     // info that is set on accept or connect from options
     final ChannelInfoImpl _channelInfo = new ChannelInfoImpl();
@@ -162,8 +192,9 @@ class RsslSocketChannel extends EtaNode implements Channel
     protected final int DEFAULT_WS_MAX_HTTP_HEADER_SIZE = 32768;
     final private EtaQueue[] _flushOrder = new EtaQueue[MAX_FLUSH_STRATEGY];
     int _flushOrderPosition = 0;
-    final ByteBuffer[] _gatheringWriteArray = new ByteBuffer[MAX_FLUSH_STRATEGY];
-    final TransportBufferImpl[] _releaseBufferArray = new TransportBufferImpl[MAX_FLUSH_STRATEGY];
+    // one extra entry for the payload of a fragment header polled last
+    final ByteBuffer[] _gatheringWriteArray = new ByteBuffer[MAX_FLUSH_STRATEGY + 1];
+    final TransportBufferImpl[] _releaseBufferArray = new TransportBufferImpl[MAX_FLUSH_STRATEGY + 1];
     int _writeArrayMaxPosition = 0;
     int _writeArrayPosition = 0;
     boolean _isFlushPending = false;
@@ -568,6 +599,7 @@ class RsslSocketChannel extends EtaNode implements Channel
         }
         isWebSocketConnection = false;
         _protocolType = Codec.RWF_PROTOCOL_TYPE;
+        _adaptiveCompression = null;
         
         /* Clears channel information values. */
         _host = null;
@@ -708,6 +740,16 @@ class RsslSocketChannel extends EtaNode implements Channel
                 ((ChannelInfoImpl)info).clientIP(_channelInfo._clientIP);
                 ((ChannelInfoImpl)info).clientHostname(_channelInfo.clientHostname());
                 ((ChannelInfoImpl)info).securityProtocol(_channelInfo.securityProtocol());
+                ((ChannelInfoImpl)info).reservedBufferBytes(_bufferPool.reservedBytes()
+                                                            + (_bigBuffersPool != null ? _bigBuffersPool.reservedBytes() : 0)
+                                                            + (long)_channelInfo._guaranteedOutputBuffers * _internalMaxFragmentSize);
+                ((ChannelInfoImpl)info).usedBufferBytes(_bufferPool.usedBytes()
+                                                        + (_bigBuffersPool != null ? _bigBuffersPool.usedBytes() : 0)
+                                                        + (long)guaranteedOutputBuffersInUse() * _internalMaxFragmentSize);
+                if (_adaptiveCompression != null)
+                    _adaptiveCompression.stats((CompressionStatsImpl)info.compressionStats());
+                else
+                    ((CompressionStatsImpl)info.compressionStats()).clear();
             }
             else
             {
@@ -969,6 +1011,17 @@ class RsslSocketChannel extends EtaNode implements Channel
                         }
                     }
                     break;
+                case IoctlCodes.ZERO_COPY_FRAGMENT_WRITE:
+                    _zeroCopyFragmentWrite = (value != 0);
+                    retCode = TransportReturnCodes.SUCCESS;
+                    break;
+                case IoctlCodes.ADAPTIVE_COMPRESSION:
+                    if (value == 0)
+                        _adaptiveCompression = null;
+                    else if (_adaptiveCompression == null && !isWebSocketConnection)
+                        _adaptiveCompression = new AdaptiveCompression();
+                    retCode = TransportReturnCodes.SUCCESS;
+                    break;
                 default:
                     error.channel(this);
                     error.errorId(retCode);
@@ -991,6 +1044,14 @@ class RsslSocketChannel extends EtaNode implements Channel
         return retCode;
     }
 
+    /* Returns the number of guaranteedOutputBuffers taken from _availableBuffers. Buffers of the
+     * server's shared pool, which _used also counts, are reported by the server. */
+    int guaranteedOutputBuffersInUse()
+    {
+        int available = _isProviderHTTP ? _availableHTTPBuffers.size() : _availableBuffers.size();
+        return Math.max(_channelInfo._guaranteedOutputBuffers - available, 0);
+    }
+
     /* Grow the guaranteedOutputBuffer (a.k.a. _availableBuffers) by the numToGrow specified.
      *
      * numToGrow is the amount to grow. First attempt to get the buffers
@@ -1025,13 +1086,14 @@ class RsslSocketChannel extends EtaNode implements Channel
                 SocketBuffer buffer;
                 for (int i = 0; i < numToCreate; i++)
                 {
+                    ByteBuffer data = _transport.bufferSlab(_internalMaxFragmentSize).slice();
                     if (!_isProviderHTTP)
                     {
-                        buffer = new SocketBuffer(_availableBuffers, _internalMaxFragmentSize);
+                        buffer = new SocketBuffer(_availableBuffers, data);
                     }
                     else
                     {
-                        buffer = new HTTPSocketBuffer(_availableHTTPBuffers, _internalMaxFragmentSize);
+                        buffer = new HTTPSocketBuffer(_availableHTTPBuffers, data);
                     }
 
                     buffer.returnToPool();
@@ -1475,6 +1537,32 @@ class RsslSocketChannel extends EtaNode implements Channel
         return data;
     }
 
+    @Override
+    public int read(ReadArgs readArgs, int maxMessages, ReadCallback callback, Error error)
+    {
+        assert (readArgs != null) : "readArgs cannot be null";
+        assert (error != null) : "error cannot be null";
+
+        // hold the read lock for the whole batch; each read() below re-enters it
+        Lock readLock = _readLock;
+        if (!readLock.trylock())
+        {
+            ((ReadArgsImpl)readArgs).bytesRead(0);
+            ((ReadArgsImpl)readArgs).uncompressedBytesRead(0);
+            ((ReadArgsImpl)readArgs).readRetVal(TransportReturnCodes.READ_IN_PROGRESS);
+            return 0;
+        }
+
+        try
+        {
+            return Channel.super.read(readArgs, maxMessages, callback, error);
+        }
+        finally
+        {
+            readLock.unlock();
+        }
+    }
+
     /* Updates the state machine when RsslSocketChannel::read(ReadArgs, Error) is invoked */
     protected void updateState(ReadArgsImpl readArgs, Error error)
     {
@@ -1856,7 +1944,7 @@ class RsslSocketChannel extends EtaNode implements Channel
         buffer._isOwnedByApp = false;
         if (!_isJunitTest)
         {
-            if (!buffer.isBigBuffer() && ((SocketBuffer)buffer._pool._poolOwner)._pool._isSharedPoolBuffer)
+            if (!buffer.isBigBuffer() && !buffer.isGatherSlice() && ((SocketBuffer)buffer._pool._poolOwner)._pool._isSharedPoolBuffer)
             {
                 if (bufferInt != _currentBuffer)
                 {
@@ -2092,6 +2180,9 @@ class RsslSocketChannel extends EtaNode implements Channel
         // compress if enabled
         doCompression = getProtocolFunctions().compressedData(this, _sessionCompLowThreshold, writeArgs);
 
+        if (_zeroCopyFragmentWrite && !doCompression && !buffer._isWritePaused && !isWebSocketConnection && !_http)
+            return writeBigBufferInPlace(buffer, writeArgs, error);
+
         // check if this is the first write call of this buffer
         if (!buffer._isWritePaused)
         {
@@ -2181,6 +2272,67 @@ class RsslSocketChannel extends EtaNode implements Channel
         return retVal;
     }
 
+    /* Writes a big buffer as fragments without copying its data. Each fragment is queued as a small
+     * header buffer, which is followed in the gathering write by a view of the fragment data in the big buffer.
+     * The big buffer is returned to its pool once all of its fragments are written.
+     *
+     * Returns count of bytes queued if successful, or TransportReturnCodes for error scenarios.
+     */
+    protected int writeBigBufferInPlace(BigBuffer buffer, WriteArgs writeArgs, Error error)
+    {
+        int retVal = TransportReturnCodes.SUCCESS;
+        int totalLength = buffer._data.position();
+        int bytesQueued = 0;
+        int offset = 0;
+
+        // the data is not copied to the first fragment buffer
+        buffer._firstBuffer.returnToPool();
+        buffer._firstBuffer = null;
+
+        while (offset < totalLength)
+        {
+            boolean firstFragment = (offset == 0);
+            int headerLength = firstFragment ? TransportBufferImpl._firstFragmentHeaderLength : TransportBufferImpl._nextFragmentHeaderLength;
+            int payloadLength = Math.min(totalLength - offset, _internalMaxFragmentSize - headerLength);
+
+            GatherSliceBuffer payload = getGatherSlice();
+            payload.payload(buffer, offset, payloadLength);
+            GatherSliceBuffer header = getGatherSlice();
+            header.header(buffer, firstFragment, totalLength, payload);
+
+            addToPriorityQueue(header, writeArgs.priority());
+            bytesQueued += headerLength + payloadLength;
+            offset += payloadLength;
+        }
+
+        _totalBytesQueued += bytesQueued;
+        ((WriteArgsImpl)writeArgs).bytesWritten(writeArgs.bytesWritten() + bytesQueued);
+        ((WriteArgsImpl)writeArgs).uncompressedBytesWritten(writeArgs.uncompressedBytesWritten() + bytesQueued);
+
+        // if direct socket write or high water mark reached, call flush
+        if ((writeArgs.flags() & WriteFlags.DIRECT_SOCKET_WRITE) > 0 || _totalBytesQueued > _highWaterMark)
+        {
+            if ((retVal = flushInternal(error)) < TransportReturnCodes.SUCCESS)
+            {
+                return retVal;
+            }
+        }
+        else
+        {
+            retVal = _totalBytesQueued;
+        }
+
+        return retVal;
+    }
+
+    GatherSliceBuffer getGatherSlice()
+    {
+        GatherSliceBuffer slice = (GatherSliceBuffer)_gatherSlicePool.poll();
+        if (slice == null)
+            slice = new GatherSliceBuffer(_gatherSlicePool);
+        return slice;
+    }
+
     protected void writeFragment(TransportBufferImpl buffer, WriteArgs writeArgs)
     {
         // queue buffer
@@ -2261,8 +2413,9 @@ class RsslSocketChannel extends EtaNode implements Channel
                     ripcHdrFlags |= IPC_PACKING;
                 }
 
-                // Checks if compression enabled
-                boolean compressedDataSent = getProtocolFunctions().compressedData(this, msgLen, writeArgs);
+                // Checks if compression enabled and, with adaptive compression, pays off for this message size
+                boolean compressedDataSent = getProtocolFunctions().compressedData(this, msgLen, writeArgs)
+                        && (_adaptiveCompression == null || _adaptiveCompression.shouldCompress(msgLen));
                 
                 if (compressedDataSent)
                 {
@@ -2318,8 +2471,9 @@ class RsslSocketChannel extends EtaNode implements Channel
                     	transportBuffer._data.put((byte)']');
                     }
 
-                    // Checks if compression enabled
-                    boolean compressedDataSent = getProtocolFunctions().compressedData(this, transportBuffer._data.position(), writeArgs);
+                    // Checks if compression enabled and, with adaptive compression, pays off for this message size
+                    boolean compressedDataSent = getProtocolFunctions().compressedData(this, transportBuffer._data.position(), writeArgs)
+                            && (_adaptiveCompression == null || _adaptiveCompression.shouldCompress(transportBuffer._data.position()));
 
                     if(compressedDataSent)
                     {
@@ -2416,7 +2570,10 @@ class RsslSocketChannel extends EtaNode implements Channel
             msgLen = buffer.packedLen();
         }
 
+        long compressionStartTime = (_adaptiveCompression != null ? System.nanoTime() : 0);
         int compressedBytesLen = _compressor.compress(buffer, buffer.dataStartPosition(), msgLen);
+        if (_adaptiveCompression != null)
+            _adaptiveCompression.record(msgLen, compressedBytesLen, System.nanoTime() - compressionStartTime);
 
         byte[] compressedBytes = _compressor.compressedData();
 
@@ -2703,14 +2860,14 @@ class RsslSocketChannel extends EtaNode implements Channel
             _writeArrayPosition = 0;
 
             // fill gathering write array from priority queues
-            while (_writeArrayMaxPosition < _gatheringWriteArray.length
+            while (_writeArrayMaxPosition < MAX_FLUSH_STRATEGY
                    && remainingBytesQueued > 0
                    && _state != ChannelState.INACTIVE
                    && _state != ChannelState.CLOSED)
             {
                 for (int i = _flushOrderPosition; i < _channelInfo._priorityFlushStrategy.length()
                                                   && remainingBytesQueued > 0
-                                                  && _writeArrayMaxPosition < _gatheringWriteArray.length; i++, flushOrderPosition = i)
+                                                  && _writeArrayMaxPosition < MAX_FLUSH_STRATEGY; i++, flushOrderPosition = i)
                 {
                     TransportBufferImpl buffer = (TransportBufferImpl)_flushOrder[i].poll();
                     if (buffer != null)
@@ -2721,6 +2878,19 @@ class RsslSocketChannel extends EtaNode implements Channel
                         int bufSize = buffer.data().limit() - buffer.data().position();
                         cumulativeBytesPendingWrite += bufSize;
                         remainingBytesQueued -= bufSize;
+
+                        // a fragment header is written together with the payload it is followed by
+                        if (buffer.isGatherSlice() && ((GatherSliceBuffer)buffer)._payload != null)
+                        {
+                            GatherSliceBuffer payload = ((GatherSliceBuffer)buffer)._payload;
+                            ((GatherSliceBuffer)buffer)._payload = null;
+                            _gatheringWriteArray[_writeArrayMaxPosition] = payload.data();
+                            _releaseBufferArray[_writeArrayMaxPosition] = payload;
+                            _writeArrayMaxPosition++;
+                            bufSize = payload.data().limit() - payload.data().position();
+                            cumulativeBytesPendingWrite += bufSize;
+                            remainingBytesQueued -= bufSize;
+                        }
                     }
                 }
 
@@ -137,4 +137,20 @@ public interface ServerEncryptionOptions {
      */
     public String trustManagerAlgorithm();
 
+    /**
+     * Enables resumption of the TLS sessions of accepted connections. When enabled, the connections
+     * accepted with the same options share one SSL context and its session cache, so a reconnecting
+     * client can resume its session with an abbreviated handshake. Default is true.
+     *
+     * @param sessionResumption true to let clients resume cached sessions
+     */
+    public void sessionResumption(boolean sessionResumption);
+
+    /**
+     * Enables resumption of the TLS sessions of accepted connections. Default is true.
+     *
+     * @return the SessionResumption
+     */
+    public boolean sessionResumption();
+
 }
@@ -20,6 +20,7 @@ class ServerEncryptionOptionsImpl implements ServerEncryptionOptions {
     private String _SecurityProvider;
     private String _KeyManagerAlgorithm;
     private String _TrustManagerAlgorithm;
+    private boolean _SessionResumption;
     
     // default values
 
@@ -39,6 +40,7 @@ class ServerEncryptionOptionsImpl implements ServerEncryptionOptions {
         _SecurityProvider = _defaultSecurityProvider;
         _KeyManagerAlgorithm = _defaultKeyManagerAlgorithm;
         _TrustManagerAlgorithm = _defaultTrustManagerAlgorithm;
+        _SessionResumption = true;
     }
 
     void clear()
@@ -51,6 +53,7 @@ class ServerEncryptionOptionsImpl implements ServerEncryptionOptions {
         _SecurityProvider = _defaultSecurityProvider;
         _KeyManagerAlgorithm = _defaultKeyManagerAlgorithm;
         _TrustManagerAlgorithm = _defaultTrustManagerAlgorithm;
+        _SessionResumption = true;
     }
     
     /* Make a deep copy of this object to the specified object.
@@ -98,6 +101,8 @@ class ServerEncryptionOptionsImpl implements ServerEncryptionOptions {
         	destEncOpts._TrustManagerAlgorithm = new String(_TrustManagerAlgorithm);
         else
         	destEncOpts._TrustManagerAlgorithm = null;
+
+        destEncOpts._SessionResumption = _SessionResumption;
     }
 
     @Override
@@ -111,7 +116,8 @@ class ServerEncryptionOptionsImpl implements ServerEncryptionOptions {
                "\t\t\tSecurityProtocolVersions: " + Arrays.toString(_SecurityProtocolVersions) + "\n" + 
                "\t\t\tSecurityProvider: " + _SecurityProvider + "\n" + 
                "\t\t\tKeyManagerAlgorithm: " + _KeyManagerAlgorithm + "\n" + 
-               "\t\t\tTrustManagerAlgorithm: " + _TrustManagerAlgorithm + "\n";
+               "\t\t\tTrustManagerAlgorithm: " + _TrustManagerAlgorithm + "\n" + 
+               "\t\t\tSessionResumption: " + _SessionResumption + "\n";
     }
     
 
@@ -219,4 +225,16 @@ class ServerEncryptionOptionsImpl implements ServerEncryptionOptions {
 		return _SecurityProtocolVersions;
 	}
 
+    @Override
+    public void sessionResumption(boolean SessionResumption)
+    {
+        _SessionResumption = SessionResumption;
+    }
+
+    @Override
+    public boolean sessionResumption()
+    {
+        return _SessionResumption;
+    }
+
 }
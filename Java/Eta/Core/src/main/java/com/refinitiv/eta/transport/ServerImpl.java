@@ -72,7 +72,7 @@ class ServerImpl extends EtaNode implements Server
                 else if (_sharedPoolBufferCount < _bindOpts.sharedPoolSize())
                 {
                     // first create one buffer and use it
-                    buffer = new SocketBuffer(this, bufferSize());
+                    buffer = new SocketBuffer(this, _slab.slice());
                     ++_peakUse;
                     ++_currentUse;
                     ++_sharedPoolBufferCount;
@@ -84,7 +84,7 @@ class ServerImpl extends EtaNode implements Server
                     for (int i = 0; i < buffersToAdd; i++)
                     {
                         EtaNode node;
-                        node = new SocketBuffer(this, bufferSize());
+                        node = new SocketBuffer(this, _slab.slice());
                         ++_sharedPoolBufferCount;
                         super.add(node);
                     }
@@ -112,6 +112,8 @@ class ServerImpl extends EtaNode implements Server
                 {
                     ((ServerInfoImpl)info).currentBufferUsage(_currentUse);
                     ((ServerInfoImpl)info).peakBufferUsage(_peakUse);
+                    ((ServerInfoImpl)info).reservedBufferBytes(_slab != null ? _slab.reservedBytes() : 0);
+                    ((ServerInfoImpl)info).usedBufferBytes(_slab != null ? _slab.usedBytes() : 0);
                 }
                 else
                 {
@@ -264,6 +266,8 @@ class ServerImpl extends EtaNode implements Server
                 ((SharedPool)_sharedPool)._sharedPoolLock = _realSharedPoolLock;
             else
                 ((SharedPool)_sharedPool)._sharedPoolLock = _dummySharedPoolLock;
+            // the shared pool buffers are carved from a slab, which counts them as they are used and returned
+            _sharedPool._slab = new BufferSlab(bufferSize());
 
             if(_bindOpts.componentVersion() != null)
             {
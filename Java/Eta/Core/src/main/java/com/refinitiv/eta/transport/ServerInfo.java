@@ -32,6 +32,24 @@ public interface ServerInfo
      */
     public int peakBufferUsage();
 
+    /**
+     * The bytes of direct memory reserved for the shared pool buffers of the {@link Server}.
+     * The shared pool grows in bulk up to {@link BindOptions#sharedPoolSize()} buffers,
+     * which are carved from a few large regions.
+     * 
+     * @return the reservedBufferBytes
+     */
+    public long reservedBufferBytes();
+
+    /**
+     * The bytes of the shared pool buffers currently used across all users
+     * connected to the {@link Server}.
+     * 
+     * @return the usedBufferBytes
+     * @see #reservedBufferBytes()
+     */
+    public long usedBufferBytes();
+
     /**
      * Clears ETA Server Info.
      */
@@ -14,6 +14,8 @@ public class ServerInfoImpl implements ServerInfo
 {
     private int _currentBufferUsage;
     private int _peakBufferUsage;
+    private long _reservedBufferBytes;
+    private long _usedBufferBytes;
 
     ServerInfoImpl()
     {
@@ -24,7 +26,9 @@ public class ServerInfoImpl implements ServerInfo
     {
         return "ServerInfo" + "\n" + 
                "\tcurrentBufferUsage: " + _currentBufferUsage + "\n" + 
-               "\tpeakBufferUsage: " + _peakBufferUsage;
+               "\tpeakBufferUsage: " + _peakBufferUsage + "\n" +
+               "\treservedBufferBytes: " + _reservedBufferBytes + "\n" +
+               "\tusedBufferBytes: " + _usedBufferBytes;
     }
 
     public void currentBufferUsage(int currentBufferUsage)
@@ -49,10 +53,34 @@ public class ServerInfoImpl implements ServerInfo
         return _peakBufferUsage;
     }
     
+    public void reservedBufferBytes(long reservedBufferBytes)
+    {
+        _reservedBufferBytes = reservedBufferBytes;
+    }
+
+    @Override
+    public long reservedBufferBytes()
+    {
+        return _reservedBufferBytes;
+    }
+
+    public void usedBufferBytes(long usedBufferBytes)
+    {
+        _usedBufferBytes = usedBufferBytes;
+    }
+
+    @Override
+    public long usedBufferBytes()
+    {
+        return _usedBufferBytes;
+    }
+
     @Override
     public void clear()
     {
         _currentBufferUsage = 0;
         _peakBufferUsage = 0;
+        _reservedBufferBytes = 0;
+        _usedBufferBytes = 0;
     }
 }
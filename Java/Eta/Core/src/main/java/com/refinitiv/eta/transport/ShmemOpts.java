@@ -13,6 +13,7 @@ package com.refinitiv.eta.transport;
  * ({@link ConnectionTypes#UNIDIR_SHMEM}).
  * 
  * @see ConnectOptions
+ * @see BindOptions
  */
 public interface ShmemOpts
 {
@@ -33,4 +34,26 @@ public interface ShmemOpts
      * @return the maxReaderLag
      */
     public long maxReaderLag();
+
+    /**
+     * Use the Java shared memory ring instead of the native (JNI) shared memory
+     * transport. Both the server and its clients must set it, since the Java ring
+     * cannot be read or written by the native transport, nor by C/C++ ETA
+     * applications. A client that sets a maxReaderLag smaller than the server's
+     * number of output buffers is disconnected when it holds up the server;
+     * otherwise the server gets {@link TransportReturnCodes#NO_BUFFERS} and
+     * {@link TransportReturnCodes#WRITE_CALL_AGAIN} until the client catches up.
+     * Defaults to false.
+     * 
+     * @param javaRing true to use the Java shared memory ring
+     */
+    public void javaRing(boolean javaRing);
+
+    /**
+     * Use the Java shared memory ring instead of the native (JNI) shared memory
+     * transport.
+     * 
+     * @return the javaRing
+     */
+    public boolean javaRing();
 }
@@ -11,6 +11,7 @@ package com.refinitiv.eta.transport;
 class ShmemOptsImpl implements ShmemOpts
 {
     private long _maxReaderLag;
+    private boolean _javaRing;
 
     /* Make a deep copy of this object object to the specified object.
      * 
@@ -19,12 +20,13 @@ class ShmemOptsImpl implements ShmemOpts
     void copy(ShmemOptsImpl destOpts)
     {
         destOpts._maxReaderLag = _maxReaderLag;
+        destOpts._javaRing = _javaRing;
     }
 
     @Override
     public String toString()
     {
-        return "ShmemOpts" + "\n" + "\t\tmaxReaderLag: " + _maxReaderLag;
+        return "ShmemOpts" + "\n" + "\t\tmaxReaderLag: " + _maxReaderLag + "\n" + "\t\tjavaRing: " + _javaRing;
     }
 
     @Override
@@ -38,4 +40,16 @@ class ShmemOptsImpl implements ShmemOpts
     {
         return _maxReaderLag;
     }
+
+    @Override
+    public void javaRing(boolean javaRing)
+    {
+        _javaRing = javaRing;
+    }
+
+    @Override
+    public boolean javaRing()
+    {
+        return _javaRing;
+    }
 }
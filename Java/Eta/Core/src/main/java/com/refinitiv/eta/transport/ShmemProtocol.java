@@ -0,0 +1,215 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.UUID;
+
+/* Pure Java implementation of the unidirectional shared memory transport (ConnectionTypes.UNIDIR_SHMEM),
+ * used instead of the native one when ShmemOpts.javaRing() is set. Only Java applications that
+ * set it as well can connect to its servers.
+ *
+ * Each server writes to one shared memory ring, a memory-mapped file with a random name, which all
+ * of its clients read. The rings are created in a directory that only the user can access: the
+ * directory given by the "eta.shmem.dir" system property, or a directory of the user's under
+ * java.io.tmpdir by default.
+ */
+public class ShmemProtocol implements ProtocolInt
+{
+    class TrackingPool extends Pool
+    {
+        TrackingPool(Object o)
+        {
+            super(o);
+        }
+
+        // This pool is used for channels and servers.
+        // It keeps track of the channels/servers that are active in addition to the channels/servers that are available.
+        final EtaQueue _active = new EtaQueue();
+
+        @Override
+        void add(EtaNode node)
+        {
+            // remove the node from _active queue
+            if (_active.size() > 0)
+            {
+                _active.remove(node);
+            }
+
+            // add back to channel queue
+            super.add(node);
+        }
+    }
+
+    static final String SHMEM_DIR_PROPERTY = "eta.shmem.dir";
+    static final String SHMEM_FILE_PREFIX = "etaj_shmem_";
+
+    final Pool _channelPool = new TrackingPool(this);
+    final Pool _serverPool = new TrackingPool(this);
+
+    /* Returns the directory of the rings, creating it if needed.
+     *
+     * Throws IOException if it cannot be created, or if it is not a directory that only the user
+     * can access (e.g. a symbolic link, or a directory created by another user).
+     */
+    static Path ringDirectory() throws IOException
+    {
+        String dir = System.getProperty(SHMEM_DIR_PROPERTY);
+        Path path = (dir != null) ? Paths.get(dir)
+                : Paths.get(System.getProperty("java.io.tmpdir"), SHMEM_FILE_PREFIX + System.getProperty("user.name"));
+
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix"))
+        {
+            Files.createDirectories(path);
+            return path;
+        }
+
+        try
+        {
+            Files.createDirectory(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        }
+        catch (FileAlreadyExistsException e)
+        {
+            // checked below
+        }
+
+        PosixFileAttributes attributes = Files.readAttributes(path, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        if (!attributes.isDirectory())
+            throw new IOException("shared memory directory " + path + " is not a directory");
+        if (!attributes.owner().getName().equals(System.getProperty("user.name")))
+            throw new IOException("shared memory directory " + path + " is owned by " + attributes.owner().getName());
+        for (PosixFilePermission permission : attributes.permissions())
+        {
+            if (permission != PosixFilePermission.OWNER_READ && permission != PosixFilePermission.OWNER_WRITE
+                    && permission != PosixFilePermission.OWNER_EXECUTE)
+                throw new IOException("shared memory directory " + path + " can be accessed by other users");
+        }
+        return path;
+    }
+
+    /* A new ring file name, which cannot be guessed by other processes. */
+    static String newRingFileName()
+    {
+        return SHMEM_FILE_PREFIX + UUID.randomUUID();
+    }
+
+    /* True if name is a ring file name, so it names a file in the ring directory and nothing else. */
+    static boolean isRingFileName(String name)
+    {
+        if (!name.startsWith(SHMEM_FILE_PREFIX))
+            return false;
+
+        try
+        {
+            String uuid = name.substring(SHMEM_FILE_PREFIX.length());
+            return UUID.fromString(uuid).toString().equals(uuid);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return false;
+        }
+    }
+
+    @Override
+    public Channel channel(ConnectOptions opts, Error error)
+    {
+        // The global lock is locked by Transport
+        RsslShmemChannel channel = getChannel();
+        if (channel.connect(opts, error) != TransportReturnCodes.SUCCESS)
+        {
+            channel.returnToPool();
+            return null;
+        }
+
+        channelActive(channel);
+        return channel;
+    }
+
+    @Override
+    public Channel channel(AcceptOptions opts, Server srvr, Object object, Error error)
+    {
+        return srvr.accept(opts, error);
+    }
+
+    @Override
+    public Server server(BindOptions opts, Error error)
+    {
+        // The global lock is locked by Transport
+        RsslShmemServer server = (RsslShmemServer)_serverPool.poll();
+        if (server == null)
+        {
+            server = new RsslShmemServer(this, _serverPool);
+        }
+
+        if (server.bind(opts, error) != TransportReturnCodes.SUCCESS)
+        {
+            server.returnToPool();
+            return null;
+        }
+
+        ((TrackingPool)_serverPool)._active.add(server);
+        return server;
+    }
+
+    @Override
+    public Pool getPool(int poolSpec)
+    {
+        // shared memory channels write directly into the ring
+        return null;
+    }
+
+    @Override
+    public void uninitialize()
+    {
+        // The global lock is locked by Transport.
+
+        // The error is ignored, since the application is closing.
+        Error error = new ErrorImpl();
+        RsslShmemChannel channel;
+        while ((channel = (RsslShmemChannel)((TrackingPool)_channelPool)._active.poll()) != null)
+        {
+            if (channel._state != ChannelState.INACTIVE)
+                channel.close(error);
+        }
+        _channelPool.clear();
+
+        RsslShmemServer server;
+        while ((server = (RsslShmemServer)((TrackingPool)_serverPool)._active.poll()) != null)
+        {
+            if (server._state == ChannelState.ACTIVE)
+                server.close(error);
+        }
+        _serverPool.clear();
+    }
+
+    RsslShmemChannel getChannel()
+    {
+        RsslShmemChannel channel = (RsslShmemChannel)_channelPool.poll();
+        if (channel == null)
+        {
+            channel = new RsslShmemChannel(this, _channelPool);
+        }
+
+        return channel;
+    }
+
+    void channelActive(RsslShmemChannel channel)
+    {
+        ((TrackingPool)_channelPool)._active.add(channel);
+    }
+}
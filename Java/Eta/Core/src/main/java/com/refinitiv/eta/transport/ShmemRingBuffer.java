@@ -0,0 +1,593 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/* A single writer, multiple reader message ring backed by a memory-mapped file.
+ *
+ * File layout (all values in the native byte order):
+ *
+ *   header (HEADER_LENGTH bytes)
+ *     int  magic
+ *     int  version
+ *     int  numBuffers
+ *     int  maxBufferSize
+ *     long writeSequence    number of messages committed by the writer
+ *     int  state            STATE_ACTIVE while the writer is open
+ *     int  majorVersion     RWF major version of the writer
+ *     int  minorVersion     RWF minor version of the writer
+ *     int  protocolType     protocol type of the writer
+ *     int  maxReaders       number of entries in the reader table
+ *
+ *   maxReaders reader entries, each READER_LENGTH bytes (a cache line, so readers do not share one)
+ *     long cursor           next sequence the reader reads, written by the reader
+ *     long owner            generation and state (READER_FREE, READER_ACTIVE or READER_EVICTED)
+ *                           of the entry, written by the writer
+ *     long maxLag           maxReaderLag of the reader, 0 if it never wants to be evicted
+ *     int  waiting          set by a reader that has no more messages to read, cleared by the writer
+ *
+ *   numBuffers slots, each slotLength bytes (SLOT_HEADER_LENGTH + maxBufferSize, rounded up to 8)
+ *     long sequence         sequence number of the message held by the slot, SLOT_BUSY while it is written
+ *     int  length           length of the message
+ *     byte payload[maxBufferSize]
+ *
+ * The writer never overwrites a message that an active reader has not read yet: when the ring
+ * is full, the readers lagging by more than their maxLag are evicted and the writer is told to
+ * try again while the others catch up. Each slot is also a sequence lock, so an evicted reader
+ * that is still copying a slot out detects that it was overwritten.
+ *
+ * Accesses to the mapping are ordered with the fences below: the writer publishes the payload of
+ * a message before the write sequence, and a reader publishes its cursor only after it copied the
+ * message out. All writer methods are synchronized, since every channel accepted by a server is a
+ * writer of the same ring.
+ */
+class ShmemRingBuffer
+{
+    static final int MAGIC = 0x4553484D; // "ESHM"
+    static final int VERSION = 3;
+
+    static final int STATE_CLOSED = 0;
+    static final int STATE_ACTIVE = 1;
+
+    static final int MAGIC_POS = 0;
+    static final int VERSION_POS = 4;
+    static final int NUM_BUFFERS_POS = 8;
+    static final int MAX_BUFFER_SIZE_POS = 12;
+    static final int WRITE_SEQUENCE_POS = 16;
+    static final int STATE_POS = 24;
+    static final int MAJOR_VERSION_POS = 28;
+    static final int MINOR_VERSION_POS = 32;
+    static final int PROTOCOL_TYPE_POS = 36;
+    static final int MAX_READERS_POS = 40;
+    static final int HEADER_LENGTH = 64;
+
+    static final int READER_CURSOR_POS = 0;
+    static final int READER_OWNER_POS = 8;
+    static final int READER_MAX_LAG_POS = 16;
+    static final int READER_WAITING_POS = 24;
+    static final int READER_LENGTH = 64;
+
+    static final int READER_FREE = 0;
+    static final int READER_ACTIVE = 1;
+    static final int READER_EVICTED = 2;
+
+    static final int SLOT_SEQUENCE_POS = 0;
+    static final int SLOT_LENGTH_POS = 8;
+    static final int SLOT_HEADER_LENGTH = 12;
+    static final long SLOT_BUSY = -1;
+
+    /* read() return codes, in addition to a non-negative message length */
+    static final int READ_NO_DATA = -1;
+    static final int READ_OVERRUN = -2;
+    static final int READ_WRITER_CLOSED = -3;
+
+    private final Path _file;
+    private final MappedByteBuffer _map;
+    private final boolean _isWriter;
+    private final int _numBuffers;
+    private final int _maxBufferSize;
+    private final int _maxReaders;
+    private final int _slotLength;
+    private final int _slotsPosition;
+
+    /* Stores to this field are full fences and loads from it acquire fences for the accesses to
+     * the mapping, which MappedByteBuffer does not order by itself. */
+    private volatile int _fence;
+
+    /* writer: next sequence to write; reader: next sequence to read */
+    private long _sequence;
+
+    /* writer: the entries in use, the connection each of their readers is woken through,
+     * the lowest cursor of the active readers when last scanned, and the users of the ring */
+    private final int[] _readers;
+    private int _readerCount;
+    private final WritableByteChannel[] _wakeupChannels;
+    private final ByteBuffer _wakeup;
+    private int _nextReader;
+    private long _minCursor;
+    private int _users;
+
+    /* reader: its entry and the owner value identifying it */
+    private int _readerPosition;
+    private long _owner;
+    private long _maxReaderLag;
+
+    /* reader: the last message returned by read(), copied out of its slot */
+    private final ByteBuffer _readCopy;
+
+    private ShmemRingBuffer(Path file, MappedByteBuffer map, boolean isWriter)
+    {
+        _file = file;
+        _map = map;
+        _isWriter = isWriter;
+        _numBuffers = map.getInt(NUM_BUFFERS_POS);
+        _maxBufferSize = map.getInt(MAX_BUFFER_SIZE_POS);
+        _maxReaders = map.getInt(MAX_READERS_POS);
+        _slotLength = slotLength(_maxBufferSize);
+        _slotsPosition = HEADER_LENGTH + _maxReaders * READER_LENGTH;
+        _readers = isWriter ? new int[_maxReaders] : null;
+        _wakeupChannels = isWriter ? new WritableByteChannel[_maxReaders] : null;
+        _wakeup = isWriter ? ByteBuffer.allocate(1) : null;
+        _readCopy = isWriter ? null : ByteBuffer.allocateDirect(_maxBufferSize);
+    }
+
+    /* Slots are 8 byte aligned so their sequence stamps are read and written as a whole. */
+    private static int slotLength(int maxBufferSize)
+    {
+        return (SLOT_HEADER_LENGTH + maxBufferSize + 7) & ~7;
+    }
+
+    private static long length(int numBuffers, int maxBufferSize, int maxReaders)
+    {
+        return HEADER_LENGTH + (long)maxReaders * READER_LENGTH + (long)numBuffers * slotLength(maxBufferSize);
+    }
+
+    private static long owner(long generation, int state)
+    {
+        return (generation << 8) | state;
+    }
+
+    /* Creates the ring file, which must not exist yet, readable and writable by its owner only,
+     * and maps it for writing. The ring has one user, its creator.
+     *
+     * Throws IOException if the file cannot be created or mapped.
+     */
+    static ShmemRingBuffer create(Path file, int numBuffers, int maxBufferSize, int maxReaders,
+                                  int majorVersion, int minorVersion, int protocolType) throws IOException
+    {
+        long length = length(numBuffers, maxBufferSize, maxReaders);
+        if (numBuffers < 2 || maxBufferSize <= 0 || maxReaders <= 0 || length > Integer.MAX_VALUE)
+            throw new IOException("invalid shared memory ring size: numBuffers=" + numBuffers + ", maxBufferSize=" + maxBufferSize
+                                  + ", maxReaders=" + maxReaders);
+
+        FileAttribute<?>[] attributes = FileSystems.getDefault().supportedFileAttributeViews().contains("posix")
+                ? new FileAttribute<?>[] { PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")) }
+                : new FileAttribute<?>[0];
+        Set<OpenOption> options = new HashSet<OpenOption>(Arrays.asList(StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                                                                        StandardOpenOption.WRITE, LinkOption.NOFOLLOW_LINKS));
+        MappedByteBuffer map;
+        // the file is only deleted on failure once it is known to be the one created here
+        try (FileChannel fileChannel = FileChannel.open(file, options, attributes))
+        {
+            try
+            {
+                map = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            }
+            catch (IOException e)
+            {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        }
+        map.order(ByteOrder.nativeOrder());
+
+        map.putInt(VERSION_POS, VERSION);
+        map.putInt(NUM_BUFFERS_POS, numBuffers);
+        map.putInt(MAX_BUFFER_SIZE_POS, maxBufferSize);
+        map.putLong(WRITE_SEQUENCE_POS, 0);
+        map.putInt(MAJOR_VERSION_POS, majorVersion);
+        map.putInt(MINOR_VERSION_POS, minorVersion);
+        map.putInt(PROTOCOL_TYPE_POS, protocolType);
+        map.putInt(MAX_READERS_POS, maxReaders);
+        map.putInt(STATE_POS, STATE_ACTIVE);
+
+        ShmemRingBuffer ring = new ShmemRingBuffer(file, map, true);
+        for (int i = 0; i < numBuffers; i++)
+            map.putLong(ring.slotPosition(i) + SLOT_SEQUENCE_POS, SLOT_BUSY);
+        ring._users = 1;
+
+        // magic is published last so readers never attach to a half-initialized file
+        ring.fullFence();
+        map.putInt(MAGIC_POS, MAGIC);
+        ring.fullFence();
+        return ring;
+    }
+
+    /* Maps an existing ring file for reading, as the reader of the entry the writer set up with
+     * addReader(). The reader starts at the cursor the writer gave it.
+     *
+     * Throws IOException if the file is not a valid ring or the entry is not the reader's.
+     */
+    static ShmemRingBuffer open(Path file, int readerIndex, long owner, long maxReaderLag) throws IOException
+    {
+        MappedByteBuffer map;
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, LinkOption.NOFOLLOW_LINKS))
+        {
+            long length = fileChannel.size();
+            if (length < HEADER_LENGTH)
+                throw new IOException("shared memory file " + file + " is too short");
+
+            // readers write their cursor and waiting flag, so the mapping is read-write
+            map = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        }
+        map.order(ByteOrder.nativeOrder());
+
+        if (map.getInt(MAGIC_POS) != MAGIC)
+            throw new IOException("shared memory file " + file + " is not initialized");
+        if (map.getInt(VERSION_POS) != VERSION)
+            throw new IOException("shared memory file " + file + " has unsupported version " + map.getInt(VERSION_POS));
+
+        int numBuffers = map.getInt(NUM_BUFFERS_POS);
+        int maxBufferSize = map.getInt(MAX_BUFFER_SIZE_POS);
+        int maxReaders = map.getInt(MAX_READERS_POS);
+        if (numBuffers < 2 || maxBufferSize <= 0 || maxReaders <= 0 || length(numBuffers, maxBufferSize, maxReaders) > map.capacity())
+            throw new IOException("shared memory file " + file + " is truncated");
+        if (readerIndex < 0 || readerIndex >= maxReaders)
+            throw new IOException("shared memory file " + file + " has no reader " + readerIndex);
+
+        ShmemRingBuffer ring = new ShmemRingBuffer(file, map, false);
+        ring._readerPosition = HEADER_LENGTH + readerIndex * READER_LENGTH;
+        ring._owner = owner;
+        ring._maxReaderLag = maxReaderLag;
+        ring.acquireFence();
+        if (map.getInt(STATE_POS) != STATE_ACTIVE)
+            throw new IOException("shared memory file " + file + " has no active writer");
+        if (map.getLong(ring._readerPosition + READER_OWNER_POS) != owner)
+            throw new IOException("shared memory file " + file + " has given reader " + readerIndex + " to another client");
+
+        ring._sequence = map.getLong(ring._readerPosition + READER_CURSOR_POS);
+        map.putLong(ring._readerPosition + READER_MAX_LAG_POS, maxReaderLag);
+        ring.fullFence();
+        return ring;
+    }
+
+    /* Writer: adds a reader, starting at the next message written, and returns the index of its
+     * entry, or -1 if all entries are in use. The reader is flagged as waiting, so it is woken
+     * through wakeupChannel by the first message.
+     */
+    synchronized int addReader(WritableByteChannel wakeupChannel)
+    {
+        assert (_isWriter) : "only the writer can add readers";
+
+        if (_readerCount == _maxReaders)
+            return -1;
+
+        // entries are reused round-robin, so a reader that has just been removed does not find
+        // its entry given to another one before it notices
+        int index = _nextReader;
+        while (state(_map.getLong(readerPosition(index) + READER_OWNER_POS)) != READER_FREE)
+            index = (index + 1) % _maxReaders;
+        _nextReader = (index + 1) % _maxReaders;
+
+        int position = readerPosition(index);
+        long generation = (_map.getLong(position + READER_OWNER_POS) >>> 8) + 1;
+        _map.putLong(position + READER_CURSOR_POS, _sequence);
+        _map.putLong(position + READER_MAX_LAG_POS, 0);
+        _map.putInt(position + READER_WAITING_POS, 1);
+        fullFence();
+        _map.putLong(position + READER_OWNER_POS, owner(generation, READER_ACTIVE));
+        fullFence();
+
+        _readers[_readerCount++] = index;
+        _wakeupChannels[index] = wakeupChannel;
+        return index;
+    }
+
+    /* Writer: the owner value of an entry, which its reader passes to open(). */
+    synchronized long readerOwner(int index)
+    {
+        return _map.getLong(readerPosition(index) + READER_OWNER_POS);
+    }
+
+    /* Writer: true if the reader of the entry was evicted for lagging by more than its maxLag. */
+    synchronized boolean readerEvicted(int index)
+    {
+        return state(_map.getLong(readerPosition(index) + READER_OWNER_POS)) == READER_EVICTED;
+    }
+
+    /* Writer: frees the entry of a reader. The reader sees it as the writer having closed. */
+    synchronized void removeReader(int index)
+    {
+        int position = readerPosition(index);
+        _map.putLong(position + READER_OWNER_POS, owner(_map.getLong(position + READER_OWNER_POS) >>> 8, READER_FREE));
+        fullFence();
+
+        for (int i = 0; i < _readerCount; i++)
+        {
+            if (_readers[i] == index)
+            {
+                _readers[i] = _readers[--_readerCount];
+                break;
+            }
+        }
+        _wakeupChannels[index] = null;
+    }
+
+    synchronized int readerCount()
+    {
+        return _readerCount;
+    }
+
+    /* Writer: returns true if a message can be written without overwriting one that an active
+     * reader has not read yet. Once the ring is full, readers that lag by more than their maxLag
+     * are evicted to make room.
+     */
+    synchronized boolean hasRoom()
+    {
+        if (_sequence - _minCursor < _numBuffers)
+            return true;
+
+        acquireFence();
+        long minCursor = _sequence;
+        for (int i = 0; i < _readerCount; i++)
+        {
+            int position = readerPosition(_readers[i]);
+            long owner = _map.getLong(position + READER_OWNER_POS);
+            if (state(owner) != READER_ACTIVE)
+                continue;
+
+            long cursor = Math.min(_map.getLong(position + READER_CURSOR_POS), _sequence);
+            long maxLag = _map.getLong(position + READER_MAX_LAG_POS);
+            if (maxLag > 0 && _sequence - cursor > maxLag)
+            {
+                _map.putLong(position + READER_OWNER_POS, owner(owner >>> 8, READER_EVICTED));
+                continue;
+            }
+            if (cursor < minCursor)
+                minCursor = cursor;
+        }
+        fullFence();
+        _minCursor = minCursor;
+        return _sequence - _minCursor < _numBuffers;
+    }
+
+    /* Writer: copies length bytes of src, starting at position, into the next slot, publishes
+     * it and wakes the readers waiting for it.
+     *
+     * Returns false, without writing, if the ring is full.
+     */
+    synchronized boolean write(ByteBuffer src, int position, int length)
+    {
+        assert (_isWriter) : "only the writer can write to the ring";
+        assert (length <= _maxBufferSize) : "message is larger than the ring buffer size";
+
+        if (!hasRoom())
+            return false;
+
+        int slot = slotPosition(_sequence);
+
+        // the slot is marked busy before any of its contents change
+        _map.putLong(slot + SLOT_SEQUENCE_POS, SLOT_BUSY);
+        fullFence();
+
+        ByteBuffer dest = _map.duplicate();
+        dest.position(slot + SLOT_HEADER_LENGTH);
+        ByteBuffer source = src.duplicate();
+        source.limit(position + length);
+        source.position(position);
+        dest.put(source);
+        _map.putInt(slot + SLOT_LENGTH_POS, length);
+
+        fullFence();
+        _map.putLong(slot + SLOT_SEQUENCE_POS, _sequence);
+        _map.putLong(WRITE_SEQUENCE_POS, ++_sequence);
+        // the write sequence is published before the waiting flags are read
+        fullFence();
+
+        wakeReaders();
+        return true;
+    }
+
+    /* Writer: sends a byte to each reader waiting for messages. If a connection cannot take it,
+     * its reader has wakeups pending already. */
+    private void wakeReaders()
+    {
+        for (int i = 0; i < _readerCount; i++)
+        {
+            int position = readerPosition(_readers[i]);
+            if (_map.getInt(position + READER_WAITING_POS) == 0)
+                continue;
+
+            _map.putInt(position + READER_WAITING_POS, 0);
+            WritableByteChannel wakeupChannel = _wakeupChannels[_readers[i]];
+            if (wakeupChannel == null)
+                continue;
+            try
+            {
+                _wakeup.clear();
+                wakeupChannel.write(_wakeup);
+            }
+            catch (IOException e)
+            {
+                // the reader has gone away, which its channel reports
+            }
+        }
+    }
+
+    /* Reader: reads the next message and copies it out of the ring.
+     *
+     * Returns the length of the message (its contents are available through readView()),
+     * or one of READ_NO_DATA, READ_OVERRUN or READ_WRITER_CLOSED. READ_OVERRUN is returned
+     * when the writer evicted the reader, or when the reader lags the writer by more than
+     * its maxReaderLag.
+     */
+    int read()
+    {
+        long owner = _map.getLong(_readerPosition + READER_OWNER_POS);
+        long writeSequence = _map.getLong(WRITE_SEQUENCE_POS);
+        acquireFence();
+        if (owner != _owner)
+            return (owner == owner(_owner >>> 8, READER_EVICTED)) ? READ_OVERRUN : READ_WRITER_CLOSED;
+
+        if (writeSequence == _sequence)
+            return (_map.getInt(STATE_POS) == STATE_ACTIVE) ? READ_NO_DATA : READ_WRITER_CLOSED;
+
+        long lag = writeSequence - _sequence;
+        if (lag > _numBuffers || (_maxReaderLag > 0 && lag > _maxReaderLag))
+            return READ_OVERRUN;
+
+        int slot = slotPosition(_sequence);
+        if (_map.getLong(slot + SLOT_SEQUENCE_POS) != _sequence)
+            return READ_OVERRUN;
+        acquireFence();
+
+        int length = _map.getInt(slot + SLOT_LENGTH_POS);
+        if (length < 0 || length > _maxBufferSize)
+            return READ_OVERRUN;
+
+        ByteBuffer source = _map.duplicate();
+        source.limit(slot + SLOT_HEADER_LENGTH + length);
+        source.position(slot + SLOT_HEADER_LENGTH);
+        _readCopy.clear();
+        _readCopy.put(source);
+
+        // an evicted reader may have had this slot overwritten while it was copied
+        fullFence();
+        if (_map.getLong(slot + SLOT_SEQUENCE_POS) != _sequence)
+            return READ_OVERRUN;
+
+        _readCopy.flip();
+        _map.putLong(_readerPosition + READER_CURSOR_POS, ++_sequence);
+        return length;
+    }
+
+    /* The copy of the last message returned by read(), positioned on its payload. */
+    ByteBuffer readView()
+    {
+        return _readCopy;
+    }
+
+    /* Number of messages written but not yet read by this reader. */
+    long pending()
+    {
+        return _map.getLong(WRITE_SEQUENCE_POS) - _sequence;
+    }
+
+    /* Reader: tells the writer that the reader has run out of messages and waits to be woken.
+     * Returns true if something happened in the meantime (messages were written, the writer
+     * closed or evicted the reader), in which case the reader reads instead of waiting.
+     */
+    boolean waitForWriter()
+    {
+        _map.putInt(_readerPosition + READER_WAITING_POS, 1);
+        // the flag is published before the write sequence is read
+        fullFence();
+        return _map.getLong(WRITE_SEQUENCE_POS) != _sequence
+                || _map.getInt(STATE_POS) != STATE_ACTIVE
+                || _map.getLong(_readerPosition + READER_OWNER_POS) != _owner;
+    }
+
+    int numBuffers()
+    {
+        return _numBuffers;
+    }
+
+    int maxBufferSize()
+    {
+        return _maxBufferSize;
+    }
+
+    int majorVersion()
+    {
+        return _map.getInt(MAJOR_VERSION_POS);
+    }
+
+    int minorVersion()
+    {
+        return _map.getInt(MINOR_VERSION_POS);
+    }
+
+    int protocolType()
+    {
+        return _map.getInt(PROTOCOL_TYPE_POS);
+    }
+
+    Path file()
+    {
+        return _file;
+    }
+
+    /* Writer: adds a user of the ring, e.g. a channel accepted by the server that created it. */
+    synchronized void retain()
+    {
+        _users++;
+    }
+
+    /* Writer: removes a user of the ring. The last one marks the ring as closed, so the readers
+     * still attached see the writer go away, and deletes the file. */
+    synchronized void release()
+    {
+        if (--_users > 0)
+            return;
+
+        _map.putInt(STATE_POS, STATE_CLOSED);
+        fullFence();
+        wakeReaders();
+        try
+        {
+            Files.deleteIfExists(_file);
+        }
+        catch (IOException e)
+        {
+            // nothing else can be done while closing
+        }
+    }
+
+    private void fullFence()
+    {
+        _fence = 0;
+    }
+
+    private void acquireFence()
+    {
+        int fence = _fence;
+    }
+
+    private static int state(long owner)
+    {
+        return (int)(owner & 0xFF);
+    }
+
+    private int readerPosition(int index)
+    {
+        return HEADER_LENGTH + index * READER_LENGTH;
+    }
+
+    private int slotPosition(long sequence)
+    {
+        return _slotsPosition + (int)(sequence % _numBuffers) * _slotLength;
+    }
+}
@@ -93,7 +93,13 @@ class SocketBuffer extends EtaNode
 
     SocketBuffer(Pool pool, int size)
     {
-        _dataBuffer = ByteBuffer.allocate(size);
+        this(pool, ByteBuffer.allocateDirect(size));
+    }
+
+    /* Creates a SocketBuffer over a direct buffer carved from a BufferSlab */
+    SocketBuffer(Pool pool, ByteBuffer data)
+    {
+        _dataBuffer = data;
         pool(pool);
         _slicesPool = new SlicesPool(this);
     }
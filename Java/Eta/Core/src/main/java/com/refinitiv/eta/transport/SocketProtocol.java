@@ -53,6 +53,8 @@ class SocketProtocol implements ProtocolInt
     final Pool _channelPool = new TrackingPool(this);
     final Pool _serverPool = new TrackingPool(this);
     final HashMap<Integer, Pool> _writeBufferChannelPools = new HashMap<Integer, Pool>();
+    // direct memory of the SocketBuffers of each size, which move between the pools of channels and of this protocol
+    final HashMap<Integer, BufferSlab> _writeBufferSlabs = new HashMap<Integer, BufferSlab>();
     final ArrayList<RsslSocketChannel> _busyList = new ArrayList<RsslSocketChannel>();
     
     SocketProtocol()
@@ -372,6 +374,7 @@ class SocketProtocol implements ProtocolInt
             _writeBufferChannelPools.get(key).clear();
         }
         _writeBufferChannelPools.clear();
+        _writeBufferSlabs.clear();
     }
 
     @Override
@@ -387,4 +390,16 @@ class SocketProtocol implements ProtocolInt
         return pool;
     }
 
+    /* Returns the slab to carve SocketBuffers of the given size from. Locked by the global lock. */
+    BufferSlab bufferSlab(int size)
+    {
+        BufferSlab slab = _writeBufferSlabs.get(size);
+        if (slab == null)
+        {
+            slab = new BufferSlab(size);
+            _writeBufferSlabs.put(size, slab);
+        }
+        return slab;
+    }
+
 }
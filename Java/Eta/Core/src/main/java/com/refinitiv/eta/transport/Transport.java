@@ -75,6 +75,7 @@ public class Transport
     // _transports[6] - sequenced mcast
     static Protocol[] _transports = new Protocol[ConnectionTypes.MAX_DEFINED + 1];  // should be private, but is not for junit
     static Protocol[] _encryptedTransports = new Protocol[ConnectionTypes.MAX_DEFINED + 1];
+    static Protocol _javaShmemTransport; // Java shared memory ring, used when ShmemOpts.javaRing() is set
 
     private static final int HIDDEN_TCP_JNI = 111; // JNI TCP implementation (used only for testing)
     private static Protocol _hiddenTcpJni;         // JNI TCP implementation (used only for testing)
@@ -190,6 +191,11 @@ public class Transport
                     _encryptedTransports[i] = null;
                 }
             }
+            if (_javaShmemTransport != null)
+            {
+                _javaShmemTransport.uninitialize();
+                _javaShmemTransport = null;
+            }
             if (_hiddenTcpJni != null)
             {
                 _hiddenTcpJni.uninitialize();
@@ -333,8 +339,18 @@ public class Transport
                             }
                             channel = transport.channel(opts, error);
                             break;
-                        case ConnectionTypes.RELIABLE_MCAST:
                         case ConnectionTypes.UNIDIR_SHMEM:
+                            if (opts.shmemOpts().javaRing()) // opt-in Java ring, only for Java peers that opted in too
+                            {
+                                if (_javaShmemTransport == null)
+                                {
+                                    _javaShmemTransport = new ShmemProtocol();
+                                }
+                                channel = _javaShmemTransport.channel(opts, error);
+                                break;
+                            }
+                            // the native shared memory transport is the default
+                        case ConnectionTypes.RELIABLE_MCAST:
                             if (transport == null) // not initialized yet - first connection for this transport
                             {
                                 transport = new JNIProtocol();
@@ -435,8 +451,18 @@ public class Transport
                             }
                             server = transport.server(opts, error);
                             break;
-                        case ConnectionTypes.RELIABLE_MCAST:
                         case ConnectionTypes.UNIDIR_SHMEM:
+                            if (opts.shmemOpts().javaRing()) // opt-in Java ring, only for Java peers that opted in too
+                            {
+                                if (_javaShmemTransport == null)
+                                {
+                                    _javaShmemTransport = new ShmemProtocol();
+                                }
+                                server = _javaShmemTransport.server(opts, error);
+                                break;
+                            }
+                            // the native shared memory transport is the default
+                        case ConnectionTypes.RELIABLE_MCAST:
                             if (transport == null) // not initialized yet - first connection for this transport
                             {
                                 transport = new JNIProtocol();
@@ -79,6 +79,14 @@ class TransportBufferImpl extends EtaNode implements TransportBuffer
         _length = size;
     }
 
+    TransportBufferImpl(Pool pool, ByteBuffer data)
+    {
+        _data = data;
+        _startPosition = 0;
+        pool(pool);
+        _length = data.capacity();
+    }
+
     TransportBufferImpl(Pool pool)
     {
         pool(pool);
@@ -101,6 +109,11 @@ class TransportBufferImpl extends EtaNode implements TransportBuffer
         return false;
     }
 
+    boolean isGatherSlice()
+    {
+        return false;
+    }
+
     int isPackedBuffer(Channel chnl, Error error)
     {
         if (!_isPacked)
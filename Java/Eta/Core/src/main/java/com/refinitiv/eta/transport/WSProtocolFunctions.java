@@ -38,7 +38,6 @@ class WSProtocolFunctions implements ProtocolFunctions {
 
 	ByteBuffer wsFrameBuffer;
 	int wsFrameHeaderLength;
-	private final byte[] maskArray = new byte[4];
 	
 	public WSProtocolFunctions(RsslSocketChannel rsslSocketChannel)
 	{
@@ -172,10 +171,8 @@ class WSProtocolFunctions implements ProtocolFunctions {
 			final ByteBuffer readIoBuffer = _rsslSocketChannel._readIoBuffer.buffer();
 
 			if (frame.maskSet) {
-				WebSocketFrameParser.setMaskKey(maskArray, frame.maskVal);
-
 				/* Unmask the payload data */
-				WebSocketFrameParser.maskDataBlock(maskArray, readIoBuffer, frame.payloadIndex, (int) frame.payloadLen);
+				WebSocketFrameParser.maskDataBlock(frame.maskVal, readIoBuffer, frame.payloadIndex, (int) frame.payloadLen);
 			}
 			
 			switch(_webSocketSession.wsFrameHdr.opcode)
@@ -266,11 +263,9 @@ class WSProtocolFunctions implements ProtocolFunctions {
 			//TODO continue parse
 			boolean partitialFrame = WebSocketFrameParser.decode(_webSocketSession.wsFrameHdr, dest, 0, dest.position());
 			if (!partitialFrame && _webSocketSession.wsFrameHdr.maskSet) {
-				WebSocketFrameParser.setMaskKey(maskArray, frameHdr.maskVal);
-
 				/* Unmask the payload data */
 				dest.position(_webSocketSession.wsFrameHdr.hdrLen);
-				WebSocketFrameParser.maskDataBlock(maskArray, dest, dest.position(), (int) frameHdr.payloadLen);
+				WebSocketFrameParser.maskDataBlock(frameHdr.maskVal, dest, dest.position(), (int) frameHdr.payloadLen);
 			}
 			return bytesRead;
 		}
@@ -297,12 +292,10 @@ class WSProtocolFunctions implements ProtocolFunctions {
 			frameHdr.clear();
 			WebSocketFrameParser.decode(_webSocketSession.wsFrameHdr, dest, 0, dest.position());
 			if (frameHdr.payloadLen > 0 && _webSocketSession.wsFrameHdr.maskSet) {
-				WebSocketFrameParser.setMaskKey(maskArray, frameHdr.maskVal);
-
 				/* Unmask the payload data */
 				dest.position(_webSocketSession.wsFrameHdr.hdrLen);
 				final int dataLength = dest.limit() - _webSocketSession.wsFrameHdr.hdrLen;
-				WebSocketFrameParser.maskDataBlock(maskArray, dest, dest.position(), dataLength);
+				WebSocketFrameParser.maskDataBlock(frameHdr.maskVal, dest, dest.position(), dataLength);
 			}
 			return bytesRead;
 		} else if (bytesRead == -1) {
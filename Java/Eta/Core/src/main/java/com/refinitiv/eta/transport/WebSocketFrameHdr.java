@@ -29,7 +29,6 @@ class WebSocketFrameHdr {
 	boolean fragment;
 	boolean compressed;
 	boolean maskSet;
-	byte[] mask = new byte[4];
 	int maskVal;
 	long payloadLen;
 	int payloadIndex;
@@ -53,10 +52,6 @@ class WebSocketFrameHdr {
 		fragment = false;
 		compressed = false;
 		maskSet = false;
-		mask[0] = 0;
-		mask[1] = 0;
-		mask[2] = 0;
-		mask[3] = 0;
 		maskVal = 0;
 		payloadLen = 0;
 		payloadIndex = 0;
@@ -86,10 +81,6 @@ class WebSocketFrameHdr {
 		rsv3Set = false;
 		control = false;
 		maskSet = false;
-		mask[0] = 0;
-		mask[1] = 0;
-		mask[2] = 0;
-		mask[3] = 0;
 		maskVal = 0;
 		payloadLen = 0;
 		payloadIndex = 0;
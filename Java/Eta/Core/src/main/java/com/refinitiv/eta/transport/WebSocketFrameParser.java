@@ -9,6 +9,7 @@
 package com.refinitiv.eta.transport;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.SplittableRandom;
 import java.util.Objects;
 
@@ -128,6 +129,11 @@ class WebSocketFrameParser {
 		return maskVal;
 	}
 	
+	static int getMaskKey(byte[] mask)
+	{
+		return ((mask[0] & 0xFF) << 24) | ((mask[1] & 0xFF) << 16) | ((mask[2] & 0xFF) << 8) | (mask[3] & 0xFF);
+	}
+	
 	static int getRandomValue()
 	{
 		_randomLock.lock();
@@ -144,17 +150,34 @@ class WebSocketFrameParser {
 	
 	static void maskDataBlock(byte[] mask, byte[] data, int index, int length)
 	{
-		for(int i = 0; i < length; i++, index++)
-		{
-			data[index] = (byte) (data[index] ^ mask[(i%4)]);
-		}
+		maskDataBlock(getMaskKey(mask), ByteBuffer.wrap(data), index, length);
 	}
 	
 	static void maskDataBlock(byte[] mask, ByteBuffer byteBuffer, int index, int length)
 	{
-		for(int i = 0; i < length; i++, index++)
+		maskDataBlock(getMaskKey(mask), byteBuffer, index, length);
+	}
+	
+	/* Masks or unmasks the payload in place, XORing 8 bytes at a time with the 4 byte
+	 * mask key repeated across a long word, and the trailing bytes one at a time.
+	 * Absolute accesses are used so the buffer's position and limit are left untouched. */
+	static void maskDataBlock(int maskVal, ByteBuffer byteBuffer, int index, int length)
+	{
+		long wordMask = ((long)maskVal << 32) | (maskVal & 0xFFFFFFFFL);
+		if (byteBuffer.order() == ByteOrder.LITTLE_ENDIAN)
+			wordMask = Long.reverseBytes(wordMask);
+
+		int end = index + length;
+		int wordEnd = index + (length & ~7);
+		for (; index < wordEnd; index += 8)
+		{
+			byteBuffer.putLong(index, byteBuffer.getLong(index) ^ wordMask);
+		}
+		
+		/* The words consumed a multiple of 8 bytes, so the remaining bytes start at mask[0] */
+		for (int shift = 24; index < end; index++, shift -= 8)
 		{
-			byteBuffer.put(index, (byte)(byteBuffer.get(index) ^ mask[(i%4)]));
+			byteBuffer.put(index, (byte)(byteBuffer.get(index) ^ (maskVal >>> shift)));
 		}
 	}
 	
@@ -179,17 +202,18 @@ class WebSocketFrameParser {
 			return frame.partial;
 		}
 		
-		/* Calculate the frame header length from the 2 byte control header portion */
-		frame.hdrLen = getHeaderLength(frame.buffer, frame.ctrlHdrIndex);
+		/* The 2 byte control header is read once, in place in the read buffer */
+		final byte ctrlByte = frame.buffer.get(frame.ctrlHdrIndex);
+		final byte lenByte = frame.buffer.get(frame.ctrlHdrIndex + 1);
 		
 		/* finSet bit for complete/fragmented frame */
-		frame.finSet = getBitAsBoolean(frame.buffer.get(frame.ctrlHdrIndex), _WS_BIT_POS_FIN);
+		frame.finSet = getBitAsBoolean(ctrlByte, _WS_BIT_POS_FIN);
 		
 		/* RSV1 bit for any handshake negotiated extensions */
- 		frame.rsv1Set = getBitAsBoolean(frame.buffer.get(frame.ctrlHdrIndex), _WS_BIT_POS_RSV1);
+ 		frame.rsv1Set = getBitAsBoolean(ctrlByte, _WS_BIT_POS_RSV1);
 		
 		/* Frame OpCode */
-		frame.opcode = (frame.buffer.get(frame.ctrlHdrIndex) & _WS_OPCODE_MASK);
+		frame.opcode = (ctrlByte & _WS_OPCODE_MASK);
 
 		/* Frame fragments should not be updated if a Control Frame is received in the
 		 * middle of collecting/assembling frames */
@@ -208,10 +232,10 @@ class WebSocketFrameParser {
 		}
 		
 		/* Flag to identify if payload is masked and key suffix to the frame header */
-		frame.maskSet = getBitAsBoolean(frame.buffer.get(frame.ctrlHdrIndex + 1), _WS_BIT_POS_MASKKEY);
+		frame.maskSet = getBitAsBoolean(lenByte, _WS_BIT_POS_MASKKEY);
 		
 		/* PayloadLength or flag for 2 or 8 byte payload length fields */
-		frame.payloadLen = (frame.buffer.get(frame.ctrlHdrIndex + 1) & _WS_PAYLOAD_LEN_MASK);
+		frame.payloadLen = (lenByte & _WS_PAYLOAD_LEN_MASK);
 		
 		if (frame.payloadLen == _WS_FLAG_2BYTE_EXT_PAYLOAD)
 			frame.extHdrLen = _WS_2BYTE_EXT_PAYLOAD;
@@ -220,6 +244,9 @@ class WebSocketFrameParser {
 		else
 			frame.extHdrLen = 0;
 		
+		/* Calculate the frame header length from the 2 byte control header portion */
+		frame.hdrLen = _WS_CONTROL_HEADER_LEN + frame.extHdrLen + (frame.maskSet ? _WS_MASK_KEY_FIELD_LEN : 0);
+		
 		/* Get the values if the WS frame header has been read */
 		if(length >= frame.hdrLen)
 		{
@@ -246,7 +273,7 @@ class WebSocketFrameParser {
 		
 			/* Get the value of the mask key if it is set and not already set on a previous pass */
 			if(frame.maskSet && frame.maskVal == 0)
-				frame.maskVal = getMaskKey(frame.mask, frame.buffer, frame.extHdrIndex);
+				frame.maskVal = frame.buffer.getInt(frame.extHdrIndex);
 		
 			/* Mark the beginning of the payload segment when enough bytes have been read */
 			if (frame.payloadIndex == 0 && (frame.payloadLen != 0) && length >= (frame.hdrLen + 1))
@@ -301,26 +328,28 @@ class WebSocketFrameParser {
 		
 		hdrLen = plHdrLen + maskLen; /* + [ 0 | 4 ] */
 		
-		/* Always reset the first byte of the buffer. */
-		msgBuffer.array()[hdrIndex] = 0;
+		/* The first byte is built here, since the buffer may be direct and have no array. */
+		int firstByte = 0;
 		
 		/* Set FIN */
 		if (finBit)
-			setBit(msgBuffer.array(), hdrIndex, 7);
+			firstByte |= (1 << 7);
 		
 		/* Set RSV1 */
 		if (compressed)
-			setBit(msgBuffer.array(), hdrIndex, 6);
+			firstByte |= (1 << 6);
 		
 		if (opCode != _WS_OPC_NONE)
 			/* set opcode for arg opcode frame */
-			msgBuffer.array()[hdrIndex] |= (opCode & 0x0F);
+			firstByte |= (opCode & 0x0F);
 		else if (protocol == _WS_SP_JSON2)
 			/* set opcode for text frame */
-			msgBuffer.array()[hdrIndex] |= (_WS_OPC_TEXT & 0x0F);
+			firstByte |= (_WS_OPC_TEXT & 0x0F);
 		else
 			/* set opcode for binary frame */
-			msgBuffer.array()[hdrIndex] |= (_WS_OPC_BINARY & 0x0F);
+			firstByte |= (_WS_OPC_BINARY & 0x0F);
+		
+		msgBuffer.put(hdrIndex, (byte)firstByte);
 		
 		/* Populate the WS payload length field or 
 		 * the Extended payload length(126|127) */
@@ -352,13 +381,11 @@ class WebSocketFrameParser {
 			int maskValue = getRandomValue();
 			WebSocketFrameParser._lastMaskValue = maskValue;
 			int maskOffSet = hdrLen - maskLen;
-			byte[] mask = new byte[4];
 
-			setBit(msgBuffer.array(), hdrIndex + 1, 7);
+			msgBuffer.put(hdrIndex + 1, (byte)(msgBuffer.get(hdrIndex + 1) | (1 << 7)));
 			msgBuffer.putInt(hdrIndex + maskOffSet, maskValue);
 			
-			setMaskKey(mask, maskValue);
-			maskDataBlock(mask,msgBuffer.array(), hdrIndex + hdrLen, (int)dataLength);
+			maskDataBlock(maskValue, msgBuffer, hdrIndex + hdrLen, (int)dataLength);
 		}
 	
 		return hdrLen;
@@ -38,7 +38,10 @@ class ClientSSLEngineFactory implements SSLEngineFactory {
     }
 
     public SSLEngine create() throws IOException {
-        SSLContext context = sslContextFactory.create(options);
+        // the engine is bound to the peer host and port, which key the session cache of a shared context
+        SSLContext context = options.SessionResumption()
+                ? sslContextFactory.createShared(options)
+                : sslContextFactory.create(options);
         SSLEngine engine = context.createSSLEngine(hostName, hostPort);
         engine.setUseClientMode(true);
         SSLParameters sslParameters = new SSLParameters();
@@ -153,10 +153,12 @@ public class CryptoHelper {
     }
 
     private int copyBytes(ByteBuffer source, ByteBuffer dest) {
-        int count = 0;
-        while (source.hasRemaining() && dest.hasRemaining()) {
-            dest.put(source.get());
-            count++;
+        int count = Math.min(source.remaining(), dest.remaining());
+        if (count > 0) {
+            int limit = source.limit();
+            source.limit(source.position() + count);
+            dest.put(source);
+            source.limit(limit);
         }
         source.compact();
         return count;
@@ -181,24 +183,7 @@ public class CryptoHelper {
                 break;
             }
 
-            _netSendBuf.flip();
-            try
-            {
-                while (_netSendBuf.hasRemaining())
-                {
-                    if (_socketChannel.write(_netSendBuf) <= 0)
-                    {
-                        canWrite = false;
-                        break;
-                    }
-                }
-            }
-            catch (IOException e)
-            {
-                _netSendBuf.clear();
-                canWrite = false;
-            }
-            _netSendBuf.compact();
+            canWrite = flushNetSendBuffer();
 
             if ((_engine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.FINISHED)
                     && (_engine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING))
@@ -212,19 +197,73 @@ public class CryptoHelper {
     }
 
     // Implementation of AbstractSelectableChannel::write(final ByteBuffer[] srcs, final int offset, final int length)
+    // The engine gathers the transport buffers straight into the records, so small buffers written together
+    // share a record instead of being wrapped one by one.
     public final long write(final ByteBuffer[] srcs, final int offset, final int length) throws IOException
     {
+        boolean canWrite = true;
         long writeCount = 0;
-        for (int i = offset; i < offset + length; i++)
+
+        checkEngine();
+
+        while (canWrite && hasRemaining(srcs, offset, length))
         {
-            writeCount += write(srcs[i]);
-            if (srcs[i].hasRemaining())
+            SSLEngineResult result = _engine.wrap(srcs, offset, length, _netSendBuf);
+            if (result.getStatus() == SSLEngineResult.Status.OK)
+            {
+                writeCount += result.bytesConsumed();
+            } else if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
                 break;
+            }
+
+            canWrite = flushNetSendBuffer();
+
+            if ((_engine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.FINISHED)
+                    && (_engine.getHandshakeStatus() != SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING))
+            {
+                performHandshake();
+            }
         }
 
         return writeCount;
     }
 
+    private static boolean hasRemaining(final ByteBuffer[] srcs, final int offset, final int length)
+    {
+        for (int i = offset; i < offset + length; i++)
+        {
+            if (srcs[i].hasRemaining())
+                return true;
+        }
+        return false;
+    }
+
+    // Write the encrypted data in _netSendBuf to the channel, keeping what the channel does not take.
+    // Returns false if the channel could not take all of it.
+    private boolean flushNetSendBuffer()
+    {
+        boolean canWrite = true;
+        _netSendBuf.flip();
+        try
+        {
+            while (_netSendBuf.hasRemaining())
+            {
+                if (_socketChannel.write(_netSendBuf) <= 0)
+                {
+                    canWrite = false;
+                    break;
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            _netSendBuf.clear();
+            canWrite = false;
+        }
+        _netSendBuf.compact();
+        return canWrite;
+    }
+
     // We must send the appropriate alerts to indicate to the peer that we intend to close the TLS/SSL connection.
     public void cleanup() throws IOException
     {
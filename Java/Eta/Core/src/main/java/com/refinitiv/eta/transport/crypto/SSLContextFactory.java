@@ -13,10 +13,29 @@ import com.refinitiv.eta.transport.EncryptionOptions;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.*;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 class SSLContextFactory {
+    // SSL contexts shared by the connections, keyed by the options they were created with.
+    // Each context keeps its own session cache, so sharing it is what allows resumption.
+    // The map is bounded and drops the least recently used context first, so contexts of replaced keystores
+    // do not pile up; channels already using a dropped context keep it.
+    static final int MAX_SHARED_CONTEXTS = 16;
+    private static final Map<String, SSLContext> _sharedContexts = new LinkedHashMap<String, SSLContext>(MAX_SHARED_CONTEXTS, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SSLContext> eldest) {
+            return size() > MAX_SHARED_CONTEXTS;
+        }
+    };
+
     private KeyStoreFactory _keyStoreFactory;
     private KeyManagerFactoryCreator _keyManagerFactoryCreator;
     private TrustManagerFactoryFactory _trustManagerFactoryFactory;
@@ -54,4 +73,49 @@ class SSLContextFactory {
             throw new IOException(e);
         }
     }
+
+    /* Returns the SSL context shared by the connections created with the same options, creating it on first use.
+     * A changed keystore file gets a new context, as its modification time is part of the key. */
+    public SSLContext createShared(EncryptionOptions options) throws IOException {
+        String key = sharedContextKey(options);
+        SSLContext sslContext;
+        synchronized (_sharedContexts) {
+            sslContext = _sharedContexts.get(key);
+        }
+        if (sslContext == null) {
+            // loading the keystore is slow, so it is not done under the lock
+            sslContext = create(options);
+            synchronized (_sharedContexts) {
+                SSLContext existing = _sharedContexts.get(key);
+                if (existing != null)
+                    sslContext = existing;
+                else
+                    _sharedContexts.put(key, sslContext);
+            }
+        }
+        return sslContext;
+    }
+
+    static int sharedContextCount() {
+        synchronized (_sharedContexts) {
+            return _sharedContexts.size();
+        }
+    }
+
+    private static String sharedContextKey(EncryptionOptions options) throws IOException {
+        long keystoreModified = options.KeystoreFile() != null ? new File(options.KeystoreFile()).lastModified() : 0;
+        // the key outlives the options, so it keeps a digest of the keystore password rather than the password
+        String passwordDigest = "";
+        if (options.KeystorePasswd() != null) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(options.KeystorePasswd().getBytes(StandardCharsets.UTF_8));
+                passwordDigest = Base64.getEncoder().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException(e);
+            }
+        }
+        return options.KeystoreType() + '\0' + options.KeystoreFile() + '\0' + keystoreModified + '\0'
+                + passwordDigest + '\0' + options.SecurityProtocol() + '\0' + options.SecurityProvider() + '\0'
+                + options.KeyManagerAlgorithm() + '\0' + options.TrustManagerAlgorithm();
+    }
 }
@@ -25,7 +25,10 @@ class ServerSSLEngineFactory implements SSLEngineFactory {
     }
 
     public SSLEngine create() throws IOException {
-        SSLContext context = sslContextFactory.create(options);
+        // a shared context keeps the server session cache that lets clients resume their sessions
+        SSLContext context = options.SessionResumption()
+                ? sslContextFactory.createShared(options)
+                : sslContextFactory.create(options);
         SSLEngine engine = context.createSSLEngine();
         engine.setUseClientMode(false);
         SSLParameters sslParameters = new SSLParameters();
@@ -10,9 +10,18 @@ package com.refinitiv.eta.codec;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -1129,6 +1138,141 @@ public class DictionaryJunit
         assertEquals(CodecReturnCodes.FAILURE, decodedDictionary.decodeEnumTypeDictionary(decodeIter, Dictionary.VerbosityValues.NORMAL, error));
     }
 
+    /**
+     * Save a dictionary snapshot, load it back and compare it with the text dictionaries.
+     */
+    @Test
+    public void dictionarySnapshotTest() throws IOException
+    {
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        DataDictionary snapshotDictionary = CodecFactory.createDataDictionary();
+        File snapshotFile = File.createTempFile("RDMFieldDictionary", ".snapshot");
+        snapshotFile.deleteOnExit();
+
+        dictionary.clear();
+        assertEquals(CodecReturnCodes.FAILURE, dictionary.saveDictionarySnapshot(snapshotFile.getPath(), error));
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadEnumTypeDictionary("../../etc/enumtype.def", error));
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.saveDictionarySnapshot(snapshotFile.getPath(), error));
+
+        snapshotDictionary.clear();
+        assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadDictionarySnapshot(null, error));
+        assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadDictionarySnapshot("xyz", error));
+        assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadDictionarySnapshot("../../etc/RDMFieldDictionary", error));
+        assertEquals(CodecReturnCodes.SUCCESS, snapshotDictionary.loadDictionarySnapshot(snapshotFile.getPath(), error));
+
+        assertEquals(dictionary.numberOfEntries(), snapshotDictionary.numberOfEntries());
+        assertEquals(dictionary.minFid(), snapshotDictionary.minFid());
+        assertEquals(dictionary.maxFid(), snapshotDictionary.maxFid());
+        assertEquals(dictionary.enumTableCount(), snapshotDictionary.enumTableCount());
+        assertEquals(dictionary.infoFieldVersion().toString(), snapshotDictionary.infoFieldVersion().toString());
+        assertEquals(dictionary.infoEnumDTVersion().toString(), snapshotDictionary.infoEnumDTVersion().toString());
+
+        // entries are looked up before the whole snapshot is materialized
+        DictionaryEntry entry = snapshotDictionary.entry(4);
+        assertEquals("RDN_EXCHID", entry.acronym().toString());
+        assertEquals(DataTypes.ENUM, entry.rwfType());
+        assertNotNull(entry.enumTypeTable());
+        assertSame(entry, snapshotDictionary.entry(4));
+        Enum enumValue = CodecFactory.createEnum();
+        enumValue.value(1);
+        assertEquals(dictionary.entryEnumType(dictionary.entry(4), enumValue).display().toString(),
+                     snapshotDictionary.entryEnumType(entry, enumValue).display().toString());
+        assertEquals(22, snapshotDictionary.entry("BID").fid());
+        assertNull(snapshotDictionary.entry(-32768));
+
+        assertEquals(dictionary.toString(), snapshotDictionary.toString());
+
+        // a snapshot is read-only until cleared
+        assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+        assertEquals(CodecReturnCodes.FAILURE, snapshotDictionary.loadDictionarySnapshot(snapshotFile.getPath(), error));
+        snapshotDictionary.clear();
+        assertNull(snapshotDictionary.entry(22));
+        assertEquals(CodecReturnCodes.SUCCESS, snapshotDictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+    }
+
+    /**
+     * Dictionaries loading the same snapshot share its entries, and encode it concurrently.
+     */
+    @Test
+    public void sharedDictionarySnapshotTest() throws Exception
+    {
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        DataDictionary dictionary = CodecFactory.createDataDictionary();
+        File snapshotFile = File.createTempFile("RDMFieldDictionary", ".snapshot");
+        snapshotFile.deleteOnExit();
+
+        dictionary.clear();
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.loadEnumTypeDictionary("../../etc/enumtype.def", error));
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.saveDictionarySnapshot(snapshotFile.getPath(), error));
+
+        final DataDictionary[] snapshotDictionaries = new DataDictionary[2];
+        for (int i = 0; i < snapshotDictionaries.length; i++)
+        {
+            snapshotDictionaries[i] = CodecFactory.createDataDictionary();
+            snapshotDictionaries[i].clear();
+            assertEquals(CodecReturnCodes.SUCCESS, snapshotDictionaries[i].loadDictionarySnapshot(snapshotFile.getPath(), error));
+        }
+        assertSame(snapshotDictionaries[0].entry(22), snapshotDictionaries[1].entry(22));
+
+        // each dictionary has its own encoding state
+        final byte[] expected = encodeFieldDictionary(snapshotDictionaries[0]);
+        assertNotNull(expected);
+        final AtomicBoolean failed = new AtomicBoolean();
+        Thread[] threads = new Thread[snapshotDictionaries.length];
+        for (int i = 0; i < threads.length; i++)
+        {
+            final DataDictionary snapshotDictionary = snapshotDictionaries[i];
+            threads[i] = new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    for (int j = 0; j < 20; j++)
+                    {
+                        if (!Arrays.equals(expected, encodeFieldDictionary(snapshotDictionary)))
+                            failed.set(true);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertFalse(failed.get());
+
+        // a rewritten snapshot is mapped again
+        assertTrue(snapshotFile.delete());
+        assertEquals(CodecReturnCodes.SUCCESS, dictionary.saveDictionarySnapshot(snapshotFile.getPath(), error));
+        assertTrue(snapshotFile.setLastModified(snapshotFile.lastModified() + 2000));
+        DataDictionary reloadedDictionary = CodecFactory.createDataDictionary();
+        reloadedDictionary.clear();
+        assertEquals(CodecReturnCodes.SUCCESS, reloadedDictionary.loadDictionarySnapshot(snapshotFile.getPath(), error));
+        assertNotSame(snapshotDictionaries[0].entry(22), reloadedDictionary.entry(22));
+        assertEquals(22, reloadedDictionary.entry(22).fid());
+    }
+
+    /* Encodes the whole field dictionary in one NORMAL verbosity part. */
+    private static byte[] encodeFieldDictionary(DataDictionary dictionary)
+    {
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+        Buffer buf = CodecFactory.createBuffer();
+        buf.data(ByteBuffer.allocate(4 * 1024 * 1024));
+        encodeIter.setBufferAndRWFVersion(buf, Codec.majorVersion(), Codec.minorVersion());
+        Int dictionaryFid = CodecFactory.createInt();
+        dictionaryFid.value(dictionary.minFid());
+        if (dictionary.encodeFieldDictionary(encodeIter, dictionaryFid, Dictionary.VerbosityValues.NORMAL, error) != CodecReturnCodes.SUCCESS)
+            return null;
+
+        byte[] encoded = new byte[buf.length()];
+        ByteBuffer data = buf.data().duplicate();
+        data.position(0);
+        data.get(encoded);
+        return encoded;
+    }
+
     // copy encoded data into byte[]
     private byte[] convertToByteArray(ByteBuffer bb)
     {
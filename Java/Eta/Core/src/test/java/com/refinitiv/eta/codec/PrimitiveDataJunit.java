@@ -833,6 +833,116 @@ public class PrimitiveDataJunit
         System.out.println(dateTime.toString());
         assertEquals("DateTime.toString() valid date, valid time", "02:03:04", dateTime.toString());
     }
+
+    private interface ToBytes { int write(byte[] dest, int offset); }
+    private interface ToByteBuffer { int write(ByteBuffer dest); }
+    private interface ToAppendable { int write(Appendable dest); }
+
+    /* Checks that toString() and the toString methods writing into a byte array, ByteBuffer and Appendable give the expected text. */
+    private void checkToStringWrite(String text, String expected, ToBytes toBytes, ToByteBuffer toByteBuffer, ToAppendable toAppendable)
+    {
+        assertEquals(expected, text);
+
+        byte[] bytes = new byte[120];
+        int end = toBytes.write(bytes, 2);
+        assertEquals(expected, new String(bytes, 2, end - 2));
+
+        ByteBuffer byteBuffer = ByteBuffer.allocate(120);
+        byteBuffer.position(3);
+        assertEquals(CodecReturnCodes.SUCCESS, toByteBuffer.write(byteBuffer));
+        assertEquals(expected, new String(byteBuffer.array(), 3, byteBuffer.position() - 3));
+
+        StringBuilder stringBuilder = new StringBuilder("x");
+        assertEquals(CodecReturnCodes.SUCCESS, toAppendable.write(stringBuilder));
+        assertEquals("x" + expected, stringBuilder.toString());
+
+        if (expected.length() > 0)
+        {
+            assertEquals(CodecReturnCodes.BUFFER_TOO_SMALL, toBytes.write(new byte[expected.length() - 1], 0));
+            byteBuffer = ByteBuffer.allocate(expected.length() - 1);
+            assertEquals(CodecReturnCodes.BUFFER_TOO_SMALL, toByteBuffer.write(byteBuffer));
+            assertEquals(0, byteBuffer.position());
+        }
+    }
+
+    @Test
+    public void primitivesToStringWriteTest()
+    {
+        Date date = CodecFactory.createDate();
+        date.blank();
+        checkToStringWrite(date.toString(), "", date::toString, date::toString, date::toString);
+        date.year(2012);
+        date.month(12);
+        date.day(2);
+        checkToStringWrite(date.toString(), "02 DEC 2012", date::toString, date::toString, date::toString);
+        date.format(DateTimeStringFormatTypes.STR_DATETIME_ISO8601);
+        checkToStringWrite(date.toString(), "2012-12-02", date::toString, date::toString, date::toString);
+        date.day(0);
+        checkToStringWrite(date.toString(), "2012-12", date::toString, date::toString, date::toString);
+        date.format(DateTimeStringFormatTypes.STR_DATETIME_RSSL);
+        checkToStringWrite(date.toString(), "DEC 2012", date::toString, date::toString, date::toString);
+        date.month(0);
+        date.year(5);
+        checkToStringWrite(date.toString(), "       5", date::toString, date::toString, date::toString);
+
+        Time time = CodecFactory.createTime();
+        time.blank();
+        checkToStringWrite(time.toString(), "", time::toString, time::toString, time::toString);
+        time.hour(9);
+        time.minute(5);
+        time.second(7);
+        time.millisecond(40);
+        checkToStringWrite(time.toString(), "09:05:07:040", time::toString, time::toString, time::toString);
+        time.microsecond(600);
+        time.nanosecond(0);
+        checkToStringWrite(time.toString(), "09:05:07:040:600:000", time::toString, time::toString, time::toString);
+        time.format(DateTimeStringFormatTypes.STR_DATETIME_ISO8601);
+        checkToStringWrite(time.toString(), "09:05:07.0406", time::toString, time::toString, time::toString);
+        time.millisecond(0);
+        time.microsecond(0);
+        checkToStringWrite(time.toString(), "09:05:07", time::toString, time::toString, time::toString);
+
+        DateTime dateTime = CodecFactory.createDateTime();
+        dateTime.blank();
+        checkToStringWrite(dateTime.toString(), "", dateTime::toString, dateTime::toString, dateTime::toString);
+        dateTime.clear();
+        dateTime.year(2012);
+        dateTime.day(2);
+        dateTime.hour(2);
+        dateTime.minute(2);
+        dateTime.second(2);
+        dateTime.millisecond(2);
+        dateTime.microsecond(3);
+        dateTime.nanosecond(4);
+        checkToStringWrite(dateTime.toString(), "02     2012 02:02:02:002:003:004", dateTime::toString, dateTime::toString, dateTime::toString);
+        dateTime.month(12);
+        dateTime.format(DateTimeStringFormatTypes.STR_DATETIME_ISO8601);
+        checkToStringWrite(dateTime.toString(), "2012-12-02T02:02:02.002003004", dateTime::toString, dateTime::toString, dateTime::toString);
+        dateTime.year(0);
+        dateTime.month(0);
+        dateTime.format(DateTimeStringFormatTypes.STR_DATETIME_RSSL);
+        checkToStringWrite(dateTime.toString(), "02 02:02:02:002:003:004", dateTime::toString, dateTime::toString, dateTime::toString);
+        dateTime.date().blank();
+        checkToStringWrite(dateTime.toString(), "02:02:02:002:003:004", dateTime::toString, dateTime::toString, dateTime::toString);
+
+        Qos qos = CodecFactory.createQos();
+        qos.timeliness(QosTimeliness.DELAYED);
+        qos.timeInfo(500);
+        qos.rate(QosRates.TIME_CONFLATED);
+        qos.rateInfo(65535);
+        qos.dynamic(true);
+        checkToStringWrite(qos.toString(), "Qos: DelayedByTimeInfo/ConflatedByRateInfo/Dynamic - timeInfo: 500 - rateInfo: 65535", qos::toString, qos::toString, qos::toString);
+
+        State state = CodecFactory.createState();
+        state.streamState(StreamStates.OPEN);
+        state.dataState(DataStates.OK);
+        state.code(StateCodes.NONE);
+        checkToStringWrite(state.toString(), "State: Open/Ok/None - text: \"null\"", state::toString, state::toString, state::toString);
+        state.text().data("All is well");
+        checkToStringWrite(state.toString(), "State: Open/Ok/None - text: \"All is well\"", state::toString, state::toString, state::toString);
+        state.text().data(ByteBuffer.wrap("<Item stream open>".getBytes()), 1, 16);
+        checkToStringWrite(state.toString(), "State: Open/Ok/None - text: \"Item stream open\"", state::toString, state::toString, state::toString);
+    }
     
     @Test 
     public void dateTimeGMTTimeTest()
@@ -798,6 +798,97 @@ public class RealJunit
 		assertEquals("-555.00000000000000", real.toString());
 	}
 
+	private String realWriteText(Real real)
+	{
+		byte[] bytes = new byte[40];
+		int end = real.toString(bytes, 2);
+		assertTrue(end > 2);
+		String text = new String(bytes, 2, end - 2);
+
+		ByteBuffer byteBuffer = ByteBuffer.allocate(40);
+		byteBuffer.position(3);
+		assertEquals(CodecReturnCodes.SUCCESS, real.toString(byteBuffer));
+		assertEquals(text, new String(byteBuffer.array(), 3, byteBuffer.position() - 3));
+
+		StringBuilder stringBuilder = new StringBuilder("x");
+		assertEquals(CodecReturnCodes.SUCCESS, real.toString(stringBuilder));
+		assertEquals("x" + text, stringBuilder.toString());
+
+		// one byte short of the text
+		assertEquals(CodecReturnCodes.BUFFER_TOO_SMALL, real.toString(new byte[text.length() - 1], 0));
+		byteBuffer = ByteBuffer.allocate(text.length() - 1);
+		assertEquals(CodecReturnCodes.BUFFER_TOO_SMALL, real.toString(byteBuffer));
+		assertEquals(0, byteBuffer.position());
+
+		return text;
+	}
+
+	@Test
+	public void realToStringWriteTest()
+	{
+		Real real = CodecFactory.createReal();
+
+		// same text as toString() where toDouble() is exact, which it is not for positive exponents
+		long[] values = { 1, -1, 5, 99, 123, -555, 12345, 1234567, 9999999, 10000000, 12345678, 123456789012L, -987654321098L };
+		for (int hint = RealHints.EXPONENT_14; hint <= RealHints.FRACTION_256; ++hint)
+		{
+			if (hint > RealHints.EXPONENT0 && hint <= RealHints.EXPONENT7)
+				continue;
+			for (long value : values)
+			{
+				real.value(value, hint);
+				assertEquals(real.toString(), realWriteText(real));
+			}
+		}
+
+		real.value(1000, RealHints.EXPONENT2);
+		assertEquals("100000.0", realWriteText(real));
+		real.value(-21, RealHints.EXPONENT5);
+		assertEquals("-2100000.0", realWriteText(real));
+		real.value(21, RealHints.EXPONENT7);
+		assertEquals("2.1E8", realWriteText(real));
+
+		real.value(0, RealHints.EXPONENT_2);
+		assertEquals("0.00", realWriteText(real));
+		real.value(0, RealHints.INFINITY);
+		assertEquals("Inf", realWriteText(real));
+		real.value(0, RealHints.NEG_INFINITY);
+		assertEquals("-Inf", realWriteText(real));
+		real.value(0, RealHints.NOT_A_NUMBER);
+		assertEquals("NaN", realWriteText(real));
+		real.value("12.3400");
+		assertEquals("12.3400", realWriteText(real));
+
+		// exact where a double is not
+		real.value(7891955499999999L, RealHints.EXPONENT_14);
+		assertEquals("78.91955499999999", realWriteText(real));
+		real.value(Long.MAX_VALUE, RealHints.EXPONENT_4);
+		assertEquals("922337203685477.5807", realWriteText(real));
+		real.value(Long.MIN_VALUE, RealHints.EXPONENT_4);
+		assertEquals("-922337203685477.5808", realWriteText(real));
+		real.value(Long.MIN_VALUE, RealHints.EXPONENT0);
+		assertEquals("-9.223372036854775808E18", realWriteText(real));
+		real.value(28478055208394889L, RealHints.EXPONENT0);
+		assertEquals("2.8478055208394889E16", realWriteText(real));
+		real.value(1234567800L, RealHints.EXPONENT2);
+		assertEquals("1.2345678E11", realWriteText(real));
+		real.value(Long.MIN_VALUE, RealHints.FRACTION_256);
+		assertEquals("-3.6028797018963968E16", realWriteText(real));
+		real.value(3160493569L, RealHints.FRACTION_256);
+		assertEquals("1.234567800390625E7", realWriteText(real));
+		real.value(-3, RealHints.FRACTION_256);
+		assertEquals("-0.01171875", realWriteText(real));
+
+		// the text is not written past the end of the destination
+		byte[] bytes = new byte[8];
+		real.value(12345, RealHints.EXPONENT_2);
+		assertEquals(CodecReturnCodes.BUFFER_TOO_SMALL, real.toString(bytes, 3));
+		assertEquals(8, real.toString(bytes, 2));
+		assertEquals("123.45", new String(bytes, 2, 6));
+		assertEquals(CodecReturnCodes.INVALID_ARGUMENT, real.toString(null, 0));
+		assertEquals(CodecReturnCodes.INVALID_ARGUMENT, real.toString((ByteBuffer)null));
+	}
+
 	private void testDoubleToRealOutOfRange(double val, int hint)
 	{
 		Real testReal = CodecFactory.createReal();
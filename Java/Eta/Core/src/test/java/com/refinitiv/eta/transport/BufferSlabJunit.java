@@ -0,0 +1,218 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import com.refinitiv.eta.codec.Codec;
+
+public class BufferSlabJunit
+{
+    /* Slices are direct, sized, independent of each other, and regions double up to the maximum. */
+    @Test
+    public void slicesAndAccountingTest()
+    {
+        final int sliceSize = 12288;
+        BufferSlab slab = new BufferSlab(sliceSize);
+        assertEquals(0, slab.reservedBytes());
+        assertEquals(0, slab.usedBytes());
+
+        int maxSlices = BufferSlab.MAX_REGION_SIZE / sliceSize;
+        int count = BufferSlab.MIN_SLICES_PER_REGION * 2 + maxSlices * 2;
+        ByteBuffer[] slices = new ByteBuffer[count];
+        for (int i = 0; i < count; ++i)
+        {
+            slices[i] = slab.slice();
+            assertTrue(slices[i].isDirect());
+            assertEquals(sliceSize, slices[i].capacity());
+            assertEquals(0, slices[i].position());
+            assertEquals(sliceSize, slices[i].limit());
+
+            // fill the whole slice, which must not overwrite the previous ones
+            for (int j = 0; j < sliceSize; j += 4)
+                slices[i].putInt(j, i);
+        }
+
+        for (int i = 0; i < count; ++i)
+        {
+            assertEquals(i, slices[i].getInt(0));
+            assertEquals(i, slices[i].getInt(sliceSize - 4));
+        }
+
+        assertEquals((long)count * sliceSize, slab.usedBytes());
+        assertTrue(slab.reservedBytes() >= slab.usedBytes());
+
+        // 2, 4, 8, 16 and then maxSlices slices per region
+        long expectedReserved = 0;
+        int remaining = count;
+        int regionSlices = 0;
+        while (remaining > 0)
+        {
+            regionSlices = Math.min(regionSlices == 0 ? BufferSlab.MIN_SLICES_PER_REGION : regionSlices * 2, maxSlices);
+            expectedReserved += (long)regionSlices * sliceSize;
+            remaining -= regionSlices;
+        }
+        assertEquals(expectedReserved, slab.reservedBytes());
+    }
+
+    /* Buffers larger than a region get a region each. */
+    @Test
+    public void largeSliceTest()
+    {
+        final int sliceSize = BufferSlab.MAX_REGION_SIZE * 2;
+        BufferSlab slab = new BufferSlab(sliceSize);
+
+        ByteBuffer first = slab.slice();
+        ByteBuffer second = slab.slice();
+        assertEquals(sliceSize, first.capacity());
+        assertEquals(sliceSize, second.capacity());
+        assertEquals(2L * sliceSize, slab.reservedBytes());
+        assertEquals(2L * sliceSize, slab.usedBytes());
+    }
+
+    /* A pool with a slab counts its buffers out of and back into the pool. */
+    @Test
+    public void poolAccountingTest()
+    {
+        final int sliceSize = 1024;
+        BufferSlab slab = new BufferSlab(sliceSize);
+        Pool pool = new Pool(null);
+        pool._slab = slab;
+
+        TransportBufferImpl first = new TransportBufferImpl(pool, slab.slice());
+        TransportBufferImpl second = new TransportBufferImpl(pool, slab.slice());
+        assertEquals(2L * sliceSize, slab.usedBytes());
+
+        first.returnToPool();
+        assertEquals(sliceSize, slab.usedBytes());
+        assertSame(first, pool.poll());
+        assertEquals(2L * sliceSize, slab.usedBytes());
+
+        first.returnToPool();
+        second.returnToPool();
+        assertEquals(0, slab.usedBytes());
+        assertEquals(2L * sliceSize, slab.reservedBytes());
+    }
+
+    /* The used bytes of a server are those of the shared pool buffers in use. */
+    @Test
+    public void serverSharedPoolTest()
+    {
+        Error error = TransportFactory.createError();
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(false);
+        assertEquals(TransportReturnCodes.SUCCESS, Transport.initialize(initArgs, error));
+
+        BindOptions bindOpts = TransportFactory.createBindOptions();
+        bindOpts.serviceName("15912");
+        bindOpts.sharedPoolSize(20);
+        ServerImpl server = (ServerImpl)Transport.bind(bindOpts, error);
+        assertNotNull(error.text(), server);
+        ServerInfo info = TransportFactory.createServerInfo();
+
+        try
+        {
+            EtaNode first = server._sharedPool.poll();
+            EtaNode second = server._sharedPool.poll();
+            assertEquals(TransportReturnCodes.SUCCESS, server.info(info, error));
+            assertEquals(2, info.currentBufferUsage());
+            assertEquals(2L * server.bufferSize(), info.usedBufferBytes());
+            assertTrue(info.reservedBufferBytes() >= info.usedBufferBytes());
+
+            first.returnToPool();
+            assertEquals(TransportReturnCodes.SUCCESS, server.info(info, error));
+            assertEquals(1, info.currentBufferUsage());
+            assertEquals((long)server.bufferSize(), info.usedBufferBytes());
+
+            second.returnToPool();
+            assertEquals(TransportReturnCodes.SUCCESS, server.info(info, error));
+            assertEquals(0, info.usedBufferBytes());
+        }
+        finally
+        {
+            server.close(error);
+            Transport.uninitialize();
+        }
+    }
+
+    /* The bytes of a channel include its guaranteed output buffers, which are used while taken from it. */
+    @Test
+    public void channelGuaranteedBuffersTest() throws InterruptedException
+    {
+        Error error = TransportFactory.createError();
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(false);
+        assertEquals(TransportReturnCodes.SUCCESS, Transport.initialize(initArgs, error));
+
+        BindOptions bindOpts = TransportFactory.createBindOptions();
+        bindOpts.serviceName("15913");
+        bindOpts.guaranteedOutputBuffers(10);
+        Server server = Transport.bind(bindOpts, error);
+        assertNotNull(error.text(), server);
+        Channel client = null;
+        Channel serverChannel = null;
+        ChannelInfo info = TransportFactory.createChannelInfo();
+
+        try
+        {
+            ConnectOptions connectOpts = TransportFactory.createConnectOptions();
+            connectOpts.majorVersion(Codec.majorVersion());
+            connectOpts.minorVersion(Codec.minorVersion());
+            connectOpts.protocolType(Codec.protocolType());
+            connectOpts.guaranteedOutputBuffers(20);
+            connectOpts.unifiedNetworkInfo().address("localhost");
+            connectOpts.unifiedNetworkInfo().serviceName("15913");
+            client = Transport.connect(connectOpts, error);
+            assertNotNull(error.text(), client);
+
+            InProgInfo inProg = TransportFactory.createInProgInfo();
+            for (int i = 0; i < 200 && (serverChannel == null || serverChannel.state() != ChannelState.ACTIVE
+                    || client.state() != ChannelState.ACTIVE); i++)
+            {
+                if (serverChannel == null)
+                    serverChannel = server.accept(TransportFactory.createAcceptOptions(), error);
+                else if (serverChannel.state() != ChannelState.ACTIVE)
+                    assertTrue(error.text(), serverChannel.init(inProg, error) >= TransportReturnCodes.SUCCESS);
+                if (client.state() != ChannelState.ACTIVE)
+                    assertTrue(error.text(), client.init(inProg, error) >= TransportReturnCodes.SUCCESS);
+                Thread.sleep(10);
+            }
+            assertEquals(ChannelState.ACTIVE, client.state());
+
+            long bufferSize = ((RsslSocketChannel)client)._internalMaxFragmentSize;
+            assertEquals(TransportReturnCodes.SUCCESS, client.info(info, error));
+            assertEquals(20, info.guaranteedOutputBuffers());
+            assertTrue(info.reservedBufferBytes() >= 20 * bufferSize);
+            long unusedBytes = info.usedBufferBytes();
+
+            TransportBuffer buffer = client.getBuffer(100, false, error);
+            assertNotNull(error.text(), buffer);
+            assertEquals(TransportReturnCodes.SUCCESS, client.info(info, error));
+            assertEquals(unusedBytes + bufferSize, info.usedBufferBytes());
+
+            // the released buffer may stay in use as the buffer the channel packs into
+            assertEquals(TransportReturnCodes.SUCCESS, client.releaseBuffer(buffer, error));
+            assertEquals(TransportReturnCodes.SUCCESS, client.info(info, error));
+            assertEquals(unusedBytes + ((RsslSocketChannel)client)._used * bufferSize, info.usedBufferBytes());
+        }
+        finally
+        {
+            if (client != null)
+                client.close(error);
+            if (serverChannel != null)
+                serverChannel.close(error);
+            server.close(error);
+            Transport.uninitialize();
+        }
+    }
+}
@@ -8,7 +8,9 @@
 
 package com.refinitiv.eta.transport;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.io.*;
 import java.net.InetSocketAddress;
@@ -18,6 +20,7 @@ import java.nio.channels.SocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.security.Security;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
@@ -159,12 +162,51 @@ public class CryptoHelperTest
 		assertEquals("TLSv1.2", protocolFuture.get());
 	}
 	
+	@Test
+	public void shouldResumeSessionOnReconnection() throws IOException
+	{
+		String[] protocols = {TLSv12};
+		startServer(VALID_CERTIFICATE, protocols, null, 2);
+		createClientCryptoHelper(VALID_CERTIFICATE);
+		cryptoHelper.doHandshake();
+		byte[] sessionId = cryptoHelper._engine.getSession().getId();
+		reconnect(true);
+		assertArrayEquals(sessionId, cryptoHelper._engine.getSession().getId());
+	}
+
+	@Test
+	public void shouldNotResumeSessionWhenSessionResumptionIsDisabled() throws IOException
+	{
+		String[] protocols = {TLSv12};
+		startServer(VALID_CERTIFICATE, protocols, null, 2);
+		createClientCryptoHelper(VALID_CERTIFICATE, false);
+		cryptoHelper.doHandshake();
+		byte[] sessionId = cryptoHelper._engine.getSession().getId();
+		reconnect(false);
+		assertFalse(Arrays.equals(sessionId, cryptoHelper._engine.getSession().getId()));
+	}
+
+	private void reconnect(boolean sessionResumption) throws IOException
+	{
+		writeLine(cryptoHelper);
+		cryptoHelper.cleanup();
+		socketChannel.close();
+		createClientCryptoHelper(VALID_CERTIFICATE, sessionResumption);
+		cryptoHelper.doHandshake();
+		writeLine(cryptoHelper);
+	}
+
 	private void startServer(String keystoreFile) throws IOException
 	{
 		startServer(keystoreFile, null, null);
 	}
 	
 	private void startServer(String keystoreFile, String[] protocolVersions, Consumer<Socket> socketCallback) throws IOException
+	{
+		startServer(keystoreFile, protocolVersions, socketCallback, 1);
+	}
+
+	private void startServer(String keystoreFile, String[] protocolVersions, Consumer<Socket> socketCallback, int connections) throws IOException
 	{
 		SSLServerSocketFactory serverSocketFactory = initServerSSLContext(keystoreFile).getServerSocketFactory();
 		
@@ -179,31 +221,38 @@ public class CryptoHelperTest
 		
 		new Thread(() ->
 		{
-			try
+			for (int i = 0; i < connections; i++)
 			{
-				Socket socket = serverSocket.accept();
-				if(socketCallback != null){
-					socketCallback.accept(socket);
-				}
-				if(socket.isClosed())
+				try
 				{
-					return;
+					Socket socket = serverSocket.accept();
+					if(socketCallback != null){
+						socketCallback.accept(socket);
+					}
+					if(socket.isClosed())
+					{
+						continue;
+					}
+					BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+					String line;
+					while ((line = reader.readLine()) != null)
+					{
+						System.out.println("Received line: " + line);
+					}
+					socket.close();
 				}
-				BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
-				String line;
-				while ((line = reader.readLine()) != null)
-				{
-					System.out.println("Received line: " + line);
+				catch (Exception ex){
+					ex.printStackTrace();
 				}
-				socket.close();
-			}
-			catch (Exception ex){
-				ex.printStackTrace();
 			}
 		}).start();
 	}
 
 	private void createClientCryptoHelper(String keystoreFile) throws IOException {
+		createClientCryptoHelper(keystoreFile, true);
+	}
+
+	private void createClientCryptoHelper(String keystoreFile, boolean sessionResumption) throws IOException {
 		ConnectOptionsImpl options = new ConnectOptionsImpl();
 		options.encryptionOptions().KeystoreFile(keystoreFile);
 		options.encryptionOptions().KeystorePasswd(KEYSTORE_PASSWORD);
@@ -213,6 +262,7 @@ public class CryptoHelperTest
 		options.encryptionOptions().SecurityProtocol("TLS");
 		options.encryptionOptions().SecurityProtocolVersions(new String[] {"1.3", "1.2"});
 		options.encryptionOptions().SecurityProvider(clientSecurityProvider);
+		options.encryptionOptions().SessionResumption(sessionResumption);
 		options.unifiedNetworkInfo().address(LOCALHOST);
 		options.unifiedNetworkInfo().serviceName(Integer.toString(PORT));
 
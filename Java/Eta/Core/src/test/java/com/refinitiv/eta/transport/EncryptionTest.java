@@ -388,6 +388,7 @@ public class EncryptionTest {
 		connectOptions.encryptionOptions().SecurityProtocol("TLS");
 		connectOptions.encryptionOptions().SecurityProtocolVersions(new String[] {"1.3", "1.2"});
 		connectOptions.encryptionOptions().SecurityProvider(clientSecurityProvider);
+		connectOptions.encryptionOptions().SessionResumption(false);
 		connectOptions.tunnelingInfo().tunnelingType("None");
 		connectOptions.encryptionOptions().SecurityProtocol("TLS");
 		connectOptions.encryptionOptions().SecurityProtocolVersions(new String[] {"1.3", "1.2"});
@@ -417,6 +418,7 @@ public class EncryptionTest {
 			assertEquals(copyOptions.encryptionOptions().SecurityProtocolVersions()[i], connectOptions.encryptionOptions().SecurityProtocolVersions()[i]);
 		}
 		assertEquals(copyOptions.encryptionOptions().SecurityProvider(), connectOptions.encryptionOptions().SecurityProvider());
+		assertEquals(copyOptions.encryptionOptions().SessionResumption(), connectOptions.encryptionOptions().SessionResumption());
 		assertEquals(copyOptions.tunnelingInfo().tunnelingType(), connectOptions.tunnelingInfo().tunnelingType());
 		assertEquals(copyOptions.encryptionOptions().SecurityProtocol(), connectOptions.encryptionOptions().SecurityProtocol());
 		for (int i = 0; i < copyOptions.encryptionOptions().SecurityProtocolVersions().length; ++i)
@@ -0,0 +1,308 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.refinitiv.eta.codec.Codec;
+
+public class ShmemChannelJunit
+{
+    static final String SERVICE_NAME = "15911";
+
+    Error _error = TransportFactory.createError();
+    ReadArgs _readArgs = TransportFactory.createReadArgs();
+    Server _server;
+
+    @Before
+    public void setUp()
+    {
+        InitArgs initArgs = TransportFactory.createInitArgs();
+        initArgs.globalLocking(false);
+        assertEquals(TransportReturnCodes.SUCCESS, Transport.initialize(initArgs, _error));
+
+        BindOptions bindOpts = TransportFactory.createBindOptions();
+        bindOpts.connectionType(ConnectionTypes.UNIDIR_SHMEM);
+        bindOpts.serviceName(SERVICE_NAME);
+        bindOpts.majorVersion(Codec.majorVersion());
+        bindOpts.minorVersion(Codec.minorVersion());
+        bindOpts.protocolType(Codec.protocolType());
+        bindOpts.maxFragmentSize(64);
+        bindOpts.guaranteedOutputBuffers(8);
+        bindOpts.maxOutputBuffers(8);
+        bindOpts.serverBlocking(true);
+        bindOpts.shmemOpts().javaRing(true);
+        _server = Transport.bind(bindOpts, _error);
+        assertNotNull(_error.text(), _server);
+    }
+
+    @After
+    public void tearDown()
+    {
+        if (_server != null)
+            _server.close(_error);
+        Transport.uninitialize();
+    }
+
+    private Channel connect() throws InterruptedException
+    {
+        return connect(0);
+    }
+
+    private Channel connect(long maxReaderLag) throws InterruptedException
+    {
+        ConnectOptions connectOpts = TransportFactory.createConnectOptions();
+        connectOpts.connectionType(ConnectionTypes.UNIDIR_SHMEM);
+        connectOpts.shmemOpts().javaRing(true);
+        connectOpts.shmemOpts().maxReaderLag(maxReaderLag);
+        connectOpts.majorVersion(Codec.majorVersion());
+        connectOpts.minorVersion(Codec.minorVersion());
+        connectOpts.protocolType(Codec.protocolType());
+        connectOpts.unifiedNetworkInfo().address("localhost");
+        connectOpts.unifiedNetworkInfo().serviceName(SERVICE_NAME);
+        Channel channel = Transport.connect(connectOpts, _error);
+        assertNotNull(_error.text(), channel);
+        assertEquals(ChannelState.INITIALIZING, channel.state());
+        return channel;
+    }
+
+    /* Initializes the client channel once the server has sent its handshake. */
+    private void initialize(Channel channel) throws InterruptedException
+    {
+        InProgInfo inProg = TransportFactory.createInProgInfo();
+        int ret;
+        for (int i = 0; (ret = channel.init(inProg, _error)) == TransportReturnCodes.CHAN_INIT_IN_PROGRESS && i < 100; i++)
+            Thread.sleep(10);
+        assertEquals(_error.text(), TransportReturnCodes.SUCCESS, ret);
+        assertEquals(ChannelState.ACTIVE, channel.state());
+    }
+
+    private void write(Channel channel, int value)
+    {
+        TransportBuffer buffer = channel.getBuffer(4, false, _error);
+        assertNotNull(_error.text(), buffer);
+        buffer.data().putInt(value);
+        WriteArgs writeArgs = TransportFactory.createWriteArgs();
+        assertEquals(TransportReturnCodes.SUCCESS, channel.write(buffer, writeArgs, _error));
+    }
+
+    private int read(Channel channel)
+    {
+        TransportBuffer buffer = channel.read(_readArgs, _error);
+        assertNotNull("read returned " + _readArgs.readRetVal(), buffer);
+        assertEquals(4, buffer.length());
+        return buffer.data().getInt(buffer.dataStartPosition());
+    }
+
+    @Test
+    public void fanoutTest() throws InterruptedException
+    {
+        Channel client1 = connect();
+        Channel client2 = connect();
+        Channel writer1 = _server.accept(TransportFactory.createAcceptOptions(), _error);
+        assertNotNull(_error.text(), writer1);
+        Channel writer2 = _server.accept(TransportFactory.createAcceptOptions(), _error);
+        assertNotNull(_error.text(), writer2);
+        initialize(client1);
+        initialize(client2);
+
+        // the clients share the ring of the server: each message is written once and read by all clients
+        assertEquals(((RsslShmemChannel)client1).ringFile(), ((RsslShmemChannel)client2).ringFile());
+        write(writer1, 1);
+        write(writer2, 2);
+        write(writer1, 3);
+
+        for (Channel client : new Channel[] { client1, client2 })
+        {
+            assertEquals(1, read(client));
+            assertEquals(2, read(client));
+            assertEquals(3, read(client));
+            assertNull(client.read(_readArgs, _error));
+            assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, _readArgs.readRetVal());
+        }
+
+        assertEquals(TransportReturnCodes.SUCCESS, client1.close(_error));
+        assertEquals(TransportReturnCodes.SUCCESS, client2.close(_error));
+        assertEquals(TransportReturnCodes.SUCCESS, writer1.close(_error));
+        assertEquals(TransportReturnCodes.SUCCESS, writer2.close(_error));
+    }
+
+    @Test
+    public void readerWakeupTest() throws InterruptedException, IOException
+    {
+        Channel client = connect();
+        Channel writer = _server.accept(TransportFactory.createAcceptOptions(), _error);
+        assertNotNull(_error.text(), writer);
+        initialize(client);
+
+        Selector selector = Selector.open();
+        client.selectableChannel().register(selector, SelectionKey.OP_READ);
+
+        // a reader with nothing to read is not selected, and is woken by the first message
+        assertEquals(0, selector.selectNow());
+        write(writer, 7);
+        assertEquals(1, selector.select(1000));
+        selector.selectedKeys().clear();
+        assertEquals(7, read(client));
+
+        // the wakeup is consumed once the reader runs out of messages again
+        assertNull(client.read(_readArgs, _error));
+        assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, _readArgs.readRetVal());
+        assertEquals(0, selector.selectNow());
+
+        // messages written while the reader is not waiting do not wake it
+        write(writer, 8);
+        write(writer, 9);
+        assertEquals(1, selector.select(1000));
+        selector.selectedKeys().clear();
+        assertEquals(8, read(client));
+        assertEquals(9, read(client));
+        assertNull(client.read(_readArgs, _error));
+        assertEquals(0, selector.selectNow());
+        write(writer, 10);
+        write(writer, 11);
+        assertEquals(1, selector.select(1000));
+        selector.selectedKeys().clear();
+        assertEquals(10, read(client));
+        assertEquals(11, read(client));
+
+        // the reader is woken, and fails, when the writer closes
+        assertNull(client.read(_readArgs, _error));
+        assertEquals(TransportReturnCodes.SUCCESS, writer.close(_error));
+        assertEquals(1, selector.select(1000));
+        assertNull(client.read(_readArgs, _error));
+        assertEquals(TransportReturnCodes.FAILURE, _readArgs.readRetVal());
+        assertEquals(ChannelState.CLOSED, client.state());
+
+        selector.close();
+        assertEquals(TransportReturnCodes.SUCCESS, client.close(_error));
+    }
+
+    @Test
+    public void backPressureTest() throws InterruptedException
+    {
+        Channel client = connect();
+        Channel writer = _server.accept(TransportFactory.createAcceptOptions(), _error);
+        assertNotNull(_error.text(), writer);
+        initialize(client);
+
+        for (int i = 0; i < 7; i++)
+            write(writer, i);
+
+        // a buffer taken before the ring fills up is written again once the client has read
+        TransportBuffer buffer = writer.getBuffer(4, false, _error);
+        assertNotNull(_error.text(), buffer);
+        buffer.data().putInt(8);
+        write(writer, 7);
+        assertNull(writer.getBuffer(4, false, _error));
+        assertEquals(TransportReturnCodes.NO_BUFFERS, _error.errorId());
+        WriteArgs writeArgs = TransportFactory.createWriteArgs();
+        assertEquals(TransportReturnCodes.WRITE_CALL_AGAIN, writer.write(buffer, writeArgs, _error));
+
+        assertEquals(0, read(client));
+        assertEquals(TransportReturnCodes.SUCCESS, writer.write(buffer, writeArgs, _error));
+        for (int i = 1; i < 9; i++)
+            assertEquals(i, read(client));
+
+        assertEquals(TransportReturnCodes.SUCCESS, client.close(_error));
+        assertEquals(TransportReturnCodes.SUCCESS, writer.close(_error));
+    }
+
+    @Test
+    public void maxReaderLagTest() throws InterruptedException
+    {
+        Channel lagging = connect(4);
+        Channel client = connect();
+        Channel laggingWriter = _server.accept(TransportFactory.createAcceptOptions(), _error);
+        assertNotNull(_error.text(), laggingWriter);
+        Channel writer = _server.accept(TransportFactory.createAcceptOptions(), _error);
+        assertNotNull(_error.text(), writer);
+        initialize(lagging);
+        initialize(client);
+
+        // a client that lags by more than its maxReaderLag is disconnected rather than holding up the server
+        for (int i = 0; i < 9; i++)
+        {
+            write(writer, i);
+            assertEquals(i, read(client));
+        }
+
+        assertNull(laggingWriter.read(_readArgs, _error));
+        assertEquals(TransportReturnCodes.FAILURE, _readArgs.readRetVal());
+        assertNull(lagging.read(_readArgs, _error));
+        assertEquals(TransportReturnCodes.FAILURE, _readArgs.readRetVal());
+        assertEquals(ChannelState.CLOSED, lagging.state());
+
+        assertEquals(TransportReturnCodes.SUCCESS, lagging.close(_error));
+        assertEquals(TransportReturnCodes.SUCCESS, laggingWriter.close(_error));
+        assertEquals(TransportReturnCodes.SUCCESS, client.close(_error));
+        assertEquals(TransportReturnCodes.SUCCESS, writer.close(_error));
+    }
+
+    @Test
+    public void ringFileTest() throws InterruptedException, IOException
+    {
+        Channel client = connect();
+        Channel writer = _server.accept(TransportFactory.createAcceptOptions(), _error);
+        assertNotNull(_error.text(), writer);
+        initialize(client);
+
+        // the ring is in a directory of the user's that only the user can access
+        Path ringFile = ((RsslShmemChannel)writer).ringFile();
+        assertEquals(ShmemProtocol.ringDirectory(), ringFile.getParent());
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix"))
+        {
+            assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(ringFile.getParent(), LinkOption.NOFOLLOW_LINKS)));
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(ringFile, LinkOption.NOFOLLOW_LINKS)));
+        }
+
+        // the ring stays while accepted channels write to it, and goes away with the last of them
+        assertEquals(TransportReturnCodes.SUCCESS, _server.close(_error));
+        _server = null;
+        assertTrue(Files.exists(ringFile));
+        write(writer, 1);
+        assertEquals(1, read(client));
+        assertEquals(TransportReturnCodes.SUCCESS, writer.close(_error));
+        assertFalse(Files.exists(ringFile));
+
+        assertEquals(TransportReturnCodes.SUCCESS, client.close(_error));
+    }
+
+    @Test
+    public void readerDisconnectTest() throws InterruptedException
+    {
+        Channel client = connect();
+        Channel writer = _server.accept(TransportFactory.createAcceptOptions(), _error);
+        assertNotNull(_error.text(), writer);
+        initialize(client);
+
+        assertNull(writer.read(_readArgs, _error));
+        assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, _readArgs.readRetVal());
+
+        assertEquals(TransportReturnCodes.SUCCESS, client.close(_error));
+        Thread.sleep(50);
+        assertNull(writer.read(_readArgs, _error));
+        assertEquals(TransportReturnCodes.FAILURE, _readArgs.readRetVal());
+        assertEquals(ChannelState.CLOSED, writer.state());
+        assertEquals(TransportReturnCodes.SUCCESS, writer.close(_error));
+    }
+}
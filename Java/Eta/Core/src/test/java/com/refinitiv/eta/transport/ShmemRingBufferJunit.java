@@ -0,0 +1,389 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShmemRingBufferJunit
+{
+    Path _dir;
+    Path _file;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        _dir = Files.createTempDirectory("etaj_shmem_junit");
+        _file = _dir.resolve(ShmemProtocol.newRingFileName());
+    }
+
+    @After
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(_file);
+        Files.deleteIfExists(_dir);
+    }
+
+    private static ByteBuffer message(int value)
+    {
+        ByteBuffer buf = ByteBuffer.allocate(4);
+        buf.putInt(0, value);
+        return buf;
+    }
+
+    private ShmemRingBuffer open(ShmemRingBuffer writer, int readerIndex, long maxReaderLag) throws IOException
+    {
+        return ShmemRingBuffer.open(_file, readerIndex, writer.readerOwner(readerIndex), maxReaderLag);
+    }
+
+    private static int value(ShmemRingBuffer reader)
+    {
+        return reader.readView().getInt(reader.readView().position());
+    }
+
+    @Test
+    public void writeReadTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 4, 16, 2, 14, 1, 0);
+        ShmemRingBuffer reader = open(writer, writer.addReader(null), 0);
+
+        assertEquals(4, reader.numBuffers());
+        assertEquals(16, reader.maxBufferSize());
+        assertEquals(14, reader.majorVersion());
+        assertEquals(1, reader.minorVersion());
+        assertEquals(ShmemRingBuffer.READ_NO_DATA, reader.read());
+
+        for (int i = 0; i < 3; i++)
+            assertTrue(writer.write(message(i), 0, 4));
+        assertEquals(3, reader.pending());
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(4, reader.read());
+            assertEquals(i, value(reader));
+        }
+        assertEquals(0, reader.pending());
+        assertEquals(ShmemRingBuffer.READ_NO_DATA, reader.read());
+
+        // the last user of the ring closes it and deletes its file
+        writer.release();
+        assertEquals(ShmemRingBuffer.READ_WRITER_CLOSED, reader.read());
+        assertFalse(Files.exists(_file));
+    }
+
+    @Test
+    public void fanoutTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 4, 16, 2, 14, 1, 0);
+        ShmemRingBuffer reader1 = open(writer, writer.addReader(null), 0);
+        ShmemRingBuffer reader2 = open(writer, writer.addReader(null), 0);
+        assertEquals(-1, writer.addReader(null));
+
+        // every message is written once and read by every reader
+        for (int i = 0; i < 3; i++)
+            assertTrue(writer.write(message(i), 0, 4));
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(4, reader1.read());
+            assertEquals(i, value(reader1));
+            assertEquals(4, reader2.read());
+            assertEquals(i, value(reader2));
+        }
+
+        writer.release();
+    }
+
+    @Test
+    public void readerStartsAtCurrentSequenceTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 4, 16, 2, 14, 1, 0);
+        assertTrue(writer.write(message(1), 0, 4));
+
+        int readerIndex = writer.addReader(null);
+        assertTrue(writer.write(message(2), 0, 4));
+
+        // messages written between addReader and open are not lost
+        ShmemRingBuffer reader = open(writer, readerIndex, 0);
+        assertEquals(4, reader.read());
+        assertEquals(2, value(reader));
+        assertEquals(ShmemRingBuffer.READ_NO_DATA, reader.read());
+
+        writer.release();
+    }
+
+    @Test
+    public void backPressureTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 4, 16, 2, 14, 1, 0);
+        ShmemRingBuffer reader = open(writer, writer.addReader(null), 0);
+
+        for (int i = 0; i < 4; i++)
+            assertTrue(writer.write(message(i), 0, 4));
+
+        // the writer does not overwrite a message the reader has not read
+        assertFalse(writer.hasRoom());
+        assertFalse(writer.write(message(4), 0, 4));
+
+        assertEquals(4, reader.read());
+        assertEquals(0, value(reader));
+        assertTrue(writer.hasRoom());
+        assertTrue(writer.write(message(4), 0, 4));
+        for (int i = 1; i < 5; i++)
+        {
+            assertEquals(4, reader.read());
+            assertEquals(i, value(reader));
+        }
+
+        writer.release();
+    }
+
+    @Test
+    public void maxReaderLagTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 8, 16, 2, 14, 1, 0);
+        ShmemRingBuffer reader = open(writer, writer.addReader(null), 3);
+
+        for (int i = 0; i < 3; i++)
+            assertTrue(writer.write(message(i), 0, 4));
+        assertEquals(4, reader.read());
+
+        for (int i = 0; i < 2; i++)
+            assertTrue(writer.write(message(i), 0, 4));
+        // four messages pending, one more than the allowed lag
+        assertEquals(ShmemRingBuffer.READ_OVERRUN, reader.read());
+
+        writer.release();
+    }
+
+    @Test
+    public void evictionTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 4, 16, 2, 14, 1, 0);
+        int laggingIndex = writer.addReader(null);
+        ShmemRingBuffer lagging = open(writer, laggingIndex, 2);
+        ShmemRingBuffer reader = open(writer, writer.addReader(null), 0);
+
+        for (int i = 0; i < 4; i++)
+        {
+            assertTrue(writer.write(message(i), 0, 4));
+            assertEquals(4, reader.read());
+        }
+
+        // a full ring evicts the reader lagging by more than its maxReaderLag instead of holding up the writer
+        assertFalse(writer.readerEvicted(laggingIndex));
+        assertTrue(writer.write(message(4), 0, 4));
+        assertTrue(writer.readerEvicted(laggingIndex));
+        assertEquals(ShmemRingBuffer.READ_OVERRUN, lagging.read());
+
+        assertEquals(4, reader.read());
+        assertEquals(4, value(reader));
+
+        writer.release();
+    }
+
+    @Test
+    public void removeReaderTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 4, 16, 1, 14, 1, 0);
+        int readerIndex = writer.addReader(null);
+        long owner = writer.readerOwner(readerIndex);
+        ShmemRingBuffer reader = open(writer, readerIndex, 0);
+
+        for (int i = 0; i < 4; i++)
+            assertTrue(writer.write(message(i), 0, 4));
+
+        // a removed reader no longer holds up the writer, and sees the writer as closed
+        writer.removeReader(readerIndex);
+        assertTrue(writer.write(message(4), 0, 4));
+        assertEquals(ShmemRingBuffer.READ_WRITER_CLOSED, reader.read());
+
+        // its entry is given to the next reader, which the old one cannot attach to
+        assertEquals(readerIndex, writer.addReader(null));
+        try
+        {
+            ShmemRingBuffer.open(_file, readerIndex, owner, 0);
+            fail("expected IOException");
+        }
+        catch (IOException e)
+        {
+            // expected
+        }
+
+        writer.release();
+    }
+
+    @Test
+    public void readerWaitingTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 4, 16, 1, 14, 1, 0);
+        Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        ShmemRingBuffer reader = open(writer, writer.addReader(pipe.sink()), 0);
+        ByteBuffer wakeups = ByteBuffer.allocate(16);
+
+        // a new reader waits for the first message
+        assertTrue(writer.write(message(0), 0, 4));
+        assertEquals(1, pipe.source().read(wakeups));
+        assertEquals(4, reader.read());
+
+        // the reader is woken once per wait
+        assertFalse(reader.waitForWriter());
+        assertTrue(writer.write(message(1), 0, 4));
+        assertTrue(writer.write(message(2), 0, 4));
+        wakeups.clear();
+        assertEquals(1, pipe.source().read(wakeups));
+
+        // a reader that is behind does not need to wait
+        assertTrue(reader.waitForWriter());
+        assertEquals(4, reader.read());
+        assertEquals(1, value(reader));
+
+        writer.release();
+        pipe.sink().close();
+        pipe.source().close();
+    }
+
+    @Test
+    public void concurrentReadersTest() throws Exception
+    {
+        final int size = 64;
+        final int messages = 100000;
+        final ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 8, size, 2, 14, 1, 0);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread[] readers = new Thread[2];
+
+        for (int r = 0; r < readers.length; r++)
+        {
+            final ShmemRingBuffer reader = open(writer, writer.addReader(null), 0);
+            readers[r] = new Thread(new Runnable()
+            {
+                public void run()
+                {
+                    try
+                    {
+                        // every reader gets every message, whole and in order
+                        for (int i = 0; i < messages; )
+                        {
+                            int ret = reader.read();
+                            if (ret == ShmemRingBuffer.READ_NO_DATA)
+                            {
+                                Thread.yield();
+                                continue;
+                            }
+                            assertEquals(size, ret);
+                            ByteBuffer view = reader.readView();
+                            for (int j = 0; j < size; j += 4)
+                                assertEquals(i, view.getInt(view.position() + j));
+                            i++;
+                        }
+                    }
+                    catch (Throwable t)
+                    {
+                        failure.set(t);
+                    }
+                }
+            });
+            readers[r].start();
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        for (int i = 0; i < messages && failure.get() == null; )
+        {
+            for (int j = 0; j < size; j += 4)
+                buf.putInt(j, i);
+            if (writer.write(buf, 0, size))
+                i++;
+            else
+                Thread.yield();
+        }
+
+        for (Thread reader : readers)
+            reader.join(60000);
+        if (failure.get() != null)
+            throw new AssertionError(failure.get());
+
+        writer.release();
+    }
+
+    @Test
+    public void createTest() throws IOException
+    {
+        ShmemRingBuffer writer = ShmemRingBuffer.create(_file, 4, 16, 1, 14, 1, 0);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix"))
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(_file, LinkOption.NOFOLLOW_LINKS)));
+
+        // an existing file, or a link planted in its place, is never reused
+        try
+        {
+            ShmemRingBuffer.create(_file, 4, 16, 1, 14, 1, 0);
+            fail("expected FileAlreadyExistsException");
+        }
+        catch (FileAlreadyExistsException e)
+        {
+            // expected
+        }
+        assertTrue(Files.exists(_file));
+
+        Path link = _dir.resolve(ShmemProtocol.newRingFileName());
+        Files.createSymbolicLink(link, _file);
+        try
+        {
+            ShmemRingBuffer.create(link, 4, 16, 1, 14, 1, 0);
+            fail("expected FileAlreadyExistsException");
+        }
+        catch (FileAlreadyExistsException e)
+        {
+            // expected
+        }
+        finally
+        {
+            Files.delete(link);
+        }
+
+        writer.release();
+    }
+
+    @Test
+    public void openUninitializedFileTest() throws IOException
+    {
+        Files.write(_file, new byte[ShmemRingBuffer.HEADER_LENGTH]);
+        try
+        {
+            ShmemRingBuffer.open(_file, 0, 0, 0);
+            fail("expected IOException");
+        }
+        catch (IOException e)
+        {
+            // expected
+        }
+    }
+
+    @Test
+    public void ringFileNameTest()
+    {
+        assertTrue(ShmemProtocol.isRingFileName(ShmemProtocol.newRingFileName()));
+        assertNotEquals(ShmemProtocol.newRingFileName(), ShmemProtocol.newRingFileName());
+        assertFalse(ShmemProtocol.isRingFileName("../" + ShmemProtocol.newRingFileName()));
+        assertFalse(ShmemProtocol.isRingFileName(ShmemProtocol.SHMEM_FILE_PREFIX + "../../etc/passwd"));
+    }
+}
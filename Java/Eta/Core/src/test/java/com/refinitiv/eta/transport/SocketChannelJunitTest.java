@@ -1661,6 +1661,217 @@ public class SocketChannelJunitTest
     }
 
 
+    /*
+     * GIVEN a single input file containing a single complete packed message
+     * with two parts
+     * WHEN we invoke RsslSocketChannel.read(ReadArgs, int, ReadCallback, Error)
+     * with maxMessages of 1, and again with a larger maxMessages
+     * THEN the first call passes the 1st packed message to the callback
+     * AND the first call returns a value greater than SUCCESS
+     * AND the second call passes the 2nd packed message to the callback
+     * AND the second call returns SUCCESS
+     * AND a third call passes no message and returns WOULD_BLOCK
+     */
+    @Test
+    public void batchReadPackedMessage()
+    {
+        final String expectedFile = BASE_TEST_DATA_DIR_NAME + "/080_expected_single_complete_2part_packed.txt";
+        final String inputFile = BASE_TEST_DATA_DIR_NAME + "/080_input_single_complete_2part_packed.txt";
+
+        NetworkReplay replay = null;
+
+        try
+        {
+            initTransport(false); // initialize RSSL
+
+            // the messages we expect from calls to RsslSocketChannel.read() (does not include RIPC headers)
+            final byte[][] expectedMessages = parseExpectedMessages(expectedFile);
+
+            // load the messages to replay
+            replay = parseReplayFile(inputFile);
+
+            replay.startListener(DEFAULT_LISTEN_PORT);
+
+            // allocate a channel that reads from our NetworkReplay
+            RsslSocketChannel consumerChannel = createReplaySocketChannel(replay);
+
+            connectChannel(consumerChannel, DEFAULT_LISTEN_PORT); // connect to the NetworkReplay
+            waitForChannelActive(consumerChannel); // wait for the channel to become active
+
+            // initialize variables required for reading from a channel
+            final ReadArgs readArgs = TransportFactory.createReadArgs();
+            final Error error = TransportFactory.createError();
+            final java.util.List<byte[]> messages = new java.util.ArrayList<byte[]>();
+            ReadCallback callback = (channel, msgBuf) ->
+            {
+                assertTrue(channel == consumerChannel);
+                messages.add(getBytesFromBuffer(msgBuf));
+                return TransportReturnCodes.SUCCESS;
+            };
+
+            // the first call stops after maxMessages
+            assertEquals(1, consumerChannel.read(readArgs, 1, callback, error));
+            assertTrue(readArgs.readRetVal() > TransportReturnCodes.SUCCESS);
+            assertEquals(1, messages.size());
+            assertArrayEquals(expectedMessages[1], messages.get(0)); //first array element is initial RIPC message
+
+            int headerAndDataLen = firstPackedHeaderLength() + expectedMessages[1].length +
+                                   additionalPackedHeaderLength()+ expectedMessages[2].length;
+            assertEquals(headerAndDataLen, readArgs.bytesRead());
+            assertEquals(headerAndDataLen, readArgs.uncompressedBytesRead());
+
+            // the second call drains the rest of the packed message
+            readArgs.clear();
+            assertEquals(1, consumerChannel.read(readArgs, 10, callback, error));
+            assertEquals(TransportReturnCodes.SUCCESS, readArgs.readRetVal());
+            assertEquals(2, messages.size());
+            assertArrayEquals(expectedMessages[2], messages.get(1));
+            assertEquals(0, readArgs.bytesRead());
+            assertEquals(0, readArgs.uncompressedBytesRead());
+
+            readArgs.clear();
+            assertEquals(0, consumerChannel.read(readArgs, 10, callback, error));
+            assertEquals(TransportReturnCodes.READ_WOULD_BLOCK, readArgs.readRetVal()); // no more data
+            assertEquals(2, messages.size());
+        }
+        catch (IOException e)
+        {
+            fail(e.getLocalizedMessage());
+        }
+        finally
+        {
+            if (replay != null)
+            {
+                replay.stopListener();
+            }
+
+            assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+        }
+    }
+
+    /*
+     * GIVEN a single input file containing a single complete packed message
+     * with two parts
+     * WHEN we invoke RsslSocketChannel.read(ReadArgs, int, ReadCallback, Error)
+     * with a callback that returns a failure for the first message
+     * THEN the call passes only the 1st packed message to the callback
+     * AND the call returns a value greater than SUCCESS
+     * AND the read lock is released
+     */
+    @Test
+    public void batchReadStoppedByCallback()
+    {
+        final String expectedFile = BASE_TEST_DATA_DIR_NAME + "/080_expected_single_complete_2part_packed.txt";
+        final String inputFile = BASE_TEST_DATA_DIR_NAME + "/080_input_single_complete_2part_packed.txt";
+
+        NetworkReplay replay = null;
+
+        try
+        {
+            initTransport(true); // initialize RSSL
+
+            final byte[][] expectedMessages = parseExpectedMessages(expectedFile);
+
+            replay = parseReplayFile(inputFile);
+            replay.startListener(DEFAULT_LISTEN_PORT);
+
+            RsslSocketChannel consumerChannel = createReplaySocketChannel(replay);
+            ReentrantLock readLock = new ReentrantLock();
+
+            connectChannel(consumerChannel, DEFAULT_LISTEN_PORT); // connect to the NetworkReplay
+            waitForChannelActive(consumerChannel); // wait for the channel to become active
+
+            consumerChannel.readLock(readLock);
+            final ReadArgs readArgs = TransportFactory.createReadArgs();
+            final Error error = TransportFactory.createError();
+            final java.util.List<byte[]> messages = new java.util.ArrayList<byte[]>();
+
+            assertEquals(1, consumerChannel.read(readArgs, 10, (channel, msgBuf) ->
+            {
+                messages.add(getBytesFromBuffer(msgBuf));
+                return TransportReturnCodes.FAILURE;
+            }, error));
+            assertTrue(readArgs.readRetVal() > TransportReturnCodes.SUCCESS);
+            assertEquals(1, messages.size());
+            assertArrayEquals(expectedMessages[1], messages.get(0));
+            assertTrue(!readLock._lock.isLocked());
+
+            // the remaining message is still available to the next read
+            TransportBuffer msgBuf;
+            assertTrue((msgBuf = consumerChannel.read(readArgs, error)) != null);
+            assertEquals(TransportReturnCodes.SUCCESS, readArgs.readRetVal());
+            assertArrayEquals(expectedMessages[2], getBytesFromBuffer(msgBuf));
+        }
+        catch (IOException e)
+        {
+            fail(e.getLocalizedMessage());
+        }
+        finally
+        {
+            if (replay != null)
+            {
+                replay.stopListener();
+            }
+
+            assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+        }
+    }
+
+    /*
+     * GIVEN a read lock that cannot be obtained
+     * WHEN we invoke RsslSocketChannel.read(ReadArgs, int, ReadCallback, Error)
+     * THEN no message is passed to the callback
+     * AND the call returns READ_IN_PROGRESS
+     */
+    @Test
+    public void batchReadLockFailure()
+    {
+        NetworkReplay replay = null;
+
+        try
+        {
+            initTransport(true); // initialize RSSL
+
+            replay = parseReplayFile(RIPC_CONNECT_ACK_HANDSHAKE_FILE);
+            replay.startListener(DEFAULT_LISTEN_PORT);
+
+            // allocate a channel that reads from our NetworkReplay
+            RsslSocketChannel consumerChannel = createReplaySocketChannel(replay);
+
+            // create a mock read lock that cannot be obtained
+            Lock readLock = Mockito.mock(Lock.class);
+            when(readLock.trylock()).thenReturn(false);
+
+            connectChannel(consumerChannel, DEFAULT_LISTEN_PORT); // connect to the NetworkReplay
+            waitForChannelActive(consumerChannel); // wait for the channel to become active
+
+            consumerChannel.readLock(readLock);
+            final ReadArgs readArgs = TransportFactory.createReadArgs();
+            final Error error = TransportFactory.createError();
+
+            assertEquals(0, consumerChannel.read(readArgs, 10, (channel, msgBuf) ->
+            {
+                fail("no message expected");
+                return TransportReturnCodes.SUCCESS;
+            }, error));
+            assertEquals(TransportReturnCodes.READ_IN_PROGRESS, readArgs.readRetVal());
+            verify(readLock, never()).unlock();
+        }
+        catch (IOException e)
+        {
+            fail(e.getLocalizedMessage());
+        }
+        finally
+        {
+            if (replay != null)
+            {
+                replay.stopListener();
+            }
+
+            assertEquals(TransportReturnCodes.SUCCESS, Transport.uninitialize());
+        }
+    }
+
     /*
      * GIVEN a file containing the RIPC handshake, and a fragmented message
      * consisting of one "fragment header" message, and one "fragment"
@@ -941,7 +941,7 @@ public class SocketReadWriteJunit {
         return TransportReturnCodes.FAILURE;
     }
 
-    public void writeFragmentedRWFMessage(boolean directWrite) {
+    public void writeFragmentedRWFMessage(boolean directWrite, boolean zeroCopy) {
         Transport._globalLock = new DummyLock();
         RsslSocketChannel channel = new RsslSocketChannel(ConnectionTypes.SOCKET, Codec.RWF_PROTOCOL_TYPE);
 
@@ -970,6 +970,10 @@ public class SocketReadWriteJunit {
 
         channel._scktChannel = socketHelperMock;
 
+        if (zeroCopy) {
+            assertEquals(TransportReturnCodes.SUCCESS, channel.ioctl(IoctlCodes.ZERO_COPY_FRAGMENT_WRITE, 1, error));
+        }
+
         WriteArgs writeArgs = TransportFactory.createWriteArgs();
 
         TransportBuffer writeBuffer = null;
@@ -1076,6 +1080,61 @@ public class SocketReadWriteJunit {
 
         // Checks the data of the next fragmented message
         assertEquals(0, RWF_MSG_2_ByteBuffer.compareTo(msgBuffer3));
+
+        // the big buffer is back in its pool once all fragments are written
+        assertEquals(0, ((BigBuffer)writeBuffer)._pendingSlices);
+        assertTrue(((BigBuffer)writeBuffer)._inPool);
+    }
+
+    /* Writes RWF_MSG_2 as a fragmented message on an HTTP tunneled consumer channel and returns the bytes written to the network. */
+    private byte[] writeFragmentedHttpRWFMessage(boolean zeroCopy) {
+        Transport._globalLock = new DummyLock();
+        RsslSocketChannel channel = new RsslHttpSocketChannel();
+
+        /* Overrides the default max fragmentation size */
+        channel._channelInfo._maxFragmentSize = CHANNEL_INFO_MAX_FRAGMENT_SIZE;
+        channel._internalMaxFragmentSize = MAX_FRAGMENT_SIZE;
+
+        channel._ipcProtocol = new Ripc14Protocol();
+        channel._ipcProtocol.channel(channel);
+
+        Error error = TransportFactory.createError();
+
+        channel._protocolType = Codec.RWF_PROTOCOL_TYPE;
+        channel._state = ChannelState.ACTIVE;
+        channel._readIoBuffer = channel.acquirePair(RsslSocketChannel.MIN_READ_BUFFER_SIZE); // the "read buffer" for network I/O
+        channel._appReadBuffer.data(channel._readIoBuffer.readOnly());
+        channel._protocolFunctions = new RipcProtocolFunctions(channel);
+        channel._readBufStateMachine.initialize(channel._readIoBuffer, channel._protocolFunctions);
+        channel._readBufStateMachine.ripcVersion(Ripc.RipcVersions.VERSION14);
+
+        channel.createBigBufferPool(channel._internalMaxFragmentSize);
+
+        channel._transport = new SocketProtocol();
+        channel.growGuaranteedOutputBuffers(100);
+
+        SocketHelperMock socketHelperMock = new SocketHelperMock();
+        channel._scktChannel = socketHelperMock;
+
+        if (zeroCopy) {
+            assertEquals(TransportReturnCodes.SUCCESS, channel.ioctl(IoctlCodes.ZERO_COPY_FRAGMENT_WRITE, 1, error));
+        }
+
+        WriteArgs writeArgs = TransportFactory.createWriteArgs();
+        writeArgs.flags(WriteFlags.DIRECT_SOCKET_WRITE);
+
+        TransportBuffer writeBuffer = channel.getBuffer(RWF_MSG_2.length(), false, error);
+        assertNotNull(writeBuffer);
+        writeBuffer.data().put(RWF_MSG_2.getBytes());
+
+        assertEquals(0, channel.write(writeBuffer, writeArgs, error));
+
+        // the fragments are copied, so no gathered slices of the big buffer were written
+        assertEquals(0, channel._gatherSlicePool.size());
+
+        byte[] networkBytes = new byte[socketHelperMock.networkBuffer().position()];
+        System.arraycopy(socketHelperMock.networkBuffer().array(), 0, networkBytes, 0, networkBytes.length);
+        return networkBytes;
     }
 
     public void readFragmentedRWFMessages(boolean compressed) {
@@ -1277,14 +1336,108 @@ public class SocketReadWriteJunit {
         writeCompressedRWFMessages(false, true);
     }
 
+    @Test
+    public void writeAdaptiveCompressedRWFMessages() {
+        Transport._globalLock = new DummyLock();
+        RsslSocketChannel channel = new RsslSocketChannel(ConnectionTypes.SOCKET, Codec.RWF_PROTOCOL_TYPE);
+        channel._compressor = new ZlibCompressor();
+        channel._sessionOutCompression = Ripc.CompressionTypes.ZLIB;
+        channel._sessionCompLowThreshold = 30;
+
+        Error error = TransportFactory.createError();
+
+        channel._state = ChannelState.ACTIVE;
+        channel._readIoBuffer = channel.acquirePair(RsslSocketChannel.MIN_READ_BUFFER_SIZE); // the "read buffer" for network I/O
+        channel._appReadBuffer.data(channel._readIoBuffer.readOnly());
+        channel._protocolFunctions = new RipcProtocolFunctions(channel);
+        channel._readBufStateMachine.initialize(channel._readIoBuffer, channel._protocolFunctions);
+
+        channel._transport = new SocketProtocol();
+        channel.growGuaranteedOutputBuffers(100);
+
+        SocketHelperMock socketHelperMock = new SocketHelperMock();
+        channel._scktChannel = socketHelperMock;
+
+        assertEquals(TransportReturnCodes.SUCCESS, channel.ioctl(IoctlCodes.ADAPTIVE_COMPRESSION, 1, error));
+
+        byte[] randomMsg = new byte[200];
+        new java.util.Random(7).nextBytes(randomMsg);
+        byte[] repetitiveMsg = new byte[1000];
+
+        // random data is compressed while it is sampled
+        for (int i = 0; i < AdaptiveCompression.SAMPLE_COUNT; ++i) {
+            assertTrue((writeAndGetRipcFlags(channel, socketHelperMock, randomMsg, error) & Ripc.Flags.COMPRESSION) != 0);
+        }
+
+        // then sent uncompressed, as is
+        assertEquals(RsslSocketChannel.IPC_DATA, writeAndGetRipcFlags(channel, socketHelperMock, randomMsg, error));
+        ByteBuffer payload = ByteBuffer.wrap(socketHelperMock.networkBuffer().array(), RsslSocketChannel.RIPC_HDR_SIZE, randomMsg.length);
+        assertEquals(0, ByteBuffer.wrap(randomMsg).compareTo(payload));
+
+        // messages of other sizes are still compressed
+        assertTrue((writeAndGetRipcFlags(channel, socketHelperMock, repetitiveMsg, error) & Ripc.Flags.COMPRESSION) != 0);
+
+        // a probe is compressed once per interval
+        for (int i = 1; i < AdaptiveCompression.PROBE_INTERVAL - 1; ++i) {
+            assertEquals(RsslSocketChannel.IPC_DATA, writeAndGetRipcFlags(channel, socketHelperMock, randomMsg, error));
+        }
+        assertTrue((writeAndGetRipcFlags(channel, socketHelperMock, randomMsg, error) & Ripc.Flags.COMPRESSION) != 0);
+
+        CompressionStatsImpl stats = new CompressionStatsImpl();
+        channel._adaptiveCompression.stats(stats);
+        assertEquals(AdaptiveCompression.SAMPLE_COUNT + 2, stats.compressedMsgCount());
+        assertEquals(AdaptiveCompression.PROBE_INTERVAL - 1, stats.skippedMsgCount());
+        assertEquals((AdaptiveCompression.PROBE_INTERVAL - 1) * randomMsg.length, stats.skippedBytes());
+        assertTrue(stats.compressedBytesOut() < stats.compressedBytesIn());
+        assertTrue(stats.skipsLength(randomMsg.length));
+        assertFalse(stats.skipsLength(repetitiveMsg.length));
+
+        assertEquals(TransportReturnCodes.SUCCESS, channel.ioctl(IoctlCodes.ADAPTIVE_COMPRESSION, 0, error));
+        assertTrue((writeAndGetRipcFlags(channel, socketHelperMock, randomMsg, error) & Ripc.Flags.COMPRESSION) != 0);
+    }
+
+    private int writeAndGetRipcFlags(RsslSocketChannel channel, SocketHelperMock socketHelperMock, byte[] msg, Error error) {
+        socketHelperMock.networkBuffer().clear();
+
+        TransportBuffer writeBuffer = channel.getBuffer(msg.length, false, error);
+        assertNotNull(writeBuffer);
+        writeBuffer.data().put(msg);
+
+        WriteArgs writeArgs = TransportFactory.createWriteArgs();
+        assertTrue(channel.write(writeBuffer, writeArgs, error) >= TransportReturnCodes.SUCCESS);
+        assertEquals(0, channel.flush(error));
+
+        return socketHelperMock.networkBuffer().get(2);
+    }
+
     @Test
     public void writeFragmentedRWFMessage_DirectWrite() {
-        writeFragmentedRWFMessage(true);
+        writeFragmentedRWFMessage(true, false);
     }
 
     @Test
     public void writeFragmentedRWFMessage() {
-        writeFragmentedRWFMessage(false);
+        writeFragmentedRWFMessage(false, false);
+    }
+
+    @Test
+    public void writeFragmentedRWFMessage_ZeroCopyDirectWrite() {
+        writeFragmentedRWFMessage(true, true);
+    }
+
+    @Test
+    public void writeFragmentedRWFMessage_ZeroCopy() {
+        writeFragmentedRWFMessage(false, true);
+    }
+
+    @Test
+    public void writeFragmentedRWFMessage_ZeroCopyHttp() {
+        /* HTTP tunneled channels keep the copying path */
+        byte[] copiedBytes = writeFragmentedHttpRWFMessage(false);
+        byte[] zeroCopyBytes = writeFragmentedHttpRWFMessage(true);
+
+        assertTrue(copiedBytes.length > RWF_MSG_2.length());
+        assertEquals(copiedBytes.length, zeroCopyBytes.length);
     }
 
     @Test
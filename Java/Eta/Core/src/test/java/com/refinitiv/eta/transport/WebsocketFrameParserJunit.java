@@ -11,6 +11,7 @@ package com.refinitiv.eta.transport;
 import static org.junit.Assert.*;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import com.refinitiv.eta.JUnitConfigVariables;
 import com.refinitiv.eta.RetryRule;
@@ -326,4 +327,44 @@ public class WebsocketFrameParserJunit
 		
 		assertEquals(0, originalBufer.compareTo(msgBuffer));
 	}
+
+	@Test
+	public void webSocketClientMaskMatchesBytewiseMask()
+	{
+		int maskValue = WebSocketFrameParser.getRandomValue();
+		byte[] mask = new byte[4];
+		WebSocketFrameParser.setMaskKey(mask, maskValue);
+
+		/* Cover every tail length, odd payload offsets and both buffer byte orders */
+		for (int length = 0; length <= 67; length++)
+		{
+			for (int offset = 0; offset < 3; offset++)
+			{
+				byte[] original = new byte[offset + length + 3];
+				for (int i = 0; i < original.length; i++)
+				{
+					original[i] = (byte)WebSocketFrameParser.getRandomValue();
+				}
+
+				byte[] expected = original.clone();
+				for (int i = 0; i < length; i++)
+				{
+					expected[offset + i] ^= mask[i % 4];
+				}
+
+				ByteBuffer heapBuffer = ByteBuffer.wrap(original.clone());
+				WebSocketFrameParser.maskDataBlock(maskValue, heapBuffer, offset, length);
+				assertArrayEquals(expected, heapBuffer.array());
+				assertEquals(0, heapBuffer.position());
+
+				ByteBuffer directBuffer = ByteBuffer.allocateDirect(original.length).order(ByteOrder.LITTLE_ENDIAN);
+				directBuffer.put(original);
+				WebSocketFrameParser.maskDataBlock(maskValue, directBuffer, offset, length);
+				byte[] actual = new byte[original.length];
+				directBuffer.flip();
+				directBuffer.get(actual);
+				assertArrayEquals(expected, actual);
+			}
+		}
+	}
 }
@@ -0,0 +1,86 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.transport.crypto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.security.KeyStore;
+import java.security.NoSuchAlgorithmException;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+import org.junit.Test;
+
+import com.refinitiv.eta.transport.EncryptionOptions;
+import com.refinitiv.eta.transport.TransportFactory;
+
+public class SSLContextFactoryTest
+{
+	// creates contexts without a keystore, so that only the options differ between them
+	private SSLContextFactory _factory = new SSLContextFactory(
+			options -> null,
+			(options, keyStore) -> {
+				try {
+					KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+					keyManagerFactory.init(null, null);
+					return keyManagerFactory;
+				} catch (Exception e) {
+					throw new IOException(e);
+				}
+			},
+			(options, keyStore) -> {
+				try {
+					TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+					trustManagerFactory.init((KeyStore)null);
+					return trustManagerFactory;
+				} catch (NoSuchAlgorithmException | java.security.KeyStoreException e) {
+					throw new IOException(e);
+				}
+			});
+
+	private EncryptionOptions options(String keystoreFile)
+	{
+		EncryptionOptions options = TransportFactory.createConnectOptions().encryptionOptions();
+		options.KeystoreFile(keystoreFile);
+		options.SecurityProtocol("TLS");
+		options.SecurityProvider("SunJSSE");
+		return options;
+	}
+
+	@Test
+	public void sharedContextTest() throws IOException
+	{
+		SSLContext context = _factory.createShared(options("sharedContextTest.jks"));
+		assertSame(context, _factory.createShared(options("sharedContextTest.jks")));
+		assertNotSame(context, _factory.createShared(options("sharedContextTest2.jks")));
+		assertNotSame(context, _factory.create(options("sharedContextTest.jks")));
+	}
+
+	@Test
+	public void boundedSharedContextsTest() throws IOException
+	{
+		SSLContext first = _factory.createShared(options("boundedTest0.jks"));
+		SSLContext recent = _factory.createShared(options("boundedTest1.jks"));
+		for (int i = 2; i < 2 * SSLContextFactory.MAX_SHARED_CONTEXTS; i++)
+		{
+			// keep one context in use, so it stays while the others are dropped
+			assertSame(recent, _factory.createShared(options("boundedTest1.jks")));
+			_factory.createShared(options("boundedTest" + i + ".jks"));
+		}
+
+		assertEquals(SSLContextFactory.MAX_SHARED_CONTEXTS, SSLContextFactory.sharedContextCount());
+		assertSame(recent, _factory.createShared(options("boundedTest1.jks")));
+		assertNotSame(first, _factory.createShared(options("boundedTest0.jks")));
+	}
+}
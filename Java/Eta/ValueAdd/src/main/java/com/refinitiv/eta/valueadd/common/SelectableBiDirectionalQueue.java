@@ -13,8 +13,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Pipe;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.spi.SelectorProvider;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
 /**
@@ -22,15 +21,19 @@ import java.util.function.Predicate;
  * and Worker threads. To be useful this queue needs a local and remote end. Initially
  * this class operates on the local end of the queues. To operate on the remote end
  * of the queues, call {@link #remote()}.
+ * <p>
+ * Each direction is a lock-free {@link VaRingQueue} read by a single thread. A byte is
+ * written to the Pipe only when the reader has drained its queue, so a burst of events
+ * costs one wakeup and the reader's selector stays the only place the reader waits.
  */
 public class SelectableBiDirectionalQueue
 {
-    int DEFAULT_BUFFER_SIZE = 2;
+    int DEFAULT_BUFFER_SIZE = 1;
     SelectableBiDirectionalQueue _remote;
     
     // Queues are used to pass events.
-    VaQueue _writeQueue;
-    VaQueue _readQueue;
+    VaRingQueue _writeQueue;
+    VaRingQueue _readQueue;
 
     // Pipes are used to trigger selectors to notify when to read.
     Pipe _writePipe;
@@ -38,28 +41,33 @@ public class SelectableBiDirectionalQueue
     ByteBuffer _writeBuffer;
     ByteBuffer _readBuffer;
 
-    // Locks are used for concurrency.
-    Lock _writeLock;
-    Lock _readLock;
+    // Several threads may write to the same end, the byte is written from a per-thread buffer.
+    static final ThreadLocal<ByteBuffer> _notifyBuffer = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(1));
 
     // inner class to share a boolean between threads
-    class NotifiedState
+    class NotifiedState extends AtomicBoolean
     {
-        boolean _notified = false;
+        private static final long serialVersionUID = 1L;
 
         public void set()
         {
-            _notified = true;
+            set(true);
         }
 
         public boolean isSet()
         {
-            return _notified;
+            return get();
         }
 
         public void clear()
         {
-            _notified = false;
+            set(false);
+        }
+
+        // returns true if this call changed the state from cleared to set.
+        boolean trySet()
+        {
+            return !get() && compareAndSet(false, true);
         }
     }
 
@@ -97,12 +105,8 @@ public class SelectableBiDirectionalQueue
         _readBuffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
 
         /* create queues used to pass VaNodes. */
-        _writeQueue = new VaQueue();
-        _readQueue = new VaQueue();
-
-        /* create locks */
-        _writeLock = new ReentrantLock();
-        _readLock = new ReentrantLock();
+        _writeQueue = new VaRingQueue();
+        _readQueue = new VaRingQueue();
 
         _writeNotifier = new NotifiedState();
         _readNotifier = new NotifiedState();
@@ -137,8 +141,6 @@ public class SelectableBiDirectionalQueue
         _readBuffer = sq._writeBuffer;
         _writeQueue = sq._readQueue;
         _readQueue = sq._writeQueue;
-        _writeLock = sq._readLock;
-        _readLock = sq._writeLock;
         _writeNotifier = sq._readNotifier;
         _readNotifier = sq._writeNotifier;
         _shutdown = sq._shutdown;
@@ -181,9 +183,10 @@ public class SelectableBiDirectionalQueue
      * Once the selector fires for the key (registered on {@link #readChannel()}
      * ), read should be called until it returns null or
      * {@link #readQueueSize()} is zero. This will reset the internal notifier
-     * and allow the selector to fire again later.
+     * and allow the selector to fire again later. Only one thread may read
+     * from an end of the queue.
      * 
-     * @return ReactorEvent
+     * @return ReactorEvent, or null if the queue is empty
      */
     public VaNode read()
     {
@@ -192,41 +195,42 @@ public class SelectableBiDirectionalQueue
 
         VaNode node = null;
 
-        _readLock.lock();
-        
-        if (_shutdown.isSet())
-        {
-        	_readLock.unlock();
-            return null;
-        }
-        
         try
         {
             node = _readQueue.poll();
-            if (node == null)
-                System.out
-                        .println("SelectableBiDirectionalQueue.read: node was unexpectedly null?");
 
-            if (_readQueue.size() == 0)
+            if (_readQueue.isEmpty() && _readNotifier.isSet())
             {
-                // _readQueue is empty, clear the readNotifier.
-                _readBuffer.clear();
-
                 /*
-                 * Note: Windows OS actually sets the notifier (for the
-                 * SelectableChannel) before the data may be available, so
-                 * sometimes read will return zero. ignore it and clear the
-                 * _readNotifier so the far end will be forced to send anothe
-                 * byte on the Pipe and cause the SelectableChannel to be
-                 * notified again.
+                 * _readQueue is empty, consume the byte written when the notifier was set.
+                 * The writer may still be about to write it (Windows OS may also signal
+                 * the SelectableChannel before the data is available), so wait for it;
+                 * otherwise the selector would keep firing for an empty queue.
                  */
-                int cnt = _readPipe.source().read(_readBuffer);
+                int cnt;
+                do
+                {
+                    _readBuffer.clear();
+                    cnt = _readPipe.source().read(_readBuffer);
+                    if (cnt == 0)
+                        Thread.yield();
+                }
+                while (cnt == 0 && !_shutdown.isSet());
+
                 if (cnt == -1)
                 {
                     System.out.println("SelectableBiDirectionalQueue.read: return returned -1");
                     shutdown();
+                    return node;
                 }
                 _readNotifier.clear();
+
+                /*
+                 * A writer that added an event after the queue was seen empty found the
+                 * notifier still set and did not write a byte, notify on its behalf.
+                 */
+                if (!_readQueue.isEmpty() && _readNotifier.trySet())
+                    notifyPipe(_readPipe);
             }
         }
         catch (IOException e)
@@ -236,10 +240,6 @@ public class SelectableBiDirectionalQueue
             e.printStackTrace();
             shutdown();
         }
-        finally
-        {
-            _readLock.unlock();
-        }
 
         return node;
     }
@@ -256,46 +256,39 @@ public class SelectableBiDirectionalQueue
         if (_shutdown.isSet())
             return false;
 
-        _writeLock.lock();
-        
-        if (_shutdown.isSet())
-        {
-        	_writeLock.unlock();
-            return false;
-        }
-        
-        try
+        _writeQueue.add(node);
+
+        // only the writer that sets the notifier sends a byte, the reader clears it once drained.
+        if (_writeNotifier.trySet())
         {
-            _writeQueue.add(node);
-            if (_writeNotifier.isSet() == false)
+            try
             {
-                // the writeNotifier was not set, need to send a byte and set
-                // the notifier.
-                _writeNotifier.set();
-                _writeBuffer.clear();
-                _writeBuffer.put((byte)0);
-                _writeBuffer.flip();
-                int cnt = _writePipe.sink().write(_writeBuffer);
-                if (cnt != 1)
-                {
-                    System.out
-                            .println("SelectableBiDirectionalQueue.write: expected to write 1 byte but wrote "
-                                    + cnt);
-                    shutdown();
-                }
+                notifyPipe(_writePipe);
+            }
+            catch (IOException e)
+            {
+                System.out.println("SelectableBiDirectionalQueue.write: failed, execption="
+                        + e.getLocalizedMessage() + " stacktrace=" + e.getStackTrace().toString());
+                shutdown();
             }
         }
-        catch (IOException e)
+        return true;
+    }
+
+    private void notifyPipe(Pipe pipe) throws IOException
+    {
+        ByteBuffer buffer = _notifyBuffer.get();
+        buffer.clear();
+        buffer.put((byte)0);
+        buffer.flip();
+        int cnt = pipe.sink().write(buffer);
+        if (cnt != 1)
         {
-            System.out.println("SelectableBiDirectionalQueue.write: failed, execption="
-                    + e.getLocalizedMessage() + " stacktrace=" + e.getStackTrace().toString());
+            System.out
+                    .println("SelectableBiDirectionalQueue.write: expected to write 1 byte but wrote "
+                            + cnt);
             shutdown();
         }
-        finally
-        {
-            _writeLock.unlock();
-        }
-        return true;
     }
 
     /**
@@ -324,31 +317,14 @@ public class SelectableBiDirectionalQueue
             _shutdown.set();
             try
             {
+                /*
+                 * Both ends share the same pipes. The queues are left in place, since
+                 * writers do not lock and may still be adding to them.
+                 */
                 _writePipe.sink().close();
                 _writePipe.source().close();
                 _readPipe.sink().close();
                 _readPipe.source().close();
-                _remote._writePipe.sink().close();
-                _remote._writePipe.source().close();
-                _remote._readPipe.sink().close();
-                _remote._readPipe.source().close();
-                
-                _writeBuffer = null;
-                _writeNotifier = null;
-                _writePipe = null;
-                _writeQueue = null;
-                _readBuffer = null;
-                _readNotifier = null;
-                _readPipe = null;
-                _readQueue = null;
-                _remote._writeBuffer = null;
-                _remote._writeNotifier = null;
-                _remote._writePipe = null;
-                _remote._writeQueue = null;
-                _remote._readBuffer = null;
-                _remote._readNotifier = null;
-                _remote._readPipe = null;
-                _remote._readQueue = null;
             }
             catch (IOException e)
             {
@@ -362,24 +338,12 @@ public class SelectableBiDirectionalQueue
     }
 
     /**
-     * Counts the number of elements in the queue that satisfy the given condition
+     * Counts the number of elements in the queue that satisfy the given condition.
+     * Must be called by the thread reading from this end of the queue.
      * @param filter the condition that the counted elements must satisfy
      * @return the number of suitable elements in the queue
      */
     public int countNumberOfReadQueueElements(Predicate<VaNode> filter) {
-        _readLock.lock();
-        try {
-            int result = 0;
-            VaNode current = _readQueue._head;
-            while (current != null) {
-                if (filter.test(current)) {
-                    result++;
-                }
-                current = current.next();
-            }
-            return result;
-        } finally {
-            _readLock.unlock();
-        }
+        return _readQueue.count(filter);
     }
 }
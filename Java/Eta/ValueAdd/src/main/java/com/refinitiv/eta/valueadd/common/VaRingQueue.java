@@ -0,0 +1,228 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
+
+/**
+ * An unbounded lock-free FIFO queue of VaNodes for a single consumer thread.
+ * Nodes are stored in fixed-size array segments that are linked as the queue grows.
+ * A producer claims a slot with a single atomic increment and publishes the node
+ * with an ordered write, so several threads may add concurrently without locking.
+ * {@link #poll()}, {@link #peek()}, {@link #isEmpty()} and {@link #count(Predicate)}
+ * must only be called by the consumer thread. Unlike {@link VaQueue}, the node's
+ * next reference is not used.
+ */
+public class VaRingQueue
+{
+    static final int DEFAULT_SEGMENT_SIZE = 1024;
+
+    static class Segment
+    {
+        final long _base;
+        final AtomicReferenceArray<VaNode> _slots;
+        volatile Segment _next;
+
+        Segment(long base, int size)
+        {
+            _base = base;
+            _slots = new AtomicReferenceArray<>(size);
+        }
+    }
+
+    private static final AtomicReferenceFieldUpdater<Segment, Segment> NEXT_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(Segment.class, Segment.class, "_next");
+    private static final AtomicReferenceFieldUpdater<VaRingQueue, Segment> PRODUCER_SEGMENT_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(VaRingQueue.class, Segment.class, "_producerSegment");
+
+    private final int _segmentSize;
+
+    // index of the next slot to claim, shared by the producers.
+    private final AtomicLong _producerIndex = new AtomicLong();
+    // hint to the segment of the last claimed slot, only moves forward.
+    private volatile Segment _producerSegment;
+
+    // index of the next slot to read, written by the consumer only.
+    private final AtomicLong _consumerIndex = new AtomicLong();
+    private volatile Segment _consumerSegment;
+    private long _consumerPosition;
+
+    /**
+     * Creates a queue with the default segment size.
+     */
+    public VaRingQueue()
+    {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a queue whose storage grows by the specified number of slots.
+     *
+     * @param segmentSize the number of slots in each segment
+     */
+    public VaRingQueue(int segmentSize)
+    {
+        if (segmentSize <= 0)
+            throw new IllegalArgumentException("segmentSize must be positive");
+
+        _segmentSize = segmentSize;
+        _producerSegment = _consumerSegment = new Segment(0, segmentSize);
+    }
+
+    /**
+     * Adds to the tail of the queue. May be called by any thread.
+     *
+     * @param node the node to add
+     */
+    public void add(VaNode node)
+    {
+        if (node == null)
+            return;
+
+        long index = _producerIndex.getAndIncrement();
+        Segment hint = _producerSegment;
+        Segment segment = hint;
+
+        /* The hint may already be past a slot claimed before another producer moved it,
+         * but the consumer cannot leave the segment of a slot that is not published yet. */
+        if (segment._base > index)
+            segment = _consumerSegment;
+
+        while (index >= segment._base + _segmentSize)
+        {
+            Segment next = segment._next;
+            if (next == null)
+            {
+                next = new Segment(segment._base + _segmentSize, _segmentSize);
+                if (!NEXT_UPDATER.compareAndSet(segment, null, next))
+                    next = segment._next;
+            }
+            segment = next;
+        }
+
+        if (segment._base > hint._base)
+            PRODUCER_SEGMENT_UPDATER.compareAndSet(this, hint, segment);
+
+        segment._slots.lazySet((int)(index - segment._base), node);
+    }
+
+    /**
+     * Removes and returns the head of the queue. Consumer thread only.
+     *
+     * @return the head of the queue, or null if the queue is empty
+     */
+    public VaNode poll()
+    {
+        long index = _consumerPosition;
+        if (index == _producerIndex.get())
+            return null;
+
+        Segment segment = segmentOf(index);
+        int offset = (int)(index - segment._base);
+        VaNode node = awaitSlot(segment, offset);
+        segment._slots.lazySet(offset, null);
+
+        _consumerPosition = index + 1;
+        _consumerIndex.lazySet(index + 1);
+        return node;
+    }
+
+    /**
+     * Returns the head of the queue without removing it. Consumer thread only.
+     *
+     * @return the head of the queue, or null if the queue is empty
+     */
+    public VaNode peek()
+    {
+        long index = _consumerPosition;
+        if (index == _producerIndex.get())
+            return null;
+
+        Segment segment = segmentOf(index);
+        return awaitSlot(segment, (int)(index - segment._base));
+    }
+
+    /**
+     * Returns whether the queue is empty. Consumer thread only.
+     *
+     * @return true if the queue has no nodes
+     */
+    public boolean isEmpty()
+    {
+        return _consumerPosition == _producerIndex.get();
+    }
+
+    /**
+     * Returns the number of nodes in the queue. May be called by any thread;
+     * the result may already be stale when other threads are adding or polling.
+     *
+     * @return the number of nodes in the queue
+     */
+    public int size()
+    {
+        long consumerIndex = _consumerIndex.get();
+        return (int)(_producerIndex.get() - consumerIndex);
+    }
+
+    /**
+     * Counts the nodes in the queue that satisfy the given condition. Consumer thread only.
+     *
+     * @param filter the condition that the counted nodes must satisfy
+     * @return the number of matching nodes
+     */
+    public int count(Predicate<VaNode> filter)
+    {
+        int result = 0;
+        long end = _producerIndex.get();
+        Segment segment = _consumerSegment;
+
+        for (long index = _consumerPosition; index < end; index++)
+        {
+            while (index >= segment._base + _segmentSize)
+            {
+                Segment next;
+                while ((next = segment._next) == null)
+                    Thread.yield();
+                segment = next;
+            }
+
+            if (filter.test(awaitSlot(segment, (int)(index - segment._base))))
+                result++;
+        }
+
+        return result;
+    }
+
+    // Returns the consumer segment holding index, moving to the next segment when the current one is done.
+    private Segment segmentOf(long index)
+    {
+        Segment segment = _consumerSegment;
+        if (index == segment._base + _segmentSize)
+        {
+            Segment next;
+            // the producer of this slot is linking the segment
+            while ((next = segment._next) == null)
+                Thread.yield();
+            _consumerSegment = segment = next;
+        }
+        return segment;
+    }
+
+    // The slot was claimed; the producer may not have published it yet.
+    private static VaNode awaitSlot(Segment segment, int offset)
+    {
+        VaNode node;
+        while ((node = segment._slots.get(offset)) == null)
+            Thread.yield();
+        return node;
+    }
+}
@@ -0,0 +1,35 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+/**
+ * A count that only increases, such as the number of messages processed.
+ * Updates neither allocate nor lock, and may be made by any thread.
+ */
+public interface Counter extends Metric
+{
+    /**
+     * Adds one to the count.
+     */
+    public void increment();
+
+    /**
+     * Adds to the count.
+     * 
+     * @param delta the amount to add, which should not be negative
+     */
+    public void add(long delta);
+
+    /**
+     * The current count.
+     * 
+     * @return the count
+     */
+    public long count();
+}
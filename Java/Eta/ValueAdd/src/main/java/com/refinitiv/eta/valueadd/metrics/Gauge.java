@@ -0,0 +1,38 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+/**
+ * A value that goes up and down, such as the depth of a queue. The value may
+ * either be set, or kept as a sum that several owners add their changes to.
+ * Updates neither allocate nor lock, and may be made by any thread.
+ */
+public interface Gauge extends Metric
+{
+    /**
+     * Sets the value.
+     * 
+     * @param value the value
+     */
+    public void set(long value);
+
+    /**
+     * Adds to the value.
+     * 
+     * @param delta the amount to add, which may be negative
+     */
+    public void add(long delta);
+
+    /**
+     * The current value.
+     * 
+     * @return the value
+     */
+    public long value();
+}
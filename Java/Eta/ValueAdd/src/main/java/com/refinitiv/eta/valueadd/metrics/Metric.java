@@ -0,0 +1,26 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+/**
+ * A named value kept by a {@link MetricsRegistry}.
+ * 
+ * @see Counter
+ * @see Gauge
+ * @see Timer
+ */
+public interface Metric
+{
+    /**
+     * The name the metric was registered with.
+     * 
+     * @return the name
+     */
+    public String name();
+}
@@ -0,0 +1,32 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+/**
+ * Factory for the metrics package.
+ */
+public class MetricsFactory
+{
+    // MetricsFactory class cannot be instantiated
+    private MetricsFactory()
+    {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates an in-process {@link MetricsRegistry}. Counters are kept in
+     * striped cells so that threads updating the same counter do not contend.
+     * 
+     * @return the metrics registry
+     */
+    public static MetricsRegistry createMetricsRegistry()
+    {
+        return new MetricsRegistryImpl();
+    }
+}
@@ -0,0 +1,191 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * Publishes the metrics of a {@link MetricsRegistry} as the attributes of an
+ * MBean in the platform MBean server, so that they can be read with JConsole,
+ * VisualVM or any other JMX client.
+ * <p>
+ * Counters and gauges are published as an attribute with the name of the
+ * metric. Timers are published as three attributes, the name of the timer
+ * followed by ".count", ".totalTime" and ".maxTime", with times in
+ * nanoseconds. Metrics registered after the exporter are published as well,
+ * as the attributes are read from the registry each time they are requested.
+ */
+public class MetricsJmxExporter implements DynamicMBean
+{
+    /** Domain of the object names built by {@link #MetricsJmxExporter(MetricsRegistry, String)}. */
+    public static final String DEFAULT_DOMAIN = "com.refinitiv.eta.valueadd";
+
+    static final String COUNT_SUFFIX = ".count";
+    static final String TOTAL_TIME_SUFFIX = ".totalTime";
+    static final String MAX_TIME_SUFFIX = ".maxTime";
+
+    private final MetricsRegistry _registry;
+    private final ObjectName _objectName;
+
+    /**
+     * Instantiates a new exporter with the object name
+     * "com.refinitiv.eta.valueadd:type=Metrics,name=&lt;name&gt;".
+     * 
+     * @param registry the registry to publish
+     * @param name the name distinguishing this registry from others, such as an application instance name
+     * @throws MalformedObjectNameException if the object name cannot be built
+     */
+    public MetricsJmxExporter(MetricsRegistry registry, String name) throws MalformedObjectNameException
+    {
+        this(registry, new ObjectName(DEFAULT_DOMAIN + ":type=Metrics,name=" + ObjectName.quote(name)));
+    }
+
+    /**
+     * Instantiates a new exporter.
+     * 
+     * @param registry the registry to publish
+     * @param objectName the object name of the MBean
+     */
+    public MetricsJmxExporter(MetricsRegistry registry, ObjectName objectName)
+    {
+        if (registry == null || objectName == null)
+            throw new IllegalArgumentException("registry and objectName cannot be null");
+
+        _registry = registry;
+        _objectName = objectName;
+    }
+
+    /**
+     * The object name of the MBean.
+     * 
+     * @return the object name
+     */
+    public ObjectName objectName()
+    {
+        return _objectName;
+    }
+
+    /**
+     * Registers the MBean with the platform MBean server.
+     * 
+     * @throws JMException if the MBean cannot be registered, such as when its name is already in use
+     */
+    public void register() throws JMException
+    {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, _objectName);
+    }
+
+    /**
+     * Unregisters the MBean from the platform MBean server.
+     * 
+     * @throws JMException if the MBean is not registered
+     */
+    public void unregister() throws JMException
+    {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(_objectName);
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException
+    {
+        Metric metric = _registry.metric(attribute);
+        if (metric instanceof Counter)
+            return ((Counter)metric).count();
+        if (metric instanceof Gauge)
+            return ((Gauge)metric).value();
+
+        if (attribute.endsWith(COUNT_SUFFIX)
+                && (metric = _registry.metric(attribute.substring(0, attribute.length() - COUNT_SUFFIX.length()))) instanceof Timer)
+            return ((Timer)metric).count();
+        if (attribute.endsWith(TOTAL_TIME_SUFFIX)
+                && (metric = _registry.metric(attribute.substring(0, attribute.length() - TOTAL_TIME_SUFFIX.length()))) instanceof Timer)
+            return ((Timer)metric).totalTime();
+        if (attribute.endsWith(MAX_TIME_SUFFIX)
+                && (metric = _registry.metric(attribute.substring(0, attribute.length() - MAX_TIME_SUFFIX.length()))) instanceof Timer)
+            return ((Timer)metric).maxTime();
+
+        throw new AttributeNotFoundException("No metric named " + attribute);
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes)
+    {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes)
+        {
+            try
+            {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            }
+            catch (AttributeNotFoundException e)
+            {
+                // attributes that are not found are left out of the list
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException
+    {
+        throw new AttributeNotFoundException("Metrics are read-only");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes)
+    {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature)
+    {
+        throw new UnsupportedOperationException("No operations are published");
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo()
+    {
+        List<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+        for (Metric metric : _registry.metrics())
+        {
+            if (metric instanceof Timer)
+            {
+                attributes.add(attributeInfo(metric.name() + COUNT_SUFFIX, "Number of recorded durations"));
+                attributes.add(attributeInfo(metric.name() + TOTAL_TIME_SUFFIX, "Total recorded time in nanoseconds"));
+                attributes.add(attributeInfo(metric.name() + MAX_TIME_SUFFIX, "Maximum recorded time in nanoseconds"));
+            }
+            else
+            {
+                attributes.add(attributeInfo(metric.name(), metric instanceof Counter ? "Counter" : "Gauge"));
+            }
+        }
+
+        return new MBeanInfo(getClass().getName(), "ETA ValueAdd metrics",
+                attributes.toArray(new MBeanAttributeInfo[attributes.size()]), null, new MBeanOperationInfo[0], null);
+    }
+
+    private static MBeanAttributeInfo attributeInfo(String name, String description)
+    {
+        return new MBeanAttributeInfo(name, "long", description, true, false, false);
+    }
+}
@@ -0,0 +1,69 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+import java.util.Collection;
+
+/**
+ * Registry of the metrics updated by the Reactor and the layers above it.
+ * <p>
+ * The Reactor looks up its metrics once, when it is created, and then only
+ * updates them, so an implementation may take locks or allocate when a metric
+ * is looked up but should not do so when it is updated. Metrics are shared by
+ * name: looking up an existing name returns the metric registered with it.
+ * <p>
+ * {@link MetricsFactory#createMetricsRegistry()} creates an in-process registry,
+ * whose metrics can be published over JMX with {@link MetricsJmxExporter}.
+ * Applications may implement this interface to forward the metrics to another
+ * monitoring system.
+ */
+public interface MetricsRegistry
+{
+    /**
+     * Returns the counter with the given name, registering it if needed.
+     * 
+     * @param name the name of the counter
+     * @return the counter
+     * @throws IllegalArgumentException if the name is registered with another kind of metric
+     */
+    public Counter counter(String name);
+
+    /**
+     * Returns the gauge with the given name, registering it if needed.
+     * 
+     * @param name the name of the gauge
+     * @return the gauge
+     * @throws IllegalArgumentException if the name is registered with another kind of metric
+     */
+    public Gauge gauge(String name);
+
+    /**
+     * Returns the timer with the given name, registering it if needed.
+     * 
+     * @param name the name of the timer
+     * @return the timer
+     * @throws IllegalArgumentException if the name is registered with another kind of metric
+     */
+    public Timer timer(String name);
+
+    /**
+     * Returns the metric with the given name.
+     * 
+     * @param name the name of the metric
+     * @return the metric, or null if no metric has the name
+     */
+    public Metric metric(String name);
+
+    /**
+     * The registered metrics, in the order they were registered.
+     * 
+     * @return an unmodifiable snapshot of the metrics
+     */
+    public Collection<Metric> metrics();
+}
@@ -0,0 +1,213 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/* In-process metrics registry. Lookups are synchronized; the metrics themselves
+ * are updated with atomic operations only. */
+class MetricsRegistryImpl implements MetricsRegistry
+{
+    private final Map<String, Metric> _metrics = new LinkedHashMap<String, Metric>();
+
+    @Override
+    public Counter counter(String name)
+    {
+        return lookup(name, Counter.class);
+    }
+
+    @Override
+    public Gauge gauge(String name)
+    {
+        return lookup(name, Gauge.class);
+    }
+
+    @Override
+    public Timer timer(String name)
+    {
+        return lookup(name, Timer.class);
+    }
+
+    @Override
+    public synchronized Metric metric(String name)
+    {
+        return _metrics.get(name);
+    }
+
+    @Override
+    public synchronized Collection<Metric> metrics()
+    {
+        return Collections.unmodifiableList(new ArrayList<Metric>(_metrics.values()));
+    }
+
+    private synchronized <T extends Metric> T lookup(String name, Class<T> type)
+    {
+        if (name == null)
+            throw new IllegalArgumentException("name cannot be null");
+
+        Metric metric = _metrics.get(name);
+        if (metric == null)
+        {
+            if (type == Counter.class)
+                metric = new CounterImpl(name);
+            else if (type == Gauge.class)
+                metric = new GaugeImpl(name);
+            else
+                metric = new TimerImpl(name);
+            _metrics.put(name, metric);
+        }
+        else if (!type.isInstance(metric))
+        {
+            throw new IllegalArgumentException("metric " + name + " is not a " + type.getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    static class CounterImpl implements Counter
+    {
+        private final String _name;
+        private final LongAdder _count = new LongAdder();
+
+        CounterImpl(String name)
+        {
+            _name = name;
+        }
+
+        @Override
+        public String name()
+        {
+            return _name;
+        }
+
+        @Override
+        public void increment()
+        {
+            _count.increment();
+        }
+
+        @Override
+        public void add(long delta)
+        {
+            _count.add(delta);
+        }
+
+        @Override
+        public long count()
+        {
+            return _count.sum();
+        }
+
+        @Override
+        public String toString()
+        {
+            return _name + "=" + count();
+        }
+    }
+
+    static class GaugeImpl implements Gauge
+    {
+        private final String _name;
+        private final AtomicLong _value = new AtomicLong();
+
+        GaugeImpl(String name)
+        {
+            _name = name;
+        }
+
+        @Override
+        public String name()
+        {
+            return _name;
+        }
+
+        @Override
+        public void set(long value)
+        {
+            _value.lazySet(value);
+        }
+
+        @Override
+        public void add(long delta)
+        {
+            _value.addAndGet(delta);
+        }
+
+        @Override
+        public long value()
+        {
+            return _value.get();
+        }
+
+        @Override
+        public String toString()
+        {
+            return _name + "=" + value();
+        }
+    }
+
+    static class TimerImpl implements Timer
+    {
+        private final String _name;
+        private final LongAdder _count = new LongAdder();
+        private final LongAdder _totalTime = new LongAdder();
+        private final AtomicLong _maxTime = new AtomicLong();
+
+        TimerImpl(String name)
+        {
+            _name = name;
+        }
+
+        @Override
+        public String name()
+        {
+            return _name;
+        }
+
+        @Override
+        public void record(long nanos)
+        {
+            _count.increment();
+            _totalTime.add(nanos);
+
+            long maxTime;
+            while (nanos > (maxTime = _maxTime.get()) && !_maxTime.compareAndSet(maxTime, nanos))
+                ;
+        }
+
+        @Override
+        public long count()
+        {
+            return _count.sum();
+        }
+
+        @Override
+        public long totalTime()
+        {
+            return _totalTime.sum();
+        }
+
+        @Override
+        public long maxTime()
+        {
+            return _maxTime.get();
+        }
+
+        @Override
+        public String toString()
+        {
+            return _name + "=" + count() + " calls, " + totalTime() + " nsec total, " + maxTime() + " nsec max";
+        }
+    }
+}
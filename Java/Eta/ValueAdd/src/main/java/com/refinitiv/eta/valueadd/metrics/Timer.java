@@ -0,0 +1,45 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+/**
+ * Count, total and maximum of recorded durations, such as the time spent in a
+ * dispatch call. Recording neither allocates nor locks, and may be done by any
+ * thread.
+ */
+public interface Timer extends Metric
+{
+    /**
+     * Records a duration.
+     * 
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos);
+
+    /**
+     * The number of recorded durations.
+     * 
+     * @return the count
+     */
+    public long count();
+
+    /**
+     * The sum of the recorded durations.
+     * 
+     * @return the total time in nanoseconds
+     */
+    public long totalTime();
+
+    /**
+     * The longest recorded duration.
+     * 
+     * @return the maximum time in nanoseconds, or 0 if nothing was recorded
+     */
+    public long maxTime();
+}
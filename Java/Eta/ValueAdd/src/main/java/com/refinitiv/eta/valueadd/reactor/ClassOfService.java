@@ -986,6 +986,8 @@ public class ClassOfService
         destCos.guarantee().type(guarantee().type());
         destCos.guarantee().persistenceFilePath(guarantee().persistenceFilePath());
         destCos.guarantee().persistLocally(guarantee().persistLocally());
+        destCos.guarantee().persistenceCommitWindow(guarantee().persistenceCommitWindow());
+        destCos.guarantee().persistenceCommitBytes(guarantee().persistenceCommitBytes());
 
         return ReactorReturnCodes.SUCCESS;
     }
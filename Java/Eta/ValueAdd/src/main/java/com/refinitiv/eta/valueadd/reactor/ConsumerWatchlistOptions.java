@@ -22,6 +22,7 @@ public class ConsumerWatchlistOptions
     private int _postAckTimeout = 15000;
     private int _requestTimeout = 15000; 
     private boolean _enableWarmStandby = false;
+    private boolean _enableViewFiltering = false;
     
     /**
      * Is the watchlist enabled.
@@ -120,6 +121,32 @@ public class ConsumerWatchlistOptions
         _obeyOpenWindow = obeyOpenWindow;
     }
 
+    /**
+     * Controls whether the watchlist filters the payload of refresh and update messages
+     * down to the view of each item request, when the provider does not support views or
+     * only partly honors them. FieldList and ElementList payloads are re-encoded with only
+     * the fields or elements of the request's view. Requests sharing a view on a stream share
+     * the filtered payload, so it is encoded once per distinct view. Only the encoded data body
+     * of the message is filtered; its encoded message buffer still holds the message as received.
+     *
+     * @return whether or not payloads are filtered to the requested views
+     */
+    public boolean enableViewFiltering()
+    {
+        return _enableViewFiltering;
+    }
+
+    /**
+     * Controls whether the watchlist filters the payload of refresh and update messages
+     * down to the view of each item request. Defaults to false.
+     *
+     * @param enableViewFiltering whether or not payloads are filtered to the requested views
+     */
+    public void enableViewFiltering(boolean enableViewFiltering)
+    {
+        _enableViewFiltering = enableViewFiltering;
+    }
+
     /**
      * Sets the maximum number of on-stream post acknowledgments that may be outstanding for the channel.
      * 
@@ -193,6 +220,7 @@ public class ConsumerWatchlistOptions
         _maxOutstandingPosts = 100000;
         _postAckTimeout = 15000;
         _requestTimeout = 15000;
+        _enableViewFiltering = false;
     }
 
     /*
@@ -207,5 +235,6 @@ public class ConsumerWatchlistOptions
         _maxOutstandingPosts = watchlistOptions.maxOutstandingPosts();
         _postAckTimeout = watchlistOptions.postAckTimeout();
         _requestTimeout = watchlistOptions.requestTimeout();
+        _enableViewFiltering = watchlistOptions.enableViewFiltering();
     }
 }
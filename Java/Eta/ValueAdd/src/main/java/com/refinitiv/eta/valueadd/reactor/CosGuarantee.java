@@ -21,6 +21,8 @@ public class CosGuarantee
     int _type = ClassesOfService.GuaranteeTypes.NONE;
     String _persistenceFilePath = null;
     boolean _persistLocally = true;
+    int _persistenceCommitWindow = 0;
+    int _persistenceCommitBytes = 0;
     
     /**
      * Returns the type of the guarantee class of service.
@@ -90,6 +92,59 @@ public class CosGuarantee
         _persistLocally = persistLocally;
     }
 
+    /**
+     * Returns the persistence commit window, in milliseconds.
+     * Use only when guarantee type is set to PERSISTENT_QUEUE.
+     *
+     * @return the persistence commit window
+     */
+    public int persistenceCommitWindow()
+    {
+        return _persistenceCommitWindow;
+    }
+
+    /**
+     * Sets the persistence commit window, in milliseconds. Default: 0.
+     * Use only when guarantee type is set to PERSISTENT_QUEUE and local persistence is enabled.
+     * <p>
+     * When set, the QueueData messages submitted within the window are synced to the persistence
+     * file together, rather than with a sync for each message, and are not transmitted until
+     * they are synced. A message is therefore delayed by up to the window, and its QueueAck
+     * arrives no sooner than that. Applies to persistence files created with this setting,
+     * which use a layout that is recovered from its messages rather than from in-file links.
+     * When 0, each message is synced when it is submitted.
+     *
+     * @param persistenceCommitWindow the persistence commit window
+     */
+    public void persistenceCommitWindow(int persistenceCommitWindow)
+    {
+        _persistenceCommitWindow = persistenceCommitWindow;
+    }
+
+    /**
+     * Returns the number of message bytes after which the persistence file is synced
+     * before the commit window ends.
+     * Use only when guarantee type is set to PERSISTENT_QUEUE.
+     *
+     * @return the persistence commit bytes
+     */
+    public int persistenceCommitBytes()
+    {
+        return _persistenceCommitBytes;
+    }
+
+    /**
+     * Sets the number of message bytes after which the persistence file is synced
+     * before the commit window ends. Default: 0, synced only when the window ends.
+     * Use only when a persistence commit window is set.
+     *
+     * @param persistenceCommitBytes the persistence commit bytes
+     */
+    public void persistenceCommitBytes(int persistenceCommitBytes)
+    {
+        _persistenceCommitBytes = persistenceCommitBytes;
+    }
+
     /**
      * Clears the CosGuarantee for re-use.
      */
@@ -98,5 +153,7 @@ public class CosGuarantee
         _type = ClassesOfService.GuaranteeTypes.NONE;
         _persistenceFilePath = null;
         _persistLocally = true;
+        _persistenceCommitWindow = 0;
+        _persistenceCommitBytes = 0;
     }
 }
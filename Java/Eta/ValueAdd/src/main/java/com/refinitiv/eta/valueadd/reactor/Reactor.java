@@ -82,6 +82,7 @@ import com.refinitiv.eta.transport.InitArgs;
 import com.refinitiv.eta.transport.IoctlCodes;
 import com.refinitiv.eta.transport.ReadArgs;
 import com.refinitiv.eta.transport.ReadArgsImpl;
+import com.refinitiv.eta.transport.ReadCallback;
 import com.refinitiv.eta.transport.Server;
 import com.refinitiv.eta.transport.Transport;
 import com.refinitiv.eta.transport.TransportBuffer;
@@ -170,6 +171,8 @@ public class Reactor
 	VaDoubleLinkList<ReactorChannel> _reactorChannelQueue = new VaDoubleLinkList<ReactorChannel>();
 
 	Lock _reactorLock = new ReentrantLock();
+	ReactorShard _shard; // set when this Reactor is dispatched by a ReactorShardGroup
+	ReactorMetrics _metrics; // set when ReactorOptions has a metrics registry
 	int _reactorChannelCount; // used by reactor.dispatchAll
 
 	EncodeIterator _eIter = CodecFactory.createEncodeIterator();
@@ -179,6 +182,25 @@ public class Reactor
 	WriteArgs _writeArgsAggregator = TransportFactory.createWriteArgs();
 	ReactorSubmitOptions reactorSubmitOptions = ReactorFactory.createReactorSubmitOptions();
 	ReadArgs _readArgsAggregator = TransportFactory.createReadArgs();
+
+	// state of the batched channel read in progress; each message is passed to processChannelReadBuffer()
+	ReactorChannel _channelReadReactorChannel;
+	ReactorErrorInfo _channelReadErrorInfo;
+	int _channelReadRetval;
+	int _channelReadMsgCount;
+	private final ReadCallback _channelReadCallback = (channel, msgBuf) ->
+	{
+		int retval = processChannelReadBuffer(_channelReadReactorChannel, msgBuf, _channelReadErrorInfo);
+		if (retval != ReactorReturnCodes.SUCCESS)
+		{
+			_channelReadRetval = retval;
+			return retval;
+		}
+
+		// stop reading once the channel is no longer usable, e.g. closed from a callback
+		return isReactorChannelReady(_channelReadReactorChannel) ? TransportReturnCodes.SUCCESS : TransportReturnCodes.FAILURE;
+	};
+
 	InitArgs _initArgs = TransportFactory.createInitArgs();
 	LoginMsg _loginMsg = LoginMsgFactory.createMsg();
 	CloseMsg _closeMsg = (CloseMsg) CodecFactory.createMsg();
@@ -189,6 +211,8 @@ public class Reactor
 	private StringBuilder xmlString = new StringBuilder(1500);
 	private HashMap<Msg, TransportBuffer> _submitMsgMap = new HashMap<Msg, TransportBuffer>();
 	private HashMap<MsgBase, TransportBuffer> _submitRdmMsgMap = new HashMap<MsgBase, TransportBuffer>();
+	private HashMap<EncodedMsgKey, TransportBuffer> _submitEncodedMsgMap = new HashMap<EncodedMsgKey, TransportBuffer>();
+	private EncodedMsgKey _encodedMsgKey = new EncodedMsgKey();
 	private HashMap<String, ReactorTokenSession> _tokenManagementMap = new HashMap<String, ReactorTokenSession>(5);
 	private Lock _tokenManagementLock = new ReentrantLock();
 
@@ -297,6 +321,9 @@ public class Reactor
 			debugger = ReactorFactory.createReactorDebugger(_reactorOptions.debuggerOptions().outputStream(),
 					_reactorOptions.debuggerOptions().capacity());
 
+			if (_reactorOptions.metricsRegistry() != null)
+				_metrics = new ReactorMetrics(_reactorOptions.metricsRegistry());
+
 			if (options.xmlTraceToFile()){
 			_fileDumper = new FileDumper(options.xmlTraceFileName(), options.xmlTraceToMultipleFiles(), options.xmlTraceMaxFileSize());
 		}
@@ -2362,6 +2389,10 @@ public class Reactor
 
 		reactorChannelEvent.reactorChannel(callbackChannel);
 
+		// keep the selector of the shard in step before the application sees the event
+		if (_shard != null)
+			_shard.channelEvent(eventType, callbackChannel);
+
 		int retval = reactorChannel.role().channelEventCallback().reactorChannelEventCallback(reactorChannelEvent);
 		reactorChannelEvent.returnToPool();
 
@@ -4642,6 +4673,7 @@ public class Reactor
 			ReactorErrorInfo errorInfo)
 	{
 		_reactorLock.lock();
+		long dispatchStartTime = _metrics != null ? System.nanoTime() : 0;
 		if (_reactorOptions.debuggerOptions().debugConnectionLevel())
 		{
 			debugger.incNumOfDispatchCalls();
@@ -4713,8 +4745,8 @@ public class Reactor
 				{
 					do
 					{
-						msgCount++;
-						retval = performChannelRead(reactorChannel, dispatchOptions.readArgs(), errorInfo);
+						retval = performChannelRead(reactorChannel, dispatchOptions.readArgs(), maxMessages - msgCount, errorInfo);
+						msgCount += Math.max(_channelReadMsgCount, 1);
 					} while (isReactorChannelReady(reactorChannel) && msgCount < maxMessages && retval > 0);
 				}
 
@@ -4734,6 +4766,11 @@ public class Reactor
 				int maxMessages = dispatchOptions.maxMessages();
 				int msgCount = 0;
 				int retval = 0;
+				// consumes a notification sent for an event that was already read
+				if (_workerQueue.readQueueSize() == 0)
+					_workerQueue.read();
+				if (_metrics != null)
+					_metrics.workerQueueDepth.set(_workerQueue.readQueueSize());
 				while (msgCount < maxMessages && _workerQueue.readQueueSize() > 0)
 				{
 					msgCount++;
@@ -4745,6 +4782,8 @@ public class Reactor
 			}
 		} finally
 		{
+			if (_metrics != null)
+				_metrics.dispatchTime.record(System.nanoTime() - dispatchStartTime);
 			_reactorLock.unlock();
 		}
 	}
@@ -4878,6 +4917,8 @@ public class Reactor
 				}
 
 				ret = reactorChannel.channel().write(writeBuffer, submitOptions.writeArgs(), errorInfo.error());
+				if (_metrics != null)
+					_metrics.sampleBufferUsage(reactorChannel);
 				if (ret > TransportReturnCodes.SUCCESS || ret == TransportReturnCodes.WRITE_FLUSH_FAILED
 						|| ret == TransportReturnCodes.WRITE_CALL_AGAIN)
 				{
@@ -5038,6 +5079,78 @@ public class Reactor
 		return ret;
 	}
 
+	// copies an encoded message into a buffer of the channel and replaces its stream id,
+	// so the same message can be sent to many channels without being encoded again
+	int submitChannel(ReactorChannel reactorChannel, Buffer encodedMsg, int streamId, ReactorSubmitOptions submitOptions,
+			ReactorErrorInfo errorInfo)
+	{
+		int ret = ReactorReturnCodes.SUCCESS;
+
+		_reactorLock.lock();
+
+		try
+		{
+			if (!isReactorChannelReady(reactorChannel))
+			{
+				ret = ReactorReturnCodes.FAILURE;
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+						"ReactorChannel is closed, aborting.");
+			} else if (reactorChannel != _reactorChannel)
+			{
+				// check first if write of this message to this channel and stream is pending
+				TransportBuffer writeBuffer = _submitEncodedMsgMap.size() > 0
+						? _submitEncodedMsgMap.remove(_encodedMsgKey.set(reactorChannel, encodedMsg, streamId)) : null;
+				if (writeBuffer == null)
+				{
+					writeBuffer = reactorChannel.channel().getBuffer(encodedMsg.length(), false, errorInfo.error());
+					if (writeBuffer == null)
+					{
+						if (sendFlushRequest(reactorChannel, "Reactor.submitChannel",
+								errorInfo) != ReactorReturnCodes.SUCCESS)
+							return ReactorReturnCodes.FAILURE;
+
+						return populateErrorInfo(errorInfo, ReactorReturnCodes.NO_BUFFERS, "Reactor.submitChannel",
+								"channel out of buffers chnl=" + reactorChannel.channel().selectableChannel()
+										+ " errorId=" + errorInfo.error().errorId() + " errorText="
+										+ errorInfo.error().text());
+					}
+
+					_eIter.clear();
+					_eIter.setBufferAndRWFVersion(writeBuffer, reactorChannel.channel().majorVersion(),
+							reactorChannel.channel().minorVersion());
+					ByteBuffer data = writeBuffer.data();
+					if ((ret = encodedMsg.copy(data)) == CodecReturnCodes.SUCCESS)
+					{
+						data.position(data.position() + encodedMsg.length());
+						ret = _eIter.replaceStreamId(streamId);
+					}
+
+					if (ret != CodecReturnCodes.SUCCESS)
+					{
+						// release buffer the message could not be copied to
+						reactorChannel.channel().releaseBuffer(writeBuffer, errorInfo.error());
+
+						return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.submitChannel",
+								"failed to copy encoded message chnl=" + reactorChannel.channel().selectableChannel()
+										+ " error=" + CodecReturnCodes.toString(ret));
+					}
+				}
+
+				ret = submitChannel(reactorChannel, writeBuffer, submitOptions, errorInfo);
+				// keep the buffer to write again when the message is submitted again
+				if (ret == ReactorReturnCodes.WRITE_CALL_AGAIN)
+				{
+					_submitEncodedMsgMap.put(new EncodedMsgKey().set(reactorChannel, encodedMsg, streamId), writeBuffer);
+				}
+			}
+		} finally
+		{
+			_reactorLock.unlock();
+		}
+
+		return ret;
+	}
+
 	public int submitChannel(ReactorChannel reactorChannel, MsgBase rdmMsg, ReactorSubmitOptions submitOptions,
 			ReactorErrorInfo errorInfo)
 	{
@@ -5216,9 +5329,8 @@ public class Reactor
 
 		// determine if for watchlist and process by watchlist
 		WlStream wlStream = null;
-		_tempWlInteger.value(_msg.streamId());
 		if (reactorChannel.watchlist() != null
-				&& (wlStream = reactorChannel.watchlist().streamIdtoWlStreamTable().get(_tempWlInteger)) != null)
+				&& (wlStream = reactorChannel.watchlist().streamIdtoWlStreamTable().get(_msg.streamId())) != null)
 		{
 			if (reactorChannel.reactor().reactorHandlesWarmStandby(reactorChannel))
 			{
@@ -5308,93 +5420,263 @@ public class Reactor
 	}
 
 	// returns the errorInfo.code() or readArgs.readRetVal.
-	private int performChannelRead(ReactorChannel reactorChannel, ReadArgs readArgs, ReactorErrorInfo errorInfo)
+	private int performChannelRead(ReactorChannel reactorChannel, ReadArgs readArgs, int maxMessages, ReactorErrorInfo errorInfo)
 	{
-		TransportBuffer msgBuf = reactorChannel.channel().read(readArgs, errorInfo.error());
-		int retval;
+		// save the state of any batched read in progress, in case this is called from a callback
+		ReactorChannel prevReactorChannel = _channelReadReactorChannel;
+		ReactorErrorInfo prevErrorInfo = _channelReadErrorInfo;
+		int prevRetval = _channelReadRetval;
+
+		_channelReadReactorChannel = reactorChannel;
+		_channelReadErrorInfo = errorInfo;
+		_channelReadRetval = ReactorReturnCodes.SUCCESS;
+
+		int msgCount = reactorChannel.channel().read(readArgs, maxMessages, _channelReadCallback, errorInfo.error());
+		int retval = _channelReadRetval;
+
+		_channelReadReactorChannel = prevReactorChannel;
+		_channelReadErrorInfo = prevErrorInfo;
+		_channelReadRetval = prevRetval;
+		_channelReadMsgCount = msgCount;
+
+		if (retval != ReactorReturnCodes.SUCCESS)
+		{
+			return retval;
+		}
+
+		// the read that ended the batch did not return a message
+		if (readArgs.readRetVal() == TransportReturnCodes.FAILURE)
+		{
+			if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client channel
+			{
+				reactorChannel.state(State.DOWN_RECONNECTING);
+			} else // server channel or no more retries
+			{
+				reactorChannel.state(State.DOWN);
+			}
+
+			if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client channel
+			{
+				// send CHANNEL_DOWN_RECONNECTING to user app via reactorChannelEventCallback.
+				sendAndHandleChannelEventCallback("Reactor.performChannelRead",
+						ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING, reactorChannel, errorInfo);
+			} else // server channel or no more retries
+			{
+				// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
+				sendAndHandleChannelEventCallback("Reactor.performChannelRead",
+						ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, errorInfo);
+			}
+
+		} else if (readArgs.readRetVal() == TransportReturnCodes.READ_FD_CHANGE)
+		{
+			// reset selectable channel on ReactorChannel to new one
+			reactorChannel.selectableChannelFromChannel(reactorChannel.channel());
+
+			// set oldSelectableChannel on ReactorChannel
+			reactorChannel.oldSelectableChannel(reactorChannel.channel().oldSelectableChannel());
+
+			/*
+			 * If this is warm standby, update the selectable channel list in the
+			 * warmstandbychannelinfo
+			 */
+			if (reactorHandlesWarmStandby(reactorChannel))
+			{
+				reactorChannel.warmStandByHandlerImpl.mainReactorChannelImpl().warmStandbyChannelInfo()
+						.selectableChannelList().remove(reactorChannel.channel().oldSelectableChannel());
+				reactorChannel.warmStandByHandlerImpl.mainReactorChannelImpl().warmStandbyChannelInfo()
+						.selectableChannelList().add(reactorChannel.channel().selectableChannel());
+			}
+
+			// send FD_CHANGE WorkerEvent to Worker.
+			if (!sendWorkerEvent(WorkerEventTypes.FD_CHANGE, reactorChannel))
+			{
+				// sendWorkerEvent() failed, send channel down
+				reactorChannel.state(State.DOWN);
+				sendAndHandleChannelEventCallback("Reactor.performChannelRead",
+						ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, errorInfo);
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
+						"sendWorkerEvent() failed");
+			}
 
-		if (msgBuf != null)
+			// send FD_CHANGE to user app via reactorChannelEventCallback.
+			sendAndHandleChannelEventCallback("Reactor.performChannelRead", ReactorChannelEventTypes.FD_CHANGE,
+					reactorChannel, errorInfo);
+
+			/*
+			 * If this is warm standby, remove the old selectable channel from the old
+			 * channel list in the warmstandbychannelinfo
+			 */
+			if (reactorHandlesWarmStandby(reactorChannel))
+			{
+				reactorChannel.warmStandByHandlerImpl.mainReactorChannelImpl().warmStandbyChannelInfo()
+						.oldSelectableChannelList().remove(reactorChannel.channel().oldSelectableChannel());
+			}
+		} else if (readArgs.readRetVal() == TransportReturnCodes.READ_PING)
 		{
-			if ((_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile()) && _reactorOptions.xmlTraceRead())
+			if ((_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile()) && _reactorOptions.xmlTracePing())
 			{
 				xmlString.setLength(0);
-				xmlString.append("\n<!-- Incoming Reactor message -->\n").append("<!-- ")
+				xmlString.append("\n<!-- Incoming Ping message -->\n").append("<!-- ")
 						.append(reactorChannel.selectableChannel().toString()).append(" -->\n").append("<!-- ")
 						.append(new java.util.Date()).append(" -->\n");
-				xmlDumpTrace.dumpBuffer(reactorChannel.channel(), reactorChannel.channel().protocolType(), msgBuf, null,
-						xmlString, errorInfo.error());
 				if (_reactorOptions.xmlTracing()){
 					System.out.println(xmlString);
 				}
 				if (_reactorOptions.xmlTraceToFile()) {
+
 					_fileDumper.dump(xmlString.toString());
+
 				}
 			}
+			reactorChannel.pingHandler().receivedMsg();
+		}
 
+		if (readArgs.readRetVal() == TransportReturnCodes.READ_PING)
+		{
 			// update ping handler
-			reactorChannel.pingHandler().receivedMsg();
+			if (_reactorOptions.pingStatSet())
+				reactorChannel.pingHandler().receivedPing();
+		}
+
+		// Aggregate number of bytes read
+		if (_reactorOptions.readStatSet() == true)
+		{
+			((ReadArgsImpl) _readArgsAggregator)
+					.bytesRead(overflowSafeAggregate(_readArgsAggregator.bytesRead(), readArgs.bytesRead()));
+			((ReadArgsImpl) _readArgsAggregator).uncompressedBytesRead(overflowSafeAggregate(
+					_readArgsAggregator.uncompressedBytesRead(), readArgs.uncompressedBytesRead()));
+		}
+
+		if (readArgs.readRetVal() > 0)
+		{
+			return readArgs.readRetVal();
+		}
+
+		return ReactorReturnCodes.SUCCESS;
+	}
+
+	/* Inspects a message read from the channel and dispatches it to the application. */
+	private int processChannelReadBuffer(ReactorChannel reactorChannel, TransportBuffer msgBuf, ReactorErrorInfo errorInfo)
+	{
+		int retval;
+
+		if ((_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile()) && _reactorOptions.xmlTraceRead())
+		{
+			xmlString.setLength(0);
+			xmlString.append("\n<!-- Incoming Reactor message -->\n").append("<!-- ")
+					.append(reactorChannel.selectableChannel().toString()).append(" -->\n").append("<!-- ")
+					.append(new java.util.Date()).append(" -->\n");
+			xmlDumpTrace.dumpBuffer(reactorChannel.channel(), reactorChannel.channel().protocolType(), msgBuf, null,
+					xmlString, errorInfo.error());
+			if (_reactorOptions.xmlTracing()){
+				System.out.println(xmlString);
+			}
+			if (_reactorOptions.xmlTraceToFile()) {
+				_fileDumper.dump(xmlString.toString());
+			}
+		}
+
+		// update ping handler
+		reactorChannel.pingHandler().receivedMsg();
 
-			// Checks the channel's protocol type to perform auto conversion for the JSON
-			// protocol
-			if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE)
+		// Checks the channel's protocol type to perform auto conversion for the JSON
+		// protocol
+		if (reactorChannel.channel().protocolType() == Codec.JSON_PROTOCOL_TYPE)
+		{
+			boolean failedToConvertJSONMsg = true;
+			String jsonErrorMsg = null;
+
+			if (Objects.isNull(jsonConverter))
 			{
-				boolean failedToConvertJSONMsg = true;
-				String jsonErrorMsg = null;
+				return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
+						"The JSON converter library has not been initialized properly.");
+			}
 
-				if (Objects.isNull(jsonConverter))
-				{
-					return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
-							"The JSON converter library has not been initialized properly.");
-				}
+			parseJsonOptions.clear();
+			parseJsonOptions.setProtocolType(reactorChannel.channel().protocolType());
 
-				parseJsonOptions.clear();
-				parseJsonOptions.setProtocolType(reactorChannel.channel().protocolType());
+			converterError.clear();
+			retval = jsonConverter.parseJsonBuffer(msgBuf, parseJsonOptions, converterError);
 
-				converterError.clear();
-				retval = jsonConverter.parseJsonBuffer(msgBuf, parseJsonOptions, converterError);
+			if (retval == CodecReturnCodes.SUCCESS)
+			{
+				decodeJsonMsgOptions.clear();
+				decodeJsonMsgOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
+				decodeJsonMsgOptions.setMajorVersion(reactorChannel.channel().majorVersion());
+				decodeJsonMsgOptions.setMinorVersion(reactorChannel.channel().minorVersion());
 
-				if (retval == CodecReturnCodes.SUCCESS)
+				/*
+				 * Set the ReactorChannel so that users can get it in the
+				 * ReactorServiceNameToIdCallback callback
+				 */
+				if (Objects.nonNull(serviceNameIdConverterClient))
 				{
-					decodeJsonMsgOptions.clear();
-					decodeJsonMsgOptions.setJsonProtocolType(JsonProtocol.JSON_JPT_JSON2);
-					decodeJsonMsgOptions.setMajorVersion(reactorChannel.channel().majorVersion());
-					decodeJsonMsgOptions.setMinorVersion(reactorChannel.channel().minorVersion());
+					serviceNameIdConverterClient.setReactorChannel(reactorChannel);
+				}
 
-					/*
-					 * Set the ReactorChannel so that users can get it in the
-					 * ReactorServiceNameToIdCallback callback
-					 */
-					if (Objects.nonNull(serviceNameIdConverterClient))
+				jsonMsg.clear();
+
+				while ((retval = jsonConverter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions,
+						converterError)) != CodecReturnCodes.END_OF_CONTAINER)
+				{
+					if (retval != CodecReturnCodes.SUCCESS)
 					{
-						serviceNameIdConverterClient.setReactorChannel(reactorChannel);
+						/* Failed to convert a JSON message. */
+						break;
 					}
 
-					jsonMsg.clear();
-
-					while ((retval = jsonConverter.decodeJsonMsg(jsonMsg, decodeJsonMsgOptions,
-							converterError)) != CodecReturnCodes.END_OF_CONTAINER)
+					switch (jsonMsg.jsonMsgClass())
 					{
-						if (retval != CodecReturnCodes.SUCCESS)
+					case JsonMsgClasses.RSSL_MESSAGE:
+					{
+						failedToConvertJSONMsg = false;
+
+						if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile())
 						{
-							/* Failed to convert a JSON message. */
-							break;
+							xmlString.setLength(0);
+							xmlString.append("\n<!-- Dump Reactor message -->\n").append("<!-- ")
+									.append(reactorChannel.selectableChannel().toString()).append(" -->\n")
+									.append("<!-- ").append(new java.util.Date()).append(" -->\n");
+							xmlDumpTrace.dumpBuffer(reactorChannel.majorVersion(), reactorChannel.minorVersion(),
+									Codec.RWF_PROTOCOL_TYPE, jsonMsg.rwfMsg().encodedMsgBuffer(), null, xmlString,
+									errorInfo.error());
+							if (_reactorOptions.xmlTracing()){
+								System.out.println(xmlString);
+							}
+							if (_reactorOptions.xmlTraceToFile()) {
+								_fileDumper.dump(xmlString.toString());
+							}
 						}
 
-						switch (jsonMsg.jsonMsgClass())
+						// inspect the converted message and dispatch it to the application.
+						retval = processRwfMessage(msgBuf, jsonMsg.rwfMsg().encodedMsgBuffer(), reactorChannel,
+								errorInfo);
+						if (retval != ReactorReturnCodes.SUCCESS)
 						{
-						case JsonMsgClasses.RSSL_MESSAGE:
+							return retval;
+						}
+
+						break;
+					}
+					case JsonMsgClasses.PING:
+					{
+						failedToConvertJSONMsg = false;
+
+						TransportBuffer msgBuffer = reactorChannel.getBuffer(JSON_PONG_MESSAGE.length(), false,
+								errorInfo);
+
+						if (Objects.nonNull(msgBuffer))
 						{
-							failedToConvertJSONMsg = false;
+							msgBuffer.data().put(JSON_PONG_MESSAGE.getBytes());
 
 							if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile())
 							{
 								xmlString.setLength(0);
-								xmlString.append("\n<!-- Dump Reactor message -->\n").append("<!-- ")
+								xmlString.append("\n<!-- Outgoing Reactor message -->\n").append("<!-- ")
 										.append(reactorChannel.selectableChannel().toString()).append(" -->\n")
 										.append("<!-- ").append(new java.util.Date()).append(" -->\n");
-								xmlDumpTrace.dumpBuffer(reactorChannel.majorVersion(), reactorChannel.minorVersion(),
-										Codec.RWF_PROTOCOL_TYPE, jsonMsg.rwfMsg().encodedMsgBuffer(), null, xmlString,
-										errorInfo.error());
+								xmlDumpTrace.dumpBuffer(reactorChannel.channel(), Codec.JSON_PROTOCOL_TYPE,
+										msgBuffer, null, xmlString, errorInfo.error());
 								if (_reactorOptions.xmlTracing()){
 									System.out.println(xmlString);
 								}
@@ -5403,300 +5685,154 @@ public class Reactor
 								}
 							}
 
-							// inspect the converted message and dispatch it to the application.
-							retval = processRwfMessage(msgBuf, jsonMsg.rwfMsg().encodedMsgBuffer(), reactorChannel,
-									errorInfo);
-							if (retval != ReactorReturnCodes.SUCCESS)
-							{
-								return retval;
-							}
-
-							break;
-						}
-						case JsonMsgClasses.PING:
-						{
-							failedToConvertJSONMsg = false;
-
-							TransportBuffer msgBuffer = reactorChannel.getBuffer(JSON_PONG_MESSAGE.length(), false,
-									errorInfo);
-
-							if (Objects.nonNull(msgBuffer))
-							{
-								msgBuffer.data().put(JSON_PONG_MESSAGE.getBytes());
-
-								if (_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile())
-								{
-									xmlString.setLength(0);
-									xmlString.append("\n<!-- Outgoing Reactor message -->\n").append("<!-- ")
-											.append(reactorChannel.selectableChannel().toString()).append(" -->\n")
-											.append("<!-- ").append(new java.util.Date()).append(" -->\n");
-									xmlDumpTrace.dumpBuffer(reactorChannel.channel(), Codec.JSON_PROTOCOL_TYPE,
-											msgBuffer, null, xmlString, errorInfo.error());
-									if (_reactorOptions.xmlTracing()){
-										System.out.println(xmlString);
-									}
-									if (_reactorOptions.xmlTraceToFile()) {
-										_fileDumper.dump(xmlString.toString());
-									}
-								}
-
-								/* Reply with JSON PONG message to the sender */
-								retval = sendJSONMessage(msgBuffer, reactorChannel, errorInfo);
-							} else
-							{
-								retval = ReactorReturnCodes.FAILURE;
-							}
-
-							break;
-						}
-						case JsonMsgClasses.PONG:
-						{
-							failedToConvertJSONMsg = false;
-							/* Do nothing as the ping handle is already updated. */
-							break;
-						}
-						case JsonMsgClasses.ERROR:
+							/* Reply with JSON PONG message to the sender */
+							retval = sendJSONMessage(msgBuffer, reactorChannel, errorInfo);
+						} else
 						{
-							xmlString.setLength(0);
-							xmlDumpTrace.dumpBuffer(reactorChannel.channel(), Codec.JSON_PROTOCOL_TYPE, msgBuf, null,
-									xmlString, errorInfo.error());
-							jsonErrorMsg = xmlString.toString();
-
-							populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
-									"Received JSON error message: " + jsonErrorMsg);
-
-							failedToConvertJSONMsg = false;
 							retval = ReactorReturnCodes.FAILURE;
-							break;
-						}
 						}
 
-						if (retval != ReactorReturnCodes.SUCCESS)
-							break;
-
-						failedToConvertJSONMsg = true; /* Reset the flag to its initial state. */
+						break;
 					}
-				} else
-				{
-					failedToConvertJSONMsg = false;
-
-					/* Failed to parse JSON buffer */
-					populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
-							"Failed to parse JSON message: " + converterError.getText());
-				}
-
-				if (retval < ReactorReturnCodes.SUCCESS)
-				{
-					if (failedToConvertJSONMsg)
+					case JsonMsgClasses.PONG:
 					{
-						/* Send JSON error message back when it fails to decode JSON message. */
-						jsonErrorParams.clear();
-						jsonErrorParams.fillParams(converterError, jsonMsg.rwfMsg().streamId());
-						jsonErrorOutputBuffer.clear();
-
-						getMessageError.clear();
-						if ((retval = jsonConverter.getErrorMessage(jsonErrorOutputBuffer, jsonErrorParams,
-								getMessageError)) == CodecReturnCodes.SUCCESS && sendJsonConvError)
-						{
-							TransportBuffer msgBuffer = reactorChannel.getBuffer(jsonErrorOutputBuffer.length(), false,
-									errorInfo);
-
-							if (Objects.nonNull(msgBuffer))
-							{
-								msgBuffer.data().put(jsonErrorOutputBuffer.data());
-
-								/* Reply with JSON ERROR message to the sender */
-								retval = sendJSONMessage(msgBuffer, reactorChannel, errorInfo);
-							} else
-							{
-								retval = ReactorReturnCodes.FAILURE;
-							}
-						}
+						failedToConvertJSONMsg = false;
+						/* Do nothing as the ping handle is already updated. */
+						break;
 					}
-
-					/*
-					 * Notifies JSON conversion error messages if the callback is specified by users
-					 */
-					if (Objects.nonNull(JsonConversionEventCallback)
-							&& (converterError.getCode() != JsonConverterErrorCodes.JSON_ERROR_NO_ERROR_CODE))
+					case JsonMsgClasses.ERROR:
 					{
-						jsonConversionEvent.clear();
-						jsonConversionEvent.reactorChannel(reactorChannel);
+						xmlString.setLength(0);
+						xmlDumpTrace.dumpBuffer(reactorChannel.channel(), Codec.JSON_PROTOCOL_TYPE, msgBuf, null,
+								xmlString, errorInfo.error());
+						jsonErrorMsg = xmlString.toString();
 
-						if (failedToConvertJSONMsg)
-						{
-							populateErrorInfo(jsonConversionEvent.errorInfo(), ReactorReturnCodes.FAILURE,
-									"Reactor.performChannelRead",
-									"Failed to convert JSON message: " + jsonErrorOutputBuffer.toString());
-						} else
-						{
-							populateErrorInfo(jsonConversionEvent.errorInfo(), ReactorReturnCodes.FAILURE,
-									"Reactor.performChannelRead",
-									"Failed to convert JSON message: " + converterError.getText());
-						}
+						populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
+								"Received JSON error message: " + jsonErrorMsg);
 
-						jsonConversionEvent.userSpec = jsonConverterUserSpec;
-						jsonConversionEvent.error().text(jsonConversionEvent.errorInfo().error().text());
-						jsonConversionEvent.error().errorId(CodecReturnCodes.FAILURE);
-
-						int cret = JsonConversionEventCallback.reactorJsonConversionEventCallback(jsonConversionEvent);
-
-						if (cret == ReactorCallbackReturnCodes.FAILURE)
-						{
-							return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE,
-									"Reactor.performChannelRead", "Error return code" + cret
-											+ " from the ReactorJsonConversionEventCallback callback.");
-						}
+						failedToConvertJSONMsg = false;
+						retval = ReactorReturnCodes.FAILURE;
+						break;
+					}
 					}
 
-					/*
-					 * Don't closes the channel when this function can reply the JSON ERROR message
-					 * back.
-					 */
-					if (closeChannelFromFailure && (retval != ReactorReturnCodes.SUCCESS))
-					{
-						if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client
-																												// channel
-						{
-							reactorChannel.state(State.DOWN_RECONNECTING);
-						} else // server channel or no more retries
-						{
-							reactorChannel.state(State.DOWN);
-						}
-
-						if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client
-																												// channel
-						{
-							// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
-							sendAndHandleChannelEventCallback("Reactor.performChannelRead",
-									ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING, reactorChannel, errorInfo);
-						} else // server channel or no more retries
-						{							
-							// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
-							sendAndHandleChannelEventCallback("Reactor.performChannelRead",
-									ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, errorInfo);
-						}
+					if (retval != ReactorReturnCodes.SUCCESS)
+						break;
 
-						return ReactorReturnCodes.SUCCESS; /* Problem handled, so return success */
-					}
+					failedToConvertJSONMsg = true; /* Reset the flag to its initial state. */
 				}
 			} else
 			{
-				// inspect the message and dispatch it to the application.
-				retval = processRwfMessage(msgBuf, null, reactorChannel, errorInfo);
-				if (retval != ReactorReturnCodes.SUCCESS)
-				{
-					return retval;
-				}
+				failedToConvertJSONMsg = false;
+
+				/* Failed to parse JSON buffer */
+				populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
+						"Failed to parse JSON message: " + converterError.getText());
 			}
-		} else
-		{
-			if (readArgs.readRetVal() == TransportReturnCodes.FAILURE)
+
+			if (retval < ReactorReturnCodes.SUCCESS)
 			{
-				if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client channel
-				{
-					reactorChannel.state(State.DOWN_RECONNECTING);
-				} else // server channel or no more retries
+				if (failedToConvertJSONMsg)
 				{
-					reactorChannel.state(State.DOWN);
-				}
+					/* Send JSON error message back when it fails to decode JSON message. */
+					jsonErrorParams.clear();
+					jsonErrorParams.fillParams(converterError, jsonMsg.rwfMsg().streamId());
+					jsonErrorOutputBuffer.clear();
 
-				if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client channel
-				{
-					// send CHANNEL_DOWN_RECONNECTING to user app via reactorChannelEventCallback.
-					sendAndHandleChannelEventCallback("Reactor.performChannelRead",
-							ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING, reactorChannel, errorInfo);
-				} else // server channel or no more retries
-				{
-					// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
-					sendAndHandleChannelEventCallback("Reactor.performChannelRead",
-							ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, errorInfo);
-				}
+					getMessageError.clear();
+					if ((retval = jsonConverter.getErrorMessage(jsonErrorOutputBuffer, jsonErrorParams,
+							getMessageError)) == CodecReturnCodes.SUCCESS && sendJsonConvError)
+					{
+						TransportBuffer msgBuffer = reactorChannel.getBuffer(jsonErrorOutputBuffer.length(), false,
+								errorInfo);
 
-			} else if (readArgs.readRetVal() == TransportReturnCodes.READ_FD_CHANGE)
-			{
-				// reset selectable channel on ReactorChannel to new one
-				reactorChannel.selectableChannelFromChannel(reactorChannel.channel());
+						if (Objects.nonNull(msgBuffer))
+						{
+							msgBuffer.data().put(jsonErrorOutputBuffer.data());
 
-				// set oldSelectableChannel on ReactorChannel
-				reactorChannel.oldSelectableChannel(reactorChannel.channel().oldSelectableChannel());
+							/* Reply with JSON ERROR message to the sender */
+							retval = sendJSONMessage(msgBuffer, reactorChannel, errorInfo);
+						} else
+						{
+							retval = ReactorReturnCodes.FAILURE;
+						}
+					}
+				}
 
 				/*
-				 * If this is warm standby, update the selectable channel list in the
-				 * warmstandbychannelinfo
+				 * Notifies JSON conversion error messages if the callback is specified by users
 				 */
-				if (reactorHandlesWarmStandby(reactorChannel))
+				if (Objects.nonNull(JsonConversionEventCallback)
+						&& (converterError.getCode() != JsonConverterErrorCodes.JSON_ERROR_NO_ERROR_CODE))
 				{
-					reactorChannel.warmStandByHandlerImpl.mainReactorChannelImpl().warmStandbyChannelInfo()
-							.selectableChannelList().remove(reactorChannel.channel().oldSelectableChannel());
-					reactorChannel.warmStandByHandlerImpl.mainReactorChannelImpl().warmStandbyChannelInfo()
-							.selectableChannelList().add(reactorChannel.channel().selectableChannel());
-				}
+					jsonConversionEvent.clear();
+					jsonConversionEvent.reactorChannel(reactorChannel);
 
-				// send FD_CHANGE WorkerEvent to Worker.
-				if (!sendWorkerEvent(WorkerEventTypes.FD_CHANGE, reactorChannel))
-				{
-					// sendWorkerEvent() failed, send channel down
-					reactorChannel.state(State.DOWN);
-					sendAndHandleChannelEventCallback("Reactor.performChannelRead",
-							ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, errorInfo);
-					return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "Reactor.performChannelRead",
-							"sendWorkerEvent() failed");
-				}
+					if (failedToConvertJSONMsg)
+					{
+						populateErrorInfo(jsonConversionEvent.errorInfo(), ReactorReturnCodes.FAILURE,
+								"Reactor.performChannelRead",
+								"Failed to convert JSON message: " + jsonErrorOutputBuffer.toString());
+					} else
+					{
+						populateErrorInfo(jsonConversionEvent.errorInfo(), ReactorReturnCodes.FAILURE,
+								"Reactor.performChannelRead",
+								"Failed to convert JSON message: " + converterError.getText());
+					}
 
-				// send FD_CHANGE to user app via reactorChannelEventCallback.
-				sendAndHandleChannelEventCallback("Reactor.performChannelRead", ReactorChannelEventTypes.FD_CHANGE,
-						reactorChannel, errorInfo);
+					jsonConversionEvent.userSpec = jsonConverterUserSpec;
+					jsonConversionEvent.error().text(jsonConversionEvent.errorInfo().error().text());
+					jsonConversionEvent.error().errorId(CodecReturnCodes.FAILURE);
+
+					int cret = JsonConversionEventCallback.reactorJsonConversionEventCallback(jsonConversionEvent);
+
+					if (cret == ReactorCallbackReturnCodes.FAILURE)
+					{
+						return populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE,
+								"Reactor.performChannelRead", "Error return code" + cret
+										+ " from the ReactorJsonConversionEventCallback callback.");
+					}
+				}
 
 				/*
-				 * If this is warm standby, remove the old selectable channel from the old
-				 * channel list in the warmstandbychannelinfo
+				 * Don't closes the channel when this function can reply the JSON ERROR message
+				 * back.
 				 */
-				if (reactorHandlesWarmStandby(reactorChannel))
-				{
-					reactorChannel.warmStandByHandlerImpl.mainReactorChannelImpl().warmStandbyChannelInfo()
-							.oldSelectableChannelList().remove(reactorChannel.channel().oldSelectableChannel());
-				}
-			} else if (readArgs.readRetVal() == TransportReturnCodes.READ_PING)
-			{
-				if ((_reactorOptions.xmlTracing() || _reactorOptions.xmlTraceToFile()) && _reactorOptions.xmlTracePing())
+				if (closeChannelFromFailure && (retval != ReactorReturnCodes.SUCCESS))
 				{
-					xmlString.setLength(0);
-					xmlString.append("\n<!-- Incoming Ping message -->\n").append("<!-- ")
-							.append(reactorChannel.selectableChannel().toString()).append(" -->\n").append("<!-- ")
-							.append(new java.util.Date()).append(" -->\n");
-					if (_reactorOptions.xmlTracing()){
-						System.out.println(xmlString);
+					if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client
+																											// channel
+					{
+						reactorChannel.state(State.DOWN_RECONNECTING);
+					} else // server channel or no more retries
+					{
+						reactorChannel.state(State.DOWN);
 					}
-					if (_reactorOptions.xmlTraceToFile()) {
-
-						_fileDumper.dump(xmlString.toString());
 
+					if (reactorChannel.server() == null && !reactorChannel.recoveryAttemptLimitReached()) // client
+																											// channel
+					{
+						// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
+						sendAndHandleChannelEventCallback("Reactor.performChannelRead",
+								ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING, reactorChannel, errorInfo);
+					} else // server channel or no more retries
+					{							
+						// send CHANNEL_DOWN to user app via reactorChannelEventCallback.
+						sendAndHandleChannelEventCallback("Reactor.performChannelRead",
+								ReactorChannelEventTypes.CHANNEL_DOWN, reactorChannel, errorInfo);
 					}
+
+					return ReactorReturnCodes.SUCCESS; /* Problem handled, so return success */
 				}
-				reactorChannel.pingHandler().receivedMsg();
 			}
-		}
-
-		if (readArgs.readRetVal() == TransportReturnCodes.READ_PING)
-		{
-			// update ping handler
-			if (_reactorOptions.pingStatSet())
-				reactorChannel.pingHandler().receivedPing();
-		}
-
-		// Aggregate number of bytes read
-		if (_reactorOptions.readStatSet() == true)
-		{
-			((ReadArgsImpl) _readArgsAggregator)
-					.bytesRead(overflowSafeAggregate(_readArgsAggregator.bytesRead(), readArgs.bytesRead()));
-			((ReadArgsImpl) _readArgsAggregator).uncompressedBytesRead(overflowSafeAggregate(
-					_readArgsAggregator.uncompressedBytesRead(), readArgs.uncompressedBytesRead()));
-		}
-
-		if (readArgs.readRetVal() > 0)
+		} else
 		{
-			return readArgs.readRetVal();
+			// inspect the message and dispatch it to the application.
+			retval = processRwfMessage(msgBuf, null, reactorChannel, errorInfo);
+			if (retval != ReactorReturnCodes.SUCCESS)
+			{
+				return retval;
+			}
 		}
 
 		return ReactorReturnCodes.SUCCESS;
@@ -5818,6 +5954,8 @@ public class Reactor
 		{
 		case FLUSH_DONE:
 			reactorChannel.flushRequested(false);
+			if (_metrics != null)
+				_metrics.sampleBufferUsage(reactorChannel);
 			if (reactorChannel.flushAgain())
 			{
 				/*
@@ -8890,6 +9028,7 @@ public class Reactor
 		int retval = ReactorReturnCodes.SUCCESS;
 
 		_reactorLock.lock();
+		long dispatchStartTime = _metrics != null ? System.nanoTime() : 0;
 
 		try
 		{
@@ -8912,6 +9051,11 @@ public class Reactor
 			}
 			
 			// handle Reactor's channel before individual channels
+			// consumes a notification sent for an event that was already read
+			if (_workerQueue.readQueueSize() == 0)
+				_workerQueue.read();
+			if (_metrics != null)
+				_metrics.workerQueueDepth.set(_workerQueue.readQueueSize());
 			while (msgCount < maxMessages && _workerQueue.readQueueSize() > 0)
 			{
 				msgCount++;
@@ -9029,7 +9173,7 @@ public class Reactor
 												int bytesReadBefore = dispatchOptions.readArgs()
 														.uncompressedBytesRead();
 
-												if ((retval = performChannelRead(channel, dispatchOptions.readArgs(),
+												if ((retval = performChannelRead(channel, dispatchOptions.readArgs(), maxMessages - msgCount,
 														errorInfo)) < ReactorReturnCodes.SUCCESS)
 												{
 													if (channel.state() != ReactorChannel.State.CLOSED && channel
@@ -9042,10 +9186,10 @@ public class Reactor
 													}
 												}
 
-												if ((dispatchOptions.readArgs().uncompressedBytesRead()
+												if (_channelReadMsgCount > 0 || (dispatchOptions.readArgs().uncompressedBytesRead()
 														- bytesReadBefore) > 0)
 												{
-													msgCount++;
+													msgCount += Math.max(_channelReadMsgCount, 1);
 												}
 											}
 										}
@@ -9062,7 +9206,7 @@ public class Reactor
 									{
 										int bytesReadBefore = dispatchOptions.readArgs().uncompressedBytesRead();
 
-										if ((retval = performChannelRead(reactorChnl, dispatchOptions.readArgs(),
+										if ((retval = performChannelRead(reactorChnl, dispatchOptions.readArgs(), maxMessages - msgCount,
 												errorInfo)) < ReactorReturnCodes.SUCCESS)
 										{
 											if (reactorChnl.state() != ReactorChannel.State.CLOSED
@@ -9077,9 +9221,9 @@ public class Reactor
 											}
 										}
 
-										if ((dispatchOptions.readArgs().uncompressedBytesRead() - bytesReadBefore) > 0)
+										if (_channelReadMsgCount > 0 || (dispatchOptions.readArgs().uncompressedBytesRead() - bytesReadBefore) > 0)
 										{
-											msgCount++;
+											msgCount += Math.max(_channelReadMsgCount, 1);
 										}
 									}
 								}
@@ -9115,7 +9259,7 @@ public class Reactor
 						while (isReactorChannelReady(reactorChnl) && msgCount < maxMessages && retval > 0)
 						{
 							int bytesReadBefore = dispatchOptions.readArgs().uncompressedBytesRead();
-							if ((retval = performChannelRead(reactorChnl, dispatchOptions.readArgs(),
+							if ((retval = performChannelRead(reactorChnl, dispatchOptions.readArgs(), maxMessages - msgCount,
 									errorInfo)) < ReactorReturnCodes.SUCCESS)
 							{
 								
@@ -9131,9 +9275,9 @@ public class Reactor
 								}
 							}
 							// only increment msgCount if bytes are actually read
-							if ((dispatchOptions.readArgs().uncompressedBytesRead() - bytesReadBefore) > 0)
+							if (_channelReadMsgCount > 0 || (dispatchOptions.readArgs().uncompressedBytesRead() - bytesReadBefore) > 0)
 							{
-								msgCount++;
+								msgCount += Math.max(_channelReadMsgCount, 1);
 							}
 						}
 
@@ -9167,6 +9311,8 @@ public class Reactor
 			}
 		} finally
 		{
+			if (_metrics != null)
+				_metrics.dispatchTime.record(System.nanoTime() - dispatchStartTime);
 			_reactorLock.unlock();
 		}
 
@@ -9233,6 +9379,8 @@ public class Reactor
 							jsonConverterOptions.catchUnknownJsonKeys())
 					.setProperty(JsonConverterProperties.JSON_CPC_CATCH_UNKNOWN_JSON_FIDS,
 							jsonConverterOptions.catchUnknownJsonFids())
+					.setProperty(JsonConverterProperties.JSON_CPC_STREAMING_DECODE,
+							jsonConverterOptions.streamingJsonDecode())
 					.setProperty(JsonConverterProperties.JSON_CPC_ALLOW_ENUM_DISPLAY_STRINGS, true) /*
 																									 * Always enable
 																									 * this feature
@@ -9294,6 +9442,10 @@ public class Reactor
 			// set the ReactorChannel's state to CLOSED.
 			// and remove it from the queue.
 			reactorChannel.state(State.CLOSED);
+			if (_metrics != null)
+				_metrics.releaseBufferUsage(reactorChannel);
+			if (_submitEncodedMsgMap.size() > 0)
+				_submitEncodedMsgMap.keySet().removeIf(key -> key._reactorChannel == reactorChannel);
 			if (reactorChannel.warmStandByHandlerImpl == null ||
 					!reactorChannel.equals(reactorChannel.warmStandByHandlerImpl.mainReactorChannelImpl()))
 			{
@@ -9528,8 +9680,7 @@ public class Reactor
 				{
 					WlRequest wlRequest;
 
-					_tempWlInteger.value(refreshMsg.streamId());
-					if ((wlRequest = reactorChannel.watchlist().streamIdtoWlRequestTable().get(_tempWlInteger)) == null)
+					if ((wlRequest = reactorChannel.watchlist().streamIdtoWlRequestTable().get(refreshMsg.streamId())) == null)
 					{
 						return populateErrorInfo(errorInfo, retval, "Reactor.performChannelRead",
 								"Internal Error: TunnelStream watchlist request entry not found.");
@@ -10653,12 +10804,11 @@ public class Reactor
 
 			if (!wsbHandler.queuedRecoveryMessage() || addMsgToRecoveryQueue)
 			{
-				Iterator<Map.Entry<WlInteger, WlRequest>> iter = watchlist._streamIdtoWlRequestTable.entrySet()
-						.iterator();
+				WlIntHashMap<WlRequest> requestTable = watchlist._streamIdtoWlRequestTable;
 
-				while (iter.hasNext())
+				for (int slot = requestTable.nextSlot(-1); slot >= 0; slot = requestTable.nextSlot(slot))
 				{
-					Map.Entry<WlInteger, WlRequest> request = iter.next();
+					WlRequest request = requestTable.valueAt(slot);
 
 					ReactorWLSubmitMsgOptions submitOpts;
 					if (wsbHandler.freeSubmitMsgQueue().size() != 0)
@@ -10669,7 +10819,7 @@ public class Reactor
 						submitOpts = new ReactorWLSubmitMsgOptions();
 					}
 					
-					RequestMsg tmpMsg = request.getValue().requestMsg();
+					RequestMsg tmpMsg = request.requestMsg();
 					
 					if(tmpMsg.domainType() == DomainTypes.LOGIN || tmpMsg.domainType() == DomainTypes.SOURCE || tmpMsg.domainType() == DomainTypes.DICTIONARY)
 					{
@@ -10678,9 +10828,9 @@ public class Reactor
 					
 					tmpMsg.copy(submitOpts.msg, CopyMsgFlags.ALL_FLAGS);
 
-					submitOpts.submitOptions.serviceName(request.getValue().streamInfo()._serviceName);
+					submitOpts.submitOptions.serviceName(request.streamInfo()._serviceName);
 					submitOpts.submitOptions.requestMsgOptions()
-							.userSpecObj(request.getValue().streamInfo().userSpecObject());
+							.userSpecObj(request.streamInfo().userSpecObject());
 					
 					lastSubmitionTime = System.nanoTime();
 					submitOpts.submitTime = lastSubmitionTime;
@@ -10862,4 +11012,36 @@ public class Reactor
 		return majorVersion;
 	}
 
+	/* Identifies an encoded message submitted to a channel on a stream, by the identity of the
+	 * channel and of the caller's buffer, as Msg keys identify submitted messages. */
+	static class EncodedMsgKey
+	{
+		ReactorChannel _reactorChannel;
+		Buffer _encodedMsg;
+		int _streamId;
+
+		EncodedMsgKey set(ReactorChannel reactorChannel, Buffer encodedMsg, int streamId)
+		{
+			_reactorChannel = reactorChannel;
+			_encodedMsg = encodedMsg;
+			_streamId = streamId;
+			return this;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return (System.identityHashCode(_reactorChannel) * 31 + System.identityHashCode(_encodedMsg)) * 31 + _streamId;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof EncodedMsgKey))
+				return false;
+
+			EncodedMsgKey key = (EncodedMsgKey)obj;
+			return _reactorChannel == key._reactorChannel && _encodedMsg == key._encodedMsg && _streamId == key._streamId;
+		}
+	}
 }
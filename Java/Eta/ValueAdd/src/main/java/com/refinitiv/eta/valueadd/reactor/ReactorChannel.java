@@ -87,6 +87,7 @@ public class ReactorChannel extends VaNode
     private int _reactorChannelType = ReactorChannelType.NORMAL; 	// The Reactor channel type that this channel represents.
     private ReactorWarmStandbyChannelInfo _warmStandbyChInfo = new ReactorWarmStandbyChannelInfo(); 		// This member is only available for the Reactor warm standby channel to get a list of channels. Used for notification of available data for this channel.
     com.refinitiv.eta.transport.Error _error = TransportFactory.createError();
+    int _sampledBufferUsage; // buffer usage last added to the Reactor's buffer usage gauge
     
     /* The last tunnel-stream expire time requested to the Worker, if one is currently requested. */
     private long _tunnelStreamManagerNextDispatchTime = 0;
@@ -399,6 +400,7 @@ public class ReactorChannel extends VaNode
         _initializationEndTimeMs = 0L;
         _flushRequested = false;
         _flushAgain = false;
+        _sampledBufferUsage = 0;
         _pingHandler.clear();
         _sendPingMessage = false;
         _streamIdtoTunnelStreamTable.clear();
@@ -945,6 +947,65 @@ public class ReactorChannel extends VaNode
         }
     }
 
+    /**
+     * Sends an encoded message to the channel on the given stream.
+     * The message is copied into a buffer of the channel and its stream id is
+     * replaced, rather than encoding the message again, so a provider can encode
+     * an update once and send it to each consumer that requested the item, on the
+     * stream each consumer opened. The encoded message itself is not modified.
+     * If {@link ReactorReturnCodes#WRITE_CALL_AGAIN} is returned, submit the same
+     * encodedMsg on the same stream again, without changing its contents, to finish
+     * writing it. Other messages can be submitted in the meantime.
+     *
+     * @param encodedMsg the encoded message to send
+     * @param streamId the stream id to send the message on
+     * @param submitOptions options for how to send the message
+     * @param errorInfo error structure to be populated in the event of failure
+     *
+     * @return {@link ReactorReturnCodes#SUCCESS}, if submit succeeded or
+     * {@link ReactorReturnCodes#WRITE_CALL_AGAIN}, if the message cannot be written at this time or
+     * {@link ReactorReturnCodes#NO_BUFFERS}, if there are no more buffers to copy the message into or
+     * {@link ReactorReturnCodes#FAILURE}, if submit failed (refer to errorInfo for additional information)
+     */
+    public int submit(Buffer encodedMsg, int streamId, ReactorSubmitOptions submitOptions, ReactorErrorInfo errorInfo)
+    {
+        if (errorInfo == null || _reactor == null)
+            return ReactorReturnCodes.FAILURE;
+        else if (submitOptions == null)
+            return reactor().populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE,
+                    "ReactorChannel.submit",
+                    "submitOptions cannot be null.");
+        else if (encodedMsg == null)
+            return reactor().populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE,
+                    "ReactorChannel.submit",
+                    "encodedMsg cannot be null.");
+
+        _reactor._reactorLock.lock();
+
+        try
+        {
+            if (_watchlist != null || warmStandByHandlerImpl != null)
+                return reactor().populateErrorInfo(errorInfo, ReactorReturnCodes.INVALID_USAGE,
+                        "ReactorChannel.submit",
+                        "Cannot submit encoded message when watchlist is enabled.");
+
+            if (_reactor.isShutdown())
+                return _reactor.populateErrorInfo(errorInfo, ReactorReturnCodes.SHUTDOWN,
+                        "ReactorChannel.submit",
+                        "Reactor is shutdown, submit aborted.");
+            else if (_state == State.CLOSED)
+                return _reactor.populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE,
+                        "ReactorChannel.submit",
+                        "ReactorChannel is closed, submit aborted.");
+
+            return _reactor.submitChannel(this, encodedMsg, streamId, submitOptions, errorInfo);
+        }
+        finally
+        {
+            _reactor._reactorLock.unlock();
+        }
+    }
+
     /**
      * Sends an RDM message to the channel.
      *
@@ -144,6 +144,40 @@ public class ReactorFactory
             return null;
     }
 
+    /**
+     * Create a {@link ReactorShardGroup} of shardCount {@link Reactor} shards, each with its
+     * own dispatch thread. Every Reactor of the group is created with the same options.
+     *
+     * @param shardCount the number of shards, at least 1
+     * @param options the options of the Reactor of each shard
+     * @param errorInfo the error info
+     * @return a ReactorShardGroup object or null. If null, check errorInfo for additional
+     *         information regarding the failure
+     */
+    public static ReactorShardGroup createReactorShardGroup(int shardCount, ReactorOptions options, ReactorErrorInfo errorInfo)
+    {
+        if (errorInfo == null)
+        {
+            System.out.println("ReactorFactory.createReactorShardGroup: ReactorErrorInfo cannot be null, group not created.");
+            return null;
+        }
+
+        if (shardCount < 1)
+        {
+            errorInfo.clear();
+            errorInfo.code(ReactorReturnCodes.PARAMETER_OUT_OF_RANGE).location("ReactorFactory.createReactorShardGroup");
+            errorInfo.error().errorId(ReactorReturnCodes.PARAMETER_OUT_OF_RANGE);
+            errorInfo.error().text("shardCount must be at least 1");
+            return null;
+        }
+
+        ReactorShardGroup group = new ReactorShardGroup(shardCount);
+        if (group.init(options, errorInfo))
+            return group;
+        else
+            return null;
+    }
+
     /**
      * Create {@link ReactorErrorInfo}.
      *
@@ -28,6 +28,7 @@ public class ReactorJsonConverterOptions
 	private boolean closeChannelFromFailure;
 	private int jsonConverterPoolsSize = JsonFactory.JSON_CONVERTER_DEFAULT_POOLS_SIZE;
 	private boolean sendJsonConvError;
+	private boolean streamingJsonDecode;
 	
 	ReactorJsonConverterOptions()
 	{
@@ -49,6 +50,7 @@ public class ReactorJsonConverterOptions
 		closeChannelFromFailure(true);
 		jsonConverterPoolsSize = JsonFactory.JSON_CONVERTER_DEFAULT_POOLS_SIZE;
 		sendJsonConvError(false);
+		streamingJsonDecode(false);
 	}
 	
 	/**
@@ -275,4 +277,27 @@ public class ReactorJsonConverterOptions
 	{
 		this.sendJsonConvError = sendJsonConvError;
 	}
+
+	/**
+	 * Checks whether field lists are converted from JSON to RWF directly from the JSON token stream.
+	 *
+	 * @return true to use streaming decode; false otherwise.
+	 */
+	public boolean streamingJsonDecode()
+	{
+		return streamingJsonDecode;
+	}
+
+	/**
+	 * Specifies true to convert the field lists of JSON messages to RWF directly from the JSON token stream,
+	 * without building a tree node for each field entry. This reduces the garbage created per message
+	 * on channels with high JSON update rates.
+	 * <p>Defaults to false.</p>
+	 *
+	 * @param streamingJsonDecode specifies true to use streaming decode; false otherwise.
+	 */
+	public void streamingJsonDecode(boolean streamingJsonDecode)
+	{
+		this.streamingJsonDecode = streamingJsonDecode;
+	}
 }
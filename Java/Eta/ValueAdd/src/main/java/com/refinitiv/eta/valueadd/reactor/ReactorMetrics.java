@@ -0,0 +1,62 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.TransportFactory;
+import com.refinitiv.eta.valueadd.metrics.Gauge;
+import com.refinitiv.eta.valueadd.metrics.MetricsRegistry;
+import com.refinitiv.eta.valueadd.metrics.Timer;
+
+/* Metrics updated by a Reactor, looked up once from the registry of its ReactorOptions.
+ * The Reactor only has an instance when a registry was specified. */
+class ReactorMetrics
+{
+    static final String DISPATCH_TIME = "reactor.dispatchTime";
+    static final String WORKER_QUEUE_DEPTH = "reactor.workerQueueDepth";
+    static final String BUFFER_USAGE = "reactor.bufferUsage";
+    static final String WATCHLIST_PENDING_REQUESTS = "reactor.watchlist.pendingRequests";
+
+    final Timer dispatchTime;
+    final Gauge workerQueueDepth;
+    final Gauge bufferUsage;
+    final Gauge watchlistPendingRequests;
+
+    // error of the bufferUsage calls, only used under the Reactor lock
+    private final Error _error = TransportFactory.createError();
+
+    ReactorMetrics(MetricsRegistry registry)
+    {
+        dispatchTime = registry.timer(DISPATCH_TIME);
+        workerQueueDepth = registry.gauge(WORKER_QUEUE_DEPTH);
+        bufferUsage = registry.gauge(BUFFER_USAGE);
+        watchlistPendingRequests = registry.gauge(WATCHLIST_PENDING_REQUESTS);
+    }
+
+    /* Updates the buffer usage gauge with the current usage of a channel. The gauge is the
+     * sum of the usage last sampled on each channel, so each channel adds the change. */
+    void sampleBufferUsage(ReactorChannel reactorChannel)
+    {
+        if (reactorChannel.channel() == null)
+            return;
+
+        int usage = reactorChannel.channel().bufferUsage(_error);
+        if (usage < 0)
+            usage = 0;
+        bufferUsage.add(usage - reactorChannel._sampledBufferUsage);
+        reactorChannel._sampledBufferUsage = usage;
+    }
+
+    /* Removes the last sampled usage of a closed channel from the buffer usage gauge. */
+    void releaseBufferUsage(ReactorChannel reactorChannel)
+    {
+        bufferUsage.add(-reactorChannel._sampledBufferUsage);
+        reactorChannel._sampledBufferUsage = 0;
+    }
+}
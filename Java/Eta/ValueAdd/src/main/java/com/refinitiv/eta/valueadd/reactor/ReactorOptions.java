@@ -18,6 +18,7 @@ import org.apache.hc.client5.http.utils.URIUtils;
 
 import com.refinitiv.eta.codec.Buffer;
 import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.valueadd.metrics.MetricsRegistry;
 
 /**
  * ReactorOptions to be used in the {@link ReactorFactory#createReactor(ReactorOptions,
@@ -64,6 +65,7 @@ public class ReactorOptions
     private ReactorRestProxyOptions _restProxyOptions = new ReactorRestProxyOptions();
 
     private ReactorDebuggerOptions _debuggerOptions = new ReactorDebuggerOptionsImpl();
+    private MetricsRegistry _metricsRegistry;
 
     Object _userSpecObj = null;
     boolean _xmlTracing = false;
@@ -485,6 +487,7 @@ public class ReactorOptions
         _reissueTokenAttemptLimit = -1;
         _reissueTokenAttemptInterval = 5000;
         _debuggerOptions.clear();
+        _metricsRegistry = null;
     }
     
     /*
@@ -536,6 +539,7 @@ public class ReactorOptions
         }
 
         options._debuggerOptions.copy(_debuggerOptions);
+        _metricsRegistry = options._metricsRegistry;
     }
     
     /* 
@@ -564,6 +568,38 @@ public class ReactorOptions
         }
     }
     
+    /**
+     * Specifies the registry of the metrics updated by the Reactor. The registry is
+     * shared rather than copied. The Reactor registers the following metrics:
+     * <ul>
+     * <li>"reactor.dispatchTime", a timer of the calls to {@link Reactor#dispatchAll(java.util.Set, ReactorDispatchOptions, ReactorErrorInfo)}
+     * and {@link ReactorChannel#dispatch(ReactorDispatchOptions, ReactorErrorInfo)}.</li>
+     * <li>"reactor.workerQueueDepth", a gauge of the events queued from the Worker thread, set on each dispatch call.</li>
+     * <li>"reactor.bufferUsage", a gauge of the buffers used by the channels of the Reactor, sampled on each write and flush.</li>
+     * <li>"reactor.watchlist.pendingRequests", a gauge of the watchlist requests waiting for their service.</li>
+     * </ul>
+     * Reactors sharing a registry share these metrics, so the gauges of usage and pending requests are summed.
+     * Metrics are only updated when a registry is specified, which is not the default.
+     *
+     * @param metricsRegistry the registry, or null to not update metrics
+     *
+     * @see com.refinitiv.eta.valueadd.metrics.MetricsFactory#createMetricsRegistry()
+     */
+    public void metricsRegistry(MetricsRegistry metricsRegistry)
+    {
+        _metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * The registry of the metrics updated by the Reactor.
+     *
+     * @return the registry, or null if metrics are not updated
+     */
+    public MetricsRegistry metricsRegistry()
+    {
+        return _metricsRegistry;
+    }
+
     /**
      * Getter for the RestProxyOptions
      * @return ReactorRestProxyOptions
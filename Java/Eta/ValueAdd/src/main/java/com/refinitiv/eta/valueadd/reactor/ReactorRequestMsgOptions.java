@@ -8,6 +8,8 @@
 
 package com.refinitiv.eta.valueadd.reactor;
 
+import com.refinitiv.eta.codec.DataDictionary;
+
 /**
  * Options to use when submitting a RequestMsg.
  * Only used when a watchlist is enabled.
@@ -17,6 +19,9 @@ package com.refinitiv.eta.valueadd.reactor;
 public class ReactorRequestMsgOptions
 {
     Object _userSpecObj;
+    int _conflationInterval;
+    int _conflationCount;
+    DataDictionary _conflationDictionary;
 
     /**
      * User-specified object to return as the application receives events related to this request.
@@ -38,12 +43,90 @@ public class ReactorRequestMsgOptions
         _userSpecObj = userSpecObj;
     }
     
+    /**
+     * Interval, in milliseconds, over which the watchlist conflates the updates of this request.
+     * When set, field list updates received for the item are merged field by field, keeping the latest
+     * value of each field, and delivered as a single update when the interval expires. Refresh and status
+     * messages are delivered after any pending update. Updates that are not field lists, are flagged
+     * as not to be conflated, use set-defined data, or carry a field that is not in the
+     * {@link #conflationDictionary()} or a partial RMTES update are delivered as they arrive, after any
+     * pending update. An update of another update type than the pending one, or with a rippling field
+     * that is already pending, is merged after the pending update is delivered.
+     * A value of 0 (the default) delivers every update. Used only when the request is first submitted.
+     *
+     * @return the conflation interval in milliseconds
+     */
+    public int conflationInterval()
+    {
+        return _conflationInterval;
+    }
+
+    /**
+     * Interval, in milliseconds, over which the watchlist conflates the updates of this request.
+     *
+     * @param conflationInterval the conflation interval in milliseconds, or 0 to deliver every update
+     * @see #conflationInterval()
+     */
+    public void conflationInterval(int conflationInterval)
+    {
+        _conflationInterval = conflationInterval;
+    }
+
+    /**
+     * Number of updates after which a conflated update is delivered before its interval expires.
+     * Only used when {@link #conflationInterval()} is set. A value of 0 (the default) delivers
+     * conflated updates on the interval only.
+     *
+     * @return the conflation count
+     */
+    public int conflationCount()
+    {
+        return _conflationCount;
+    }
+
+    /**
+     * Number of updates after which a conflated update is delivered before its interval expires.
+     *
+     * @param conflationCount the conflation count, or 0 to deliver on the interval only
+     * @see #conflationCount()
+     */
+    public void conflationCount(int conflationCount)
+    {
+        _conflationCount = conflationCount;
+    }
+
+    /**
+     * Dictionary used to conflate the updates of this request. Conflation needs the dictionary
+     * to find rippling and RMTES fields, so updates are delivered as they arrive when it is not set.
+     *
+     * @return the conflation dictionary
+     * @see #conflationInterval()
+     */
+    public DataDictionary conflationDictionary()
+    {
+        return _conflationDictionary;
+    }
+
+    /**
+     * Dictionary used to conflate the updates of this request.
+     *
+     * @param conflationDictionary the dictionary with the fields of the item's updates
+     * @see #conflationDictionary()
+     */
+    public void conflationDictionary(DataDictionary conflationDictionary)
+    {
+        _conflationDictionary = conflationDictionary;
+    }
+
     /**
      * Clears this object for reuse.
      */
     public void clear()
     {
         _userSpecObj = null;
+        _conflationInterval = 0;
+        _conflationCount = 0;
+        _conflationDictionary = null;
     }
 }
 
@@ -0,0 +1,252 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/* One shard of a ReactorShardGroup: a Reactor dispatched by its own thread with its own selector.
+ * The Reactor reports channel events to the shard before calling the application, so the shard
+ * keeps the selector registrations of its channels without help from the application. Channel
+ * events may be reported on any thread (Reactor.connect reports CHANNEL_OPENED on the application
+ * thread), so they are queued with the tasks of the application and the selector is only changed
+ * by the shard thread. */
+class ReactorShard implements Runnable
+{
+    static final int SELECT_TIME_MS = 100;
+
+    private final Reactor _reactor;
+    private final Selector _selector;
+    private final ReactorDispatchOptions _dispatchOptions = ReactorFactory.createReactorDispatchOptions();
+    private final ReactorErrorInfo _errorInfo = ReactorFactory.createReactorErrorInfo();
+    private final Thread _thread;
+    private volatile boolean _running = true;
+    // channel events and application tasks, run by the shard thread
+    private final ConcurrentLinkedQueue<Runnable> _tasks = new ConcurrentLinkedQueue<Runnable>();
+    // channels whose previous key was cancelled and not yet removed by a select, shard thread only
+    private final ArrayList<ReactorChannel> _pendingRegistrations = new ArrayList<ReactorChannel>();
+
+    /* A channel event with the selectable channels of the ReactorChannel at the time of the event,
+     * as the ReactorChannel may have changed again when the shard thread applies it. */
+    class ChannelEvent implements Runnable
+    {
+        final int _eventType;
+        final ReactorChannel _reactorChannel;
+        final SelectableChannel _selectableChannel;
+        final SelectableChannel _oldSelectableChannel;
+
+        ChannelEvent(int eventType, ReactorChannel reactorChannel)
+        {
+            _eventType = eventType;
+            _reactorChannel = reactorChannel;
+            _selectableChannel = reactorChannel.selectableChannel();
+            _oldSelectableChannel = reactorChannel.oldSelectableChannel();
+        }
+
+        @Override
+        public void run()
+        {
+            switch (_eventType)
+            {
+                case ReactorChannelEventTypes.FD_CHANGE:
+                    cancel(_oldSelectableChannel);
+                    register(_selectableChannel, _reactorChannel);
+                    break;
+                case ReactorChannelEventTypes.CHANNEL_DOWN:
+                case ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING:
+                    cancel(_selectableChannel);
+                    break;
+                default:
+                    register(_selectableChannel, _reactorChannel);
+                    break;
+            }
+        }
+    }
+
+    ReactorShard(Reactor reactor, int index) throws IOException
+    {
+        _reactor = reactor;
+        _selector = Selector.open();
+
+        ReactorChannel reactorChannel = _reactor.reactorChannel();
+        reactorChannel.selectableChannel().register(_selector, SelectionKey.OP_READ, reactorChannel);
+        _reactor._shard = this;
+
+        _thread = new Thread(this, "ReactorShard-" + index);
+        _thread.setDaemon(true);
+    }
+
+    Reactor reactor()
+    {
+        return _reactor;
+    }
+
+    Thread thread()
+    {
+        return _thread;
+    }
+
+    void start()
+    {
+        _thread.start();
+    }
+
+    @Override
+    public void run()
+    {
+        while (_running)
+        {
+            try
+            {
+                _selector.select(SELECT_TIME_MS);
+            }
+            catch (IOException e)
+            {
+                break;
+            }
+
+            runTasks();
+
+            if (!_pendingRegistrations.isEmpty())
+            {
+                for (int i = 0; i < _pendingRegistrations.size(); ++i)
+                {
+                    ReactorChannel reactorChannel = _pendingRegistrations.get(i);
+                    register(reactorChannel.selectableChannel(), reactorChannel);
+                }
+                _pendingRegistrations.clear();
+            }
+
+            Set<SelectionKey> keySet = _selector.selectedKeys();
+            int ret;
+            do
+            {
+                ret = _reactor.dispatchAll(keySet, _dispatchOptions, _errorInfo);
+            }
+            while (ret > ReactorReturnCodes.SUCCESS && _running);
+
+            // a failure has been reported to the application by the channel callbacks
+            if (ret == ReactorReturnCodes.SHUTDOWN)
+                break;
+
+            // apply the channel events of the callbacks, and run the tasks they queued, before the next select
+            runTasks();
+        }
+    }
+
+    /* Stops the dispatch thread and shuts down the Reactor of this shard. */
+    int shutdown(ReactorErrorInfo errorInfo)
+    {
+        _running = false;
+        _selector.wakeup();
+
+        if (_thread.isAlive() && Thread.currentThread() != _thread)
+        {
+            try
+            {
+                _thread.join();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        int ret = _reactor.isShutdown() ? ReactorReturnCodes.SUCCESS : _reactor.shutdown(errorInfo);
+
+        try
+        {
+            _selector.close();
+        }
+        catch (IOException e)
+        {
+        }
+
+        return ret;
+    }
+
+    /* Called by the Reactor, on any thread, before the channel event callback of the application.
+     * The event is applied to the selector by the shard thread, which is woken if it is selecting. */
+    void channelEvent(int eventType, ReactorChannel reactorChannel)
+    {
+        switch (eventType)
+        {
+            case ReactorChannelEventTypes.CHANNEL_OPENED:
+            case ReactorChannelEventTypes.CHANNEL_UP:
+            case ReactorChannelEventTypes.CHANNEL_READY:
+            case ReactorChannelEventTypes.FD_CHANGE:
+            case ReactorChannelEventTypes.CHANNEL_DOWN:
+            case ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING:
+                break;
+            default:
+                return;
+        }
+
+        execute(new ChannelEvent(eventType, reactorChannel));
+    }
+
+    /* Queues a task for the shard thread, and wakes it if it is selecting. */
+    void execute(Runnable task)
+    {
+        _tasks.add(task);
+        if (Thread.currentThread() != _thread)
+            _selector.wakeup();
+    }
+
+    /* Runs the queued channel events and tasks. Called on the shard thread only. */
+    private void runTasks()
+    {
+        Runnable task;
+        while (_running && (task = _tasks.poll()) != null)
+            task.run();
+    }
+
+    private void register(SelectableChannel selectableChannel, ReactorChannel reactorChannel)
+    {
+        if (selectableChannel == null)
+            return;
+
+        SelectionKey key = selectableChannel.keyFor(_selector);
+        if (key != null && key.isValid())
+        {
+            key.attach(reactorChannel);
+            return;
+        }
+
+        try
+        {
+            selectableChannel.register(_selector, SelectionKey.OP_READ, reactorChannel);
+        }
+        catch (ClosedChannelException e)
+        {
+            // the channel is down, which is reported by its own event
+        }
+        catch (CancelledKeyException e)
+        {
+            _pendingRegistrations.add(reactorChannel);
+        }
+    }
+
+    private void cancel(SelectableChannel selectableChannel)
+    {
+        if (selectableChannel == null)
+            return;
+
+        SelectionKey key = selectableChannel.keyFor(_selector);
+        if (key != null)
+            key.cancel();
+    }
+}
@@ -0,0 +1,226 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.refinitiv.eta.transport.Server;
+
+/**
+ * A group of {@link Reactor} shards, each dispatched by its own thread with its own
+ * selector and worker thread, so the callbacks of many channels can use several cores.
+ * <p>
+ * Channels added with {@link #accept(Server, ReactorAcceptOptions, ReactorRole, ReactorErrorInfo)}
+ * or {@link #connect(ReactorConnectOptions, ReactorRole, ReactorErrorInfo)} are assigned to the
+ * shards in turn. All callbacks of a channel are called on the dispatch thread of its shard, and
+ * the application does not call dispatch for the channels of a group.
+ * <p>
+ * {@link ReactorChannel#submit(com.refinitiv.eta.codec.Msg, ReactorSubmitOptions, ReactorErrorInfo)}
+ * and the other submit methods may be called for any channel from any thread, including the
+ * dispatch thread of another shard, as the Reactor of the channel serializes them with its dispatch.
+ * The Reactor is locked while it calls the callbacks, so a thread that holds a lock of the application
+ * while it submits must not share that lock with the callbacks; such work can instead be run on the
+ * dispatch thread with {@link #execute(int, Runnable, ReactorErrorInfo)}.
+ *
+ * @see ReactorFactory#createReactorShardGroup(int, ReactorOptions, ReactorErrorInfo)
+ */
+public class ReactorShardGroup
+{
+    private final ReactorShard[] _shards;
+    private final AtomicInteger _nextShard = new AtomicInteger();
+    private volatile boolean _isShutdown = false;
+
+    ReactorShardGroup(int shardCount)
+    {
+        _shards = new ReactorShard[shardCount];
+    }
+
+    /* Creates and starts the shards. Returns false with errorInfo populated if a shard cannot be created. */
+    boolean init(ReactorOptions options, ReactorErrorInfo errorInfo)
+    {
+        for (int i = 0; i < _shards.length; ++i)
+        {
+            Reactor reactor = ReactorFactory.createReactor(options, errorInfo);
+            if (reactor == null)
+            {
+                shutdown(ReactorFactory.createReactorErrorInfo());
+                return false;
+            }
+
+            try
+            {
+                _shards[i] = new ReactorShard(reactor, i);
+            }
+            catch (IOException e)
+            {
+                reactor.populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, "ReactorShardGroup.init",
+                                          "failed to open selector of shard " + i + ": " + e.getLocalizedMessage());
+                reactor.shutdown(ReactorFactory.createReactorErrorInfo());
+                shutdown(ReactorFactory.createReactorErrorInfo());
+                return false;
+            }
+        }
+
+        for (ReactorShard shard : _shards)
+            shard.start();
+
+        return true;
+    }
+
+    /**
+     * Returns the number of shards of this group.
+     *
+     * @return the number of shards
+     */
+    public int shardCount()
+    {
+        return _shards.length;
+    }
+
+    /**
+     * Returns the {@link Reactor} of a shard, for instance to create tunnel streams or to
+     * query the Reactor. The application must not call dispatch on it.
+     *
+     * @param shard index of the shard, from 0 to {@link #shardCount()} - 1
+     * @return the Reactor of the shard
+     */
+    public Reactor reactor(int shard)
+    {
+        return _shards[shard].reactor();
+    }
+
+    /**
+     * Accepts a server-side channel on the next shard.
+     *
+     * @param server server that is accepting this connection
+     * @param reactorAcceptOptions options for this connection
+     * @param role role of this connection
+     * @param errorInfo error structure to be populated in the event of failure
+     * @return {@link ReactorReturnCodes} indicating success or failure
+     *
+     * @see Reactor#accept(Server, ReactorAcceptOptions, ReactorRole, ReactorErrorInfo)
+     */
+    public int accept(Server server, ReactorAcceptOptions reactorAcceptOptions, ReactorRole role, ReactorErrorInfo errorInfo)
+    {
+        ReactorShard shard = nextShard();
+        if (shard == null)
+            return shutdownError(errorInfo, "ReactorShardGroup.accept");
+
+        return shard.reactor().accept(server, reactorAcceptOptions, role, errorInfo);
+    }
+
+    /**
+     * Adds a client-side channel on the next shard.
+     *
+     * @param reactorConnectOptions options for this connection
+     * @param role role of this connection
+     * @param errorInfo error structure to be populated in the event of failure
+     * @return {@link ReactorReturnCodes} indicating success or failure
+     *
+     * @see Reactor#connect(ReactorConnectOptions, ReactorRole, ReactorErrorInfo)
+     */
+    public int connect(ReactorConnectOptions reactorConnectOptions, ReactorRole role, ReactorErrorInfo errorInfo)
+    {
+        ReactorShard shard = nextShard();
+        if (shard == null)
+            return shutdownError(errorInfo, "ReactorShardGroup.connect");
+
+        return shard.reactor().connect(reactorConnectOptions, role, errorInfo);
+    }
+
+    /**
+     * Returns whether the current thread is the dispatch thread of one of the shards,
+     * that is whether it is running a callback of a channel of this group.
+     *
+     * @return true if called from a dispatch thread of this group
+     */
+    public boolean isDispatchThread()
+    {
+        Thread current = Thread.currentThread();
+        for (ReactorShard shard : _shards)
+        {
+            if (shard != null && shard.thread() == current)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Runs a task on the dispatch thread of a shard, between the dispatches of its channels.
+     * The task may use the state of the application that the callbacks of the channels of the
+     * shard use without locking it. Tasks of a shard run in the order they were queued.
+     *
+     * @param shard index of the shard, from 0 to {@link #shardCount()} - 1
+     * @param task task to run on the dispatch thread
+     * @param errorInfo error structure to be populated in the event of failure
+     * @return {@link ReactorReturnCodes} indicating success or failure
+     */
+    public int execute(int shard, Runnable task, ReactorErrorInfo errorInfo)
+    {
+        if (_isShutdown)
+            return shutdownError(errorInfo, "ReactorShardGroup.execute");
+
+        _shards[shard].execute(task);
+        return ReactorReturnCodes.SUCCESS;
+    }
+
+    /**
+     * Stops the dispatch threads and shuts down the Reactor of every shard.
+     * It must not be called from a callback of a channel of this group.
+     *
+     * @param errorInfo error structure to be populated in the event of failure
+     * @return {@link ReactorReturnCodes} indicating success or failure
+     */
+    public int shutdown(ReactorErrorInfo errorInfo)
+    {
+        _isShutdown = true;
+
+        int ret = ReactorReturnCodes.SUCCESS;
+        for (ReactorShard shard : _shards)
+        {
+            if (shard == null)
+                continue;
+
+            int shardRet = shard.shutdown(errorInfo);
+            if (shardRet < ReactorReturnCodes.SUCCESS && ret == ReactorReturnCodes.SUCCESS)
+                ret = shardRet;
+        }
+
+        return ret;
+    }
+
+    /**
+     * Returns whether this group has been shut down.
+     *
+     * @return true if the group has been shut down
+     */
+    public boolean isShutdown()
+    {
+        return _isShutdown;
+    }
+
+    private ReactorShard nextShard()
+    {
+        if (_isShutdown)
+            return null;
+
+        return _shards[(_nextShard.getAndIncrement() & Integer.MAX_VALUE) % _shards.length];
+    }
+
+    private int shutdownError(ReactorErrorInfo errorInfo, String location)
+    {
+        errorInfo.clear();
+        errorInfo.code(ReactorReturnCodes.SHUTDOWN).location(location);
+        errorInfo.error().errorId(ReactorReturnCodes.SHUTDOWN);
+        errorInfo.error().text("ReactorShardGroup is shut down, aborting.");
+        return ReactorReturnCodes.SHUTDOWN;
+    }
+}
@@ -10,6 +10,7 @@ package com.refinitiv.eta.valueadd.reactor;
 
 import java.nio.ByteBuffer;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.TimeZone;
@@ -252,6 +253,9 @@ public class TunnelStream
 	boolean _providerLoginRefreshSent;
 		
 	HashMap<Integer,TunnelSubstream> _streamIdtoQueueSubstreamTable;
+
+	/* Substreams whose persistence files have saved messages waiting for a sync. */
+	ArrayList<TunnelSubstream> _commitPendingSubstreams = new ArrayList<TunnelSubstream>();
 	
 	HashMap<WlInteger, TunnelStreamBigBuffer> _msgIdBigBufferMap;
 	
@@ -2036,6 +2040,14 @@ public class TunnelStream
                         if ((ret = substreamSession.saveMsg(tunnelBuffer, error))
                                 < ReactorReturnCodes.SUCCESS)
                             return ret;
+
+                        /* If the message waits for the persistence file to be synced, sync it when the commit window ends. */
+                        if (substreamSession.hasPendingCommit() && !substreamSession._isCommitPending)
+                        {
+                            substreamSession._isCommitPending = true;
+                            _commitPendingSubstreams.add(substreamSession);
+                            updateTimeout(System.nanoTime());
+                        }
                         
                         /* Add to timeout list, if a numerical timeout was specified. */
                         if (timeout > 0)
@@ -2943,6 +2955,10 @@ public class TunnelStream
                 {
                     if (tunnelBuffer.isQueueData())
                     {
+                        /* Messages are not sent until they are synced to the persistence file. */
+                        if (tunnelBuffer.persistenceBuffer() != null && !tunnelBuffer.persistenceBuffer().isCommitted())
+                            break;
+
                         if ((ret = tunnelBuffer.tunnelSubstream().setBufferAsTransmitted(tunnelBuffer, error))
                                 != ReactorReturnCodes.SUCCESS)
                             return ret;
@@ -4003,6 +4019,9 @@ public class TunnelStream
             default:
                 try
                 {
+                    int ret;
+                    if ((ret = commitPersistence(currentTimeNsec, error)) != ReactorReturnCodes.SUCCESS)
+                        return ret;
                     expireTimeoutMessages(currentTimeNsec, error);
                 }
                 catch (Exception e)
@@ -4116,16 +4135,61 @@ public class TunnelStream
     void updateTimeout(long currentTimeNsec)
     {
         TunnelStreamBuffer tunnelBuffer = _outboundTimeoutList.peek();
+        boolean hasTimeout = false;
 
         if (tunnelBuffer != null)
         {
             _nextTimeoutNsec = tunnelBuffer.timeoutNsec();
-            tunnelStreamManager().addTunnelStreamToTimeoutList(this, _nextTimeoutNsec);
+            hasTimeout = true;
         }
+
+        for (int i = 0; i < _commitPendingSubstreams.size(); ++i)
+        {
+            long commitTimeNsec = _commitPendingSubstreams.get(i).commitTimeNsec();
+            if (!hasTimeout || commitTimeNsec - _nextTimeoutNsec < 0)
+                _nextTimeoutNsec = commitTimeNsec;
+            hasTimeout = true;
+        }
+
+        if (hasTimeout)
+            tunnelStreamManager().addTunnelStreamToTimeoutList(this, _nextTimeoutNsec);
         else
             tunnelStreamManager().removeTunnelStreamFromTimeoutList(this);
     }
 
+    /* Syncs the persistence files whose commit windows have ended, and dispatches
+     * the tunnel stream to transmit the messages that were waiting for them. */
+    int commitPersistence(long currentTimeNsec, Error error)
+    {
+        int ret;
+        boolean committed = false;
+
+        for (int i = 0; i < _commitPendingSubstreams.size(); )
+        {
+            TunnelSubstream substream = _commitPendingSubstreams.get(i);
+            if (substream.hasPendingCommit())
+            {
+                if (substream.commitTimeNsec() - currentTimeNsec > 0)
+                {
+                    ++i;
+                    continue;
+                }
+
+                if ((ret = substream.commit(error)) != ReactorReturnCodes.SUCCESS)
+                    return ret;
+                committed = true;
+            }
+
+            substream._isCommitPending = false;
+            _commitPendingSubstreams.remove(i);
+        }
+
+        if (committed)
+            tunnelStreamManager().addTunnelStreamToDispatchList(this);
+
+        return ReactorReturnCodes.SUCCESS;
+    }
+
 	/**
 	 * Trace flags.
 	 *
@@ -21,9 +21,15 @@ class TunnelStreamPersistenceBuffer
     /* Sequence number of the message stored in this buffer, if any. */
     private int _seqNum;
     
+    /* Order in which the message was saved, in files that record it. */
+    private int _saveSeq;
+
     /* Remembers whether the buffer has been transmitted before (so we don't attempt to time it out). */
     private boolean _isTransmitted;
 
+    /* Whether the message is synced to the file, so it can be transmitted. */
+    private boolean _isCommitted = true;
+
     /* Length of tunnel stream header (header is stored with messages in older file format). */
     private int _tunnelStreamHeaderLen;
 
@@ -74,6 +80,18 @@ class TunnelStreamPersistenceBuffer
         return _isTransmitted;
     }
     
+    /** Mark message as synced to the file. */
+    void isCommitted(boolean isCommitted)
+    {
+        _isCommitted = isCommitted;
+    }
+
+    /** Returns whether this buffer was synced to the file. */
+    boolean isCommitted()
+    {
+        return _isCommitted;
+    }
+
     /** Return sequence number of persisted buffer. */
     int seqNum()
     {
@@ -86,10 +104,23 @@ class TunnelStreamPersistenceBuffer
         _seqNum = seqNum;
     }
 
+    /** Returns the order in which the message was saved. */
+    int saveSeq()
+    {
+        return _saveSeq;
+    }
+
+    /** Sets the order in which the message was saved. */
+    void saveSeq(int saveSeq)
+    {
+        _saveSeq = saveSeq;
+    }
+
     /** Resets a persistence buffer (used when returned to the pool). */
     void reset()
     {
         _isTransmitted = false;
+        _isCommitted = true;
         _tunnelStreamHeaderLen = 0;
     }
 
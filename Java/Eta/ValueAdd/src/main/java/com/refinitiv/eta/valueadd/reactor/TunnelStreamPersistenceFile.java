@@ -34,6 +34,8 @@ abstract class TunnelStreamPersistenceFile
 		static final int V1 = 1;
 		static final int V2 = 33554432; /* Version 2 (read as big-endian) */
 		static final int V2L = 2; /* Version 2 (read as little-endian) */
+		static final int V3 = 50331648; /* Version 3 (read as big-endian) */
+		static final int V3L = 3; /* Version 3 (read as little-endian) */
 	}
     static int _defaultPersistenceVerion = FileVersion.V2;
 
@@ -90,6 +92,25 @@ abstract class TunnelStreamPersistenceFile
     /* Returns the timeout of a persistence buffer. */
     abstract long persistBufferTimeoutNsec(TunnelStreamPersistenceBuffer persistBuffer);
 
+    /* Returns whether saved messages are waiting for the file to be synced. Only files
+     * that group their syncs have such messages; others sync each message when it is saved. */
+    boolean hasPendingCommit()
+    {
+        return false;
+    }
+
+    /* Returns the time by which the saved messages waiting for a sync are to be synced. */
+    long commitTimeNsec()
+    {
+        return 0;
+    }
+
+    /* Syncs the saved messages that are waiting for it, so they can be transmitted. */
+    int commit(Error error)
+    {
+        return ReactorReturnCodes.SUCCESS;
+    }
+
     TunnelStreamPersistenceFile(TunnelSubstream tunnelSubstream, RandomAccessFile file, FileChannel fileChannel, FileLock fileLock)
     {
         _tunnelSubstream = tunnelSubstream;
@@ -0,0 +1,485 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.zip.CRC32;
+
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.valueadd.common.VaDoubleLinkList;
+
+/* Class for handling a persistence file with version 3, which groups the syncs of saved messages.
+ *
+ * Messages saved within the commit window, or until the commit byte budget is reached, are synced
+ * together and are not transmitted until then. As the file is written between syncs, it may be
+ * left partly written by a crash, so it has no in-file lists: each message slot holds the save
+ * sequence of its message, which is 0 while the slot is free, and a checksum of the message, and
+ * the lists are rebuilt from the slots when the file is loaded. A slot whose message does not match
+ * its checksum was not synced, so it is free.
+ *
+ * Transmitting a message and releasing an acknowledged one are not synced. Messages are transmitted
+ * in the order they were saved, with consecutive sequence numbers, so the sequence numbers of
+ * messages whose transmission was not synced are recovered from the messages after them, and from
+ * the last sequence number received by the provider. Releasing a message that was not transmitted
+ * is synced, so an expired message does not come back. */
+class TunnelStreamPersistenceFileV3 extends TunnelStreamPersistenceFile
+{
+    private int _maxMsgs;
+    private int _maxMsgLength;
+    private int _slotLength;
+
+    /* (SUBSTREAM_LINK) Persistent buffers that have been saved, in the order they were saved. */
+    VaDoubleLinkList<TunnelStreamPersistenceBuffer> _savedMsgList;
+
+    /* Save sequence of the next saved message. */
+    private int _nextSaveSeq;
+
+    /* Commit window and byte budget, and the saved messages waiting for a sync. */
+    private long _commitWindowNsec;
+    private int _commitBytes;
+    private int _pendingCount;
+    private int _pendingBytes;
+    private long _commitTimeNsec;
+
+    private CRC32 _crc = new CRC32();
+
+    /* Static class to describe the file header. */
+    private static class Header
+    {
+        private static final int LENGTH = 32;
+
+        private static final int FILE_VERSION_POS = 0;
+        private static final int MAX_MSGS_POS = FILE_VERSION_POS + 4;
+        private static final int MAX_MSG_LENGTH_POS = MAX_MSGS_POS + 4;
+        private static final int SLOT_LENGTH_POS = MAX_MSG_LENGTH_POS + 4;
+        private static final int LAST_OUT_SEQ_NUM_POS = SLOT_LENGTH_POS + 4;
+        private static final int LAST_IN_SEQ_NUM_POS = LAST_OUT_SEQ_NUM_POS + 4;
+        private static final int FLAGS_POS = LAST_IN_SEQ_NUM_POS + 4;
+
+        private static final int MAX_MSGS = 1024;
+    }
+
+    /* Static class to describe a message slot's header. The checksum covers the save sequence
+     * up to the end of the message. The save sequence and the sequence number are each written
+     * with a single aligned write, so they are never torn. */
+    private static class MsgHeader
+    {
+        private static final int LENGTH = 32;
+
+        private static final int CHECKSUM_POS = 0;
+        private static final int SEQ_NUM_POS = CHECKSUM_POS + 4;
+        private static final int SAVE_SEQ_POS = SEQ_NUM_POS + 4;
+        private static final int MSG_LENGTH_POS = SAVE_SEQ_POS + 4;
+        private static final int TIME_QUEUED_POS = MSG_LENGTH_POS + 4;
+        private static final int TIME_TO_LIVE_POS = TIME_QUEUED_POS + 8;
+    }
+
+    private static final Comparator<TunnelStreamPersistenceBuffer> SAVE_ORDER = new Comparator<TunnelStreamPersistenceBuffer>()
+    {
+        @Override
+        public int compare(TunnelStreamPersistenceBuffer buffer1, TunnelStreamPersistenceBuffer buffer2)
+        {
+            return Integer.signum(buffer1.saveSeq() - buffer2.saveSeq());
+        }
+    };
+
+    TunnelStreamPersistenceFileV3(TunnelSubstream tunnelSubstream, RandomAccessFile file, FileChannel fileChannel, FileLock fileLock,
+            boolean reset, int commitWindow, int commitBytes, Error error)
+    {
+        super(tunnelSubstream, file, fileChannel, fileLock);
+
+        _savedMsgList = new VaDoubleLinkList<TunnelStreamPersistenceBuffer>();
+        _commitWindowNsec = commitWindow * TunnelStreamUtil.NANO_PER_MILLI;
+        _commitBytes = commitBytes;
+
+        try
+        {
+            long fileSize;
+            if (reset)
+            {
+                _maxMsgs = Header.MAX_MSGS;
+                _maxMsgLength = _tunnelSubstream._tunnelStream.classOfService().common().maxMsgSize();
+                _slotLength = slotLength(_maxMsgLength);
+                fileSize = Header.LENGTH + (long)_slotLength * _maxMsgs;
+            }
+            else
+                fileSize = fileChannel.size();
+
+            _fileByteBuf = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            _fileByteBuf.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        catch (IOException e)
+        {
+            error.errorId(ReactorReturnCodes.FAILURE);
+            error.text("Failed to map persistence file to ByteBuffer");
+            return;
+        }
+
+        if (!reset)
+        {
+            _maxMsgs = _fileByteBuf.getInt(Header.MAX_MSGS_POS);
+            _maxMsgLength = _fileByteBuf.getInt(Header.MAX_MSG_LENGTH_POS);
+            _slotLength = _fileByteBuf.getInt(Header.SLOT_LENGTH_POS);
+            if (_slotLength != slotLength(_maxMsgLength) || Header.LENGTH + (long)_slotLength * _maxMsgs > _fileByteBuf.capacity())
+            {
+                error.errorId(ReactorReturnCodes.FAILURE);
+                error.text("Invalid persistence file header.");
+                return;
+            }
+            _tunnelSubstream._lastOutSeqNum = _fileByteBuf.getInt(Header.LAST_OUT_SEQ_NUM_POS);
+            _tunnelSubstream._lastInSeqNum = _fileByteBuf.getInt(Header.LAST_IN_SEQ_NUM_POS);
+
+            loadMsgs();
+        }
+        else
+        {
+            _tunnelSubstream._lastOutSeqNum = 0;
+            _tunnelSubstream._lastInSeqNum = 0;
+
+            _fileByteBuf.putInt(Header.FILE_VERSION_POS, FileVersion.V3L);
+            _fileByteBuf.putInt(Header.MAX_MSGS_POS, _maxMsgs);
+            _fileByteBuf.putInt(Header.MAX_MSG_LENGTH_POS, _maxMsgLength);
+            _fileByteBuf.putInt(Header.SLOT_LENGTH_POS, _slotLength);
+            _fileByteBuf.putInt(Header.LAST_OUT_SEQ_NUM_POS, 0);
+            _fileByteBuf.putInt(Header.LAST_IN_SEQ_NUM_POS, 0);
+            _fileByteBuf.putInt(Header.FLAGS_POS, 0);
+
+            for (int i = 0; i < _maxMsgs; ++i)
+            {
+                TunnelStreamPersistenceBuffer persistBuffer = new TunnelStreamPersistenceBuffer();
+                persistBuffer.filePosition(slotPosition(i));
+                _fileByteBuf.putInt(persistBuffer.filePosition() + MsgHeader.SAVE_SEQ_POS, 0);
+                _persistentBufferPool.push(persistBuffer, TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+            }
+            _nextSaveSeq = 1;
+            _fileByteBuf.force();
+        }
+
+        error.errorId(ReactorReturnCodes.SUCCESS);
+    }
+
+    /* Rebuilds the buffer lists from the message slots. */
+    private void loadMsgs()
+    {
+        ArrayList<TunnelStreamPersistenceBuffer> savedMsgs = new ArrayList<TunnelStreamPersistenceBuffer>();
+
+        for (int i = 0; i < _maxMsgs; ++i)
+        {
+            TunnelStreamPersistenceBuffer persistBuffer = new TunnelStreamPersistenceBuffer();
+            int position = slotPosition(i);
+            persistBuffer.filePosition(position);
+            persistBuffer.tunnelStreamHeaderLen(0);
+
+            int saveSeq = _fileByteBuf.getInt(position + MsgHeader.SAVE_SEQ_POS);
+            int length = _fileByteBuf.getInt(position + MsgHeader.MSG_LENGTH_POS);
+            if (saveSeq != 0 && length >= 0 && length <= _slotLength - MsgHeader.LENGTH
+                    && checksum(position, length) == _fileByteBuf.getInt(position + MsgHeader.CHECKSUM_POS))
+            {
+                int seqNum = _fileByteBuf.getInt(position + MsgHeader.SEQ_NUM_POS);
+                persistBuffer.saveSeq(saveSeq);
+                persistBuffer.length(length);
+                persistBuffer.seqNum(seqNum);
+                persistBuffer.isTransmitted(seqNum != 0);
+                savedMsgs.add(persistBuffer);
+            }
+            else
+            {
+                /* Free slot, or a message that was not synced. */
+                _fileByteBuf.putInt(position + MsgHeader.SAVE_SEQ_POS, 0);
+                _persistentBufferPool.push(persistBuffer, TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+            }
+        }
+
+        Collections.sort(savedMsgs, SAVE_ORDER);
+        _nextSaveSeq = 1;
+        if (savedMsgs.size() > 0)
+            nextSaveSeq(savedMsgs.get(savedMsgs.size() - 1).saveSeq());
+
+        /* Messages are transmitted in the order they were saved, so those before the last one
+         * that was transmitted were transmitted too, with the sequence numbers before it. */
+        int lastTransmitted = -1;
+        for (int i = 0; i < savedMsgs.size(); ++i)
+        {
+            if (savedMsgs.get(i).isTransmitted())
+                lastTransmitted = i;
+        }
+        for (int i = lastTransmitted - 1; i >= 0; --i)
+        {
+            TunnelStreamPersistenceBuffer persistBuffer = savedMsgs.get(i);
+            persistBuffer.seqNum(savedMsgs.get(i + 1).seqNum() - 1);
+            persistBuffer.isTransmitted(true);
+        }
+        if (lastTransmitted >= 0
+                && TunnelStreamUtil.seqNumCompare(savedMsgs.get(lastTransmitted).seqNum(), _tunnelSubstream._lastOutSeqNum) > 0)
+        {
+            _tunnelSubstream._lastOutSeqNum = savedMsgs.get(lastTransmitted).seqNum();
+            lastOutSeqNum(_tunnelSubstream._lastOutSeqNum);
+        }
+
+        for (TunnelStreamPersistenceBuffer persistBuffer : savedMsgs)
+            _savedMsgList.push(persistBuffer, TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+    }
+
+    @Override
+    void lastOutSeqNum(int lastOutSeqNum)
+    {
+        _fileByteBuf.putInt(Header.LAST_OUT_SEQ_NUM_POS, lastOutSeqNum);
+    }
+
+    @Override
+    void lastInSeqNum(int lastInSeqNum)
+    {
+        _fileByteBuf.putInt(Header.LAST_IN_SEQ_NUM_POS, lastInSeqNum);
+    }
+
+    @Override
+    int saveMsg(TunnelStreamBuffer buffer, Error error)
+    {
+        int entryPosition;
+        TunnelStreamPersistenceBuffer persistenceBuffer;
+
+        assert (buffer.length() <= _tunnelSubstream._tunnelStream._classOfService.common().maxMsgSize());
+
+        /* Stop if no buffers are free. */
+        if ((persistenceBuffer = _persistentBufferPool.peek()) == null)
+        {
+            error.errorId(ReactorReturnCodes.PERSISTENCE_FULL);
+            error.text("Local persistence file is full. Space may become available later as delivered messages are acknowledged.");
+            return ReactorReturnCodes.PERSISTENCE_FULL;
+        }
+
+        entryPosition = persistenceBuffer.filePosition();
+
+        /* Store message in file. */
+        buffer.setToInnerWriteBuffer();
+        int length = buffer.length();
+        _fileByteBuf.putInt(entryPosition + MsgHeader.SEQ_NUM_POS, 0);
+        _fileByteBuf.putInt(entryPosition + MsgHeader.MSG_LENGTH_POS, length);
+        if (!buffer.timeoutIsCode())
+        {
+            assert(buffer.timeoutNsec() - buffer.timeQueuedNsec() > 0);
+            _fileByteBuf.putLong(entryPosition + MsgHeader.TIME_TO_LIVE_POS, (buffer.timeoutNsec() - buffer.timeQueuedNsec()) / TunnelStreamUtil.NANO_PER_MILLI);
+            _fileByteBuf.putLong(entryPosition + MsgHeader.TIME_QUEUED_POS, buffer.timeQueuedNsec());
+        }
+        else
+        {
+            _fileByteBuf.putLong(entryPosition + MsgHeader.TIME_TO_LIVE_POS, buffer.timeoutNsec());
+            _fileByteBuf.putLong(entryPosition + MsgHeader.TIME_QUEUED_POS, 0);
+        }
+
+        _fileByteBuf.position(entryPosition + MsgHeader.LENGTH);
+        buffer.copy(_fileByteBuf);
+
+        persistenceBuffer.saveSeq(_nextSaveSeq);
+        nextSaveSeq(_nextSaveSeq);
+        _fileByteBuf.putInt(entryPosition + MsgHeader.SAVE_SEQ_POS, persistenceBuffer.saveSeq());
+        _fileByteBuf.putInt(entryPosition + MsgHeader.CHECKSUM_POS, checksum(entryPosition, length));
+
+        persistenceBuffer.length(length);
+        persistenceBuffer.isCommitted(false);
+        _persistentBufferPool.remove(persistenceBuffer, TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+        _savedMsgList.push(persistenceBuffer, TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+
+        buffer.persistenceBuffer(_tunnelSubstream, persistenceBuffer);
+
+        if (_pendingCount == 0)
+            _commitTimeNsec = System.nanoTime() + _commitWindowNsec;
+        ++_pendingCount;
+        _pendingBytes += length;
+
+        if (_commitWindowNsec == 0 || (_commitBytes > 0 && _pendingBytes >= _commitBytes))
+            return commit(error);
+
+        return ReactorReturnCodes.SUCCESS;
+    }
+
+    @Override
+    boolean hasPendingCommit()
+    {
+        return _pendingCount > 0;
+    }
+
+    @Override
+    long commitTimeNsec()
+    {
+        return _commitTimeNsec;
+    }
+
+    @Override
+    int commit(Error error)
+    {
+        if (_pendingCount == 0)
+            return ReactorReturnCodes.SUCCESS;
+
+        _fileByteBuf.force();
+
+        /* Messages waiting for the sync are the last ones saved. */
+        for (TunnelStreamPersistenceBuffer persistBuffer = _savedMsgList.peekTail();
+                persistBuffer != null && !persistBuffer.isCommitted();
+                persistBuffer = TunnelStreamPersistenceBuffer.SUBSTREAM_LINK.getPrev(persistBuffer))
+            persistBuffer.isCommitted(true);
+
+        _pendingCount = 0;
+        _pendingBytes = 0;
+        return ReactorReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void releasePersistenceBuffers(int seqNum)
+    {
+        TunnelStreamPersistenceBuffer persistBuffer;
+
+        while ((persistBuffer = _savedMsgList.peek()) != null
+                && persistBuffer.isTransmitted()
+                && TunnelStreamUtil.seqNumCompare(persistBuffer.seqNum(), seqNum) <= 0)
+            releasePersistenceBuffer(persistBuffer);
+    }
+
+    @Override
+    void releasePersistenceBuffer(TunnelStreamPersistenceBuffer persistBuffer)
+    {
+        _fileByteBuf.putInt(persistBuffer.filePosition() + MsgHeader.SAVE_SEQ_POS, 0);
+
+        if (!persistBuffer.isCommitted())
+        {
+            --_pendingCount;
+            _pendingBytes -= persistBuffer.length();
+        }
+
+        _savedMsgList.remove(persistBuffer, TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+        _persistentBufferPool.push(persistBuffer, TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+
+        /* An expired message must not be transmitted after a restart. */
+        if (!persistBuffer.isTransmitted())
+            _fileByteBuf.force();
+
+        persistBuffer.reset();
+    }
+
+    @Override
+    void setBufferAsTransmitted(TunnelStreamPersistenceBuffer persistenceBuffer)
+    {
+        if (persistenceBuffer.isTransmitted())
+            return;
+
+        int seqNum = _tunnelSubstream._lastOutSeqNum + 1;
+
+        _fileByteBuf.putInt(persistenceBuffer.filePosition() + MsgHeader.SEQ_NUM_POS, seqNum);
+
+        persistenceBuffer.isTransmitted(true);
+        persistenceBuffer.seqNum(seqNum);
+        lastOutSeqNum(seqNum);
+    }
+
+    @Override
+    int retransmitBuffers(int seqNum, Msg tmpMsg, EncodeIterator tmpEncodeIter, DecodeIterator tmpDecodeIter, Error error)
+    {
+        TunnelStreamPersistenceBuffer persistBuffer;
+        int ret;
+        long currentTime = System.nanoTime();
+        int lastOutSeqNum = _tunnelSubstream._lastOutSeqNum;
+
+        for (persistBuffer = _savedMsgList.start(TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+                persistBuffer != null;
+                persistBuffer = _savedMsgList.forth(TunnelStreamPersistenceBuffer.SUBSTREAM_LINK))
+        {
+            if (!persistBuffer.isTransmitted())
+            {
+                /* If the provider received messages after the last one marked as transmitted, they are
+                 * the next ones saved. The rest are sent after the last message the provider received. */
+                if (seqNum != 0 && TunnelStreamUtil.seqNumCompare(lastOutSeqNum, seqNum) < 0)
+                {
+                    ++lastOutSeqNum;
+                    persistBuffer.seqNum(lastOutSeqNum);
+                    persistBuffer.isTransmitted(true);
+                    _fileByteBuf.putInt(persistBuffer.filePosition() + MsgHeader.SEQ_NUM_POS, lastOutSeqNum);
+                }
+                else
+                    persistBuffer.seqNum(seqNum + 1);
+            }
+
+            if ((ret = retransmitBuffer(persistBuffer, seqNum, currentTime, tmpMsg, tmpEncodeIter, tmpDecodeIter, error)) != ReactorReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return ReactorReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int close(Error error)
+    {
+        if (_fileByteBuf != null)
+            _fileByteBuf.force();
+
+        return super.close(error);
+    }
+
+    @Override
+    void clear(Error tmpError)
+    {
+        super.clear(tmpError);
+        while (_savedMsgList.pop(TunnelStreamPersistenceBuffer.SUBSTREAM_LINK) != null);
+        _maxMsgs = 0;
+        _pendingCount = 0;
+        _pendingBytes = 0;
+    }
+
+    @Override
+    int persistBufferMsgOffset()
+    {
+        return MsgHeader.LENGTH;
+    }
+
+    @Override
+    long persistBufferTimeoutNsec(TunnelStreamPersistenceBuffer persistBuffer)
+    {
+        return _fileByteBuf.getLong(persistBuffer.filePosition() + MsgHeader.TIME_TO_LIVE_POS) * TunnelStreamUtil.NANO_PER_MILLI;
+    }
+
+    /* Returns the checksum of a message slot, from its save sequence to the end of its message. */
+    private int checksum(int position, int length)
+    {
+        int tmpLimit = _fileByteBuf.limit();
+        _fileByteBuf.limit(position + MsgHeader.LENGTH + length);
+        _fileByteBuf.position(position + MsgHeader.SAVE_SEQ_POS);
+        _crc.reset();
+        _crc.update(_fileByteBuf);
+        _fileByteBuf.limit(tmpLimit);
+        return (int)_crc.getValue();
+    }
+
+    /* Sets the next save sequence after the given one, skipping 0, which marks a free slot. */
+    private void nextSaveSeq(int saveSeq)
+    {
+        _nextSaveSeq = saveSeq + 1;
+        if (_nextSaveSeq == 0)
+            _nextSaveSeq = 1;
+    }
+
+    private int slotPosition(int index)
+    {
+        return Header.LENGTH + index * _slotLength;
+    }
+
+    /* Slots are 8-byte aligned, so that the fields of their headers never cross pages. */
+    private static int slotLength(int maxMsgLength)
+    {
+        return (MsgHeader.LENGTH + maxMsgLength + SlicedBufferPool.TUNNEL_STREAM_HDR_SIZE + 7) & ~7;
+    }
+}
@@ -72,6 +72,9 @@ class TunnelSubstream
     EncodeIterator _encIter;
 	DecodeIterator _decIter;
 	TunnelSubstreamState _state;
+
+    /* Whether the tunnel stream has this substream in its list of persistence files to commit. */
+    boolean _isCommitPending;
     Msg _encSubMsg;
     Error _error;
     ByteBuffer _byteBuffer;
@@ -200,6 +203,8 @@ class TunnelSubstream
             }
             fileVersion = _byteBuffer.getInt(0);		    
 		}
+		else if (_tunnelStream.classOfService().guarantee().persistenceCommitWindow() > 0)
+		    fileVersion = FileVersion.V3;
 		else
 		    fileVersion = TunnelStreamPersistenceFile.defaultPersistenceVersion();
 
@@ -216,6 +221,19 @@ class TunnelSubstream
                 break;
             }
 
+            case FileVersion.V3:
+            {
+                _persistFile = new TunnelStreamPersistenceFileV3(this, file, fileChannel, fileLock, reset,
+                        _tunnelStream.classOfService().guarantee().persistenceCommitWindow(),
+                        _tunnelStream.classOfService().guarantee().persistenceCommitBytes(), error);
+                if (error.errorId() != ReactorReturnCodes.SUCCESS)
+                {
+                    _persistFile = null;
+                    return;
+                }
+                break;
+            }
+
             case FileVersion.V1:
             {
                 _persistFile = new TunnelStreamPersistenceFileV1(this, file, fileChannel, fileLock, _msg, _encIter, _dIter, reset, error);
@@ -730,6 +748,26 @@ class TunnelSubstream
         }
    }
    
+   /* Returns whether saved messages are waiting for the persistence file to be synced. */
+   boolean hasPendingCommit()
+   {
+       return _persistFile != null && _persistFile.hasPendingCommit();
+   }
+
+   /* Returns the time by which the saved messages waiting for a sync are to be synced. */
+   long commitTimeNsec()
+   {
+       return (_persistFile != null) ? _persistFile.commitTimeNsec() : 0;
+   }
+
+   /* Syncs the persistence file, so the saved messages waiting for it can be transmitted. */
+   int commit(Error error)
+   {
+       if (_persistFile != null)
+           return _persistFile.commit(error);
+       return ReactorReturnCodes.SUCCESS;
+   }
+
    int setBufferAsTransmitted(TunnelStreamBuffer tunnelBuffer, Error error)
    {
        TunnelStreamPersistenceBuffer persistenceBuffer;
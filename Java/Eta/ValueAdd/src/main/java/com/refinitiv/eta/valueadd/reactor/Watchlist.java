@@ -9,7 +9,6 @@
 package com.refinitiv.eta.valueadd.reactor;
 
 import java.nio.ByteBuffer;
-import java.util.HashMap;
 import java.util.LinkedList;
 
 import com.refinitiv.eta.codec.Buffer;
@@ -45,8 +44,8 @@ class Watchlist extends VaNode
     WlItemHandler _itemHandler;
     int _nextStreamId; // used to give a unique stream id for all watchlist streams
     int _nextProviderStreamId; // used to give a unique provider stream id for all application streams used in symbollist stream
-    HashMap<WlInteger,WlRequest> _streamIdtoWlRequestTable;
-    HashMap<WlInteger,WlStream> _streamIdtoWlStreamTable;
+    WlIntHashMap<WlRequest> _streamIdtoWlRequestTable;
+    WlIntHashMap<WlStream> _streamIdtoWlStreamTable;
     EncodeIterator _eIter = CodecFactory.createEncodeIterator();
     DecodeIterator _dIter = CodecFactory.createDecodeIterator();
     // list to track stream timeouts
@@ -76,13 +75,13 @@ class Watchlist extends VaNode
         
         if (_watchlistOptions.itemCountHint() > 0)
         {
-            _streamIdtoWlRequestTable = new HashMap<WlInteger,WlRequest>(_watchlistOptions.itemCountHint() + 10, 1);
-            _streamIdtoWlStreamTable = new HashMap<WlInteger,WlStream>(_watchlistOptions.itemCountHint() + 10, 1);
+            _streamIdtoWlRequestTable = new WlIntHashMap<WlRequest>(_watchlistOptions.itemCountHint() + 10);
+            _streamIdtoWlStreamTable = new WlIntHashMap<WlStream>(_watchlistOptions.itemCountHint() + 10);
         }
         else
         {
-            _streamIdtoWlRequestTable = new HashMap<WlInteger,WlRequest>();
-            _streamIdtoWlStreamTable = new HashMap<WlInteger,WlStream>();
+            _streamIdtoWlRequestTable = new WlIntHashMap<WlRequest>();
+            _streamIdtoWlStreamTable = new WlIntHashMap<WlStream>();
         }
         _loginHandler = new WlLoginHandler(this);
         _directoryHandler = new WlDirectoryHandler(this);
@@ -93,12 +92,12 @@ class Watchlist extends VaNode
         _tempBuffer2.data(_tempByteBuffer2);
     }
     
-    HashMap<WlInteger,WlStream> streamIdtoWlStreamTable()
+    WlIntHashMap<WlStream> streamIdtoWlStreamTable()
     {
         return _streamIdtoWlStreamTable;
     }
     
-    HashMap<WlInteger,WlRequest> streamIdtoWlRequestTable()
+    WlIntHashMap<WlRequest> streamIdtoWlRequestTable()
     {
         return _streamIdtoWlRequestTable;
     }
@@ -106,8 +105,7 @@ class Watchlist extends VaNode
     /* Submit a Codec message to the watchlist. */
     int submitMsg(Msg msg, ReactorSubmitOptions submitOptions, ReactorErrorInfo errorInfo)
     {
-        _tempWlInteger.value(msg.streamId());
-        WlRequest wlRequest = _streamIdtoWlRequestTable.get(_tempWlInteger);
+        WlRequest wlRequest = _streamIdtoWlRequestTable.get(msg.streamId());
         boolean isReissue = false;
 
         if (msg.msgClass() == MsgClasses.REQUEST)
@@ -147,6 +145,9 @@ class Watchlist extends VaNode
                         break;
                     default: // all other domain types (including dictionary) handled by item handler
                         wlRequest.handler(_itemHandler);
+                        wlRequest.conflation(submitOptions.requestMsgOptions().conflationInterval(),
+                                             submitOptions.requestMsgOptions().conflationCount(),
+                                             submitOptions.requestMsgOptions().conflationDictionary());
                         break;
                 }
             }
@@ -183,7 +184,7 @@ class Watchlist extends VaNode
                     WlInteger wlInteger = ReactorFactory.createWlInteger();
                     wlInteger.value(msg.streamId());
                     wlRequest.tableKey(wlInteger);
-                    _streamIdtoWlRequestTable.put(wlInteger, wlRequest);
+                    _streamIdtoWlRequestTable.put(wlInteger.value(), wlRequest);
                 }
             }
             else // submit failed
@@ -394,6 +395,10 @@ class Watchlist extends VaNode
     {
         int ret = ReactorReturnCodes.SUCCESS;
         
+        // a timer started for conflated updates is handled by the item handler
+        if (_itemHandler.conflationTimerExpired())
+            return _itemHandler.conflationTimeout(errorInfo);
+        
         // handle any stream timeouts
         WlStream wlStream = _streamTimeoutInfoList.poll();
         
@@ -454,11 +459,9 @@ class Watchlist extends VaNode
         
         // keep attempting to get next stream id if already found in table
         int nextStreamId = ++_nextStreamId;
-        _tempWlInteger.value(nextStreamId);
-        while (_streamIdtoWlStreamTable.containsKey(_tempWlInteger))
+        while (_streamIdtoWlStreamTable.containsKey(nextStreamId))
         {
             nextStreamId = ++_nextStreamId;
-            _tempWlInteger.value(nextStreamId);
         }
 
         return nextStreamId;
@@ -474,11 +477,9 @@ class Watchlist extends VaNode
         
         // keep attempting to get next stream id if already found in table
         int nextProviderStreamId = ++_nextProviderStreamId;
-        _tempWlInteger.value(-nextProviderStreamId);
-        while (_streamIdtoWlRequestTable.containsKey(_tempWlInteger))
+        while (_streamIdtoWlRequestTable.containsKey(-nextProviderStreamId))
         {
             nextProviderStreamId = ++_nextProviderStreamId;
-            _tempWlInteger.value(-nextProviderStreamId);
         }
         // negative
         return -nextProviderStreamId;
@@ -639,8 +640,7 @@ class Watchlist extends VaNode
     void closeWlRequest(WlRequest wlRequest)
     {
     	assert(wlRequest.state() != State.RETURN_TO_POOL);
-        _tempWlInteger.value(wlRequest.requestMsg().streamId());
-        WlRequest removedRequest = _streamIdtoWlRequestTable.remove(_tempWlInteger);
+        WlRequest removedRequest = _streamIdtoWlRequestTable.remove(wlRequest.requestMsg().streamId());
         assert (removedRequest == wlRequest); // There should a (non-null) WlRequest in the table, and it should be this same request.
     }
     
@@ -683,13 +683,13 @@ class Watchlist extends VaNode
     void clear()
     {
         _reactorChannel = null;
-        _reactor = null;
         _role = null;
         _watchlistOptions = null;
         _nextStreamId = 0;
         _loginHandler.clear();
         _directoryHandler.clear();
-        _itemHandler.clear();
+        _itemHandler.clear(); // takes its pending requests off the Reactor's metrics
+        _reactor = null;
         _eIter.clear();
         _dIter.clear();
         _tempMsg.clear();
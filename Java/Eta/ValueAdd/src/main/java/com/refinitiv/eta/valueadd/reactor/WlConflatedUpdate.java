@@ -0,0 +1,396 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.CopyMsgFlags;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.DictionaryEntry;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.RmtesDecoder;
+import com.refinitiv.eta.codec.UpdateMsg;
+
+/* Pending conflated update of a watchlist user request. Keeps the latest encoded value of each field
+ * received in the field list updates since the last delivery, in the order the fields first arrived,
+ * along with the header of the latest update. Field values are kept encoded and found through an open
+ * addressing table keyed by fid. The dictionary is only used to find the rippling fields, whose earlier
+ * pending value moves to the field they ripple to when a later value replaces it. */
+class WlConflatedUpdate
+{
+    /* Results of checkMerge(). */
+    static final int MERGE = 0;
+    static final int FLUSH_AND_MERGE = 1;
+    static final int DO_NOT_MERGE = 2;
+
+    static final int INITIAL_FIELD_COUNT = 32;
+    static final int INITIAL_DATA_SIZE = 1024;
+    /* Room for a field list header and the header of each encoded field entry. */
+    static final int FIELD_LIST_OVERHEAD = 16;
+    static final int FIELD_ENTRY_OVERHEAD = 5;
+    /* Largest conflation count and time that fit in an update's conflation info. */
+    static final int MAX_CONFLATION_COUNT = 0x7FFF;
+    static final int MAX_CONFLATION_TIME = 0xFFFF;
+
+    UpdateMsg _latestMsg = (UpdateMsg)CodecFactory.createMsg();
+    UpdateMsg _conflatedMsg = (UpdateMsg)CodecFactory.createMsg();
+    FieldList _fieldList = CodecFactory.createFieldList();
+    FieldEntry _fieldEntry = CodecFactory.createFieldEntry();
+    DecodeIterator _dIter = CodecFactory.createDecodeIterator();
+    RmtesDecoder _rmtesDecoder = CodecFactory.createRmtesDecoder();
+    EncodeIterator _eIter = CodecFactory.createEncodeIterator();
+    Buffer _encodeBuffer = CodecFactory.createBuffer();
+    ByteBuffer _encodeByteBuffer;
+
+    // latest encoded value of each pending field, as offsets into _data
+    int[] _fieldIds = new int[INITIAL_FIELD_COUNT];
+    int[] _dataOffsets = new int[INITIAL_FIELD_COUNT];
+    int[] _dataLengths = new int[INITIAL_FIELD_COUNT];
+    int _fieldCount;
+    // index + 1 of each pending fid, zero for an empty bucket
+    int[] _table = new int[INITIAL_FIELD_COUNT * 2];
+    byte[] _data = new byte[INITIAL_DATA_SIZE];
+    ByteBuffer _dataBuffer = ByteBuffer.wrap(_data);
+    int _dataLength;
+
+    boolean _hasInfo;
+    int _dictionaryId;
+    int _fieldListNum;
+    int _headerLength;
+    int _updateCount;
+    long _expireTime;
+
+    WlConflatedUpdate()
+    {
+        _latestMsg.msgClass(MsgClasses.UPDATE);
+        _conflatedMsg.msgClass(MsgClasses.UPDATE);
+    }
+
+    /* Returns whether there are updates waiting to be delivered. */
+    boolean pending()
+    {
+        return _updateCount > 0;
+    }
+
+    /* Returns the number of updates conflated into the pending update. */
+    int updateCount()
+    {
+        return _updateCount;
+    }
+
+    /* Returns the time, in nanoseconds, at which the pending update is due. */
+    long expireTime()
+    {
+        return _expireTime;
+    }
+
+    /* Sets the time, in nanoseconds, at which the pending update is due. */
+    void expireTime(long expireTime)
+    {
+        _expireTime = expireTime;
+    }
+
+    /* Checks whether the field list of an update can be merged into the pending update, without changing it.
+     * Returns DO_NOT_MERGE if the update must be delivered as it is, i.e. there is no dictionary, or its field list
+     * uses set-defined data, fails to decode, has a field missing from the dictionary or a partial RMTES update.
+     * Returns FLUSH_AND_MERGE if the pending update must be delivered first, i.e. the update is of another type
+     * or a pending value of one of its rippling fields would move to a field that precedes it, which the user
+     * would then ripple in the wrong order. Returns MERGE otherwise. */
+    int checkMerge(UpdateMsg msg, DataDictionary dictionary, int majorVersion, int minorVersion)
+    {
+        if (dictionary == null)
+            return DO_NOT_MERGE;
+
+        _dIter.clear();
+        if (_dIter.setBufferAndRWFVersion(msg.encodedDataBody(), majorVersion, minorVersion) != CodecReturnCodes.SUCCESS)
+            return DO_NOT_MERGE;
+
+        _fieldList.clear();
+        if (_fieldList.decode(_dIter, null) != CodecReturnCodes.SUCCESS || _fieldList.checkHasSetData())
+            return DO_NOT_MERGE;
+
+        int result = pending() && msg.updateType() != _latestMsg.updateType() ? FLUSH_AND_MERGE : MERGE;
+        int ret;
+        _fieldEntry.clear();
+        while ((ret = _fieldEntry.decode(_dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret != CodecReturnCodes.SUCCESS)
+                return DO_NOT_MERGE;
+
+            DictionaryEntry entry = dictionary.entry(_fieldEntry.fieldId());
+            if (entry == null)
+                return DO_NOT_MERGE;
+
+            // a partial update only changes part of the earlier value, which must reach the user first
+            if (entry.rwfType() == DataTypes.RMTES_STRING && _rmtesDecoder.hasPartialRMTESUpdate(_fieldEntry.encodedData()))
+                return DO_NOT_MERGE;
+
+            if (entry.rippleToField() != 0 && result == MERGE && !canRipple(_fieldEntry.fieldId(), dictionary))
+                result = FLUSH_AND_MERGE;
+
+            _fieldEntry.clear();
+        }
+
+        return result;
+    }
+
+    /* Returns whether the pending values that a new value of a rippling field moves along its ripple chain
+     * each move to a field after their own, so that the user, rippling the fields in the order they arrive,
+     * ends up with the same values as from the updates delivered one by one. */
+    private boolean canRipple(int fieldId, DataDictionary dictionary)
+    {
+        int index = findField(fieldId);
+        // the chain is no longer than the pending fields, unless the dictionary ripples in a loop
+        for (int i = 0; index >= 0 && i < _fieldCount; ++i)
+        {
+            DictionaryEntry entry = dictionary.entry(fieldId);
+            if (entry == null || entry.rippleToField() == 0)
+                return true;
+
+            fieldId = entry.rippleToField();
+            int rippleIndex = findField(fieldId);
+            if (rippleIndex >= 0 && rippleIndex < index)
+                return false;
+            index = rippleIndex;
+        }
+        return index < 0;
+    }
+
+    /* Merges the field list of an update into the pending update. Only called after checkMerge() accepted
+     * the update, so its field list decodes. */
+    void merge(UpdateMsg msg, DataDictionary dictionary, int majorVersion, int minorVersion)
+    {
+        _dIter.clear();
+        _dIter.setBufferAndRWFVersion(msg.encodedDataBody(), majorVersion, minorVersion);
+        _fieldList.clear();
+        _fieldList.decode(_dIter, null);
+
+        _fieldEntry.clear();
+        while (_fieldEntry.decode(_dIter) == CodecReturnCodes.SUCCESS)
+        {
+            putField(_fieldEntry.fieldId(), _fieldEntry.encodedData(), dictionary);
+            _fieldEntry.clear();
+        }
+
+        _hasInfo = _fieldList.checkHasInfo();
+        _dictionaryId = _fieldList.dictionaryId();
+        _fieldListNum = _fieldList.fieldListNum();
+
+        // keep the header of the latest update; the merged field list is its payload
+        msg.copy(_latestMsg, CopyMsgFlags.ALL_FLAGS & ~(CopyMsgFlags.DATA_BODY | CopyMsgFlags.MSG_BUFFER));
+        _headerLength = Math.max(msg.encodedMsgBuffer().length() - msg.encodedDataBody().length(), 0);
+        _updateCount += msg.checkHasConfInfo() && msg.conflationCount() > 0 ? msg.conflationCount() : 1;
+    }
+
+    /* Returns the index of a pending field, or -1 if it is not pending. */
+    private int findField(int fieldId)
+    {
+        int mask = _table.length - 1;
+        for (int bucket = hash(fieldId) & mask; _table[bucket] != 0; bucket = (bucket + 1) & mask)
+        {
+            int i = _table[bucket] - 1;
+            if (_fieldIds[i] == fieldId)
+                return i;
+        }
+        return -1;
+    }
+
+    /* Stores the latest value of a field. A pending value it replaces moves to the field it ripples to, if any,
+     * along with the pending values that one replaces in turn. */
+    private void putField(int fieldId, Buffer encodedData, DataDictionary dictionary)
+    {
+        int length = encodedData.length();
+        if (_dataLength + length > _data.length)
+            growData(_dataLength + length);
+
+        if (length > 0)
+            encodedData.copy(_data, _dataLength);
+
+        // replaced values are reclaimed when the pending update is delivered
+        int offset = _dataLength;
+        _dataLength += length;
+
+        // the chain is no longer than the pending fields, unless the dictionary ripples in a loop
+        int i;
+        for (int moves = 0; (i = findField(fieldId)) >= 0; ++moves)
+        {
+            if (moves == _fieldCount)
+                return;
+
+            int replacedOffset = _dataOffsets[i];
+            int replacedLength = _dataLengths[i];
+            _dataOffsets[i] = offset;
+            _dataLengths[i] = length;
+
+            DictionaryEntry entry = dictionary.entry(fieldId);
+            if (entry == null || entry.rippleToField() == 0)
+                return;
+
+            fieldId = entry.rippleToField();
+            offset = replacedOffset;
+            length = replacedLength;
+        }
+
+        i = addField(fieldId);
+        _dataOffsets[i] = offset;
+        _dataLengths[i] = length;
+    }
+
+    private int addField(int fieldId)
+    {
+        if (_fieldCount == _fieldIds.length)
+            growFields();
+
+        int i = _fieldCount++;
+        _fieldIds[i] = fieldId;
+
+        if (_fieldCount * 2 > _table.length)
+        {
+            _table = new int[_table.length * 2];
+            for (int j = 0; j < _fieldCount; ++j)
+                insert(_fieldIds[j], j);
+        }
+        else
+            insert(fieldId, i);
+
+        return i;
+    }
+
+    private void insert(int fieldId, int index)
+    {
+        int mask = _table.length - 1;
+        int bucket = hash(fieldId) & mask;
+        while (_table[bucket] != 0)
+            bucket = (bucket + 1) & mask;
+        _table[bucket] = index + 1;
+    }
+
+    private static int hash(int fieldId)
+    {
+        int h = fieldId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void growData(int minLength)
+    {
+        byte[] data = new byte[Math.max(minLength, _data.length * 2)];
+        System.arraycopy(_data, 0, data, 0, _dataLength);
+        _data = data;
+        _dataBuffer = ByteBuffer.wrap(_data);
+    }
+
+    private void growFields()
+    {
+        int length = _fieldIds.length * 2;
+        int[] fieldIds = new int[length];
+        int[] dataOffsets = new int[length];
+        int[] dataLengths = new int[length];
+        System.arraycopy(_fieldIds, 0, fieldIds, 0, _fieldCount);
+        System.arraycopy(_dataOffsets, 0, dataOffsets, 0, _fieldCount);
+        System.arraycopy(_dataLengths, 0, dataLengths, 0, _fieldCount);
+        _fieldIds = fieldIds;
+        _dataOffsets = dataOffsets;
+        _dataLengths = dataLengths;
+    }
+
+    /* Encodes the pending update for the given stream and returns it decoded, with its conflation info set.
+     * Returns null if it could not be encoded. The pending state is kept until clear() is called. */
+    UpdateMsg conflatedMsg(int streamId, int conflationTime, int majorVersion, int minorVersion)
+    {
+        _latestMsg.streamId(streamId);
+        _latestMsg.containerType(DataTypes.FIELD_LIST);
+        _latestMsg.applyHasConfInfo();
+        _latestMsg.conflationCount(Math.min(_updateCount, MAX_CONFLATION_COUNT));
+        _latestMsg.conflationTime(Math.min(conflationTime, MAX_CONFLATION_TIME));
+
+        int size = _headerLength + FIELD_LIST_OVERHEAD + _dataLength + _fieldCount * FIELD_ENTRY_OVERHEAD;
+        int ret;
+        while ((ret = encode(size, majorVersion, minorVersion)) == CodecReturnCodes.BUFFER_TOO_SMALL)
+            size *= 2;
+
+        if (ret != CodecReturnCodes.SUCCESS)
+            return null;
+
+        _encodeBuffer.data(_encodeByteBuffer, 0, _encodeByteBuffer.position());
+        _dIter.clear();
+        _dIter.setBufferAndRWFVersion(_encodeBuffer, majorVersion, minorVersion);
+        _conflatedMsg.clear();
+        if (_conflatedMsg.decode(_dIter) != CodecReturnCodes.SUCCESS)
+            return null;
+
+        return _conflatedMsg;
+    }
+
+    private int encode(int size, int majorVersion, int minorVersion)
+    {
+        if (_encodeByteBuffer == null || _encodeByteBuffer.capacity() < size)
+            _encodeByteBuffer = ByteBuffer.allocate(size);
+
+        _encodeByteBuffer.clear();
+        _encodeBuffer.data(_encodeByteBuffer, 0, _encodeByteBuffer.capacity());
+        _eIter.clear();
+        _eIter.setBufferAndRWFVersion(_encodeBuffer, majorVersion, minorVersion);
+
+        int ret;
+        if ((ret = _latestMsg.encodeInit(_eIter, 0)) != CodecReturnCodes.ENCODE_CONTAINER)
+            return ret;
+
+        _fieldList.clear();
+        _fieldList.applyHasStandardData();
+        if (_hasInfo)
+        {
+            _fieldList.applyHasInfo();
+            _fieldList.dictionaryId(_dictionaryId);
+            _fieldList.fieldListNum(_fieldListNum);
+        }
+        if ((ret = _fieldList.encodeInit(_eIter, null, 0)) != CodecReturnCodes.SUCCESS)
+            return ret;
+
+        for (int i = 0; i < _fieldCount; ++i)
+        {
+            _fieldEntry.clear();
+            _fieldEntry.fieldId(_fieldIds[i]);
+            if (_dataLengths[i] > 0)
+                _fieldEntry.encodedData().data(_dataBuffer, _dataOffsets[i], _dataLengths[i]);
+            if ((ret = _fieldEntry.encode(_eIter)) != CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        if ((ret = _fieldList.encodeComplete(_eIter, true)) != CodecReturnCodes.SUCCESS)
+            return ret;
+
+        return _latestMsg.encodeComplete(_eIter, true);
+    }
+
+    /* Discards the pending update. */
+    void clear()
+    {
+        _latestMsg.clear();
+        _latestMsg.msgClass(MsgClasses.UPDATE);
+        if (_fieldCount > 0)
+            Arrays.fill(_table, 0);
+        _fieldCount = 0;
+        _dataLength = 0;
+        _hasInfo = false;
+        _dictionaryId = 0;
+        _fieldListNum = 0;
+        _headerLength = 0;
+        _updateCount = 0;
+        _expireTime = 0;
+    }
+}
@@ -0,0 +1,203 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.util.Arrays;
+
+/* Watchlist hash table keyed by int, such as a stream id or a service id.
+ * Keys are kept in an int array with open addressing and linear probing, so lookups
+ * do not box the key and entries do not allocate nodes. Values cannot be null.
+ *
+ * The table is iterated by slot:
+ *     for (int slot = map.nextSlot(-1); slot >= 0; slot = map.nextSlot(slot))
+ *         map.valueAt(slot);
+ * The table must not be changed while it is iterated. */
+class WlIntHashMap<T>
+{
+    static final int DEFAULT_CAPACITY = 16;
+
+    private int[] _keys;
+    private Object[] _values;
+    private int _mask;
+    private int _size;
+    private int _resizeThreshold;
+
+    WlIntHashMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /* Creates a table that holds expectedSize entries without growing. */
+    WlIntHashMap(int expectedSize)
+    {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < Integer.MAX_VALUE / 4 && capacity / 2 < expectedSize)
+            capacity <<= 1;
+        allocate(capacity);
+    }
+
+    /* Returns the value of the key, or null if the key is not in the table. */
+    @SuppressWarnings("unchecked")
+    T get(int key)
+    {
+        int slot = find(key);
+        return slot >= 0 ? (T)_values[slot] : null;
+    }
+
+    boolean containsKey(int key)
+    {
+        return find(key) >= 0;
+    }
+
+    /* Sets the value of the key and returns the previous value, or null if the key was not in the table. */
+    @SuppressWarnings("unchecked")
+    T put(int key, T value)
+    {
+        assert (value != null);
+
+        int slot = slot(key);
+        Object current;
+        while ((current = _values[slot]) != null)
+        {
+            if (_keys[slot] == key)
+            {
+                _values[slot] = value;
+                return (T)current;
+            }
+            slot = (slot + 1) & _mask;
+        }
+
+        _keys[slot] = key;
+        _values[slot] = value;
+        if (++_size > _resizeThreshold)
+            grow();
+
+        return null;
+    }
+
+    /* Removes the key and returns its value, or null if the key was not in the table. */
+    @SuppressWarnings("unchecked")
+    T remove(int key)
+    {
+        int slot = find(key);
+        if (slot < 0)
+            return null;
+
+        T value = (T)_values[slot];
+        --_size;
+
+        // move back the following entries of the probe sequence, so lookups never need to skip deleted slots
+        int hole = slot;
+        int next = (slot + 1) & _mask;
+        while (_values[next] != null)
+        {
+            int home = slot(_keys[next]);
+            if (((next - home) & _mask) >= ((next - hole) & _mask))
+            {
+                _keys[hole] = _keys[next];
+                _values[hole] = _values[next];
+                hole = next;
+            }
+            next = (next + 1) & _mask;
+        }
+        _values[hole] = null;
+
+        return value;
+    }
+
+    int size()
+    {
+        return _size;
+    }
+
+    boolean isEmpty()
+    {
+        return _size == 0;
+    }
+
+    /* Removes all entries, keeping the capacity of the table. */
+    void clear()
+    {
+        if (_size > 0)
+        {
+            Arrays.fill(_values, null);
+            _size = 0;
+        }
+    }
+
+    /* Returns the first used slot after the given slot, or -1 after the last one. Starts from slot -1. */
+    int nextSlot(int slot)
+    {
+        for (int next = slot + 1; next < _values.length; ++next)
+        {
+            if (_values[next] != null)
+                return next;
+        }
+
+        return -1;
+    }
+
+    int keyAt(int slot)
+    {
+        return _keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    T valueAt(int slot)
+    {
+        return (T)_values[slot];
+    }
+
+    private int find(int key)
+    {
+        int slot = slot(key);
+        while (_values[slot] != null)
+        {
+            if (_keys[slot] == key)
+                return slot;
+            slot = (slot + 1) & _mask;
+        }
+
+        return -1;
+    }
+
+    // stream ids are sequential, so the key is spread over the table before masking
+    private int slot(int key)
+    {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & _mask;
+    }
+
+    private void allocate(int capacity)
+    {
+        _keys = new int[capacity];
+        _values = new Object[capacity];
+        _mask = capacity - 1;
+        _resizeThreshold = capacity / 2;
+    }
+
+    private void grow()
+    {
+        int[] keys = _keys;
+        Object[] values = _values;
+        allocate(values.length << 1);
+
+        for (int i = 0; i < values.length; ++i)
+        {
+            if (values[i] == null)
+                continue;
+
+            int slot = slot(keys[i]);
+            while (_values[slot] != null)
+                slot = (slot + 1) & _mask;
+            _keys[slot] = keys[i];
+            _values[slot] = values[i];
+        }
+    }
+}
@@ -10,7 +10,7 @@ package com.refinitiv.eta.valueadd.reactor;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -62,6 +62,7 @@ import com.refinitiv.eta.rdm.InstrumentNameTypes;
 import com.refinitiv.eta.rdm.SymbolList;
 import com.refinitiv.eta.rdm.ViewTypes;
 import com.refinitiv.eta.transport.ChannelState;
+import com.refinitiv.eta.valueadd.common.VaDoubleLinkList;
 import com.refinitiv.eta.valueadd.domainrep.rdm.MsgBase;
 import com.refinitiv.eta.valueadd.domainrep.rdm.dictionary.DictionaryMsg;
 import com.refinitiv.eta.valueadd.domainrep.rdm.dictionary.DictionaryMsgFactory;
@@ -84,10 +85,11 @@ class WlItemHandler implements WlHandler
     
     // used for requests that are submitted when directory stream is not up
     // two tables are required - one is indexed by service id and one is indexed by service name
-    LinkedHashMap<WlInteger,LinkedHashSet<WlRequest>> _pendingRequestByIdTable = new LinkedHashMap<WlInteger,LinkedHashSet<WlRequest>>();
-    LinkedHashMap<String,LinkedHashSet<WlRequest>> _pendingRequestByNameTable = new LinkedHashMap<String,LinkedHashSet<WlRequest>>();
+    // requests are linked in their pending request list with WlRequest.PENDING_LINK
+    WlIntHashMap<VaDoubleLinkList<WlRequest>> _pendingRequestByIdTable = new WlIntHashMap<VaDoubleLinkList<WlRequest>>();
+    LinkedHashMap<String,VaDoubleLinkList<WlRequest>> _pendingRequestByNameTable = new LinkedHashMap<String,VaDoubleLinkList<WlRequest>>();
     // pool of pending request lists (to avoid GC)
-    LinkedList<LinkedHashSet<WlRequest>> _pendingRequestListPool = new LinkedList<LinkedHashSet<WlRequest>>();
+    ArrayDeque<VaDoubleLinkList<WlRequest>> _pendingRequestListPool = new ArrayDeque<VaDoubleLinkList<WlRequest>>();
     
     ReactorErrorInfo _errorInfo = ReactorFactory.createReactorErrorInfo();
     ReactorSubmitOptions _submitOptions = ReactorFactory.createReactorSubmitOptions();
@@ -161,6 +163,10 @@ class WlItemHandler implements WlHandler
 	Buffer _elementName = CodecFactory.createBuffer();
 	Buffer _viewElemList = CodecFactory.createBuffer();
 	boolean _snapshotViewClosed;
+	// filters refresh and update payloads down to the request views, when view filtering is enabled
+	WlViewFilter _viewFilter = new WlViewFilter();
+	Buffer _unfilteredDataBody = CodecFactory.createBuffer();
+	Buffer _unfilteredMsgBuffer = CodecFactory.createBuffer();
 
     // Set whenever a message is being fanned out on a stream. If all requests are closed,
     // this prevents repooling the stream too soon.
@@ -172,6 +178,14 @@ class WlItemHandler implements WlHandler
     
     // This is used to keep a list of streamId to remove from _statusMsgDispatchList
     LinkedList<WlInteger> _removeStatusMsgList = new LinkedList<WlInteger>();
+
+    // Requests that have a conflated update waiting to be delivered, ordered by the time their update is due.
+    // Requests are linked with WlRequest.CONFLATED_LINK.
+    VaDoubleLinkList<WlRequest> _conflatedRequestList = new VaDoubleLinkList<WlRequest>();
+    // Expire times of the watchlist timers started for conflated updates. A new timer is only started
+    // when none is due before it, so the earliest is always last.
+    long[] _conflationTimerTimes = new long[8];
+    int _conflationTimerCount;
 		
     WlItemHandler(Watchlist watchlist)
     {
@@ -390,7 +404,7 @@ class WlItemHandler implements WlHandler
                         WlInteger wlInteger = ReactorFactory.createWlInteger();
                         wlInteger.value(wlStream.streamId());
                         wlStream.tableKey(wlInteger);
-                        _watchlist.streamIdtoWlStreamTable().put(wlInteger, wlStream);
+                        _watchlist.streamIdtoWlStreamTable().put(wlInteger.value(), wlStream);
 
                         // add to _itemAggregationKeytoWlStreamTable if not private stream
                         if (!requestMsg.checkPrivateStream())
@@ -641,7 +655,7 @@ class WlItemHandler implements WlHandler
 	    
     	WlInteger wlInteger = ReactorFactory.createWlInteger();
         wlInteger.value(requestMsg.streamId());
-    	_watchlist.streamIdtoWlRequestTable().put(wlInteger, wlRequest);
+    	_watchlist.streamIdtoWlRequestTable().put(wlInteger.value(), wlRequest);
 
     	if (requestMsg.containerType() == DataTypes.ELEMENT_LIST)
     	{
@@ -809,8 +823,7 @@ class WlItemHandler implements WlHandler
 		/* Start at stream ID after batch request. */
 		currentStreamId++;
 		
-		_tempWlInteger.value(currentStreamId);
-		if (_watchlist.streamIdtoWlRequestTable().get(_tempWlInteger) != null)
+		if (_watchlist.streamIdtoWlRequestTable().get(currentStreamId) != null)
 		{
             return _watchlist.reactor().populateErrorInfo(errorInfo,
             		ReactorReturnCodes.FAILURE,
@@ -826,8 +839,7 @@ class WlItemHandler implements WlHandler
 		{
 			itemName.data(itemNames.remove());
 
-			_tempWlInteger.value(possibleStreamId);
-			if (_watchlist.streamIdtoWlRequestTable().get(_tempWlInteger) != null)
+			if (_watchlist.streamIdtoWlRequestTable().get(possibleStreamId) != null)
 			{
 				while (!wlRequestList.isEmpty())
 				{
@@ -848,6 +860,7 @@ class WlItemHandler implements WlHandler
         	// Create item list request and new watchlist request based off old watchlist request
         	newWlRequest.handler(wlRequest.handler());
         	newWlRequest.stream(wlRequest.stream());
+        	newWlRequest.conflation(wlRequest.conflationInterval(), wlRequest.conflationCount(), wlRequest.conflationDictionary());
         	
 
         	// Remove batch flag and do not copy the encoded data body from the batch request
@@ -893,7 +906,7 @@ class WlItemHandler implements WlHandler
         	// Add watchlist request to request table
             wlInteger = ReactorFactory.createWlInteger();
             wlInteger.value(currentStreamId);
-            _watchlist.streamIdtoWlRequestTable().put(wlInteger, wlRequestList.get(currentStreamId));
+            _watchlist.streamIdtoWlRequestTable().put(wlInteger.value(), wlRequestList.get(currentStreamId));
             
         	ret = handleRequest(wlRequestList.get(currentStreamId), requestMsgList.get(currentStreamId), submitOptions, true, errorInfo);
         	if (ret <= ReactorReturnCodes.FAILURE)
@@ -1043,7 +1056,14 @@ class WlItemHandler implements WlHandler
             if (requestMsg.checkHasView())
             {
             	extractViewFromMsg(wlRequest, requestMsg, errorInfo);  	  
-    			if ( (ret = handleViews(wlRequest, errorInfo)) < ReactorReturnCodes.SUCCESS)
+    			ret = handleViews(wlRequest, errorInfo);
+    			// the old view was taken out of the aggregate view above, so release it and its element names once replaced
+    			if (oldView != null && oldView != wlRequest.view())
+    			{
+    				_wlViewHandler.destroyView(oldView);
+    				oldView = null;
+    			}
+    			if (ret < ReactorReturnCodes.SUCCESS)
     	            return ret;
             	wlRequest._reissue_hasViewChange = true;
             	
@@ -1297,49 +1317,98 @@ class WlItemHandler implements WlHandler
         // set WlStream to null when starting over
         wlRequest.stream(null);
         
+    	// a request already pending is moved to the end of its new list
+    	removePendingRequest(wlRequest);
+
     	// retrieve pending request list for this service id/name if one exists
-    	LinkedHashSet<WlRequest> pendingRequestList = null;
-    	if (submitOptions.serviceName() != null)
+    	VaDoubleLinkList<WlRequest> pendingRequestList = null;
+    	String serviceName = submitOptions.serviceName();
+    	int serviceId = wlRequest.requestMsg().msgKey().serviceId();
+    	if (serviceName != null)
     	{
-    		pendingRequestList = _pendingRequestByNameTable.get(submitOptions.serviceName());
+    		pendingRequestList = _pendingRequestByNameTable.get(serviceName);
     	}
     	else
     	{
-    		_tempWlInteger.value(wlRequest.requestMsg().msgKey().serviceId());
-    		pendingRequestList = _pendingRequestByIdTable.get(_tempWlInteger);
+    		pendingRequestList = _pendingRequestByIdTable.get(serviceId);
     	}
 
-    	// add to pending request list
-    	if (pendingRequestList != null)
-    	{
-    		// pending request list exists, just add to existing list
-    		pendingRequestList.add(wlRequest);
-    	}
-    	else // pending request list doesn't exist
+    	if (pendingRequestList == null) // pending request list doesn't exist
     	{
     		// create a pending request list
     		pendingRequestList = _pendingRequestListPool.poll();
     		if (pendingRequestList == null)
     		{
-    			pendingRequestList = new LinkedHashSet<WlRequest>();
+    			pendingRequestList = new VaDoubleLinkList<WlRequest>();
     		}
-                
-    		// add pending request to list
-    		pendingRequestList.add(wlRequest);
-                
+
     		// add pending request list to table
-    		if (submitOptions.serviceName() != null)
+    		if (serviceName != null)
     		{
-    			_pendingRequestByNameTable.put(submitOptions.serviceName(), pendingRequestList);
+    			_pendingRequestByNameTable.put(serviceName, pendingRequestList);
     		}
     		else
     		{
-    			WlInteger wlInteger = ReactorFactory.createWlInteger();
-    			wlInteger.value(wlRequest.requestMsg().msgKey().serviceId());
-    			_pendingRequestByIdTable.put(wlInteger, pendingRequestList);
+    			_pendingRequestByIdTable.put(serviceId, pendingRequestList);
     		}
-            
     	}
+
+    	// add to pending request list
+    	pendingRequestList.push(wlRequest, WlRequest.PENDING_LINK);
+    	wlRequest._pendingRequestList = pendingRequestList;
+    	wlRequest._pendingServiceName = serviceName;
+    	wlRequest._pendingServiceId = serviceId;
+    	pendingRequestCountChanged(1);
+    }
+
+    /* Adds to the Reactor's gauge of pending requests, if it updates metrics. */
+    private void pendingRequestCountChanged(int delta)
+    {
+    	ReactorMetrics metrics = _watchlist.reactor()._metrics;
+    	if (metrics != null)
+    		metrics.watchlistPendingRequests.add(delta);
+    }
+
+    /* Removes a request from its pending request list, if any.
+     * The list is removed from its table and pooled once it is empty. */
+    void removePendingRequest(WlRequest wlRequest)
+    {
+    	VaDoubleLinkList<WlRequest> pendingRequestList = wlRequest._pendingRequestList;
+    	if (pendingRequestList == null)
+    		return;
+
+    	pendingRequestList.remove(wlRequest, WlRequest.PENDING_LINK);
+    	wlRequest._pendingRequestList = null;
+    	pendingRequestCountChanged(-1);
+
+    	if (pendingRequestList.count() == 0)
+    	{
+    		// the list may have been taken out of its table already
+    		if (wlRequest._pendingServiceName != null)
+    		{
+    			if (_pendingRequestByNameTable.get(wlRequest._pendingServiceName) == pendingRequestList)
+    				_pendingRequestByNameTable.remove(wlRequest._pendingServiceName);
+    		}
+    		else if (_pendingRequestByIdTable.get(wlRequest._pendingServiceId) == pendingRequestList)
+    		{
+    			_pendingRequestByIdTable.remove(wlRequest._pendingServiceId);
+    		}
+    		_pendingRequestListPool.add(pendingRequestList);
+    	}
+    	wlRequest._pendingServiceName = null;
+    }
+
+    /* Unlinks the requests of a pending request list and pools the list. */
+    private void clearPendingRequestList(VaDoubleLinkList<WlRequest> pendingRequestList)
+    {
+    	WlRequest wlRequest;
+    	while ((wlRequest = pendingRequestList.pop(WlRequest.PENDING_LINK)) != null)
+    	{
+    		wlRequest._pendingRequestList = null;
+    		wlRequest._pendingServiceName = null;
+    		pendingRequestCountChanged(-1);
+    	}
+    	_pendingRequestListPool.add(pendingRequestList);
     }
 
     /* Creates a new stream. */
@@ -1696,35 +1765,8 @@ class WlItemHandler implements WlHandler
         if (statusMsg != null)
         	_statusMsgPool.add(statusMsg);
 
-        Iterator<Map.Entry<WlInteger, LinkedHashSet<WlRequest>>> I = _pendingRequestByIdTable.entrySet().iterator();
-        while (I.hasNext())
-        {
-        	Map.Entry<WlInteger, LinkedHashSet<WlRequest>> entry = I.next();
-        	LinkedHashSet<WlRequest> pendingRequests = entry.getValue();
-        	pendingRequests.remove(wlRequest);
-
-        	if (pendingRequests.isEmpty())
-        	{
-        		entry.getKey().returnToPool();
-        		I.remove();
-        		_pendingRequestListPool.add(pendingRequests);
-        	}
-        }
-        
-        // remove from _pendingRequestByNameTable
-        Iterator<Map.Entry<String, LinkedHashSet<WlRequest>>> J = _pendingRequestByNameTable.entrySet().iterator();
-        while (J.hasNext())
-        {
-	        Map.Entry<String, LinkedHashSet<WlRequest>> entry = J.next();
-	        LinkedHashSet<WlRequest> pendingRequests = entry.getValue();
-        	pendingRequests.remove(wlRequest);
-
-        	if (pendingRequests.isEmpty())
-        	{
-        		J.remove();
-        		_pendingRequestListPool.add(pendingRequests);
-        	}
-        }
+        // remove from _pendingRequestByIdTable or _pendingRequestByNameTable
+        removePendingRequest(wlRequest);
         
         closeWlRequest(wlRequest);
         repoolWlRequest(wlRequest);
@@ -1834,8 +1876,7 @@ class WlItemHandler implements WlHandler
         _statusMsg.state().text().data(text);
   
         // callback user
-        _tempWlInteger.value(_statusMsg.streamId());
-        return callbackUser("WlItemHandler.sendStatus", _statusMsg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), _errorInfo);
+        return callbackUser("WlItemHandler.sendStatus", _statusMsg, null, _watchlist.streamIdtoWlRequestTable().get(_statusMsg.streamId()), _errorInfo);
     }
 
     /* Queues a status message for sending on dispatch. */
@@ -1915,6 +1956,19 @@ class WlItemHandler implements WlHandler
         
         _currentFanoutStream = wlStream;
         _msgState = null;
+        _viewFilter.clear();
+
+        // deliver conflated updates ahead of a refresh or status, to keep their order
+        if (_conflatedRequestList.count() > 0 && (msg.msgClass() == MsgClasses.REFRESH || msg.msgClass() == MsgClasses.STATUS))
+        {
+            if ((ret = deliverConflatedUpdates(wlStream, errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+            {
+                if (_currentFanoutStream == null)
+                    wlStream.returnToPool();
+                _currentFanoutStream = null;
+                return ret;
+            }
+        }
         
         switch (msg.msgClass())
         {
@@ -2193,7 +2247,7 @@ class WlItemHandler implements WlHandler
                     
                     ret = callbackUser("WlItemHandler.readRefreshMsg", msg, null, wlRequest, errorInfo);
                     
-                    wlRequest.returnToPool();
+                    repoolWlRequest(wlRequest);
 
                     if (ret < ReactorCallbackReturnCodes.SUCCESS)
                     {
@@ -2210,8 +2264,7 @@ class WlItemHandler implements WlHandler
                 }
                 else 
                 {
-                    _tempWlInteger.value(msg.streamId());
-                    if ((ret = callbackUser("WlItemHandler.readRefreshMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                    if ((ret = callbackUser("WlItemHandler.readRefreshMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                     {
                         // break out of loop for error
                         break;
@@ -2295,11 +2348,17 @@ class WlItemHandler implements WlHandler
             {
                 // update stream id in message to that of user request
                 msg.streamId(wlRequest.requestMsg().streamId());
+
+                if (wlRequest.conflationEnabled())
+                {
+                    if ((ret = conflateUpdate(wlRequest, (UpdateMsg)msg, errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                        break;
+                    continue;
+                }
                 
                 // callback user
-                _tempWlInteger.value(msg.streamId());
                 
-                if ((ret = callbackUser("WlItemHandler.readUpdateMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                if ((ret = callbackUser("WlItemHandler.readUpdateMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                 {
                     // break out of loop for error
                     break;
@@ -2335,9 +2394,8 @@ class WlItemHandler implements WlHandler
                 msg.streamId(wlRequest.requestMsg().streamId());
 
                 // callback user
-                _tempWlInteger.value(msg.streamId());
 
-                if (callbackUser("WlItemHandler.readStatusMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo) < ReactorCallbackReturnCodes.SUCCESS)
+                if (callbackUser("WlItemHandler.readStatusMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo) < ReactorCallbackReturnCodes.SUCCESS)
                 {
                     // break out of loop for error
                     break;
@@ -2370,8 +2428,7 @@ class WlItemHandler implements WlHandler
                 msg.streamId(wlRequest.requestMsg().streamId());
                 
                 // callback user
-                _tempWlInteger.value(msg.streamId());
-                if ((ret = callbackUser("WlItemHandler.readGenericMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                if ((ret = callbackUser("WlItemHandler.readGenericMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
                 {
                     // break out of loop for error
                     break;
@@ -2391,13 +2448,179 @@ class WlItemHandler implements WlHandler
         if (wlStream.handlePostAck(msg))
         {
             // call back user if ACK was processed
-            _tempWlInteger.value(msg.streamId());
-            ret = callbackUser("WlItemHandler.readAckMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo);
+            ret = callbackUser("WlItemHandler.readAckMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo);
         }
         
         return ret;
     }
     
+    /* Merges an update into the pending conflated update of a request, delivering it once the request's
+     * conflation count is reached. An update that cannot be conflated is delivered after any pending update,
+     * and one that cannot join the pending update is merged once that is delivered. */
+    private int conflateUpdate(WlRequest wlRequest, UpdateMsg msg, ReactorErrorInfo errorInfo)
+    {
+        int ret;
+        WlConflatedUpdate conflatedUpdate = wlRequest.conflatedUpdate();
+        int majorVersion = _watchlist.reactorChannel().majorVersion();
+        int minorVersion = _watchlist.reactorChannel().minorVersion();
+        int mergeResult = WlConflatedUpdate.DO_NOT_MERGE;
+
+        if (msg.containerType() == DataTypes.FIELD_LIST && !msg.checkDoNotConflate())
+            mergeResult = conflatedUpdate.checkMerge(msg, wlRequest.conflationDictionary(), majorVersion, minorVersion);
+
+        if (mergeResult == WlConflatedUpdate.FLUSH_AND_MERGE)
+        {
+            if ((ret = deliverConflatedUpdate(wlRequest, errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                return ret;
+
+            // the request may have been closed in the callback
+            if (wlRequest.state() == WlRequest.State.RETURN_TO_POOL)
+                return ret;
+
+            msg.streamId(wlRequest.requestMsg().streamId());
+            mergeResult = WlConflatedUpdate.MERGE;
+        }
+
+        if (mergeResult == WlConflatedUpdate.MERGE)
+        {
+            boolean wasPending = conflatedUpdate.pending();
+            conflatedUpdate.merge(msg, wlRequest.conflationDictionary(), majorVersion, minorVersion);
+
+            if (!wasPending)
+            {
+                long expireTime = System.nanoTime() + wlRequest.conflationInterval() * 1000000L;
+                conflatedUpdate.expireTime(expireTime);
+                addConflatedRequest(wlRequest);
+                if ((ret = startConflationTimer(expireTime, errorInfo)) < ReactorReturnCodes.SUCCESS)
+                    return ret;
+            }
+
+            // also deliver an update that is already due, without waiting for the worker to signal its timer
+            if (wlRequest.conflationCount() > 0 && conflatedUpdate.updateCount() >= wlRequest.conflationCount()
+                    || wasPending && conflatedUpdate.expireTime() - System.nanoTime() <= 0)
+                return deliverConflatedUpdate(wlRequest, errorInfo);
+
+            return ReactorReturnCodes.SUCCESS;
+        }
+
+        if (conflatedUpdate.pending())
+        {
+            if ((ret = deliverConflatedUpdate(wlRequest, errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                return ret;
+
+            // the request may have been closed in the callback
+            if (wlRequest.state() == WlRequest.State.RETURN_TO_POOL)
+                return ret;
+
+            msg.streamId(wlRequest.requestMsg().streamId());
+        }
+
+        return callbackUser("WlItemHandler.readUpdateMsg", msg, null, wlRequest, errorInfo);
+    }
+
+    /* Delivers the pending conflated update of a request. */
+    private int deliverConflatedUpdate(WlRequest wlRequest, ReactorErrorInfo errorInfo)
+    {
+        WlConflatedUpdate conflatedUpdate = wlRequest.conflatedUpdate();
+        _conflatedRequestList.remove(wlRequest, WlRequest.CONFLATED_LINK);
+
+        UpdateMsg updateMsg = conflatedUpdate.conflatedMsg(wlRequest.requestMsg().streamId(), wlRequest.conflationInterval(),
+                _watchlist.reactorChannel().majorVersion(), _watchlist.reactorChannel().minorVersion());
+        conflatedUpdate.clear();
+        _viewFilter.clear();
+
+        if (updateMsg == null)
+        {
+            return _watchlist.reactor().populateErrorInfo(errorInfo,
+                                                          ReactorReturnCodes.FAILURE,
+                                                          "WlItemHandler.deliverConflatedUpdate",
+                                                          "Failed to encode conflated update for stream " + wlRequest.requestMsg().streamId() + ".");
+        }
+
+        return callbackUser("WlItemHandler.deliverConflatedUpdate", updateMsg, null, wlRequest, errorInfo);
+    }
+
+    /* Adds a request to the conflated request list, after the requests whose updates are due no later. Requests
+     * mostly share a conflation interval, so the request usually goes last. */
+    private void addConflatedRequest(WlRequest wlRequest)
+    {
+        long expireTime = wlRequest.conflatedUpdate().expireTime();
+        WlRequest previous = _conflatedRequestList.peekTail();
+        while (previous != null && previous.conflatedUpdate().expireTime() - expireTime > 0)
+            previous = WlRequest.CONFLATED_LINK.getPrev(previous);
+
+        if (previous == null)
+            _conflatedRequestList.pushBack(wlRequest, WlRequest.CONFLATED_LINK);
+        else
+            _conflatedRequestList.insertAfter(previous, wlRequest, WlRequest.CONFLATED_LINK);
+    }
+
+    /* Delivers the pending conflated updates of the requests on a stream. */
+    private int deliverConflatedUpdates(WlStream wlStream, ReactorErrorInfo errorInfo)
+    {
+        int ret = ReactorReturnCodes.SUCCESS;
+        
+        for (int i = 0; i < wlStream.userRequestList().size(); i++)
+        {
+            WlRequest wlRequest = wlStream.userRequestList().get(i);
+            
+            if (wlRequest.hasConflatedUpdate() && (ret = deliverConflatedUpdate(wlRequest, errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                break;
+        }
+        
+        return ret;
+    }
+
+    /* Starts a watchlist timer for a conflated update, unless one is already due at or before it. */
+    private int startConflationTimer(long expireTime, ReactorErrorInfo errorInfo)
+    {
+        if (_conflationTimerCount > 0 && _conflationTimerTimes[_conflationTimerCount - 1] - expireTime <= 0)
+            return ReactorReturnCodes.SUCCESS;
+        
+        if (!_watchlist.reactor().sendWorkerEvent(WorkerEventTypes.START_WATCHLIST_TIMER, _watchlist.reactorChannel(), expireTime))
+        {
+            return _watchlist.reactor().populateErrorInfo(errorInfo,
+                                                          ReactorReturnCodes.FAILURE,
+                                                          "WlItemHandler.startConflationTimer",
+                                                          "_reactor.sendWorkerEvent() failed");
+        }
+        
+        if (_conflationTimerCount == _conflationTimerTimes.length)
+            _conflationTimerTimes = Arrays.copyOf(_conflationTimerTimes, _conflationTimerCount * 2);
+        _conflationTimerTimes[_conflationTimerCount++] = expireTime;
+        
+        return ReactorReturnCodes.SUCCESS;
+    }
+
+    /* Returns whether the earliest timer started for conflated updates has expired. */
+    boolean conflationTimerExpired()
+    {
+        return _conflationTimerCount > 0 && _conflationTimerTimes[_conflationTimerCount - 1] - System.nanoTime() <= 0;
+    }
+
+    /* Handles the expiry of a timer started for conflated updates. Delivers the pending updates that are due
+     * and starts a timer for the earliest one left. */
+    int conflationTimeout(ReactorErrorInfo errorInfo)
+    {
+        int ret = ReactorReturnCodes.SUCCESS;
+        long currentTime = System.nanoTime();
+        
+        --_conflationTimerCount;
+        
+        WlRequest wlRequest;
+        while ((wlRequest = _conflatedRequestList.peek()) != null && wlRequest.conflatedUpdate().expireTime() - currentTime <= 0)
+        {
+            // delivering removes the request from the list
+            if ((ret = deliverConflatedUpdate(wlRequest, errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                return ret;
+        }
+        
+        if ((wlRequest = _conflatedRequestList.peek()) != null)
+            ret = startConflationTimer(wlRequest.conflatedUpdate().expireTime(), errorInfo);
+        
+        return ret;
+    }
+    
     /* Dispatch all streams for the handler. */
     int dispatch(ReactorErrorInfo errorInfo)
     {
@@ -2413,9 +2636,13 @@ class WlItemHandler implements WlHandler
         {
             Map.Entry<WlInteger, StatusMsg> entry = statusMsgIter.next(); // Get an entry and use it to access both key and value
             statusMsg = entry.getValue();
-            _tempWlInteger.value(statusMsg.streamId());
-            WlRequest wlRequest = _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger);
+            WlRequest wlRequest = _watchlist.streamIdtoWlRequestTable().get(statusMsg.streamId());
             boolean requestClosed = (statusMsg.checkHasState() && statusMsg.state().streamState() != StreamStates.OPEN);
+
+            // deliver any conflated update ahead of the status
+            if (wlRequest != null && wlRequest.hasConflatedUpdate()
+                    && (ret = deliverConflatedUpdate(wlRequest, errorInfo)) < ReactorCallbackReturnCodes.SUCCESS)
+                return ret;
             
             if (requestClosed)
             	closeWlRequest(wlRequest);
@@ -2558,19 +2785,18 @@ class WlItemHandler implements WlHandler
    	    	wlStream.numPausedRequestsCount(requestList.size());
    	   }
     	     	   	   
-   	   for (Map.Entry<String, LinkedHashSet<WlRequest>> entry : _pendingRequestByNameTable.entrySet())
+   	   for (VaDoubleLinkList<WlRequest> pendingRequestList : _pendingRequestByNameTable.values())
    	   {
-   		LinkedHashSet<WlRequest> pendingRequestList  = entry.getValue();
-   	   	   for (WlRequest usrRequest : pendingRequestList)
+   	   	   for (WlRequest usrRequest = pendingRequestList.start(WlRequest.PENDING_LINK); usrRequest != null; usrRequest = pendingRequestList.forth(WlRequest.PENDING_LINK))
        	   { 
    	   		   usrRequest.requestMsg().applyPause();
        	   }
    	   }
    
-   	   for (Map.Entry<WlInteger, LinkedHashSet<WlRequest>> entry : _pendingRequestByIdTable.entrySet())
+   	   for (int slot = _pendingRequestByIdTable.nextSlot(-1); slot >= 0; slot = _pendingRequestByIdTable.nextSlot(slot))
    	   {
-   		LinkedHashSet<WlRequest> pendingRequestList  = entry.getValue();
-   	   	   for (WlRequest usrRequest : pendingRequestList)
+   		VaDoubleLinkList<WlRequest> pendingRequestList  = _pendingRequestByIdTable.valueAt(slot);
+   	   	   for (WlRequest usrRequest = pendingRequestList.start(WlRequest.PENDING_LINK); usrRequest != null; usrRequest = pendingRequestList.forth(WlRequest.PENDING_LINK))
        	   { 
    	   		   usrRequest.requestMsg().applyPause();
        	   } 
@@ -2595,19 +2821,18 @@ class WlItemHandler implements WlHandler
        	 	}
     	}
         	     	   	   
-    	for (Map.Entry<String, LinkedHashSet<WlRequest>> entry : _pendingRequestByNameTable.entrySet())
+    	for (VaDoubleLinkList<WlRequest> pendingRequestList : _pendingRequestByNameTable.values())
     	{
-    		LinkedHashSet<WlRequest> pendingRequestList  = entry.getValue();
-    		for (WlRequest usrRequest : pendingRequestList)
+    		for (WlRequest usrRequest = pendingRequestList.start(WlRequest.PENDING_LINK); usrRequest != null; usrRequest = pendingRequestList.forth(WlRequest.PENDING_LINK))
     		{ 
     			usrRequest.requestMsg().flags(usrRequest.requestMsg().flags() & ~RequestMsgFlags.PAUSE);
            	}
     	}
        
-    	for (Map.Entry<WlInteger, LinkedHashSet<WlRequest>> entry : _pendingRequestByIdTable.entrySet())
+    	for (int slot = _pendingRequestByIdTable.nextSlot(-1); slot >= 0; slot = _pendingRequestByIdTable.nextSlot(slot))
     	{
-    		LinkedHashSet<WlRequest> pendingRequestList  = entry.getValue();
-    		for (WlRequest usrRequest : pendingRequestList)
+    		VaDoubleLinkList<WlRequest> pendingRequestList  = _pendingRequestByIdTable.valueAt(slot);
+    		for (WlRequest usrRequest = pendingRequestList.start(WlRequest.PENDING_LINK); usrRequest != null; usrRequest = pendingRequestList.forth(WlRequest.PENDING_LINK))
     		{ 
     			usrRequest.requestMsg().flags(usrRequest.requestMsg().flags() & ~RequestMsgFlags.PAUSE);
     		}	 
@@ -2625,12 +2850,11 @@ class WlItemHandler implements WlHandler
     int serviceAdded(WlService wlService)
     {
         int ret = ReactorReturnCodes.SUCCESS;
-        LinkedHashSet<WlRequest> pendingRequestList = null;
+        VaDoubleLinkList<WlRequest> pendingRequestList = null;
         
         // handle any pending requests
         // retrieve matching requests based on service id or service name
-        _tempWlInteger.value(wlService.rdmService().serviceId());
-        pendingRequestList = _pendingRequestByIdTable.remove(_tempWlInteger);
+        pendingRequestList = _pendingRequestByIdTable.remove(wlService.rdmService().serviceId());
         if (pendingRequestList == null)
         {
             pendingRequestList = _pendingRequestByNameTable.remove(wlService.rdmService().info().serviceName().toString());
@@ -2640,10 +2864,11 @@ class WlItemHandler implements WlHandler
         if (pendingRequestList != null)
         {
             WlRequest wlRequest = null;
-            Iterator<WlRequest> wlRequestIter = pendingRequestList.iterator();
-            while(wlRequestIter.hasNext())
+            while((wlRequest = pendingRequestList.pop(WlRequest.PENDING_LINK)) != null)
             {
-            	wlRequest = wlRequestIter.next();
+            	wlRequest._pendingRequestList = null;
+            	wlRequest._pendingServiceName = null;
+            	pendingRequestCountChanged(-1);
                 _submitOptions.serviceName(wlRequest.streamInfo().serviceName());
                 _submitOptions.requestMsgOptions().userSpecObj(wlRequest.streamInfo().userSpecObject());
                 
@@ -2652,11 +2877,8 @@ class WlItemHandler implements WlHandler
           		
                 if ((ret = handleRequest(wlRequest, wlRequest.requestMsg(), _submitOptions, false, _errorInfo)) < ReactorReturnCodes.SUCCESS)
                 {
-                    wlRequestIter.remove();
                     return ret;
                 }
-                
-                wlRequestIter.remove();
             }
             _pendingRequestListPool.add(pendingRequestList);
         }
@@ -3079,12 +3301,48 @@ class WlItemHandler implements WlHandler
 
         if (msg.domainType() != DomainTypes.DICTIONARY)
         {
+            /* Filter the payload down to the view of the request, in case the provider sent more. */
+            Buffer filteredDataBody = null;
+            if (_watchlist.watchlistOptions().enableViewFiltering()
+                    && wlRequest != null && wlRequest.view() != null && wlRequest.requestMsg().checkHasView()
+                    && (msg.msgClass() == MsgClasses.REFRESH || msg.msgClass() == MsgClasses.UPDATE))
+            {
+                filteredDataBody = _viewFilter.filter(msg, wlRequest.view(), _wlViewHandler,
+                        _watchlist.reactorChannel().majorVersion(), _watchlist.reactorChannel().minorVersion());
+                if (filteredDataBody != null)
+                {
+                    _unfilteredDataBody.data(msg.encodedDataBody().data(), msg.encodedDataBody().position(), msg.encodedDataBody().length());
+                    msg.encodedDataBody(filteredDataBody);
+
+                    /* The encoded message is replaced as well, as applications may decode or copy the message from it. */
+                    Buffer filteredMsgBuffer = null;
+                    if (msg.encodedMsgBuffer().data() != null)
+                        filteredMsgBuffer = _viewFilter.encodeMsg(msg, _watchlist.reactorChannel().majorVersion(), _watchlist.reactorChannel().minorVersion());
+                    if (filteredMsgBuffer != null)
+                    {
+                        _unfilteredMsgBuffer.data(msg.encodedMsgBuffer().data(), msg.encodedMsgBuffer().position(), msg.encodedMsgBuffer().length());
+                        msg.encodedMsgBuffer().data(filteredMsgBuffer.data(), filteredMsgBuffer.position(), filteredMsgBuffer.length());
+                    }
+                    else
+                    {
+                        msg.encodedDataBody(_unfilteredDataBody);
+                        filteredDataBody = null;
+                    }
+                }
+            }
+
             ret = _watchlist.reactor().sendAndHandleDefaultMsgCallback(location,
                                                                        _watchlist.reactorChannel(),
                                                                        null,
                                                                        msg,
                                                                        wlRequest,
                                                                        errorInfo);
+
+            if (filteredDataBody != null)
+            {
+                msg.encodedDataBody(_unfilteredDataBody);
+                msg.encodedMsgBuffer().data(_unfilteredMsgBuffer.data(), _unfilteredMsgBuffer.position(), _unfilteredMsgBuffer.length());
+            }
         }
         else // dictionary domain
         {
@@ -3247,13 +3505,21 @@ class WlItemHandler implements WlHandler
         _itemAggregationKeytoWlStreamTable.clear();
 		_providerRequestTable.clear();
 		_streamList.clear();
+		for (int slot = _pendingRequestByIdTable.nextSlot(-1); slot >= 0; slot = _pendingRequestByIdTable.nextSlot(slot))
+			clearPendingRequestList(_pendingRequestByIdTable.valueAt(slot));
 		_pendingRequestByIdTable.clear();
+		for (VaDoubleLinkList<WlRequest> pendingRequestList : _pendingRequestByNameTable.values())
+			clearPendingRequestList(pendingRequestList);
 		_pendingRequestByNameTable.clear();
         _statusMsgDispatchList.clear();
         _pendingSendMsgList.clear();
         _userStreamIdListToRecover.clear();
         _currentFanoutStream = null;
         _hasPendingViewRequest = false;
+        WlRequest conflatedRequest;
+        while ((conflatedRequest = _conflatedRequestList.pop(WlRequest.CONFLATED_LINK)) != null)
+            conflatedRequest.conflatedUpdate().clear();
+        _conflationTimerCount = 0;
     }
     
 	private int extractSymbolListFromMsg(WlRequest wlRequest, RequestMsg requestMsg, ReactorErrorInfo errorInfo)
@@ -3469,7 +3735,7 @@ class WlItemHandler implements WlHandler
 					        wlInteger.value(providerProvideStreamId);
 					        newWlRequest.handler(this);
 					        newWlRequest.tableKey(wlInteger);
-							_watchlist.streamIdtoWlRequestTable().put(wlInteger, newWlRequest);
+							_watchlist.streamIdtoWlRequestTable().put(wlInteger.value(), newWlRequest);
 							if (_requestMsg.checkStreaming())
 								_providerRequestTable.put(_symbolListRequestKey, newWlRequest.requestMsg());
 						} 
@@ -3492,6 +3758,7 @@ class WlItemHandler implements WlHandler
     	
 	private int extractViewFromMsg(WlRequest wlRequest, RequestMsg requestMsg, ReactorErrorInfo errorInfo)
 	{		
+		_wlViewHandler.releaseUnusedElementNames();
 		wlRequest.viewElemCount(0);
 		_viewDataFound = false;		
 	    _viewElemCount = 0;	    
@@ -3587,12 +3854,6 @@ class WlItemHandler implements WlHandler
 								return CodecReturnCodes.FAILURE;							
 							}	
 			
-							if (wlRequest._viewFieldIdList == null)	 										
-								wlRequest._viewFieldIdList = _wlViewHandler._viewFieldIdListPool.poll();
-							if (wlRequest._viewFieldIdList == null) wlRequest._viewFieldIdList  = new ArrayList<Integer>();
-							else 
-								wlRequest._viewFieldIdList.clear();
-								
 							while ((ret = _viewArrayEntry.decode(_dIter)) != CodecReturnCodes.END_OF_CONTAINER)
 							{								
 								if (ret < CodecReturnCodes.SUCCESS)
@@ -3613,7 +3874,7 @@ class WlItemHandler implements WlHandler
 													"Field id in view request is outside the valid ID range <" + _fieldId + ">");
 												return CodecReturnCodes.FAILURE;												
 										}	
-										wlRequest._viewFieldIdList.add((int) _fieldId.toLong());
+										wlRequest.viewId(_viewElemCount, (int) _fieldId.toLong());
 										_viewElemCount++;
 									}
 									else
@@ -3650,12 +3911,6 @@ class WlItemHandler implements WlHandler
 								return CodecReturnCodes.FAILURE;							
 							}
 						
-							if (wlRequest._viewElementNameList == null)	 	
-								wlRequest._viewElementNameList = _wlViewHandler._viewElementNameListPool.poll();
-							if (wlRequest._viewElementNameList == null) wlRequest._viewElementNameList = new ArrayList<String>();
-							else
-								wlRequest._viewElementNameList.clear();
-	
 							while ((ret = _viewArrayEntry.decode(_dIter)) != CodecReturnCodes.END_OF_CONTAINER)
 							{
 								if (ret < CodecReturnCodes.SUCCESS)
@@ -3669,7 +3924,7 @@ class WlItemHandler implements WlHandler
 								{						           
 									if (_elementName.decode(_dIter) == CodecReturnCodes.SUCCESS)
 									{
-										wlRequest._viewElementNameList.add(_elementName.toString());
+										wlRequest.viewId(_viewElemCount, _wlViewHandler.elementNameId(_elementName.toString()));
 										_viewElemCount++;
 									}
 									else
@@ -3701,12 +3956,6 @@ class WlItemHandler implements WlHandler
 						{
 							if (_viewArray.primitiveType() == DataTypes.INT)
 							{
-								if (wlRequest._viewFieldIdList == null)								
-									wlRequest._viewFieldIdList  = _wlViewHandler._viewFieldIdListPool.poll();
-								if (wlRequest._viewFieldIdList == null) wlRequest._viewFieldIdList = new ArrayList<Integer>();
-								else 
-									wlRequest._viewFieldIdList.clear();
-									
 								while ((ret = _viewArrayEntry.decode(_dIter)) != CodecReturnCodes.END_OF_CONTAINER)
 								{								
 									if (ret < CodecReturnCodes.SUCCESS)
@@ -3727,7 +3976,7 @@ class WlItemHandler implements WlHandler
 														"Field id in view request is outside the valid ID range <" + _fieldId + ">");
 													return CodecReturnCodes.FAILURE;												
 											}		
-											wlRequest._viewFieldIdList.add((int)_fieldId.toLong());
+											wlRequest.viewId(_viewElemCount, (int)_fieldId.toLong());
 											_viewElemCount++;
 										}
 										else
@@ -3746,13 +3995,6 @@ class WlItemHandler implements WlHandler
 									_viewArray.primitiveType() == DataTypes.UTF8_STRING ||
 											_viewArray.primitiveType() == DataTypes.RMTES_STRING)
 							{
-								if (wlRequest._viewElementNameList == null)	 	
-									wlRequest._viewElementNameList = _wlViewHandler._viewElementNameListPool.poll();
-								if (wlRequest._viewElementNameList == null) wlRequest._viewElementNameList = new ArrayList<String>();
-								
-								else
-									wlRequest._viewElementNameList.clear();
-	
 								while ((ret = _viewArrayEntry.decode(_dIter)) != CodecReturnCodes.END_OF_CONTAINER)
 								{
 									if (ret < CodecReturnCodes.SUCCESS)
@@ -3766,7 +4008,7 @@ class WlItemHandler implements WlHandler
 									{						           
 										if (_elementName.decode(_dIter) == CodecReturnCodes.SUCCESS)
 										{
-											wlRequest._viewElementNameList.add(_elementName.toString());
+											wlRequest.viewId(_viewElemCount, _wlViewHandler.elementNameId(_elementName.toString()));
 											_viewElemCount++;
 										}
 										else
@@ -3817,7 +4059,7 @@ class WlItemHandler implements WlHandler
 		{
 			case VIEW_ACTION_SET:
 			{							
-				WlView view = _wlViewHandler.viewCreate(wlRequest.viewFieldIdList(), wlRequest.viewElementNameList(), wlRequest.viewElemCount(), wlRequest.viewType(), errorInfo);
+				WlView view = _wlViewHandler.viewCreate(wlRequest.viewIds(), wlRequest.viewElemCount(), wlRequest.viewType(), errorInfo);
 				if ( view == null ) return CodecReturnCodes.FAILURE;
 				wlRequest.view(view);
 				break;
@@ -3878,24 +4120,11 @@ class WlItemHandler implements WlHandler
     /* Returns a WlRequest and its members to appropriate object pools. */
 	public void repoolWlRequest(WlRequest wlRequest)
 	{
+		if (wlRequest.hasConflatedUpdate())
+			_conflatedRequestList.remove(wlRequest, WlRequest.CONFLATED_LINK);
+
 		if(wlRequest.view() != null)
-        {
-            switch(wlRequest.view().viewType())
-            {		
-                case ViewTypes.FIELD_ID_LIST:
-                    _wlViewHandler._viewFieldIdListPool.add(wlRequest._viewFieldIdList);
-                    wlRequest._viewFieldIdList = null;
-                    break;
-                case ViewTypes.ELEMENT_NAME_LIST:				
-                    _wlViewHandler._viewElementNameListPool.add(wlRequest._viewElementNameList);		
-                    wlRequest._viewElementNameList = null;
-                    break;
-                default:
-                    break;
-            }
-            
             _wlViewHandler.destroyView(wlRequest._view);
-        }
 
         wlRequest.returnToPool();
 	}	
@@ -94,7 +94,7 @@ class WlLoginHandler implements WlHandler
 
 		if (_stream == null) 
 		{
-			if (!_watchlist.streamIdtoWlStreamTable().containsKey(wlInteger)) 
+			if (!_watchlist.streamIdtoWlStreamTable().containsKey(wlInteger.value())) 
 			{
 				// create stream
 				_stream = ReactorFactory.createWlStream();
@@ -184,7 +184,7 @@ class WlLoginHandler implements WlHandler
 
 			// add stream to watchlist table
 			_stream.tableKey(wlInteger);
-			_watchlist.streamIdtoWlStreamTable().put(wlInteger, _stream);
+			_watchlist.streamIdtoWlStreamTable().put(wlInteger.value(), _stream);
 		} 
 		else
 		{
@@ -754,9 +754,8 @@ class WlLoginHandler implements WlHandler
 						|| wlStream.state().streamState() == StreamStates.REDIRECTED) 
 				{
 					// close watchlist request
-					_tempWlInteger.value(msg.streamId());
 					WlRequest wlRequest = _watchlist.streamIdtoWlRequestTable()
-							.get(_tempWlInteger);
+							.get(msg.streamId());
 					_watchlist.closeWlRequest(wlRequest);
 					wlRequest.returnToPool();
 
@@ -849,9 +848,8 @@ class WlLoginHandler implements WlHandler
 		}
 
 		// call back user
-        _tempWlInteger.value(msg.streamId());
 		ret = callbackUser("WlLoginHandler.readRefreshMsg", msg,
-				_loginRefresh, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo);
+				_loginRefresh, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo);
 		
 		// send pending request if necessary
 		if (_requestCount > 0)
@@ -901,8 +899,7 @@ class WlLoginHandler implements WlHandler
 		}
 
 		// call back user
-        _tempWlInteger.value(msg.streamId());
-		return callbackUser("WlLoginHandler.readStatusMsg", msg, _loginStatus, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo);
+		return callbackUser("WlLoginHandler.readStatusMsg", msg, _loginStatus, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo);
 	}
     
     /* Used when login Closed/Recoverable state is received.
@@ -911,8 +908,7 @@ class WlLoginHandler implements WlHandler
     {
         int ret;
         
-        _tempWlInteger.value(msg.streamId());
-        if ((ret = callbackUser(location, msg, loginMsg, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo)) != ReactorReturnCodes.SUCCESS)
+        if ((ret = callbackUser(location, msg, loginMsg, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo)) != ReactorReturnCodes.SUCCESS)
             return ret;
         
         _watchlist.reactor().populateErrorInfo(errorInfo, ReactorReturnCodes.FAILURE, location, 
@@ -923,7 +919,7 @@ class WlLoginHandler implements WlHandler
 	/* Reads a generic message. */
 	int readGenericMsg(WlStream wlStream, DecodeIterator dIter, Msg msg, ReactorErrorInfo errorInfo) 
 	{
-		WlRequest wlRequest = _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger);
+		WlRequest wlRequest = _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger.value());
 
 		//Redirect message to the provider.
 		boolean isRttMessage = Objects.equals(DataTypes.ELEMENT_LIST, msg.containerType());
@@ -954,12 +950,11 @@ class WlLoginHandler implements WlHandler
 		// handle the post Ack
 		if (wlStream.handlePostAck(msg)) {
 			// call back user if ACK was processed
-	        _tempWlInteger.value(msg.streamId());
 			if (msg.domainType() != DomainTypes.LOGIN) {
 				ret = _watchlist.itemHandler().callbackUser(
-						"WlLoginHandler.readAckMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), errorInfo);
+						"WlLoginHandler.readAckMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()), errorInfo);
 			} else {
-				ret = callbackUser("WlLoginHandler.readAckMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger),
+				ret = callbackUser("WlLoginHandler.readAckMsg", msg, null, _watchlist.streamIdtoWlRequestTable().get(msg.streamId()),
 						errorInfo);
 			}
 		}
@@ -1157,9 +1152,8 @@ class WlLoginHandler implements WlHandler
 				_loginStatus.state().text(_tempBuffer);
 
                 _userloginStreamOpen = false;
-                _tempWlInteger.value(_statusMsg.streamId());
                 callbackUser("WlLoginHandler.channelDown", _statusMsg,
-                        _loginStatus, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), _errorInfo);
+                        _loginStatus, _watchlist.streamIdtoWlRequestTable().get(_statusMsg.streamId()), _errorInfo);
 			}
 		}
 	}
@@ -1279,7 +1273,7 @@ class WlLoginHandler implements WlHandler
 					WlInteger wlInteger = ReactorFactory.createWlInteger();
 					wlInteger.value(loginRequest.streamId());
 					wlRequest.tableKey(wlInteger);
-					_watchlist.streamIdtoWlRequestTable().put(wlInteger, wlRequest);
+					_watchlist.streamIdtoWlRequestTable().put(wlInteger.value(), wlRequest);
 				}
 
 				if (newStream) 
@@ -1289,7 +1283,7 @@ class WlLoginHandler implements WlHandler
 					wlInteger.value(loginRequest.streamId());
 					_stream.tableKey(wlInteger);
 					_watchlist.streamIdtoWlStreamTable()
-							.put(wlInteger, _stream);
+							.put(wlInteger.value(), _stream);
 				}
 
 				_requestCount = 1;
@@ -1353,8 +1347,7 @@ class WlLoginHandler implements WlHandler
 		_loginStatus.state().code(StateCodes.NONE);
 		_loginStatus.state().text(_tempBuffer);
 
-        _tempWlInteger.value(_statusMsg.streamId());
-		callbackUser("WlLoginHandler.channelDown", _statusMsg, _loginStatus, _watchlist.streamIdtoWlRequestTable().get(_tempWlInteger), 
+		callbackUser("WlLoginHandler.channelDown", _statusMsg, _loginStatus, _watchlist.streamIdtoWlRequestTable().get(_statusMsg.streamId()), 
 				_errorInfo);
 
 		// re-send login request
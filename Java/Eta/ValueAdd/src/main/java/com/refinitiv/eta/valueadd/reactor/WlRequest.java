@@ -8,12 +8,15 @@
 
 package com.refinitiv.eta.valueadd.reactor;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.DataDictionary;
 import com.refinitiv.eta.codec.MsgClasses;
 import com.refinitiv.eta.codec.Qos;
 import com.refinitiv.eta.codec.RequestMsg;
+import com.refinitiv.eta.valueadd.common.VaDoubleLinkList;
+import com.refinitiv.eta.valueadd.common.VaDoubleLinkList.Link;
 import com.refinitiv.eta.valueadd.common.VaNode;
 
 /* Watchlist user request that contains user request information. */
@@ -32,8 +35,8 @@ class WlRequest extends VaNode
     boolean _hasServiceId;
     long _serviceId;
     WlView _view;
-    ArrayList<Integer> _viewFieldIdList;
-    ArrayList<String> _viewElementNameList;
+    // field ids or interned element name ids of the requested view, in request order
+    int[] _viewIds = new int[0];
     int _viewElemCount;    
     int _viewType;
     int _viewAction;
@@ -43,10 +46,43 @@ class WlRequest extends VaNode
     
     int _statusFlags; // Used for the warm standby settings.
 
+    // update conflation settings and the pending conflated update, created when first needed
+    int _conflationInterval;
+    int _conflationCount;
+    DataDictionary _conflationDictionary;
+    WlConflatedUpdate _conflatedUpdate;
+
        
     Qos _matchedQos = CodecFactory.createQos();
     
     WlInteger _tableKey;
+
+    /* Link for the pending request list of a service. */
+    private WlRequest _pendingNext, _pendingPrev;
+    static class PendingLink implements Link<WlRequest>
+    {
+        public WlRequest getPrev(WlRequest thisPrev) { return thisPrev._pendingPrev; }
+        public void setPrev(WlRequest thisPrev, WlRequest thatPrev) { thisPrev._pendingPrev = thatPrev; }
+        public WlRequest getNext(WlRequest thisNext) { return thisNext._pendingNext; }
+        public void setNext(WlRequest thisNext, WlRequest thatNext) { thisNext._pendingNext = thatNext; }
+    }
+    static final PendingLink PENDING_LINK = new PendingLink();
+
+    /* Link for the conflated request list of the item handler. */
+    private WlRequest _conflatedNext, _conflatedPrev;
+    static class ConflatedLink implements Link<WlRequest>
+    {
+        public WlRequest getPrev(WlRequest thisPrev) { return thisPrev._conflatedPrev; }
+        public void setPrev(WlRequest thisPrev, WlRequest thatPrev) { thisPrev._conflatedPrev = thatPrev; }
+        public WlRequest getNext(WlRequest thisNext) { return thisNext._conflatedNext; }
+        public void setNext(WlRequest thisNext, WlRequest thatNext) { thisNext._conflatedNext = thatNext; }
+    }
+    static final ConflatedLink CONFLATED_LINK = new ConflatedLink();
+
+    // pending request list holding this request, and the service name it is pending on, or null for a service id
+    VaDoubleLinkList<WlRequest> _pendingRequestList;
+    String _pendingServiceName;
+    int _pendingServiceId;
     
     WlRequest()
     {
@@ -316,24 +352,17 @@ class WlRequest extends VaNode
     	_view = view;
     }
       
-	public ArrayList<Integer> viewFieldIdList() 
-	{
-		return _viewFieldIdList;
-	}
-
-	public void viewFieldIdList(ArrayList<Integer> viewFieldIdList)
-	{
-		_viewFieldIdList = viewFieldIdList;
-	}
-
-	public ArrayList<String> viewElementNameList()
+	int[] viewIds()
 	{
-		return _viewElementNameList;
+		return _viewIds;
 	}
 
-	public void viewElementNameList(ArrayList<String> viewElementNameList)
+	/* Sets the view id at the index, growing the array when needed. */
+	void viewId(int index, int id)
 	{
-		_viewElementNameList = viewElementNameList;
+		if (index >= _viewIds.length)
+			_viewIds = Arrays.copyOf(_viewIds, Math.max(16, index * 2));
+		_viewIds[index] = id;
 	}
 
 	int viewElemCount()
@@ -355,6 +384,48 @@ class WlRequest extends VaNode
     {
     	_statusFlags = flags;
     }
+
+    /* Sets the update conflation interval in milliseconds, count and dictionary of the request. */
+    void conflation(int conflationInterval, int conflationCount, DataDictionary conflationDictionary)
+    {
+        _conflationInterval = conflationInterval;
+        _conflationCount = conflationCount;
+        _conflationDictionary = conflationDictionary;
+    }
+
+    /* Returns whether updates of the request are conflated. */
+    boolean conflationEnabled()
+    {
+        return _conflationInterval > 0;
+    }
+
+    int conflationInterval()
+    {
+        return _conflationInterval;
+    }
+
+    int conflationCount()
+    {
+        return _conflationCount;
+    }
+
+    DataDictionary conflationDictionary()
+    {
+        return _conflationDictionary;
+    }
+
+    /* Returns whether the request has a conflated update waiting to be delivered. */
+    boolean hasConflatedUpdate()
+    {
+        return _conflatedUpdate != null && _conflatedUpdate.pending();
+    }
+
+    WlConflatedUpdate conflatedUpdate()
+    {
+        if (_conflatedUpdate == null)
+            _conflatedUpdate = new WlConflatedUpdate();
+        return _conflatedUpdate;
+    }
     
 	/* Clears the object for re-use. */
     void clear()
@@ -376,10 +447,17 @@ class WlRequest extends VaNode
         _initialResponseReceived = false;
         _symbolListFlags = 0;
         _tableKey = null;
+        _pendingRequestList = null;
+        _pendingServiceName = null;
         _viewElemCount = 0;
         _viewType = 0;
         _fanoutSolicitedAfterView = false;
         _view = null;
+        _conflationInterval = 0;
+        _conflationCount = 0;
+        _conflationDictionary = null;
+        if (_conflatedUpdate != null)
+            _conflatedUpdate.clear();
     }
     
     @Override
@@ -399,6 +477,10 @@ class WlRequest extends VaNode
         _handler = null;
         _stream = null;
         _view = null;
+
+        /* Discards any update still pending conflation. */
+        if (_conflatedUpdate != null)
+            _conflatedUpdate.clear();
         
         /* Clears user-specified object given when the stream was opened by users.*/
         _streamInfo.clear();
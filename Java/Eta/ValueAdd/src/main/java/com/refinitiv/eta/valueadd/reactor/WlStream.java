@@ -808,12 +808,8 @@ class WlStream extends VaNode
         if (postMsg.checkHasSeqNum())
             _ackMsg.applyHasSeqNum();
          
-        // call back with NAK message
-        WlInteger tempWlInteger = ReactorFactory.createWlInteger();
-        tempWlInteger.value(_ackMsg.streamId());
-        
         // call back item handler with NAK message
-        return _watchlist.itemHandler().callbackUser("WlStream.sendNak", _ackMsg, null, _watchlist.streamIdtoWlRequestTable().get(tempWlInteger), errorInfo);
+        return _watchlist.itemHandler().callbackUser("WlStream.sendNak", _ackMsg, null, _watchlist.streamIdtoWlRequestTable().get(_ackMsg.streamId()), errorInfo);
     }
     
     /* Encodes a ETA message into buffer and writes to channel. */
@@ -923,7 +919,7 @@ class WlStream extends VaNode
         // remove this stream from watchlist table
         if (_tableKey != null)
         {
-            _watchlist.streamIdtoWlStreamTable().remove(_tableKey);
+            _watchlist.streamIdtoWlStreamTable().remove(_tableKey.value());
             _tableKey.returnToPool();
             _tableKey = null;
         }
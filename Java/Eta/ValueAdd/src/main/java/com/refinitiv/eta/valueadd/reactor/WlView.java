@@ -8,19 +8,18 @@
 
 package com.refinitiv.eta.valueadd.reactor;
 
+import com.refinitiv.eta.rdm.ViewTypes;
 import com.refinitiv.eta.valueadd.common.VaNode;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
 
 public class WlView extends VaNode
 {
 	WlViewHandler _viewHandler;
 	int _viewType;
 	int _elemCount;
-	ArrayList<Integer> _fieldIdList;
-	ArrayList<String> _elementNameList;
+	// sorted field ids or interned element name ids of a request view, kept when pooled
+	int[] _ids = new int[0];
 	State _state = State.NEW;
 
 	enum State
@@ -32,11 +31,12 @@ public class WlView extends VaNode
 
         
 	boolean _aggregated; 
-	LinkedList<WlView> _newViews;
-	LinkedList<WlView> _mergedViews;
-	LinkedList<WlView> _committedViews;
-	HashMap<Integer, Integer> _viewFieldIdCountMap;
-	HashMap<String, Integer> _viewElementNameCountMap;
+	ArrayDeque<WlView> _newViews;
+	ArrayDeque<WlView> _mergedViews;
+	ArrayDeque<WlView> _committedViews;
+	// ids of the merged and committed views of an aggregate view, and of the committed views only
+	WlViewIdSet _idSet;
+	WlViewIdSet _committedIdSet;
 
 	
 	public WlViewHandler viewHandler()
@@ -79,24 +79,9 @@ public class WlView extends VaNode
 		this._aggregated = aggregated;
 	}
 	
-	public ArrayList<Integer> fieldIdList()
+	public int[] ids()
 	{
-		return _fieldIdList;
-	}
-
-	public void fieldIdList(ArrayList<Integer> fieldIdList)
-	{
-		_fieldIdList = fieldIdList;
-	}
-
-	public ArrayList<String> elementNameList()
-	{
-		return _elementNameList;
-	}
-
-	public void elementNameList(ArrayList<String> elementNameList)
-	{
-		_elementNameList = elementNameList;
+		return _ids;
 	}
 	
 	public State state()
@@ -109,32 +94,32 @@ public class WlView extends VaNode
 		_state = state;
 	}
 
-	public LinkedList<WlView> newViews() 
+	public ArrayDeque<WlView> newViews() 
 	{
 		return _newViews;
 	}
 
-	public void newViews(LinkedList<WlView> newViews)
+	public void newViews(ArrayDeque<WlView> newViews)
 	{
 		_newViews = newViews;
 	}
 
-	public LinkedList<WlView> mergedViews()
+	public ArrayDeque<WlView> mergedViews()
 	{
 		return _mergedViews;
 	}
 
-	public void mergedViews(LinkedList<WlView> mergedViews)
+	public void mergedViews(ArrayDeque<WlView> mergedViews)
 	{
 		_mergedViews = mergedViews;
 	}
 
-	public LinkedList<WlView> committedViews() 
+	public ArrayDeque<WlView> committedViews() 
 	{
 		return _committedViews;
 	}
 
-	public void committedViews(LinkedList<WlView> committedViews)
+	public void committedViews(ArrayDeque<WlView> committedViews)
 	{
 		_committedViews = committedViews;
 	}
@@ -147,14 +132,15 @@ public class WlView extends VaNode
 	@Override
 	public void returnToPool()
 	{
+		/* A request view releases its element names, once. */
+		if (!_aggregated && _viewType == ViewTypes.ELEMENT_NAME_LIST && _viewHandler != null)
+			_viewHandler.releaseElementNames(this);
+		_viewHandler = null;
+
 		/* Clear out all pooled elements */
-		_viewFieldIdCountMap = null;
-		_viewElementNameCountMap = null;
 		_newViews = null;
 		_mergedViews = null;
 		_committedViews = null;
-		_fieldIdList = null;
-		_elementNameList = null;
 
     		super.returnToPool();
     	}
@@ -0,0 +1,325 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.rdm.ViewTypes;
+
+/* Filters the FieldList or ElementList payload of a message down to the view of a request, for
+ * providers that do not support views or only partly honor them. Entries are copied encoded, so no
+ * dictionary is needed. The filtered payloads of a message are cached per distinct view, so when
+ * the message is fanned out to the requests of a stream, it is filtered once for each view rather
+ * than once for each request. The cache holds the payloads of one message and must be cleared
+ * before the next one, as a message may be decoded again into the same buffer. */
+class WlViewFilter
+{
+    // returned by the filter methods when entries were removed
+    private static final int FILTERED = 1;
+
+    /* Filtered payload of the current message for one view. */
+    private static class Entry
+    {
+        int _viewType;
+        int[] _ids = new int[0];
+        int _idCount;
+        // whether the payload held entries outside the view, otherwise it is delivered as is
+        boolean _filtered;
+        ByteBuffer _byteBuffer;
+        Buffer _body = CodecFactory.createBuffer();
+        // whole message encoded with the filtered payload, null until encoded
+        ByteBuffer _msgByteBuffer;
+        Buffer _msgBuffer = CodecFactory.createBuffer();
+        boolean _msgEncoded;
+        // next entry with the same view hash
+        Entry _next;
+
+        boolean matches(WlView view)
+        {
+            if (_viewType != view.viewType() || _idCount != view.elemCount())
+                return false;
+
+            int[] ids = view.ids();
+            for (int i = 0; i < _idCount; ++i)
+            {
+                if (_ids[i] != ids[i])
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    private DecodeIterator _dIter = CodecFactory.createDecodeIterator();
+    private EncodeIterator _eIter = CodecFactory.createEncodeIterator();
+    private FieldList _fieldList = CodecFactory.createFieldList();
+    private FieldList _encodeFieldList = CodecFactory.createFieldList();
+    private FieldEntry _fieldEntry = CodecFactory.createFieldEntry();
+    private ElementList _elementList = CodecFactory.createElementList();
+    private ElementList _encodeElementList = CodecFactory.createElementList();
+    private ElementEntry _elementEntry = CodecFactory.createElementEntry();
+
+    // payload of the cached message
+    private Msg _msg;
+    private ByteBuffer _data;
+    private int _position;
+    private int _length;
+
+    // filtered payloads keyed by view hash, entries are pooled along with their buffers
+    private WlIntHashMap<Entry> _entriesByHash = new WlIntHashMap<Entry>();
+    private ArrayList<Entry> _entries = new ArrayList<Entry>();
+    private int _entryCount;
+    // entry of the filtered payload last returned
+    private Entry _lastEntry;
+
+    /* Returns the payload of the message filtered down to the view, or null if the payload is to be
+     * delivered as is: it is not a FieldList or ElementList of the view's type, holds set-defined data,
+     * cannot be decoded, or has no entries outside the view. */
+    Buffer filter(Msg msg, WlView view, WlViewHandler viewHandler, int majorVersion, int minorVersion)
+    {
+        Buffer body = msg.encodedDataBody();
+        if (body.data() == null || body.length() == 0 || view.elemCount() == 0)
+            return null;
+
+        switch (msg.containerType())
+        {
+            case DataTypes.FIELD_LIST:
+                if (view.viewType() != ViewTypes.FIELD_ID_LIST)
+                    return null;
+                break;
+            case DataTypes.ELEMENT_LIST:
+                if (view.viewType() != ViewTypes.ELEMENT_NAME_LIST)
+                    return null;
+                break;
+            default:
+                return null;
+        }
+
+        if (msg != _msg || body.data() != _data || body.position() != _position || body.length() != _length)
+        {
+            clear();
+            _msg = msg;
+            _data = body.data();
+            _position = body.position();
+            _length = body.length();
+        }
+
+        int hash = viewHash(view);
+        Entry first = _entriesByHash.get(hash);
+        for (Entry entry = first; entry != null; entry = entry._next)
+        {
+            if (entry.matches(view))
+            {
+                _lastEntry = entry;
+                return entry._filtered ? entry._body : null;
+            }
+        }
+
+        Entry entry = entry(view);
+        entry._next = first;
+        _entriesByHash.put(hash, entry);
+
+        // the filtered payload is never longer than the payload
+        if (entry._byteBuffer == null || entry._byteBuffer.capacity() < body.length())
+            entry._byteBuffer = ByteBuffer.allocate(body.length());
+        entry._byteBuffer.clear();
+        entry._body.data(entry._byteBuffer, 0, entry._byteBuffer.capacity());
+
+        _dIter.clear();
+        _eIter.clear();
+        if (_dIter.setBufferAndRWFVersion(body, majorVersion, minorVersion) != CodecReturnCodes.SUCCESS
+                || _eIter.setBufferAndRWFVersion(entry._body, majorVersion, minorVersion) != CodecReturnCodes.SUCCESS)
+            return null;
+
+        int ret = (msg.containerType() == DataTypes.FIELD_LIST) ? filterFieldList(view) : filterElementList(view, viewHandler);
+        if (ret < CodecReturnCodes.SUCCESS)
+            return null;
+
+        entry._filtered = (ret == FILTERED);
+        entry._body.data(entry._byteBuffer, 0, entry._byteBuffer.position());
+        _lastEntry = entry;
+        return entry._filtered ? entry._body : null;
+    }
+
+    /* Returns the message encoded whole, so that applications decoding or copying the message from its
+     * encoded buffer see the filtered payload too. The message must carry the filtered payload last
+     * returned by filter(). The encoding is cached along with the payload. Returns null if the message
+     * cannot be encoded. */
+    Buffer encodeMsg(Msg msg, int majorVersion, int minorVersion)
+    {
+        Entry entry = _lastEntry;
+        if (entry == null || !entry._filtered)
+            return null;
+        if (entry._msgEncoded)
+            return entry._msgBuffer;
+
+        // the header is unchanged and the payload is no longer, so the unfiltered length is mostly enough
+        int size = Math.max(msg.encodedMsgBuffer().length(), entry._body.length() + 128);
+        while (true)
+        {
+            if (entry._msgByteBuffer == null || entry._msgByteBuffer.capacity() < size)
+                entry._msgByteBuffer = ByteBuffer.allocate(size);
+            entry._msgByteBuffer.clear();
+            entry._msgBuffer.data(entry._msgByteBuffer, 0, entry._msgByteBuffer.capacity());
+
+            _eIter.clear();
+            if (_eIter.setBufferAndRWFVersion(entry._msgBuffer, majorVersion, minorVersion) != CodecReturnCodes.SUCCESS)
+                return null;
+
+            int ret = msg.encode(_eIter);
+            if (ret == CodecReturnCodes.BUFFER_TOO_SMALL)
+            {
+                size *= 2;
+                continue;
+            }
+            if (ret < CodecReturnCodes.SUCCESS)
+                return null;
+
+            entry._msgBuffer.data(entry._msgByteBuffer, 0, entry._msgByteBuffer.position());
+            entry._msgEncoded = true;
+            return entry._msgBuffer;
+        }
+    }
+
+    /* Clears the filtered payloads, keeping their buffers. */
+    void clear()
+    {
+        _entriesByHash.clear();
+        _entryCount = 0;
+        _lastEntry = null;
+        _msg = null;
+        _data = null;
+    }
+
+    private int filterFieldList(WlView view)
+    {
+        int ret;
+        if ((ret = _fieldList.decode(_dIter, null)) != CodecReturnCodes.SUCCESS)
+            return ret < CodecReturnCodes.SUCCESS ? ret : CodecReturnCodes.FAILURE;
+        if (_fieldList.checkHasSetData())
+            return CodecReturnCodes.FAILURE;
+
+        _encodeFieldList.clear();
+        _encodeFieldList.applyHasStandardData();
+        if (_fieldList.checkHasInfo())
+        {
+            _encodeFieldList.applyHasInfo();
+            _encodeFieldList.dictionaryId(_fieldList.dictionaryId());
+            _encodeFieldList.fieldListNum(_fieldList.fieldListNum());
+        }
+        if ((ret = _encodeFieldList.encodeInit(_eIter, null, 0)) != CodecReturnCodes.SUCCESS)
+            return ret;
+
+        boolean filtered = false;
+        while ((ret = _fieldEntry.decode(_dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            if (Arrays.binarySearch(view.ids(), 0, view.elemCount(), _fieldEntry.fieldId()) < 0)
+            {
+                filtered = true;
+                continue;
+            }
+
+            if ((ret = _fieldEntry.encode(_eIter)) != CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        if ((ret = _encodeFieldList.encodeComplete(_eIter, true)) != CodecReturnCodes.SUCCESS)
+            return ret;
+
+        return filtered ? FILTERED : CodecReturnCodes.SUCCESS;
+    }
+
+    private int filterElementList(WlView view, WlViewHandler viewHandler)
+    {
+        int ret;
+        if ((ret = _elementList.decode(_dIter, null)) != CodecReturnCodes.SUCCESS)
+            return ret < CodecReturnCodes.SUCCESS ? ret : CodecReturnCodes.FAILURE;
+        if (_elementList.checkHasSetData())
+            return CodecReturnCodes.FAILURE;
+
+        _encodeElementList.clear();
+        _encodeElementList.applyHasStandardData();
+        if (_elementList.checkHasInfo())
+        {
+            _encodeElementList.applyHasInfo();
+            _encodeElementList.elementListNum(_elementList.elementListNum());
+        }
+        if ((ret = _encodeElementList.encodeInit(_eIter, null, 0)) != CodecReturnCodes.SUCCESS)
+            return ret;
+
+        boolean filtered = false;
+        while ((ret = _elementEntry.decode(_dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            int id = viewHandler.elementNameId(_elementEntry.name());
+            if (id < 0 || Arrays.binarySearch(view.ids(), 0, view.elemCount(), id) < 0)
+            {
+                filtered = true;
+                continue;
+            }
+
+            if ((ret = _elementEntry.encode(_eIter)) != CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        if ((ret = _encodeElementList.encodeComplete(_eIter, true)) != CodecReturnCodes.SUCCESS)
+            return ret;
+
+        return filtered ? FILTERED : CodecReturnCodes.SUCCESS;
+    }
+
+    private Entry entry(WlView view)
+    {
+        Entry entry;
+        if (_entryCount < _entries.size())
+            entry = _entries.get(_entryCount);
+        else
+        {
+            entry = new Entry();
+            _entries.add(entry);
+        }
+        ++_entryCount;
+
+        entry._viewType = view.viewType();
+        entry._idCount = view.elemCount();
+        if (entry._ids.length < entry._idCount)
+            entry._ids = new int[entry._idCount];
+        System.arraycopy(view.ids(), 0, entry._ids, 0, entry._idCount);
+        entry._filtered = false;
+        entry._msgEncoded = false;
+        entry._next = null;
+        return entry;
+    }
+
+    private static int viewHash(WlView view)
+    {
+        int[] ids = view.ids();
+        int hash = view.viewType();
+        for (int i = 0; i < view.elemCount(); ++i)
+            hash = 31 * hash + ids[i];
+        return hash;
+    }
+}
@@ -8,11 +8,11 @@
 
 package com.refinitiv.eta.valueadd.reactor;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 
 import com.refinitiv.eta.codec.Array;
 import com.refinitiv.eta.codec.ArrayEntry;
@@ -28,215 +28,228 @@ import com.refinitiv.eta.codec.UInt;
 import com.refinitiv.eta.rdm.ElementNames;
 import com.refinitiv.eta.rdm.ViewTypes;
 
-public class WlViewHandler 
-{	
+/* Aggregates the views of the requests of an item stream.
+ * A view holds the sorted field ids or element name ids of a request. Element names are
+ * interned, so both view types are aggregated as ids. An aggregate view counts the views
+ * requesting each id in a WlViewIdSet, so merging, removing and encoding views is linear
+ * in the number of ids and does not box them or allocate. */
+public class WlViewHandler
+{
 	private ElementList elementList = CodecFactory.createElementList();
 	private ElementEntry elementEntry = CodecFactory.createElementEntry();
 	private Array viewArray = CodecFactory.createArray();
 	private ArrayEntry arrayEntry = CodecFactory.createArrayEntry();
 	private Int tempInt = CodecFactory.createInt();
-	private UInt tempUInt = CodecFactory.createUInt();	
-    private Buffer elementNameBuf = CodecFactory.createBuffer();
+	private UInt tempUInt = CodecFactory.createUInt();
     Watchlist _watchlist;
     private boolean _resorted;
-	
-    LinkedList<ArrayList<Integer>> _viewFieldIdListPool = new LinkedList<ArrayList<Integer>>();
-    LinkedList<ArrayList<String>> _viewElementNameListPool = new LinkedList<ArrayList<String>>();
-    LinkedList<LinkedList<WlView>> _mergedViewsPool = new LinkedList<LinkedList<WlView>>();
-    LinkedList<LinkedList<WlView>> _committedViewsPool = new LinkedList<LinkedList<WlView>>();
-    LinkedList<LinkedList<WlView>> _newViewsPool = new LinkedList<LinkedList<WlView>>();   
-    LinkedList<HashMap<Integer, Integer>> _viewFieldIdCountMapPool = new LinkedList<HashMap<Integer, Integer>>();
-    LinkedList<HashMap<String, Integer>> _viewElementNameCountMapPool = new LinkedList<HashMap<String, Integer>>();
-   ArrayList<Integer> fidsToRemove = new ArrayList<Integer>();
+
+    ArrayDeque<ArrayDeque<WlView>> _viewListPool = new ArrayDeque<ArrayDeque<WlView>>();
+
+    // interned element names, the id of an element name is its index in _elementNames
+    private HashMap<String, Integer> _elementNameIds = new HashMap<String, Integer>();
+    private ArrayList<Buffer> _elementNames = new ArrayList<Buffer>();
+    // the same names backed by their encoded bytes, to look up decoded element names
+    private HashMap<Buffer, Integer> _encodedElementNameIds = new HashMap<Buffer, Integer>();
+    private ArrayList<Buffer> _encodedElementNames = new ArrayList<Buffer>();
+    // number of request views referencing each name; a name is removed, and its id reused, once none does
+    private int[] _elementNameRefCounts = new int[16];
+    private int[] _freeElementNameIds = new int[16];
+    private int _freeElementNameIdCount;
+    // names interned since the last releaseUnusedElementNames(), which no view may have taken
+    private int[] _newElementNameIds = new int[16];
+    private int _newElementNameIdCount;
 
     WlViewHandler(Watchlist watchlist)
     {
     	_watchlist = watchlist;
     	_resorted = false;
     }
-            
-	WlView viewCreate(ArrayList<Integer> fieldIdList, ArrayList<String> elementNameList, int elemCount, int viewType, ReactorErrorInfo errorInfo)
+
+    /* Returns the id of an element name, interning it the first time it is seen. */
+    int elementNameId(String elementName)
+    {
+    	Integer id = _elementNameIds.get(elementName);
+    	if (id == null)
+    	{
+    		id = newElementNameId();
+    		Buffer elementNameBuf = CodecFactory.createBuffer();
+    		elementNameBuf.data(elementName);
+    		_elementNames.set(id, elementNameBuf);
+    		_elementNameIds.put(elementName, id);
+    		if (elementNameBuf.length() > 0)
+    		{
+    			ByteBuffer encodedName = ByteBuffer.allocate(elementNameBuf.length());
+    			elementNameBuf.copy(encodedName);
+    			Buffer encodedNameBuf = CodecFactory.createBuffer();
+    			encodedNameBuf.data(encodedName, 0, encodedName.capacity());
+    			_encodedElementNames.set(id, encodedNameBuf);
+    			_encodedElementNameIds.put(encodedNameBuf, id);
+    		}
+    		if (_newElementNameIdCount == _newElementNameIds.length)
+    			_newElementNameIds = Arrays.copyOf(_newElementNameIds, _newElementNameIdCount * 2);
+    		_newElementNameIds[_newElementNameIdCount++] = id;
+    	}
+    	return id;
+    }
+
+    /* Returns a freed element name id, or the next new one. */
+    private int newElementNameId()
+    {
+    	if (_freeElementNameIdCount > 0)
+    		return _freeElementNameIds[--_freeElementNameIdCount];
+
+    	int id = _elementNames.size();
+    	_elementNames.add(null);
+    	_encodedElementNames.add(null);
+    	if (id == _elementNameRefCounts.length)
+    		_elementNameRefCounts = Arrays.copyOf(_elementNameRefCounts, id * 2);
+    	return id;
+    }
+
+    /* Removes an element name no view references, and frees its id. */
+    private void removeElementName(int id)
+    {
+    	_elementNameIds.remove(_elementNames.get(id).toString());
+    	_elementNames.set(id, null);
+    	Buffer encodedNameBuf = _encodedElementNames.get(id);
+    	if (encodedNameBuf != null)
+    	{
+    		_encodedElementNameIds.remove(encodedNameBuf);
+    		_encodedElementNames.set(id, null);
+    	}
+    	if (_freeElementNameIdCount == _freeElementNameIds.length)
+    		_freeElementNameIds = Arrays.copyOf(_freeElementNameIds, _freeElementNameIdCount * 2);
+    	_freeElementNameIds[_freeElementNameIdCount++] = id;
+    }
+
+    /* Removes the names interned since the last call that no view has taken, such as those of a view
+     * that was only compared or failed to decode. The ids a request decoded are only used until its view
+     * is created, so this is called before a request view is decoded. */
+    void releaseUnusedElementNames()
+    {
+    	for (int i = 0; i < _newElementNameIdCount; ++i)
+    	{
+    		int id = _newElementNameIds[i];
+    		if (_elementNameRefCounts[id] == 0 && _elementNames.get(id) != null)
+    			removeElementName(id);
+    	}
+    	_newElementNameIdCount = 0;
+    }
+
+    /* Releases the element names of a request view, removing those no other view references. */
+    void releaseElementNames(WlView view)
+    {
+    	for (int i = 0; i < view.elemCount(); ++i)
+    	{
+    		int id = view._ids[i];
+    		if (--_elementNameRefCounts[id] == 0)
+    			removeElementName(id);
+    	}
+    }
+
+    /* Returns the number of interned element names. */
+    int elementNameCount()
+    {
+    	return _elementNameIds.size();
+    }
+
+    /* Returns the id of a decoded element name, or -1 if it is not in any view. Does not allocate. */
+    int elementNameId(Buffer elementName)
+    {
+    	if (elementName.length() == 0)
+    		return -1;
+    	Integer id = _encodedElementNameIds.get(elementName);
+    	return id != null ? id : -1;
+    }
+
+    /* Returns the element name of an interned id. */
+    Buffer elementName(int id)
+    {
+    	return _elementNames.get(id);
+    }
+
+	WlView viewCreate(int[] ids, int elemCount, int viewType, ReactorErrorInfo errorInfo)
 	{
 		switch(viewType)
-		{		
+		{
 			case ViewTypes.FIELD_ID_LIST:
+			case ViewTypes.ELEMENT_NAME_LIST:
 			{
 				WlView wlView = ReactorFactory.createWlView();
 				wlView.viewHandler(this);
+				wlView.aggregated(false);
 				wlView.viewType(viewType);
-			    wlView.elemCount(0);
 			    wlView.state(WlView.State.NEW);
-				wlView._fieldIdList = _viewFieldIdListPool.poll();
-				if (wlView._fieldIdList == null)
-					wlView._fieldIdList = new ArrayList<Integer>();
-				else {
-					wlView._fieldIdList.clear();
-				}
-					
-				for (Integer I : fieldIdList) {
-					wlView._fieldIdList.add(I);
-					++wlView._elemCount;
-				}
-				
-				if (wlView._fieldIdList != null && wlView.elemCount() > 0 )
+				if (wlView._ids.length < elemCount)
+					wlView._ids = new int[elemCount];
+				System.arraycopy(ids, 0, wlView._ids, 0, elemCount);
+
+				// sort and remove duplicates in place
+				Arrays.sort(wlView._ids, 0, elemCount);
+				int newCount = elemCount > 0 ? 1 : 0;
+				for (int i = 1; i < elemCount; ++i)
 				{
-					Collections.sort(wlView._fieldIdList);
-					int startingCount = wlView.elemCount();
-					int newCount = startingCount;
-					int nextValidPos = 1;
-					for (int i = 1; i < startingCount; ++i) {
-						if (wlView._fieldIdList.get(i).equals(wlView._fieldIdList.get(nextValidPos - 1))) {
-							--newCount;
-						}
-						else {
-							if (i > nextValidPos)
-								wlView._fieldIdList.set(nextValidPos, wlView._fieldIdList.get(i));
-							nextValidPos++;
-						}
-					}
-					wlView._elemCount = newCount;
+					if (wlView._ids[i] != wlView._ids[newCount - 1])
+						wlView._ids[newCount++] = wlView._ids[i];
 				}
-				else
-				    wlView.elemCount(0);
-				
-				return wlView;
+				wlView.elemCount(newCount);
 
-			}
-			case ViewTypes.ELEMENT_NAME_LIST:
-			{
-				WlView wlView = ReactorFactory.createWlView();
-				wlView.viewHandler(this);
-				wlView.viewType(viewType);
-			    wlView.elemCount(0);
-			    wlView.state(WlView.State.NEW);
-				wlView._elementNameList = _viewElementNameListPool.poll();
-				if (wlView._elementNameList == null)
-					wlView._elementNameList = new ArrayList<String>();
-				else
-					wlView._elementNameList.clear();
-				for (String S : elementNameList) {
-					wlView._elementNameList.add(S);
-					++wlView._elemCount;
-				}
-				if (wlView._elementNameList != null && wlView.elemCount() > 0 )
+				// the view references its element names until it is returned to the pool
+				if (viewType == ViewTypes.ELEMENT_NAME_LIST)
 				{
-					Collections.sort(wlView._elementNameList);
-					int startingCount = wlView.elemCount();
-					int newCount = startingCount;
-					int nextValidPos = 1;
-					for (int i = 1; i < startingCount; ++i) {
-						if (wlView._elementNameList.get(i).equals(wlView._elementNameList.get(nextValidPos - 1))) {
-							--newCount;
-						}
-						else {
-							if (i > nextValidPos)
-								wlView._elementNameList.set(nextValidPos, wlView._elementNameList.get(i));
-							++nextValidPos;
-						}							   
-					}				
-					wlView._elemCount = newCount;
-				}			
-				else
-				    wlView.elemCount(0);
+					for (int i = 0; i < newCount; ++i)
+						_elementNameRefCounts[wlView._ids[i]]++;
+				}
 
 				return wlView;
 			}
-			default:			
+			default:
 			{
 				_watchlist.reactor().populateErrorInfo(errorInfo,
 						ReactorReturnCodes.FAILURE, "ViewHandder",
 						"Invalid ViewType  <" + viewType + ">");
-					
-				return null;		
-			}// case			
-		}// switch		
+
+				return null;
+			}// case
+		}// switch
 	}
-	
+
 	WlView aggregateViewCreate(WlView view, ReactorErrorInfo errorInfo)
 	{
+		if (view.viewType() != ViewTypes.FIELD_ID_LIST && view.viewType() != ViewTypes.ELEMENT_NAME_LIST)
+		{
+			_watchlist.reactor().populateErrorInfo(errorInfo,
+					ReactorReturnCodes.FAILURE, "ViewHandder",
+					"Invalid ViewType, cannot create aggregate view  <" + view.viewType() + ">");
+
+			return null;
+		}
+
 		WlView aggView = ReactorFactory.createWlView();
 		aggView.aggregated(true);
 		aggView.viewHandler(this);
+		aggView.viewType(view.viewType());
 
-		aggView._newViews = _newViewsPool.poll();
-		if (aggView._newViews == null) aggView._newViews = new LinkedList<WlView>();
-		aggView._newViews.clear();
-		aggView._mergedViews = _mergedViewsPool.poll();
-		if (aggView._mergedViews == null) aggView._mergedViews = new LinkedList<WlView>();
-		aggView._mergedViews.clear();
-		aggView._committedViews = _committedViewsPool.poll();
-		if (aggView._committedViews == null) aggView._committedViews = new LinkedList<WlView>();
-		aggView._committedViews.clear();
-		
-		aggView._viewFieldIdCountMap = null;
-		aggView._viewElementNameCountMap = null;
-		
-		if ( view.viewType() == ViewTypes.FIELD_ID_LIST)
-		{
-			aggView._viewFieldIdCountMap = _viewFieldIdCountMapPool.poll();
-			if (aggView._viewFieldIdCountMap == null) aggView._viewFieldIdCountMap = new HashMap<Integer, Integer>();
-			aggView._viewFieldIdCountMap.clear();
-			for (Integer fieldId : view.fieldIdList().subList(0, view.elemCount()))
-			{
-				aggView._viewFieldIdCountMap.put(fieldId,  1);
-			}
+		aggView._newViews = viewListCreate();
+		aggView._mergedViews = viewListCreate();
+		aggView._committedViews = viewListCreate();
 
-		}
-		else if ( view.viewType() == ViewTypes.ELEMENT_NAME_LIST)
-		{
-			aggView._viewElementNameCountMap = _viewElementNameCountMapPool.poll();
-			if (aggView._viewElementNameCountMap == null) aggView._viewElementNameCountMap = new HashMap<String, Integer>();
-			aggView._viewElementNameCountMap.clear();
-			for (String elementName : view.elementNameList().subList(0, view.elemCount()))
-			{
-				aggView._viewElementNameCountMap.put(elementName,  1);
-			}
+		if (aggView._idSet == null)
+			aggView._idSet = new WlViewIdSet();
+		else
+			aggView._idSet.clear();
+		if (aggView._committedIdSet == null)
+			aggView._committedIdSet = new WlViewIdSet();
+		else
+			aggView._committedIdSet.clear();
+
+		// first item in the stream aggview
+		mergeView(aggView, view);
 
-		}
-		aggView.mergedViews().add(view);
-		view.state(WlView.State.MERGED);
-		
-		aggView._fieldIdList = null;
-		aggView._elementNameList = null;
-		
-		switch(view.viewType())
-		{		
-		    // first item in the stream aggview
-			case ViewTypes.FIELD_ID_LIST:
-			{
-				aggView.viewHandler(this);
-				aggView.viewType(view.viewType());
-			    aggView.elemCount(view.elemCount());
-				aggView._fieldIdList = _viewFieldIdListPool.poll();
-				if (aggView._fieldIdList == null)
-					aggView._fieldIdList = new ArrayList<Integer>();	
-				aggView._fieldIdList.clear();
-				aggView._fieldIdList.addAll(view.fieldIdList());
-				break;
-			}
-			case ViewTypes.ELEMENT_NAME_LIST:
-			{
-				aggView.viewHandler(this);
-				aggView.viewType(view.viewType());
-			    aggView.elemCount(view.elemCount());
-				aggView._elementNameList = _viewElementNameListPool.poll();
-				if (aggView._elementNameList == null) aggView._elementNameList = new ArrayList<String>();
-				aggView._elementNameList.clear();
-				aggView._elementNameList.addAll(view.elementNameList());
-				break;
-			}
-			default:
-				_watchlist.reactor().populateErrorInfo(errorInfo,
-						ReactorReturnCodes.FAILURE, "ViewHandder",
-						"Invalid ViewType, cannot create aggregate view  <" + view.viewType() + ">");
-					
-				return null;		
-		}
-		
- 				
 		return aggView;
 	}
-	
+
 	int aggregateViewAdd(WlView aggView, WlView view, ReactorErrorInfo errorInfo)
 	{
 		if(view.viewType() != aggView.viewType())
@@ -246,626 +259,285 @@ public class WlViewHandler
 					"ViewType mismatch, cannot add to aggregated view");
 			return CodecReturnCodes.FAILURE;
 		}
-						
+
 		aggView._newViews.add(view);
 		return CodecReturnCodes.SUCCESS;
 	}
-		
+
 	int aggregateViewMerge(WlView aggView)
-	{	
+	{
 	   	for (WlView view = aggView.newViews().poll(); view!= null; view = aggView.newViews().poll())
-    	{		
-			switch(view.viewType())
-			{		
-				case ViewTypes.FIELD_ID_LIST:
-				{
-					ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-				
-					if (aggViewFieldIdList == null)
-					{
-						aggViewFieldIdList = _viewFieldIdListPool.poll();
-						if (aggViewFieldIdList == null )
-							aggViewFieldIdList = new ArrayList<Integer>();
-						else 
-							aggViewFieldIdList.clear();
-						 
-						aggView.fieldIdList(aggViewFieldIdList);	
-						aggView._elemCount = 0;
-					}
-
-					ArrayList<Integer> newFids = new ArrayList<Integer>();
-					for (int i = 0; i < view.fieldIdList().subList(0, view.elemCount()).size(); i++)
-					{
-						Integer fid = view.fieldIdList().get(i);
-						int index = Collections.binarySearch(aggViewFieldIdList.subList(0, aggView._elemCount), fid);
-						if (index >= 0)
-						{
-							Integer count = aggView._viewFieldIdCountMap.get(fid);
-							aggView._viewFieldIdCountMap.put(fid, ++count);
-						}
-						else
-							newFids.add(fid);
-					}
-					
-					for (int j = 0; j < newFids.size(); ++j) {
-						if (aggView.elemCount() < aggViewFieldIdList.size())
-							aggViewFieldIdList.set(aggView._elemCount, newFids.get(j));
-						else 
-							aggViewFieldIdList.add(newFids.get(j));
-						aggView._viewFieldIdCountMap.put(newFids.get(j), 1);
-						aggView._elemCount++;
-					}
-					
-					Collections.sort(aggViewFieldIdList.subList(0, aggView._elemCount));
-					break;
-				}
-				case ViewTypes.ELEMENT_NAME_LIST:
-				{
-					ArrayList<String> aggViewElementNameList = aggView.elementNameList();
-					
-					if (aggViewElementNameList == null)
-					{
-						aggViewElementNameList = _viewElementNameListPool.poll();
-						if (aggViewElementNameList == null )
-							aggViewElementNameList = new ArrayList<String>();
-						else 
-							aggViewElementNameList.clear();
-						
-						aggView.elementNameList(aggViewElementNameList);
-						aggView._elemCount = 0;
-					}
-
-					ArrayList<String> newElements = new ArrayList<String>();
-					for (int i = 0; i < view.elementNameList().subList(0, view.elemCount()).size(); i++)
-					{						
-					    String elementName = view.elementNameList().get(i);
-						int index = Collections.binarySearch(aggViewElementNameList.subList(0, aggView._elemCount), elementName);
-						if (index >= 0)
-						{
-							Integer count = aggView._viewElementNameCountMap.get(elementName);
-							aggView._viewElementNameCountMap.put(elementName, ++count);
-						}
-						else
-							newElements.add(elementName);
-					}
-
-					for (int j = 0; j < newElements.size(); ++j) {
-						if (aggView.elemCount() < aggViewElementNameList.size())
-							aggViewElementNameList.set(aggView._elemCount, newElements.get(j));
-						else
-							aggViewElementNameList.add(newElements.get(j));
-						aggView._viewElementNameCountMap.put(newElements.get(j),  1);
-						++aggView._elemCount;
-					}
-					Collections.sort(aggViewElementNameList.subList(0, aggView._elemCount));
-					break;
-				}
-				default:
-					break;
-			}// switch
-			aggView.mergedViews().add(view);
-			view.state(WlView.State.MERGED);
+    	{
+	   		mergeView(aggView, view);
     	}
 		return CodecReturnCodes.SUCCESS;
-	}	
+	}
+
+	private void mergeView(WlView aggView, WlView view)
+	{
+		for (int i = 0; i < view.elemCount(); ++i)
+			aggView._idSet.increment(view._ids[i]);
+		aggView._elemCount = aggView._idSet.size();
+
+		aggView.mergedViews().add(view);
+		view.state(WlView.State.MERGED);
+	}
 
-	
 	int removeRequestView(WlStream wlStream, WlRequest wlRequest, ReactorErrorInfo errorInfo)
 	{
 		if (!wlRequest.requestMsg().checkHasView())
-		{			
+		{
 			// need to re-evaluate the wlStream request views
-			// as wlStream._userRequestList size will decrease 
+			// as wlStream._userRequestList size will decrease
 			wlStream._pendingViewChange = true;
 			return CodecReturnCodes.SUCCESS;
 		}
-					
+
 		WlView view = wlRequest.view();
-				
+
 		wlStream._requestsWithViewCount--;
-	
+
 		WlView aggView = wlStream.aggregateView();
-		
+
 		if (view.state() == WlView.State.NEW)
 		{
-			wlStream.aggregateView().newViews().remove(view);
+			aggView.newViews().remove(view);
 			return CodecReturnCodes.SUCCESS;
 		}
 		else if (view.state() == WlView.State.MERGED)
 		{
-			wlStream.aggregateView().mergedViews().remove(view);
-			
+			aggView.mergedViews().remove(view);
 		}
 		else if (view.state() == WlView.State.COMMITTED)
 		{
-			wlStream.aggregateView().committedViews().remove(view);
+			aggView.committedViews().remove(view);
 		}
-		
+
 		if(view.state() == WlView.State.MERGED || view.state() == WlView.State.COMMITTED)
 		{
-			if (view.viewType() == ViewTypes.FIELD_ID_LIST) {
-				ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-				fidsToRemove.clear();
-				for (int i = 0; i < view.fieldIdList().subList(0, view.elemCount()).size(); i++)
-				{
-					Integer fid = view.fieldIdList().get(i);
-					int index = Collections.binarySearch(aggViewFieldIdList.subList(0, aggView._elemCount), fid);
-					if ( index >= 0) 
-					{
-						Integer count = aggView._viewFieldIdCountMap.get(fid);
-						aggView._viewFieldIdCountMap.put(fid, --count);
-						if (count == 0)
-							fidsToRemove.add(fid);
-					}
-					else
-					{
-						_watchlist.reactor().populateErrorInfo(errorInfo,
-								ReactorReturnCodes.FAILURE, "ViewHandder",
-								"Aggregate View cannot remove a non-existent field id  <" + fid + ">");
-					}
-				}
-
-				int writePos = 0;
-				int currentPos = 0;
-				int originalSize = aggView.elemCount();
-				_resorted = (fidsToRemove.isEmpty() ? false : true);	// needed so updated view is resent
-				for ( int k = 0; k < fidsToRemove.size(); ++k ) {
-					while (currentPos < originalSize) {
-						if (aggViewFieldIdList.get(currentPos) == fidsToRemove.get(k) ) {
-							++currentPos;
-							--aggView._elemCount;
-							break;
-						}
-						if (aggViewFieldIdList.get(currentPos) < fidsToRemove.get(k) ) {
-							if (writePos != currentPos)
-								aggViewFieldIdList.set(writePos, aggViewFieldIdList.get(currentPos));
-							++currentPos;
-							++writePos;
-						}
-						else
-							// should never get here
-							return _watchlist.reactor().populateErrorInfo(errorInfo,
-									ReactorReturnCodes.FAILURE, "ViewHandler",
-									"Aggregate View cannot remove a non-existent field id  <" + fidsToRemove.get(k) + ">");break;
-					}
-				}
-
-				// may have remaining elements to write
-				while (currentPos < originalSize)
-					aggViewFieldIdList.set(writePos++, aggViewFieldIdList.get(currentPos++));
-			}
-			else { 	// ViewTypes.ELEMENT_NAME_LIST:
-				ArrayList<String> aggViewElementNameList = aggView.elementNameList();
-				ArrayList<String> elementNamesToRemove = new ArrayList<String>();
-				for (int i = 0; i < view.elemCount(); i++)
+			boolean removed = false;
+			for (int i = 0; i < view.elemCount(); i++)
+			{
+				int id = view._ids[i];
+				int count = aggView._idSet.decrement(id);
+				if (count == 0)
+					removed = true;
+				else if (count < 0)
 				{
-					String elementName = view.elementNameList().get(i);
-					int index = Collections.binarySearch(aggViewElementNameList.subList(0, aggView._elemCount), elementName);
-					if ( index >= 0)
-					{
-						Integer count = aggView._viewElementNameCountMap.get(elementName);
-						aggView._viewElementNameCountMap.put(elementName, --count);
-						if (count == 0)
-							elementNamesToRemove.add(elementName);
-					}
-					else
-					{
-						_watchlist.reactor().populateErrorInfo(errorInfo,
-								ReactorReturnCodes.FAILURE, "ViewHandder",
-								"Aggregate View cannot remove a non-existent elementName  <" + elementName + ">");
-					}
-				}
-
-				int writePos = 0;
-				int currentPos = 0;
-				int originalSize = aggView.elemCount();
-				_resorted = (elementNamesToRemove.isEmpty() ? false : true);	// needed so updated view is resent
-				for ( int k = 0; k < elementNamesToRemove.size(); ++k ) {
-					while (currentPos < originalSize) {
-						int comparisonResult = aggViewElementNameList.get(currentPos).compareTo(elementNamesToRemove.get(k));
-						if (comparisonResult == 0) {	// remove
-							++currentPos;
-							--aggView._elemCount;
-							break;
-						}
-						if (comparisonResult < 0 ) {
-							if (currentPos > writePos)
-								aggViewElementNameList.set(writePos, aggViewElementNameList.get(currentPos));
-							++currentPos;
-							++writePos;
-						}
-						else
-							// should never get here
-							return _watchlist.reactor().populateErrorInfo(errorInfo,
-									ReactorReturnCodes.FAILURE, "ViewHandler",
-									"Aggregate View cannot remove a non-existent field id  <" + elementNamesToRemove.get(k) + ">");
-					}
+					_watchlist.reactor().populateErrorInfo(errorInfo,
+							ReactorReturnCodes.FAILURE, "ViewHandder",
+							"Aggregate View cannot remove a non-existent " + (view.viewType() == ViewTypes.FIELD_ID_LIST ?
+									"field id  <" + id : "elementName  <" + elementName(id)) + ">");
 				}
 
-				// may have remaining elements to write
-				while (currentPos < originalSize)
-					aggViewElementNameList.set(writePos++, aggViewElementNameList.get(currentPos++));
+				if (view.state() == WlView.State.COMMITTED)
+					aggView._committedIdSet.decrement(id);
 			}
+			aggView._elemCount = aggView._idSet.size();
+			_resorted = removed;	// needed so updated view is resent
 		}
 
 		return CodecReturnCodes.SUCCESS;
 	}
-	
-	
+
+
 	void aggregateViewCommit(WlView aggView)
-	{			
+	{
 	   	for (WlView view = aggView.mergedViews().poll(); view!= null; view = aggView.mergedViews().poll())
-    	{			   		
+    	{
 	   		aggView.committedViews().add(view);
 	   	    view.state(WlView.State.COMMITTED);
-    	}   	
+	   	    for (int i = 0; i < view.elemCount(); ++i)
+	   	    	aggView._committedIdSet.increment(view._ids[i]);
+    	}
 	}
-	
+
 	void aggregateViewUncommit(WlView aggView)
-	{			
+	{
 	   	for (WlView view = aggView.committedViews().poll(); view!= null; view = aggView.committedViews().poll())
-    	{			   		
+    	{
 	   		aggView.mergedViews().add(view);
 	   	    view.state(WlView.State.MERGED);
-    	}	
+    	}
+	   	aggView._committedIdSet.clear();
 	}
-	
+
 	int encodeViewRequest(EncodeIterator encodeIter, WlView aggView)
 	{
+		int viewType = aggView.viewType();
+		if (viewType != ViewTypes.FIELD_ID_LIST && viewType != ViewTypes.ELEMENT_NAME_LIST)
+			return CodecReturnCodes.SUCCESS;
+
 		elementList.clear();
 		elementList.applyHasStandardData();
 
 		int ret = elementList.encodeInit(encodeIter, null, 0);
-				
-		switch(aggView.viewType())
-		{		
-			case ViewTypes.FIELD_ID_LIST:
-			{
-		
-				elementEntry.clear();
-				elementEntry.name(ElementNames.VIEW_TYPE);
-				elementEntry.dataType(DataTypes.UINT);
-				tempUInt.value(ViewTypes.FIELD_ID_LIST);
-				ret = elementEntry.encode(encodeIter, tempUInt);
-				if (ret < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}	
-		
-				elementEntry.clear();
-				elementEntry.name(ElementNames.VIEW_DATA);
-				elementEntry.dataType(DataTypes.ARRAY);
-				if ((ret = elementEntry.encodeInit(encodeIter, 0)) < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}
-
-				viewArray.primitiveType(DataTypes.INT);
-				viewArray.itemLength(2);
+		if (ret < CodecReturnCodes.SUCCESS)
+		{
+			return ret;
+		}
 
-				if ((ret = viewArray.encodeInit(encodeIter)) < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}	
+		elementEntry.clear();
+		elementEntry.name(ElementNames.VIEW_TYPE);
+		elementEntry.dataType(DataTypes.UINT);
+		tempUInt.value(viewType);
+		ret = elementEntry.encode(encodeIter, tempUInt);
+		if (ret < CodecReturnCodes.SUCCESS)
+		{
+			return ret;
+		}
 
-				for (Integer viewField : aggView.fieldIdList().subList(0, aggView.elemCount()))
-				{
+		elementEntry.clear();
+		elementEntry.name(ElementNames.VIEW_DATA);
+		elementEntry.dataType(DataTypes.ARRAY);
+		if ((ret = elementEntry.encodeInit(encodeIter, 0)) < CodecReturnCodes.SUCCESS)
+		{
+			return ret;
+		}
 
-					if (aggView._viewFieldIdCountMap.get(viewField) == null || aggView._viewFieldIdCountMap.get(viewField) == 0 ) continue;
-								
-					arrayEntry.clear();
-					tempInt.value(viewField);
-					ret = arrayEntry.encode(encodeIter, tempInt);
-					if (ret < CodecReturnCodes.SUCCESS)
-					{
-						return ret;
-					}	
-				}
-				ret = viewArray.encodeComplete(encodeIter, true);
+		if (viewType == ViewTypes.FIELD_ID_LIST)
+		{
+			viewArray.primitiveType(DataTypes.INT);
+			viewArray.itemLength(2);
+		}
+		else
+		{
+			viewArray.primitiveType(DataTypes.ASCII_STRING);
+			viewArray.itemLength(0);
+		}
 
-				if (ret < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}	
+		if ((ret = viewArray.encodeInit(encodeIter)) < CodecReturnCodes.SUCCESS)
+		{
+			return ret;
+		}
 
-				ret = elementEntry.encodeComplete(encodeIter, true);
-				if (ret < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}
-				ret = elementList.encodeComplete(encodeIter, true);
-				if (ret < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-			    }	
-				break;
-			}
-			case ViewTypes.ELEMENT_NAME_LIST:
+		// the set only holds ids requested by at least one view, in ascending order
+		WlViewIdSet idSet = aggView._idSet;
+		for (int id = idSet.nextId(Integer.MIN_VALUE); id != WlViewIdSet.NO_ID; id = idSet.nextId(id + 1))
+		{
+			arrayEntry.clear();
+			if (viewType == ViewTypes.FIELD_ID_LIST)
 			{
-				elementEntry.clear();
-				elementEntry.name(ElementNames.VIEW_TYPE);
-				elementEntry.dataType(DataTypes.UINT);
-				tempUInt.value(ViewTypes.ELEMENT_NAME_LIST);
-				ret = elementEntry.encode(encodeIter, tempUInt);
-				if (ret < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}	
-		
-				elementEntry.clear();
-				elementEntry.name(ElementNames.VIEW_DATA);
-				elementEntry.dataType(DataTypes.ARRAY);
-				if ((ret = elementEntry.encodeInit(encodeIter, 0)) < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}
-
-				viewArray.primitiveType(DataTypes.ASCII_STRING);
-//				viewArray.itemLength(0);  
-
-				if ((ret = viewArray.encodeInit(encodeIter)) < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}	
-
-				for (String elementName : aggView.elementNameList().subList(0, aggView.elemCount()))
-				{
-					if (aggView._viewElementNameCountMap.get(elementName) == null || aggView._viewElementNameCountMap.get(elementName) == 0 ) continue;
-
-					arrayEntry.clear();					
-		            elementNameBuf.data(elementName);
-		            ret = arrayEntry.encode(encodeIter, elementNameBuf);
-					
-					if (ret < CodecReturnCodes.SUCCESS)
-					{
-						return ret;
-					}	
-				}
-				ret = viewArray.encodeComplete(encodeIter, true);
-
-				if (ret < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}	
+				tempInt.value(id);
+				ret = arrayEntry.encode(encodeIter, tempInt);
+			}
+			else
+				ret = arrayEntry.encode(encodeIter, elementName(id));
 
-				ret = elementEntry.encodeComplete(encodeIter, true);
-				if (ret < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-				}
-				ret = elementList.encodeComplete(encodeIter, true);
-				if (ret < CodecReturnCodes.SUCCESS)
-				{
-					return ret;
-			    }	
-				break;			
+			if (ret < CodecReturnCodes.SUCCESS)
+			{
+				return ret;
 			}
-			default:
-				break;
-				
 		}
+		ret = viewArray.encodeComplete(encodeIter, true);
+		if (ret < CodecReturnCodes.SUCCESS)
+		{
+			return ret;
+		}
+
+		ret = elementEntry.encodeComplete(encodeIter, true);
+		if (ret < CodecReturnCodes.SUCCESS)
+		{
+			return ret;
+		}
+		ret = elementList.encodeComplete(encodeIter, true);
+		if (ret < CodecReturnCodes.SUCCESS)
+		{
+			return ret;
+	    }
 		return CodecReturnCodes.SUCCESS;
-	}	
-	
+	}
+
 	void aggregateViewDestroy(WlView aggView)
 	{
-		_viewFieldIdCountMapPool.add(aggView._viewFieldIdCountMap);	
-		_viewElementNameCountMapPool.add(aggView._viewElementNameCountMap);	
-
-		
-		_newViewsPool.add(aggView._newViews);
-		_mergedViewsPool.add(aggView._mergedViews);
-		_committedViewsPool.add(aggView._committedViews);
-		
-		_viewFieldIdListPool.add(aggView._fieldIdList);
-		_viewElementNameListPool.add(aggView._elementNameList);
-		
+		viewListDestroy(aggView._newViews);
+		viewListDestroy(aggView._mergedViews);
+		viewListDestroy(aggView._committedViews);
+
 		aggView.returnToPool();
 	}
-	
-	
+
+
 	boolean aggregateViewContainsNewViews(WlView aggView)
 	{
 		int mergedCount = aggView.mergedViews().size() + aggView.committedViews().size();
-		if ( mergedCount == 0 ) return false;    
-		for (WlView view : aggView.newViews())
-    	{						
-			switch(aggView.viewType())
-			{		
-				case ViewTypes.FIELD_ID_LIST:
-				{
-					ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-
-					ArrayList<Integer> viewFieldIdList = view.fieldIdList();
-	
-					if (view.elemCount() > aggView.elemCount())
-						return false;
-			   
-					for (int i = 0; i < viewFieldIdList.subList(0, view.elemCount()).size(); i++)
-					{					
-						Integer fid = view.fieldIdList().get(i);
-						int index = Collections.binarySearch(aggViewFieldIdList.subList(0, aggView._elemCount), fid);
-						if ( index < 0 ) return false;
-					}			   
-					return true;			   
-				}
-			
-				case ViewTypes.ELEMENT_NAME_LIST:
-				{
-					ArrayList<String> aggViewElementNameList = aggView.elementNameList();
-
-					ArrayList<String> viewElementNameList = view.elementNameList();
-	
-					if (view.elemCount() > aggView.elemCount())
-						return false;
-			   
-					for (int i = 0; i < viewElementNameList.subList(0, view.elemCount()).size(); i++)
-					{			
-						String elementName = view.elementNameList().get(i);
-						int index = Collections.binarySearch(aggViewElementNameList.subList(0, aggView._elemCount), elementName);
-
-						if ( index < 0 ) return false;
-					}			   
-					return true;	   
-				}
-				default: 
-					break;
-			}
-    	}
-		return false;
+		if ( mergedCount == 0 ) return false;
+
+		WlView view = aggView.newViews().peek();
+		if (view == null || view.elemCount() > aggView.elemCount())
+			return false;
+
+		return aggView._idSet.containsAll(view._ids, view.elemCount());
 	}
-	
+
 	boolean aggregateViewContainsView(WlView aggView, WlRequest wlRequest)
 	{
 		int mergedCount = aggView.mergedViews().size() + aggView.committedViews().size();
-		if ( mergedCount == 0 ) return false;    
-						
-		switch(aggView.viewType())
-		{		
-		case ViewTypes.FIELD_ID_LIST:
-		{
-			ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
+		if ( mergedCount == 0 ) return false;
 
-			ArrayList<Integer> viewFieldIdList = wlRequest.viewFieldIdList();
-	
-			if (wlRequest.viewElemCount() > aggView.elemCount())
-				return false;
-			   
-			for (int i = 0; i < viewFieldIdList.subList(0, wlRequest.viewElemCount()).size(); i++)
-			{					
-				Integer fid = viewFieldIdList.get(i);
-				int index = Collections.binarySearch(aggViewFieldIdList.subList(0, aggView._elemCount), fid);
-				if ( index < 0 ) return false;
-			}			   
-			return true;			   
-		}
-			
-		case ViewTypes.ELEMENT_NAME_LIST:
-		{
-			ArrayList<String> aggViewElementNameList = aggView.elementNameList();
-
-			ArrayList<String> viewElementNameList = wlRequest.viewElementNameList();
-	
-			if (wlRequest.viewElemCount() > aggView.elemCount())
-					return false;
-			   
-			for (int i = 0; i < viewElementNameList.subList(0, wlRequest.viewElemCount()).size(); i++)
-			{			
-				String elementName = viewElementNameList.get(i);
-				int index = Collections.binarySearch(aggViewElementNameList.subList(0, aggView._elemCount), elementName);
-				
-				if ( index < 0 ) return false;
-			}			   
-			return true;	   
-		}
-		default: 
-			break;
-		}
-    	
-		return false;
+		if (wlRequest.viewElemCount() > aggView.elemCount())
+			return false;
+
+		return aggView._idSet.containsAll(wlRequest.viewIds(), wlRequest.viewElemCount());
 	}
-	
-	
+
+
 	boolean commitedViewsContainsAggregateView(WlView aggView)
 	{
 		if(aggView.committedViews().size() == 0 ) return false;
- 					
-		switch(aggView.viewType())
-		{		
-			case ViewTypes.FIELD_ID_LIST:
-			{
-				ArrayList<Integer> aggViewFieldIdList = aggView.fieldIdList();
-
-				for (int kk = 0; kk < aggViewFieldIdList.subList(0, aggView.elemCount()).size(); kk++)
-				{					
-					Integer aggFid =  aggViewFieldIdList.get(kk);
-					boolean found = false;
-				
-					for (WlView view : aggView.committedViews())
-					{						
-						ArrayList<Integer> viewFieldIdList = view.fieldIdList();			   
-						int index = Collections.binarySearch(viewFieldIdList.subList(0, view._elemCount), aggFid);
-						if ( index >= 0 )
-						{
-							found = true;
-						    break;
-						}
-					}
-					if (!found) return found;						
-				}				
-				break;
-			}
-			
-			case ViewTypes.ELEMENT_NAME_LIST:
-			{
-				ArrayList<String> aggViewElementNameList = aggView.elementNameList();
-
-				for (int kk = 0; kk < aggViewElementNameList.subList(0, aggView.elemCount()).size(); kk++)
-				{					
-					String aggName =  aggViewElementNameList.get(kk);
-					boolean found = false;
-				
-					for (WlView view : aggView.committedViews())
-					{						
-						ArrayList<String> viewElementNameList = view.elementNameList();			   
-						int index = Collections.binarySearch(viewElementNameList.subList(0, view._elemCount), aggName);
-						if ( index >= 0 )
-						{
-							found = true;
-						    break;
-						}
-					}
-					if (!found) return found;						
-				}				
-				break;
-			}
-			default: 
-				return false;
-		}
-		return true;
-	}	
-	
+
+		// the ids of the committed views are a subset of the aggregate view
+		return aggView._committedIdSet.size() == aggView._idSet.size();
+	}
+
 	boolean sameViews(WlView view1, WlRequest wlRequest)
 	{
 		if (view1 == null ) return false;
 		if(view1.viewType() != wlRequest.viewType()) return false;
 
         if ( view1.elemCount() != wlRequest.viewElemCount()) return false;
-		        
-		switch(view1.viewType())
-		{		
-			case ViewTypes.FIELD_ID_LIST:
-// should be sorted 
-				 return Arrays.equals(view1.fieldIdList().subList(0, view1._elemCount).toArray(), wlRequest._viewFieldIdList.subList(0, wlRequest.viewElemCount()).toArray());			
-			case ViewTypes.ELEMENT_NAME_LIST:
-				// should be sorted 
-				 return Arrays.equals(view1.elementNameList().subList(0, view1._elemCount).toArray(), wlRequest._viewElementNameList.subList(0, wlRequest.viewElemCount()).toArray());
-			default: 
+
+		// should be sorted
+		int[] viewIds = wlRequest.viewIds();
+		for (int i = 0; i < view1.elemCount(); ++i)
+		{
+			if (view1._ids[i] != viewIds[i])
 				return false;
 		}
-        
+		return true;
 	}
-		
+
 	void destroyView(WlView view)
 	{
 		if (view != null)
-		{
-			if (view._fieldIdList != null)
-				_viewFieldIdListPool.add(view._fieldIdList);
-			if (view._elementNameList != null)
-				_viewElementNameListPool.add(view._elementNameList);
 			view.returnToPool();
-		}
 	}
-	
+
 	boolean resorted()
 	{
 		return _resorted;
 	}
-	
+
 	void resorted(boolean resorted)
 	{
 		this._resorted = resorted;
 	}
-	
+
+	private ArrayDeque<WlView> viewListCreate()
+	{
+		ArrayDeque<WlView> viewList = _viewListPool.poll();
+		if (viewList == null)
+			viewList = new ArrayDeque<WlView>();
+		return viewList;
+	}
+
+	private void viewListDestroy(ArrayDeque<WlView> viewList)
+	{
+		if (viewList != null)
+		{
+			viewList.clear();
+			_viewListPool.add(viewList);
+		}
+	}
+
 }
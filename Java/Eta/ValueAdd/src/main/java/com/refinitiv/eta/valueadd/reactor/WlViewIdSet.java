@@ -0,0 +1,239 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.util.Arrays;
+
+/* Reference-counted set of view ids, which are field ids or interned element name ids.
+ * Membership is kept in a bitset over the range of ids seen so far, so ids are tested in
+ * constant time and iterated in ascending order. The number of views requesting each id
+ * is kept in an int array with open addressing and linear probing. Neither boxes the ids,
+ * and after the set has grown to the ids of an item, adding and removing views does not allocate.
+ *
+ * The set is iterated in ascending order:
+ *     for (int id = set.nextId(Integer.MIN_VALUE); id != WlViewIdSet.NO_ID; id = set.nextId(id + 1))
+ * The set must not be changed while it is iterated. */
+class WlViewIdSet
+{
+    /* Returned by nextId() after the last id. Field ids are shorts and element name ids are small, so it is never an id. */
+    static final int NO_ID = Integer.MAX_VALUE;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // bitset of ids, _words[0] holds ids from _baseWord * 64
+    private long[] _words = new long[0];
+    private int _baseWord;
+    private int _size;
+
+    // reference counts keyed by id, a count of 0 marks an empty slot
+    private int[] _countKeys;
+    private int[] _counts;
+    private int _countMask;
+    private int _countResizeThreshold;
+
+    WlViewIdSet()
+    {
+        allocateCounts(DEFAULT_CAPACITY);
+    }
+
+    /* Adds a reference to the id and returns its new count. A count of 1 means the id was added to the set. */
+    int increment(int id)
+    {
+        int slot = countSlot(id);
+        while (_counts[slot] != 0)
+        {
+            if (_countKeys[slot] == id)
+                return ++_counts[slot];
+            slot = (slot + 1) & _countMask;
+        }
+
+        _countKeys[slot] = id;
+        _counts[slot] = 1;
+        setBit(id);
+        if (++_size > _countResizeThreshold)
+            growCounts();
+
+        return 1;
+    }
+
+    /* Removes a reference to the id and returns its new count, or -1 if the id is not in the set.
+     * A count of 0 means the id was removed from the set. */
+    int decrement(int id)
+    {
+        int slot = findCount(id);
+        if (slot < 0)
+            return -1;
+
+        int count = --_counts[slot];
+        if (count > 0)
+            return count;
+
+        --_size;
+        clearBit(id);
+
+        // move back the following entries of the probe sequence, so lookups never need to skip deleted slots
+        int hole = slot;
+        int next = (slot + 1) & _countMask;
+        while (_counts[next] != 0)
+        {
+            int home = countSlot(_countKeys[next]);
+            if (((next - home) & _countMask) >= ((next - hole) & _countMask))
+            {
+                _countKeys[hole] = _countKeys[next];
+                _counts[hole] = _counts[next];
+                hole = next;
+            }
+            next = (next + 1) & _countMask;
+        }
+        _counts[hole] = 0;
+
+        return 0;
+    }
+
+    boolean contains(int id)
+    {
+        int word = (id >> 6) - _baseWord;
+        return word >= 0 && word < _words.length && (_words[word] & (1L << id)) != 0;
+    }
+
+    /* Returns whether the set contains the first count ids of the array. */
+    boolean containsAll(int[] ids, int count)
+    {
+        for (int i = 0; i < count; ++i)
+        {
+            if (!contains(ids[i]))
+                return false;
+        }
+        return true;
+    }
+
+    /* Returns the number of views referencing the id, or 0 if it is not in the set. */
+    int count(int id)
+    {
+        int slot = findCount(id);
+        return slot >= 0 ? _counts[slot] : 0;
+    }
+
+    /* Returns the number of distinct ids in the set. */
+    int size()
+    {
+        return _size;
+    }
+
+    /* Returns the lowest id of the set that is greater than or equal to the given id, or NO_ID if there is none. */
+    int nextId(int fromId)
+    {
+        int word = (fromId >> 6) - _baseWord;
+        long bits;
+        if (_words.length == 0)
+            return NO_ID;
+        else if (word < 0)
+        {
+            word = 0;
+            bits = _words[0];
+        }
+        else if (word < _words.length)
+            bits = _words[word] & (-1L << fromId);
+        else
+            return NO_ID;
+
+        while (true)
+        {
+            if (bits != 0)
+                return ((word + _baseWord) << 6) + Long.numberOfTrailingZeros(bits);
+            if (++word == _words.length)
+                return NO_ID;
+            bits = _words[word];
+        }
+    }
+
+    /* Removes all ids, keeping the capacity of the set. */
+    void clear()
+    {
+        if (_size > 0)
+        {
+            Arrays.fill(_words, 0);
+            Arrays.fill(_counts, 0);
+            _size = 0;
+        }
+    }
+
+    private void setBit(int id)
+    {
+        int word = id >> 6;
+        if (_words.length == 0)
+        {
+            _words = new long[1];
+            _baseWord = word;
+        }
+        else if (word < _baseWord)
+        {
+            long[] words = new long[_words.length + _baseWord - word];
+            System.arraycopy(_words, 0, words, _baseWord - word, _words.length);
+            _words = words;
+            _baseWord = word;
+        }
+        else if (word - _baseWord >= _words.length)
+            _words = Arrays.copyOf(_words, word - _baseWord + 1);
+
+        _words[word - _baseWord] |= 1L << id;
+    }
+
+    private void clearBit(int id)
+    {
+        _words[(id >> 6) - _baseWord] &= ~(1L << id);
+    }
+
+    private int findCount(int id)
+    {
+        int slot = countSlot(id);
+        while (_counts[slot] != 0)
+        {
+            if (_countKeys[slot] == id)
+                return slot;
+            slot = (slot + 1) & _countMask;
+        }
+
+        return -1;
+    }
+
+    // field ids of a view are often close together, so the id is spread over the table before masking
+    private int countSlot(int id)
+    {
+        int hash = id * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & _countMask;
+    }
+
+    private void allocateCounts(int capacity)
+    {
+        _countKeys = new int[capacity];
+        _counts = new int[capacity];
+        _countMask = capacity - 1;
+        _countResizeThreshold = capacity / 2;
+    }
+
+    private void growCounts()
+    {
+        int[] keys = _countKeys;
+        int[] counts = _counts;
+        allocateCounts(counts.length << 1);
+
+        for (int i = 0; i < counts.length; ++i)
+        {
+            if (counts[i] == 0)
+                continue;
+
+            int slot = countSlot(keys[i]);
+            while (_counts[slot] != 0)
+                slot = (slot + 1) & _countMask;
+            _countKeys[slot] = keys[i];
+            _counts[slot] = counts[i];
+        }
+    }
+}
@@ -1564,6 +1564,9 @@ class Worker implements Runnable
     private void processWorkerEvent()
     {
         WorkerEvent event = (WorkerEvent)_queue.read();
+        if (event == null)
+            return; // notification for an event that was already read
+
         WorkerEventTypes eventType = event.eventType();
         ReactorChannel reactorChannel = event.reactorChannel();
 
@@ -512,4 +512,63 @@ public class SelectableBiDirectionalQueueJunit
         }
     }
 
+    /**
+     * Several threads write to the same end of the queue while the remote end
+     * reads whenever its selector fires. Every event must be read, and once the
+     * queue is drained no notification may be left in the pipe.
+     */
+    @Test
+    public void multipleWritersTest() throws Exception
+    {
+        final int writers = 3;
+        final int perWriter = 50000;
+        final SelectableBiDirectionalQueue queue = new SelectableBiDirectionalQueue();
+        Selector selector = SelectorProvider.provider().openSelector();
+        try
+        {
+            queue.remote().readChannel().register(selector, SelectionKey.OP_READ);
+
+            Thread[] threads = new Thread[writers];
+            for (int i = 0; i < writers; i++)
+            {
+                threads[i] = new Thread(() ->
+                {
+                    for (int j = 0; j < perWriter; j++)
+                        assertTrue(queue.write(new TestObject(j)));
+                });
+                threads[i].start();
+            }
+
+            int readCount = 0;
+            long endTime = System.currentTimeMillis() + 30000;
+            while (readCount < writers * perWriter && System.currentTimeMillis() < endTime)
+            {
+                if (selector.select(100) == 0)
+                    continue;
+                selector.selectedKeys().clear();
+                while (queue.remote().read() != null)
+                    readCount++;
+            }
+
+            for (Thread thread : threads)
+                thread.join();
+
+            assertEquals(writers * perWriter, readCount);
+            assertEquals(0, queue.remote().readQueueSize());
+
+            // consume a notification sent for an event that was already read
+            if (selector.selectNow() > 0)
+            {
+                selector.selectedKeys().clear();
+                assertNull(queue.remote().read());
+            }
+            assertFalse(queue.remote()._readNotifier.isSet());
+            assertEquals(0, selector.selectNow());
+        }
+        finally
+        {
+            selector.close();
+            queue.shutdown();
+        }
+    }
 }
@@ -0,0 +1,115 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.common;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class VaRingQueueJunit
+{
+    public class TestObject extends VaNode
+    {
+        int _producer;
+        int _id;
+
+        TestObject(int producer, int id)
+        {
+            _producer = producer;
+            _id = id;
+        }
+    }
+
+    @Test
+    public void fifoAcrossSegmentsTest()
+    {
+        VaRingQueue queue = new VaRingQueue(4);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 10; round++)
+        {
+            // add more than a segment, then poll part of it
+            for (int i = 0; i < 7; i++)
+                queue.add(new TestObject(0, next++));
+            assertEquals(next - expected, queue.size());
+
+            for (int i = 0; i < 5; i++)
+            {
+                assertEquals(expected, ((TestObject)queue.peek())._id);
+                assertEquals(expected++, ((TestObject)queue.poll())._id);
+            }
+        }
+
+        while (!queue.isEmpty())
+            assertEquals(expected++, ((TestObject)queue.poll())._id);
+        assertEquals(next, expected);
+        assertEquals(0, queue.size());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void countTest()
+    {
+        VaRingQueue queue = new VaRingQueue(4);
+        for (int i = 0; i < 10; i++)
+            queue.add(new TestObject(0, i));
+        queue.poll();
+        queue.poll();
+
+        assertEquals(8, queue.count(node -> true));
+        assertEquals(4, queue.count(node -> ((TestObject)node)._id % 2 == 0));
+        assertEquals(8, queue.size());
+    }
+
+    @Test
+    public void concurrentProducersTest() throws InterruptedException
+    {
+        final int producers = 4;
+        final int perProducer = 100000;
+        final VaRingQueue queue = new VaRingQueue(64);
+
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++)
+        {
+            final int producer = p;
+            threads[p] = new Thread(() ->
+            {
+                for (int i = 0; i < perProducer; i++)
+                    queue.add(new TestObject(producer, i));
+            });
+            threads[p].start();
+        }
+
+        // nodes of each producer come out in the order they were added
+        int[] expected = new int[producers];
+        int received = 0;
+        while (received < producers * perProducer)
+        {
+            TestObject node = (TestObject)queue.poll();
+            if (node == null)
+            {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(expected[node._producer]++, node._id);
+            received++;
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        assertTrue(queue.isEmpty());
+        for (int p = 0; p < producers; p++)
+            assertEquals(perProducer, expected[p]);
+    }
+}
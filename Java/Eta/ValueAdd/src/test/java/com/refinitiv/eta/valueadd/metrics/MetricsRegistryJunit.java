@@ -0,0 +1,136 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.metrics;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+public class MetricsRegistryJunit
+{
+    @Test
+    public void metricsTest()
+    {
+        MetricsRegistry registry = MetricsFactory.createMetricsRegistry();
+
+        Counter counter = registry.counter("msgs");
+        counter.increment();
+        counter.add(4);
+        assertEquals(5, counter.count());
+        assertSame(counter, registry.counter("msgs"));
+
+        Gauge gauge = registry.gauge("depth");
+        gauge.set(10);
+        gauge.add(-3);
+        assertEquals(7, gauge.value());
+
+        Timer timer = registry.timer("time");
+        assertEquals(0, timer.maxTime());
+        timer.record(100);
+        timer.record(300);
+        timer.record(200);
+        assertEquals(3, timer.count());
+        assertEquals(600, timer.totalTime());
+        assertEquals(300, timer.maxTime());
+
+        assertSame(gauge, registry.metric("depth"));
+        assertNull(registry.metric("none"));
+        assertEquals(3, registry.metrics().size());
+        assertSame(counter, registry.metrics().iterator().next());
+
+        try
+        {
+            registry.gauge("msgs");
+            fail("a counter name must not be registered as a gauge");
+        }
+        catch (IllegalArgumentException e)
+        {
+        }
+    }
+
+    @Test
+    public void concurrentUpdateTest() throws InterruptedException
+    {
+        MetricsRegistry registry = MetricsFactory.createMetricsRegistry();
+        Counter counter = registry.counter("msgs");
+        Timer timer = registry.timer("time");
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; ++i)
+        {
+            final int id = i;
+            threads[i] = new Thread(() ->
+            {
+                for (int j = 0; j < 10000; ++j)
+                {
+                    counter.increment();
+                    timer.record(id);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(40000, counter.count());
+        assertEquals(40000, timer.count());
+        assertEquals(60000, timer.totalTime());
+        assertEquals(3, timer.maxTime());
+    }
+
+    @Test
+    public void jmxExporterTest() throws Exception
+    {
+        MetricsRegistry registry = MetricsFactory.createMetricsRegistry();
+        registry.counter("msgs").add(2);
+
+        MetricsJmxExporter exporter = new MetricsJmxExporter(registry, "MetricsRegistryJunit");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        exporter.register();
+        try
+        {
+            ObjectName name = exporter.objectName();
+            assertEquals(MetricsJmxExporter.DEFAULT_DOMAIN, name.getDomain());
+            assertEquals(2L, server.getAttribute(name, "msgs"));
+
+            // metrics registered after the exporter are published too
+            registry.gauge("depth").set(5);
+            registry.timer("time").record(50);
+            assertEquals(5L, server.getAttribute(name, "depth"));
+            assertEquals(1L, server.getAttribute(name, "time.count"));
+            assertEquals(50L, server.getAttribute(name, "time.totalTime"));
+            assertEquals(50L, server.getAttribute(name, "time.maxTime"));
+
+            MBeanAttributeInfo[] attributes = server.getMBeanInfo(name).getAttributes();
+            assertEquals(5, attributes.length);
+            assertEquals("msgs", attributes[0].getName());
+            assertEquals("time.maxTime", attributes[4].getName());
+
+            try
+            {
+                server.getAttribute(name, "none");
+                fail("unknown attributes must not be found");
+            }
+            catch (javax.management.AttributeNotFoundException e)
+            {
+            }
+        }
+        finally
+        {
+            exporter.unregister();
+        }
+        assertFalse(server.isRegistered(exporter.objectName()));
+    }
+}
@@ -21,8 +21,11 @@ import java.nio.channels.SocketChannel;
 import java.nio.channels.spi.SelectorProvider;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.refinitiv.eta.valueadd.domainrep.rdm.login.*;
 import org.junit.After;
@@ -43,6 +46,7 @@ import com.refinitiv.eta.codec.Msg;
 import com.refinitiv.eta.codec.MsgClasses;
 import com.refinitiv.eta.codec.ParseHexFile;
 import com.refinitiv.eta.codec.RequestMsg;
+import com.refinitiv.eta.codec.UpdateMsg;
 import com.refinitiv.eta.rdm.DomainTypes;
 import com.refinitiv.eta.rdm.InstrumentNameTypes;
 import com.refinitiv.eta.rdm.Login;
@@ -530,6 +534,148 @@ public class ReactorJunit
         }
     }
 
+    @Test
+    public void reactorShardGroupCreateShutdownTest()
+    {
+        ReactorErrorInfo errorInfo = ReactorFactory.createReactorErrorInfo();
+        ReactorOptions reactorOptions = ReactorFactory.createReactorOptions();
+
+        assertNull(ReactorFactory.createReactorShardGroup(0, reactorOptions, errorInfo));
+        assertEquals(ReactorReturnCodes.PARAMETER_OUT_OF_RANGE, errorInfo.code());
+
+        ReactorShardGroup group = ReactorFactory.createReactorShardGroup(4, reactorOptions, errorInfo);
+        assertNotNull(group);
+        assertEquals(4, group.shardCount());
+        assertFalse(group.isShutdown());
+        assertFalse(group.isDispatchThread());
+
+        for (int i = 0; i < group.shardCount(); ++i)
+        {
+            assertFalse(group.reactor(i).isShutdown());
+            for (int j = 0; j < i; ++j)
+                assertNotSame(group.reactor(j), group.reactor(i));
+        }
+
+        assertEquals(ReactorReturnCodes.SUCCESS, group.shutdown(errorInfo));
+        assertTrue(group.isShutdown());
+        for (int i = 0; i < group.shardCount(); ++i)
+            assertTrue(group.reactor(i).isShutdown());
+
+        assertEquals(ReactorReturnCodes.SHUTDOWN, group.connect(ReactorFactory.createReactorConnectOptions(),
+                                                                ReactorFactory.createConsumerRole(), errorInfo));
+        assertEquals(ReactorReturnCodes.SHUTDOWN, group.execute(0, () -> { }, errorInfo));
+    }
+
+    /* Counts the channel events of a shard group, and the events not called on a dispatch thread of the group. */
+    static class ShardGroupCallbackHandler implements DefaultMsgCallback, ReactorChannelEventCallback
+    {
+        final ReactorShardGroup _group;
+        final CountDownLatch _readyLatch = new CountDownLatch(2);
+        final AtomicInteger _channelOpenedEventCount = new AtomicInteger();
+        final AtomicInteger _channelDownEventCount = new AtomicInteger();
+        final AtomicInteger _otherThreadEventCount = new AtomicInteger();
+
+        ShardGroupCallbackHandler(ReactorShardGroup group)
+        {
+            _group = group;
+        }
+
+        @Override
+        public int reactorChannelEventCallback(ReactorChannelEvent event)
+        {
+            switch (event.eventType())
+            {
+                case ReactorChannelEventTypes.CHANNEL_OPENED:
+                    // reported by Reactor.connect on the thread of the application
+                    _channelOpenedEventCount.incrementAndGet();
+                    return ReactorCallbackReturnCodes.SUCCESS;
+                case ReactorChannelEventTypes.CHANNEL_READY:
+                    _readyLatch.countDown();
+                    break;
+                case ReactorChannelEventTypes.CHANNEL_DOWN:
+                case ReactorChannelEventTypes.CHANNEL_DOWN_RECONNECTING:
+                    _channelDownEventCount.incrementAndGet();
+                    break;
+                default:
+                    break;
+            }
+
+            if (!_group.isDispatchThread())
+                _otherThreadEventCount.incrementAndGet();
+
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+
+        @Override
+        public int defaultMsgCallback(ReactorMsgEvent event)
+        {
+            return ReactorCallbackReturnCodes.SUCCESS;
+        }
+    }
+
+    @Test
+    public void reactorShardGroupConnectAcceptTest() throws Exception
+    {
+        ReactorErrorInfo errorInfo = ReactorFactory.createReactorErrorInfo();
+        ReactorShardGroup group = ReactorFactory.createReactorShardGroup(2, ReactorFactory.createReactorOptions(), errorInfo);
+        assertNotNull(errorInfo.toString(), group);
+
+        Error error = TransportFactory.createError();
+        BindOptions bindOpts = createDefaultBindOptions();
+        String serviceName = String.valueOf(++_serverPort);
+        bindOpts.serviceName(serviceName);
+        Server server = Transport.bind(bindOpts, error);
+        assertNotNull(error.text(), server);
+        Selector selector = SelectorProvider.provider().openSelector();
+
+        try
+        {
+            server.selectableChannel().register(selector, SelectionKey.OP_ACCEPT, server);
+            ShardGroupCallbackHandler callbackHandler = new ShardGroupCallbackHandler(group);
+
+            // the consumer channel is opened by this thread, and registered by the dispatch thread of its shard
+            ConsumerRole consumerRole = ReactorFactory.createConsumerRole();
+            consumerRole.defaultMsgCallback(callbackHandler);
+            consumerRole.channelEventCallback(callbackHandler);
+            consumerRole.watchlistOptions().enableWatchlist(true);
+            consumerRole.watchlistOptions().channelOpenCallback(callbackHandler);
+            assertEquals(ReactorReturnCodes.SUCCESS,
+                         group.connect(createDefaultConsumerConnectOptions(serviceName), consumerRole, errorInfo));
+            assertEquals(1, callbackHandler._channelOpenedEventCount.get());
+
+            assertTrue(selector.select(10000) > 0);
+            ProviderRole providerRole = ReactorFactory.createProviderRole();
+            providerRole.defaultMsgCallback(callbackHandler);
+            providerRole.channelEventCallback(callbackHandler);
+            assertEquals(ReactorReturnCodes.SUCCESS,
+                         group.accept(server, createDefaultProviderAcceptOptions(), providerRole, errorInfo));
+
+            // both channels are initialized by the dispatch threads of their shards
+            assertTrue(callbackHandler._readyLatch.await(10, TimeUnit.SECONDS));
+            assertEquals(0, callbackHandler._channelDownEventCount.get());
+            assertEquals(0, callbackHandler._otherThreadEventCount.get());
+
+            // the tasks of a shard are run by its dispatch thread, in order
+            final CountDownLatch taskLatch = new CountDownLatch(2);
+            final AtomicInteger taskOrder = new AtomicInteger();
+            assertEquals(ReactorReturnCodes.SUCCESS, group.execute(1, () -> {
+                if (group.isDispatchThread() && taskOrder.compareAndSet(0, 1))
+                    taskLatch.countDown();
+            }, errorInfo));
+            assertEquals(ReactorReturnCodes.SUCCESS, group.execute(1, () -> {
+                if (group.isDispatchThread() && taskOrder.compareAndSet(1, 2))
+                    taskLatch.countDown();
+            }, errorInfo));
+            assertTrue(taskLatch.await(10, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            assertEquals(ReactorReturnCodes.SUCCESS, group.shutdown(errorInfo));
+            selector.close();
+            server.close(error);
+        }
+    }
+
     @Test
     public void consumerConnectChannelUpTest()
     {
@@ -2141,6 +2287,7 @@ public class ReactorJunit
         boolean resetRetValAfterFlush = false;
         int flushCount = 0;
         int releaseBufferCount = 0;
+        TransportBuffer lastWriteBuffer;
         boolean noBuffers = false;
         boolean smallBuffer = false;
         int _state = ChannelState.ACTIVE;
@@ -2287,6 +2434,7 @@ public class ReactorJunit
         @Override
         public int write(TransportBuffer buffer, WriteArgs writeArgs, Error error)
         {
+            lastWriteBuffer = buffer;
             return writeRetVal;
         }
 
@@ -2793,6 +2941,201 @@ public class ReactorJunit
         }
     }
 
+    @Test
+    public void reactorSubmitWithEncodedMsg()
+    {
+        final String inputFile = BASE_TEST_DATA_DIR_NAME
+                + "/010_Provider_LoginRefresh_DirRefresh_MPRefresh_2MPUpdates.txt";
+        Reactor reactor = null;
+        ReactorErrorInfo errorInfo = null;
+        ReactorChannel theReactorChannel = null;
+        Selector selector = null;
+        ReactorCallbackHandler callbackHandler = null;
+        TestServer testServer = null;
+
+        try
+        {
+            NetworkReplay replay = parseReplayFile(inputFile);
+            /*
+             * create a testServer which will send RIPC ConnectAck.
+             */
+            int serverPort = ++_serverPort;
+            testServer = new TestServer(serverPort);
+            testServer.setupServerSocket();
+
+            /*
+             * create ReactorErrorInfo.
+             */
+            errorInfo = ReactorFactory.createReactorErrorInfo();
+            assertNotNull(errorInfo);
+
+            /*
+             * create a Reactor.
+             */
+            reactor = createReactor(errorInfo);
+
+            assertEquals(false, reactor.isShutdown());
+
+            /*
+             * create a selector and register with the reactor's reactorChannel.
+             */
+            theReactorChannel = reactor.reactorChannel();
+            assertNotNull(theReactorChannel);
+
+            selector = SelectorProvider.provider().openSelector();
+            theReactorChannel.selectableChannel().register(selector, SelectionKey.OP_READ, theReactorChannel);
+
+            /*
+             * create a Client Connection.
+             */
+            ReactorConnectOptions rcOpts = createDefaultConsumerConnectOptions(String.valueOf(serverPort));
+            callbackHandler = new ReactorCallbackHandler(selector);
+            assertEquals(null, callbackHandler.lastChannelEvent());
+            ConsumerRole consumerRole = createDefaultConsumerRole(callbackHandler);
+            // make sure login and directory requests are null
+            assertEquals(null, consumerRole._loginRequest);
+            assertEquals(null, consumerRole._directoryRequest);
+            // make sure dictionary download mode is none
+            assertEquals(DictionaryDownloadModes.NONE, consumerRole.dictionaryDownloadMode());
+            reactor.connect(rcOpts, consumerRole, errorInfo);
+
+            // wait for the TestServer to accept a connection.
+            testServer.waitForAcceptable();
+            testServer.acceptSocket();
+
+            // have the TestServer read a message (the RIPC ConnectReq)
+            assertTrue(testServer.readMessageFromSocket() > 0);
+            verifyConnectReq(testServer.buffer());
+            // have the TestServer send the ConnectAck to the Reactor.
+            testServer.writeMessageToSocket(replay.read());
+            // read the extra RIPC 14 handshake message
+            assertTrue(testServer.readMessageFromSocket() > 0);
+            assertEquals(KEY_EXCHANGE, testServer.buffer().get(2)); // verify
+                                                                    // KEY_EXCHANGE
+                                                                    // flag
+
+            /*
+             * dispatch on the reactor's reactorChannel. There should be one
+             * "WorkerEvent" to dispatch on. There should be one
+             * ReactorChannelEventCallback waiting, 1) CHANNEL_UP.
+             */
+            ReactorJunit.dispatchReactor(selector, reactor);
+            // verify that the ReactorChannelEventCallback was called.
+            assertEquals(2, callbackHandler.channelEventCount());
+            assertEquals(1, callbackHandler.channelUpEventCount());
+            assertEquals(1, callbackHandler.channelReadyEventCount());
+            ReactorChannelEvent channelEvent = callbackHandler.lastChannelEvent();
+            assertNotNull(channelEvent);
+            assertEquals(ReactorChannelEventTypes.CHANNEL_READY, channelEvent.eventType());
+            
+            ReactorChannel reactorChannel = callbackHandler.lastReactorChannel();
+
+            // encode an update once, as a provider fanning it out would
+            UpdateMsg msg = (UpdateMsg)CodecFactory.createMsg();
+            msg.msgClass(MsgClasses.UPDATE);
+            msg.streamId(1);
+            msg.domainType(DomainTypes.MARKET_PRICE);
+            msg.containerType(DataTypes.NO_DATA);
+
+            Buffer encodedMsg = CodecFactory.createBuffer();
+            encodedMsg.data(ByteBuffer.allocate(100));
+            EncodeIterator eIter = CodecFactory.createEncodeIterator();
+            eIter.setBufferAndRWFVersion(encodedMsg, Codec.majorVersion(), Codec.minorVersion());
+            assertEquals(CodecReturnCodes.SUCCESS, msg.encode(eIter));
+
+            ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+            assertEquals(ReactorReturnCodes.SUCCESS, reactorChannel.submit(encodedMsg, 5, submitOptions, errorInfo));
+            ReactorJunit.dispatchReactor(selector, reactor); /* Read FLUSH_DONE event internally. */
+
+            /*
+             * Wait for testServer to read the update, which is sent on the given stream.
+             */
+            testServer.waitForReadable();
+            assertTrue(testServer.readMessageFromSocket() > 0);
+            stripRipcHeader(testServer.buffer());
+
+            Buffer buffer = CodecFactory.createBuffer();
+            buffer.data(testServer.buffer());
+            DecodeIterator dIter = CodecFactory.createDecodeIterator();
+            assertEquals(CodecReturnCodes.SUCCESS, dIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion()));
+            Msg receivedMsg = CodecFactory.createMsg();
+            assertEquals(CodecReturnCodes.SUCCESS, receivedMsg.decode(dIter));
+            assertEquals(MsgClasses.UPDATE, receivedMsg.msgClass());
+            assertEquals(DomainTypes.MARKET_PRICE, receivedMsg.domainType());
+            assertEquals(5, receivedMsg.streamId());
+
+            // the encoded message is not modified, so it can be sent to other channels
+            dIter.clear();
+            assertEquals(CodecReturnCodes.SUCCESS, dIter.setBufferAndRWFVersion(encodedMsg, Codec.majorVersion(), Codec.minorVersion()));
+            assertEquals(CodecReturnCodes.SUCCESS, receivedMsg.decode(dIter));
+            assertEquals(1, receivedMsg.streamId());
+
+            // a message left pending by WRITE_CALL_AGAIN is not sent in place of the next one
+            WriteFlushFailChannel writeFlushFailChannel = new WriteFlushFailChannel(reactorChannel.channel());
+            reactorChannel.selectableChannelFromChannel(writeFlushFailChannel);
+            writeFlushFailChannel.writeRetVal = TransportReturnCodes.WRITE_CALL_AGAIN;
+            assertEquals(ReactorReturnCodes.WRITE_CALL_AGAIN, reactorChannel.submit(encodedMsg, 5, submitOptions, errorInfo));
+            TransportBuffer pendingBuffer = writeFlushFailChannel.lastWriteBuffer;
+            Thread.sleep(JUnitConfigVariables.REACTOR_TEST_SLEEP_TIMEOUT);
+            ReactorJunit.dispatchReactor(selector, reactor); /* Read FLUSH_DONE event internally. */
+
+            Buffer otherEncodedMsg = CodecFactory.createBuffer();
+            otherEncodedMsg.data(ByteBuffer.allocate(100));
+            msg.domainType(DomainTypes.MARKET_BY_ORDER);
+            eIter.clear();
+            eIter.setBufferAndRWFVersion(otherEncodedMsg, Codec.majorVersion(), Codec.minorVersion());
+            assertEquals(CodecReturnCodes.SUCCESS, msg.encode(eIter));
+
+            writeFlushFailChannel.writeRetVal = TransportReturnCodes.SUCCESS;
+            assertEquals(ReactorReturnCodes.SUCCESS, reactorChannel.submit(otherEncodedMsg, 5, submitOptions, errorInfo));
+            assertNotSame(pendingBuffer, writeFlushFailChannel.lastWriteBuffer);
+            buffer.data(writeFlushFailChannel.lastWriteBuffer.data(), 0, writeFlushFailChannel.lastWriteBuffer.data().position());
+            dIter.clear();
+            assertEquals(CodecReturnCodes.SUCCESS, dIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion()));
+            assertEquals(CodecReturnCodes.SUCCESS, receivedMsg.decode(dIter));
+            assertEquals(DomainTypes.MARKET_BY_ORDER, receivedMsg.domainType());
+            assertEquals(5, receivedMsg.streamId());
+
+            // the pending message is written when it is submitted again
+            assertEquals(ReactorReturnCodes.SUCCESS, reactorChannel.submit(encodedMsg, 5, submitOptions, errorInfo));
+            assertSame(pendingBuffer, writeFlushFailChannel.lastWriteBuffer);
+            buffer.data(pendingBuffer.data(), 0, pendingBuffer.data().position());
+            dIter.clear();
+            assertEquals(CodecReturnCodes.SUCCESS, dIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion()));
+            assertEquals(CodecReturnCodes.SUCCESS, receivedMsg.decode(dIter));
+            assertEquals(DomainTypes.MARKET_PRICE, receivedMsg.domainType());
+            assertEquals(5, receivedMsg.streamId());
+
+            assertEquals(ReactorReturnCodes.FAILURE, reactorChannel.submit((Buffer)null, 5, submitOptions, ReactorFactory.createReactorErrorInfo()));
+        }
+        catch (Exception e)
+        {
+            assertTrue("exception occurred" + e.getLocalizedMessage(), false);
+        }
+        finally
+        {
+            testServer.shutDown();
+
+            if (theReactorChannel != null)
+            {
+                SelectionKey key = theReactorChannel.selectableChannel().keyFor(selector);
+                key.cancel();
+            }
+
+            assertNotNull(reactor);
+            assertEquals(ReactorReturnCodes.SUCCESS, reactor.shutdown(errorInfo));
+            assertNotNull(errorInfo);
+            assertEquals(ReactorReturnCodes.SUCCESS, errorInfo.code());
+            assertEquals(true, reactor.isShutdown());
+
+            try { if (selector != null && selector.isOpen()) selector.close(); } catch (Exception e) {}
+
+            ReactorChannelEvent event = callbackHandler.lastChannelEvent();
+            assertNotNull(event);
+            assertEquals(ReactorChannelEventTypes.CHANNEL_DOWN, event.eventType());
+        }
+    }
+
     @Test
     public void reactorSubmitWithRdmMsg()
     {
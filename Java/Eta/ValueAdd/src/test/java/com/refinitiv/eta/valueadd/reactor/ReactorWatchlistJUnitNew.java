@@ -37,6 +37,7 @@ import com.refinitiv.eta.rdm.Directory;
 import com.refinitiv.eta.rdm.DomainTypes;
 import com.refinitiv.eta.rdm.Login;
 import com.refinitiv.eta.rdm.SymbolList;
+import com.refinitiv.eta.rdm.UpdateEventTypes;
 import com.refinitiv.eta.rdm.ElementNames;
 import com.refinitiv.eta.rdm.ViewTypes;
 import com.refinitiv.eta.transport.TransportBuffer;
@@ -69,6 +70,10 @@ public class ReactorWatchlistJUnitNew
    
    private static final int MAX_ENUM_TYPE_DICTIONARY_MSG_SIZE = 12800;
 
+   /* Fields of the conflation and view filtering tests, which do not ripple and so can be conflated. */
+   private static final int YIELD_FID = 35;
+   private static final int DIVIDEND_FID = 71;
+
     @Rule
     public TestName testName = new TestName();
 
@@ -2070,6 +2075,706 @@ public class ReactorWatchlistJUnitNew
         }
     }
 
+    @Test
+    public void updateConflationTest_Socket() {
+
+        updateConflation(false, null);
+    }
+
+    @Test
+    public void updateConflationTest_WebSocket_Rwf() {
+
+        updateConflation(true, "rssl.rwf");
+    }
+
+    /* Opens TRI.N on stream 5 with update conflation and on stream 6 without, and checks that
+     * stream 5 gets the latest value of each field on the interval or count trigger, delivered before a status. */
+    private void updateConflation(boolean isWebsocket, String protocolList) {
+
+        ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+        TestReactorEvent event;
+        ReactorMsgEvent msgEvent;
+        RequestMsg requestMsg = (RequestMsg)CodecFactory.createMsg();
+        RequestMsg receivedRequestMsg;
+        RefreshMsg refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+        UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+        UpdateMsg receivedUpdateMsg;
+        StatusMsg statusMsg = (StatusMsg)CodecFactory.createMsg();
+        int providerStreamId;
+
+        /* Create reactors. */
+        TestReactor consumerReactor = new TestReactor();
+        TestReactor providerReactor = new TestReactor();
+
+        /* Create consumer. */
+        Consumer consumer = new Consumer(consumerReactor);
+        ConsumerRole consumerRole = (ConsumerRole)consumer.reactorRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.initDefaultRDMDirectoryRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+        consumerRole.watchlistOptions().enableWatchlist(true);
+        consumerRole.watchlistOptions().channelOpenCallback(consumer);
+        consumerRole.watchlistOptions().requestTimeout(3000);
+
+        /* Create provider. */
+        Provider provider = new Provider(providerReactor);
+        ProviderRole providerRole = (ProviderRole)provider.reactorRole();
+        providerRole.channelEventCallback(provider);
+        providerRole.loginMsgCallback(provider);
+        providerRole.directoryMsgCallback(provider);
+        providerRole.dictionaryMsgCallback(provider);
+        providerRole.defaultMsgCallback(provider);
+
+        try
+        {
+            /* Connect the consumer and provider. Setup login & directory streams automatically. */
+            ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+            opts.setupDefaultLoginStream(true);
+            opts.setupDefaultDirectoryStream(true);
+
+            setupWebsocket(isWebsocket, protocolList, consumer, provider, opts);
+            provider.bind(opts);
+
+            TestReactor.openSession(consumer, provider, opts);
+
+            /* Consumer sends request with conflation over 300 milliseconds or 4 updates. */
+            requestMsg.clear();
+            requestMsg.msgClass(MsgClasses.REQUEST);
+            requestMsg.streamId(5);
+            requestMsg.domainType(DomainTypes.MARKET_PRICE);
+            requestMsg.applyStreaming();
+            requestMsg.msgKey().applyHasName();
+            requestMsg.msgKey().name().data("TRI.N");
+            submitOptions.clear();
+            submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+            submitOptions.requestMsgOptions().conflationInterval(300);
+            submitOptions.requestMsgOptions().conflationCount(4);
+            submitOptions.requestMsgOptions().conflationDictionary(dictionary);
+            assertTrue(consumer.submitAndDispatch(requestMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            /* Consumer sends second request without conflation. */
+            requestMsg.streamId(6);
+            submitOptions.clear();
+            submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+            assertTrue(consumer.submitAndDispatch(requestMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            /* Provider receives the aggregated request. */
+            providerReactor.dispatch(2);
+            event = providerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.REQUEST, msgEvent.msg().msgClass());
+            event = providerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            receivedRequestMsg = (RequestMsg)msgEvent.msg();
+            providerStreamId = receivedRequestMsg.streamId();
+
+            /* Provider sends refresh. */
+            refreshMsg.clear();
+            refreshMsg.msgClass(MsgClasses.REFRESH);
+            refreshMsg.domainType(DomainTypes.MARKET_PRICE);
+            refreshMsg.streamId(providerStreamId);
+            refreshMsg.containerType(DataTypes.NO_DATA);
+            refreshMsg.applyHasMsgKey();
+            refreshMsg.msgKey().applyHasServiceId();
+            refreshMsg.msgKey().serviceId(Provider.defaultService().serviceId());
+            refreshMsg.msgKey().applyHasName();
+            refreshMsg.msgKey().name().data("TRI.N");
+            refreshMsg.applyRefreshComplete();
+            refreshMsg.state().streamState(StreamStates.OPEN);
+            refreshMsg.state().dataState(DataStates.OK);
+            refreshMsg.applySolicited();
+            assertTrue(provider.submitAndDispatch(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            consumerReactor.dispatch(2);
+            for (int streamId = 5; streamId <= 6; streamId++)
+            {
+                event = consumerReactor.pollEvent();
+                assertEquals(TestReactorEventTypes.MSG, event.type());
+                msgEvent = (ReactorMsgEvent)event.reactorEvent();
+                assertEquals(MsgClasses.REFRESH, msgEvent.msg().msgClass());
+                assertEquals(streamId, msgEvent.msg().streamId());
+            }
+
+            /* Provider sends three updates, the second without DIVIDEND. */
+            for (int i = 1; i <= 3; i++)
+            {
+                encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, i, i != 2);
+                assertTrue(provider.submitAndDispatch(updateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+            }
+
+            /* Only the unconflated stream gets them right away. */
+            consumerReactor.dispatch(3, 100);
+            for (int i = 1; i <= 3; i++)
+            {
+                event = consumerReactor.pollEvent();
+                msgEvent = (ReactorMsgEvent)event.reactorEvent();
+                assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+                assertEquals(6, msgEvent.msg().streamId());
+                assertFalse(((UpdateMsg)msgEvent.msg()).checkHasConfInfo());
+            }
+
+            /* The conflated stream gets one update when the interval expires. */
+            consumerReactor.dispatch(1, 1000);
+            event = consumerReactor.pollEvent();
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+            assertEquals(5, msgEvent.msg().streamId());
+            receivedUpdateMsg = (UpdateMsg)msgEvent.msg();
+            assertEquals(DomainTypes.MARKET_PRICE, receivedUpdateMsg.domainType());
+            assertEquals(3, receivedUpdateMsg.seqNum());
+            assertTrue(receivedUpdateMsg.checkHasConfInfo());
+            assertEquals(3, receivedUpdateMsg.conflationCount());
+            assertEquals(300, receivedUpdateMsg.conflationTime());
+            checkConflationUpdate(consumer.reactorChannel(), receivedUpdateMsg, 3, 3);
+
+            /* Four updates reach the conflation count, so they are delivered without waiting. */
+            for (int i = 4; i <= 7; i++)
+            {
+                encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, i, i != 7);
+                assertTrue(provider.submitAndDispatch(updateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+            }
+
+            consumerReactor.dispatch(5, 200);
+            int unconflatedCount = 0;
+            for (int i = 0; i < 5; i++)
+            {
+                event = consumerReactor.pollEvent();
+                msgEvent = (ReactorMsgEvent)event.reactorEvent();
+                assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+                receivedUpdateMsg = (UpdateMsg)msgEvent.msg();
+                if (receivedUpdateMsg.streamId() == 5)
+                {
+                    assertEquals(4, receivedUpdateMsg.conflationCount());
+                    checkConflationUpdate(consumer.reactorChannel(), receivedUpdateMsg, 7, 6);
+                }
+                else
+                    unconflatedCount++;
+            }
+            assertEquals(4, unconflatedCount);
+
+            /* An update and a status: the pending update is delivered ahead of the status. */
+            encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, 8, true);
+            assertTrue(provider.submitAndDispatch(updateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            statusMsg.clear();
+            statusMsg.msgClass(MsgClasses.STATUS);
+            statusMsg.domainType(DomainTypes.MARKET_PRICE);
+            statusMsg.streamId(providerStreamId);
+            statusMsg.containerType(DataTypes.NO_DATA);
+            statusMsg.applyHasState();
+            statusMsg.state().streamState(StreamStates.OPEN);
+            statusMsg.state().dataState(DataStates.SUSPECT);
+            assertTrue(provider.submitAndDispatch(statusMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            consumerReactor.dispatch(4, 200);
+            event = consumerReactor.pollEvent();
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+            assertEquals(6, msgEvent.msg().streamId());
+
+            event = consumerReactor.pollEvent();
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+            assertEquals(5, msgEvent.msg().streamId());
+            assertEquals(1, ((UpdateMsg)msgEvent.msg()).conflationCount());
+            checkConflationUpdate(consumer.reactorChannel(), (UpdateMsg)msgEvent.msg(), 8, 8);
+
+            for (int streamId = 5; streamId <= 6; streamId++)
+            {
+                event = consumerReactor.pollEvent();
+                msgEvent = (ReactorMsgEvent)event.reactorEvent();
+                assertEquals(MsgClasses.STATUS, msgEvent.msg().msgClass());
+                assertEquals(streamId, msgEvent.msg().streamId());
+            }
+
+            /* An update of another type delivers the pending update first, and is conflated on its own. */
+            encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, 9, true);
+            assertTrue(provider.submitAndDispatch(updateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+            encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, 10, true);
+            updateMsg.updateType(UpdateEventTypes.TRADE);
+            assertTrue(provider.submitAndDispatch(updateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            consumerReactor.dispatch(3, 200);
+            int[] expectedStreamIds = { 6, 5, 6 };
+            int[] expectedValues = { 9, 9, 10 };
+            for (int i = 0; i < 3; i++)
+            {
+                event = consumerReactor.pollEvent();
+                msgEvent = (ReactorMsgEvent)event.reactorEvent();
+                assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+                assertEquals(expectedStreamIds[i], msgEvent.msg().streamId());
+                assertEquals(expectedValues[i], decodeConflationValue(consumer.reactorChannel(), msgEvent.msg()));
+            }
+
+            consumerReactor.dispatch(1, 1000);
+            event = consumerReactor.pollEvent();
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(5, msgEvent.msg().streamId());
+            assertEquals(UpdateEventTypes.TRADE, ((UpdateMsg)msgEvent.msg()).updateType());
+            checkConflationUpdate(consumer.reactorChannel(), (UpdateMsg)msgEvent.msg(), 10, 10);
+
+            /* Nothing is left pending. */
+            consumerReactor.dispatch(0, 500);
+        }
+        finally
+        {
+            TestReactorComponent.closeSession(consumer, provider);
+            tearDownConsumerAndProvider(consumerReactor, providerReactor, consumer, provider);
+        }
+    }
+
+    /* Sends bursts of updates to an item opened with and without conflation, and prints the number of
+     * updates each stream delivered and the tail latency of the values they carried. */
+    @Test
+    public void updateConflationBurstTest()
+    {
+        final int burstCount = 20;
+        final int burstSize = 100;
+        ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+        TestReactorEvent event;
+        ReactorMsgEvent msgEvent;
+        RequestMsg requestMsg = (RequestMsg)CodecFactory.createMsg();
+        RefreshMsg refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+        UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+        long[] sendTimes = new long[burstCount * burstSize + 1];
+        ArrayList<Long> conflatedLatencies = new ArrayList<Long>();
+        ArrayList<Long> latencies = new ArrayList<Long>();
+        int conflatedUpdateCount = 0, updateCount = 0, lastConflatedValue = 0;
+        int providerStreamId;
+
+        TestReactor consumerReactor = new TestReactor();
+        TestReactor providerReactor = new TestReactor();
+
+        Consumer consumer = new Consumer(consumerReactor);
+        ConsumerRole consumerRole = (ConsumerRole)consumer.reactorRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.initDefaultRDMDirectoryRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+        consumerRole.watchlistOptions().enableWatchlist(true);
+        consumerRole.watchlistOptions().channelOpenCallback(consumer);
+        consumerRole.watchlistOptions().requestTimeout(3000);
+
+        Provider provider = new Provider(providerReactor);
+        ProviderRole providerRole = (ProviderRole)provider.reactorRole();
+        providerRole.channelEventCallback(provider);
+        providerRole.loginMsgCallback(provider);
+        providerRole.directoryMsgCallback(provider);
+        providerRole.dictionaryMsgCallback(provider);
+        providerRole.defaultMsgCallback(provider);
+
+        try
+        {
+            ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+            opts.setupDefaultLoginStream(true);
+            opts.setupDefaultDirectoryStream(true);
+            provider.bind(opts);
+            TestReactor.openSession(consumer, provider, opts);
+
+            requestMsg.clear();
+            requestMsg.msgClass(MsgClasses.REQUEST);
+            requestMsg.streamId(5);
+            requestMsg.domainType(DomainTypes.MARKET_PRICE);
+            requestMsg.applyStreaming();
+            requestMsg.msgKey().applyHasName();
+            requestMsg.msgKey().name().data("TRI.N");
+            submitOptions.clear();
+            submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+            submitOptions.requestMsgOptions().conflationInterval(20);
+            submitOptions.requestMsgOptions().conflationDictionary(dictionary);
+            assertTrue(consumer.submitAndDispatch(requestMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            requestMsg.streamId(6);
+            submitOptions.clear();
+            submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+            assertTrue(consumer.submitAndDispatch(requestMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            providerReactor.dispatch(2);
+            providerReactor.pollEvent();
+            event = providerReactor.pollEvent();
+            providerStreamId = ((ReactorMsgEvent)event.reactorEvent()).msg().streamId();
+
+            refreshMsg.clear();
+            refreshMsg.msgClass(MsgClasses.REFRESH);
+            refreshMsg.domainType(DomainTypes.MARKET_PRICE);
+            refreshMsg.streamId(providerStreamId);
+            refreshMsg.containerType(DataTypes.NO_DATA);
+            refreshMsg.applyHasMsgKey();
+            refreshMsg.msgKey().applyHasServiceId();
+            refreshMsg.msgKey().serviceId(Provider.defaultService().serviceId());
+            refreshMsg.msgKey().applyHasName();
+            refreshMsg.msgKey().name().data("TRI.N");
+            refreshMsg.applyRefreshComplete();
+            refreshMsg.state().streamState(StreamStates.OPEN);
+            refreshMsg.state().dataState(DataStates.OK);
+            refreshMsg.applySolicited();
+            assertTrue(provider.submitAndDispatch(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+            consumerReactor.dispatch(2);
+            consumerReactor.pollEvent();
+            consumerReactor.pollEvent();
+
+            /* The last pass sends nothing and collects what is left. */
+            for (int burst = 0; burst <= burstCount; burst++)
+            {
+                for (int i = 1; burst < burstCount && i <= burstSize; i++)
+                {
+                    int value = burst * burstSize + i;
+                    encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, value, true);
+                    sendTimes[value] = System.nanoTime();
+                    assertTrue(provider.submit(updateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+                }
+
+                providerReactor.dispatch(-1, 10);
+                consumerReactor.dispatch(-1, burst < burstCount ? 50 : 1000);
+                while ((event = consumerReactor.pollEvent()) != null)
+                {
+                    msgEvent = (ReactorMsgEvent)event.reactorEvent();
+                    assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+                    int value = decodeConflationValue(consumer.reactorChannel(), msgEvent.msg());
+                    long latency = event.nanoTime() - sendTimes[value];
+                    if (msgEvent.msg().streamId() == 5)
+                    {
+                        assertTrue(value > lastConflatedValue);
+                        lastConflatedValue = value;
+                        conflatedUpdateCount++;
+                        conflatedLatencies.add(latency);
+                    }
+                    else
+                    {
+                        updateCount++;
+                        latencies.add(latency);
+                    }
+                }
+            }
+
+            /* Every update reaches the unconflated stream; the conflated stream ends with the latest value. */
+            assertEquals(burstCount * burstSize, updateCount);
+            assertEquals(burstCount * burstSize, lastConflatedValue);
+            assertTrue(conflatedUpdateCount < updateCount);
+
+            Collections.sort(conflatedLatencies);
+            Collections.sort(latencies);
+            System.out.println("Update conflation: delivered " + conflatedUpdateCount + " conflated updates (p99 latency "
+                    + conflatedLatencies.get(conflatedLatencies.size() * 99 / 100) / 1000 + " usec) and "
+                    + updateCount + " unconflated updates (p99 latency " + latencies.get(latencies.size() * 99 / 100) / 1000 + " usec)");
+        }
+        finally
+        {
+            TestReactorComponent.closeSession(consumer, provider);
+            tearDownConsumerAndProvider(consumerReactor, providerReactor, consumer, provider);
+        }
+    }
+
+    @Test
+    public void viewFilteringTest_Socket() {
+
+        viewFiltering(false, null);
+    }
+
+    @Test
+    public void viewFilteringTest_WebSocket_Rwf() {
+
+        viewFiltering(true, "rssl.rwf");
+    }
+
+    /* Opens TRI.N on stream 5 with a view of YIELD and on stream 6 without a view, so the provider sends
+     * all fields, and checks that with view filtering stream 5 only gets YIELD while stream 6 gets everything. */
+    private void viewFiltering(boolean isWebsocket, String protocolList) {
+
+        ReactorSubmitOptions submitOptions = ReactorFactory.createReactorSubmitOptions();
+        TestReactorEvent event;
+        ReactorMsgEvent msgEvent;
+        RequestMsg requestMsg = (RequestMsg)CodecFactory.createMsg();
+        RequestMsg receivedRequestMsg;
+        RefreshMsg refreshMsg = (RefreshMsg)CodecFactory.createMsg();
+        UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+        List<Integer> viewFieldList = new ArrayList<Integer>();
+        int providerStreamId;
+
+        /* Create reactors. */
+        TestReactor consumerReactor = new TestReactor();
+        TestReactor providerReactor = new TestReactor();
+
+        /* Create consumer. */
+        Consumer consumer = new Consumer(consumerReactor);
+        ConsumerRole consumerRole = (ConsumerRole)consumer.reactorRole();
+        consumerRole.initDefaultRDMLoginRequest();
+        consumerRole.initDefaultRDMDirectoryRequest();
+        consumerRole.channelEventCallback(consumer);
+        consumerRole.loginMsgCallback(consumer);
+        consumerRole.directoryMsgCallback(consumer);
+        consumerRole.dictionaryMsgCallback(consumer);
+        consumerRole.defaultMsgCallback(consumer);
+        consumerRole.watchlistOptions().enableWatchlist(true);
+        consumerRole.watchlistOptions().channelOpenCallback(consumer);
+        consumerRole.watchlistOptions().requestTimeout(3000);
+        consumerRole.watchlistOptions().enableViewFiltering(true);
+
+        /* Create provider. */
+        Provider provider = new Provider(providerReactor);
+        ProviderRole providerRole = (ProviderRole)provider.reactorRole();
+        providerRole.channelEventCallback(provider);
+        providerRole.loginMsgCallback(provider);
+        providerRole.directoryMsgCallback(provider);
+        providerRole.dictionaryMsgCallback(provider);
+        providerRole.defaultMsgCallback(provider);
+
+        try
+        {
+            /* Connect the consumer and provider. Setup login & directory streams automatically. */
+            ConsumerProviderSessionOptions opts = new ConsumerProviderSessionOptions();
+            opts.setupDefaultLoginStream(true);
+            opts.setupDefaultDirectoryStream(true);
+
+            setupWebsocket(isWebsocket, protocolList, consumer, provider, opts);
+            provider.bind(opts);
+
+            TestReactor.openSession(consumer, provider, opts);
+
+            /* Consumer sends request with a view of YIELD. */
+            requestMsg.clear();
+            requestMsg.msgClass(MsgClasses.REQUEST);
+            requestMsg.streamId(5);
+            requestMsg.domainType(DomainTypes.MARKET_PRICE);
+            requestMsg.applyStreaming();
+            requestMsg.applyHasView();
+            requestMsg.msgKey().applyHasName();
+            requestMsg.msgKey().name().data("TRI.N");
+            viewFieldList.add(YIELD_FID);
+            encodeViewFieldIdList(consumer.reactorChannel(), viewFieldList, requestMsg);
+            submitOptions.clear();
+            submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+            assertTrue(consumer.submitAndDispatch(requestMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            /* Provider receives request. */
+            providerReactor.dispatch(1);
+            event = providerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            receivedRequestMsg = (RequestMsg)msgEvent.msg();
+            assertTrue(receivedRequestMsg.checkHasView());
+            providerStreamId = receivedRequestMsg.streamId();
+
+            /* Provider ignores the view and sends a refresh with YIELD and DIVIDEND. */
+            refreshMsg.clear();
+            refreshMsg.msgClass(MsgClasses.REFRESH);
+            refreshMsg.domainType(DomainTypes.MARKET_PRICE);
+            refreshMsg.streamId(providerStreamId);
+            refreshMsg.applyHasMsgKey();
+            refreshMsg.msgKey().applyHasServiceId();
+            refreshMsg.msgKey().serviceId(Provider.defaultService().serviceId());
+            refreshMsg.msgKey().applyHasName();
+            refreshMsg.msgKey().name().data("TRI.N");
+            refreshMsg.applyRefreshComplete();
+            refreshMsg.state().streamState(StreamStates.OPEN);
+            refreshMsg.state().dataState(DataStates.OK);
+            refreshMsg.applySolicited();
+            encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, 1, true);
+            refreshMsg.containerType(DataTypes.FIELD_LIST);
+            refreshMsg.encodedDataBody(updateMsg.encodedDataBody());
+            assertTrue(provider.submitAndDispatch(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            consumerReactor.dispatch(1);
+            event = consumerReactor.pollEvent();
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            assertEquals(MsgClasses.REFRESH, msgEvent.msg().msgClass());
+            assertEquals(5, msgEvent.msg().streamId());
+            checkViewFilteredMsg(consumer.reactorChannel(), msgEvent.msg(), 1, false);
+
+            /* Consumer sends request without a view, so the provider gets a request without one. */
+            requestMsg.clear();
+            requestMsg.msgClass(MsgClasses.REQUEST);
+            requestMsg.streamId(6);
+            requestMsg.domainType(DomainTypes.MARKET_PRICE);
+            requestMsg.applyStreaming();
+            requestMsg.msgKey().applyHasName();
+            requestMsg.msgKey().name().data("TRI.N");
+            submitOptions.clear();
+            submitOptions.serviceName(Provider.defaultService().info().serviceName().toString());
+            assertTrue(consumer.submitAndDispatch(requestMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            providerReactor.dispatch(1);
+            event = providerReactor.pollEvent();
+            assertEquals(TestReactorEventTypes.MSG, event.type());
+            msgEvent = (ReactorMsgEvent)event.reactorEvent();
+            receivedRequestMsg = (RequestMsg)msgEvent.msg();
+            assertFalse(receivedRequestMsg.checkHasView());
+
+            /* Provider sends the refresh for the new request, which both requests get. */
+            refreshMsg.clear();
+            refreshMsg.msgClass(MsgClasses.REFRESH);
+            refreshMsg.domainType(DomainTypes.MARKET_PRICE);
+            refreshMsg.streamId(providerStreamId);
+            refreshMsg.applyHasMsgKey();
+            refreshMsg.msgKey().applyHasServiceId();
+            refreshMsg.msgKey().serviceId(Provider.defaultService().serviceId());
+            refreshMsg.msgKey().applyHasName();
+            refreshMsg.msgKey().name().data("TRI.N");
+            refreshMsg.applyRefreshComplete();
+            refreshMsg.state().streamState(StreamStates.OPEN);
+            refreshMsg.state().dataState(DataStates.OK);
+            refreshMsg.applySolicited();
+            encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, 2, true);
+            refreshMsg.containerType(DataTypes.FIELD_LIST);
+            refreshMsg.encodedDataBody(updateMsg.encodedDataBody());
+            assertTrue(provider.submitAndDispatch(refreshMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            consumerReactor.dispatch(2);
+            for (int streamId = 5; streamId <= 6; streamId++)
+            {
+                event = consumerReactor.pollEvent();
+                msgEvent = (ReactorMsgEvent)event.reactorEvent();
+                assertEquals(MsgClasses.REFRESH, msgEvent.msg().msgClass());
+                assertEquals(streamId, msgEvent.msg().streamId());
+                checkViewFilteredMsg(consumer.reactorChannel(), msgEvent.msg(), 2, streamId == 6);
+            }
+
+            /* An update is filtered for stream 5 only. */
+            encodeConflationUpdate(provider.reactorChannel(), updateMsg, providerStreamId, 3, true);
+            assertTrue(provider.submitAndDispatch(updateMsg, submitOptions) >= ReactorReturnCodes.SUCCESS);
+
+            consumerReactor.dispatch(2);
+            for (int streamId = 5; streamId <= 6; streamId++)
+            {
+                event = consumerReactor.pollEvent();
+                msgEvent = (ReactorMsgEvent)event.reactorEvent();
+                assertEquals(MsgClasses.UPDATE, msgEvent.msg().msgClass());
+                assertEquals(streamId, msgEvent.msg().streamId());
+                checkViewFilteredMsg(consumer.reactorChannel(), msgEvent.msg(), 3, streamId == 6);
+            }
+        }
+        finally
+        {
+            TestReactorComponent.closeSession(consumer, provider);
+            tearDownConsumerAndProvider(consumerReactor, providerReactor, consumer, provider);
+        }
+    }
+
+    /* Checks that a message, and the message decoded from its encoded buffer, carry YIELD with the given
+     * value, followed by DIVIDEND only if it is expected. */
+    private void checkViewFilteredMsg(ReactorChannel reactorChannel, Msg msg, int value, boolean hasDividend)
+    {
+        checkViewFilteredBody(reactorChannel, msg, value, hasDividend);
+
+        DecodeIterator decodeIt = CodecFactory.createDecodeIterator();
+        Msg decodedMsg = CodecFactory.createMsg();
+        decodeIt.setBufferAndRWFVersion(msg.encodedMsgBuffer(), reactorChannel.majorVersion(), reactorChannel.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, decodedMsg.decode(decodeIt));
+        assertEquals(msg.msgClass(), decodedMsg.msgClass());
+        checkViewFilteredBody(reactorChannel, decodedMsg, value, hasDividend);
+    }
+
+    private void checkViewFilteredBody(ReactorChannel reactorChannel, Msg msg, int value, boolean hasDividend)
+    {
+        DecodeIterator decodeIt = CodecFactory.createDecodeIterator();
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+
+        assertEquals(DataTypes.FIELD_LIST, msg.containerType());
+        decodeIt.setBufferAndRWFVersion(msg.encodedDataBody(), reactorChannel.majorVersion(), reactorChannel.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(decodeIt, null));
+
+        assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.decode(decodeIt));
+        assertEquals(YIELD_FID, fieldEntry.fieldId());
+        assertEquals(CodecReturnCodes.SUCCESS, real.decode(decodeIt));
+        assertEquals(value, real.toLong());
+
+        if (hasDividend)
+        {
+            assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.decode(decodeIt));
+            assertEquals(DIVIDEND_FID, fieldEntry.fieldId());
+        }
+        assertEquals(CodecReturnCodes.END_OF_CONTAINER, fieldEntry.decode(decodeIt));
+    }
+
+    /* Encodes an update whose YIELD (35) and DIVIDEND (71) fields, if included, carry the given value. */
+    private void encodeConflationUpdate(ReactorChannel reactorChannel, UpdateMsg updateMsg, int streamId, int value, boolean includeDividend)
+    {
+        EncodeIterator encodeIt = CodecFactory.createEncodeIterator();
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Buffer buffer = CodecFactory.createBuffer();
+        Real real = CodecFactory.createReal();
+
+        buffer.data(ByteBuffer.allocate(256));
+        assertEquals(CodecReturnCodes.SUCCESS, encodeIt.setBufferAndRWFVersion(buffer, reactorChannel.majorVersion(), reactorChannel.minorVersion()));
+        fieldList.applyHasStandardData();
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeInit(encodeIt, null, 0));
+
+        fieldEntry.fieldId(YIELD_FID);
+        fieldEntry.dataType(DataTypes.REAL);
+        real.value(value, RealHints.EXPONENT0);
+        assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(encodeIt, real));
+        if (includeDividend)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(DIVIDEND_FID);
+            fieldEntry.dataType(DataTypes.REAL);
+            assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(encodeIt, real));
+        }
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeComplete(encodeIt, true));
+
+        updateMsg.clear();
+        updateMsg.msgClass(MsgClasses.UPDATE);
+        updateMsg.domainType(DomainTypes.MARKET_PRICE);
+        updateMsg.streamId(streamId);
+        updateMsg.applyHasSeqNum();
+        updateMsg.seqNum(value);
+        updateMsg.containerType(DataTypes.FIELD_LIST);
+        updateMsg.encodedDataBody(buffer);
+    }
+
+    /* Returns the value of the YIELD field of an update. */
+    private int decodeConflationValue(ReactorChannel reactorChannel, Msg msg)
+    {
+        DecodeIterator decodeIt = CodecFactory.createDecodeIterator();
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+
+        decodeIt.setBufferAndRWFVersion(msg.encodedDataBody(), reactorChannel.majorVersion(), reactorChannel.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(decodeIt, null));
+        assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.decode(decodeIt));
+        assertEquals(YIELD_FID, fieldEntry.fieldId());
+        assertEquals(CodecReturnCodes.SUCCESS, real.decode(decodeIt));
+        return (int)real.toLong();
+    }
+
+    /* Checks that a conflated update carries exactly the YIELD and DIVIDEND fields, in that order, with the given values. */
+    private void checkConflationUpdate(ReactorChannel reactorChannel, UpdateMsg updateMsg, int yield, int dividend)
+    {
+        DecodeIterator decodeIt = CodecFactory.createDecodeIterator();
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+
+        assertEquals(DataTypes.FIELD_LIST, updateMsg.containerType());
+        decodeIt.setBufferAndRWFVersion(updateMsg.encodedDataBody(), reactorChannel.majorVersion(), reactorChannel.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(decodeIt, null));
+
+        assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.decode(decodeIt));
+        assertEquals(YIELD_FID, fieldEntry.fieldId());
+        assertEquals(CodecReturnCodes.SUCCESS, real.decode(decodeIt));
+        assertEquals(yield, real.toLong());
+
+        assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.decode(decodeIt));
+        assertEquals(DIVIDEND_FID, fieldEntry.fieldId());
+        assertEquals(CodecReturnCodes.SUCCESS, real.decode(decodeIt));
+        assertEquals(dividend, real.toLong());
+
+        assertEquals(CodecReturnCodes.END_OF_CONTAINER, fieldEntry.decode(decodeIt));
+    }
+
     @Test
     public void emptyStatusMsgTest_Socket() {
 
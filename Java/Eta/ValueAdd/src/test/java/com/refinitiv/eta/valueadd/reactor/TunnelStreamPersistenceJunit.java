@@ -0,0 +1,214 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.Error;
+import com.refinitiv.eta.transport.TransportFactory;
+
+/** Tests the tunnel stream persistence file that groups its syncs (version 3). */
+public class TunnelStreamPersistenceJunit
+{
+    /* Offsets of the sequence number and of the message in a version 3 message slot. */
+    private static final int SEQ_NUM_POS = 4;
+    private static final int MSG_POS = 32;
+
+    private static final int MSG_LENGTH = 100;
+
+    private File _dir;
+    private Buffer _queueName;
+    private Error _error = TransportFactory.createError();
+
+    @Before
+    public void setUp() throws IOException
+    {
+        _dir = Files.createTempDirectory("tunnelStreamPersistence").toFile();
+        _queueName = CodecFactory.createBuffer();
+        _queueName.data("QUEUE1");
+    }
+
+    @After
+    public void tearDown()
+    {
+        File[] files = _dir.listFiles();
+        if (files != null)
+        {
+            for (File file : files)
+                file.delete();
+        }
+        _dir.delete();
+    }
+
+    @Test
+    public void groupCommitTest()
+    {
+        TunnelSubstream substream = openSubstream(1000, 0, true);
+        assertTrue(substream._persistFile instanceof TunnelStreamPersistenceFileV3);
+        assertFalse(substream.hasPendingCommit());
+
+        TunnelStreamBuffer[] buffers = new TunnelStreamBuffer[3];
+        long startNsec = System.nanoTime();
+        for (int i = 0; i < buffers.length; ++i)
+        {
+            buffers[i] = msgBuffer(i);
+            assertEquals(ReactorReturnCodes.SUCCESS, substream.saveMsg(buffers[i], _error));
+            assertFalse(buffers[i].persistenceBuffer().isCommitted());
+        }
+
+        /* The window starts with the first message. */
+        assertTrue(substream.hasPendingCommit());
+        assertTrue(substream.commitTimeNsec() - startNsec >= 1000 * TunnelStreamUtil.NANO_PER_MILLI);
+        assertTrue(substream.commitTimeNsec() - System.nanoTime() <= 1000 * TunnelStreamUtil.NANO_PER_MILLI);
+
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.commit(_error));
+        assertFalse(substream.hasPendingCommit());
+        for (TunnelStreamBuffer buffer : buffers)
+            assertTrue(buffer.persistenceBuffer().isCommitted());
+
+        /* A released message that was waiting for the sync no longer counts. */
+        TunnelStreamBuffer buffer = msgBuffer(3);
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.saveMsg(buffer, _error));
+        assertTrue(substream.hasPendingCommit());
+        substream.releasePersistenceBuffer(buffer.persistenceBuffer());
+        assertFalse(substream.hasPendingCommit());
+
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.close(_error));
+    }
+
+    @Test
+    public void commitBytesTest()
+    {
+        TunnelSubstream substream = openSubstream(1000, 2 * MSG_LENGTH, true);
+
+        TunnelStreamBuffer buffer1 = msgBuffer(1);
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.saveMsg(buffer1, _error));
+        assertTrue(substream.hasPendingCommit());
+
+        /* Reaching the byte budget syncs before the window ends. */
+        TunnelStreamBuffer buffer2 = msgBuffer(2);
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.saveMsg(buffer2, _error));
+        assertFalse(substream.hasPendingCommit());
+        assertTrue(buffer1.persistenceBuffer().isCommitted());
+        assertTrue(buffer2.persistenceBuffer().isCommitted());
+
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.close(_error));
+    }
+
+    @Test
+    public void noCommitWindowTest()
+    {
+        /* Without a window, new files keep the default version and each message is synced as it is saved. */
+        TunnelSubstream substream = openSubstream(0, 0, true);
+        assertTrue(substream._persistFile instanceof TunnelStreamPersistenceFileV2);
+
+        TunnelStreamBuffer buffer = msgBuffer(1);
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.saveMsg(buffer, _error));
+        assertFalse(substream.hasPendingCommit());
+        assertTrue(buffer.persistenceBuffer().isCommitted());
+
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.close(_error));
+    }
+
+    @Test
+    public void recoveryTest()
+    {
+        TunnelSubstream substream = openSubstream(1000, 0, true);
+
+        TunnelStreamPersistenceBuffer[] persistBuffers = new TunnelStreamPersistenceBuffer[5];
+        for (int i = 0; i < persistBuffers.length; ++i)
+        {
+            TunnelStreamBuffer buffer = msgBuffer(i);
+            assertEquals(ReactorReturnCodes.SUCCESS, substream.saveMsg(buffer, _error));
+            persistBuffers[i] = buffer.persistenceBuffer();
+        }
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.commit(_error));
+
+        /* Transmit the first four messages, and release the first as acknowledged. */
+        for (int i = 0; i < 4; ++i)
+        {
+            substream._persistFile.setBufferAsTransmitted(persistBuffers[i]);
+            substream.lastOutSeqNum(i + 1);
+            assertEquals(i + 1, persistBuffers[i].seqNum());
+        }
+        substream._persistFile.releasePersistenceBuffers(1);
+
+        /* As if the process stopped before the transmission of the third message was written,
+         * and while the last message was only partly written. */
+        TunnelStreamPersistenceFile persistFile = substream._persistFile;
+        persistFile._fileByteBuf.putInt(persistBuffers[2].filePosition() + SEQ_NUM_POS, 0);
+        persistFile._fileByteBuf.put(persistBuffers[4].filePosition() + MSG_POS,
+                (byte)~persistFile._fileByteBuf.get(persistBuffers[4].filePosition() + MSG_POS));
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.close(_error));
+
+        substream = openSubstream(1000, 0, false);
+        TunnelStreamPersistenceFileV3 reloaded = (TunnelStreamPersistenceFileV3)substream._persistFile;
+        assertEquals(4, substream.lastOutSeqNum());
+        assertEquals(3, reloaded._savedMsgList.count());
+
+        int seqNum = 2;
+        for (TunnelStreamPersistenceBuffer persistBuffer = reloaded._savedMsgList.start(TunnelStreamPersistenceBuffer.SUBSTREAM_LINK);
+                persistBuffer != null;
+                persistBuffer = reloaded._savedMsgList.forth(TunnelStreamPersistenceBuffer.SUBSTREAM_LINK))
+        {
+            assertTrue(persistBuffer.isTransmitted());
+            assertEquals(seqNum, persistBuffer.seqNum());
+            assertEquals(MSG_LENGTH, persistBuffer.length());
+            assertEquals((byte)(seqNum - 1), reloaded._fileByteBuf.get(persistBuffer.filePosition() + MSG_POS));
+            ++seqNum;
+        }
+
+        /* The slots of the released message and of the unsynced one are free again. */
+        for (int i = 0; i < 1024 - 3; ++i)
+        {
+            TunnelStreamBuffer buffer = msgBuffer(i);
+            assertEquals(ReactorReturnCodes.SUCCESS, substream.saveMsg(buffer, _error));
+        }
+        assertEquals(ReactorReturnCodes.PERSISTENCE_FULL, substream.saveMsg(msgBuffer(0), _error));
+
+        assertEquals(ReactorReturnCodes.SUCCESS, substream.close(_error));
+    }
+
+    private TunnelSubstream openSubstream(int commitWindow, int commitBytes, boolean reset)
+    {
+        TunnelStream tunnelStream = new TunnelStream(new ReactorChannel());
+        tunnelStream.classOfService().guarantee().persistenceCommitWindow(commitWindow);
+        tunnelStream.classOfService().guarantee().persistenceCommitBytes(commitBytes);
+        tunnelStream.forceFileReset(reset);
+
+        TunnelSubstream substream = new TunnelSubstream(_queueName, 5, DomainTypes.SYSTEM, 1, _dir.getPath(), tunnelStream, _error);
+        assertEquals(_error.text(), ReactorReturnCodes.SUCCESS, _error.errorId());
+        return substream;
+    }
+
+    /* Returns a message buffer whose content starts with the given value. */
+    private TunnelStreamBuffer msgBuffer(int value)
+    {
+        TunnelStreamBuffer buffer = new TunnelStreamBuffer();
+        buffer.clear(MSG_LENGTH);
+        buffer.data(ByteBuffer.allocate(MSG_LENGTH), 0, MSG_LENGTH);
+        for (int i = 0; i < MSG_LENGTH; ++i)
+            buffer.data().put((byte)(value + i));
+        buffer.setCurrentPositionAsEndOfEncoding();
+        buffer.timeoutIsCode(true);
+        buffer.timeoutNsec(0);
+        return buffer;
+    }
+}
@@ -0,0 +1,251 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.UpdateMsg;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.rdm.UpdateEventTypes;
+import com.refinitiv.eta.transport.TransportFactory;
+
+/** Tests which updates the watchlist conflation merges, and which it delivers first or as they are. */
+public class WlConflatedUpdateJunit
+{
+	static final int DSPLY_NAME = 3;
+	static final int TRDPRC_1 = 6;
+	static final int TRDPRC_2 = 7;
+	static final int TRDPRC_3 = 8;
+	static final int YIELD = 35;
+	static final int DIVIDEND = 71;
+	/* Escape sequence of a partial RMTES update replacing the value from offset 1. */
+	static final byte[] PARTIAL_RMTES = { 0x1B, '[', '1', '`', 'x' };
+
+	DataDictionary _dictionary = CodecFactory.createDataDictionary();
+
+	int _major = Codec.majorVersion();
+	int _minor = Codec.minorVersion();
+
+	@Before
+	public void loadDictionary()
+	{
+		com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+		assertEquals(CodecReturnCodes.SUCCESS, _dictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+	}
+
+	@Test
+	public void mergeTest()
+	{
+		WlConflatedUpdate conflatedUpdate = new WlConflatedUpdate();
+
+		/* Without a dictionary nothing is conflated. */
+		assertEquals(WlConflatedUpdate.DO_NOT_MERGE, conflatedUpdate.checkMerge(update(0, YIELD, 1, DIVIDEND, 1), null, _major, _minor));
+
+		merge(conflatedUpdate, update(0, YIELD, 1, DIVIDEND, 1));
+		merge(conflatedUpdate, update(0, YIELD, 2));
+		assertEquals(2, conflatedUpdate.updateCount());
+		checkFields(conflatedUpdate, YIELD, 2, DIVIDEND, 1);
+	}
+
+	@Test
+	public void updateTypeTest()
+	{
+		WlConflatedUpdate conflatedUpdate = new WlConflatedUpdate();
+
+		merge(conflatedUpdate, update(UpdateEventTypes.QUOTE, YIELD, 1));
+		assertEquals(WlConflatedUpdate.MERGE, conflatedUpdate.checkMerge(update(UpdateEventTypes.QUOTE, YIELD, 2), _dictionary, _major, _minor));
+		assertEquals(WlConflatedUpdate.FLUSH_AND_MERGE,
+				conflatedUpdate.checkMerge(update(UpdateEventTypes.TRADE, YIELD, 2), _dictionary, _major, _minor));
+
+		/* The pending update keeps the type of the updates merged into it. */
+		UpdateMsg msg = conflatedUpdate.conflatedMsg(5, 100, _major, _minor);
+		assertEquals(UpdateEventTypes.QUOTE, msg.updateType());
+	}
+
+	@Test
+	public void rippleTest()
+	{
+		WlConflatedUpdate conflatedUpdate = new WlConflatedUpdate();
+
+		/* TRDPRC_1 ripples to TRDPRC_2, and that to TRDPRC_3, so a second value moves the pending ones along. */
+		assertEquals(TRDPRC_2, _dictionary.entry(TRDPRC_1).rippleToField());
+		assertEquals(TRDPRC_3, _dictionary.entry(TRDPRC_2).rippleToField());
+		merge(conflatedUpdate, update(0, YIELD, 1));
+		merge(conflatedUpdate, update(0, TRDPRC_1, 1));
+		merge(conflatedUpdate, update(0, YIELD, 2, TRDPRC_1, 2));
+		checkFields(conflatedUpdate, YIELD, 2, TRDPRC_1, 2, TRDPRC_2, 1);
+		merge(conflatedUpdate, update(0, TRDPRC_1, 3));
+		checkFields(conflatedUpdate, YIELD, 2, TRDPRC_1, 3, TRDPRC_2, 2, TRDPRC_3, 1);
+		assertEquals(4, conflatedUpdate.updateCount());
+
+		/* A pending value cannot move to a field ahead of it, as the user ripples the fields in order. */
+		conflatedUpdate.clear();
+		merge(conflatedUpdate, update(0, TRDPRC_2, 5, TRDPRC_1, 1));
+		assertEquals(WlConflatedUpdate.FLUSH_AND_MERGE,
+				conflatedUpdate.checkMerge(update(0, TRDPRC_1, 2), _dictionary, _major, _minor));
+		checkFields(conflatedUpdate, TRDPRC_2, 5, TRDPRC_1, 1);
+	}
+
+	@Test
+	public void manyFieldsTest()
+	{
+		WlConflatedUpdate conflatedUpdate = new WlConflatedUpdate();
+
+		/* More fields than the initial capacity, merged twice, keep their order and latest values. */
+		int[] fields = new int[2 * (WlConflatedUpdate.INITIAL_FIELD_COUNT + 8)];
+		int[] expected = new int[fields.length];
+		for (int i = 0; i < fields.length; i += 2)
+		{
+			fields[i] = expected[i] = 100 + i / 2;
+			fields[i + 1] = 1;
+			expected[i + 1] = 2;
+		}
+		merge(conflatedUpdate, update(0, fields));
+		for (int i = 1; i < fields.length; i += 2)
+			fields[i] = 2;
+		merge(conflatedUpdate, update(0, fields));
+		checkFields(conflatedUpdate, expected);
+	}
+
+	@Test
+	public void partialRmtesTest()
+	{
+		WlConflatedUpdate conflatedUpdate = new WlConflatedUpdate();
+
+		merge(conflatedUpdate, rmtesUpdate("abc".getBytes()));
+		assertEquals(WlConflatedUpdate.MERGE, conflatedUpdate.checkMerge(rmtesUpdate("def".getBytes()), _dictionary, _major, _minor));
+		assertEquals(WlConflatedUpdate.DO_NOT_MERGE, conflatedUpdate.checkMerge(rmtesUpdate(PARTIAL_RMTES), _dictionary, _major, _minor));
+	}
+
+	@Test
+	public void unmergeableUpdateTest()
+	{
+		WlConflatedUpdate conflatedUpdate = new WlConflatedUpdate();
+		merge(conflatedUpdate, update(0, YIELD, 1));
+
+		/* A field missing from the dictionary. */
+		assertNull(_dictionary.entry(32767));
+		assertEquals(WlConflatedUpdate.DO_NOT_MERGE, conflatedUpdate.checkMerge(update(0, YIELD, 2, 32767, 2), _dictionary, _major, _minor));
+
+		/* A field list whose second entry is cut short leaves the pending update as it was. */
+		UpdateMsg msg = update(0, YIELD, 3, DIVIDEND, 3);
+		Buffer body = msg.encodedDataBody();
+		Buffer truncated = CodecFactory.createBuffer();
+		truncated.data(body.data(), body.position(), body.length() - 2);
+		msg.encodedDataBody(truncated);
+		assertEquals(WlConflatedUpdate.DO_NOT_MERGE, conflatedUpdate.checkMerge(msg, _dictionary, _major, _minor));
+
+		assertEquals(1, conflatedUpdate.updateCount());
+		checkFields(conflatedUpdate, YIELD, 1);
+	}
+
+	private void merge(WlConflatedUpdate conflatedUpdate, UpdateMsg msg)
+	{
+		assertEquals(WlConflatedUpdate.MERGE, conflatedUpdate.checkMerge(msg, _dictionary, _major, _minor));
+		conflatedUpdate.merge(msg, _dictionary, _major, _minor);
+	}
+
+	/* Encodes an update with the given field id and REAL value pairs. */
+	private UpdateMsg update(int updateType, int... fields)
+	{
+		EncodeIterator encodeIt = CodecFactory.createEncodeIterator();
+		FieldList fieldList = CodecFactory.createFieldList();
+		FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+		Buffer buffer = CodecFactory.createBuffer();
+		Real real = CodecFactory.createReal();
+
+		buffer.data(ByteBuffer.allocate(256));
+		assertEquals(CodecReturnCodes.SUCCESS, encodeIt.setBufferAndRWFVersion(buffer, _major, _minor));
+		fieldList.applyHasStandardData();
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeInit(encodeIt, null, 0));
+		for (int i = 0; i < fields.length; i += 2)
+		{
+			fieldEntry.clear();
+			fieldEntry.fieldId(fields[i]);
+			fieldEntry.dataType(DataTypes.REAL);
+			real.value(fields[i + 1], RealHints.EXPONENT0);
+			assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(encodeIt, real));
+		}
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeComplete(encodeIt, true));
+
+		return updateMsg(updateType, buffer);
+	}
+
+	/* Encodes an update with a DSPLY_NAME of the given RMTES bytes. */
+	private UpdateMsg rmtesUpdate(byte[] value)
+	{
+		EncodeIterator encodeIt = CodecFactory.createEncodeIterator();
+		FieldList fieldList = CodecFactory.createFieldList();
+		FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+		Buffer buffer = CodecFactory.createBuffer();
+		Buffer rmtes = CodecFactory.createBuffer();
+
+		buffer.data(ByteBuffer.allocate(256));
+		rmtes.data(ByteBuffer.wrap(value));
+		assertEquals(CodecReturnCodes.SUCCESS, encodeIt.setBufferAndRWFVersion(buffer, _major, _minor));
+		fieldList.applyHasStandardData();
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeInit(encodeIt, null, 0));
+		fieldEntry.fieldId(DSPLY_NAME);
+		fieldEntry.dataType(DataTypes.RMTES_STRING);
+		assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(encodeIt, rmtes));
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeComplete(encodeIt, true));
+
+		return updateMsg(0, buffer);
+	}
+
+	private UpdateMsg updateMsg(int updateType, Buffer buffer)
+	{
+		UpdateMsg updateMsg = (UpdateMsg)CodecFactory.createMsg();
+		updateMsg.msgClass(MsgClasses.UPDATE);
+		updateMsg.domainType(DomainTypes.MARKET_PRICE);
+		updateMsg.updateType(updateType);
+		updateMsg.containerType(DataTypes.FIELD_LIST);
+		updateMsg.encodedDataBody(buffer);
+		return updateMsg;
+	}
+
+	/* Checks that the pending update encodes exactly the given field id and REAL value pairs, in order. */
+	private void checkFields(WlConflatedUpdate conflatedUpdate, int... fields)
+	{
+		DecodeIterator decodeIt = CodecFactory.createDecodeIterator();
+		FieldList fieldList = CodecFactory.createFieldList();
+		FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+		Real real = CodecFactory.createReal();
+
+		UpdateMsg msg = conflatedUpdate.conflatedMsg(5, 100, _major, _minor);
+		assertNotNull(msg);
+		decodeIt.setBufferAndRWFVersion(msg.encodedDataBody(), _major, _minor);
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(decodeIt, null));
+		for (int i = 0; i < fields.length; i += 2)
+		{
+			assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.decode(decodeIt));
+			assertEquals(fields[i], fieldEntry.fieldId());
+			assertEquals(CodecReturnCodes.SUCCESS, real.decode(decodeIt));
+			assertEquals(fields[i + 1], real.toLong());
+		}
+		assertEquals(CodecReturnCodes.END_OF_CONTAINER, fieldEntry.decode(decodeIt));
+	}
+}
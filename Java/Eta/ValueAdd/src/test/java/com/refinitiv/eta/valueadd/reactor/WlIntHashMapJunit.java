@@ -0,0 +1,90 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/** Tests the int-keyed watchlist hash table against java.util.HashMap. */
+public class WlIntHashMapJunit
+{
+	@Test
+	public void putGetRemoveTest()
+	{
+		WlIntHashMap<String> map = new WlIntHashMap<String>();
+
+		assertTrue(map.isEmpty());
+		assertNull(map.get(0));
+		assertNull(map.remove(5));
+
+		/* Zero and negative keys, as used for provider stream ids. */
+		assertNull(map.put(0, "zero"));
+		assertNull(map.put(-1, "minusOne"));
+		assertNull(map.put(Integer.MIN_VALUE, "min"));
+		assertNull(map.put(Integer.MAX_VALUE, "max"));
+		assertEquals(4, map.size());
+
+		assertEquals("zero", map.get(0));
+		assertEquals("minusOne", map.get(-1));
+		assertEquals("min", map.get(Integer.MIN_VALUE));
+		assertEquals("max", map.get(Integer.MAX_VALUE));
+		assertFalse(map.containsKey(1));
+
+		/* Replace keeps the size. */
+		assertEquals("zero", map.put(0, "zero2"));
+		assertEquals(4, map.size());
+		assertEquals("zero2", map.get(0));
+
+		assertEquals("minusOne", map.remove(-1));
+		assertFalse(map.containsKey(-1));
+		assertEquals(3, map.size());
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(0));
+		assertEquals(-1, map.nextSlot(-1));
+	}
+
+	@Test
+	public void randomChurnTest()
+	{
+		/* Sequential and random keys with removals, checking probe sequences stay intact after removal and growth. */
+		WlIntHashMap<Integer> map = new WlIntHashMap<Integer>(4);
+		HashMap<Integer, Integer> expected = new HashMap<Integer, Integer>();
+		Random random = new Random(1234);
+
+		for (int i = 0; i < 200000; ++i)
+		{
+			int key = (i % 3 == 0) ? random.nextInt() : random.nextInt(5000) - 2500;
+			Integer value = i;
+
+			if (random.nextInt(3) == 0)
+				assertEquals(expected.remove(key), map.remove(key));
+			else
+				assertEquals(expected.put(key, value), map.put(key, value));
+
+			assertEquals(expected.size(), map.size());
+		}
+
+		for (Integer key : expected.keySet())
+			assertEquals(expected.get(key), map.get(key));
+
+		/* Iteration visits every entry once. */
+		int count = 0;
+		for (int slot = map.nextSlot(-1); slot >= 0; slot = map.nextSlot(slot))
+		{
+			assertEquals(expected.get(map.keyAt(slot)), map.valueAt(slot));
+			++count;
+		}
+		assertEquals(expected.size(), count);
+	}
+}
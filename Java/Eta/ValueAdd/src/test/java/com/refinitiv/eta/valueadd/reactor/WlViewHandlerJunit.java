@@ -0,0 +1,505 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.reactor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import com.refinitiv.eta.codec.Array;
+import com.refinitiv.eta.codec.ArrayEntry;
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Int;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.UInt;
+import com.refinitiv.eta.rdm.ElementNames;
+import com.refinitiv.eta.rdm.ViewTypes;
+
+/** Tests the reference-counted view id set, the view aggregation and the view filtering of the watchlist. */
+public class WlViewHandlerJunit
+{
+	@Test
+	public void viewIdSetTest()
+	{
+		WlViewIdSet set = new WlViewIdSet();
+
+		assertEquals(0, set.size());
+		assertEquals(WlViewIdSet.NO_ID, set.nextId(Integer.MIN_VALUE));
+		assertEquals(-1, set.decrement(22));
+
+		/* Negative field ids, and ids on both sides of a bitset word. */
+		assertEquals(1, set.increment(22));
+		assertEquals(2, set.increment(22));
+		assertEquals(1, set.increment(-5));
+		assertEquals(1, set.increment(63));
+		assertEquals(1, set.increment(64));
+		assertEquals(1, set.increment(Short.MIN_VALUE));
+		assertEquals(1, set.increment(Short.MAX_VALUE));
+		assertEquals(6, set.size());
+
+		assertTrue(set.contains(22));
+		assertTrue(set.contains(-5));
+		assertFalse(set.contains(21));
+		assertFalse(set.contains(100000));
+		assertEquals(2, set.count(22));
+		assertEquals(0, set.count(21));
+
+		assertEquals(Short.MIN_VALUE, set.nextId(Integer.MIN_VALUE));
+		assertEquals(-5, set.nextId(Short.MIN_VALUE + 1));
+		assertEquals(22, set.nextId(-4));
+		assertEquals(63, set.nextId(23));
+		assertEquals(64, set.nextId(64));
+		assertEquals(Short.MAX_VALUE, set.nextId(65));
+		assertEquals(WlViewIdSet.NO_ID, set.nextId(Short.MAX_VALUE + 1));
+
+		assertEquals(1, set.decrement(22));
+		assertTrue(set.contains(22));
+		assertEquals(0, set.decrement(22));
+		assertFalse(set.contains(22));
+		assertEquals(5, set.size());
+		assertEquals(63, set.nextId(-4));
+
+		set.clear();
+		assertEquals(0, set.size());
+		assertFalse(set.contains(64));
+		assertEquals(WlViewIdSet.NO_ID, set.nextId(Integer.MIN_VALUE));
+	}
+
+	@Test
+	public void viewIdSetRandomChurnTest()
+	{
+		/* Adds and removes references checking counts, order and probe sequences after removal and growth. */
+		WlViewIdSet set = new WlViewIdSet();
+		TreeMap<Integer, Integer> expected = new TreeMap<Integer, Integer>();
+		Random random = new Random(1234);
+
+		for (int i = 0; i < 200000; ++i)
+		{
+			int id = random.nextInt(3000) - 200;
+			Integer count = expected.get(id);
+
+			if (random.nextInt(3) == 0)
+			{
+				if (count == null)
+					assertEquals(-1, set.decrement(id));
+				else
+				{
+					assertEquals(count - 1, set.decrement(id));
+					if (count == 1)
+						expected.remove(id);
+					else
+						expected.put(id, count - 1);
+				}
+			}
+			else
+			{
+				int newCount = count == null ? 1 : count + 1;
+				assertEquals(newCount, set.increment(id));
+				expected.put(id, newCount);
+			}
+
+			assertEquals(expected.size(), set.size());
+		}
+
+		/* Iteration visits every id once in ascending order. */
+		List<Integer> ids = new ArrayList<Integer>();
+		for (int id = set.nextId(Integer.MIN_VALUE); id != WlViewIdSet.NO_ID; id = set.nextId(id + 1))
+		{
+			assertEquals(expected.get(id).intValue(), set.count(id));
+			ids.add(id);
+		}
+		assertEquals(new ArrayList<Integer>(expected.keySet()), ids);
+	}
+
+	@Test
+	public void fieldIdViewAggregationTest()
+	{
+		WlViewHandler viewHandler = new WlViewHandler(null);
+		ReactorErrorInfo errorInfo = ReactorFactory.createReactorErrorInfo();
+
+		/* Views are sorted and duplicates removed. */
+		WlView view1 = viewHandler.viewCreate(new int[] { 25, 22, 22, 30 }, 4, ViewTypes.FIELD_ID_LIST, errorInfo);
+		assertEquals(3, view1.elemCount());
+		assertEquals(22, view1.ids()[0]);
+		assertEquals(25, view1.ids()[1]);
+		assertEquals(30, view1.ids()[2]);
+
+		WlView aggView = viewHandler.aggregateViewCreate(view1, errorInfo);
+		assertEquals(3, aggView.elemCount());
+		assertEquals(WlView.State.MERGED, view1.state());
+
+		WlView view2 = viewHandler.viewCreate(new int[] { 30, 3, -12 }, 3, ViewTypes.FIELD_ID_LIST, errorInfo);
+		assertEquals(CodecReturnCodes.SUCCESS, viewHandler.aggregateViewAdd(aggView, view2, errorInfo));
+		assertFalse(viewHandler.aggregateViewContainsNewViews(aggView));
+		viewHandler.aggregateViewMerge(aggView);
+		assertEquals(5, aggView.elemCount());
+		assertEquals(fids(-12, 3, 22, 25, 30), encodeAndDecodeFieldIds(viewHandler, aggView));
+
+		/* A view within the aggregate view does not change it. */
+		WlView view3 = viewHandler.viewCreate(new int[] { 3, 22 }, 2, ViewTypes.FIELD_ID_LIST, errorInfo);
+		viewHandler.aggregateViewAdd(aggView, view3, errorInfo);
+		assertTrue(viewHandler.aggregateViewContainsNewViews(aggView));
+		viewHandler.aggregateViewMerge(aggView);
+		assertEquals(5, aggView.elemCount());
+
+		/* All views are committed, so the committed views cover the aggregate view. */
+		assertFalse(viewHandler.commitedViewsContainsAggregateView(aggView));
+		viewHandler.aggregateViewCommit(aggView);
+		assertEquals(WlView.State.COMMITTED, view2.state());
+		assertTrue(viewHandler.commitedViewsContainsAggregateView(aggView));
+
+		/* Removing view1 removes field 25, but not 30, which view2 also requests. */
+		WlRequest request1 = viewRequest(view1);
+		WlStream stream = ReactorFactory.createWlStream();
+		stream.aggregateView(aggView);
+		stream._requestsWithViewCount = 3;
+		viewHandler.removeRequestView(stream, request1, errorInfo);
+		assertTrue(viewHandler.resorted());
+		assertEquals(4, aggView.elemCount());
+		assertEquals(fids(-12, 3, 22, 30), encodeAndDecodeFieldIds(viewHandler, aggView));
+		assertTrue(viewHandler.commitedViewsContainsAggregateView(aggView));
+
+		/* A merged view not yet committed is not covered by the committed views. */
+		WlView view4 = viewHandler.viewCreate(new int[] { 1000 }, 1, ViewTypes.FIELD_ID_LIST, errorInfo);
+		viewHandler.aggregateViewAdd(aggView, view4, errorInfo);
+		viewHandler.aggregateViewMerge(aggView);
+		assertFalse(viewHandler.commitedViewsContainsAggregateView(aggView));
+		assertEquals(fids(-12, 3, 22, 30, 1000), encodeAndDecodeFieldIds(viewHandler, aggView));
+
+		/* Removing view3 removes field 22, which no other view requests now. */
+		viewHandler.removeRequestView(stream, viewRequest(view3), errorInfo);
+		assertTrue(viewHandler.resorted());
+		assertEquals(fids(-12, 3, 30, 1000), encodeAndDecodeFieldIds(viewHandler, aggView));
+
+		/* Removing view4 while view2 remains removes field 1000 only. */
+		viewHandler.removeRequestView(stream, viewRequest(view4), errorInfo);
+		assertEquals(fids(-12, 3, 30), encodeAndDecodeFieldIds(viewHandler, aggView));
+
+		/* Uncommitting clears the committed views. */
+		viewHandler.aggregateViewUncommit(aggView);
+		assertEquals(WlView.State.MERGED, view2.state());
+		assertEquals(0, aggView.committedViews().size());
+		assertFalse(viewHandler.commitedViewsContainsAggregateView(aggView));
+	}
+
+	@Test
+	public void elementNameViewAggregationTest()
+	{
+		WlViewHandler viewHandler = new WlViewHandler(null);
+		ReactorErrorInfo errorInfo = ReactorFactory.createReactorErrorInfo();
+
+		int bid = viewHandler.elementNameId("BID");
+		int ask = viewHandler.elementNameId("ASK");
+		assertEquals(bid, viewHandler.elementNameId("BID"));
+		assertNotEquals(bid, ask);
+		assertEquals("ASK", viewHandler.elementName(ask).toString());
+
+		WlView view1 = viewHandler.viewCreate(new int[] { bid, ask, bid }, 3, ViewTypes.ELEMENT_NAME_LIST, errorInfo);
+		assertEquals(2, view1.elemCount());
+		WlView aggView = viewHandler.aggregateViewCreate(view1, errorInfo);
+
+		int trdprc = viewHandler.elementNameId("TRDPRC_1");
+		WlView view2 = viewHandler.viewCreate(new int[] { trdprc, bid }, 2, ViewTypes.ELEMENT_NAME_LIST, errorInfo);
+		viewHandler.aggregateViewAdd(aggView, view2, errorInfo);
+		viewHandler.aggregateViewMerge(aggView);
+		assertEquals(3, aggView.elemCount());
+
+		Buffer encoded = encode(viewHandler, aggView);
+		List<String> names = new ArrayList<String>();
+		assertEquals(ViewTypes.ELEMENT_NAME_LIST, decodeView(encoded, null, names));
+		assertEquals(3, names.size());
+		assertTrue(names.contains("BID"));
+		assertTrue(names.contains("ASK"));
+		assertTrue(names.contains("TRDPRC_1"));
+
+		WlStream stream = ReactorFactory.createWlStream();
+		stream.aggregateView(aggView);
+		stream._requestsWithViewCount = 2;
+		viewHandler.removeRequestView(stream, viewRequest(view1), errorInfo);
+		assertEquals(2, aggView.elemCount());
+
+		names.clear();
+		decodeView(encode(viewHandler, aggView), null, names);
+		assertEquals(2, names.size());
+		assertTrue(names.contains("BID"));
+		assertTrue(names.contains("TRDPRC_1"));
+	}
+
+	@Test
+	public void elementNameReleaseTest()
+	{
+		WlViewHandler viewHandler = new WlViewHandler(null);
+		ReactorErrorInfo errorInfo = ReactorFactory.createReactorErrorInfo();
+		Buffer encodedBid = CodecFactory.createBuffer();
+		encodedBid.data(ByteBuffer.wrap("BID".getBytes()));
+
+		int bid = viewHandler.elementNameId("BID");
+		int ask = viewHandler.elementNameId("ASK");
+		WlView view1 = viewHandler.viewCreate(new int[] { bid, ask }, 2, ViewTypes.ELEMENT_NAME_LIST, errorInfo);
+		WlView view2 = viewHandler.viewCreate(new int[] { bid }, 1, ViewTypes.ELEMENT_NAME_LIST, errorInfo);
+
+		/* A name no view took, such as one of a view that was only compared, goes once the next view is decoded. */
+		viewHandler.elementNameId("VOLUME");
+		assertEquals(3, viewHandler.elementNameCount());
+		viewHandler.releaseUnusedElementNames();
+		assertEquals(2, viewHandler.elementNameCount());
+
+		/* A name stays while any view references it. */
+		view1.returnToPool();
+		assertEquals(1, viewHandler.elementNameCount());
+		assertEquals(bid, viewHandler.elementNameId(encodedBid));
+		view2.returnToPool();
+		assertEquals(0, viewHandler.elementNameCount());
+		assertEquals(-1, viewHandler.elementNameId(encodedBid));
+
+		/* Churning views over new names reuses the freed ids. */
+		for (int i = 0; i < 1000; ++i)
+		{
+			int id = viewHandler.elementNameId("NAME" + i);
+			assertTrue(id < 3);
+			WlView view = viewHandler.viewCreate(new int[] { id }, 1, ViewTypes.ELEMENT_NAME_LIST, errorInfo);
+			assertEquals("NAME" + i, viewHandler.elementName(id).toString());
+			view.returnToPool();
+		}
+		assertEquals(0, viewHandler.elementNameCount());
+	}
+
+	@Test
+	public void fieldListViewFilterTest()
+	{
+		WlViewHandler viewHandler = new WlViewHandler(null);
+		WlViewFilter viewFilter = new WlViewFilter();
+		ReactorErrorInfo errorInfo = ReactorFactory.createReactorErrorInfo();
+		Msg msg = fieldListUpdate(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+		WlView view = viewHandler.viewCreate(new int[] {7, 2, 5, 99}, 4, ViewTypes.FIELD_ID_LIST, errorInfo);
+		Buffer filtered = viewFilter.filter(msg, view, viewHandler, Codec.majorVersion(), Codec.minorVersion());
+		assertNotNull(filtered);
+		assertEquals(fids(2, 5, 7), decodeFieldList(filtered));
+
+		/* A request with the same view shares the filtered payload. */
+		WlView sameView = viewHandler.viewCreate(new int[] {5, 2, 7, 99, 2}, 5, ViewTypes.FIELD_ID_LIST, errorInfo);
+		assertSame(filtered, viewFilter.filter(msg, sameView, viewHandler, Codec.majorVersion(), Codec.minorVersion()));
+
+		/* Another view gets its own payload, leaving the first one intact. */
+		WlView otherView = viewHandler.viewCreate(new int[] {10}, 1, ViewTypes.FIELD_ID_LIST, errorInfo);
+		Buffer otherFiltered = viewFilter.filter(msg, otherView, viewHandler, Codec.majorVersion(), Codec.minorVersion());
+		assertEquals(fids(10), decodeFieldList(otherFiltered));
+		assertEquals(fids(2, 5, 7), decodeFieldList(filtered));
+
+		/* A payload with no fields outside the view, or of another container type, is delivered as is. */
+		WlView wideView = viewHandler.viewCreate(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}, 11, ViewTypes.FIELD_ID_LIST, errorInfo);
+		assertNull(viewFilter.filter(msg, wideView, viewHandler, Codec.majorVersion(), Codec.minorVersion()));
+		WlView elementView = viewHandler.viewCreate(new int[] {viewHandler.elementNameId("BID")}, 1, ViewTypes.ELEMENT_NAME_LIST, errorInfo);
+		assertNull(viewFilter.filter(msg, elementView, viewHandler, Codec.majorVersion(), Codec.minorVersion()));
+
+		/* The next message is filtered again. */
+		viewFilter.clear();
+		msg = fieldListUpdate(2, 3);
+		assertEquals(fids(2), decodeFieldList(viewFilter.filter(msg, view, viewHandler, Codec.majorVersion(), Codec.minorVersion())));
+	}
+
+	@Test
+	public void elementListViewFilterTest()
+	{
+		WlViewHandler viewHandler = new WlViewHandler(null);
+		WlViewFilter viewFilter = new WlViewFilter();
+		ReactorErrorInfo errorInfo = ReactorFactory.createReactorErrorInfo();
+
+		Msg msg = CodecFactory.createMsg();
+		msg.msgClass(MsgClasses.UPDATE);
+		msg.containerType(DataTypes.ELEMENT_LIST);
+		Buffer body = CodecFactory.createBuffer();
+		body.data(ByteBuffer.allocate(256));
+		EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+		encodeIter.setBufferAndRWFVersion(body, Codec.majorVersion(), Codec.minorVersion());
+		ElementList elementList = CodecFactory.createElementList();
+		ElementEntry elementEntry = CodecFactory.createElementEntry();
+		UInt value = CodecFactory.createUInt();
+		elementList.applyHasStandardData();
+		assertEquals(CodecReturnCodes.SUCCESS, elementList.encodeInit(encodeIter, null, 0));
+		for (String name : new String[] {"BID", "ASK", "VOLUME"})
+		{
+			elementEntry.clear();
+			elementEntry.name().data(name);
+			elementEntry.dataType(DataTypes.UINT);
+			value.value(name.length());
+			assertEquals(CodecReturnCodes.SUCCESS, elementEntry.encode(encodeIter, value));
+		}
+		assertEquals(CodecReturnCodes.SUCCESS, elementList.encodeComplete(encodeIter, true));
+		msg.encodedDataBody(body);
+
+		WlView view = viewHandler.viewCreate(new int[] {viewHandler.elementNameId("VOLUME"), viewHandler.elementNameId("ASK"),
+				viewHandler.elementNameId("TRDPRC_1")}, 3, ViewTypes.ELEMENT_NAME_LIST, errorInfo);
+		Buffer filtered = viewFilter.filter(msg, view, viewHandler, Codec.majorVersion(), Codec.minorVersion());
+		assertNotNull(filtered);
+
+		DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+		decodeIter.setBufferAndRWFVersion(filtered, Codec.majorVersion(), Codec.minorVersion());
+		assertEquals(CodecReturnCodes.SUCCESS, elementList.decode(decodeIter, null));
+		List<String> names = new ArrayList<String>();
+		int ret;
+		while ((ret = elementEntry.decode(decodeIter)) != CodecReturnCodes.END_OF_CONTAINER)
+		{
+			assertEquals(CodecReturnCodes.SUCCESS, ret);
+			assertEquals(CodecReturnCodes.SUCCESS, value.decode(decodeIter));
+			assertEquals(elementEntry.name().length(), value.toLong());
+			names.add(elementEntry.name().toString());
+		}
+		assertEquals(Arrays.asList("ASK", "VOLUME"), names);
+	}
+
+	private static Msg fieldListUpdate(int... fieldIds)
+	{
+		Buffer body = CodecFactory.createBuffer();
+		body.data(ByteBuffer.allocate(256));
+		EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+		encodeIter.setBufferAndRWFVersion(body, Codec.majorVersion(), Codec.minorVersion());
+		FieldList fieldList = CodecFactory.createFieldList();
+		FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+		Int value = CodecFactory.createInt();
+		fieldList.applyHasStandardData();
+		fieldList.applyHasInfo();
+		fieldList.dictionaryId(1);
+		fieldList.fieldListNum(5);
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeInit(encodeIter, null, 0));
+		for (int fieldId : fieldIds)
+		{
+			fieldEntry.clear();
+			fieldEntry.fieldId(fieldId);
+			fieldEntry.dataType(DataTypes.INT);
+			value.value(fieldId * 100);
+			assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(encodeIter, value));
+		}
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeComplete(encodeIter, true));
+
+		Msg msg = CodecFactory.createMsg();
+		msg.msgClass(MsgClasses.UPDATE);
+		msg.containerType(DataTypes.FIELD_LIST);
+		msg.encodedDataBody(body);
+		return msg;
+	}
+
+	/* Decodes the field ids of a filtered field list, checking its info and values. */
+	private static List<Integer> decodeFieldList(Buffer buffer)
+	{
+		DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+		decodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+		FieldList fieldList = CodecFactory.createFieldList();
+		FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+		Int value = CodecFactory.createInt();
+		List<Integer> fieldIds = new ArrayList<Integer>();
+
+		assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(decodeIter, null));
+		assertTrue(fieldList.checkHasInfo());
+		assertEquals(1, fieldList.dictionaryId());
+		assertEquals(5, fieldList.fieldListNum());
+		int ret;
+		while ((ret = fieldEntry.decode(decodeIter)) != CodecReturnCodes.END_OF_CONTAINER)
+		{
+			assertEquals(CodecReturnCodes.SUCCESS, ret);
+			assertEquals(CodecReturnCodes.SUCCESS, value.decode(decodeIter));
+			assertEquals(fieldEntry.fieldId() * 100, value.toLong());
+			fieldIds.add(fieldEntry.fieldId());
+		}
+		return fieldIds;
+	}
+
+	private static List<Integer> fids(int... fids)
+	{
+		List<Integer> list = new ArrayList<Integer>();
+		for (int fid : fids)
+			list.add(fid);
+		return list;
+	}
+
+	private static WlRequest viewRequest(WlView view)
+	{
+		WlRequest wlRequest = ReactorFactory.createWlRequest();
+		wlRequest.requestMsg().applyHasView();
+		wlRequest.view(view);
+		return wlRequest;
+	}
+
+	private static List<Integer> encodeAndDecodeFieldIds(WlViewHandler viewHandler, WlView aggView)
+	{
+		List<Integer> fieldIds = new ArrayList<Integer>();
+		assertEquals(ViewTypes.FIELD_ID_LIST, decodeView(encode(viewHandler, aggView), fieldIds, null));
+		return fieldIds;
+	}
+
+	private static Buffer encode(WlViewHandler viewHandler, WlView aggView)
+	{
+		Buffer buffer = CodecFactory.createBuffer();
+		buffer.data(ByteBuffer.allocate(1024));
+		EncodeIterator encodeIter = CodecFactory.createEncodeIterator();
+		encodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+		assertEquals(CodecReturnCodes.SUCCESS, viewHandler.encodeViewRequest(encodeIter, aggView));
+		return buffer;
+	}
+
+	/* Decodes a view payload into the field id or element name list and returns its view type. */
+	private static int decodeView(Buffer buffer, List<Integer> fieldIds, List<String> elementNames)
+	{
+		DecodeIterator decodeIter = CodecFactory.createDecodeIterator();
+		decodeIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+		ElementList elementList = CodecFactory.createElementList();
+		ElementEntry elementEntry = CodecFactory.createElementEntry();
+		Array array = CodecFactory.createArray();
+		ArrayEntry arrayEntry = CodecFactory.createArrayEntry();
+		UInt viewType = CodecFactory.createUInt();
+		Int fieldId = CodecFactory.createInt();
+		Buffer elementName = CodecFactory.createBuffer();
+
+		assertEquals(CodecReturnCodes.SUCCESS, elementList.decode(decodeIter, null));
+		int ret;
+		while ((ret = elementEntry.decode(decodeIter)) != CodecReturnCodes.END_OF_CONTAINER)
+		{
+			assertEquals(CodecReturnCodes.SUCCESS, ret);
+			if (elementEntry.name().equals(ElementNames.VIEW_TYPE))
+				assertEquals(CodecReturnCodes.SUCCESS, viewType.decode(decodeIter));
+			else if (elementEntry.name().equals(ElementNames.VIEW_DATA))
+			{
+				assertEquals(CodecReturnCodes.SUCCESS, array.decode(decodeIter));
+				while ((ret = arrayEntry.decode(decodeIter)) != CodecReturnCodes.END_OF_CONTAINER)
+				{
+					assertEquals(CodecReturnCodes.SUCCESS, ret);
+					if (fieldIds != null)
+					{
+						assertEquals(CodecReturnCodes.SUCCESS, fieldId.decode(decodeIter));
+						fieldIds.add((int)fieldId.toLong());
+					}
+					else
+					{
+						assertEquals(CodecReturnCodes.SUCCESS, elementName.decode(decodeIter));
+						elementNames.add(elementName.toString());
+					}
+				}
+			}
+		}
+		return (int)viewType.toLong();
+	}
+}
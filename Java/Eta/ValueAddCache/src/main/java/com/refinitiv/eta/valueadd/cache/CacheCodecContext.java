@@ -0,0 +1,208 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.Date;
+import com.refinitiv.eta.codec.DateTime;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.Double;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.FilterEntry;
+import com.refinitiv.eta.codec.FilterList;
+import com.refinitiv.eta.codec.Float;
+import com.refinitiv.eta.codec.Int;
+import com.refinitiv.eta.codec.LocalElementSetDefDb;
+import com.refinitiv.eta.codec.LocalFieldSetDefDb;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.Series;
+import com.refinitiv.eta.codec.SeriesEntry;
+import com.refinitiv.eta.codec.Time;
+import com.refinitiv.eta.codec.UInt;
+import com.refinitiv.eta.codec.Vector;
+import com.refinitiv.eta.codec.VectorEntry;
+
+/* Codec objects shared by the entries of a Java payload cache while applying and retrieving data.
+ * A top level container and the payload of its entries are never of the same type,
+ * so a single decoder and encoder object of each container type is enough. */
+class CacheCodecContext
+{
+    private static final int SET_DATA_BUFFER_SIZE = 64;
+
+    DataDictionary _dictionary = null;
+    CacheError _error = null;
+
+    final DecodeIterator _decodeIter = CodecFactory.createDecodeIterator();
+    final Buffer _decodeBuffer = CodecFactory.createBuffer();
+
+    final FieldList _decFieldList = CodecFactory.createFieldList();
+    final FieldEntry _decFieldEntry = CodecFactory.createFieldEntry();
+    final ElementList _decElementList = CodecFactory.createElementList();
+    final ElementEntry _decElementEntry = CodecFactory.createElementEntry();
+    final Map _decMap = CodecFactory.createMap();
+    final MapEntry _decMapEntry = CodecFactory.createMapEntry();
+    final Vector _decVector = CodecFactory.createVector();
+    final VectorEntry _decVectorEntry = CodecFactory.createVectorEntry();
+    final FilterList _decFilterList = CodecFactory.createFilterList();
+    final FilterEntry _decFilterEntry = CodecFactory.createFilterEntry();
+    final Series _decSeries = CodecFactory.createSeries();
+    final SeriesEntry _decSeriesEntry = CodecFactory.createSeriesEntry();
+    final LocalFieldSetDefDb _fieldSetDefDb = CodecFactory.createLocalFieldSetDefDb();
+    final LocalElementSetDefDb _elementSetDefDb = CodecFactory.createLocalElementSetDefDb();
+
+    final FieldList _encFieldList = CodecFactory.createFieldList();
+    final FieldEntry _encFieldEntry = CodecFactory.createFieldEntry();
+    final ElementList _encElementList = CodecFactory.createElementList();
+    final ElementEntry _encElementEntry = CodecFactory.createElementEntry();
+    final Map _encMap = CodecFactory.createMap();
+    final MapEntry _encMapEntry = CodecFactory.createMapEntry();
+    final Vector _encVector = CodecFactory.createVector();
+    final VectorEntry _encVectorEntry = CodecFactory.createVectorEntry();
+    final FilterList _encFilterList = CodecFactory.createFilterList();
+    final FilterEntry _encFilterEntry = CodecFactory.createFilterEntry();
+    final Series _encSeries = CodecFactory.createSeries();
+    final SeriesEntry _encSeriesEntry = CodecFactory.createSeriesEntry();
+
+    // buffers pointing into the cached data while encoding
+    final Buffer _encodedData = CodecFactory.createBuffer();
+    final Buffer _encodedKey = CodecFactory.createBuffer();
+    final Buffer _encodedPermData = CodecFactory.createBuffer();
+    final Buffer _encodedName = CodecFactory.createBuffer();
+
+    // view of the decoded buffer used to look up cached map keys
+    private ByteBuffer _keyView = null;
+    private ByteBuffer _keyViewSource = null;
+
+    // conversion of set defined data to the standard encoding
+    private final Int _int = CodecFactory.createInt();
+    private final UInt _uint = CodecFactory.createUInt();
+    private final Float _float = CodecFactory.createFloat();
+    private final Double _double = CodecFactory.createDouble();
+    private final Real _real = CodecFactory.createReal();
+    private final Date _date = CodecFactory.createDate();
+    private final Time _time = CodecFactory.createTime();
+    private final DateTime _dateTime = CodecFactory.createDateTime();
+    private final EncodeIterator _setDataEncodeIter = CodecFactory.createEncodeIterator();
+    private final ByteBuffer _setDataByteBuffer = ByteBuffer.allocate(SET_DATA_BUFFER_SIZE);
+    private final Buffer _setDataEncodeBuffer = CodecFactory.createBuffer();
+    private final Buffer _setData = CodecFactory.createBuffer();
+
+    /* Returns the standard encoding of the set defined entry the iterator is positioned on,
+     * or null if it cannot be decoded. */
+    Buffer standardData(DecodeIterator dIter, int dataType, Buffer encodedData)
+    {
+        int ret;
+
+        _setDataByteBuffer.clear();
+        _setDataEncodeBuffer.data(_setDataByteBuffer);
+        _setDataEncodeIter.clear();
+        _setDataEncodeIter.setBufferAndRWFVersion(_setDataEncodeBuffer, dIter.majorVersion(), dIter.minorVersion());
+
+        switch (dataType)
+        {
+            case DataTypes.INT:
+                if ((ret = _int.decode(dIter)) == CodecReturnCodes.SUCCESS)
+                    ret = _int.encode(_setDataEncodeIter);
+                break;
+            case DataTypes.UINT:
+                if ((ret = _uint.decode(dIter)) == CodecReturnCodes.SUCCESS)
+                    ret = _uint.encode(_setDataEncodeIter);
+                break;
+            case DataTypes.FLOAT:
+                if ((ret = _float.decode(dIter)) == CodecReturnCodes.SUCCESS)
+                    ret = _float.encode(_setDataEncodeIter);
+                break;
+            case DataTypes.DOUBLE:
+                if ((ret = _double.decode(dIter)) == CodecReturnCodes.SUCCESS)
+                    ret = _double.encode(_setDataEncodeIter);
+                break;
+            case DataTypes.REAL:
+                if ((ret = _real.decode(dIter)) == CodecReturnCodes.SUCCESS)
+                    ret = _real.encode(_setDataEncodeIter);
+                break;
+            case DataTypes.DATE:
+                if ((ret = _date.decode(dIter)) == CodecReturnCodes.SUCCESS)
+                    ret = _date.encode(_setDataEncodeIter);
+                break;
+            case DataTypes.TIME:
+                if ((ret = _time.decode(dIter)) == CodecReturnCodes.SUCCESS)
+                    ret = _time.encode(_setDataEncodeIter);
+                break;
+            case DataTypes.DATETIME:
+                if ((ret = _dateTime.decode(dIter)) == CodecReturnCodes.SUCCESS)
+                    ret = _dateTime.encode(_setDataEncodeIter);
+                break;
+            default:
+                // length specified types have the same encoding in set data
+                return encodedData;
+        }
+
+        if (ret == CodecReturnCodes.BLANK_DATA)
+        {
+            _setData.data(_setDataByteBuffer, 0, 0);
+            return _setData;
+        }
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return null;
+
+        _setData.data(_setDataByteBuffer, 0, _setDataByteBuffer.position());
+        return _setData;
+    }
+
+    /* Decodes the local set definitions of the container the iterator is positioned on.
+     * Returns null if they cannot be decoded. */
+    Object decodeSetDefs(DecodeIterator dIter, int containerType)
+    {
+        switch (containerType)
+        {
+            case DataTypes.FIELD_LIST:
+                _fieldSetDefDb.clear();
+                return _fieldSetDefDb.decode(dIter) == CodecReturnCodes.SUCCESS ? _fieldSetDefDb : null;
+            case DataTypes.ELEMENT_LIST:
+                _elementSetDefDb.clear();
+                return _elementSetDefDb.decode(dIter) == CodecReturnCodes.SUCCESS ? _elementSetDefDb : null;
+            default:
+                return null;
+        }
+    }
+
+    /* Returns a view of the key bytes that compares equal to the cached key with the same content.
+     * The view is only valid until the next call. */
+    ByteBuffer keyView(Buffer key)
+    {
+        ByteBuffer source = key.data();
+        if (source != _keyViewSource)
+        {
+            _keyViewSource = source;
+            _keyView = source.duplicate();
+        }
+
+        _keyView.clear();
+        _keyView.position(key.position());
+        _keyView.limit(key.position() + key.length());
+        return _keyView;
+    }
+
+    int populateError(int returnCode, String text)
+    {
+        return JavaPayloadCacheImpl.populateErrorInfo(_error, returnCode, text);
+    }
+}
@@ -22,6 +22,7 @@ public class CacheFactory
 
 	/**
 	 * Creates an instance of a payload cache container.
+	 * The implementation is selected by {@link PayloadCacheConfigOptions#cacheType()}.
 	 *
 	 * This is a thread safe method. 
 	 * @param configOptions The options for configuring this cache container
@@ -42,6 +43,9 @@ public class CacheFactory
 			return null;
 		}
 
+		if ( configOptions.cacheType() == PayloadCacheTypes.JAVA )
+			return JavaPayloadCacheImpl.create(configOptions, error);
+
 		return PayloadCacheImpl.create(configOptions, error);
 	}
 	
@@ -67,11 +71,15 @@ public class CacheFactory
 			return null;
 		}
 
+		if ( cacheInstance instanceof JavaPayloadCacheImpl )
+			return JavaPayloadEntryImpl.create((JavaPayloadCacheImpl)cacheInstance, error);
+
 		return PayloadEntryImpl.create(cacheInstance, error);
 	}
 	
 	/**
 	 * Creates an instance of a payload entry cursor.
+	 * The cursor can be used with entries of either cache implementation.
 	 *
 	 * This is a thread safe method.
 	 * @return The payload cursor
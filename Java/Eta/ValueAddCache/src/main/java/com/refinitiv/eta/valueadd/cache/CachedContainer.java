@@ -0,0 +1,121 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+
+/* Decoded image of an OMM container held by a Java payload entry. */
+abstract class CachedContainer
+{
+    static final ByteBuffer EMPTY_DATA = ByteBuffer.allocate(0);
+
+    /* Returns the container type of the image. */
+    abstract int containerType();
+
+    /* Applies the container the iterator is positioned on to the image. encodedData is the encoded container
+     * and setDb is the local set definition database of the enclosing container, or null. */
+    abstract int apply(DecodeIterator dIter, Buffer encodedData, CacheCodecContext context, Object setDb);
+
+    /* Encodes the image. When cursor is not null, the entries that do not fit
+     * are left for the next call and the cursor records where to resume. */
+    abstract int encode(EncodeIterator eIter, CacheCodecContext context, PayloadCursorImpl cursor);
+
+    /* Removes all data from the image. */
+    abstract void clear();
+
+    /* Creates the image of a message payload. */
+    static CachedContainer create(int containerType)
+    {
+        switch (containerType)
+        {
+            case DataTypes.FIELD_LIST:
+                return new CachedFieldList();
+            case DataTypes.ELEMENT_LIST:
+                return new CachedElementList();
+            case DataTypes.MAP:
+                return new CachedMap();
+            case DataTypes.VECTOR:
+                return new CachedVector();
+            case DataTypes.FILTER_LIST:
+                return new CachedFilterList();
+            case DataTypes.SERIES:
+                return new CachedSeries();
+            default:
+                return null;
+        }
+    }
+
+    /* Creates the image of a container entry payload. Field and element lists are merged
+     * by updates, any other payload is kept encoded and replaced. */
+    static CachedContainer createEntryPayload(int containerType)
+    {
+        switch (containerType)
+        {
+            case DataTypes.FIELD_LIST:
+                return new CachedFieldList();
+            case DataTypes.ELEMENT_LIST:
+                return new CachedElementList();
+            case DataTypes.NO_DATA:
+                return null;
+            default:
+                return new CachedEncodedData(containerType);
+        }
+    }
+
+    /* Returns whether updates are merged into the image, otherwise the image is replaced. */
+    boolean isMergeable()
+    {
+        return true;
+    }
+
+    /* Returns the image as pre-encoded entry data, or null if it is encoded
+     * between the encodeInit and encodeComplete calls of the entry. */
+    Buffer preEncodedData(CacheCodecContext context)
+    {
+        return null;
+    }
+
+    /* Returns the image an entry payload is applied to: the current image when it has the same type,
+     * cleared first unless the payload is merged into it, otherwise a new image.
+     * Returns null if the entry has no payload. */
+    static CachedContainer entryPayload(CachedContainer current, boolean merge, int containerType)
+    {
+        if (current != null && current.containerType() == containerType)
+        {
+            if (!merge || !current.isMergeable())
+                current.clear();
+            return current;
+        }
+
+        return createEntryPayload(containerType);
+    }
+
+    static ByteBuffer copyOf(Buffer buffer)
+    {
+        int length = buffer.length();
+        if (length == 0)
+            return EMPTY_DATA;
+
+        byte[] data = new byte[length];
+        buffer.copy(data);
+        return ByteBuffer.wrap(data);
+    }
+
+    /* Points the buffer to the cached data. */
+    static Buffer wrap(Buffer buffer, ByteBuffer data)
+    {
+        buffer.data(data, 0, data.capacity());
+        return buffer;
+    }
+}
@@ -0,0 +1,29 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+/* Entry of a cached map, vector, filter list or series. */
+class CachedContainerEntry
+{
+    // encoded map key
+    ByteBuffer _key = null;
+    // vector index
+    long _index = 0;
+    // filter entry id and container type
+    int _id = 0;
+    int _containerType = 0;
+    // vector entry that was cleared
+    boolean _cleared = false;
+    ByteBuffer _permData = null;
+    CachedContainer _payload = null;
+    // position in the entry list of the container
+    int _position = 0;
+}
@@ -0,0 +1,162 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementEntry;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.LocalElementSetDefDb;
+
+/* Element list image. Elements are kept in arrival order and an update replaces
+ * the value of the element with the same name, reusing its storage when it fits. */
+class CachedElementList extends CachedContainer
+{
+    private static final int INITIAL_ELEMENTS = 8;
+
+    private boolean _hasInfo;
+    private int _elementListNum;
+
+    private int _count;
+    private ByteBuffer[] _names = new ByteBuffer[INITIAL_ELEMENTS];
+    private int[] _dataTypes = new int[INITIAL_ELEMENTS];
+    private ByteBuffer[] _values = new ByteBuffer[INITIAL_ELEMENTS];
+    private int[] _lengths = new int[INITIAL_ELEMENTS];
+
+    @Override
+    int containerType()
+    {
+        return DataTypes.ELEMENT_LIST;
+    }
+
+    @Override
+    int apply(DecodeIterator dIter, Buffer encodedData, CacheCodecContext context, Object setDb)
+    {
+        ElementList elementList = context._decElementList;
+        ElementEntry elementEntry = context._decElementEntry;
+        elementList.clear();
+        int ret = elementList.decode(dIter, (LocalElementSetDefDb)setDb);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return context.populateError(ret, "CachedElementList.apply error: unable to decode element list.");
+
+        if (elementList.checkHasInfo())
+        {
+            _hasInfo = true;
+            _elementListNum = elementList.elementListNum();
+        }
+
+        boolean hasSetData = elementList.checkHasSetData();
+        elementEntry.clear();
+        while ((ret = elementEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return context.populateError(ret, "CachedElementList.apply error: unable to decode element entry.");
+
+            Buffer value = elementEntry.encodedData();
+            // set defined entries are stored with the standard encoding
+            if (hasSetData && elementEntry.dataType() < DataTypes.CONTAINER_TYPE_MIN
+                    && (value = context.standardData(dIter, elementEntry.dataType(), value)) == null)
+                return context.populateError(CodecReturnCodes.INVALID_DATA,
+                                             "CachedElementList.apply error: unable to decode set defined element " + elementEntry.name().toString() + ".");
+
+            put(elementEntry.name(), elementEntry.dataType(), value, context);
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int encode(EncodeIterator eIter, CacheCodecContext context, PayloadCursorImpl cursor)
+    {
+        ElementList elementList = context._encElementList;
+        ElementEntry elementEntry = context._encElementEntry;
+
+        elementList.clear();
+        elementList.applyHasStandardData();
+        if (_hasInfo)
+        {
+            elementList.applyHasInfo();
+            elementList.elementListNum(_elementListNum);
+        }
+
+        int ret = elementList.encodeInit(eIter, null, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            elementList.encodeComplete(eIter, false);
+            return ret;
+        }
+
+        for (int pos = 0; pos < _count; ++pos)
+        {
+            elementEntry.clear();
+            elementEntry.name(wrap(context._encodedName, _names[pos]));
+            elementEntry.dataType(_dataTypes[pos]);
+            context._encodedData.data(_values[pos], 0, _lengths[pos]);
+            elementEntry.encodedData(context._encodedData);
+            if ((ret = elementEntry.encode(eIter)) < CodecReturnCodes.SUCCESS)
+            {
+                elementList.encodeComplete(eIter, false);
+                return ret;
+            }
+        }
+
+        if (cursor != null)
+            cursor.setComplete(true);
+
+        return elementList.encodeComplete(eIter, true);
+    }
+
+    @Override
+    void clear()
+    {
+        _hasInfo = false;
+        _elementListNum = 0;
+        Arrays.fill(_names, 0, _count, null);
+        Arrays.fill(_values, 0, _count, null);
+        _count = 0;
+    }
+
+    private void put(Buffer name, int dataType, Buffer value, CacheCodecContext context)
+    {
+        int pos = 0;
+        while (pos < _count && !wrap(context._encodedName, _names[pos]).equals(name))
+            ++pos;
+
+        if (pos == _count)
+        {
+            if (_count == _names.length)
+            {
+                int size = _count * 2;
+                _names = Arrays.copyOf(_names, size);
+                _dataTypes = Arrays.copyOf(_dataTypes, size);
+                _values = Arrays.copyOf(_values, size);
+                _lengths = Arrays.copyOf(_lengths, size);
+            }
+            _names[pos] = copyOf(name);
+            _values[pos] = EMPTY_DATA;
+            ++_count;
+        }
+
+        int length = value.length();
+        if (length > _values[pos].capacity())
+            _values[pos] = ByteBuffer.allocate(length);
+
+        value.copy(_values[pos].array(), 0);
+        _dataTypes[pos] = dataType;
+        _lengths[pos] = length;
+    }
+}
@@ -0,0 +1,67 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+
+/* Entry payload kept in its encoded form, replaced by each update. */
+class CachedEncodedData extends CachedContainer
+{
+    private final int _containerType;
+    private ByteBuffer _data = EMPTY_DATA;
+
+    CachedEncodedData(int containerType)
+    {
+        _containerType = containerType;
+    }
+
+    @Override
+    int containerType()
+    {
+        return _containerType;
+    }
+
+    @Override
+    boolean isMergeable()
+    {
+        return false;
+    }
+
+    @Override
+    int apply(DecodeIterator dIter, Buffer encodedData, CacheCodecContext context, Object setDb)
+    {
+        _data = copyOf(encodedData);
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    Buffer preEncodedData(CacheCodecContext context)
+    {
+        return wrap(context._encodedData, _data);
+    }
+
+    @Override
+    int encode(EncodeIterator eIter, CacheCodecContext context, PayloadCursorImpl cursor)
+    {
+        // only retrieved as the payload of a container entry
+        return context.populateError(CodecReturnCodes.FAILURE,
+                                     "CachedEncodedData.encode error: the payload can only be encoded as entry data.");
+    }
+
+    @Override
+    void clear()
+    {
+        _data = EMPTY_DATA;
+    }
+}
@@ -0,0 +1,142 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.ArrayList;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.EncodeIterator;
+
+/* Image of a container with entries. The entries are encoded in list order and can be
+ * retrieved in several parts, the cursor holding the list position of the next entry.
+ * Removed entries leave a hole in the list until the next retrieval from the first entry,
+ * so the positions of a multi-part retrieval are not moved by removals in between. */
+abstract class CachedEntryContainer extends CachedContainer
+{
+    final ArrayList<CachedContainerEntry> _entries = new ArrayList<CachedContainerEntry>();
+    private int _removedCount;
+
+    /* Starts encoding the container; the summary data is only encoded in the first part. */
+    abstract int encodeInit(EncodeIterator eIter, CacheCodecContext context, boolean firstPart);
+
+    abstract int encodeEntry(EncodeIterator eIter, CacheCodecContext context, CachedContainerEntry entry);
+
+    abstract int encodeComplete(EncodeIterator eIter, CacheCodecContext context, boolean success);
+
+    @Override
+    int encode(EncodeIterator eIter, CacheCodecContext context, PayloadCursorImpl cursor)
+    {
+        int position = cursor != null ? cursor._position : 0;
+        if (position == 0)
+            compact();
+
+        int ret = encodeInit(eIter, context, position == 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            encodeComplete(eIter, context, false);
+            return ret;
+        }
+
+        int encodedCount = 0;
+        for (; position < _entries.size(); ++position)
+        {
+            CachedContainerEntry entry = _entries.get(position);
+            if (entry == null)
+                continue;
+
+            if ((ret = encodeEntry(eIter, context, entry)) < CodecReturnCodes.SUCCESS)
+            {
+                // the entry starts the next part
+                if (ret == CodecReturnCodes.BUFFER_TOO_SMALL && cursor != null && encodedCount > 0)
+                    break;
+
+                encodeComplete(eIter, context, false);
+                return ret;
+            }
+            ++encodedCount;
+        }
+
+        if ((ret = encodeComplete(eIter, context, true)) < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        if (cursor != null)
+        {
+            cursor._position = position;
+            cursor.setComplete(position == _entries.size());
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    void clear()
+    {
+        _entries.clear();
+        _removedCount = 0;
+    }
+
+    int count()
+    {
+        return _entries.size() - _removedCount;
+    }
+
+    void add(CachedContainerEntry entry)
+    {
+        entry._position = _entries.size();
+        _entries.add(entry);
+    }
+
+    void insert(int position, CachedContainerEntry entry)
+    {
+        _entries.add(position, entry);
+        for (int pos = position; pos < _entries.size(); ++pos)
+        {
+            CachedContainerEntry next = _entries.get(pos);
+            if (next != null)
+                next._position = pos;
+        }
+    }
+
+    void remove(CachedContainerEntry entry)
+    {
+        _entries.set(entry._position, null);
+        ++_removedCount;
+    }
+
+    /* Returns the payload of an entry as pre-encoded entry data, or null if it is encoded
+     * between the encodeInit and encodeComplete calls of the entry. */
+    static Buffer preEncodedData(CachedContainerEntry entry, CacheCodecContext context)
+    {
+        if (entry._payload == null)
+            return wrap(context._encodedData, EMPTY_DATA);
+
+        return entry._payload.preEncodedData(context);
+    }
+
+    private void compact()
+    {
+        if (_removedCount == 0)
+            return;
+
+        int position = 0;
+        for (int pos = 0; pos < _entries.size(); ++pos)
+        {
+            CachedContainerEntry entry = _entries.get(pos);
+            if (entry != null)
+            {
+                entry._position = position;
+                _entries.set(position++, entry);
+            }
+        }
+
+        _entries.subList(position, _entries.size()).clear();
+        _removedCount = 0;
+    }
+}
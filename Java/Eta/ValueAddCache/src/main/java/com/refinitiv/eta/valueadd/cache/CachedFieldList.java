@@ -0,0 +1,265 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.LocalFieldSetDefDb;
+
+/* Field list image. Each field has a slot in primitive arrays holding its fid and the range
+ * of its encoded value in a single byte array, and slots are found through an open addressing
+ * table keyed by fid. An update overwrites the value in place when it fits in the space of the
+ * previous value, so retrieving copies the encoded values without decoding them. */
+class CachedFieldList extends CachedContainer
+{
+    private static final int INITIAL_SLOTS = 16;
+    private static final int INITIAL_DATA_SIZE = 256;
+
+    private boolean _hasInfo;
+    private int _dictionaryId;
+    private int _fieldListNum;
+
+    private int _count;
+    private short[] _fids = new short[INITIAL_SLOTS];
+    private int[] _offsets = new int[INITIAL_SLOTS];
+    private int[] _lengths = new int[INITIAL_SLOTS];
+    private int[] _capacities = new int[INITIAL_SLOTS];
+    // slot + 1 of each fid, zero for an empty bucket
+    private int[] _table = new int[INITIAL_SLOTS * 2];
+
+    private byte[] _data = new byte[INITIAL_DATA_SIZE];
+    private ByteBuffer _dataBuffer = ByteBuffer.wrap(_data);
+    private int _dataLength;
+    // bytes of values that were moved by larger updates
+    private int _unusedLength;
+
+    @Override
+    int containerType()
+    {
+        return DataTypes.FIELD_LIST;
+    }
+
+    @Override
+    int apply(DecodeIterator dIter, Buffer encodedData, CacheCodecContext context, Object setDb)
+    {
+        if (context._dictionary == null)
+            return context.populateError(CodecReturnCodes.INVALID_ARGUMENT,
+                                         "CachedFieldList.apply error: the cache has no field dictionary, data not apply.");
+
+        FieldList fieldList = context._decFieldList;
+        FieldEntry fieldEntry = context._decFieldEntry;
+        fieldList.clear();
+        int ret = fieldList.decode(dIter, (LocalFieldSetDefDb)setDb);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return context.populateError(ret, "CachedFieldList.apply error: unable to decode field list.");
+
+        if (fieldList.checkHasInfo())
+        {
+            _hasInfo = true;
+            _dictionaryId = fieldList.dictionaryId();
+            _fieldListNum = fieldList.fieldListNum();
+        }
+
+        fieldEntry.clear();
+        while ((ret = fieldEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return context.populateError(ret, "CachedFieldList.apply error: unable to decode field entry.");
+
+            Buffer value = fieldEntry.encodedData();
+            // set defined entries are stored with the standard encoding
+            if (fieldEntry.dataType() != DataTypes.UNKNOWN
+                    && (value = context.standardData(dIter, fieldEntry.dataType(), value)) == null)
+                return context.populateError(CodecReturnCodes.INVALID_DATA,
+                                             "CachedFieldList.apply error: unable to decode set defined field " + fieldEntry.fieldId() + ".");
+
+            put(fieldEntry.fieldId(), value);
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int encode(EncodeIterator eIter, CacheCodecContext context, PayloadCursorImpl cursor)
+    {
+        FieldList fieldList = context._encFieldList;
+        FieldEntry fieldEntry = context._encFieldEntry;
+        Buffer value = context._encodedData;
+
+        fieldList.clear();
+        fieldList.applyHasStandardData();
+        if (_hasInfo)
+        {
+            fieldList.applyHasInfo();
+            fieldList.dictionaryId(_dictionaryId);
+            fieldList.fieldListNum(_fieldListNum);
+        }
+
+        int ret = fieldList.encodeInit(eIter, null, 0);
+        if (ret < CodecReturnCodes.SUCCESS)
+        {
+            fieldList.encodeComplete(eIter, false);
+            return ret;
+        }
+
+        for (int slot = 0; slot < _count; ++slot)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(_fids[slot]);
+            value.data(_dataBuffer, _offsets[slot], _lengths[slot]);
+            fieldEntry.encodedData(value);
+            if ((ret = fieldEntry.encode(eIter)) < CodecReturnCodes.SUCCESS)
+            {
+                fieldList.encodeComplete(eIter, false);
+                return ret;
+            }
+        }
+
+        if (cursor != null)
+            cursor.setComplete(true);
+
+        return fieldList.encodeComplete(eIter, true);
+    }
+
+    @Override
+    void clear()
+    {
+        _hasInfo = false;
+        _dictionaryId = 0;
+        _fieldListNum = 0;
+        _count = 0;
+        _dataLength = 0;
+        _unusedLength = 0;
+        Arrays.fill(_table, 0);
+    }
+
+    int count()
+    {
+        return _count;
+    }
+
+    private void put(int fieldId, Buffer value)
+    {
+        int length = value.length();
+        int slot = find(fieldId);
+        if (slot < 0)
+        {
+            int offset = allocate(length);
+            slot = addSlot(fieldId);
+            _offsets[slot] = offset;
+            _capacities[slot] = length;
+        }
+        else if (length > _capacities[slot])
+        {
+            // the previous value is dropped if the data is compacted
+            _unusedLength += _capacities[slot];
+            _lengths[slot] = 0;
+            _offsets[slot] = allocate(length);
+            _capacities[slot] = length;
+        }
+
+        value.copy(_data, _offsets[slot]);
+        _lengths[slot] = length;
+    }
+
+    private int find(int fieldId)
+    {
+        int mask = _table.length - 1;
+        for (int bucket = hash(fieldId) & mask; _table[bucket] != 0; bucket = (bucket + 1) & mask)
+        {
+            int slot = _table[bucket] - 1;
+            if (_fids[slot] == fieldId)
+                return slot;
+        }
+
+        return -1;
+    }
+
+    private int addSlot(int fieldId)
+    {
+        if (_count == _fids.length)
+        {
+            int size = _count * 2;
+            _fids = Arrays.copyOf(_fids, size);
+            _offsets = Arrays.copyOf(_offsets, size);
+            _lengths = Arrays.copyOf(_lengths, size);
+            _capacities = Arrays.copyOf(_capacities, size);
+        }
+
+        int slot = _count++;
+        _fids[slot] = (short)fieldId;
+
+        if (_count * 2 > _table.length)
+        {
+            _table = new int[_table.length * 2];
+            for (int pos = 0; pos < _count; ++pos)
+                insert(_fids[pos], pos);
+        }
+        else
+            insert(fieldId, slot);
+
+        return slot;
+    }
+
+    private void insert(int fieldId, int slot)
+    {
+        int mask = _table.length - 1;
+        int bucket = hash(fieldId) & mask;
+        while (_table[bucket] != 0)
+            bucket = (bucket + 1) & mask;
+        _table[bucket] = slot + 1;
+    }
+
+    private static int hash(int fieldId)
+    {
+        int h = fieldId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Returns the offset of a new value of the given length, compacting or growing the data array if needed.
+    private int allocate(int length)
+    {
+        if (_dataLength + length > _data.length)
+        {
+            int liveLength = _dataLength - _unusedLength;
+            int size = _data.length;
+            while (liveLength + length > size / 2)
+                size *= 2;
+
+            byte[] data = new byte[size];
+            int offset = 0;
+            for (int slot = 0; slot < _count; ++slot)
+            {
+                System.arraycopy(_data, _offsets[slot], data, offset, _lengths[slot]);
+                _offsets[slot] = offset;
+                _capacities[slot] = _lengths[slot];
+                offset += _lengths[slot];
+            }
+
+            _data = data;
+            _dataBuffer = ByteBuffer.wrap(data);
+            _dataLength = offset;
+            _unusedLength = 0;
+        }
+
+        int offset = _dataLength;
+        _dataLength += length;
+        return offset;
+    }
+}
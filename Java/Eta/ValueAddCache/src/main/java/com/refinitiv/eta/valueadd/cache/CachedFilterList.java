@@ -0,0 +1,161 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.Arrays;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FilterEntry;
+import com.refinitiv.eta.codec.FilterEntryActions;
+import com.refinitiv.eta.codec.FilterList;
+
+/* Filter list image. Entries are found by id; a set replaces the entry payload,
+ * an update is merged into it and a clear removes the entry. */
+class CachedFilterList extends CachedEntryContainer
+{
+    private static final int MAX_FILTER_ID = 255;
+
+    private final CachedContainerEntry[] _ids = new CachedContainerEntry[MAX_FILTER_ID + 1];
+
+    private int _entryContainerType = DataTypes.UNKNOWN;
+    private boolean _hasPerEntryPermData;
+
+    @Override
+    int containerType()
+    {
+        return DataTypes.FILTER_LIST;
+    }
+
+    @Override
+    int apply(DecodeIterator dIter, Buffer encodedData, CacheCodecContext context, Object setDb)
+    {
+        FilterList filterList = context._decFilterList;
+        FilterEntry filterEntry = context._decFilterEntry;
+        filterList.clear();
+        int ret = filterList.decode(dIter);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return context.populateError(ret, "CachedFilterList.apply error: unable to decode filter list.");
+
+        _entryContainerType = filterList.containerType();
+        if (filterList.checkHasPerEntryPermData())
+            _hasPerEntryPermData = true;
+
+        filterEntry.clear();
+        while ((ret = filterEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return context.populateError(ret, "CachedFilterList.apply error: unable to decode filter entry.");
+
+            CachedContainerEntry entry = _ids[filterEntry.id()];
+            switch (filterEntry.action())
+            {
+                case FilterEntryActions.CLEAR:
+                    if (entry != null)
+                    {
+                        _ids[filterEntry.id()] = null;
+                        remove(entry);
+                    }
+                    break;
+                case FilterEntryActions.SET:
+                case FilterEntryActions.UPDATE:
+                    if (entry == null)
+                    {
+                        entry = new CachedContainerEntry();
+                        entry._id = filterEntry.id();
+                        _ids[entry._id] = entry;
+                        add(entry);
+                    }
+
+                    if (filterEntry.checkHasPermData())
+                        entry._permData = copyOf(filterEntry.permData());
+                    else if (filterEntry.action() == FilterEntryActions.SET)
+                        entry._permData = null;
+
+                    int entryContainerType = filterEntry.checkHasContainerType() ? filterEntry.containerType() : _entryContainerType;
+                    entry._containerType = entryContainerType;
+                    entry._payload = entryPayload(entry._payload, filterEntry.action() == FilterEntryActions.UPDATE, entryContainerType);
+                    if (entry._payload != null
+                            && (ret = entry._payload.apply(dIter, filterEntry.encodedData(), context, null)) < CodecReturnCodes.SUCCESS)
+                        return ret;
+                    break;
+                default:
+                    return context.populateError(CodecReturnCodes.INVALID_DATA,
+                                                 "CachedFilterList.apply error: unknown filter entry action " + filterEntry.action() + ".");
+            }
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int encodeInit(EncodeIterator eIter, CacheCodecContext context, boolean firstPart)
+    {
+        FilterList filterList = context._encFilterList;
+        filterList.clear();
+        filterList.containerType(_entryContainerType);
+        if (_hasPerEntryPermData)
+            filterList.applyHasPerEntryPermData();
+
+        return filterList.encodeInit(eIter);
+    }
+
+    @Override
+    int encodeEntry(EncodeIterator eIter, CacheCodecContext context, CachedContainerEntry entry)
+    {
+        FilterEntry filterEntry = context._encFilterEntry;
+        filterEntry.clear();
+        filterEntry.action(FilterEntryActions.SET);
+        filterEntry.id(entry._id);
+        if (entry._containerType != _entryContainerType)
+        {
+            filterEntry.applyHasContainerType();
+            filterEntry.containerType(entry._containerType);
+        }
+        if (entry._permData != null)
+        {
+            filterEntry.applyHasPermData();
+            filterEntry.permData(wrap(context._encodedPermData, entry._permData));
+        }
+
+        Buffer encodedData = preEncodedData(entry, context);
+        if (encodedData != null)
+        {
+            filterEntry.encodedData(encodedData);
+            return filterEntry.encode(eIter);
+        }
+
+        int ret = filterEntry.encodeInit(eIter, 0);
+        if (ret >= CodecReturnCodes.SUCCESS && (ret = entry._payload.encode(eIter, context, null)) >= CodecReturnCodes.SUCCESS)
+            return filterEntry.encodeComplete(eIter, true);
+
+        filterEntry.encodeComplete(eIter, false);
+        return ret;
+    }
+
+    @Override
+    int encodeComplete(EncodeIterator eIter, CacheCodecContext context, boolean success)
+    {
+        return context._encFilterList.encodeComplete(eIter, success);
+    }
+
+    @Override
+    void clear()
+    {
+        super.clear();
+        Arrays.fill(_ids, null);
+        _entryContainerType = DataTypes.UNKNOWN;
+        _hasPerEntryPermData = false;
+    }
+}
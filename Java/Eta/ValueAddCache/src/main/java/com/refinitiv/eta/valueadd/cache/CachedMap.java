@@ -0,0 +1,188 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+
+/* Map image. Entries are found by their encoded key; an add replaces the entry payload,
+ * an update is merged into it and a delete removes the entry. */
+class CachedMap extends CachedEntryContainer
+{
+    private final HashMap<ByteBuffer, CachedContainerEntry> _keys = new HashMap<ByteBuffer, CachedContainerEntry>();
+
+    private int _keyPrimitiveType = DataTypes.UNKNOWN;
+    private int _entryContainerType = DataTypes.UNKNOWN;
+    private boolean _hasKeyFieldId;
+    private int _keyFieldId;
+    private boolean _hasPerEntryPermData;
+    private ByteBuffer _summaryData = null;
+
+    @Override
+    int containerType()
+    {
+        return DataTypes.MAP;
+    }
+
+    @Override
+    int apply(DecodeIterator dIter, Buffer encodedData, CacheCodecContext context, Object setDb)
+    {
+        Map map = context._decMap;
+        MapEntry mapEntry = context._decMapEntry;
+        map.clear();
+        int ret = map.decode(dIter);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return context.populateError(ret, "CachedMap.apply error: unable to decode map.");
+
+        if (count() > 0 && (map.keyPrimitiveType() != _keyPrimitiveType || map.containerType() != _entryContainerType))
+            return context.populateError(CodecReturnCodes.INVALID_DATA,
+                                         "CachedMap.apply error: key type or container type does not match the cached map.");
+
+        _keyPrimitiveType = map.keyPrimitiveType();
+        _entryContainerType = map.containerType();
+        if (map.checkHasKeyFieldId())
+        {
+            _hasKeyFieldId = true;
+            _keyFieldId = map.keyFieldId();
+        }
+        if (map.checkHasPerEntryPermData())
+            _hasPerEntryPermData = true;
+        if (map.checkHasSummaryData())
+            _summaryData = copyOf(map.encodedSummaryData());
+
+        Object entrySetDb = null;
+        if (map.checkHasSetDefs() && (entrySetDb = context.decodeSetDefs(dIter, _entryContainerType)) == null)
+            return context.populateError(CodecReturnCodes.INVALID_DATA, "CachedMap.apply error: unable to decode set definitions.");
+
+        mapEntry.clear();
+        while ((ret = mapEntry.decode(dIter, null)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return context.populateError(ret, "CachedMap.apply error: unable to decode map entry.");
+
+            CachedContainerEntry entry = _keys.get(context.keyView(mapEntry.encodedKey()));
+            switch (mapEntry.action())
+            {
+                case MapEntryActions.DELETE:
+                    if (entry != null)
+                    {
+                        _keys.remove(entry._key);
+                        remove(entry);
+                    }
+                    break;
+                case MapEntryActions.ADD:
+                case MapEntryActions.UPDATE:
+                    if (entry == null)
+                    {
+                        entry = new CachedContainerEntry();
+                        entry._key = copyOf(mapEntry.encodedKey());
+                        _keys.put(entry._key, entry);
+                        add(entry);
+                    }
+
+                    if (mapEntry.checkHasPermData())
+                        entry._permData = copyOf(mapEntry.permData());
+                    else if (mapEntry.action() == MapEntryActions.ADD)
+                        entry._permData = null;
+
+                    entry._payload = entryPayload(entry._payload, mapEntry.action() == MapEntryActions.UPDATE, _entryContainerType);
+                    if (entry._payload != null
+                            && (ret = entry._payload.apply(dIter, mapEntry.encodedData(), context, entrySetDb)) < CodecReturnCodes.SUCCESS)
+                        return ret;
+                    break;
+                default:
+                    return context.populateError(CodecReturnCodes.INVALID_DATA,
+                                                 "CachedMap.apply error: unknown map entry action " + mapEntry.action() + ".");
+            }
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int encodeInit(EncodeIterator eIter, CacheCodecContext context, boolean firstPart)
+    {
+        Map map = context._encMap;
+        map.clear();
+        map.keyPrimitiveType(_keyPrimitiveType);
+        map.containerType(_entryContainerType);
+        if (_hasKeyFieldId)
+        {
+            map.applyHasKeyFieldId();
+            map.keyFieldId(_keyFieldId);
+        }
+        if (_hasPerEntryPermData)
+            map.applyHasPerEntryPermData();
+        if (firstPart && _summaryData != null)
+        {
+            map.applyHasSummaryData();
+            map.encodedSummaryData(wrap(context._encodedData, _summaryData));
+        }
+
+        return map.encodeInit(eIter, 0, 0);
+    }
+
+    @Override
+    int encodeEntry(EncodeIterator eIter, CacheCodecContext context, CachedContainerEntry entry)
+    {
+        MapEntry mapEntry = context._encMapEntry;
+        mapEntry.clear();
+        mapEntry.action(MapEntryActions.ADD);
+        mapEntry.encodedKey(wrap(context._encodedKey, entry._key));
+        if (entry._permData != null)
+        {
+            mapEntry.applyHasPermData();
+            mapEntry.permData(wrap(context._encodedPermData, entry._permData));
+        }
+
+        Buffer encodedData = preEncodedData(entry, context);
+        if (encodedData != null)
+        {
+            mapEntry.encodedData(encodedData);
+            return mapEntry.encode(eIter);
+        }
+
+        int ret = mapEntry.encodeInit(eIter, 0);
+        if (ret >= CodecReturnCodes.SUCCESS && (ret = entry._payload.encode(eIter, context, null)) >= CodecReturnCodes.SUCCESS)
+            return mapEntry.encodeComplete(eIter, true);
+
+        mapEntry.encodeComplete(eIter, false);
+        return ret;
+    }
+
+    @Override
+    int encodeComplete(EncodeIterator eIter, CacheCodecContext context, boolean success)
+    {
+        return context._encMap.encodeComplete(eIter, success);
+    }
+
+    @Override
+    void clear()
+    {
+        super.clear();
+        _keys.clear();
+        _keyPrimitiveType = DataTypes.UNKNOWN;
+        _entryContainerType = DataTypes.UNKNOWN;
+        _hasKeyFieldId = false;
+        _keyFieldId = 0;
+        _hasPerEntryPermData = false;
+        _summaryData = null;
+    }
+}
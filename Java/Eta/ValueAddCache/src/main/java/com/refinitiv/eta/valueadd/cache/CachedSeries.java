@@ -0,0 +1,123 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Series;
+import com.refinitiv.eta.codec.SeriesEntry;
+
+/* Series image. Series entries have no action, each applied entry is appended. */
+class CachedSeries extends CachedEntryContainer
+{
+    private int _entryContainerType = DataTypes.UNKNOWN;
+    private ByteBuffer _summaryData = null;
+
+    @Override
+    int containerType()
+    {
+        return DataTypes.SERIES;
+    }
+
+    @Override
+    int apply(DecodeIterator dIter, Buffer encodedData, CacheCodecContext context, Object setDb)
+    {
+        Series series = context._decSeries;
+        SeriesEntry seriesEntry = context._decSeriesEntry;
+        series.clear();
+        int ret = series.decode(dIter);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return context.populateError(ret, "CachedSeries.apply error: unable to decode series.");
+
+        if (count() > 0 && series.containerType() != _entryContainerType)
+            return context.populateError(CodecReturnCodes.INVALID_DATA,
+                                         "CachedSeries.apply error: container type does not match the cached series.");
+
+        _entryContainerType = series.containerType();
+        if (series.checkHasSummaryData())
+            _summaryData = copyOf(series.encodedSummaryData());
+
+        Object entrySetDb = null;
+        if (series.checkHasSetDefs() && (entrySetDb = context.decodeSetDefs(dIter, _entryContainerType)) == null)
+            return context.populateError(CodecReturnCodes.INVALID_DATA, "CachedSeries.apply error: unable to decode set definitions.");
+
+        seriesEntry.clear();
+        while ((ret = seriesEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return context.populateError(ret, "CachedSeries.apply error: unable to decode series entry.");
+
+            CachedContainerEntry entry = new CachedContainerEntry();
+            entry._payload = createEntryPayload(_entryContainerType);
+            add(entry);
+            if (entry._payload != null
+                    && (ret = entry._payload.apply(dIter, seriesEntry.encodedData(), context, entrySetDb)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int encodeInit(EncodeIterator eIter, CacheCodecContext context, boolean firstPart)
+    {
+        Series series = context._encSeries;
+        series.clear();
+        series.containerType(_entryContainerType);
+        if (firstPart && _summaryData != null)
+        {
+            series.applyHasSummaryData();
+            series.encodedSummaryData(wrap(context._encodedData, _summaryData));
+        }
+
+        return series.encodeInit(eIter, 0, 0);
+    }
+
+    @Override
+    int encodeEntry(EncodeIterator eIter, CacheCodecContext context, CachedContainerEntry entry)
+    {
+        SeriesEntry seriesEntry = context._encSeriesEntry;
+        seriesEntry.clear();
+
+        Buffer encodedData = preEncodedData(entry, context);
+        if (encodedData != null)
+        {
+            seriesEntry.encodedData(encodedData);
+            return seriesEntry.encode(eIter);
+        }
+
+        int ret = seriesEntry.encodeInit(eIter, 0);
+        if (ret >= CodecReturnCodes.SUCCESS && (ret = entry._payload.encode(eIter, context, null)) >= CodecReturnCodes.SUCCESS)
+            return seriesEntry.encodeComplete(eIter, true);
+
+        seriesEntry.encodeComplete(eIter, false);
+        return ret;
+    }
+
+    @Override
+    int encodeComplete(EncodeIterator eIter, CacheCodecContext context, boolean success)
+    {
+        return context._encSeries.encodeComplete(eIter, success);
+    }
+
+    @Override
+    void clear()
+    {
+        super.clear();
+        _entryContainerType = DataTypes.UNKNOWN;
+        _summaryData = null;
+    }
+}
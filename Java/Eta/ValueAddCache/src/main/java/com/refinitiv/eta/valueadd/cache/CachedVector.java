@@ -0,0 +1,241 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.Vector;
+import com.refinitiv.eta.codec.VectorEntry;
+import com.refinitiv.eta.codec.VectorEntryActions;
+
+/* Vector image. Entries are kept in index order. When the vector supports sorting,
+ * insert and delete actions move the index of the following entries. */
+class CachedVector extends CachedEntryContainer
+{
+    private int _entryContainerType = DataTypes.UNKNOWN;
+    private boolean _supportsSorting;
+    private boolean _hasPerEntryPermData;
+    private ByteBuffer _summaryData = null;
+
+    @Override
+    int containerType()
+    {
+        return DataTypes.VECTOR;
+    }
+
+    @Override
+    int apply(DecodeIterator dIter, Buffer encodedData, CacheCodecContext context, Object setDb)
+    {
+        Vector vector = context._decVector;
+        VectorEntry vectorEntry = context._decVectorEntry;
+        vector.clear();
+        int ret = vector.decode(dIter);
+        if (ret == CodecReturnCodes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+        else if (ret < CodecReturnCodes.SUCCESS)
+            return context.populateError(ret, "CachedVector.apply error: unable to decode vector.");
+
+        if (count() > 0 && vector.containerType() != _entryContainerType)
+            return context.populateError(CodecReturnCodes.INVALID_DATA,
+                                         "CachedVector.apply error: container type does not match the cached vector.");
+
+        _entryContainerType = vector.containerType();
+        _supportsSorting = vector.checkSupportsSorting();
+        if (vector.checkHasPerEntryPermData())
+            _hasPerEntryPermData = true;
+        if (vector.checkHasSummaryData())
+            _summaryData = copyOf(vector.encodedSummaryData());
+
+        Object entrySetDb = null;
+        if (vector.checkHasSetDefs() && (entrySetDb = context.decodeSetDefs(dIter, _entryContainerType)) == null)
+            return context.populateError(CodecReturnCodes.INVALID_DATA, "CachedVector.apply error: unable to decode set definitions.");
+
+        vectorEntry.clear();
+        while ((ret = vectorEntry.decode(dIter)) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            if (ret < CodecReturnCodes.SUCCESS)
+                return context.populateError(ret, "CachedVector.apply error: unable to decode vector entry.");
+
+            long index = vectorEntry.index();
+            int position = find(index);
+            CachedContainerEntry entry = position < _entries.size() ? _entries.get(position) : null;
+            boolean found = entry != null && entry._index == index;
+
+            switch (vectorEntry.action())
+            {
+                case VectorEntryActions.DELETE:
+                    if (found)
+                    {
+                        remove(entry);
+                        if (_supportsSorting)
+                            shiftIndex(position + 1, -1);
+                    }
+                    continue;
+                case VectorEntryActions.CLEAR:
+                    if (found)
+                    {
+                        entry._cleared = true;
+                        entry._payload = null;
+                    }
+                    continue;
+                case VectorEntryActions.INSERT:
+                    if (_supportsSorting)
+                    {
+                        shiftIndex(position, 1);
+                        found = false;
+                    }
+                    break;
+                case VectorEntryActions.SET:
+                case VectorEntryActions.UPDATE:
+                    break;
+                default:
+                    return context.populateError(CodecReturnCodes.INVALID_DATA,
+                                                 "CachedVector.apply error: unknown vector entry action " + vectorEntry.action() + ".");
+            }
+
+            if (!found)
+            {
+                entry = new CachedContainerEntry();
+                entry._index = index;
+                insert(position, entry);
+            }
+
+            if (vectorEntry.checkHasPermData())
+                entry._permData = copyOf(vectorEntry.permData());
+            else if (vectorEntry.action() != VectorEntryActions.UPDATE)
+                entry._permData = null;
+
+            entry._cleared = false;
+            entry._payload = entryPayload(entry._payload, vectorEntry.action() == VectorEntryActions.UPDATE, _entryContainerType);
+            if (entry._payload != null
+                    && (ret = entry._payload.apply(dIter, vectorEntry.encodedData(), context, entrySetDb)) < CodecReturnCodes.SUCCESS)
+                return ret;
+        }
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    int encodeInit(EncodeIterator eIter, CacheCodecContext context, boolean firstPart)
+    {
+        Vector vector = context._encVector;
+        vector.clear();
+        vector.containerType(_entryContainerType);
+        if (_supportsSorting)
+            vector.applySupportsSorting();
+        if (_hasPerEntryPermData)
+            vector.applyHasPerEntryPermData();
+        if (firstPart && _summaryData != null)
+        {
+            vector.applyHasSummaryData();
+            vector.encodedSummaryData(wrap(context._encodedData, _summaryData));
+        }
+
+        return vector.encodeInit(eIter, 0, 0);
+    }
+
+    @Override
+    int encodeEntry(EncodeIterator eIter, CacheCodecContext context, CachedContainerEntry entry)
+    {
+        VectorEntry vectorEntry = context._encVectorEntry;
+        vectorEntry.clear();
+        vectorEntry.index(entry._index);
+        if (entry._cleared)
+        {
+            vectorEntry.action(VectorEntryActions.CLEAR);
+            return vectorEntry.encode(eIter);
+        }
+
+        vectorEntry.action(VectorEntryActions.SET);
+        if (entry._permData != null)
+        {
+            vectorEntry.applyHasPermData();
+            vectorEntry.permData(wrap(context._encodedPermData, entry._permData));
+        }
+
+        Buffer encodedData = preEncodedData(entry, context);
+        if (encodedData != null)
+        {
+            vectorEntry.encodedData(encodedData);
+            return vectorEntry.encode(eIter);
+        }
+
+        int ret = vectorEntry.encodeInit(eIter, 0);
+        if (ret >= CodecReturnCodes.SUCCESS && (ret = entry._payload.encode(eIter, context, null)) >= CodecReturnCodes.SUCCESS)
+            return vectorEntry.encodeComplete(eIter, true);
+
+        vectorEntry.encodeComplete(eIter, false);
+        return ret;
+    }
+
+    @Override
+    int encodeComplete(EncodeIterator eIter, CacheCodecContext context, boolean success)
+    {
+        return context._encVector.encodeComplete(eIter, success);
+    }
+
+    @Override
+    void clear()
+    {
+        super.clear();
+        _entryContainerType = DataTypes.UNKNOWN;
+        _supportsSorting = false;
+        _hasPerEntryPermData = false;
+        _summaryData = null;
+    }
+
+    // Returns the position of the first entry whose index is not lower than the given index.
+    private int find(long index)
+    {
+        int low = 0;
+        int high = _entries.size();
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (indexAt(mid) < index)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        // skip the holes of removed entries
+        while (low < _entries.size() && _entries.get(low) == null)
+            ++low;
+
+        return low;
+    }
+
+    // Index of the entry at the position, or of the closest entry before it for a removed entry.
+    private long indexAt(int position)
+    {
+        for (int pos = position; pos >= 0; --pos)
+        {
+            CachedContainerEntry entry = _entries.get(pos);
+            if (entry != null)
+                return entry._index;
+        }
+
+        return -1;
+    }
+
+    private void shiftIndex(int fromPosition, int delta)
+    {
+        for (int pos = fromPosition; pos < _entries.size(); ++pos)
+        {
+            CachedContainerEntry entry = _entries.get(pos);
+            if (entry != null)
+                entry._index += delta;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.valueadd.common.VaConcurrentQueue;
+import com.refinitiv.eta.valueadd.common.VaIteratableQueue;
+import com.refinitiv.eta.valueadd.common.VaNode;
+
+/* Payload cache implemented in Java, selected with PayloadCacheTypes.JAVA.
+ * Entries keep the decoded image of their container and encode it on retrieval,
+ * so no native library is needed. Entries of a cache share codec objects and
+ * must be applied and retrieved from one thread at a time. */
+class JavaPayloadCacheImpl extends VaNode implements PayloadCache
+{
+    private static Lock _globalCacheLock = new ReentrantLock();
+    private static VaConcurrentQueue _globalCacheList = new VaConcurrentQueue();
+    // dictionaries set by the caches, by dictionary key
+    private static HashMap<String, DataDictionary> _globalDictionaries = new HashMap<String, DataDictionary>();
+
+    private boolean _isCacheDestroyed = true;
+    private final int _maxItems;
+    private final VaIteratableQueue _cacheEntryList = new VaIteratableQueue();
+    private List<PayloadEntry> _appCacheEntryList = null;
+    private String _dictKey = null;
+    private boolean _dictKeyCleared = false;
+    private final CacheCodecContext _codecContext = new CacheCodecContext();
+
+    JavaPayloadCacheImpl(PayloadCacheConfigOptions configOptions)
+    {
+        _maxItems = configOptions.maxItems();
+
+        _globalCacheLock.lock();
+        _globalCacheList.add(this);
+        _globalCacheLock.unlock();
+
+        _isCacheDestroyed = false;
+    }
+
+    static PayloadCache create(PayloadCacheConfigOptions configOptions, CacheError error)
+    {
+        if (configOptions.maxItems() < 0)
+        {
+            populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                              "JavaPayloadCacheImpl.create error: maxItems cannot be negative.");
+            return null;
+        }
+
+        return new JavaPayloadCacheImpl(configOptions);
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (_isCacheDestroyed)
+            return;
+
+        destroyPayloadEntries();
+
+        _globalCacheLock.lock();
+        _globalCacheList.remove(this);
+        // dictionaries are released with the last cache, as the native cache does
+        if (_globalCacheList.size() == 0)
+            _globalDictionaries.clear();
+        _globalCacheLock.unlock();
+
+        _codecContext._dictionary = null;
+        _isCacheDestroyed = true;
+    }
+
+    @Override
+    public void destroyAll()
+    {
+        if (_isCacheDestroyed)
+            return;
+
+        _globalCacheLock.lock();
+
+        // destroy removes the cache from the list
+        JavaPayloadCacheImpl cache = null;
+        while ((cache = (JavaPayloadCacheImpl)_globalCacheList.peek()) != null)
+        {
+            _globalCacheLock.unlock();
+            cache.destroy();
+            _globalCacheLock.lock();
+        }
+
+        _globalCacheLock.unlock();
+    }
+
+    @Override
+    public int setDictionary(DataDictionary fidDictionary, String dictionaryKey, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("JavaPayloadCacheImpl.setDictionary: error cannot be null, dictionary not bind.");
+
+        if (_isCacheDestroyed)
+            return populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                     "JavaPayloadCacheImpl.setDictionary error: the cache instance has been destroyed.");
+
+        if (dictionaryKey == null || fidDictionary == null)
+            return populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                     "JavaPayloadCacheImpl.setDictionary error: dictionaryKey or fidDictionary cannot be null, dictionary not bind.");
+
+        if (!_dictKeyCleared && _dictKey != null && !_dictKey.equals(dictionaryKey))
+            return populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                     "JavaPayloadCacheImpl.setDictionary error: not allow to reload dictonary with new key.");
+
+        if (fidDictionary.numberOfEntries() == 0)
+            return populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                     "JavaPayloadCacheImpl.setDictionary error: fidDictionary has no field definitions, dictionary not bind.");
+
+        // setting the same key again extends the dictionary shared by the caches using this key
+        _globalCacheLock.lock();
+        _globalDictionaries.put(dictionaryKey, fidDictionary);
+        _globalCacheLock.unlock();
+
+        _codecContext._dictionary = fidDictionary;
+        _dictKey = dictionaryKey;
+        _dictKeyCleared = false;
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int setSharedDictionaryKey(String dictionaryKey, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("JavaPayloadCacheImpl.setSharedDictionaryKey: error cannot be null, dictionary not bind.");
+
+        if (dictionaryKey == null)
+            return populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                     "JavaPayloadCacheImpl.setSharedDictionaryKey error: dictionaryKey cannot be null, dictionary not bind.");
+
+        if (_isCacheDestroyed)
+            return populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                     "JavaPayloadCacheImpl.setSharedDictionaryKey error: the cache instance has been destroyed.");
+
+        if (!_dictKeyCleared && _dictKey != null)
+        {
+            if (!_dictKey.equals(dictionaryKey))
+                return populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                         "JavaPayloadCacheImpl.setSharedDictionaryKey error: not allow to reload dictonary with new key.");
+            else
+                return CodecReturnCodes.SUCCESS;
+        }
+
+        _globalCacheLock.lock();
+        DataDictionary dictionary = _globalDictionaries.get(dictionaryKey);
+        _globalCacheLock.unlock();
+
+        if (dictionary == null)
+            return populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                     "JavaPayloadCacheImpl.setSharedDictionaryKey error: the shared dictionary is not available, dictionary not bind.");
+
+        _codecContext._dictionary = dictionary;
+        _dictKey = dictionaryKey;
+        _dictKeyCleared = false;
+
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int entryCount()
+    {
+        if (_isCacheDestroyed)
+            return 0;
+
+        return _cacheEntryList.size();
+    }
+
+    @Override
+    public List<PayloadEntry> entryList()
+    {
+        if (_isCacheDestroyed)
+            return null;
+
+        int entryNum = _cacheEntryList.size();
+        if (entryNum == 0)
+            return null;
+
+        if (_appCacheEntryList == null)
+            _appCacheEntryList = new ArrayList<PayloadEntry>(entryNum);
+        else
+            _appCacheEntryList.clear();
+
+        _cacheEntryList.rewind();
+        while (_cacheEntryList.hasNext())
+            _appCacheEntryList.add((PayloadEntry)_cacheEntryList.next());
+
+        return _appCacheEntryList;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (_isCacheDestroyed)
+            return;
+
+        destroyPayloadEntries();
+
+        // so no need to set _dictKey to null
+        _dictKeyCleared = true;
+    }
+
+    static int populateErrorInfo(CacheError errorInfo, int returnCode, String text)
+    {
+        if (errorInfo != null)
+        {
+            errorInfo.errorId(returnCode);
+            errorInfo.text(text);
+        }
+
+        return returnCode;
+    }
+
+    CacheCodecContext codecContext()
+    {
+        return _codecContext;
+    }
+
+    boolean isDestroyed()
+    {
+        return _isCacheDestroyed;
+    }
+
+    boolean addCacheEntry(JavaPayloadEntryImpl entry, CacheError error)
+    {
+        if (_isCacheDestroyed)
+        {
+            populateErrorInfo(error, CodecReturnCodes.FAILURE,
+                              "JavaPayloadCacheImpl.createCacheEntry error: use invalid cache instance to create cache entry.");
+            return false;
+        }
+
+        if (_maxItems > 0 && _cacheEntryList.size() >= _maxItems)
+        {
+            populateErrorInfo(error, CodecReturnCodes.FAILURE,
+                              "JavaPayloadCacheImpl.createCacheEntry error: the cache has reached its maxItems limit.");
+            return false;
+        }
+
+        _cacheEntryList.add(entry);
+        return true;
+    }
+
+    void removeCacheEntry(JavaPayloadEntryImpl entry)
+    {
+        if (_isCacheDestroyed)
+            return;
+
+        _cacheEntryList.remove(entry);
+    }
+
+    private void destroyPayloadEntries()
+    {
+        JavaPayloadEntryImpl next = null;
+        while ((next = (JavaPayloadEntryImpl)_cacheEntryList.poll()) != null)
+            next.applyDestroy();
+    }
+}
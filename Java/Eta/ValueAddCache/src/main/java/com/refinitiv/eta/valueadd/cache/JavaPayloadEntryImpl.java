@@ -0,0 +1,331 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.ElementList;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.FilterList;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.Series;
+import com.refinitiv.eta.codec.Vector;
+import com.refinitiv.eta.transport.TransportBuffer;
+import com.refinitiv.eta.valueadd.common.VaNode;
+
+/* Payload entry of the Java payload cache. The entry keeps the image of the message payload
+ * container, and retrieval encodes the image into the buffer of the encode iterator. */
+class JavaPayloadEntryImpl extends VaNode implements PayloadEntry
+{
+    class TraceFormat
+    {
+        static final int TRACE_XML = 1;
+    }
+
+    private boolean _isEntryDestroyed = true;
+    private JavaPayloadCacheImpl _cacheInstance = null;
+    private short _dataType = DataTypes.UNKNOWN;
+    private CachedContainer _payload = null;
+    private int _majorVer = 0;
+    private int _minorVer = 0;
+
+    // Variables for trace function only
+    private static int TRACE_BUF_SIZE = 6144;
+    private FieldList _fieldList = null;
+    private ElementList _elementList = null;
+    private Map _map = null;
+    private Series _series = null;
+    private Vector _vector = null;
+    private FilterList _filterList = null;
+    private DecodeIterator _traceDIter = null;
+    private EncodeIterator _traceEIter = null;
+    private Buffer _traceBuffer = null;
+    private PayloadCursorImpl _traceCursor = null;
+
+    JavaPayloadEntryImpl(JavaPayloadCacheImpl cacheInstance)
+    {
+        _cacheInstance = cacheInstance;
+        _isEntryDestroyed = false;
+    }
+
+    static PayloadEntry create(JavaPayloadCacheImpl cacheInstance, CacheError error)
+    {
+        JavaPayloadEntryImpl entry = new JavaPayloadEntryImpl(cacheInstance);
+        if (!cacheInstance.addCacheEntry(entry, error))
+            return null;
+
+        return entry;
+    }
+
+    @Override
+    public void destroy()
+    {
+        if (_isEntryDestroyed)
+            return;
+
+        _cacheInstance.removeCacheEntry(this);
+        applyDestroy();
+    }
+
+    @Override
+    public void clear()
+    {
+        if (_isEntryDestroyed)
+            return;
+
+        _dataType = DataTypes.UNKNOWN;
+        if (_payload != null)
+            _payload.clear();
+    }
+
+    @Override
+    public short dataType()
+    {
+        if (_isEntryDestroyed)
+            return DataTypes.UNKNOWN;
+
+        return _dataType;
+    }
+
+    @Override
+    public int apply(DecodeIterator dIter, Msg msg, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("JavaPayloadEntryImpl.apply: error cannot be null, data not apply.");
+
+        if (_isEntryDestroyed)
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                                          "JavaPayloadEntryImpl.apply error: the cache instance has been destroyed.");
+
+        if (dIter == null || msg == null)
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                          "JavaPayloadEntryImpl.apply error: dIter or msg cannot be null, data not apply.");
+
+        if (msg.msgClass() == MsgClasses.REFRESH && ((RefreshMsg)msg).checkClearCache())
+            clear();
+
+        int containerType = msg.containerType();
+        if (containerType == DataTypes.NO_DATA)
+            return CodecReturnCodes.SUCCESS;
+
+        if (_dataType != DataTypes.UNKNOWN && _dataType != containerType)
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                                          "JavaPayloadEntryImpl.apply error: container type " + DataTypes.toString(containerType)
+                                                          + " does not match the cached " + DataTypes.toString(_dataType) + ", data not apply.");
+
+        if (_payload == null || _payload.containerType() != containerType)
+        {
+            if ((_payload = CachedContainer.create(containerType)) == null)
+                return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                              "JavaPayloadEntryImpl.apply error: unsupported container type "
+                                                              + DataTypes.toString(containerType) + ", data not apply.");
+        }
+
+        _majorVer = dIter.majorVersion();
+        _minorVer = dIter.minorVersion();
+
+        // the payload is decoded with the iterator of the cache, leaving dIter where the application left it
+        CacheCodecContext context = _cacheInstance.codecContext();
+        context._error = error;
+        context._decodeIter.clear();
+        context._decodeIter.setBufferAndRWFVersion(msg.encodedDataBody(), _majorVer, _minorVer);
+
+        int ret = _payload.apply(context._decodeIter, msg.encodedDataBody(), context, null);
+        context._error = null;
+        if (ret < CodecReturnCodes.SUCCESS)
+            return ret;
+
+        _dataType = (short)containerType;
+        return CodecReturnCodes.SUCCESS;
+    }
+
+    @Override
+    public int retrieve(EncodeIterator eIter, PayloadCursor cursor, CacheError error)
+    {
+        if (error == null)
+            throw new UnsupportedOperationException("JavaPayloadEntryImpl.retrieve: error cannot be null, unable receive data.");
+
+        if (_isEntryDestroyed)
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                                          "JavaPayloadEntryImpl.retrieve error: the cache instance has been destroyed.");
+
+        if (eIter == null)
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                          "JavaPayloadEntryImpl.retrieve error: eIter cannot be null, unable receive data.");
+
+        int fragmentSize = 0;
+        Buffer writeBuffer = null;
+        TransportBuffer writeTransportBuffer = null;
+        if ((writeTransportBuffer = eIter.transportBuffer()) != null)
+            fragmentSize = writeTransportBuffer.data().remaining();
+        else if ((writeBuffer = eIter.buffer()) != null)
+            fragmentSize = writeBuffer.data().remaining();
+        if (fragmentSize == 0)
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_DATA,
+                                                          "JavaPayloadEntryImpl.retrieve error: invalid buffer tied with eIter, unable receive data.");
+
+        PayloadCursorImpl cursorUsed = (PayloadCursorImpl)cursor;
+        if (cursorUsed != null && cursorUsed.isDestroyed())
+            return JavaPayloadCacheImpl.populateErrorInfo(error, CodecReturnCodes.INVALID_ARGUMENT,
+                                                          "JavaPayloadEntryImpl.retrieve error: invalid cursor, unable receive data.");
+
+        return encodePayload(eIter, cursorUsed, error);
+    }
+
+    @Override
+    public int trace(int traceFormat, PrintWriter fileWriter, DataDictionary dictionary)
+    {
+        if (_isEntryDestroyed || fileWriter == null || dictionary == null || _dataType == DataTypes.NO_DATA)
+            return CodecReturnCodes.FAILURE;
+
+        if (_traceCursor == null)
+        {
+            _traceCursor = (PayloadCursorImpl)CacheFactory.createPayloadCursor();
+            _traceDIter = CodecFactory.createDecodeIterator();
+            _traceEIter = CodecFactory.createEncodeIterator();
+            _traceBuffer = CodecFactory.createBuffer();
+        }
+        else
+            _traceCursor.clear();
+
+        if (traceFormat != TraceFormat.TRACE_XML)
+        {
+            System.out.println("JavaPayloadEntryImpl.trace error: unsupported trace format.");
+            return CodecReturnCodes.FAILURE;
+        }
+
+        ByteBuffer traceData = ByteBuffer.allocate(TRACE_BUF_SIZE);
+        int ret = CodecReturnCodes.FAILURE;
+        while (!_traceCursor.isComplete())
+        {
+            traceData.clear();
+            _traceBuffer.data(traceData);
+            _traceEIter.clear();
+            _traceEIter.setBufferAndRWFVersion(_traceBuffer, _majorVer, _minorVer);
+
+            if ((ret = encodePayload(_traceEIter, _traceCursor, null)) < CodecReturnCodes.SUCCESS)
+                return ret;
+
+            _traceBuffer.data(traceData, 0, traceData.position());
+            _traceDIter.clear();
+            _traceDIter.setBufferAndRWFVersion(_traceBuffer, _majorVer, _minorVer);
+
+            switch (_dataType)
+            {
+                case DataTypes.FIELD_LIST:
+                {
+                    if (_fieldList == null)
+                        _fieldList = CodecFactory.createFieldList();
+                    else
+                        _fieldList.clear();
+
+                    fileWriter.printf(_fieldList.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.ELEMENT_LIST:
+                {
+                    if (_elementList == null)
+                        _elementList = CodecFactory.createElementList();
+                    else
+                        _elementList.clear();
+
+                    fileWriter.printf(_elementList.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.MAP:
+                {
+                    if (_map == null)
+                        _map = CodecFactory.createMap();
+                    else
+                        _map.clear();
+
+                    fileWriter.printf(_map.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.VECTOR:
+                {
+                    if (_vector == null)
+                        _vector = CodecFactory.createVector();
+                    else
+                        _vector.clear();
+
+                    fileWriter.printf(_vector.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.SERIES:
+                {
+                    if (_series == null)
+                        _series = CodecFactory.createSeries();
+                    else
+                        _series.clear();
+
+                    fileWriter.printf(_series.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                case DataTypes.FILTER_LIST:
+                {
+                    if (_filterList == null)
+                        _filterList = CodecFactory.createFilterList();
+                    else
+                        _filterList.clear();
+
+                    fileWriter.printf(_filterList.decodeToXml(_traceDIter, dictionary));
+                    break;
+                }
+                default:
+                {
+                    System.out.println("JavaPayloadEntryImpl.trace error: unsupported data type.");
+                    return CodecReturnCodes.FAILURE;
+                }
+            }
+
+            fileWriter.flush();
+        }
+
+        return ret >= 0 ? CodecReturnCodes.SUCCESS : CodecReturnCodes.FAILURE;
+    }
+
+    void applyDestroy()
+    {
+        _isEntryDestroyed = true;
+        _payload = null;
+    }
+
+    private int encodePayload(EncodeIterator eIter, PayloadCursorImpl cursor, CacheError error)
+    {
+        // an entry without data is retrieved as an empty payload
+        if (_payload == null || _dataType == DataTypes.UNKNOWN)
+        {
+            if (cursor != null)
+                cursor.setComplete(true);
+            return CodecReturnCodes.SUCCESS;
+        }
+
+        CacheCodecContext context = _cacheInstance.codecContext();
+        context._error = error;
+        int ret = _payload.encode(eIter, context, cursor);
+        context._error = null;
+
+        if (ret == CodecReturnCodes.BUFFER_TOO_SMALL)
+            JavaPayloadCacheImpl.populateErrorInfo(error, ret,
+                                                   "JavaPayloadEntryImpl.retrieve error: the buffer is too small to encode the cached data.");
+        return ret;
+    }
+}
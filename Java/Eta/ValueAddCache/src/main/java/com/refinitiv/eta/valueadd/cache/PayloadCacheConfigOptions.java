@@ -28,5 +28,22 @@ public interface PayloadCacheConfigOptions
 	 * @param maxItems the max limit to set
 	 */
 	public void maxItems(int maxItems); 
+
+	/**
+	 * Implementation of the cache, one of {@link PayloadCacheTypes}.
+	 * Defaults to {@link PayloadCacheTypes#NATIVE}.
+	 *
+	 * @return the cache implementation type
+	 */
+	public int cacheType();
+
+	/**
+	 * Implementation of the cache, one of {@link PayloadCacheTypes}.
+	 * {@link PayloadCacheTypes#JAVA} creates a cache that does not require
+	 * the rsslVACacheJNI library.
+	 *
+	 * @param cacheType the cache implementation type to set
+	 */
+	public void cacheType(int cacheType);
 }
 
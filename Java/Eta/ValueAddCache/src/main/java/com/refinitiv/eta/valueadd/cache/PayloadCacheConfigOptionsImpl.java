@@ -14,6 +14,7 @@ import com.refinitiv.eta.valueadd.cache.PayloadCacheConfigOptions;
 class PayloadCacheConfigOptionsImpl implements PayloadCacheConfigOptions
 {
     private int _maxItems;
+    private int _cacheType = PayloadCacheTypes.NATIVE;
 
     @Override
     public int maxItems()
@@ -27,9 +28,22 @@ class PayloadCacheConfigOptionsImpl implements PayloadCacheConfigOptions
         _maxItems = maxItems;
     }
 
+    @Override
+    public int cacheType()
+    {
+        return _cacheType;
+    }
+
+    @Override
+    public void cacheType(int cacheType)
+    {
+        _cacheType = cacheType;
+    }
+
     public void clear()
     {
         _maxItems = 0;
+        _cacheType = PayloadCacheTypes.NATIVE;
     }
 
 }
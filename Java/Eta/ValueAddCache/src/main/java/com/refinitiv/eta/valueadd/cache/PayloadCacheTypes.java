@@ -0,0 +1,34 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+/**
+ * Implementations of the payload cache that can be selected with
+ * {@link PayloadCacheConfigOptions#cacheType(int)}.
+ *
+ * @see CacheFactory
+ */
+public class PayloadCacheTypes
+{
+	// PayloadCacheTypes class cannot be instantiated
+	private PayloadCacheTypes()
+	{
+		throw new AssertionError();
+	}
+
+	/**
+	 * The cache is implemented by the native ETA C cache through the rsslVACacheJNI library.
+	 */
+	public static final int NATIVE = 0;
+
+	/**
+	 * The cache is implemented in Java and does not load any native library.
+	 */
+	public static final int JAVA = 1;
+}
@@ -20,6 +20,8 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
     private boolean _isCursorDestroyed = true;
     boolean _isComplete = false;
     long _etaCursorRef = 0;
+    // index of the next container entry to retrieve from a Java payload entry
+    int _position = 0;
 
     private static VaIteratableQueue _activeCacheCursorPool = new VaIteratableQueue();
     private static VaIteratableQueue _freeCacheCursorPool = new VaIteratableQueue();
@@ -27,10 +29,7 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
 
     public PayloadCursorImpl()
     {
-        _etaCursorRef = etaCreateCursor();
-        if (_etaCursorRef == 0)
-            throw new UnsupportedOperationException("PayloadCursorImpl constructor: cannot create eta cursor, PayloadCursor not created.");
-
+        // the eta cursor is only created once the cursor is used with the native cache
         _isCursorDestroyed = false;
     }
 
@@ -77,7 +76,9 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
             return;
 
         _isComplete = false;
-        etaClearCursor(_etaCursorRef);
+        _position = 0;
+        if (_etaCursorRef != 0)
+            etaClearCursor(_etaCursorRef);
     }
 
     @Override
@@ -96,6 +97,13 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
 
     public long getETACursorRef()
     {
+        if (_etaCursorRef == 0)
+        {
+            _etaCursorRef = etaCreateCursor();
+            if (_etaCursorRef == 0)
+                throw new UnsupportedOperationException("PayloadCursorImpl.getETACursorRef: cannot create eta cursor.");
+        }
+
         return _etaCursorRef;
     }
 
@@ -110,14 +118,23 @@ class PayloadCursorImpl extends VaNode implements PayloadCursor
         _globalCursorLock.lock();
 
         while ((cursor = (PayloadCursorImpl)_freeCacheCursorPool.poll()) != null)
-            cursor.etaDestroyCursor(cursor._etaCursorRef);
+            cursor.destroyETACursor();
 
         while ((cursor = (PayloadCursorImpl)_activeCacheCursorPool.poll()) != null)
-            cursor.etaDestroyCursor(cursor._etaCursorRef);
+            cursor.destroyETACursor();
 
         _globalCursorLock.unlock();
     }
 
+    private void destroyETACursor()
+    {
+        if (_etaCursorRef != 0)
+        {
+            etaDestroyCursor(_etaCursorRef);
+            _etaCursorRef = 0;
+        }
+    }
+
     /* **** native methods ************************************************************/
 
     public native long etaCreateCursor();
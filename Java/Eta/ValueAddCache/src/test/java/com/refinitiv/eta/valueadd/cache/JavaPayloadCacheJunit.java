@@ -0,0 +1,318 @@
+/*|-----------------------------------------------------------------------------
+ *|            This source code is provided under the Apache 2.0 license
+ *|  and is provided AS IS with no warranty or guarantee of fit for purpose.
+ *|                See the project's LICENSE.md for details.
+ *|           Copyright (C) 2026 LSEG. All rights reserved.
+ *|-----------------------------------------------------------------------------
+ */
+
+package com.refinitiv.eta.valueadd.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.refinitiv.eta.codec.Buffer;
+import com.refinitiv.eta.codec.Codec;
+import com.refinitiv.eta.codec.CodecFactory;
+import com.refinitiv.eta.codec.CodecReturnCodes;
+import com.refinitiv.eta.codec.DataDictionary;
+import com.refinitiv.eta.codec.DataStates;
+import com.refinitiv.eta.codec.DataTypes;
+import com.refinitiv.eta.codec.DecodeIterator;
+import com.refinitiv.eta.codec.EncodeIterator;
+import com.refinitiv.eta.codec.FieldEntry;
+import com.refinitiv.eta.codec.FieldList;
+import com.refinitiv.eta.codec.Map;
+import com.refinitiv.eta.codec.MapEntry;
+import com.refinitiv.eta.codec.MapEntryActions;
+import com.refinitiv.eta.codec.Msg;
+import com.refinitiv.eta.codec.MsgClasses;
+import com.refinitiv.eta.codec.Real;
+import com.refinitiv.eta.codec.RealHints;
+import com.refinitiv.eta.codec.RefreshMsg;
+import com.refinitiv.eta.codec.StreamStates;
+import com.refinitiv.eta.codec.UInt;
+import com.refinitiv.eta.rdm.DomainTypes;
+import com.refinitiv.eta.transport.TransportFactory;
+
+public class JavaPayloadCacheJunit
+{
+    private static final int BID = 22;
+    private static final int ASK = 25;
+    private static final int ACVOL_1 = 32;
+
+    private final DataDictionary _dictionary = CodecFactory.createDataDictionary();
+    private final CacheError _error = CacheFactory.createCacheError();
+    private PayloadCache _cache;
+
+    @Before
+    public void setUp()
+    {
+        com.refinitiv.eta.transport.Error error = TransportFactory.createError();
+        assertEquals(CodecReturnCodes.SUCCESS, _dictionary.loadFieldDictionary("../../etc/RDMFieldDictionary", error));
+
+        PayloadCacheConfigOptions options = CacheFactory.createPayloadCacheConfig();
+        options.cacheType(PayloadCacheTypes.JAVA);
+        options.maxItems(2);
+        _cache = CacheFactory.createPayloadCache(options, _error);
+        assertNotNull(_cache);
+        assertEquals(CodecReturnCodes.SUCCESS, _cache.setDictionary(_dictionary, "javaCacheTest", _error));
+    }
+
+    @After
+    public void tearDown()
+    {
+        _cache.destroyAll();
+    }
+
+    @Test
+    public void fieldListUpdateMergeTest()
+    {
+        PayloadEntry entry = CacheFactory.createPayloadEntry(_cache, _error);
+        assertNotNull(entry);
+        assertEquals(DataTypes.UNKNOWN, entry.dataType());
+
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, MsgClasses.REFRESH, DataTypes.FIELD_LIST, fieldList(1000, 1010, 5)));
+        assertEquals(DataTypes.FIELD_LIST, entry.dataType());
+
+        // BID is overwritten in place, ACVOL_1 is added
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, MsgClasses.UPDATE, DataTypes.FIELD_LIST, fieldList(1001, -1, 123456789)));
+
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        Real real = CodecFactory.createReal();
+        UInt uint = CodecFactory.createUInt();
+        DecodeIterator dIter = retrieve(entry, 1024);
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(dIter, null));
+
+        int count = 0;
+        while (fieldEntry.decode(dIter) != CodecReturnCodes.END_OF_CONTAINER)
+        {
+            ++count;
+            switch (fieldEntry.fieldId())
+            {
+                case BID:
+                    assertEquals(CodecReturnCodes.SUCCESS, real.decode(dIter));
+                    assertEquals(1001, real.toLong());
+                    break;
+                case ASK:
+                    assertEquals(CodecReturnCodes.SUCCESS, real.decode(dIter));
+                    assertEquals(1010, real.toLong());
+                    break;
+                case ACVOL_1:
+                    assertEquals(CodecReturnCodes.SUCCESS, uint.decode(dIter));
+                    assertEquals(123456789, uint.toLong());
+                    break;
+                default:
+                    assertTrue("unexpected field " + fieldEntry.fieldId(), false);
+            }
+        }
+        assertEquals(3, count);
+
+        StringWriter trace = new StringWriter();
+        assertEquals(CodecReturnCodes.SUCCESS, entry.trace(PayloadEntry.PayloadEntryTraceFormat.PAYLOAD_ENTRY_TRACE_OPTION_XML,
+                                                           new PrintWriter(trace), _dictionary));
+        assertTrue(trace.toString().contains("fieldId=\"32\""));
+
+        // a refresh clearing the cache replaces the fields
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, MsgClasses.REFRESH, DataTypes.FIELD_LIST, fieldList(999, -1, -1)));
+        dIter = retrieve(entry, 1024);
+        fieldList.clear();
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.decode(dIter, null));
+        count = 0;
+        while (fieldEntry.decode(dIter) != CodecReturnCodes.END_OF_CONTAINER)
+            ++count;
+        assertEquals(1, count);
+    }
+
+    @Test
+    public void mapMultiPartRetrieveTest()
+    {
+        PayloadEntry entry = CacheFactory.createPayloadEntry(_cache, _error);
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, MsgClasses.REFRESH, DataTypes.MAP, map(0, 20, MapEntryActions.ADD)));
+        assertEquals(CodecReturnCodes.SUCCESS, apply(entry, MsgClasses.UPDATE, DataTypes.MAP, map(5, 10, MapEntryActions.DELETE)));
+
+        // the small buffer splits the 15 remaining entries into several parts
+        PayloadCursor cursor = CacheFactory.createPayloadCursor();
+        cursor.clear();
+        int parts = 0;
+        int entries = 0;
+        Map map = CodecFactory.createMap();
+        MapEntry mapEntry = CodecFactory.createMapEntry();
+        UInt key = CodecFactory.createUInt();
+        while (!cursor.isComplete())
+        {
+            ByteBuffer data = ByteBuffer.allocate(100);
+            Buffer buffer = CodecFactory.createBuffer();
+            buffer.data(data);
+            EncodeIterator eIter = CodecFactory.createEncodeIterator();
+            eIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+            assertEquals(CodecReturnCodes.SUCCESS, entry.retrieve(eIter, cursor, _error));
+            ++parts;
+
+            buffer.data(data, 0, data.position());
+            DecodeIterator dIter = CodecFactory.createDecodeIterator();
+            dIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+            map.clear();
+            assertEquals(CodecReturnCodes.SUCCESS, map.decode(dIter));
+            while (mapEntry.decode(dIter, key) != CodecReturnCodes.END_OF_CONTAINER)
+            {
+                assertEquals(MapEntryActions.ADD, mapEntry.action());
+                assertFalse(key.toLong() >= 5 && key.toLong() < 10);
+                ++entries;
+            }
+        }
+
+        assertTrue(parts > 1);
+        assertEquals(15, entries);
+        cursor.destroy();
+    }
+
+    @Test
+    public void maxItemsTest()
+    {
+        assertNotNull(CacheFactory.createPayloadEntry(_cache, _error));
+        PayloadEntry entry = CacheFactory.createPayloadEntry(_cache, _error);
+        assertNotNull(entry);
+        assertNull(CacheFactory.createPayloadEntry(_cache, _error));
+        assertEquals(CodecReturnCodes.FAILURE, _error.errorId());
+
+        entry.destroy();
+        assertEquals(1, _cache.entryCount());
+        assertNotNull(CacheFactory.createPayloadEntry(_cache, _error));
+    }
+
+    private int apply(PayloadEntry entry, int msgClass, int containerType, Buffer payload)
+    {
+        Msg msg = CodecFactory.createMsg();
+        msg.msgClass(msgClass);
+        msg.domainType(DomainTypes.MARKET_PRICE);
+        msg.streamId(5);
+        msg.containerType(containerType);
+        if (msgClass == MsgClasses.REFRESH)
+        {
+            RefreshMsg refreshMsg = (RefreshMsg)msg;
+            refreshMsg.applyClearCache();
+            refreshMsg.state().streamState(StreamStates.OPEN);
+            refreshMsg.state().dataState(DataStates.OK);
+        }
+        msg.encodedDataBody(payload);
+
+        Buffer encoded = CodecFactory.createBuffer();
+        ByteBuffer data = ByteBuffer.allocate(2048);
+        encoded.data(data);
+        EncodeIterator eIter = CodecFactory.createEncodeIterator();
+        eIter.setBufferAndRWFVersion(encoded, Codec.majorVersion(), Codec.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, msg.encode(eIter));
+        encoded.data(data, 0, data.position());
+
+        Msg decodedMsg = CodecFactory.createMsg();
+        DecodeIterator dIter = CodecFactory.createDecodeIterator();
+        dIter.setBufferAndRWFVersion(encoded, Codec.majorVersion(), Codec.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, decodedMsg.decode(dIter));
+        return entry.apply(dIter, decodedMsg, _error);
+    }
+
+    // Encodes BID, ASK and ACVOL_1, leaving out the fields with a negative value.
+    private Buffer fieldList(long bid, long ask, long volume)
+    {
+        ByteBuffer data = ByteBuffer.allocate(256);
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(data);
+        EncodeIterator eIter = CodecFactory.createEncodeIterator();
+        eIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        FieldList fieldList = CodecFactory.createFieldList();
+        FieldEntry fieldEntry = CodecFactory.createFieldEntry();
+        fieldList.applyHasStandardData();
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeInit(eIter, null, 0));
+
+        Real real = CodecFactory.createReal();
+        if (bid >= 0)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(BID);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(bid, RealHints.EXPONENT0);
+            assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(eIter, real));
+        }
+        if (ask >= 0)
+        {
+            fieldEntry.clear();
+            fieldEntry.fieldId(ASK);
+            fieldEntry.dataType(DataTypes.REAL);
+            real.value(ask, RealHints.EXPONENT0);
+            assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(eIter, real));
+        }
+        if (volume >= 0)
+        {
+            UInt uint = CodecFactory.createUInt();
+            uint.value(volume);
+            fieldEntry.clear();
+            fieldEntry.fieldId(ACVOL_1);
+            fieldEntry.dataType(DataTypes.UINT);
+            assertEquals(CodecReturnCodes.SUCCESS, fieldEntry.encode(eIter, uint));
+        }
+
+        assertEquals(CodecReturnCodes.SUCCESS, fieldList.encodeComplete(eIter, true));
+        buffer.data(data, 0, data.position());
+        return buffer;
+    }
+
+    // Encodes a map of field lists keyed by UInt, with one entry per key in [from, to).
+    private Buffer map(int from, int to, int action)
+    {
+        ByteBuffer data = ByteBuffer.allocate(1024);
+        Buffer buffer = CodecFactory.createBuffer();
+        buffer.data(data);
+        EncodeIterator eIter = CodecFactory.createEncodeIterator();
+        eIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+
+        Map map = CodecFactory.createMap();
+        MapEntry mapEntry = CodecFactory.createMapEntry();
+        map.keyPrimitiveType(DataTypes.UINT);
+        map.containerType(DataTypes.FIELD_LIST);
+        assertEquals(CodecReturnCodes.SUCCESS, map.encodeInit(eIter, 0, 0));
+
+        UInt key = CodecFactory.createUInt();
+        for (int pos = from; pos < to; ++pos)
+        {
+            key.value(pos);
+            mapEntry.clear();
+            mapEntry.action(action);
+            if (action != MapEntryActions.DELETE)
+                mapEntry.encodedData(fieldList(pos, pos + 1, -1));
+            assertEquals(CodecReturnCodes.SUCCESS, mapEntry.encode(eIter, key));
+        }
+
+        assertEquals(CodecReturnCodes.SUCCESS, map.encodeComplete(eIter, true));
+        buffer.data(data, 0, data.position());
+        return buffer;
+    }
+
+    private DecodeIterator retrieve(PayloadEntry entry, int size)
+    {
+        Buffer buffer = CodecFactory.createBuffer();
+        ByteBuffer data = ByteBuffer.allocate(size);
+        buffer.data(data);
+        EncodeIterator eIter = CodecFactory.createEncodeIterator();
+        eIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        assertEquals(CodecReturnCodes.SUCCESS, entry.retrieve(eIter, null, _error));
+
+        buffer.data(data, 0, data.position());
+        DecodeIterator dIter = CodecFactory.createDecodeIterator();
+        dIter.setBufferAndRWFVersion(buffer, Codec.majorVersion(), Codec.minorVersion());
+        return dIter;
+    }
+}